@@ -43,6 +43,7 @@ public class CommandOptions {
   public static final String TIME = "time";
   public static final String LIMIT = "limit";
   public static final String OFFSET = "offset";
+  public static final String THREADS = "threads";
   public static final String WHERE = "where";
 
 }
@@ -119,6 +119,7 @@ public class JTSOpCmd {
     .addOptionSpec(new OptionSpec(CommandOptions.FORMAT, 1))
     .addOptionSpec(new OptionSpec(CommandOptions.LIMIT, 1))
     .addOptionSpec(new OptionSpec(CommandOptions.OFFSET, 1))
+    .addOptionSpec(new OptionSpec(CommandOptions.THREADS, 1))
     .addOptionSpec(new OptionSpec(CommandOptions.REPEAT, 1))
     .addOptionSpec(new OptionSpec(CommandOptions.SRID, 1))
     .addOptionSpec(new OptionSpec(CommandOptions.WHERE, 2))
@@ -135,6 +136,7 @@ public class JTSOpCmd {
   "           [ -ab <wkt> | <wkb> | stdin | <filename.ext> ]",
   "           [ -limit N ]",
   "           [ -offset N ]",
+  "           [ -threads N ]",
   "           [ -collect ]",
   "           [ -eacha ]",
   "           [ -eachb ]",
@@ -160,6 +162,7 @@ public class JTSOpCmd {
   "  -b              Geometry A: literal, stdin (WKT or WKB), or filename (extension: WKT, WKB, GeoJSON, GML, SHP)",
   "  -limit          Limits the number of geometries read from A, or B if specified",
   "  -offset         Uses an offset to read geometries  from A, or B if specified",
+  "  -threads        Parses WKT and WKB file input in parallel using N threads",
   "===== Operation options:",
   "  -collect        execute op on collection of A geometries",
   "  -eacha          execute op on each element of A",
@@ -331,6 +334,10 @@ public class JTSOpCmd {
         ? commandLine.getOptionArgAsInt(CommandOptions.OFFSET, 0)
             : 0; 
         
+    cmdArgs.numThreads = commandLine.hasOption(CommandOptions.THREADS)
+        ? commandLine.getOptionArgAsInt(CommandOptions.THREADS, 0)
+            : OpParams.THREADS_DEFAULT;
+        
     cmdArgs.format = commandLine.getOptionArg(CommandOptions.FORMAT, 0);
     
     cmdArgs.srid = commandLine.hasOption(CommandOptions.SRID)
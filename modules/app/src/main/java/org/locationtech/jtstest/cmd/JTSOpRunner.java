@@ -82,6 +82,7 @@ public class JTSOpRunner {
   static class OpParams {
     static final int OFFSET_DEFAULT = 0;
     static final int LIMIT_DEFAULT = -1;
+    static final int THREADS_DEFAULT = 1;
     
     public String fileA;
     String geomA;
@@ -93,6 +94,8 @@ public class JTSOpRunner {
     public int limitB = LIMIT_DEFAULT;
     public int offsetB = OFFSET_DEFAULT;
     
+    public int numThreads = THREADS_DEFAULT;
+    
     public boolean isGeomAB = false;
     public boolean isCollect = false;
     String format = null;
@@ -435,7 +438,7 @@ public class JTSOpRunner {
     }
     
     try {
-      return MultiFormatFileReader.read(filename, limit, offset, geomFactory );
+      return MultiFormatFileReader.read(filename, limit, offset, param.numThreads, geomFactory );
     }
     catch (FileNotFoundException ex) {
       throw new CommandError(ERR_FILE_NOT_FOUND, filename);
@@ -12,7 +12,7 @@
 
 package org.locationtech.jtstest.util.io;
 
-import java.io.FileInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.ArrayList;
@@ -27,7 +27,7 @@ import org.locationtech.jts.io.WKBReader;
 import org.locationtech.jts.io.WKTFileReader;
 import org.locationtech.jts.io.WKTReader;
 import org.locationtech.jts.io.gml2.GMLReader;
-import org.locationtech.jtstest.testbuilder.io.shapefile.Shapefile;
+import org.locationtech.jts.io.shapefile.ShapefileReader;
 import org.locationtech.jtstest.util.FileUtil;
 import org.xml.sax.SAXException;
 
@@ -52,17 +52,14 @@ public class IOUtil
   private static Geometry readShapefile(String filename, GeometryFactory geomFact)
   throws Exception 
   {
-    Shapefile shpfile = new Shapefile(new FileInputStream(filename));
-    shpfile.readStream(geomFact);
-    List geomList = new ArrayList();
-    do {
-      Geometry geom = shpfile.next();
-      if (geom == null)
-        break;
-      geomList.add(geom);
-    } while (true);
-    
-    return geomFact.createGeometryCollection(GeometryFactory.toGeometryArray(geomList));
+    ShapefileReader shpfile = ShapefileReader.open(new File(filename), geomFact);
+    try {
+      List<Geometry> geomList = shpfile.readAll();
+      return geomFact.createGeometryCollection(GeometryFactory.toGeometryArray(geomList));
+    }
+    finally {
+      shpfile.close();
+    }
   }
   
   private static Geometry readGMLFile(String filename, GeometryFactory geomFact)
@@ -11,19 +11,23 @@
  */
 package org.locationtech.jtstest.util.io;
 
-import java.io.FileInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ParallelFileReader;
+import org.locationtech.jts.io.ParallelWKBHexFileReader;
+import org.locationtech.jts.io.ParallelWKTFileReader;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKBHexFileReader;
 import org.locationtech.jts.io.WKBReader;
 import org.locationtech.jts.io.WKTFileReader;
 import org.locationtech.jts.io.WKTReader;
-import org.locationtech.jtstest.testbuilder.io.shapefile.Shapefile;
+import org.locationtech.jts.io.shapefile.ShapefileReader;
 import org.locationtech.jtstest.util.FileUtil;
 
 
@@ -44,15 +48,21 @@ public class MultiFormatFileReader
   }
   
   public static List<Geometry> read(String filename, int limit, int offset, GeometryFactory geomFactory) throws Exception {
+    return read(filename, limit, offset, 1, geomFactory);
+  }
+  
+  public static List<Geometry> read(String filename, int limit, int offset, int numThreads, GeometryFactory geomFactory) throws Exception {
     MultiFormatFileReader rdr = new MultiFormatFileReader(geomFactory);
     rdr.setLimit(limit);
     rdr.setOffset(offset);
+    rdr.setNumThreads(numThreads);
     return rdr.readList(filename);
   }
   
   private GeometryFactory geomFact;
   private int limit = -1;
   private int offset = 0;
+  private int numThreads = 1;
 
   public MultiFormatFileReader()
   {
@@ -84,6 +94,17 @@ public class MultiFormatFileReader
     this.offset = offset;
   }
   
+  /**
+   * Sets the number of threads used to parse WKT and WKBHex files.
+   * If more than one, the file is parsed in parallel chunks.
+   * 
+   * @param numThreads the number of threads to parse with
+   */
+  public void setNumThreads(int numThreads)
+  {
+    this.numThreads = numThreads;
+  }
+  
   public Geometry read(String filename)
       throws Exception
   {
@@ -129,6 +150,8 @@ public class MultiFormatFileReader
   private List<Geometry> readWKBHexFile(String filename)
   throws ParseException, IOException 
   {
+    if (numThreads > 1)
+      return readParallel(filename, true);
     WKBReader reader = new WKBReader(geomFact);
     WKBHexFileReader fileReader = new WKBHexFileReader(filename, reader);
     if (limit >= 0) fileReader.setLimit(limit);
@@ -139,6 +162,8 @@ public class MultiFormatFileReader
   private List<Geometry> readWKTFile(String filename)
   throws ParseException, IOException 
   {
+    if (numThreads > 1)
+      return readParallel(filename, false);
     WKTReader reader = new WKTReader(geomFact);
     WKTFileReader fileReader = new WKTFileReader(filename, reader);
     if (limit >= 0) fileReader.setLimit(limit);
@@ -146,24 +171,41 @@ public class MultiFormatFileReader
     return fileReader.read();
   }
   
+  private List<Geometry> readParallel(String filename, boolean isWKBHex)
+  throws ParseException, IOException 
+  {
+    ForkJoinPool pool = new ForkJoinPool(numThreads);
+    File file = new File(filename);
+    ParallelFileReader fileReader = isWKBHex
+        ? new ParallelWKBHexFileReader(file, geomFact, pool)
+        : new ParallelWKTFileReader(file, geomFact, pool);
+    if (limit >= 0) fileReader.setLimit(limit);
+    if (offset > 0) fileReader.setOffset(offset);
+    try {
+      return fileReader.readAll();
+    }
+    finally {
+      fileReader.close();
+      pool.shutdown();
+    }
+  }
+  
   private List<Geometry> readShapefile(String filename)
   throws Exception 
   {
-    Shapefile shpfile = new Shapefile(new FileInputStream(filename));
-    shpfile.readStream(geomFact);
-    int count = 0;
-    List<Geometry> geomList = new ArrayList<Geometry>();
-    do {
-      Geometry geom = shpfile.next();
-      boolean isOverLimit = limit >= 0 && geomList.size() > limit;
-      if (geom == null || isOverLimit)
-        break;
-      if (count >= offset) {
-        geomList.add(geom);
+    ShapefileReader shpfile = ShapefileReader.open(new File(filename), geomFact);
+    try {
+      int numRecords = shpfile.getNumRecords();
+      int end = limit >= 0 ? (int) Math.min(numRecords, (long) offset + limit) : numRecords;
+      List<Geometry> geomList = new ArrayList<Geometry>();
+      for (int i = Math.max(offset, 0); i < end; i++) {
+        geomList.add(shpfile.read(i));
       }
-      count++;
-    } while (true);
-    return geomList;
+      return geomList;
+    }
+    finally {
+      shpfile.close();
+    }
   }
   
   private Geometry toGeometry(List<Geometry> geomList) {
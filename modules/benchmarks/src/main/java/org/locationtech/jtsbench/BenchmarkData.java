@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.util.GeometricShapeFactory;
+
+/**
+ * Generates synthetic, reproducible datasets for the benchmarks.
+ * All random generators use a fixed seed,
+ * so that results are comparable between runs and JTS versions.
+ * 
+ */
+public class BenchmarkData {
+  
+  /**
+   * The seed used for all random data.
+   */
+  public static final long SEED = 1234567;
+
+  private static final int N_ARMS = 6;
+  private static final double ARM_RATIO = 0.3;
+  
+  private static GeometryFactory factory = new GeometryFactory();
+  
+  public static GeometryFactory getFactory() {
+    return factory;
+  }
+  
+  /**
+   * Creates a sine-star polygon.
+   * This has a large number of vertices and
+   * a non-convex shape, which exercises most polygonal algorithms well.
+   * 
+   * @param x the centre X ordinate
+   * @param y the centre Y ordinate
+   * @param size the width of the star
+   * @param nPts the number of vertices
+   * @return a polygon
+   */
+  public static Polygon sineStar(double x, double y, double size, int nPts) {
+    return (Polygon) SineStarFactory.create(new Coordinate(x, y), size, nPts, N_ARMS, ARM_RATIO);
+  }
+  
+  /**
+   * Creates a square grid of sine-star polygons
+   * which exactly tile the extent of a square.
+   * 
+   * @param extent the extent to cover
+   * @param gridSize the number of cells on each side of the grid
+   * @param nPts the number of vertices in each polygon
+   * @return a list of polygons
+   */
+  public static List<Geometry> sineStarGrid(Envelope extent, int gridSize, int nPts) {
+    double cellSize = extent.getWidth() / gridSize;
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < gridSize; i++) {
+      for (int j = 0; j < gridSize; j++) {
+        double x = extent.getMinX() + cellSize / 2 + i * cellSize;
+        double y = extent.getMinY() + cellSize / 2 + j * cellSize;
+        geoms.add(sineStar(x, y, cellSize, nPts));
+      }
+    }
+    return geoms;
+  }
+  
+  /**
+   * Creates a grid of circles which overlap their neighbours.
+   * This approximates real-world union cases well. 
+   * 
+   * @param nItems the number of circles (rounded down to a square number)
+   * @param size the diameter of the circles
+   * @param nPts the number of vertices in each circle
+   * @return a list of polygons
+   */
+  public static List<Geometry> overlappingCircles(int nItems, double size, int nPts) {
+    double overlapPct = 0.2;
+    int nCells = (int) Math.sqrt(nItems);
+    double inc = (1 - overlapPct) * size;
+    
+    GeometricShapeFactory gsf = new GeometricShapeFactory(factory);
+    gsf.setSize(size);
+    gsf.setNumPoints(nPts);
+    
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < nCells; i++) {
+      for (int j = 0; j < nCells; j++) {
+        gsf.setCentre(new Coordinate(i * inc, j * inc));
+        geoms.add(gsf.createCircle());
+      }
+    }
+    return geoms;
+  }
+  
+  /**
+   * Creates a random-walk linestring which drifts along the X axis,
+   * so that it self-intersects only locally.
+   * 
+   * @param nPts the number of vertices
+   * @param stepSize the maximum length of each step
+   * @return a linestring
+   */
+  public static LineString randomWalk(int nPts, double stepSize) {
+    Random rnd = new Random(SEED);
+    Coordinate[] pts = new Coordinate[nPts];
+    double x = 0;
+    double y = 0;
+    for (int i = 0; i < nPts; i++) {
+      pts[i] = new Coordinate(x, y);
+      x += stepSize * rnd.nextDouble();
+      y += stepSize * (2 * rnd.nextDouble() - 1);
+    }
+    return factory.createLineString(pts);
+  }
+  
+  /**
+   * Creates random points uniformly distributed in an extent.
+   * 
+   * @param nPts the number of points
+   * @param extent the extent to fill
+   * @return an array of points
+   */
+  public static Point[] randomPoints(int nPts, Envelope extent) {
+    Random rnd = new Random(SEED);
+    Point[] pts = new Point[nPts];
+    for (int i = 0; i < nPts; i++) {
+      double x = extent.getMinX() + extent.getWidth() * rnd.nextDouble();
+      double y = extent.getMinY() + extent.getHeight() * rnd.nextDouble();
+      pts[i] = factory.createPoint(new Coordinate(x, y));
+    }
+    return pts;
+  }
+  
+  /**
+   * Creates a square grid of equal-sized envelopes.
+   * 
+   * @param side the number of envelopes on each side of the grid
+   * @param envSize the width of each envelope
+   * @return a list of envelopes
+   */
+  public static List<Envelope> envelopeGrid(int side, double envSize) {
+    List<Envelope> envs = new ArrayList<Envelope>();
+    for (int i = 0; i < side; i++) {
+      for (int j = 0; j < side; j++) {
+        envs.add(new Envelope(i, i + envSize, j, j + envSize));
+      }
+    }
+    return envs;
+  }
+}
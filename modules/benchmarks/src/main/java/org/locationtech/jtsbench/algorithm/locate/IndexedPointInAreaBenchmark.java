@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.algorithm.locate;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures locating many random points in a polygon
+ * with {@link IndexedPointInAreaLocator}, 
+ * one at a time and with the batch API.
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndexedPointInAreaBenchmark {
+  
+  private static final double SIZE = 100;
+  
+  /**
+   * Number of vertices in the polygon.
+   */
+  @Param({ "1000", "100000" })
+  public int size;
+
+  /**
+   * Number of points to locate.
+   */
+  @Param({ "1000000" })
+  public int numPoints;
+  
+  private IndexedPointInAreaLocator locator;
+  private double[] xs;
+  private double[] ys;
+  private int[] locations;
+  
+  @Setup
+  public void setup() {
+    Geometry poly = BenchmarkData.sineStar(SIZE / 2, SIZE / 2, SIZE, size);
+    locator = new IndexedPointInAreaLocator(poly);
+    
+    Envelope env = poly.getEnvelopeInternal();
+    Random rnd = new Random(BenchmarkData.SEED);
+    xs = new double[numPoints];
+    ys = new double[numPoints];
+    for (int i = 0; i < numPoints; i++) {
+      xs[i] = env.getMinX() + env.getWidth() * rnd.nextDouble();
+      ys[i] = env.getMinY() + env.getHeight() * rnd.nextDouble();
+    }
+    locations = new int[numPoints];
+    // build index
+    locator.locate(new Coordinate(0, 0));
+  }
+
+  @Benchmark
+  public int[] single() {
+    for (int i = 0; i < numPoints; i++) {
+      locations[i] = locator.locate(new Coordinate(xs[i], ys[i]));
+    }
+    return locations;
+  }
+  
+  @Benchmark
+  public int[] batch() {
+    locator.locate(xs, ys, locations);
+    return locations;
+  }
+  
+  @Benchmark
+  public int[] batchSorted() {
+    locator.locate(xs, ys, locations, true, null);
+    return locations;
+  }
+  
+  @Benchmark
+  public int[] batchParallel() {
+    locator.locate(xs, ys, locations, false, ForkJoinPool.commonPool());
+    return locations;
+  }
+  
+  @Benchmark
+  public int[] batchSortedParallel() {
+    locator.locate(xs, ys, locations, true, ForkJoinPool.commonPool());
+    return locations;
+  }
+}
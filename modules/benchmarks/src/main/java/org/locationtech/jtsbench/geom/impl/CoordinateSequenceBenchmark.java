@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.geom.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.algorithm.Area;
+import org.locationtech.jts.algorithm.Length;
+import org.locationtech.jts.algorithm.RayCrossingCounter;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.impl.ColumnarCoordinateSequenceFactory;
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the performance of algorithms which scan 
+ * the ordinates of a ring 
+ * for the different {@link CoordinateSequence} implementations.
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoordinateSequenceBenchmark {
+  
+  private static final int N_LOCATE_PTS = 10;
+
+  /**
+   * Number of points in the ring.
+   */
+  @Param({ "100", "10000", "1000000" })
+  public int size;
+  
+  @Param({ "Array", "PackedDouble", "Columnar" })
+  public String seqType;
+  
+  private CoordinateSequence ring;
+  private Coordinate[] locatePts;
+  
+  @Setup
+  public void setup() {
+    CoordinateSequence seq = BenchmarkData.sineStar(0, 0, 100, size).getExteriorRing().getCoordinateSequence();
+    ring = createFactory().create(seq);
+    Point[] pts = BenchmarkData.randomPoints(N_LOCATE_PTS, new Envelope(-50, 50, -50, 50));
+    locatePts = new Coordinate[pts.length];
+    for (int i = 0; i < pts.length; i++) {
+      locatePts[i] = pts[i].getCoordinate();
+    }
+  }
+
+  private CoordinateSequenceFactory createFactory() {
+    if ("PackedDouble".equals(seqType)) return PackedCoordinateSequenceFactory.DOUBLE_FACTORY;
+    if ("Columnar".equals(seqType)) return ColumnarCoordinateSequenceFactory.instance();
+    return CoordinateArraySequenceFactory.instance();
+  }
+  
+  @Benchmark
+  public Envelope envelope() {
+    return ring.expandEnvelope(new Envelope());
+  }
+  
+  @Benchmark
+  public double area() {
+    return Area.ofRingSigned(ring);
+  }
+  
+  @Benchmark
+  public double length() {
+    return Length.ofLine(ring);
+  }
+  
+  @Benchmark
+  public void locatePointInRing(Blackhole bh) {
+    for (Coordinate p : locatePts) {
+      bh.consume(RayCrossingCounter.locatePointInRing(p, ring));
+    }
+  }
+}
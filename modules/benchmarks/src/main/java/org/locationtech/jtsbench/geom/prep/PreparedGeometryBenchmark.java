@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.geom.prep;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the prepared predicates of a large polygon
+ * against many points and small polygons.
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PreparedGeometryBenchmark {
+  
+  private static final double SIZE = 100;
+  private static final int N_TEST_POINTS = 10000;
+  private static final int TEST_GRID_SIZE = 30;
+  private static final int TEST_POLY_NPTS = 20;
+
+  /**
+   * Number of vertices in the prepared polygon.
+   */
+  @Param({ "1000", "10000", "100000" })
+  public int size;
+
+  private Geometry target;
+  private PreparedGeometry prepTarget;
+  private Point[] testPoints;
+  private List<Geometry> testPolys;
+  
+  @Setup
+  public void setup() {
+    target = BenchmarkData.sineStar(SIZE / 2, SIZE / 2, SIZE, size);
+    prepTarget = PreparedGeometryFactory.prepare(target);
+    Envelope extent = target.getEnvelopeInternal();
+    testPoints = BenchmarkData.randomPoints(N_TEST_POINTS, extent);
+    testPolys = BenchmarkData.sineStarGrid(extent, TEST_GRID_SIZE, TEST_POLY_NPTS);
+    // ensure indexes are built before measuring
+    prepTarget.intersects(testPolys.get(0));
+    prepTarget.contains(testPoints[0]);
+  }
+
+  @Benchmark
+  public PreparedGeometry prepare() {
+    PreparedGeometry pg = PreparedGeometryFactory.prepare(target);
+    pg.intersects(testPoints[0]);
+    return pg;
+  }
+  
+  @Benchmark
+  public void intersectsPoints(Blackhole bh) {
+    for (Point p : testPoints) {
+      bh.consume(prepTarget.intersects(p));
+    }
+  }
+  
+  @Benchmark
+  public void containsPoints(Blackhole bh) {
+    for (Point p : testPoints) {
+      bh.consume(prepTarget.contains(p));
+    }
+  }
+  
+  @Benchmark
+  public void intersectsPolygons(Blackhole bh) {
+    for (Geometry g : testPolys) {
+      bh.consume(prepTarget.intersects(g));
+    }
+  }
+  
+  @Benchmark
+  public void containsPolygons(Blackhole bh) {
+    for (Geometry g : testPolys) {
+      bh.consume(prepTarget.contains(g));
+    }
+  }
+  
+  @Benchmark
+  public void coversPolygons(Blackhole bh) {
+    for (Geometry g : testPolys) {
+      bh.consume(prepTarget.covers(g));
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.geom.prep;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of predicates evaluated 
+ * against a single {@link PreparedGeometry} shared by many threads.
+ * This uses the same geometry as the <code>PreparedGeometryThreadSafeTest</code>
+ * race-condition test.
+ * <p>
+ * The number of threads defaults to the number of available processors,
+ * and can be changed with the JMH <code>-t</code> option.
+ * Comparing the throughput for <code>-t 1</code> and higher thread counts
+ * shows whether there is contention in the prepared geometry.
+ * 
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class PreparedGeometryContentionBenchmark {
+  
+  private static final double SIZE = 100000.0;
+  
+  /**
+   * Number of vertices in the shared prepared polygon.
+   */
+  @Param({ "1000", "100000" })
+  public int size;
+
+  private GeometryFactory factory = new GeometryFactory(new PrecisionModel(1.0));
+  private PreparedGeometry prepPoly;
+  private PreparedGeometry prepLine;
+  private Geometry testPoly;
+  private Point testPoint;
+  
+  @Setup
+  public void setup() {
+    Geometry sinePoly = createSineStar(new Coordinate(0, 0), SIZE, size);
+    prepPoly = PreparedGeometryFactory.prepare(sinePoly);
+    prepLine = PreparedGeometryFactory.prepare(sinePoly.getBoundary());
+    testPoly = createSineStar(new Coordinate(10, 10), SIZE, 100);
+    testPoint = factory.createPoint(new Coordinate(10, 10));
+  }
+
+  private Geometry createSineStar(Coordinate origin, double size, int nPts) {
+    SineStarFactory gsf = new SineStarFactory(factory);
+    gsf.setCentre(origin);
+    gsf.setSize(size);
+    gsf.setNumPoints(nPts);
+    gsf.setArmLengthRatio(0.1);
+    gsf.setNumArms(20);
+    return gsf.createSineStar();
+  }
+  
+  @Benchmark
+  public boolean polygonIntersectsPolygon() {
+    return prepPoly.intersects(testPoly);
+  }
+  
+  @Benchmark
+  public boolean polygonContainsPoint() {
+    return prepPoly.contains(testPoint);
+  }
+  
+  @Benchmark
+  public boolean lineIntersectsPolygon() {
+    return prepLine.intersects(testPoly);
+  }
+}
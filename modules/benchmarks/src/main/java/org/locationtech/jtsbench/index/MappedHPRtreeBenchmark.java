@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.hprtree.MappedHPRtree;
+import org.locationtech.jts.util.IntArrayList;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares opening and querying a {@link MappedHPRtree} 
+ * with building and querying an in-memory {@link HPRtree}.
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappedHPRtreeBenchmark {
+  
+  private static final int NODE_SIZE = 16;
+  private static final double ITEM_ENV_SIZE = 10;
+  private static final double QUERY_ENV_SIZE = 40;
+  private static final int N_QUERIES = 1000;
+
+  /**
+   * Number of items in the index.
+   */
+  @Param({ "10000", "100000", "1000000" })
+  public int size;
+  
+  private List<Envelope> itemEnvs;
+  private List<Envelope> queryEnvs;
+  private HPRtree tree;
+  private File treeFile;
+  private MappedHPRtree mappedTree;
+  
+  @Setup
+  public void setup() throws IOException {
+    int side = (int) Math.sqrt(size);
+    itemEnvs = BenchmarkData.envelopeGrid(side, ITEM_ENV_SIZE);
+    int querySide = (int) Math.sqrt(N_QUERIES);
+    double queryStep = side / (double) querySide;
+    queryEnvs = new ArrayList<Envelope>();
+    for (int i = 0; i < querySide; i++) {
+      for (int j = 0; j < querySide; j++) {
+        double x = i * queryStep;
+        double y = j * queryStep;
+        queryEnvs.add(new Envelope(x, x + QUERY_ENV_SIZE, y, y + QUERY_ENV_SIZE));
+      }
+    }
+    tree = buildTree();
+    treeFile = File.createTempFile("hprtree", ".bin");
+    MappedHPRtree.write(tree, treeFile);
+    mappedTree = MappedHPRtree.open(treeFile);
+  }
+  
+  @TearDown
+  public void tearDown() {
+    treeFile.delete();
+  }
+  
+  @Benchmark
+  public HPRtree buildTree() {
+    HPRtree t = new HPRtree(NODE_SIZE);
+    for (int i = 0; i < itemEnvs.size(); i++) {
+      t.insert(itemEnvs.get(i), i);
+    }
+    t.build();
+    return t;
+  }
+  
+  @Benchmark
+  public MappedHPRtree openMapped() throws IOException {
+    return MappedHPRtree.open(treeFile);
+  }
+  
+  @Benchmark
+  public void queryTree(Blackhole bh) {
+    for (Envelope env : queryEnvs) {
+      bh.consume(tree.query(env));
+    }
+  }
+  
+  @Benchmark
+  public void queryMapped(Blackhole bh) {
+    for (Envelope env : queryEnvs) {
+      IntArrayList ids = new IntArrayList();
+      mappedTree.query(env, ids);
+      bh.consume(ids);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.index;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.strtree.GeometryItemDistance;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures k-nearest-neighbour and within-distance queries
+ * against the {@link STRtree} and {@link HPRtree} indexes,
+ * for a set of random point items.
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NearestNeighbourBenchmark {
+  
+  private static final int NODE_SIZE = 16;
+  private static final int N_QUERIES = 1000;
+  private static final int K = 10;
+
+  /**
+   * Number of items in the index.
+   */
+  @Param({ "10000", "100000", "1000000" })
+  public int size;
+  
+  private Point[] queryPts;
+  private double queryDistance;
+  private ItemDistance itemDist = new GeometryItemDistance();
+  private STRtree strTree;
+  private HPRtree hprTree;
+  
+  @Setup
+  public void setup() {
+    Envelope extent = new Envelope(0, 1000, 0, 1000);
+    Point[] pts = BenchmarkData.randomPoints(size, extent);
+    queryPts = BenchmarkData.randomPoints(N_QUERIES, extent);
+    // distance containing about K items on average
+    queryDistance = Math.sqrt(K * extent.getArea() / size / Math.PI);
+    strTree = new STRtree(NODE_SIZE);
+    hprTree = new HPRtree(NODE_SIZE);
+    for (Point pt : pts) {
+      strTree.insert(pt.getEnvelopeInternal(), pt);
+      hprTree.insert(pt.getEnvelopeInternal(), pt);
+    }
+    strTree.build();
+    hprTree.build();
+  }
+  
+  @Benchmark
+  public void nearestNeighbourSTRtree(Blackhole bh) {
+    for (Point q : queryPts) {
+      bh.consume(strTree.nearestNeighbour(q.getEnvelopeInternal(), q, itemDist, K));
+    }
+  }
+  
+  @Benchmark
+  public void nearestNeighbourHPRtree(Blackhole bh) {
+    for (Point q : queryPts) {
+      bh.consume(hprTree.nearestNeighbour(q.getEnvelopeInternal(), q, itemDist, K));
+    }
+  }
+  
+  @Benchmark
+  public void withinDistanceHPRtree(Blackhole bh) {
+    for (Point q : queryPts) {
+      List result = hprTree.queryWithinDistance(q.getEnvelopeInternal(), q, itemDist, queryDistance);
+      bh.consume(result);
+    }
+  }
+  
+  @Benchmark
+  public void withinDistanceEnvelopeQuerySTRtree(Blackhole bh) {
+    for (Point q : queryPts) {
+      Envelope env = new Envelope(q.getEnvelopeInternal());
+      env.expandBy(queryDistance);
+      List result = strTree.query(env);
+      for (Object item : result) {
+        if (((Geometry) item).distance(q) <= queryDistance)
+          bh.consume(item);
+      }
+    }
+  }
+}
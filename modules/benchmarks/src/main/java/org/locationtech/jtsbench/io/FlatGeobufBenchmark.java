@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.flatgeobuf.FlatGeobufFeature;
+import org.locationtech.jts.io.flatgeobuf.FlatGeobufReader;
+import org.locationtech.jts.io.flatgeobuf.FlatGeobufWriter;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading the features in a small area of a FlatGeobuf file
+ * using the spatial index with reading all features.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlatGeobufBenchmark {
+
+  private static final int NUM_PTS = 20;
+
+  /**
+   * Number of features in the file.
+   */
+  @Param({ "10000", "100000" })
+  public int size;
+
+  private File file;
+  private FlatGeobufReader reader;
+  private Envelope queryEnv;
+
+  @Setup
+  public void setup() throws IOException, ParseException {
+    int side = (int) Math.sqrt(size);
+    Envelope extent = new Envelope(0, side, 0, side);
+    List<Geometry> geoms = BenchmarkData.sineStarGrid(extent, side, NUM_PTS);
+    file = File.createTempFile("jts", ".fgb");
+    FlatGeobufWriter writer = new FlatGeobufWriter(file);
+    for (Geometry g : geoms) {
+      writer.write(g);
+    }
+    writer.close();
+    reader = FlatGeobufReader.open(file);
+    double c = side / 2.0;
+    queryEnv = new Envelope(c, c + 5, c, c + 5);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    reader.close();
+    file.delete();
+  }
+
+  @Benchmark
+  public List<FlatGeobufFeature> query() throws IOException, ParseException {
+    return reader.query(queryEnv);
+  }
+
+  @Benchmark
+  public int readAll() throws IOException, ParseException {
+    FlatGeobufReader rdr = FlatGeobufReader.open(file);
+    int n = 0;
+    while (rdr.read() != null) {
+      n++;
+    }
+    rdr.close();
+    return n;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.io;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.gml2.GMLReader;
+import org.locationtech.jts.io.gml2.GMLStreamReader;
+import org.locationtech.jts.io.gml2.GMLWriter;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a GML document containing many polygons
+ * with the SAX-based {@link GMLReader}
+ * and the StAX-based {@link GMLStreamReader}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GMLBenchmark {
+
+  private static final int NUM_PTS = 200;
+
+  /**
+   * Number of polygons.
+   */
+  @Param({ "1000", "10000" })
+  public int size;
+
+  private String gml;
+  private GeometryFactory factory = new GeometryFactory();
+
+  @Setup
+  public void setup() throws Exception {
+    int gridSize = (int) Math.sqrt(size);
+    Geometry geoms = factory.buildGeometry(
+        BenchmarkData.sineStarGrid(new Envelope(0, 1000, 0, 1000), gridSize, NUM_PTS));
+    GMLWriter writer = new GMLWriter();
+    StringWriter sw = new StringWriter();
+    writer.write(geoms, sw);
+    gml = sw.toString();
+  }
+
+  @Benchmark
+  public int saxReader() throws Exception {
+    return new GMLReader().read(new StringReader(gml), factory).getNumGeometries();
+  }
+
+  @Benchmark
+  public int staxReader() throws Exception {
+    GMLStreamReader reader = new GMLStreamReader(new StringReader(gml), factory);
+    return reader.read().getNumGeometries();
+  }
+}
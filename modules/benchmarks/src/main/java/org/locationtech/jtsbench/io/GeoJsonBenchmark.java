@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.geojson.GeoJsonFeature;
+import org.locationtech.jts.io.geojson.GeoJsonReader;
+import org.locationtech.jts.io.geojson.GeoJsonStreamReader;
+import org.locationtech.jts.io.geojson.GeoJsonStreamWriter;
+import org.locationtech.jts.io.geojson.GeoJsonWriter;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading and writing a polygon as GeoJSON,
+ * using the tree-based and the streaming readers and writers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeoJsonBenchmark {
+
+  /**
+   * Number of vertices in the geometry.
+   */
+  @Param({ "100", "10000", "1000000" })
+  public int size;
+
+  private Geometry geom;
+  private String json;
+  private GeoJsonReader reader = new GeoJsonReader();
+  private GeoJsonWriter writer = new GeoJsonWriter();
+
+  @Setup
+  public void setup() {
+    geom = BenchmarkData.sineStar(0, 0, 100, size);
+    json = writer.write(geom);
+  }
+
+  @Benchmark
+  public Geometry read() throws ParseException {
+    return reader.read(json);
+  }
+
+  @Benchmark
+  public GeoJsonFeature readStream() throws IOException, ParseException {
+    GeoJsonStreamReader rdr = new GeoJsonStreamReader(new StringReader(json));
+    return rdr.read();
+  }
+
+  @Benchmark
+  public String write() {
+    return writer.write(geom);
+  }
+
+  @Benchmark
+  public StringWriter writeStream() throws IOException {
+    StringWriter out = new StringWriter();
+    GeoJsonStreamWriter wtr = new GeoJsonStreamWriter(out, writer);
+    wtr.write(geom);
+    wtr.close();
+    return out;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.io;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.util.AffineTransformation;
+import org.locationtech.jts.io.mvt.MVTConstants;
+import org.locationtech.jts.io.mvt.MVTGeometryEncoder;
+import org.locationtech.jts.io.mvt.MVTTileGeometry;
+import org.locationtech.jts.io.mvt.MVTTiler;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares computing the vector tile geometries of a large polygon
+ * in a single pass using {@link MVTTiler}
+ * with clipping, transforming and simplifying it separately for each tile.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MVTBenchmark {
+
+  private static final int ZOOM = 4;
+  private static final Envelope WORLD = new Envelope(0, 100, 0, 100);
+
+  /**
+   * Number of vertices in the polygon.
+   */
+  @Param({ "10000", "100000" })
+  public int size;
+
+  private Geometry geom;
+  private MVTTiler tiler;
+
+  @Setup
+  public void setup() {
+    geom = BenchmarkData.sineStar(50, 50, 90, size);
+    tiler = new MVTTiler(WORLD, ZOOM);
+  }
+
+  @Benchmark
+  public List<MVTTileGeometry> tiler() {
+    return tiler.tile(geom);
+  }
+
+  @Benchmark
+  public int perTile() {
+    int numTiles = 1 << ZOOM;
+    int extent = MVTConstants.DEFAULT_EXTENT;
+    MVTGeometryEncoder encoder = new MVTGeometryEncoder();
+    int n = 0;
+    for (int x = 0; x < numTiles; x++) {
+      for (int y = 0; y < numTiles; y++) {
+        Envelope tileEnv = tiler.getTileEnvelope(x, y);
+        double scale = extent / tileEnv.getWidth();
+        double bufferWidth = MVTTiler.DEFAULT_BUFFER / scale;
+        Envelope clipEnv = new Envelope(tileEnv);
+        clipEnv.expandBy(bufferWidth);
+        if (! clipEnv.intersects(geom.getEnvelopeInternal()))
+          continue;
+        Geometry clip = geom.intersection(geom.getFactory().toGeometry(clipEnv));
+        if (clip.isEmpty())
+          continue;
+        AffineTransformation trans = new AffineTransformation(
+            scale, 0, -tileEnv.getMinX() * scale,
+            0, -scale, tileEnv.getMaxY() * scale);
+        Geometry tileGeom = DouglasPeuckerSimplifier.simplify(trans.transform(clip),
+            MVTTiler.DEFAULT_SIMPLIFY_TOLERANCE);
+        if (encoder.encode(tileGeom).length > 0)
+          n++;
+      }
+    }
+    return n;
+  }
+}
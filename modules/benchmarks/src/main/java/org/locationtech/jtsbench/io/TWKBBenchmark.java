@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.twkb.TWKBBufferReader;
+import org.locationtech.jts.io.twkb.TWKBReader;
+import org.locationtech.jts.io.twkb.TWKBWriter;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares decoding a sequence of TWKB records
+ * from a stream using {@link TWKBReader}
+ * and from a buffer using {@link TWKBBufferReader},
+ * and reading only the record bounding boxes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TWKBBenchmark {
+
+  private static final int NUM_PTS = 200;
+
+  /**
+   * Number of records.
+   */
+  @Param({ "1000", "10000" })
+  public int size;
+
+  private byte[] data;
+  private int numRecords;
+
+  @Setup
+  public void setup() {
+    TWKBWriter writer = new TWKBWriter().setXYPrecision(5)
+        .setIncludeBbox(true).setIncludeSize(true);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int side = (int) Math.ceil(Math.sqrt(size));
+    numRecords = 0;
+    for (int i = 0; i < size; i++) {
+      Geometry geom = BenchmarkData.sineStar(10 * (i % side), 10 * (i / side), 4, NUM_PTS);
+      byte[] twkb = writer.write(geom);
+      out.write(twkb, 0, twkb.length);
+      numRecords++;
+    }
+    data = out.toByteArray();
+  }
+
+  @Benchmark
+  public int streamReader() throws ParseException {
+    TWKBReader reader = new TWKBReader();
+    DataInput in = new DataInputStream(new ByteArrayInputStream(data));
+    int n = 0;
+    for (int i = 0; i < numRecords; i++) {
+      n += reader.read(in).getNumPoints();
+    }
+    return n;
+  }
+
+  @Benchmark
+  public int bufferReader() throws ParseException {
+    TWKBBufferReader reader = new TWKBBufferReader();
+    ByteBuffer buf = ByteBuffer.wrap(data);
+    int n = 0;
+    while (buf.hasRemaining()) {
+      n += reader.read(buf).getNumPoints();
+    }
+    return n;
+  }
+
+  @Benchmark
+  public double bufferEnvelope() throws ParseException {
+    TWKBBufferReader reader = new TWKBBufferReader();
+    ByteBuffer buf = ByteBuffer.wrap(data);
+    double area = 0;
+    while (buf.hasRemaining()) {
+      Envelope env = reader.readEnvelope(buf);
+      area += env.getArea();
+    }
+    return area;
+  }
+}
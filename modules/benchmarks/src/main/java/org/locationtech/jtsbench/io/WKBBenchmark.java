@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.io;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBGeometryView;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading and writing a polygon as WKB,
+ * and reading the envelope via a {@link WKBGeometryView}.
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WKBBenchmark {
+  
+  /**
+   * Number of vertices in the geometry.
+   */
+  @Param({ "100", "10000", "1000000" })
+  public int size;
+
+  private Geometry geom;
+  private Geometry packedGeom;
+  private byte[] wkb;
+  private ByteBuffer buf;
+  private WKBReader reader = new WKBReader();
+  private WKBWriter writer = new WKBWriter();
+  
+  @Setup
+  public void setup() {
+    geom = BenchmarkData.sineStar(0, 0, 100, size);
+    wkb = writer.write(geom);
+    packedGeom = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY)
+        .createGeometry(geom);
+    buf = ByteBuffer.allocateDirect(wkb.length);
+  }
+
+  @Benchmark
+  public Geometry read() throws ParseException {
+    return reader.read(wkb);
+  }
+  
+  @Benchmark
+  public Envelope readEnvelope() throws ParseException {
+    return reader.read(wkb).getEnvelopeInternal();
+  }
+  
+  @Benchmark
+  public Envelope viewEnvelope() throws ParseException {
+    return new WKBGeometryView(wkb).getEnvelopeInternal();
+  }
+  
+  @Benchmark
+  public Geometry viewGeometry() throws ParseException {
+    return new WKBGeometryView(wkb).getGeometry();
+  }
+  
+  @Benchmark
+  public byte[] write() {
+    return writer.write(geom);
+  }
+  
+  @Benchmark
+  public ByteBuffer writeBuffer() {
+    ((Buffer) buf).clear();
+    writer.write(geom, buf);
+    return buf;
+  }
+  
+  @Benchmark
+  public ByteBuffer writePackedBuffer() {
+    ((Buffer) buf).clear();
+    writer.write(packedGeom, buf);
+    return buf;
+  }
+}
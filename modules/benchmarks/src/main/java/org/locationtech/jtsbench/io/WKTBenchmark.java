@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.io;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.io.WKTWriter;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading and writing a polygon as WKT.
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WKTBenchmark {
+  
+  /**
+   * Number of vertices in the geometry.
+   */
+  @Param({ "100", "10000", "1000000" })
+  public int size;
+
+  private Geometry geom;
+  private String wkt;
+  private WKTReader reader = new WKTReader();
+  private WKTWriter writer = new WKTWriter();
+  private StringBuilder buf = new StringBuilder();
+  
+  @Setup
+  public void setup() {
+    geom = BenchmarkData.sineStar(0, 0, 100, size);
+    wkt = writer.write(geom);
+  }
+
+  @Benchmark
+  public Geometry read() throws ParseException {
+    return reader.read(wkt);
+  }
+
+  @Benchmark
+  public Geometry readStream() throws ParseException {
+    return reader.read(new BufferedReader(new StringReader(wkt)));
+  }
+  
+  @Benchmark
+  public String write() {
+    return writer.write(geom);
+  }
+
+  @Benchmark
+  public StringBuilder append() {
+    buf.setLength(0);
+    return writer.append(geom, buf);
+  }
+}
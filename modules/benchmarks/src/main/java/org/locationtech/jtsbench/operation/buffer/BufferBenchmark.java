@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.operation.buffer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.buffer.BufferOp;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures buffering of polygons and self-intersecting lines.
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BufferBenchmark {
+  
+  private static final double SIZE = 100;
+  private static final double LINE_DIST = 0.1;
+
+  /**
+   * Number of vertices in the input geometries.
+   */
+  @Param({ "1000", "10000", "100000" })
+  public int size;
+
+  private Geometry polygon;
+  private Geometry line;
+  
+  @Setup
+  public void setup() {
+    polygon = BenchmarkData.sineStar(0, 0, SIZE, size);
+    line = BenchmarkData.randomWalk(size, 1);
+  }
+
+  @Benchmark
+  public Geometry polygonPositive() {
+    return BufferOp.bufferOp(polygon, SIZE / 50);
+  }
+  
+  @Benchmark
+  public Geometry polygonNegative() {
+    return BufferOp.bufferOp(polygon, -SIZE / 50);
+  }
+  
+  @Benchmark
+  public Geometry line() {
+    return BufferOp.bufferOp(line, LINE_DIST);
+  }
+}
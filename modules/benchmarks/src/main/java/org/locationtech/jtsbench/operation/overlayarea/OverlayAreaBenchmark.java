@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.operation.overlayarea;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.overlayarea.OverlayArea;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures computing the areas of intersection of a large sine star
+ * with a grid of small sine stars covering it,
+ * using {@link OverlayArea} and using {@link OverlayNG} followed by 
+ * computing the result area.
+ * The batch benchmarks include preparing the target geometry.
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OverlayAreaBenchmark {
+  
+  private static final double SIZE = 200;
+  private static final int GRID_SIZE = 20;
+
+  /**
+   * Number of vertices in the large geometry.
+   */
+  @Param({ "1000", "10000", "100000" })
+  public int size;
+
+  /**
+   * Number of vertices in each grid geometry.
+   */
+  @Param({ "20", "200" })
+  public int gridPts;
+
+  private Geometry target;
+  private List<Geometry> grid;
+  private OverlayArea overlayArea;
+  
+  @Setup
+  public void setup() {
+    target = BenchmarkData.sineStar(SIZE / 2, SIZE / 2, SIZE, size);
+    grid = BenchmarkData.sineStarGrid(new Envelope(0, SIZE, 0, SIZE), GRID_SIZE, gridPts);
+    overlayArea = new OverlayArea(target);
+  }
+
+  @Benchmark
+  public void overlayNGArea(Blackhole bh) {
+    for (Geometry b : grid) {
+      bh.consume(OverlayNG.overlay(target, b, OverlayNG.INTERSECTION).getArea());
+    }
+  }
+  
+  @Benchmark
+  public void overlayArea(Blackhole bh) {
+    for (Geometry b : grid) {
+      bh.consume(overlayArea.intersectionArea(b));
+    }
+  }
+  
+  @Benchmark
+  public double[] overlayAreaBatch() {
+    OverlayArea ova = new OverlayArea(target);
+    return ova.intersectionAreas(grid);
+  }
+  
+  @Benchmark
+  public double[] overlayAreaBatchParallel() {
+    OverlayArea ova = new OverlayArea(target);
+    ova.setForkJoinPool(ForkJoinPool.commonPool());
+    return ova.intersectionAreas(grid);
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.operation.overlayng;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link OverlayNG} for a large sine star
+ * overlaid with a grid of small sine stars covering it,
+ * and with another large sine star
+ * (with sequential and parallel noding).
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OverlayNGBenchmark {
+  
+  private static final double SIZE = 200;
+  private static final int GRID_SIZE = 10;
+  private static final int PREC_SCALE_FACTOR = 1000000;
+
+  /**
+   * Number of vertices in the large geometry.
+   */
+  @Param({ "1000", "10000", "100000" })
+  public int size;
+
+  private Geometry geomA;
+  private List<Geometry> geomB;
+  private Geometry geomC;
+  private PrecisionModel floatingPM = new PrecisionModel();
+  private PrecisionModel precisionModel = new PrecisionModel(PREC_SCALE_FACTOR);
+  
+  @Setup
+  public void setup() {
+    geomA = BenchmarkData.sineStar(SIZE / 2, SIZE / 2, SIZE, size);
+    int nptsB = Math.max(10, size / (GRID_SIZE * GRID_SIZE));
+    geomB = BenchmarkData.sineStarGrid(new Envelope(0, SIZE, 0, SIZE), GRID_SIZE, nptsB);
+    geomC = BenchmarkData.sineStar(SIZE / 2 + 10, SIZE / 2 + 5, SIZE, size);
+  }
+
+  @Benchmark
+  public void intersection(Blackhole bh) {
+    for (Geometry b : geomB) {
+      bh.consume(OverlayNGRobust.overlay(geomA, b, OverlayNG.INTERSECTION));
+    }
+  }
+  
+  @Benchmark
+  public void intersectionFixedPrecision(Blackhole bh) {
+    for (Geometry b : geomB) {
+      bh.consume(OverlayNG.overlay(geomA, b, OverlayNG.INTERSECTION, precisionModel));
+    }
+  }
+  
+  @Benchmark
+  public void union(Blackhole bh) {
+    for (Geometry b : geomB) {
+      bh.consume(OverlayNGRobust.overlay(geomA, b, OverlayNG.UNION));
+    }
+  }
+  
+  @Benchmark
+  public void difference(Blackhole bh) {
+    for (Geometry b : geomB) {
+      bh.consume(OverlayNGRobust.overlay(geomA, b, OverlayNG.DIFFERENCE));
+    }
+  }
+  
+  @Benchmark
+  public Geometry intersectionLarge() {
+    return OverlayNG.overlay(geomA, geomC, OverlayNG.INTERSECTION, floatingPM);
+  }
+  
+  @Benchmark
+  public Geometry intersectionLargeParallel() {
+    return OverlayNG.overlay(geomA, geomC, OverlayNG.INTERSECTION, floatingPM, ForkJoinPool.commonPool());
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.operation.overlayng;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.overlayng.TiledOverlay;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link TiledOverlay} for the intersection of two large sine stars,
+ * compared to {@link OverlayNG}
+ * (with sequential and parallel tiles, and floating and fixed precision).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TiledOverlayBenchmark {
+
+  private static final double SIZE = 200;
+  private static final int PREC_SCALE_FACTOR = 1000000;
+
+  /**
+   * Number of vertices in each geometry.
+   */
+  @Param({ "100000", "1000000" })
+  public int size;
+
+  /**
+   * Number of tiles along each side of the overlay extent.
+   */
+  @Param({ "4", "16" })
+  public int gridSize;
+
+  private Geometry geomA;
+  private Geometry geomB;
+  private PrecisionModel floatingPM = new PrecisionModel();
+  private PrecisionModel precisionModel = new PrecisionModel(PREC_SCALE_FACTOR);
+
+  @Setup
+  public void setup() {
+    geomA = BenchmarkData.sineStar(SIZE / 2, SIZE / 2, SIZE, size);
+    geomB = BenchmarkData.sineStar(SIZE / 2 + 10, SIZE / 2 + 5, SIZE, size);
+  }
+
+  @Benchmark
+  public Geometry overlay() {
+    return OverlayNG.overlay(geomA, geomB, OverlayNG.INTERSECTION, floatingPM);
+  }
+
+  @Benchmark
+  public Geometry overlayParallel() {
+    return OverlayNG.overlay(geomA, geomB, OverlayNG.INTERSECTION, floatingPM, ForkJoinPool.commonPool());
+  }
+
+  @Benchmark
+  public Geometry tiled() {
+    return tiled(floatingPM, null);
+  }
+
+  @Benchmark
+  public Geometry tiledParallel() {
+    return tiled(floatingPM, ForkJoinPool.commonPool());
+  }
+
+  @Benchmark
+  public Geometry overlayFixedPrecision() {
+    return OverlayNG.overlay(geomA, geomB, OverlayNG.INTERSECTION, precisionModel);
+  }
+
+  @Benchmark
+  public Geometry tiledFixedPrecisionParallel() {
+    return tiled(precisionModel, ForkJoinPool.commonPool());
+  }
+
+  private Geometry tiled(PrecisionModel pm, ForkJoinPool pool) {
+    TiledOverlay ov = new TiledOverlay(geomA, geomB, pm, OverlayNG.INTERSECTION);
+    ov.setGridSize(gridSize);
+    ov.setForkJoinPool(pool);
+    return ov.getResult();
+  }
+}
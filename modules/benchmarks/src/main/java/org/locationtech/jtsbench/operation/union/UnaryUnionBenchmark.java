@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.operation.union;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.operation.overlayng.UnaryUnionNG;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures unary union of a grid of overlapping circles,
+ * sequentially and in parallel on the common pool.
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UnaryUnionBenchmark {
+  
+  private static final int N_PTS = 100;
+  private static final double ITEM_SIZE = 10;
+
+  /**
+   * Number of polygons to union.
+   */
+  @Param({ "100", "1000", "10000" })
+  public int size;
+
+  private List<Geometry> geoms;
+  private PrecisionModel floatingPM = new PrecisionModel();
+  
+  @Setup
+  public void setup() {
+    geoms = BenchmarkData.overlappingCircles(size, ITEM_SIZE, N_PTS);
+  }
+
+  @Benchmark
+  public Geometry unaryUnion() {
+    return UnaryUnionOp.union(geoms);
+  }
+  
+  @Benchmark
+  public Geometry unaryUnionNG() {
+    return UnaryUnionNG.union(geoms, floatingPM);
+  }
+  
+  @Benchmark
+  public Geometry unaryUnionParallel() {
+    UnaryUnionOp op = new UnaryUnionOp(geoms);
+    op.setForkJoinPool(ForkJoinPool.commonPool());
+    return op.union();
+  }
+  
+  @Benchmark
+  public Geometry unaryUnionNGParallel() {
+    return UnaryUnionNG.union(geoms, floatingPM, ForkJoinPool.commonPool());
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.operation.valid;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.operation.valid.IsValidOp;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures validation of a large polygon, 
+ * and of a polygon with many holes.
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IsValidBenchmark {
+  
+  private static final double SIZE = 100;
+  private static final int HOLE_NPTS = 20;
+
+  /**
+   * Number of vertices in the input polygons.
+   */
+  @Param({ "1000", "10000", "100000" })
+  public int size;
+
+  private Geometry polygon;
+  private Geometry polygonWithHoles;
+  
+  @Setup
+  public void setup() {
+    polygon = BenchmarkData.sineStar(0, 0, SIZE, size);
+    polygonWithHoles = createPolygonWithHoles(size / HOLE_NPTS);
+  }
+
+  private static Geometry createPolygonWithHoles(int nHoles) {
+    int gridSize = Math.max(1, (int) Math.sqrt(nHoles));
+    Envelope extent = new Envelope(0, SIZE, 0, SIZE);
+    List<Geometry> holes = BenchmarkData.sineStarGrid(extent, gridSize, HOLE_NPTS);
+    Envelope shellEnv = new Envelope(extent);
+    shellEnv.expandBy(1);
+    Polygon shell = (Polygon) BenchmarkData.getFactory().toGeometry(shellEnv);
+    
+    LinearRing[] holeRings = new LinearRing[holes.size()];
+    for (int i = 0; i < holes.size(); i++) {
+      holeRings[i] = ((Polygon) holes.get(i)).getExteriorRing();
+    }
+    return BenchmarkData.getFactory().createPolygon(shell.getExteriorRing(), holeRings);
+  }
+
+  @Benchmark
+  public boolean polygon() {
+    return IsValidOp.isValid(polygon);
+  }
+  
+  @Benchmark
+  public boolean polygonWithHoles() {
+    return IsValidOp.isValid(polygonWithHoles);
+  }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+/**
+ * JMH benchmarks for the JTS hot paths.
+ * <p>
+ * Benchmarks are grouped in packages mirroring the JTS packages they measure.
+ * Dataset sizes are exposed as JMH parameters,
+ * and can be overridden on the command line with <code>-p size=...</code>.
+ */
+package org.locationtech.jtsbench;
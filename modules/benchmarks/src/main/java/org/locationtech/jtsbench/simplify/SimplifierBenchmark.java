@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbench.simplify;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+import org.locationtech.jts.simplify.VWSimplifier;
+import org.locationtech.jtsbench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures line simplification for increasing line sizes.
+ * The Visvalingam-Whyatt time should grow as O(n log n), 
+ * which can be checked by comparing the scores across sizes.
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimplifierBenchmark {
+  
+  private static final double TOLERANCE = 1.0;
+
+  /**
+   * Number of vertices in the line.
+   */
+  @Param({ "10000", "100000", "1000000" })
+  public int size;
+
+  private Geometry line;
+  
+  @Setup
+  public void setup() {
+    Coordinate[] pts = BenchmarkData.randomWalk(size, 1).getCoordinates();
+    // add a long-wavelength oscillation so there is structure to keep
+    for (int i = 0; i < pts.length; i++) {
+      pts[i].y += 100 * Math.sin(i / 1000.0);
+    }
+    line = BenchmarkData.getFactory().createLineString(pts);
+  }
+
+  @Benchmark
+  public Geometry visvalingamWhyatt() {
+    return VWSimplifier.simplify(line, TOLERANCE);
+  }
+  
+  @Benchmark
+  public Geometry douglasPeucker() {
+    return DouglasPeuckerSimplifier.simplify(line, TOLERANCE);
+  }
+}
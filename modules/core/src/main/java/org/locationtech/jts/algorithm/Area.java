@@ -13,6 +13,7 @@ package org.locationtech.jts.algorithm;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.OrdinateArraySequence;
 
 /**
  * Functions for computing area.
@@ -89,6 +90,10 @@ public class Area {
     int n = ring.size();
     if (n < 3)
       return 0.0;
+    if (ring instanceof OrdinateArraySequence) {
+      OrdinateArraySequence seq = (OrdinateArraySequence) ring;
+      return ofRingSigned(seq.getXArray(), seq.getYArray(), n);
+    }
     /*
      * Based on the Shoelace formula.
      * http://en.wikipedia.org/wiki/Shoelace_formula
@@ -112,4 +117,22 @@ public class Area {
     return sum / 2.0;
   }
 
+  /**
+   * Computes the signed area for a ring 
+   * stored in arrays of X and Y ordinates.
+   * 
+   * @param x the ring X ordinates
+   * @param y the ring Y ordinates
+   * @param n the number of ring points
+   * @return the signed area of the ring
+   */
+  private static double ofRingSigned(double[] x, double[] y, int n)
+  {
+    double x0 = x[0];
+    double sum = 0.0;
+    for (int i = 1; i < n - 1; i++) {
+      sum += (x[i] - x0) * (y[i - 1] - y[i + 1]);
+    }
+    return sum / 2.0;
+  }
 }
@@ -13,6 +13,7 @@ package org.locationtech.jts.algorithm;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.OrdinateArraySequence;
 
 /**
  * Functions for computing length.
@@ -34,6 +35,10 @@ public class Length {
     int n = pts.size();
     if (n <= 1)
       return 0.0;
+    if (pts instanceof OrdinateArraySequence) {
+      OrdinateArraySequence seq = (OrdinateArraySequence) pts;
+      return ofLine(seq.getXArray(), seq.getYArray(), n);
+    }
   
     double len = 0.0;
   
@@ -57,4 +62,21 @@ public class Length {
     return len;
   }
 
+  /**
+   * Computes the length of a linestring 
+   * stored in arrays of X and Y ordinates.
+   * 
+   * @param x the line X ordinates
+   * @param y the line Y ordinates
+   * @param n the number of line points
+   * @return the length of the linestring
+   */
+  private static double ofLine(double[] x, double[] y, int n)
+  {
+    double len = 0.0;
+    for (int i = 1; i < n; i++) {
+      len += Math.hypot(x[i] - x[i - 1], y[i] - y[i - 1]);
+    }
+    return len;
+  }
 }
@@ -175,7 +175,6 @@ public abstract class LineIntersector
 
   /**
    * Force computed intersection to be rounded to a given precision model.
-   * No getter is provided, because the precision model is not required to be specified.
    * @param precisionModel
    */
   public void setPrecisionModel(PrecisionModel precisionModel)
@@ -183,6 +182,17 @@ public abstract class LineIntersector
     this.precisionModel = precisionModel;
   }
 
+  /**
+   * Gets the precision model computed intersections are rounded to, if any.
+   * This allows creating another intersector with the same behaviour.
+   * 
+   * @return the precision model, or null if one was not specified
+   */
+  public PrecisionModel getPrecisionModel()
+  {
+    return precisionModel;
+  }
+
   /**
    * Gets an endpoint of an input segment.
    * 
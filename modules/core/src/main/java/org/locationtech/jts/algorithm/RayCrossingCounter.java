@@ -14,6 +14,7 @@ package org.locationtech.jts.algorithm;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.OrdinateArraySequence;
 import org.locationtech.jts.geom.Polygonal;
 
 /**
@@ -81,6 +82,17 @@ public class RayCrossingCounter
    */
   public static int locatePointInRing(Coordinate p, CoordinateSequence ring) {
     RayCrossingCounter counter = new RayCrossingCounter(p);
+    if (ring instanceof OrdinateArraySequence) {
+      OrdinateArraySequence seq = (OrdinateArraySequence) ring;
+      double[] x = seq.getXArray();
+      double[] y = seq.getYArray();
+      for (int i = 1; i < seq.size(); i++) {
+        counter.countSegment(x[i], y[i], x[i - 1], y[i - 1]);
+        if (counter.isOnSegment())
+          return counter.getLocation();
+      }
+      return counter.getLocation();
+    }
 
     Coordinate p1 = new Coordinate();
     Coordinate p2 = new Coordinate();
@@ -108,6 +120,20 @@ public class RayCrossingCounter
 		this.p = p;
 	}
 	
+	/**
+	 * Resets the counter to process segments for a new test point.
+	 * This allows a single counter to be reused
+	 * for locating many points.
+	 * 
+	 * @param p the new point to test
+	 */
+	public void reset(Coordinate p)
+	{
+		this.p = p;
+		crossingCount = 0;
+		isPointOnSegment = false;
+	}
+	
 	/**
 	 * Counts a segment
 	 * 
@@ -115,17 +141,29 @@ public class RayCrossingCounter
 	 * @param p2 another endpoint of the segment
 	 */
 	public void countSegment(Coordinate p1, Coordinate p2) {
+		countSegment(p1.x, p1.y, p2.x, p2.y);
+	}
+	
+	/**
+	 * Counts a segment specified by the ordinates of its endpoints.
+	 * 
+	 * @param p1x the x-ordinate of an endpoint of the segment
+	 * @param p1y the y-ordinate of an endpoint of the segment
+	 * @param p2x the x-ordinate of another endpoint of the segment
+	 * @param p2y the y-ordinate of another endpoint of the segment
+	 */
+	public void countSegment(double p1x, double p1y, double p2x, double p2y) {
 		/**
 		 * For each segment, check if it crosses 
 		 * a horizontal ray running from the test point in the positive x direction.
 		 */
 		
 		// check if the segment is strictly to the left of the test point
-		if (p1.x < p.x && p2.x < p.x)
+		if (p1x < p.x && p2x < p.x)
 			return;
 		
 		// check if the point is equal to the current ring vertex
-		if (p.x == p2.x && p.y == p2.y) {
+		if (p.x == p2x && p.y == p2y) {
 			isPointOnSegment = true;
 			return;
 		}
@@ -133,12 +171,12 @@ public class RayCrossingCounter
 		 * For horizontal segments, check if the point is on the segment.
 		 * Otherwise, horizontal segments are not counted.
 		 */
-		if (p1.y == p.y && p2.y == p.y) {
-			double minx = p1.x;
-			double maxx = p2.x;
+		if (p1y == p.y && p2y == p.y) {
+			double minx = p1x;
+			double maxx = p2x;
 			if (minx > maxx) {
-				minx = p2.x;
-				maxx = p1.x;
+				minx = p2x;
+				maxx = p1x;
 			}
 			if (p.x >= minx && p.x <= maxx) {
 				isPointOnSegment = true;
@@ -156,15 +194,15 @@ public class RayCrossingCounter
 		 * final endpoint
 		 * </ul>
 		 */
-		if (((p1.y > p.y) && (p2.y <= p.y)) 
-				|| ((p2.y > p.y) && (p1.y <= p.y))) {
-      int orient = Orientation.index(p1, p2, p);
+		if (((p1y > p.y) && (p2y <= p.y)) 
+				|| ((p2y > p.y) && (p1y <= p.y))) {
+      int orient = CGAlgorithmsDD.orientationIndex(p1x, p1y, p2x, p2y, p.x, p.y);
       if (orient == Orientation.COLLINEAR) {
         isPointOnSegment = true;
         return;
       }
       // Re-orient the result if needed to ensure effective segment direction is upwards
-      if (p2.y < p1.y) {
+      if (p2y < p1y) {
         orient = -orient;
       }
       // The upward segment crosses the ray if the test point lies to the left (CCW) of the segment.
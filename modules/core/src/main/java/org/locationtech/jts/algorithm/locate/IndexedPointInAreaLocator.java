@@ -12,11 +12,15 @@
 package org.locationtech.jts.algorithm.locate;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.algorithm.RayCrossingCounter;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineSegment;
 import org.locationtech.jts.geom.LineString;
@@ -45,6 +49,9 @@ import org.locationtech.jts.index.intervalrtree.SortedPackedIntervalRTree;
  * The index is lazy-loaded, which allows
  * creating instances even if they are not used.
  * <p>
+ * Batch methods are provided to locate many points at once
+ * more efficiently, optionally in parallel.
+ * <p>
  * Thread-safe and immutable.
  *
  * @author Martin Davis
@@ -94,6 +101,147 @@ public class IndexedPointInAreaLocator
     return rcc.getLocation();
   }
 
+  /**
+   * Determines the {@link Location}s of a set of points
+   * given as arrays of ordinates.
+   * This is faster than locating each point individually, 
+   * since the working state used to locate a point is reused.
+   * 
+   * @param xs the X ordinates of the points
+   * @param ys the Y ordinates of the points
+   * @param locations an array to receive the location of each point
+   */
+  public void locate(double[] xs, double[] ys, int[] locations)
+  {
+    locate(xs, ys, locations, false, null);
+  }
+  
+  /**
+   * Determines the {@link Location}s of the points in a {@link CoordinateSequence}.
+   * 
+   * @param pts the points to locate
+   * @param locations an array to receive the location of each point
+   * 
+   * @see #locate(double[], double[], int[])
+   */
+  public void locate(CoordinateSequence pts, int[] locations)
+  {
+    locate(pts, locations, false, null);
+  }
+  
+  /**
+   * Determines the {@link Location}s of the points in a {@link CoordinateSequence},
+   * optionally in spatially sorted order and/or in parallel.
+   * The ordinates are read directly from the sequence.
+   * 
+   * @param pts the points to locate
+   * @param locations an array to receive the location of each point
+   * @param isSorted whether to process the points in order of Y ordinate
+   * @param pool the pool to locate the points in, or null to locate them sequentially
+   * 
+   * @throws IllegalArgumentException if the location array is too short
+   * 
+   * @see #locate(double[], double[], int[], boolean, ForkJoinPool)
+   */
+  public void locate(final CoordinateSequence pts, int[] locations, boolean isSorted, ForkJoinPool pool)
+  {
+    if (locations.length < pts.size())
+      throw new IllegalArgumentException("Location array must be at least as long as the sequence");
+    
+    locate(new PointSource() {
+      public int size() { return pts.size(); }
+      public double getX(int i) { return pts.getX(i); }
+      public double getY(int i) { return pts.getY(i); }
+    }, locations, isSorted, pool);
+  }
+  
+  /**
+   * Determines the {@link Location}s of a set of points
+   * given as arrays of ordinates,
+   * optionally in spatially sorted order and/or in parallel.
+   * <p>
+   * If <code>isSorted</code> is true the points are processed 
+   * in order of their Y ordinate.
+   * Since the index is on the Y extent of the segments,
+   * this causes consecutive points to query the same index nodes and segments,
+   * which improves memory locality for large sets of unordered points.
+   * This is worthwhile when the area geometry has many vertices;
+   * for small geometries the cost of sorting outweighs the gain.
+   * <p>
+   * If a {@link ForkJoinPool} is given the points are located concurrently
+   * using it.
+   * <p>
+   * In all cases the locations are returned in the order of the input points.
+   * 
+   * @param xs the X ordinates of the points
+   * @param ys the Y ordinates of the points
+   * @param locations an array to receive the location of each point
+   * @param isSorted whether to process the points in order of Y ordinate
+   * @param pool the pool to locate the points in, or null to locate them sequentially
+   * 
+   * @throws IllegalArgumentException if the array lengths do not match
+   */
+  public void locate(final double[] xs, final double[] ys, int[] locations, boolean isSorted, ForkJoinPool pool)
+  {
+    if (xs.length != ys.length || locations.length < xs.length)
+      throw new IllegalArgumentException("Ordinate arrays must be the same length and location array at least as long");
+    
+    locate(new PointSource() {
+      public int size() { return xs.length; }
+      public double getX(int i) { return xs[i]; }
+      public double getY(int i) { return ys[i]; }
+    }, locations, isSorted, pool);
+  }
+  
+  private void locate(PointSource pts, int[] locations, boolean isSorted, ForkJoinPool pool)
+  {
+    if (index == null) createIndex();
+    
+    int n = pts.size();
+    int[] order = isSorted ? sortByY(pts) : null;
+    if (pool != null) {
+      pool.invoke(new LocateTask(index, pts, order, locations, 0, n));
+    }
+    else {
+      BatchLocator locator = new BatchLocator(index);
+      locator.locate(pts, order, locations, 0, n);
+    }
+  }
+
+  /**
+   * Computes the order of points sorted by Y ordinate.
+   * The Y ordinate is quantized so that the sort key
+   * and point index can be sorted as a single primitive long.
+   * 
+   * @param pts the points
+   * @return the point indices in order of increasing Y
+   */
+  private static int[] sortByY(PointSource pts)
+  {
+    int n = pts.size();
+    double minY = Double.POSITIVE_INFINITY;
+    double maxY = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < n; i++) {
+      double y = pts.getY(i);
+      if (y < minY) minY = y;
+      if (y > maxY) maxY = y;
+    }
+    double scale = maxY > minY ? Integer.MAX_VALUE / (maxY - minY) : 0;
+    
+    long[] keys = new long[n];
+    for (int i = 0; i < n; i++) {
+      long yKey = (long) ((pts.getY(i) - minY) * scale);
+      keys[i] = (yKey << 32) | i;
+    }
+    Arrays.sort(keys);
+    
+    int[] order = new int[n];
+    for (int i = 0; i < keys.length; i++) {
+      order[i] = (int) keys[i];
+    }
+    return order;
+  }
+  
   /**
    * Creates the indexed geometry, creating it if necessary.
    */
@@ -122,6 +270,99 @@ public class IndexedPointInAreaLocator
     }
   }
   
+  /**
+   * Provides the ordinates of the points to be located,
+   * without copying them from the caller's storage.
+   */
+  private interface PointSource
+  {
+    int size();
+    double getX(int i);
+    double getY(int i);
+  }
+  
+  /**
+   * Locates a sequence of points,
+   * reusing the working state for each point.
+   * Instances are not thread-safe.
+   */
+  private static class BatchLocator
+  {
+    private final IntervalIndexedGeometry index;
+    private final Coordinate pt = new Coordinate();
+    private final RayCrossingCounter counter = new RayCrossingCounter(pt);
+    private final SegmentVisitor visitor = new SegmentVisitor(counter);
+    
+    BatchLocator(IntervalIndexedGeometry index)
+    {
+      this.index = index;
+    }
+    
+    public int locate(double x, double y)
+    {
+      pt.x = x;
+      pt.y = y;
+      counter.reset(pt);
+      index.query(y, y, visitor);
+      return counter.getLocation();
+    }
+    
+    /**
+     * Locates the points in a range of the processing order.
+     * 
+     * @param order the processing order of the points, or null to use input order
+     */
+    public void locate(PointSource pts, int[] order, int[] locations, int start, int end)
+    {
+      for (int k = start; k < end; k++) {
+        int i = order == null ? k : order[k];
+        locations[i] = locate(pts.getX(i), pts.getY(i));
+      }
+    }
+  }
+  
+  /**
+   * Locates a range of points, splitting the range
+   * into subtasks to be run concurrently if it is large.
+   */
+  private static class LocateTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_TASK_SIZE = 1024;
+    
+    private final IntervalIndexedGeometry index;
+    private final PointSource pts;
+    private final int[] order;
+    private final int[] locations;
+    private final int start;
+    private final int end;
+
+    LocateTask(IntervalIndexedGeometry index, PointSource pts, int[] order, 
+        int[] locations, int start, int end) {
+      this.index = index;
+      this.pts = pts;
+      this.order = order;
+      this.locations = locations;
+      this.start = start;
+      this.end = end;
+    }
+    
+    @Override
+    protected void compute()
+    {
+      if (end - start <= MIN_TASK_SIZE) {
+        BatchLocator locator = new BatchLocator(index);
+        locator.locate(pts, order, locations, start, end);
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(
+          new LocateTask(index, pts, order, locations, start, mid),
+          new LocateTask(index, pts, order, locations, mid, end));
+    }
+  }
+  
   private static class IntervalIndexedGeometry
   {
     private final boolean isEmpty;
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom;
+
+/**
+ * A {@link CoordinateSequence} which stores its X and Y ordinates
+ * in separate arrays, and provides them for direct access.
+ * Algorithms which only need X and Y values
+ * (such as {@link org.locationtech.jts.algorithm.Area})
+ * can use the arrays to avoid per-coordinate method calls.
+ * <p>
+ * The returned arrays are the internal storage of the sequence,
+ * and must be treated as <b>read-only</b>.
+ * Use {@link CoordinateSequence#setOrdinate(int, int, double)}
+ * to change values, so that the sequence can keep any derived state
+ * (such as cached {@link Coordinate}s) consistent.
+ */
+public interface OrdinateArraySequence
+  extends CoordinateSequence
+{
+  /**
+   * Gets the array of X ordinates.
+   * The array contains at least {@link #size()} values,
+   * and must not be modified.
+   *
+   * @return the array of X ordinates
+   */
+  double[] getXArray();
+
+  /**
+   * Gets the array of Y ordinates.
+   * The array contains at least {@link #size()} values,
+   * and must not be modified.
+   *
+   * @return the array of Y ordinates
+   */
+  double[] getYArray();
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.ref.SoftReference;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.CoordinateXY;
+import org.locationtech.jts.geom.CoordinateXYM;
+import org.locationtech.jts.geom.CoordinateXYZM;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A {@link CoordinateSequence} which is a view of packed <code>double</code> ordinate values
+ * stored in a {@link ByteBuffer}
+ * (such as the coordinates in a WKB geometry).
+ * Ordinate values are decoded on demand, using the byte order of the buffer, 
+ * so creating a sequence does not copy the coordinate data.
+ * <p>
+ * {@link Coordinate}s returned by #toArray and #get are copies
+ * of the values in the buffer.
+ * Created Coordinate arrays are cached using a soft reference.
+ * The sequence never writes to the buffer it was created over.
+ * The first call to a setter copies the ordinate values 
+ * into a new heap buffer, which the sequence then uses
+ * (so modifying a sequence does not change the source bytes).
+ * {@link #copy()} returns a sequence over a new heap buffer.
+ * <p>
+ * When serialized, the ordinate values are written, 
+ * and the deserialized sequence uses a heap buffer.
+ */
+public class ByteBufferCoordinateSequence
+    implements CoordinateSequence, Serializable
+{
+  private static final long serialVersionUID = -1468312862117364562L;
+
+  private static final int DOUBLE_SIZE = 8;
+
+  private transient ByteBuffer buf;
+  private transient int offset;
+  private int size;
+  private int dimension;
+  private int measures;
+
+  /**
+   * A soft reference to the Coordinate[] representation of this sequence.
+   * Makes repeated coordinate array accesses more efficient.
+   */
+  private transient SoftReference<Coordinate[]> coordRef;
+
+  /**
+   * Creates a sequence over the packed ordinate values in a buffer,
+   * starting at a given offset.
+   * The values are read using the byte order of the buffer.
+   * The buffer contents are not copied,
+   * and are accessed through a read-only view.
+   * 
+   * @param buf the buffer containing the ordinate values
+   * @param offset the offset in the buffer of the first ordinate value
+   * @param size the number of coordinates in the sequence
+   * @param dimension the total number of ordinates that make up a {@link Coordinate} in this sequence.
+   * @param measures the number of measure-ordinates each {@link Coordinate} in this sequence has.
+   * 
+   * @throws IllegalArgumentException if the buffer does not contain the sequence values
+   */
+  public ByteBufferCoordinateSequence(ByteBuffer buf, int offset, int size, int dimension, int measures) {
+    if (dimension - measures < 2) {
+      throw new IllegalArgumentException("Must have at least 2 spatial dimensions");
+    }
+    if (offset < 0 || size < 0 
+        || offset + (long) size * dimension * DOUBLE_SIZE > buf.limit()) {
+      throw new IllegalArgumentException("Buffer does not contain the sequence values");
+    }
+    this.buf = buf.asReadOnlyBuffer().order(buf.order());
+    this.offset = offset;
+    this.size = size;
+    this.dimension = dimension;
+    this.measures = measures;
+  }
+
+  /**
+   * @see CoordinateSequence#getDimension()
+   */
+  public int getDimension() {
+    return dimension;
+  }
+
+  /**
+   * @see CoordinateSequence#getMeasures()
+   */
+  @Override
+  public int getMeasures() {
+    return measures;
+  }
+
+  /**
+   * @see CoordinateSequence#size()
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @see CoordinateSequence#getCoordinate(int)
+   */
+  public Coordinate getCoordinate(int i) {
+    Coordinate[] coords = getCachedCoords();
+    if (coords != null)
+      return coords[i];
+    return getCoordinateCopy(i);
+  }
+
+  /**
+   * @see CoordinateSequence#getCoordinateCopy(int)
+   */
+  public Coordinate getCoordinateCopy(int i) {
+    double x = getOrdinate(i, 0);
+    double y = getOrdinate(i, 1);
+    if (dimension == 2 && measures == 0) {
+      return new CoordinateXY(x, y);
+    }
+    else if (dimension == 3 && measures == 0) {
+      return new Coordinate(x, y, getOrdinate(i, 2));
+    }
+    else if (dimension == 3 && measures == 1) {
+      return new CoordinateXYM(x, y, getOrdinate(i, 2));
+    }
+    else if (dimension == 4) {
+      return new CoordinateXYZM(x, y, getOrdinate(i, 2), getOrdinate(i, 3));
+    }
+    return new Coordinate(x, y);
+  }
+
+  /**
+   * @see CoordinateSequence#getCoordinate(int, Coordinate)
+   */
+  public void getCoordinate(int i, Coordinate coord) {
+    coord.x = getOrdinate(i, 0);
+    coord.y = getOrdinate(i, 1);
+    if (hasZ()) {
+      coord.setZ(getZ(i));
+    }
+    if (hasM()) {
+      coord.setM(getM(i));
+    }
+  }
+
+  /**
+   * @see CoordinateSequence#getX(int)
+   */
+  public double getX(int index) {
+    return getOrdinate(index, 0);
+  }
+
+  /**
+   * @see CoordinateSequence#getY(int)
+   */
+  public double getY(int index) {
+    return getOrdinate(index, 1);
+  }
+
+  /**
+   * @see CoordinateSequence#getOrdinate(int, int)
+   *      Beware, for performance reasons the ordinate index is not checked, if
+   *      it's over dimensions you may not get an exception but a meaningless
+   *      value.
+   */
+  public double getOrdinate(int index, int ordinateIndex) {
+    return buf.getDouble(offset + (index * dimension + ordinateIndex) * DOUBLE_SIZE);
+  }
+
+  /**
+   * Sets an ordinate value.
+   * The first time a value is set, the ordinate values 
+   * are copied out of the source buffer, 
+   * which is never modified.
+   * 
+   * @see CoordinateSequence#setOrdinate(int, int, double)
+   */
+  public void setOrdinate(int index, int ordinateIndex, double value) {
+    coordRef = null;
+    if (buf.isReadOnly()) {
+      buf = copyValues();
+      offset = 0;
+    }
+    buf.putDouble(offset + (index * dimension + ordinateIndex) * DOUBLE_SIZE, value);
+  }
+
+  /**
+   * @see CoordinateSequence#toCoordinateArray()
+   */
+  public Coordinate[] toCoordinateArray() {
+    Coordinate[] coords = getCachedCoords();
+    if (coords != null)
+      return coords;
+
+    coords = new Coordinate[size];
+    for (int i = 0; i < coords.length; i++) {
+      coords[i] = getCoordinateCopy(i);
+    }
+    coordRef = new SoftReference<Coordinate[]>(coords);
+    return coords;
+  }
+
+  private Coordinate[] getCachedCoords() {
+    if (coordRef == null) 
+      return null;
+    Coordinate[] coords = coordRef.get();
+    if (coords == null) 
+      coordRef = null;
+    return coords;
+  }
+
+  /**
+   * @see CoordinateSequence#expandEnvelope(Envelope)
+   */
+  public Envelope expandEnvelope(Envelope env) {
+    int stride = dimension * DOUBLE_SIZE;
+    int end = offset + size * stride;
+    for (int pos = offset; pos < end; pos += stride) {
+      env.expandToInclude(buf.getDouble(pos), buf.getDouble(pos + DOUBLE_SIZE));
+    }
+    return env;
+  }
+
+  /**
+   * @see java.lang.Object#clone()
+   * @see CoordinateSequence#clone()
+   * @deprecated
+   */
+  public Object clone() {
+    return copy();
+  }
+
+  /**
+   * Creates a copy of this sequence 
+   * over a new heap buffer.
+   * 
+   * @see CoordinateSequence#copy()
+   */
+  public ByteBufferCoordinateSequence copy() {
+    ByteBufferCoordinateSequence copy = new ByteBufferCoordinateSequence(
+        ByteBuffer.allocate(0), 0, 0, dimension, measures);
+    copy.buf = copyValues();
+    copy.size = size;
+    return copy;
+  }
+
+  /**
+   * Copies the ordinate values of this sequence
+   * into a new writable heap buffer.
+   * 
+   * @return a buffer containing the ordinate values, starting at offset 0
+   */
+  private ByteBuffer copyValues() {
+    int len = size * dimension * DOUBLE_SIZE;
+    ByteBuffer src = buf.duplicate();
+    ((Buffer) src).position(offset);
+    ((Buffer) src).limit(offset + len);
+    ByteBuffer copy = ByteBuffer.allocate(len).order(buf.order());
+    copy.put(src);
+    return copy;
+  }
+
+  public String toString()
+  {
+    return CoordinateSequences.toString(this);
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    int n = size * dimension;
+    for (int i = 0; i < n; i++) {
+      out.writeDouble(buf.getDouble(offset + i * DOUBLE_SIZE));
+    }
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    int n = size * dimension;
+    buf = ByteBuffer.allocate(n * DOUBLE_SIZE).order(ByteOrder.nativeOrder());
+    for (int i = 0; i < n; i++) {
+      buf.putDouble(i * DOUBLE_SIZE, in.readDouble());
+    }
+    offset = 0;
+  }
+}
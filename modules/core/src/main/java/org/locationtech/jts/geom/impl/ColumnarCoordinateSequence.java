@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.CoordinateXY;
+import org.locationtech.jts.geom.CoordinateXYM;
+import org.locationtech.jts.geom.CoordinateXYZM;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.OrdinateArraySequence;
+
+/**
+ * A {@link CoordinateSequence} implementation which stores 
+ * each ordinate in a separate array
+ * (a "structure of arrays" or columnar layout).
+ * This allows loops which only access some ordinates
+ * (such as X and Y) to read memory sequentially.
+ * The ordinate arrays are available via {@link #getXArray()}, 
+ * {@link #getYArray()} and {@link #getOrdinateArray(int)},
+ * and are used directly by algorithms which support
+ * {@link OrdinateArraySequence}s.
+ * The arrays are the internal storage of the sequence
+ * and must be treated as read-only.
+ * <p>
+ * As with {@link PackedCoordinateSequence},
+ * {@link Coordinate}s returned by #toArray and #get are copies
+ * of the internal values.
+ * To change the actual values, use the provided setters.
+ * Created Coordinate arrays are cached using a soft reference.
+ * The cache is cleared each time the coordinate sequence contents are
+ * modified through a setter method.
+ * Writing to the ordinate arrays directly would leave the cache stale,
+ * which is why they must not be modified.
+ *
+ * @see ColumnarCoordinateSequenceFactory
+ * 
+ */
+public class ColumnarCoordinateSequence
+    implements OrdinateArraySequence, Serializable
+{
+  private static final long serialVersionUID = 3214538829146721052L;
+
+  /**
+   * The ordinate arrays, indexed by ordinate index
+   */
+  private double[][] ordinates;
+  
+  private int measures;
+  
+  private int size;
+  
+  /**
+   * A soft reference to the Coordinate[] representation of this sequence.
+   * Makes repeated coordinate array accesses more efficient.
+   */
+  private transient SoftReference<Coordinate[]> coordRef;
+
+  /**
+   * Creates a sequence from a set of ordinate arrays.
+   * The arrays are not copied, 
+   * so they must not be modified after the sequence is created.
+   * 
+   * @param ordinates the ordinate arrays, in ordinate index order (X, Y, Z, M), all of the same length
+   * @param measures the number of measure-ordinates each {@link Coordinate} in this sequence has.
+   */
+  public ColumnarCoordinateSequence(double[][] ordinates, int measures) {
+    checkDimension(ordinates.length, measures);
+    this.ordinates = ordinates;
+    this.measures = measures;
+    this.size = ordinates[0].length;
+    for (int i = 1; i < ordinates.length; i++) {
+      if (ordinates[i].length != size)
+        throw new IllegalArgumentException("Ordinate arrays must have the same length");
+    }
+  }
+  
+  /**
+   * Creates an XY sequence from arrays of X and Y ordinates.
+   * The arrays are not copied, 
+   * so they must not be modified after the sequence is created.
+   * 
+   * @param x the X ordinates
+   * @param y the Y ordinates
+   */
+  public ColumnarCoordinateSequence(double[] x, double[] y) {
+    this(new double[][] { x, y }, 0);
+  }
+  
+  /**
+   * Creates a sequence of a given size, with all ordinates zero.
+   * 
+   * @param size the number of coordinates in this sequence
+   * @param dimension the total number of ordinates that make up a {@link Coordinate} in this sequence.
+   * @param measures the number of measure-ordinates each {@link Coordinate} in this sequence has.
+   */
+  public ColumnarCoordinateSequence(int size, int dimension, int measures) {
+    checkDimension(dimension, measures);
+    this.ordinates = new double[dimension][size];
+    this.measures = measures;
+    this.size = size;
+  }
+  
+  /**
+   * Creates a sequence containing the values of an array of {@link Coordinate}s.
+   * 
+   * @param coordinates an array of {@link Coordinate}s
+   * @param dimension the total number of ordinates that make up a {@link Coordinate} in this sequence.
+   * @param measures the number of measure-ordinates each {@link Coordinate} in this sequence has.
+   */
+  public ColumnarCoordinateSequence(Coordinate[] coordinates, int dimension, int measures) {
+    this(coordinates == null ? 0 : coordinates.length, dimension, measures);
+    for (int i = 0; i < size; i++) {
+      for (int ord = 0; ord < dimension; ord++) {
+        ordinates[ord][i] = coordinates[i].getOrdinate(ord);
+      }
+    }
+  }
+  
+  private static void checkDimension(int dimension, int measures) {
+    if (dimension - measures < 2) {
+      throw new IllegalArgumentException("Must have at least 2 spatial dimensions");
+    }
+  }
+  
+  /**
+   * Gets the array of X ordinates.
+   * The array is the internal storage of this sequence,
+   * and must not be modified.
+   * 
+   * @return the array of X ordinates
+   */
+  public double[] getXArray() {
+    return ordinates[CoordinateSequence.X];
+  }
+
+  /**
+   * Gets the array of Y ordinates.
+   * The array is the internal storage of this sequence,
+   * and must not be modified.
+   * 
+   * @return the array of Y ordinates
+   */
+  public double[] getYArray() {
+    return ordinates[CoordinateSequence.Y];
+  }
+  
+  /**
+   * Gets the array of values for an ordinate.
+   * The array is the internal storage of this sequence,
+   * and must not be modified.
+   * 
+   * @param ordinateIndex the ordinate index, less than the dimension
+   * @return the array of ordinate values
+   */
+  public double[] getOrdinateArray(int ordinateIndex) {
+    return ordinates[ordinateIndex];
+  }
+
+  /**
+   * @see CoordinateSequence#getDimension()
+   */
+  public int getDimension() {
+    return ordinates.length;
+  }
+
+  /**
+   * @see CoordinateSequence#getMeasures()
+   */
+  @Override
+  public int getMeasures() {
+    return measures;
+  }
+
+  /**
+   * @see CoordinateSequence#size()
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @see CoordinateSequence#getCoordinate(int)
+   */
+  public Coordinate getCoordinate(int i) {
+    Coordinate[] coords = getCachedCoords();
+    if (coords != null)
+      return coords[i];
+    return getCoordinateCopy(i);
+  }
+
+  /**
+   * @see CoordinateSequence#getCoordinateCopy(int)
+   */
+  public Coordinate getCoordinateCopy(int i) {
+    double x = ordinates[0][i];
+    double y = ordinates[1][i];
+    int dimension = ordinates.length;
+    if (dimension == 2 && measures == 0) {
+      return new CoordinateXY(x, y);
+    }
+    else if (dimension == 3 && measures == 0) {
+      return new Coordinate(x, y, ordinates[2][i]);
+    }
+    else if (dimension == 3 && measures == 1) {
+      return new CoordinateXYM(x, y, ordinates[2][i]);
+    }
+    else if (dimension == 4) {
+      return new CoordinateXYZM(x, y, ordinates[2][i], ordinates[3][i]);
+    }
+    return new Coordinate(x, y);
+  }
+
+  /**
+   * @see CoordinateSequence#getCoordinate(int, Coordinate)
+   */
+  public void getCoordinate(int i, Coordinate coord) {
+    coord.x = ordinates[0][i];
+    coord.y = ordinates[1][i];
+    if (hasZ()) {
+      coord.setZ(getZ(i));
+    }
+    if (hasM()) {
+      coord.setM(getM(i));
+    }
+  }
+
+  /**
+   * @see CoordinateSequence#getX(int)
+   */
+  public double getX(int index) {
+    return ordinates[0][index];
+  }
+
+  /**
+   * @see CoordinateSequence#getY(int)
+   */
+  public double getY(int index) {
+    return ordinates[1][index];
+  }
+
+  /**
+   * @see CoordinateSequence#getOrdinate(int, int)
+   */
+  public double getOrdinate(int index, int ordinateIndex) {
+    return ordinates[ordinateIndex][index];
+  }
+
+  /**
+   * @see CoordinateSequence#setOrdinate(int, int, double)
+   */
+  public void setOrdinate(int index, int ordinateIndex, double value) {
+    coordRef = null;
+    ordinates[ordinateIndex][index] = value;
+  }
+
+  /**
+   * @see CoordinateSequence#toCoordinateArray()
+   */
+  public Coordinate[] toCoordinateArray() {
+    Coordinate[] coords = getCachedCoords();
+    if (coords != null)
+      return coords;
+
+    coords = new Coordinate[size];
+    for (int i = 0; i < coords.length; i++) {
+      coords[i] = getCoordinateCopy(i);
+    }
+    coordRef = new SoftReference<Coordinate[]>(coords);
+    return coords;
+  }
+
+  private Coordinate[] getCachedCoords() {
+    if (coordRef == null) 
+      return null;
+    Coordinate[] coords = coordRef.get();
+    if (coords == null) 
+      coordRef = null;
+    return coords;
+  }
+
+  /**
+   * Expands an envelope to include this sequence.
+   * The X and Y ordinate arrays are scanned separately,
+   * and the envelope is expanded only once.
+   * 
+   * @see CoordinateSequence#expandEnvelope(Envelope)
+   */
+  public Envelope expandEnvelope(Envelope env) {
+    if (size == 0) return env;
+    double[] x = ordinates[0];
+    double[] y = ordinates[1];
+    double minx = x[0];
+    double maxx = x[0];
+    for (int i = 1; i < size; i++) {
+      double v = x[i];
+      if (v < minx) minx = v;
+      if (v > maxx) maxx = v;
+    }
+    double miny = y[0];
+    double maxy = y[0];
+    for (int i = 1; i < size; i++) {
+      double v = y[i];
+      if (v < miny) miny = v;
+      if (v > maxy) maxy = v;
+    }
+    env.expandToInclude(minx, miny);
+    env.expandToInclude(maxx, maxy);
+    return env;
+  }
+
+  /**
+   * @see java.lang.Object#clone()
+   * @see CoordinateSequence#clone()
+   * @deprecated
+   */
+  public Object clone() {
+    return copy();
+  }
+
+  /**
+   * @see CoordinateSequence#copy()
+   */
+  public ColumnarCoordinateSequence copy() {
+    double[][] clone = new double[ordinates.length][];
+    for (int i = 0; i < ordinates.length; i++) {
+      clone[i] = Arrays.copyOf(ordinates[i], size);
+    }
+    return new ColumnarCoordinateSequence(clone, measures);
+  }
+
+  public String toString()
+  {
+    return CoordinateSequences.toString(this);
+  }
+
+  private Object readResolve() throws ObjectStreamException {
+    coordRef = null;
+    return this;
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import java.io.Serializable;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Coordinates;
+
+/**
+ * Creates {@link ColumnarCoordinateSequence}s, 
+ * which store each ordinate in a separate array.
+ */
+public final class ColumnarCoordinateSequenceFactory
+    implements CoordinateSequenceFactory, Serializable
+{
+  private static final long serialVersionUID = -2580251207394858337L;
+  private static final ColumnarCoordinateSequenceFactory instanceObject = new ColumnarCoordinateSequenceFactory();
+
+  private static final int DEFAULT_MEASURES = 0;
+
+  private static final int DEFAULT_DIMENSION = 3;
+
+  private ColumnarCoordinateSequenceFactory() {
+  }
+
+  private Object readResolve() {
+    return ColumnarCoordinateSequenceFactory.instance();
+  }
+
+  /**
+   * Returns the singleton instance of {@link ColumnarCoordinateSequenceFactory}
+   * 
+   * @return the singleton instance
+   */
+  public static ColumnarCoordinateSequenceFactory instance() {
+    return instanceObject;
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(Coordinate[])
+   */
+  public CoordinateSequence create(Coordinate[] coordinates) {
+    int dimension = DEFAULT_DIMENSION;
+    int measures = DEFAULT_MEASURES;
+    if (coordinates != null && coordinates.length > 0 && coordinates[0] != null) {
+      Coordinate first = coordinates[0];
+      dimension = Coordinates.dimension(first);
+      measures = Coordinates.measures(first);
+    }
+    return new ColumnarCoordinateSequence(coordinates, dimension, measures);
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(CoordinateSequence)
+   */
+  public CoordinateSequence create(CoordinateSequence coordSeq) {
+    if (coordSeq instanceof ColumnarCoordinateSequence) {
+      return ((ColumnarCoordinateSequence) coordSeq).copy();
+    }
+    int size = coordSeq.size();
+    int dimension = coordSeq.getDimension();
+    ColumnarCoordinateSequence seq = new ColumnarCoordinateSequence(size, dimension, coordSeq.getMeasures());
+    for (int ord = 0; ord < dimension; ord++) {
+      double[] values = seq.getOrdinateArray(ord);
+      for (int i = 0; i < size; i++) {
+        values[i] = coordSeq.getOrdinate(i, ord);
+      }
+    }
+    return seq;
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(int, int)
+   */
+  public CoordinateSequence create(int size, int dimension) {
+    return new ColumnarCoordinateSequence(size, dimension, Math.max(DEFAULT_MEASURES, dimension - 3));
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(int, int, int)
+   */
+  public CoordinateSequence create(int size, int dimension, int measures) {
+    return new ColumnarCoordinateSequence(size, dimension, measures);
+  }
+}
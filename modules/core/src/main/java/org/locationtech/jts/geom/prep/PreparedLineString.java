@@ -27,13 +27,21 @@ import org.locationtech.jts.noding.SegmentStringUtil;
 public class PreparedLineString
   extends BasicPreparedGeometry
 {
-  private FastSegmentSetIntersectionFinder segIntFinder = null;
+  // created lazily, and volatile so it can be read without locking
+  private volatile FastSegmentSetIntersectionFinder segIntFinder = null;
 
   public PreparedLineString(Lineal line) {
     super((Geometry) line);
   }
 
-  public synchronized FastSegmentSetIntersectionFinder getIntersectionFinder()
+  /**
+   * Gets the indexed intersection finder for this geometry.
+   * The finder is created on first use,
+   * and subsequent calls do not require synchronization.
+   * 
+   * @return the intersection finder
+   */
+  public FastSegmentSetIntersectionFinder getIntersectionFinder()
   {
   	/**
   	 * MD - Another option would be to use a simple scan for 
@@ -41,9 +49,17 @@ public class PreparedLineString
   	 * However, testing indicates that there is no particular advantage 
   	 * to this approach.
   	 */
-  	if (segIntFinder == null)
-  		segIntFinder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
-    return segIntFinder;
+    FastSegmentSetIntersectionFinder finder = segIntFinder;
+    if (finder == null) {
+      synchronized (this) {
+        finder = segIntFinder;
+        if (finder == null) {
+          finder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
+          segIntFinder = finder;
+        }
+      }
+    }
+    return finder;
   }
   
   public boolean intersects(Geometry g)
@@ -39,9 +39,13 @@ public class PreparedPolygon
   extends BasicPreparedGeometry
 {
 	private final boolean isRectangle;
-	// create these lazily, since they are expensive
-	private FastSegmentSetIntersectionFinder segIntFinder = null;
-	private PointOnGeometryLocator pia = null;
+	/**
+	 * Create these lazily, since they are expensive.
+	 * They are volatile so that once created they 
+	 * can be safely read without locking.
+	 */
+	private volatile FastSegmentSetIntersectionFinder segIntFinder = null;
+	private volatile PointOnGeometryLocator pia = null;
 
   public PreparedPolygon(Polygonal poly) {
     super((Geometry) poly);
@@ -50,10 +54,12 @@ public class PreparedPolygon
 
   /**
    * Gets the indexed intersection finder for this geometry.
+   * The finder is created on first use,
+   * and subsequent calls do not require synchronization.
    * 
    * @return the intersection finder
    */
-  public synchronized FastSegmentSetIntersectionFinder getIntersectionFinder()
+  public FastSegmentSetIntersectionFinder getIntersectionFinder()
   {
   	/**
   	 * MD - Another option would be to use a simple scan for 
@@ -61,17 +67,39 @@ public class PreparedPolygon
   	 * However, testing indicates that there is no particular advantage 
   	 * to this approach.
   	 */
-  	if (segIntFinder == null)
-  		segIntFinder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
-  	return segIntFinder;
+    FastSegmentSetIntersectionFinder finder = segIntFinder;
+    if (finder == null) {
+      synchronized (this) {
+        finder = segIntFinder;
+        if (finder == null) {
+          finder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
+          segIntFinder = finder;
+        }
+      }
+    }
+    return finder;
   }
   
-  public synchronized PointOnGeometryLocator getPointLocator()
+  /**
+   * Gets the indexed point locator for this geometry.
+   * The locator is created on first use,
+   * and subsequent calls do not require synchronization.
+   * 
+   * @return the point locator
+   */
+  public PointOnGeometryLocator getPointLocator()
   {
-  	if (pia == null)
-      pia = new IndexedPointInAreaLocator(getGeometry());
- 		
-    return pia;
+    PointOnGeometryLocator locator = pia;
+    if (locator == null) {
+      synchronized (this) {
+        locator = pia;
+        if (locator == null) {
+          locator = new IndexedPointInAreaLocator(getGeometry());
+          pia = locator;
+        }
+      }
+    }
+    return locator;
   }
   
   public boolean intersects(Geometry g)
@@ -21,6 +21,8 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.index.ArrayListVisitor;
 import org.locationtech.jts.index.ItemVisitor;
 import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
 import org.locationtech.jts.index.strtree.STRtree;
 
 /**
@@ -78,7 +80,11 @@ public class HPRtree
 
   private double[] nodeBounds;
 
-  private boolean isBuilt = false;
+  /**
+   * Volatile so that the built tree can be read by
+   * other threads without synchronization.
+   */
+  private volatile boolean isBuilt = false;
 
   //public int nodeIntersectsCount;
 
@@ -216,6 +222,287 @@ public class HPRtree
         env2.getMaxY() < env1.getMinY());
   }
   
+  /**
+   * Finds the item in this tree which is nearest to the given {@link Object}, 
+   * using {@link ItemDistance} as the distance metric.
+   * <p>
+   * The query <tt>item</tt> does <b>not</b> have to be 
+   * contained in the tree, but it does 
+   * have to be compatible with the <tt>itemDist</tt> 
+   * distance metric. 
+   * 
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbour of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @return the nearest item in this tree
+   *    or <code>null</code> if the tree is empty
+   *    
+   * @see #nearestNeighbour(Envelope, Object, ItemDistance, int)
+   */
+  public Object nearestNeighbour(Envelope env, Object item, ItemDistance itemDist) {
+    Object[] nearest = nearestNeighbour(env, item, itemDist, 1);
+    if (nearest.length == 0) return null;
+    return nearest[0];
+  }
+  
+  /**
+   * Finds up to k items in this tree which are the nearest neighbours to the given {@code item}, 
+   * using {@code itemDist} as the distance metric.
+   * <p>
+   * A best-first search is used.
+   * Nodes and items are visited in order of the distance 
+   * from their envelope to the envelope of the query item,
+   * using a priority queue which works directly on the packed node bounds.
+   * The item distance is only computed for items 
+   * which reach the head of the queue,
+   * and the search stops as soon as k items have been found.
+   * This requires that the distance between two envelopes
+   * is a lower bound for the distance between the items they contain
+   * (which is the case for Euclidean distance between geometries).
+   * <p>
+   * The query {@code item} does <b>not</b> have to be 
+   * contained in the tree, but it does 
+   * have to be compatible with the {@code itemDist} 
+   * distance metric. 
+   * The items in the tree are passed to {@code itemDist}
+   * as the first argument.
+   * <p>
+   * If the tree size is smaller than k fewer items will be returned.
+   * If the tree is empty an array of size 0 is returned.
+   * 
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbours of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param k the maximum number of nearest items to search for
+   * @return an array of the nearest items found (with length between 0 and k), 
+   *    in order of increasing distance
+   */
+  public Object[] nearestNeighbour(Envelope env, Object item, ItemDistance itemDist, int k) {
+    build();
+    int nResult = Math.min(k, items.size());
+    if (nResult <= 0) return new Object[0];
+    
+    ItemBoundable queryItem = new ItemBoundable(env, item);
+    NodeQueue queue = new NodeQueue();
+    if (layerStartIndex == null) {
+      enqueueItems(0, env, queue);
+    }
+    else {
+      int layerIndex = layerStartIndex.length - 2;
+      enqueueNodes(layerStartIndex[layerIndex], layerStartIndex[layerIndex + 1], env, queue);
+    }
+    
+    Object[] result = new Object[nResult];
+    int nFound = 0;
+    while (nFound < nResult && ! queue.isEmpty()) {
+      int id = queue.poll();
+      if (id >= 0) {
+        expandNode(id, env, queue);
+        continue;
+      }
+      int itemIndex = itemIndex(id);
+      Item treeItem = items.get(itemIndex);
+      if (isItemDistance(id)) {
+        result[nFound++] = treeItem.getItem();
+      }
+      else {
+        /**
+         * The envelope distance is only a lower bound,
+         * so requeue the item with the actual item distance
+         */
+        double dist = itemDist.distance(treeItem, queryItem);
+        queue.add(dist, itemId(itemIndex, true));
+      }
+    }
+    return result;
+  }
+
+  private void expandNode(int nodeIndex, Envelope env, NodeQueue queue) {
+    int layerIndex = layerOf(nodeIndex);
+    int nodeOffset = nodeIndex - layerStartIndex[layerIndex];
+    if (layerIndex == 0) {
+      enqueueItems(nodeOffset / ENV_SIZE * nodeCapacity, env, queue);
+    }
+    else {
+      int childStart = layerStartIndex[layerIndex - 1] + nodeOffset * nodeCapacity;
+      int childEnd = Math.min(childStart + ENV_SIZE * nodeCapacity, layerStartIndex[layerIndex]);
+      enqueueNodes(childStart, childEnd, env, queue);
+    }
+  }
+  
+  private void enqueueNodes(int nodeStart, int nodeEnd, Envelope env, NodeQueue queue) {
+    for (int nodeIndex = nodeStart; nodeIndex < nodeEnd; nodeIndex += ENV_SIZE) {
+      queue.add(distance(nodeIndex, env), nodeIndex);
+    }
+  }
+  
+  private void enqueueItems(int blockStart, Envelope env, NodeQueue queue) {
+    int blockEnd = Math.min(blockStart + nodeCapacity, items.size());
+    for (int i = blockStart; i < blockEnd; i++) {
+      queue.add(distance(items.get(i).getEnvelope(), env), itemId(i, false));
+    }
+  }
+  
+  /**
+   * Finds the layer containing a node.
+   * 
+   * @param nodeIndex the index of the node bounds
+   * @return the index of the layer containing the node
+   */
+  private int layerOf(int nodeIndex) {
+    int layerIndex = layerStartIndex.length - 2;
+    while (layerIndex > 0 && nodeIndex < layerStartIndex[layerIndex]) {
+      layerIndex--;
+    }
+    return layerIndex;
+  }
+
+  /*
+   * Queue ids for nodes are the (non-negative) index of the node bounds.
+   * Queue ids for items are negative, and record the item index
+   * and whether the queue distance is the item distance
+   * or the distance to the item envelope.
+   */
+  
+  private static int itemId(int itemIndex, boolean isItemDistance) {
+    return -(2 * itemIndex + (isItemDistance ? 1 : 0)) - 1;
+  }
+  
+  private static int itemIndex(int id) {
+    return (-id - 1) >> 1;
+  }
+  
+  private static boolean isItemDistance(int id) {
+    return ((-id - 1) & 1) == 1;
+  }
+  
+  /**
+   * Queries the tree to find all items which lie within a given distance
+   * of the query item,
+   * using {@link ItemDistance} as the distance metric.
+   * <p>
+   * Subtrees whose bounds are further from the query envelope 
+   * than the distance are skipped,
+   * and the item distance is computed only for items whose envelopes
+   * lie within the distance.
+   * This requires that the distance between two envelopes
+   * is a lower bound for the distance between the items they contain
+   * (which is the case for Euclidean distance between geometries).
+   * 
+   * @param env the envelope of the query item
+   * @param item the query item
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param maxDistance the maximum distance of items from the query item
+   * @return a list of the items within the distance
+   */
+  public List queryWithinDistance(Envelope env, Object item, ItemDistance itemDist, double maxDistance) {
+    ArrayListVisitor visitor = new ArrayListVisitor();
+    queryWithinDistance(env, item, itemDist, maxDistance, visitor);
+    return visitor.getItems();
+  }
+
+  /**
+   * Queries the tree to find all items which lie within a given distance
+   * of the query item,
+   * using {@link ItemDistance} as the distance metric,
+   * and passes them to an {@link ItemVisitor}.
+   * 
+   * @param env the envelope of the query item
+   * @param item the query item
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param maxDistance the maximum distance of items from the query item
+   * @param visitor a visitor to pass the items found to
+   * 
+   * @see #queryWithinDistance(Envelope, Object, ItemDistance, double)
+   */
+  public void queryWithinDistance(Envelope env, Object item, ItemDistance itemDist, double maxDistance, ItemVisitor visitor) {
+    build();
+    if (items.isEmpty()) return;
+    if (distance(totalExtent, env) > maxDistance)
+      return;
+    
+    ItemBoundable queryItem = new ItemBoundable(env, item);
+    if (layerStartIndex == null) {
+      queryItemsWithinDistance(0, items.size(), queryItem, itemDist, maxDistance, visitor);
+      return;
+    }
+    int layerIndex = layerStartIndex.length - 2;
+    int layerSize = layerSize(layerIndex);
+    for (int i = 0; i < layerSize; i += ENV_SIZE) {
+      queryNodeWithinDistance(layerIndex, i, queryItem, itemDist, maxDistance, visitor);
+    }
+  }
+
+  private void queryNodeWithinDistance(int layerIndex, int nodeOffset, 
+      ItemBoundable queryItem, ItemDistance itemDist, double maxDistance, ItemVisitor visitor) {
+    int layerStart = layerStartIndex[layerIndex];
+    int nodeIndex = layerStart + nodeOffset;
+    if (distance(nodeIndex, (Envelope) queryItem.getBounds()) > maxDistance) return;
+    if (layerIndex == 0) {
+      int itemStart = nodeOffset / ENV_SIZE * nodeCapacity;
+      int itemEnd = Math.min(itemStart + nodeCapacity, items.size());
+      queryItemsWithinDistance(itemStart, itemEnd, queryItem, itemDist, maxDistance, visitor);
+      return;
+    }
+    int childOffset = nodeOffset * nodeCapacity;
+    int childLayerSize = layerSize(layerIndex - 1);
+    int childEnd = Math.min(childOffset + ENV_SIZE * nodeCapacity, childLayerSize);
+    for (int i = childOffset; i < childEnd; i += ENV_SIZE) {
+      queryNodeWithinDistance(layerIndex - 1, i, queryItem, itemDist, maxDistance, visitor);
+    }
+  }
+
+  private void queryItemsWithinDistance(int itemStart, int itemEnd, 
+      ItemBoundable queryItem, ItemDistance itemDist, double maxDistance, ItemVisitor visitor) {
+    Envelope env = (Envelope) queryItem.getBounds();
+    for (int i = itemStart; i < itemEnd; i++) {
+      Item treeItem = items.get(i);
+      if (distance(treeItem.getEnvelope(), env) > maxDistance) continue;
+      if (itemDist.distance(treeItem, queryItem) <= maxDistance) {
+        visitor.visitItem(treeItem.getItem());
+      }
+    }
+  }
+  
+  /**
+   * Computes the distance between a node and an envelope.
+   * This is the same as {@link Envelope#distance(Envelope)},
+   * but avoids the cost of {@link Math#hypot(double, double)}.
+   * The distance is only used to order and prune nodes and items,
+   * so the slightly lower accuracy is not significant.
+   * 
+   * @param nodeIndex the index of the node bounds
+   * @param env an envelope
+   * @return the distance between the node bounds and the envelope
+   */
+  private double distance(int nodeIndex, Envelope env) {
+    return distance(nodeBounds[nodeIndex], nodeBounds[nodeIndex+1], 
+        nodeBounds[nodeIndex+2], nodeBounds[nodeIndex+3], env);
+  }
+  
+  private static double distance(Envelope itemEnv, Envelope env) {
+    return distance(itemEnv.getMinX(), itemEnv.getMinY(), 
+        itemEnv.getMaxX(), itemEnv.getMaxY(), env);
+  }
+  
+  private static double distance(double minX, double minY, double maxX, double maxY, Envelope env) {
+    double dx = 0.0;
+    if (maxX < env.getMinX()) 
+      dx = env.getMinX() - maxX;
+    else if (minX > env.getMaxX()) 
+      dx = minX - env.getMaxX();
+    
+    double dy = 0.0;
+    if (maxY < env.getMinY()) 
+      dy = env.getMinY() - maxY;
+    else if (minY > env.getMaxY()) 
+      dy = minY - env.getMaxY();
+
+    if (dx == 0.0) return dy;
+    if (dy == 0.0) return dx;
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+  
   private int layerSize(int layerIndex) {
     int layerStart = layerStartIndex[layerIndex];
     int layerEnd = layerStartIndex[layerIndex + 1];
@@ -230,28 +517,36 @@ public class HPRtree
   
   /**
    * Builds the index, if not already built.
+   * Once the index is built this method returns immediately
+   * without synchronizing.
    */
-  public synchronized void build() {
+  public void build() {
     // skip if already built
     if (isBuilt) return;
-    isBuilt  = true;
-    // don't need to build an empty or very small tree
-    if (items.size() <= nodeCapacity) return;
+    buildTree();
+  }
 
-    sortItems();
-    //dumpItems(items);
-    
-    layerStartIndex = computeLayerIndices(items.size(), nodeCapacity);
-    // allocate storage
-    int nodeCount = layerStartIndex[ layerStartIndex.length - 1 ] / 4;
-    nodeBounds = createBoundsArray(nodeCount);
-    
-    // compute tree nodes
-    computeLeafNodes(layerStartIndex[1]);
-    for (int i = 1; i < layerStartIndex.length - 1; i++) {
-      computeLayerNodes(i);
+  private synchronized void buildTree() {
+    if (isBuilt) return;
+    // don't need to build an empty or very small tree
+    if (items.size() > nodeCapacity) {
+      sortItems();
+      //dumpItems(items);
+      
+      layerStartIndex = computeLayerIndices(items.size(), nodeCapacity);
+      // allocate storage
+      int nodeCount = layerStartIndex[ layerStartIndex.length - 1 ] / 4;
+      nodeBounds = createBoundsArray(nodeCount);
+      
+      // compute tree nodes
+      computeLeafNodes(layerStartIndex[1]);
+      for (int i = 1; i < layerStartIndex.length - 1; i++) {
+        computeLayerNodes(i);
+      }
+      //dumpNodes();
     }
-    //dumpNodes();
+    // publish only after the tree is fully built
+    isBuilt = true;
   }
 
   /*
@@ -365,6 +660,34 @@ public class HPRtree
     return array;
   }
 
+  /*
+   * Accessors for the built tree structure, 
+   * used by MappedHPRtree to write the tree
+   */
+  
+  int getNodeCapacity() {
+    return nodeCapacity;
+  }
+  
+  Envelope getExtent() {
+    return totalExtent;
+  }
+  
+  List<Item> getItems() {
+    build();
+    return items;
+  }
+  
+  int[] getLayerStartIndex() {
+    build();
+    return layerStartIndex;
+  }
+  
+  double[] getNodeBounds() {
+    build();
+    return nodeBounds;
+  }
+
   /**
    * Gets the extents of the internal index nodes
    * 
@@ -403,4 +726,79 @@ public class HPRtree
     }
   }
 
+  /**
+   * A binary min-heap of node and item ids, ordered by distance.
+   * The heap is stored in primitive arrays, 
+   * so that adding an entry does not allocate
+   * (other than to grow the arrays).
+   */
+  private static class NodeQueue {
+    
+    private static final int INITIAL_CAPACITY = 64;
+    
+    private double[] dist = new double[INITIAL_CAPACITY];
+    private int[] id = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    
+    boolean isEmpty() {
+      return size == 0;
+    }
+    
+    void add(double d, int i) {
+      if (size == dist.length) grow();
+      // sift up
+      int k = size++;
+      while (k > 0) {
+        int parent = (k - 1) / 2;
+        if (dist[parent] <= d) break;
+        dist[k] = dist[parent];
+        id[k] = id[parent];
+        k = parent;
+      }
+      dist[k] = d;
+      id[k] = i;
+    }
+    
+    /**
+     * Removes the entry with the smallest distance.
+     * 
+     * @return the id of the removed entry
+     */
+    int poll() {
+      int min = id[0];
+      size--;
+      if (size > 0) {
+        siftDown(dist[size], id[size]);
+      }
+      return min;
+    }
+    
+    private void siftDown(double d, int i) {
+      int k = 0;
+      int half = size / 2;
+      while (k < half) {
+        int child = 2 * k + 1;
+        int right = child + 1;
+        if (right < size && dist[right] < dist[child])
+          child = right;
+        if (d <= dist[child]) break;
+        dist[k] = dist[child];
+        id[k] = id[child];
+        k = child;
+      }
+      dist[k] = d;
+      id[k] = i;
+    }
+    
+    private void grow() {
+      int capacity = 2 * dist.length;
+      double[] newDist = new double[capacity];
+      int[] newId = new int[capacity];
+      System.arraycopy(dist, 0, newDist, 0, size);
+      System.arraycopy(id, 0, newId, 0, size);
+      dist = newDist;
+      id = newId;
+    }
+  }
+
 }
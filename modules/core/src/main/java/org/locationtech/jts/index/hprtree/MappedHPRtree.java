@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.util.IntArrayList;
+
+/**
+ * A read-only {@link HPRtree} which is queried directly 
+ * from a binary representation of the built tree,
+ * usually a memory-mapped file.
+ * This allows a large index to be built once and then 
+ * opened almost instantly, without deserializing it
+ * into the Java heap.
+ * The file pages are shared between all processes 
+ * which map the same file.
+ * <p>
+ * A tree is written using {@link #write(HPRtree, File)}.
+ * The items in the tree must be {@link Integer}s,
+ * which are usually the ids of the indexed features.
+ * The tree is opened using {@link #open(File)},
+ * or created over an existing buffer with {@link #MappedHPRtree(ByteBuffer)}.
+ * Query results are the item ids.
+ * <p>
+ * The format stores the tree node bounds and the item bounds
+ * in the Hilbert order of the built tree,
+ * so queries visit the same nodes as the original tree.
+ * The format is little-endian and is laid out as follows:
+ * <pre>
+ * int       magic number
+ * int       format version
+ * int       node capacity
+ * int       number of items
+ * int       number of layer indices (0 if there are no tree nodes)
+ * int[]     layer indices 
+ * (padding to an 8-byte boundary)
+ * double[4] tree extent (minX, minY, maxX, maxY)
+ * double[]  node bounds (minX, minY, maxX, maxY for each node)
+ * double[]  item bounds (minX, minY, maxX, maxY for each item)
+ * int[]     item ids
+ * </pre>
+ * Files larger than 2 GB are mapped in several segments.
+ * <p>
+ * Queries do not modify the tree, so a tree can be 
+ * queried by multiple threads concurrently.
+ * 
+ * @see HPRtree
+ * 
+ */
+public class MappedHPRtree
+{
+  private static final int MAGIC = 0x48505254; // "HPRT"
+  private static final int VERSION = 1;
+  
+  private static final int ENV_SIZE = 4;
+  private static final int DOUBLE_SIZE = 8;
+  private static final int INT_SIZE = 4;
+  
+  private static final int HEADER_SIZE = 5 * INT_SIZE;
+  
+  private static final int SEGMENT_SHIFT = 30;
+  
+  private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+  /**
+   * Writes a tree to a file.
+   * The tree is built if it has not been already.
+   * 
+   * @param tree the tree to write
+   * @param file the file to write to
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if an item in the tree is not an Integer
+   */
+  public static void write(HPRtree tree, File file) throws IOException {
+    checkItems(tree.getItems());
+    FileOutputStream os = new FileOutputStream(file);
+    try {
+      write(tree, os.getChannel());
+    }
+    finally {
+      os.close();
+    }
+  }
+  
+  /**
+   * Writes a tree to a channel.
+   * The tree is built if it has not been already.
+   * 
+   * @param tree the tree to write
+   * @param channel the channel to write to
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if an item in the tree is not an Integer
+   */
+  public static void write(HPRtree tree, WritableByteChannel channel) throws IOException {
+    List<Item> items = tree.getItems();
+    checkItems(items);
+    int[] layerStartIndex = tree.getLayerStartIndex();
+    double[] nodeBounds = tree.getNodeBounds();
+    int numLayerIndex = layerStartIndex == null ? 0 : layerStartIndex.length;
+    
+    ByteBuffer buf = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    buf.putInt(MAGIC);
+    buf.putInt(VERSION);
+    buf.putInt(tree.getNodeCapacity());
+    buf.putInt(items.size());
+    buf.putInt(numLayerIndex);
+    for (int i = 0; i < numLayerIndex; i++) {
+      flushIfFull(buf, INT_SIZE, channel);
+      buf.putInt(layerStartIndex[i]);
+    }
+    if ((HEADER_SIZE + numLayerIndex * INT_SIZE) % DOUBLE_SIZE != 0) {
+      flushIfFull(buf, INT_SIZE, channel);
+      buf.putInt(0);
+    }
+
+    flushIfFull(buf, ENV_SIZE * DOUBLE_SIZE, channel);
+    putEnvelope(tree.getExtent(), buf);
+    if (nodeBounds != null) {
+      for (int i = 0; i < nodeBounds.length; i++) {
+        flushIfFull(buf, DOUBLE_SIZE, channel);
+        buf.putDouble(nodeBounds[i]);
+      }
+    }
+    for (Item item : items) {
+      flushIfFull(buf, ENV_SIZE * DOUBLE_SIZE, channel);
+      putEnvelope(item.getEnvelope(), buf);
+    }
+    for (Item item : items) {
+      flushIfFull(buf, INT_SIZE, channel);
+      buf.putInt((Integer) item.getItem());
+    }
+    flush(buf, channel);
+  }
+  
+  /**
+   * Checks that all tree items are Integer ids,
+   * so that nothing is written for an invalid tree.
+   */
+  private static void checkItems(List<Item> items) {
+    for (Item item : items) {
+      if (! (item.getItem() instanceof Integer))
+        throw new IllegalArgumentException("Tree items must be Integer ids");
+    }
+  }
+
+  private static void putEnvelope(Envelope env, ByteBuffer buf) {
+    buf.putDouble(env.getMinX());
+    buf.putDouble(env.getMinY());
+    buf.putDouble(env.getMaxX());
+    buf.putDouble(env.getMaxY());
+  }
+  
+  private static void flushIfFull(ByteBuffer buf, int size, WritableByteChannel channel) throws IOException {
+    if (buf.remaining() < size) {
+      flush(buf, channel);
+    }
+  }
+  
+  private static void flush(ByteBuffer buf, WritableByteChannel channel) throws IOException {
+    ((Buffer) buf).flip();
+    while (buf.hasRemaining()) {
+      channel.write(buf);
+    }
+    ((Buffer) buf).clear();
+  }
+  
+  /**
+   * Opens a tree file written by {@link #write(HPRtree, File)}.
+   * The file is memory-mapped read-only, 
+   * and remains mapped until the tree is garbage-collected.
+   * 
+   * @param file the tree file
+   * @return the tree in the file
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if the file is not a tree file
+   */
+  public static MappedHPRtree open(File file) throws IOException {
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      FileChannel channel = raf.getChannel();
+      return new MappedHPRtree(map(channel, 1L << SEGMENT_SHIFT), SEGMENT_SHIFT);
+    }
+    finally {
+      // mappings remain valid after the channel is closed
+      raf.close();
+    }
+  }
+
+  private static ByteBuffer[] map(FileChannel channel, long segmentSize) throws IOException {
+    long size = channel.size();
+    int numSegments = (int) ((size + segmentSize - 1) / segmentSize);
+    ByteBuffer[] segments = new ByteBuffer[numSegments];
+    for (int i = 0; i < numSegments; i++) {
+      long start = i * segmentSize;
+      segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentSize, size - start));
+    }
+    return segments;
+  }
+  
+  private ByteBuffer[] segments;
+  private ByteBuffer singleSegment;
+  private int segmentShift;
+  private long segmentMask;
+  
+  private int nodeCapacity;
+  private int numItems;
+  private int[] layerStartIndex;
+  private double extentMinX;
+  private double extentMinY;
+  private double extentMaxX;
+  private double extentMaxY;
+  private long nodeBoundsOffset;
+  private long itemBoundsOffset;
+  private long itemIdOffset;
+
+  /**
+   * Creates a tree over a buffer containing 
+   * a tree written by {@link #write(HPRtree, WritableByteChannel)}.
+   * The contents of the buffer from position 0 are used,
+   * and the buffer position is not modified.
+   * 
+   * @param buf the buffer containing the tree
+   * @throws IllegalArgumentException if the buffer does not contain a tree
+   */
+  public MappedHPRtree(ByteBuffer buf) {
+    this(new ByteBuffer[] { buf }, 31);
+  }
+  
+  /**
+   * Creates a tree over a buffer split into segments.
+   * All segments except the last must have size 2^segmentShift.
+   * 
+   * @param segments the buffer segments 
+   * @param segmentShift the log2 of the segment size
+   */
+  MappedHPRtree(ByteBuffer[] segments, int segmentShift) {
+    this.segments = new ByteBuffer[segments.length];
+    for (int i = 0; i < segments.length; i++) {
+      this.segments[i] = segments[i].duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+    this.segmentShift = segmentShift;
+    this.segmentMask = (1L << segmentShift) - 1;
+    if (segments.length == 1) singleSegment = this.segments[0];
+    readHeader();
+  }
+
+  private void readHeader() {
+    if (segments.length == 0 || getInt(0) != MAGIC) 
+      throw new IllegalArgumentException("Buffer does not contain an HPRtree");
+    int version = getInt(INT_SIZE);
+    if (version != VERSION) 
+      throw new IllegalArgumentException("Unsupported HPRtree format version: " + version);
+    nodeCapacity = getInt(2 * INT_SIZE);
+    numItems = getInt(3 * INT_SIZE);
+    int numLayerIndex = getInt(4 * INT_SIZE);
+    long offset = HEADER_SIZE;
+    if (numLayerIndex > 0) {
+      layerStartIndex = new int[numLayerIndex];
+      for (int i = 0; i < numLayerIndex; i++) {
+        layerStartIndex[i] = getInt(offset);
+        offset += INT_SIZE;
+      }
+    }
+    if (offset % DOUBLE_SIZE != 0) 
+      offset += INT_SIZE;
+    
+    extentMinX = getDouble(offset);
+    extentMinY = getDouble(offset + DOUBLE_SIZE);
+    extentMaxX = getDouble(offset + 2 * DOUBLE_SIZE);
+    extentMaxY = getDouble(offset + 3 * DOUBLE_SIZE);
+    nodeBoundsOffset = offset + ENV_SIZE * DOUBLE_SIZE;
+    int numNodeBounds = layerStartIndex == null ? 0 : layerStartIndex[layerStartIndex.length - 1];
+    itemBoundsOffset = nodeBoundsOffset + (long) numNodeBounds * DOUBLE_SIZE;
+    itemIdOffset = itemBoundsOffset + (long) numItems * ENV_SIZE * DOUBLE_SIZE;
+  }
+  
+  /**
+   * Gets the number of items in the tree.
+   * 
+   * @return the number of items
+   */
+  public int size() {
+    return numItems;
+  }
+  
+  /**
+   * Gets the extent of the items in the tree.
+   * 
+   * @return the tree extent
+   */
+  public Envelope getExtent() {
+    if (numItems == 0) return new Envelope();
+    return new Envelope(extentMinX, extentMaxX, extentMinY, extentMaxY);
+  }
+  
+  /**
+   * Queries the tree for the ids of items
+   * whose envelopes intersect the search envelope.
+   * 
+   * @param searchEnv the envelope to query for
+   * @return a list of the item ids (Integers) found
+   */
+  public List<Integer> query(Envelope searchEnv) {
+    final List<Integer> result = new ArrayList<Integer>();
+    query(searchEnv, new ItemVisitor() {
+      public void visitItem(Object item) {
+        result.add((Integer) item);
+      }
+    });
+    return result;
+  }
+  
+  /**
+   * Queries the tree for the ids of items
+   * whose envelopes intersect the search envelope,
+   * and passes them to a visitor as Integers.
+   * 
+   * @param searchEnv the envelope to query for
+   * @param visitor a visitor to pass the item ids found to
+   */
+  public void query(Envelope searchEnv, ItemVisitor visitor) {
+    IntArrayList ids = new IntArrayList();
+    query(searchEnv, ids);
+    int[] idArray = ids.toArray();
+    for (int i = 0; i < idArray.length; i++) {
+      visitor.visitItem(idArray[i]);
+    }
+  }
+  
+  /**
+   * Queries the tree for the ids of items
+   * whose envelopes intersect the search envelope,
+   * and adds them to a list.
+   * This avoids allocating objects for the result ids.
+   * 
+   * @param searchEnv the envelope to query for
+   * @param ids the list to add the item ids found to
+   */
+  public void query(Envelope searchEnv, IntArrayList ids) {
+    if (numItems == 0) return;
+    if (! intersects(extentMinX, extentMinY, extentMaxX, extentMaxY, searchEnv)) 
+      return;
+    if (layerStartIndex == null) {
+      queryItems(0, searchEnv, ids);
+      return;
+    }
+    int layerIndex = layerStartIndex.length - 2;
+    int layerSize = layerSize(layerIndex);
+    for (int i = 0; i < layerSize; i += ENV_SIZE) {
+      queryNode(layerIndex, i, searchEnv, ids);
+    }
+  }
+
+  private void queryNode(int layerIndex, int nodeOffset, Envelope searchEnv, IntArrayList ids) {
+    int nodeIndex = layerStartIndex[layerIndex] + nodeOffset;
+    long off = nodeBoundsOffset + (long) nodeIndex * DOUBLE_SIZE;
+    if (! intersects(off, searchEnv)) return;
+    if (layerIndex == 0) {
+      int childNodesOffset = nodeOffset / ENV_SIZE * nodeCapacity;
+      queryItems(childNodesOffset, searchEnv, ids);
+    }
+    else {
+      int childNodesOffset = nodeOffset * nodeCapacity;
+      queryNodeChildren(layerIndex - 1, childNodesOffset, searchEnv, ids);
+    }
+  }
+
+  private void queryNodeChildren(int layerIndex, int blockOffset, Envelope searchEnv, IntArrayList ids) {
+    int layerStart = layerStartIndex[layerIndex];
+    int layerEnd = layerStartIndex[layerIndex + 1];
+    for (int i = 0; i < nodeCapacity; i++) {
+      int nodeOffset = blockOffset + ENV_SIZE * i; 
+      // don't query past layer end
+      if (layerStart + nodeOffset >= layerEnd) break;
+      
+      queryNode(layerIndex, nodeOffset, searchEnv, ids);
+    }
+  }
+
+  private void queryItems(int blockStart, Envelope searchEnv, IntArrayList ids) {
+    int blockEnd = Math.min(blockStart + nodeCapacity, numItems);
+    for (int i = blockStart; i < blockEnd; i++) {
+      long off = itemBoundsOffset + (long) i * ENV_SIZE * DOUBLE_SIZE;
+      if (intersects(off, searchEnv)) {
+        ids.add(getInt(itemIdOffset + (long) i * INT_SIZE));
+      }
+    }    
+  }
+
+  private boolean intersects(long boundsOffset, Envelope env) {
+    return intersects(getDouble(boundsOffset), 
+        getDouble(boundsOffset + DOUBLE_SIZE), 
+        getDouble(boundsOffset + 2 * DOUBLE_SIZE), 
+        getDouble(boundsOffset + 3 * DOUBLE_SIZE), env);
+  }
+  
+  private static boolean intersects(double minX, double minY, double maxX, double maxY, Envelope env) {
+    boolean isBeyond = (env.getMaxX() < minX) 
+    || (env.getMaxY() < minY) 
+    || (env.getMinX() > maxX) 
+    || (env.getMinY() > maxY);
+    return ! isBeyond;
+  }
+  
+  private int layerSize(int layerIndex) {
+    return layerStartIndex[layerIndex + 1] - layerStartIndex[layerIndex];
+  }
+
+  /*
+   * Values are aligned to their size, and segment sizes are 
+   * a multiple of 8, so values never span segments.
+   */
+  
+  private double getDouble(long offset) {
+    if (singleSegment != null) return singleSegment.getDouble((int) offset);
+    return segments[(int) (offset >>> segmentShift)].getDouble((int) (offset & segmentMask));
+  }
+  
+  private int getInt(long offset) {
+    if (singleSegment != null) return singleSegment.getInt((int) offset);
+    return segments[(int) (offset >>> segmentShift)].getInt((int) (offset & segmentMask));
+  }
+}
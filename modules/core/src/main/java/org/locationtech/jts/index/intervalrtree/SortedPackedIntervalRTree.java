@@ -146,7 +146,8 @@ public class SortedPackedIntervalRTree
    */
 	public void query(double min, double max, ItemVisitor visitor)
 	{
-    init();
+    // avoid calling synchronized method once the tree is built
+    if (root == null) init();
     
     // if root is null tree must be empty
     if (root == null) 
@@ -64,7 +64,11 @@ public abstract class AbstractSTRtree implements Serializable {
 
   protected AbstractNode root;
 
-  private boolean built = false;
+  /**
+   * Volatile so that the built tree can be read by
+   * other threads without synchronization.
+   */
+  private volatile boolean built = false;
   /**
    * Set to <tt>null</tt> when index is built, to avoid retaining memory.
    */
@@ -121,8 +125,16 @@ public abstract class AbstractSTRtree implements Serializable {
    * node, for the data that has been inserted into the tree. Can only be
    * called once, and thus can be called only after all of the data has been
    * inserted into the tree.
+   * <p>
+   * Once the tree is built this method returns immediately
+   * without synchronizing, so it is cheap to call on every query.
    */
-  public synchronized void build() {
+  public void build() {
+    if (built) return;
+    buildTree();
+  }
+
+  private synchronized void buildTree() {
     if (built) return;
     root = itemBoundables.isEmpty()
            ? createNode(0)
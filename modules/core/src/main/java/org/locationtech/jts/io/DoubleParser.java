@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+/**
+ * Parses decimal numbers from a range of characters,
+ * without creating a <tt>String</tt>.
+ * This is used by the text readers and tokenizers.
+ * <p>
+ * Numbers whose value can be computed exactly are parsed directly.
+ * This is the case if the significant digits form an integer
+ * which is exactly representable as a double,
+ * and the decimal exponent is small enough
+ * that the power of ten is also exactly representable.
+ * The result of a single multiplication or division is then correctly rounded
+ * (see Clinger, "How to Read Floating Point Numbers Accurately", 1990).
+ * Other numbers are parsed by {@link Double#parseDouble(String)}.
+ */
+public final class DoubleParser
+{
+  /**
+   * Powers of ten which are exactly representable as doubles.
+   */
+  private static final double[] POW10 = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+      1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+      1e21, 1e22
+  };
+
+  /**
+   * Integers up to this value are exactly representable as doubles.
+   */
+  private static final long MAX_EXACT_LONG = 1L << 53;
+
+  /**
+   * The maximum number of digits which can be accumulated in a long
+   * without overflow.
+   */
+  private static final int MAX_LONG_DIGITS = 18;
+
+  private DoubleParser() {
+  }
+
+  /**
+   * Parses a number from a range of characters,
+   * in any format accepted by {@link Double#parseDouble(String)}
+   * (with the given decimal separator).
+   *
+   * @param t the characters
+   * @param start the index of the first character of the number
+   * @param end the index after the last character of the number
+   * @param decimal the decimal separator character
+   * @return the value of the number
+   * @throws NumberFormatException if the characters are not a valid number
+   */
+  public static double parse(char[] t, int start, int end, char decimal) {
+    double val = parseExact(t, start, end, decimal);
+    if (! Double.isNaN(val))
+      return val;
+    String str = new String(t, start, end - start);
+    if (decimal != '.')
+      str = str.replace(decimal, '.');
+    return Double.parseDouble(str);
+  }
+
+  /**
+   * Parses a decimal number with an optional exponent from a range of characters,
+   * if its value can be computed exactly.
+   *
+   * @param t the characters
+   * @param start the index of the first character of the number
+   * @param end the index after the last character of the number
+   * @param decimal the decimal separator character
+   * @return the number value, or NaN if the number cannot be parsed in this way
+   */
+  public static double parseExact(char[] t, int start, int end, char decimal) {
+    int i = start;
+    boolean isNegative = false;
+    if (i < end && (t[i] == '-' || t[i] == '+')) {
+      isNegative = t[i] == '-';
+      i++;
+    }
+    long mantissa = 0;
+    int numDigits = 0;
+    int exp10 = 0;
+    boolean hasDigits = false;
+    // integer part
+    for (; i < end; i++) {
+      int d = t[i] - '0';
+      if (d < 0 || d > 9)
+        break;
+      hasDigits = true;
+      if (mantissa == 0 && d == 0)
+        continue;
+      if (++numDigits > MAX_LONG_DIGITS)
+        return Double.NaN;
+      mantissa = 10 * mantissa + d;
+    }
+    // fraction part
+    if (i < end && t[i] == decimal) {
+      i++;
+      for (; i < end; i++) {
+        int d = t[i] - '0';
+        if (d < 0 || d > 9)
+          break;
+        hasDigits = true;
+        exp10--;
+        if (mantissa == 0 && d == 0)
+          continue;
+        if (++numDigits > MAX_LONG_DIGITS)
+          return Double.NaN;
+        mantissa = 10 * mantissa + d;
+      }
+    }
+    if (! hasDigits)
+      return Double.NaN;
+    // exponent part
+    if (i < end && (t[i] == 'e' || t[i] == 'E')) {
+      i++;
+      boolean isExpNegative = false;
+      if (i < end && (t[i] == '-' || t[i] == '+')) {
+        isExpNegative = t[i] == '-';
+        i++;
+      }
+      if (i == end)
+        return Double.NaN;
+      int exp = 0;
+      for (; i < end; i++) {
+        int d = t[i] - '0';
+        if (d < 0 || d > 9)
+          return Double.NaN;
+        exp = 10 * exp + d;
+        if (exp > 1000)
+          return Double.NaN;
+      }
+      exp10 += isExpNegative ? -exp : exp;
+    }
+    // any other characters are left to the full parser
+    if (i < end)
+      return Double.NaN;
+
+    if (mantissa == 0)
+      return isNegative ? -0.0 : 0.0;
+    if (mantissa > MAX_EXACT_LONG || exp10 < -22 || exp10 > 22)
+      return Double.NaN;
+    double val = (double) mantissa;
+    if (exp10 > 0)
+      val *= POW10[exp10];
+    else if (exp10 < 0)
+      val /= POW10[-exp10];
+    return isNegative ? -val : val;
+  }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Converts <tt>double</tt> values to decimal text,
+ * using the shortest sequence of digits which converts back
+ * to the same value.
+ * The digits are computed using the Schubfach algorithm
+ * (R. Giulietti, "The Schubfach way to render doubles", 2020),
+ * which is the algorithm used by <tt>Double.toString</tt> in recent JDKs.
+ * Like Ryu, it computes the shortest digits using only integer arithmetic,
+ * and does not allocate memory.
+ * <p>
+ * Text is written in plain (non-scientific) notation,
+ * rounded to a maximum number of fraction digits.
+ * The rounding is the same as that of {@link java.text.DecimalFormat},
+ * which rounds the shortest digits using the <tt>HALF_EVEN</tt> mode
+ * (where ties are determined by the exact binary value).
+ */
+class DoubleToDecimal
+{
+  private static final int P = 53;
+  private static final int Q_MIN = -1074;
+  private static final int K_MIN = -324;
+  private static final int K_MAX = 292;
+  private static final long C_MIN = 1L << (P - 1);
+  private static final long C_TINY = 3;
+  private static final int BQ_MASK = 0x7FF;
+  private static final long T_MASK = (1L << (P - 1)) - 1;
+  private static final long MASK_63 = (1L << 63) - 1;
+
+  /**
+   * The maximum number of digits produced.
+   */
+  private static final int MAX_DIGITS = 17;
+
+  private static final long[] POW10 = new long[MAX_DIGITS + 2];
+
+  /**
+   * Approximations of powers of ten, as described in {@link #g1(int)}.
+   */
+  private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+  static {
+    POW10[0] = 1;
+    for (int i = 1; i < POW10.length; i++) {
+      POW10[i] = 10 * POW10[i - 1];
+    }
+    BigInteger ten = BigInteger.valueOf(10);
+    for (int k = K_MIN; k <= K_MAX; k++) {
+      BigInteger beta;
+      if (k <= 0) {
+        BigInteger pow = ten.pow(-k);
+        int r = pow.bitLength() - 126;
+        beta = r >= 0 ? pow.shiftRight(r) : pow.shiftLeft(-r);
+      }
+      else {
+        BigInteger pow = ten.pow(k);
+        beta = BigInteger.ONE.shiftLeft(125 + pow.bitLength()).divide(pow);
+      }
+      BigInteger g = beta.add(BigInteger.ONE);
+      G[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+      G[2 * (k - K_MIN) + 1] = g.longValue() & MASK_63;
+    }
+  }
+
+  /**
+   * Appends a finite value as plain decimal text,
+   * with at most the given number of fraction digits.
+   *
+   * @param v the value to write
+   * @param maxFractionDigits the maximum number of fraction digits
+   * @param out the output to append to
+   * @throws IOException if an I/O error occurs
+   */
+  static void append(double v, int maxFractionDigits, Appendable out)
+      throws IOException
+  {
+    boolean isNegative = Double.doubleToRawLongBits(v) < 0;
+    double av = Math.abs(v);
+    long f = 0;
+    int e = 0;
+    if (av != 0) {
+      f = digits(av);
+      e = exponent(av);
+      while (f % 10 == 0) {
+        f /= 10;
+        e++;
+      }
+      if (-e > maxFractionDigits) {
+        f = round(av, f, e, -e - Math.max(0, maxFractionDigits));
+        e = -Math.max(0, maxFractionDigits);
+        while (f != 0 && f % 10 == 0) {
+          f /= 10;
+          e++;
+        }
+      }
+    }
+    if (isNegative)
+      out.append('-');
+    if (f == 0) {
+      out.append('0');
+      return;
+    }
+    int numDigits = numDigits(f);
+    if (e >= 0) {
+      appendDigits(f, numDigits, 0, numDigits, out);
+      for (int i = 0; i < e; i++) {
+        out.append('0');
+      }
+      return;
+    }
+    int numIntDigits = numDigits + e;
+    if (numIntDigits > 0) {
+      appendDigits(f, numDigits, 0, numIntDigits, out);
+      out.append('.');
+      appendDigits(f, numDigits, numIntDigits, numDigits, out);
+    }
+    else {
+      out.append('0');
+      out.append('.');
+      for (int i = numIntDigits; i < 0; i++) {
+        out.append('0');
+      }
+      appendDigits(f, numDigits, 0, numDigits, out);
+    }
+  }
+
+  /**
+   * Rounds the digits of a value by removing some of the low-order digits.
+   *
+   * @param v the value
+   * @param f the shortest digits of the value
+   * @param e the decimal exponent of the digits
+   * @param drop the number of digits to remove
+   * @return the rounded digits
+   */
+  private static long round(double v, long f, int e, int drop) {
+    if (drop > MAX_DIGITS) {
+      // value is less than half the rounding unit
+      return 0;
+    }
+    long unit = POW10[drop];
+    long q = f / unit;
+    long r = f - q * unit;
+    long half = unit / 2;
+    if (r > half) {
+      q++;
+    }
+    else if (r == half) {
+      // a tie in the digits is decided by the exact value
+      int comp = new BigDecimal(v).compareTo(BigDecimal.valueOf(f, -e));
+      if (comp > 0 || (comp == 0 && (q & 1) != 0))
+        q++;
+    }
+    return q;
+  }
+
+  private static int numDigits(long f) {
+    int n = 1;
+    while (n < POW10.length && f >= POW10[n]) {
+      n++;
+    }
+    return n;
+  }
+
+  private static void appendDigits(long f, int numDigits, int start, int end, Appendable out)
+      throws IOException
+  {
+    for (int i = start; i < end; i++) {
+      int d = (int) ((f / POW10[numDigits - 1 - i]) % 10);
+      out.append((char) ('0' + d));
+    }
+  }
+
+  /**
+   * Computes the shortest decimal digits for a positive finite value.
+   * The value is equal to <tt>digits(v) * 10^exponent(v)</tt>.
+   *
+   * @param v a positive finite value
+   * @return the decimal digits of the value
+   */
+  static long digits(double v) {
+    long bits = Double.doubleToRawLongBits(v);
+    long t = bits & T_MASK;
+    int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+    if (bq != 0) {
+      // normal value
+      int mq = -Q_MIN + 1 - bq;
+      long c = C_MIN | t;
+      // fast path for integers
+      if (0 < mq && mq < P) {
+        long f = c >> mq;
+        if (f << mq == c)
+          return f;
+      }
+      return digits(-mq, c);
+    }
+    // subnormal value
+    return t < C_TINY ? digits(Q_MIN, 10 * t) : digits(Q_MIN, t);
+  }
+
+  /**
+   * Computes the decimal exponent for the digits
+   * computed by {@link #digits(double)}.
+   *
+   * @param v a positive finite value
+   * @return the decimal exponent of the value
+   */
+  static int exponent(double v) {
+    long bits = Double.doubleToRawLongBits(v);
+    long t = bits & T_MASK;
+    int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+    if (bq != 0) {
+      int mq = -Q_MIN + 1 - bq;
+      long c = C_MIN | t;
+      if (0 < mq && mq < P) {
+        long f = c >> mq;
+        if (f << mq == c)
+          return 0;
+      }
+      return exponent(-mq, c);
+    }
+    return t < C_TINY ? exponent(Q_MIN, 10 * t) - 1 : exponent(Q_MIN, t);
+  }
+
+  private static int exponent(int q, long c) {
+    if (c != C_MIN || q == Q_MIN)
+      return flog10pow2(q);
+    return flog10threeQuartersPow2(q);
+  }
+
+  private static long digits(int q, long c) {
+    int out = (int) c & 0x1;
+    long cb = c << 2;
+    long cbr = cb + 2;
+    long cbl;
+    int k;
+    if (c != C_MIN || q == Q_MIN) {
+      cbl = cb - 2;
+      k = flog10pow2(q);
+    }
+    else {
+      cbl = cb - 1;
+      k = flog10threeQuartersPow2(q);
+    }
+    int h = q + flog2pow10(-k) + 2;
+    long g1 = g1(k);
+    long g0 = g0(k);
+    long vb = rop(g1, g0, cb << h);
+    long vbl = rop(g1, g0, cbl << h);
+    long vbr = rop(g1, g0, cbr << h);
+
+    long s = vb >> 2;
+    if (s >= 100) {
+      // try a value with one fewer digit
+      long sp10 = 10 * multiplyHigh(s, 115292150460684698L << 4);
+      long tp10 = sp10 + 10;
+      boolean upin = vbl + out <= sp10 << 2;
+      boolean wpin = (tp10 << 2) + out <= vbr;
+      if (upin != wpin)
+        return upin ? sp10 : tp10;
+    }
+    long t = s + 1;
+    boolean uin = vbl + out <= s << 2;
+    boolean win = (t << 2) + out <= vbr;
+    if (uin != win)
+      return uin ? s : t;
+    // choose the closest, or the even one if both are equally close
+    long cmp = vb - ((s + t) << 1);
+    return cmp < 0 || (cmp == 0 && (s & 0x1) == 0) ? s : t;
+  }
+
+  /**
+   * Computes a rounded product of a power of ten approximation
+   * and a value, as described in the Schubfach paper.
+   */
+  private static long rop(long g1, long g0, long cp) {
+    long x1 = multiplyHigh(g0, cp);
+    long y0 = g1 * cp;
+    long y1 = multiplyHigh(g1, cp);
+    long z = (y0 >>> 1) + x1;
+    long vbp = y1 + (z >>> 63);
+    return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+  }
+
+  /**
+   * Gets the high 63 bits of an approximation to <tt>10^-k</tt>.
+   * If <tt>10^-k = b * 2^r</tt> with <tt>2^125 &lt;= b &lt; 2^126</tt>,
+   * the approximation is the 126-bit integer <tt>g = floor(b) + 1</tt>.
+   */
+  private static long g1(int k) {
+    return G[2 * (k - K_MIN)];
+  }
+
+  /**
+   * Gets the low 63 bits of an approximation to <tt>10^-k</tt>.
+   */
+  private static long g0(int k) {
+    return G[2 * (k - K_MIN) + 1];
+  }
+
+  /**
+   * Computes floor(log10(2^e)).
+   */
+  private static int flog10pow2(int e) {
+    return (int) (e * 661971961083L >> 41);
+  }
+
+  /**
+   * Computes floor(log10(3/4 * 2^e)).
+   */
+  private static int flog10threeQuartersPow2(int e) {
+    return (int) ((e * 661971961083L - 274743187321L) >> 41);
+  }
+
+  /**
+   * Computes floor(log2(10^e)).
+   */
+  private static int flog2pow10(int e) {
+    return (int) (e * 913124641741L >> 38);
+  }
+
+  /**
+   * Computes the high 64 bits of the 128-bit product of two longs.
+   * (This is <tt>Math.multiplyHigh</tt> in Java 9 and later.)
+   */
+  private static long multiplyHigh(long x, long y) {
+    long x1 = x >> 32;
+    long x2 = x & 0xFFFFFFFFL;
+    long y1 = y >> 32;
+    long y2 = y & 0xFFFFFFFFL;
+    long z2 = x2 * y2;
+    long t = x1 * y2 + (z2 >>> 32);
+    long z1 = t & 0xFFFFFFFFL;
+    long z0 = t >> 32;
+    z1 += x2 * y1;
+    return x1 * y1 + z0 + (z1 >> 32);
+  }
+}
@@ -12,9 +12,9 @@
 
 package org.locationtech.jts.io;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
-import java.util.Locale;
+import java.io.IOException;
+
+import org.locationtech.jts.util.Assert;
 
 /**
  * Formats numeric values for ordinates
@@ -29,14 +29,18 @@ import java.util.Locale;
  * <li>NaN values are represented as "NaN"
  * <li>Inf values are represented as "Inf" or "-Inf"
  * </ul> 
+ * Numbers are output using the shortest sequence of digits
+ * which exactly identifies the value,
+ * rounded (using <tt>HALF_EVEN</tt>) to the maximum number of fraction digits.
+ * This is the same output as {@link java.text.DecimalFormat},
+ * but it is produced without creating intermediate objects.
+ * Formatters are immutable, and so are thread-safe.
  * 
  * @author mdavis
  *
  */
 public class OrdinateFormat
 {
-  private static final String DECIMAL_PATTERN = "0";
-
   /**
    * The output representation of {@link Double#POSITIVE_INFINITY}
    */
@@ -75,13 +79,13 @@ public class OrdinateFormat
     return new OrdinateFormat(maximumFractionDigits);
   }
   
-  private DecimalFormat format;
+  private final int maximumFractionDigits;
 
   /**
    * Creates an OrdinateFormat using the default maximum number of fraction digits.
    */
   public OrdinateFormat() {
-    format = createFormat(MAX_FRACTION_DIGITS);
+    this(MAX_FRACTION_DIGITS);
   }
 
   /**
@@ -90,43 +94,70 @@ public class OrdinateFormat
    * @param maximumFractionDigits the maximum number of fraction digits to output
    */
   public OrdinateFormat(int maximumFractionDigits) {
-    format = createFormat(maximumFractionDigits);
+    this.maximumFractionDigits = Math.max(0, maximumFractionDigits);
+  }
+  
+  /**
+   * Returns a string representation of the given ordinate numeric value.
+   * 
+   * @param ord the ordinate value
+   * @return the formatted number string
+   */
+  public String format(double ord)
+  {
+    if (Double.isNaN(ord)) return REP_NAN;
+    if (Double.isInfinite(ord)) {
+      return ord > 0 ? REP_POS_INF : REP_NEG_INF;
+    }
+    StringBuilder sb = new StringBuilder(24);
+    format(ord, sb);
+    return sb.toString();
   }
 
-  private static DecimalFormat createFormat(int maximumFractionDigits) {
-    // ensure format uses standard WKY number format
-    NumberFormat nf = NumberFormat.getInstance(Locale.US);
-    // This is expected to succeed for Locale.US
-    DecimalFormat format;
+  /**
+   * Appends the representation of the given ordinate numeric value
+   * to a {@link StringBuilder}.
+   * 
+   * @param ord the ordinate value
+   * @param sb the buffer to append to
+   * @return the buffer
+   */
+  public StringBuilder format(double ord, StringBuilder sb)
+  {
     try {
-      format = (DecimalFormat) nf;
+      format(ord, (Appendable) sb);
     }
-    catch (ClassCastException ex) {
-      throw new RuntimeException("Unable to create DecimalFormat for Locale.US");
+    catch (IOException ex) {
+      Assert.shouldNeverReachHere();
     }
-    format.applyPattern(DECIMAL_PATTERN);
-    format.setMaximumFractionDigits(maximumFractionDigits);
-    return format;
+    return sb;
   }
-  
+
   /**
-   * Returns a string representation of the given ordinate numeric value.
+   * Appends the representation of the given ordinate numeric value
+   * to an {@link Appendable}.
+   * No intermediate objects are created.
    * 
    * @param ord the ordinate value
-   * @return the formatted number string
+   * @param out the output to append to
+   * @throws IOException if an I/O error occurs
    */
-  public synchronized String format(double ord)
+  public void format(double ord, Appendable out) throws IOException
   {
     /**
      * FUTURE: If it seems better to use scientific notation 
      * for very large/small numbers then this can be done here.
      */
     
-    if (Double.isNaN(ord)) return REP_NAN;
+    if (Double.isNaN(ord)) {
+      out.append(REP_NAN);
+      return;
+    }
     if (Double.isInfinite(ord)) {
-      return ord > 0 ? REP_POS_INF : REP_NEG_INF;
+      out.append(ord > 0 ? REP_POS_INF : REP_NEG_INF);
+      return;
     }
-    return format.format(ord);
+    DoubleToDecimal.append(ord, maximumFractionDigits, out);
   }
 
 }
@@ -0,0 +1,500 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+/**
+ * The base class for readers which parse a text file of geometries
+ * in parallel.
+ * The input is split into chunks of about {@link #setChunkSize(int)} bytes
+ * at record boundaries, by a fast sequential scan of the bytes.
+ * The chunks are parsed concurrently by tasks running
+ * in a {@link ForkJoinPool}.
+ * <p>
+ * The geometries can be returned in the order of the input (the default),
+ * or in the order in which chunks finish parsing
+ * (see {@link #setOrdered(boolean)}).
+ * At most {@link #setMaxChunksInFlight(int)} chunks are read ahead
+ * of the geometries returned,
+ * so memory use is bounded independently of the size of the input.
+ * New chunks are read only as geometries are consumed.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see ParallelWKTFileReader
+ * @see ParallelWKBHexFileReader
+ */
+public abstract class ParallelFileReader
+  implements Closeable
+{
+  /**
+   * The default size of the chunks which are parsed in parallel.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+  private static final int READ_SIZE = 64 * 1024;
+
+  private File file;
+  private InputStream in;
+  private GeometryFactory factory;
+  private ForkJoinPool pool;
+
+  private int chunkSize = DEFAULT_CHUNK_SIZE;
+  private int maxInFlight;
+  private boolean isOrdered = true;
+  private int limit = -1;
+  private int offset = 0;
+
+  // input state
+  private byte[] buf;
+  private int bufStart = 0;
+  private int bufEnd = 0;
+  private int scanPos = 0;
+  private long bufOffset = 0;
+  private boolean isEndOfInput = false;
+
+  // pipeline state
+  private ArrayDeque<ChunkTask> inFlight = new ArrayDeque<ChunkTask>();
+  private LinkedBlockingQueue<ChunkTask> completed = new LinkedBlockingQueue<ChunkTask>();
+  private List<Geometry> current = null;
+  private int currentIndex = 0;
+  private long numRecords = 0;
+  private long count = 0;
+
+  /**
+   * Creates a reader for a file.
+   * The file is opened when the first geometry is read.
+   *
+   * @param file the file to read from
+   * @param factory the factory to create geometries with
+   * @param pool the pool to parse in, or null to use the common pool
+   */
+  ParallelFileReader(File file, GeometryFactory factory, ForkJoinPool pool)
+  {
+    this.file = file;
+    init(factory, pool);
+  }
+
+  /**
+   * Creates a reader for an {@link InputStream}.
+   *
+   * @param in the stream to read from
+   * @param factory the factory to create geometries with
+   * @param pool the pool to parse in, or null to use the common pool
+   */
+  ParallelFileReader(InputStream in, GeometryFactory factory, ForkJoinPool pool)
+  {
+    this.in = in;
+    init(factory, pool);
+  }
+
+  private void init(GeometryFactory factory, ForkJoinPool pool) {
+    this.factory = factory != null ? factory : new GeometryFactory();
+    this.pool = pool != null ? pool : ForkJoinPool.commonPool();
+    maxInFlight = 2 * this.pool.getParallelism();
+  }
+
+  /**
+   * Sets the approximate size in bytes of the chunks parsed by each task.
+   * Chunks end at the first record boundary after this size,
+   * so a chunk always contains at least one record.
+   * The default is {@link #DEFAULT_CHUNK_SIZE}.
+   * This must be set before reading.
+   *
+   * @param chunkSize the size of the chunks to parse
+   */
+  public void setChunkSize(int chunkSize) {
+    if (chunkSize <= 0)
+      throw new IllegalArgumentException("Chunk size must be positive");
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Sets the maximum number of chunks which are read and parsed
+   * ahead of the geometries returned.
+   * This bounds the memory used by the reader
+   * to about this number of chunks (and the geometries parsed from them).
+   * The default is twice the parallelism of the pool.
+   *
+   * @param maxChunksInFlight the maximum number of chunks in flight
+   */
+  public void setMaxChunksInFlight(int maxChunksInFlight) {
+    if (maxChunksInFlight <= 0)
+      throw new IllegalArgumentException("Maximum chunks in flight must be positive");
+    this.maxInFlight = maxChunksInFlight;
+  }
+
+  /**
+   * Sets whether geometries are returned in the order of the input.
+   * If not, the geometries of each chunk are returned as soon as it is parsed,
+   * which gives better throughput when the cost of parsing chunks varies.
+   * The default is to preserve the input order.
+   * This must be set before reading.
+   *
+   * @param isOrdered true if geometries are returned in input order
+   */
+  public void setOrdered(boolean isOrdered) {
+    this.isOrdered = isOrdered;
+  }
+
+  /**
+   * Sets the maximum number of geometries to read.
+   *
+   * @param limit the maximum number of geometries to read, or -1 for no limit
+   */
+  public void setLimit(int limit) {
+    this.limit = limit;
+  }
+
+  /**
+   * Sets the number of geometries to skip before returning geometries.
+   * If the reader is not ordered the geometries skipped
+   * are the first ones parsed, rather than the first in the input.
+   *
+   * @param offset the number of geometries to skip
+   */
+  public void setOffset(int offset) {
+    this.offset = offset;
+  }
+
+  /**
+   * Gets the number of geometries returned so far.
+   *
+   * @return the number of geometries returned
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Reads the next geometry.
+   *
+   * @return the geometry read, or null if the end of the input
+   *   or the limit has been reached
+   * @throws IOException if an I/O error occurred
+   * @throws ParseException if a record could not be parsed
+   */
+  public Geometry read()
+      throws IOException, ParseException
+  {
+    while (true) {
+      if (limit >= 0 && count >= limit) {
+        cancel();
+        return null;
+      }
+      if (current != null && currentIndex < current.size()) {
+        Geometry geom = current.get(currentIndex);
+        // release the geometry for collection once the caller is done with it
+        current.set(currentIndex++, null);
+        if (numRecords++ < offset)
+          continue;
+        count++;
+        return geom;
+      }
+      current = null;
+      if (! nextChunkResult())
+        return null;
+    }
+  }
+
+  /**
+   * Reads all remaining geometries.
+   *
+   * @return a list of the geometries read
+   * @throws IOException if an I/O error occurred
+   * @throws ParseException if a record could not be parsed
+   */
+  public List<Geometry> readAll()
+      throws IOException, ParseException
+  {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    Geometry geom;
+    while ((geom = read()) != null) {
+      geoms.add(geom);
+    }
+    return geoms;
+  }
+
+  /**
+   * Gets an {@link Iterator} over the remaining geometries.
+   * Errors are reported by throwing an {@link UncheckedIOException}
+   * for I/O errors,
+   * and an {@link IllegalArgumentException} for invalid records.
+   *
+   * @return an iterator over the geometries
+   */
+  public Iterator<Geometry> iterator() {
+    return new GeometryIterator();
+  }
+
+  /**
+   * Cancels any chunks being parsed and closes the input.
+   *
+   * @throws IOException if an I/O error occurred
+   */
+  public void close()
+      throws IOException
+  {
+    cancel();
+    isEndOfInput = true;
+    buf = null;
+    if (in != null)
+      in.close();
+  }
+
+  /**
+   * Scans bytes of the input for the end of a chunk.
+   * The scan state is kept between calls,
+   * since the input is scanned in sequence.
+   *
+   * @param b the input bytes
+   * @param start the index to start scanning at
+   * @param end the index to stop scanning at
+   * @param minEnd the minimum index of the end of the chunk
+   * @return the index after the end of the chunk, or -1 if there is none in the range
+   */
+  abstract int scan(byte[] b, int start, int end, int minEnd);
+
+  /**
+   * Parses all the records in a chunk.
+   * This is called concurrently, so must not use any shared state.
+   *
+   * @param chunk the bytes of the chunk
+   * @param factory the factory to create geometries with
+   * @return the geometries parsed
+   * @throws ParseException if a record could not be parsed
+   */
+  abstract List<Geometry> parse(byte[] chunk, GeometryFactory factory)
+      throws ParseException;
+
+  private Geometry readUnchecked() {
+    try {
+      return read();
+    }
+    catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    catch (ParseException ex) {
+      throw new IllegalArgumentException(ex.getMessage(), ex);
+    }
+  }
+
+  /**
+   * Takes the result of the next chunk to be returned
+   * and makes it the current one,
+   * topping up the chunks in flight.
+   *
+   * @return false if there are no more chunks
+   */
+  private boolean nextChunkResult()
+      throws IOException, ParseException
+  {
+    submitChunks();
+    if (inFlight.isEmpty())
+      return false;
+    ChunkTask task;
+    if (isOrdered) {
+      task = inFlight.poll();
+      task.join();
+    }
+    else {
+      try {
+        task = completed.take();
+      }
+      catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException();
+      }
+      inFlight.remove(task);
+    }
+    // start the next chunk while the caller consumes this one
+    submitChunks();
+    current = task.getResult();
+    currentIndex = 0;
+    return true;
+  }
+
+  private void submitChunks()
+      throws IOException
+  {
+    while (inFlight.size() < maxInFlight) {
+      long chunkOffset = bufOffset + bufStart;
+      byte[] chunk = nextChunk();
+      if (chunk == null)
+        return;
+      ChunkTask task = new ChunkTask(chunk, chunkOffset);
+      inFlight.add(task);
+      pool.execute(task);
+    }
+  }
+
+  private void cancel() {
+    for (ChunkTask task : inFlight) {
+      task.cancel(false);
+    }
+    inFlight.clear();
+    completed.clear();
+    current = null;
+  }
+
+  /**
+   * Reads the bytes of the next chunk.
+   *
+   * @return the chunk bytes, or null if the input is exhausted
+   */
+  private byte[] nextChunk()
+      throws IOException
+  {
+    while (true) {
+      if (buf != null && scanPos < bufEnd) {
+        int cut = scan(buf, scanPos, bufEnd, bufStart + chunkSize);
+        if (cut >= 0)
+          return takeChunk(cut);
+        scanPos = bufEnd;
+      }
+      if (isEndOfInput) {
+        if (buf == null || bufEnd <= bufStart)
+          return null;
+        return takeChunk(bufEnd);
+      }
+      fill();
+    }
+  }
+
+  private byte[] takeChunk(int end) {
+    byte[] chunk = new byte[end - bufStart];
+    System.arraycopy(buf, bufStart, chunk, 0, chunk.length);
+    bufStart = end;
+    scanPos = end;
+    return chunk;
+  }
+
+  private void fill()
+      throws IOException
+  {
+    if (buf == null) {
+      if (in == null)
+        in = new FileInputStream(file);
+      buf = new byte[chunkSize + READ_SIZE];
+    }
+    if (buf.length - bufEnd < READ_SIZE) {
+      int len = bufEnd - bufStart;
+      byte[] dest = buf;
+      // grow if a long record does not leave enough space after compacting
+      if (buf.length - len < READ_SIZE)
+        dest = new byte[Math.max(2 * buf.length, len + READ_SIZE)];
+      System.arraycopy(buf, bufStart, dest, 0, len);
+      buf = dest;
+      bufOffset += bufStart;
+      scanPos -= bufStart;
+      bufEnd = len;
+      bufStart = 0;
+    }
+    int n = in.read(buf, bufEnd, buf.length - bufEnd);
+    if (n < 0) {
+      isEndOfInput = true;
+      return;
+    }
+    bufEnd += n;
+  }
+
+  /**
+   * Parses a chunk of records.
+   * Errors are recorded, to be reported in the reading thread.
+   */
+  private class ChunkTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private byte[] chunk;
+    private final long chunkOffset;
+    private List<Geometry> result;
+    private Throwable error;
+
+    ChunkTask(byte[] chunk, long chunkOffset)
+    {
+      this.chunk = chunk;
+      this.chunkOffset = chunkOffset;
+    }
+
+    protected void compute() {
+      try {
+        result = parse(chunk, factory);
+      }
+      catch (ParseException ex) {
+        error = new ParseException(ex.getMessage()
+            + " (in chunk at byte offset " + chunkOffset + ")");
+      }
+      catch (Throwable ex) {
+        //-- includes errors such as StackOverflowError, so the chunk is not lost
+        error = ex;
+      }
+      finally {
+        chunk = null;
+        if (! isOrdered)
+          completed.add(this);
+      }
+    }
+
+    List<Geometry> getResult()
+        throws ParseException
+    {
+      if (error instanceof ParseException)
+        throw (ParseException) error;
+      if (error instanceof RuntimeException)
+        throw (RuntimeException) error;
+      if (error instanceof Error)
+        throw (Error) error;
+      if (error != null)
+        throw new RuntimeException(error);
+      return result;
+    }
+  }
+
+  private class GeometryIterator
+    implements Iterator<Geometry>
+  {
+    private Geometry next = null;
+
+    public boolean hasNext() {
+      if (next == null)
+        next = readUnchecked();
+      return next != null;
+    }
+
+    public Geometry next() {
+      if (! hasNext())
+        throw new NoSuchElementException();
+      Geometry geom = next;
+      next = null;
+      return geom;
+    }
+  }
+}
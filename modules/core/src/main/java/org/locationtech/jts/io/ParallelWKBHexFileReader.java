@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+/**
+ * Reads a sequence of {@link Geometry}s in WKBHex format
+ * from a text file, parsing chunks of the file in parallel.
+ * As with {@link WKBHexFileReader}, each WKBHex geometry must be on a single line.
+ * Blank lines and leading and trailing whitespace are ignored.
+ * Chunks are split at line ends.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see ParallelFileReader
+ * @see WKBHexFileReader
+ */
+public class ParallelWKBHexFileReader
+  extends ParallelFileReader
+{
+  /**
+   * Creates a reader for a WKBHex file.
+   *
+   * @param file the file to read from
+   * @param factory the factory to create geometries with
+   * @param pool the pool to parse in, or null to use the common pool
+   */
+  public ParallelWKBHexFileReader(File file, GeometryFactory factory, ForkJoinPool pool)
+  {
+    super(file, factory, pool);
+  }
+
+  /**
+   * Creates a reader for WKBHex from an {@link InputStream}.
+   *
+   * @param in the stream to read from
+   * @param factory the factory to create geometries with
+   * @param pool the pool to parse in, or null to use the common pool
+   */
+  public ParallelWKBHexFileReader(InputStream in, GeometryFactory factory, ForkJoinPool pool)
+  {
+    super(in, factory, pool);
+  }
+
+  int scan(byte[] b, int start, int end, int minEnd) {
+    for (int i = Math.max(start, minEnd); i < end; i++) {
+      if (b[i] == '\n')
+        return i + 1;
+    }
+    return -1;
+  }
+
+  List<Geometry> parse(byte[] chunk, GeometryFactory factory)
+      throws ParseException
+  {
+    WKBReader wkbReader = new WKBReader(factory);
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    int pos = 0;
+    while (pos < chunk.length) {
+      int lineEnd = pos;
+      while (lineEnd < chunk.length && chunk[lineEnd] != '\n')
+        lineEnd++;
+      int start = pos;
+      int end = lineEnd;
+      while (start < end && Character.isWhitespace(chunk[start]))
+        start++;
+      while (end > start && Character.isWhitespace(chunk[end - 1]))
+        end--;
+      if (end > start)
+        geoms.add(wkbReader.read(hexToBytes(chunk, start, end)));
+      pos = lineEnd + 1;
+    }
+    return geoms;
+  }
+
+  private static byte[] hexToBytes(byte[] hex, int start, int end)
+      throws ParseException
+  {
+    if ((end - start) % 2 != 0)
+      throw new ParseException("Hex string has odd length");
+    byte[] bytes = new byte[(end - start) / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      int nib1 = hexToInt(hex[start + 2 * i]);
+      int nib0 = hexToInt(hex[start + 2 * i + 1]);
+      bytes[i] = (byte) ((nib1 << 4) + nib0);
+    }
+    return bytes;
+  }
+
+  private static int hexToInt(byte hex)
+      throws ParseException
+  {
+    int nib = Character.digit(hex, 16);
+    if (nib < 0)
+      throw new ParseException("Invalid hex digit: '" + (char) hex + "'");
+    return nib;
+  }
+}
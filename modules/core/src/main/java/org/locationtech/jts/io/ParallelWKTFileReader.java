@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+/**
+ * Reads a sequence of {@link Geometry}s in WKT format
+ * from a text file, parsing chunks of the file in parallel.
+ * As with {@link WKTFileReader}, the geometries in the file
+ * may be separated by any amount of whitespace and newlines,
+ * and may span multiple lines.
+ * <p>
+ * Chunks are split at whitespace following the end of a record,
+ * which is either a closing parenthesis at the outermost level
+ * or the keyword <tt>EMPTY</tt>.
+ * Records which are not separated by whitespace are kept in the same chunk.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see ParallelFileReader
+ * @see WKTFileReader
+ */
+public class ParallelWKTFileReader
+  extends ParallelFileReader
+{
+  private static final char[] EMPTY = WKTConstants.EMPTY.toCharArray();
+  private static final int NOT_EMPTY = -1;
+
+  // scan state
+  private int depth = 0;
+  private boolean isRecordEnd = false;
+  private int emptyPos = 0;
+
+  /**
+   * Creates a reader for a WKT file.
+   *
+   * @param file the file to read from
+   * @param factory the factory to create geometries with
+   * @param pool the pool to parse in, or null to use the common pool
+   */
+  public ParallelWKTFileReader(File file, GeometryFactory factory, ForkJoinPool pool)
+  {
+    super(file, factory, pool);
+  }
+
+  /**
+   * Creates a reader for WKT from an {@link InputStream}.
+   *
+   * @param in the stream to read from
+   * @param factory the factory to create geometries with
+   * @param pool the pool to parse in, or null to use the common pool
+   */
+  public ParallelWKTFileReader(InputStream in, GeometryFactory factory, ForkJoinPool pool)
+  {
+    super(in, factory, pool);
+  }
+
+  int scan(byte[] b, int start, int end, int minEnd) {
+    for (int i = start; i < end; i++) {
+      int c = b[i];
+      if (Character.isWhitespace(c)) {
+        if (depth == 0 && emptyPos == EMPTY.length)
+          isRecordEnd = true;
+        emptyPos = 0;
+        if (isRecordEnd && i >= minEnd)
+          return i + 1;
+        continue;
+      }
+      if (c == '(') {
+        depth++;
+      }
+      else if (c == ')') {
+        if (--depth == 0) {
+          isRecordEnd = true;
+          emptyPos = 0;
+          continue;
+        }
+      }
+      isRecordEnd = false;
+      if (emptyPos != NOT_EMPTY && emptyPos < EMPTY.length
+          && Character.toUpperCase(c) == EMPTY[emptyPos])
+        emptyPos++;
+      else
+        emptyPos = Character.isLetter(c) ? NOT_EMPTY : 0;
+    }
+    return -1;
+  }
+
+  List<Geometry> parse(byte[] chunk, GeometryFactory factory)
+      throws ParseException
+  {
+    String text = new String(chunk, StandardCharsets.UTF_8);
+    WKTFileReader fileReader = new WKTFileReader(new StringReader(text), new WKTReader(factory));
+    List<?> items;
+    try {
+      items = fileReader.read();
+    }
+    catch (IOException ex) {
+      // can not happen for a string
+      throw new ParseException(ex);
+    }
+    List<Geometry> geoms = new ArrayList<Geometry>(items.size());
+    for (Object item : items) {
+      geoms.add((Geometry) item);
+    }
+    return geoms;
+  }
+}
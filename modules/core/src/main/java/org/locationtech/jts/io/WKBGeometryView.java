@@ -0,0 +1,494 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.ByteBufferCoordinateSequence;
+
+/**
+ * A lightweight view of a geometry in WKB format,
+ * which provides access to basic properties of the geometry
+ * directly from the WKB bytes,
+ * without creating a {@link Geometry}.
+ * This is useful when many geometries are read 
+ * but most are only filtered by type or envelope.
+ * <p>
+ * The geometry type, SRID and ordinate dimension 
+ * are read from the WKB header when the view is created.
+ * The envelope and number of points are computed by scanning
+ * the WKB the first time they are requested.
+ * The full geometry is created only when {@link #getGeometry()} is called.
+ * If the geometry factory has a {@link PrecisionModel#FLOATING} precision model 
+ * the created geometry uses {@link ByteBufferCoordinateSequence}s
+ * which decode ordinates on demand from the WKB bytes
+ * (except where the structure must be repaired,
+ * as described in {@link WKBReader}).
+ * <p>
+ * The WKB can be in the formats supported by {@link WKBReader}. 
+ * The WKB bytes must not be modified while the view or its geometry 
+ * are in use.
+ * The view never modifies the WKB bytes:
+ * changing the coordinates of the created geometry
+ * copies them out of the WKB first.
+ * <p>
+ * This class is not thread-safe.
+ * 
+ * @see WKBReader
+ * 
+ */
+public class WKBGeometryView
+{
+  private static final int INT_SIZE = 4;
+  private static final int DOUBLE_SIZE = 8;
+  
+  private static final String INVALID_GEOM_TYPE_MSG
+  = "Invalid geometry type encountered in ";
+
+  private ByteBuffer bufBE;
+  private ByteBuffer bufLE;
+  private int start;
+  private GeometryFactory factory;
+  
+  private int geometryType;
+  private boolean hasZ;
+  private boolean hasM;
+  private int srid;
+  
+  private int end = -1;
+  private int numPoints;
+  private Envelope env;
+  private Geometry geom;
+
+  /**
+   * Creates a view of a WKB geometry in a byte array,
+   * using a default {@link GeometryFactory}.
+   * 
+   * @param wkb the WKB bytes
+   * @throws ParseException if the WKB header is invalid
+   */
+  public WKBGeometryView(byte[] wkb) throws ParseException {
+    this(ByteBuffer.wrap(wkb), new GeometryFactory());
+  }
+  
+  /**
+   * Creates a view of a WKB geometry starting at the current position of a buffer,
+   * using a default {@link GeometryFactory}.
+   * The position of the buffer is not changed.
+   * 
+   * @param wkb the buffer containing the WKB
+   * @throws ParseException if the WKB header is invalid
+   */
+  public WKBGeometryView(ByteBuffer wkb) throws ParseException {
+    this(wkb, new GeometryFactory());
+  }
+  
+  /**
+   * Creates a view of a WKB geometry starting at the current position of a buffer,
+   * using the given factory to create the geometry.
+   * The position of the buffer is not changed.
+   * 
+   * @param wkb the buffer containing the WKB
+   * @param factory the factory to create the geometry with
+   * @throws ParseException if the WKB header is invalid
+   */
+  public WKBGeometryView(ByteBuffer wkb, GeometryFactory factory) throws ParseException {
+    this.bufBE = wkb.asReadOnlyBuffer().order(ByteOrder.BIG_ENDIAN);
+    this.bufLE = wkb.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    this.start = wkb.position();
+    this.factory = factory;
+    
+    Cursor cursor = new Cursor(start);
+    try {
+      readHeader(cursor);
+    }
+    catch (IndexOutOfBoundsException ex) {
+      throw new ParseException("Unexpected end of WKB");
+    }
+    geometryType = cursor.geometryType;
+    hasZ = cursor.hasZ;
+    hasM = cursor.hasM;
+    srid = cursor.srid;
+    if (geometryType < WKBConstants.wkbPoint || geometryType > WKBConstants.wkbGeometryCollection)
+      throw new ParseException("Unknown WKB type " + geometryType);
+  }
+  
+  /**
+   * Gets the name of the geometry type,
+   * as returned by {@link Geometry#getGeometryType()}.
+   * 
+   * @return the name of the geometry type
+   */
+  public String getGeometryType() {
+    switch (geometryType) {
+    case WKBConstants.wkbPoint: return Geometry.TYPENAME_POINT;
+    case WKBConstants.wkbLineString: return Geometry.TYPENAME_LINESTRING;
+    case WKBConstants.wkbPolygon: return Geometry.TYPENAME_POLYGON;
+    case WKBConstants.wkbMultiPoint: return Geometry.TYPENAME_MULTIPOINT;
+    case WKBConstants.wkbMultiLineString: return Geometry.TYPENAME_MULTILINESTRING;
+    case WKBConstants.wkbMultiPolygon: return Geometry.TYPENAME_MULTIPOLYGON;
+    }
+    return Geometry.TYPENAME_GEOMETRYCOLLECTION;
+  }
+  
+  /**
+   * Gets the WKB geometry type code
+   * (one of the type values in {@link WKBConstants}).
+   * 
+   * @return the WKB geometry type code
+   */
+  public int getWKBType() {
+    return geometryType;
+  }
+  
+  /**
+   * Gets the SRID of the geometry, if specified in the WKB (EWKB only).
+   * 
+   * @return the SRID, or 0 if not specified
+   */
+  public int getSRID() {
+    return srid;
+  }
+  
+  /**
+   * Tests whether the geometry coordinates have a Z ordinate.
+   * 
+   * @return true if the coordinates have Z
+   */
+  public boolean hasZ() {
+    return hasZ;
+  }
+  
+  /**
+   * Tests whether the geometry coordinates have an M ordinate.
+   * 
+   * @return true if the coordinates have M
+   */
+  public boolean hasM() {
+    return hasM;
+  }
+  
+  /**
+   * Gets the number of points in the WKB geometry.
+   * This may be less than the number of points in the created geometry,
+   * if the geometry structure is repaired.
+   * 
+   * @return the number of points
+   * @throws ParseException if the WKB is ill-formed
+   */
+  public int getNumPoints() throws ParseException {
+    scan();
+    return numPoints;
+  }
+  
+  /**
+   * Tests whether the geometry is empty.
+   * 
+   * @return true if the geometry is empty
+   * @throws ParseException if the WKB is ill-formed
+   */
+  public boolean isEmpty() throws ParseException {
+    return getNumPoints() == 0;
+  }
+  
+  /**
+   * Gets the envelope of the geometry.
+   * The returned object is cached, and should not be modified.
+   * 
+   * @return the envelope of the geometry
+   * @throws ParseException if the WKB is ill-formed
+   */
+  public Envelope getEnvelopeInternal() throws ParseException {
+    scan();
+    return env;
+  }
+  
+  /**
+   * Gets the number of bytes in the WKB geometry.
+   * 
+   * @return the length of the WKB in bytes
+   * @throws ParseException if the WKB is ill-formed
+   */
+  public int getWKBLength() throws ParseException {
+    scan();
+    return end - start;
+  }
+  
+  /**
+   * Gets the geometry, creating it if required.
+   * 
+   * @return the geometry
+   * @throws ParseException if the WKB is ill-formed
+   */
+  public Geometry getGeometry() throws ParseException {
+    if (geom == null) {
+      geom = createGeometry();
+    }
+    return geom;
+  }
+
+  private Geometry createGeometry() throws ParseException {
+    if (factory.getPrecisionModel().getType() != PrecisionModel.FLOATING) {
+      // ordinates must be made precise, so read a copy
+      byte[] wkb = new byte[getWKBLength()];
+      ByteBuffer src = bufBE.duplicate();
+      ((Buffer) src).position(start);
+      src.get(wkb);
+      return new WKBReader(factory).read(wkb);
+    }
+    Cursor cursor = new Cursor(start);
+    try {
+      return readGeometry(cursor, 0);
+    }
+    catch (IndexOutOfBoundsException ex) {
+      throw new ParseException("Unexpected end of WKB");
+    }
+  }
+  
+  private void scan() throws ParseException {
+    if (end >= 0) return;
+    Cursor cursor = new Cursor(start);
+    Envelope scanEnv = new Envelope();
+    try {
+      numPoints = scanGeometry(cursor, scanEnv);
+    }
+    catch (IndexOutOfBoundsException ex) {
+      throw new ParseException("Unexpected end of WKB");
+    }
+    env = scanEnv;
+    end = cursor.pos;
+  }
+  
+  /**
+   * Scans a geometry to compute its envelope,
+   * and advances the cursor to the end of the geometry.
+   * 
+   * @return the number of points in the geometry
+   */
+  private int scanGeometry(Cursor cursor, Envelope env) throws ParseException {
+    readHeader(cursor);
+    int count = 0;
+    switch (cursor.geometryType) {
+    case WKBConstants.wkbPoint:
+      return scanCoordinates(cursor, 1, env, true);
+    case WKBConstants.wkbLineString:
+      return scanCoordinates(cursor, readNumField(cursor, "numCoords"), env, false);
+    case WKBConstants.wkbPolygon:
+      int numRings = readNumField(cursor, "numRings");
+      for (int i = 0; i < numRings; i++) {
+        count += scanCoordinates(cursor, readNumField(cursor, "numCoords"), env, false);
+      }
+      return count;
+    case WKBConstants.wkbMultiPoint:
+    case WKBConstants.wkbMultiLineString:
+    case WKBConstants.wkbMultiPolygon:
+    case WKBConstants.wkbGeometryCollection:
+      int numElems = readNumField(cursor, "numElems");
+      for (int i = 0; i < numElems; i++) {
+        count += scanGeometry(cursor, env);
+      }
+      return count;
+    }
+    throw new ParseException("Unknown WKB type " + cursor.geometryType);
+  }
+
+  private int scanCoordinates(Cursor cursor, int size, Envelope env, boolean isPoint) {
+    int stride = cursor.dimension * DOUBLE_SIZE;
+    ByteBuffer buf = cursor.getBuffer();
+    int pos = cursor.pos;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      double x = buf.getDouble(pos);
+      double y = buf.getDouble(pos + DOUBLE_SIZE);
+      pos += stride;
+      // empty points are represented with NaN ordinates
+      if (isPoint && (Double.isNaN(x) || Double.isNaN(y))) 
+        continue;
+      env.expandToInclude(x, y);
+      count++;
+    }
+    cursor.pos = pos;
+    return count;
+  }
+  
+  private Geometry readGeometry(Cursor cursor, int parentSRID) throws ParseException {
+    readHeader(cursor);
+    int SRID = cursor.hasSRID ? cursor.srid : parentSRID;
+    Geometry geom;
+    switch (cursor.geometryType) {
+    case WKBConstants.wkbPoint:
+      geom = readPoint(cursor);
+      break;
+    case WKBConstants.wkbLineString:
+      geom = factory.createLineString(readLineSequence(cursor));
+      break;
+    case WKBConstants.wkbPolygon:
+      geom = readPolygon(cursor);
+      break;
+    case WKBConstants.wkbMultiPoint:
+      geom = factory.createMultiPoint(readElements(cursor, SRID, new Point[readNumField(cursor, "numElems")], Point.class, "MultiPoint"));
+      break;
+    case WKBConstants.wkbMultiLineString:
+      geom = factory.createMultiLineString(readElements(cursor, SRID, new LineString[readNumField(cursor, "numElems")], LineString.class, "MultiLineString"));
+      break;
+    case WKBConstants.wkbMultiPolygon:
+      geom = factory.createMultiPolygon(readElements(cursor, SRID, new Polygon[readNumField(cursor, "numElems")], Polygon.class, "MultiPolygon"));
+      break;
+    case WKBConstants.wkbGeometryCollection:
+      geom = factory.createGeometryCollection(readElements(cursor, SRID, new Geometry[readNumField(cursor, "numElems")], Geometry.class, "GeometryCollection"));
+      break;
+    default:
+      throw new ParseException("Unknown WKB type " + cursor.geometryType);
+    }
+    if (SRID != 0)
+      geom.setSRID(SRID);
+    return geom;
+  }
+
+  private <T extends Geometry> T[] readElements(Cursor cursor, int SRID, T[] elems, Class<T> elemClass, String typeName) throws ParseException {
+    for (int i = 0; i < elems.length; i++) {
+      Geometry g = readGeometry(cursor, SRID);
+      if (! elemClass.isInstance(g))
+        throw new ParseException(INVALID_GEOM_TYPE_MSG + typeName);
+      elems[i] = elemClass.cast(g);
+    }
+    return elems;
+  }
+  
+  private Point readPoint(Cursor cursor) throws ParseException {
+    CoordinateSequence pts = readSequence(cursor, 1);
+    // If X and Y are NaN create a empty point
+    if (Double.isNaN(pts.getX(0)) || Double.isNaN(pts.getY(0))) {
+      return factory.createPoint();
+    }
+    return factory.createPoint(pts);
+  }
+  
+  private CoordinateSequence readLineSequence(Cursor cursor) throws ParseException {
+    CoordinateSequence seq = readSequence(cursor, readNumField(cursor, "numCoords"));
+    if (seq.size() == 0 || seq.size() >= 2) return seq;
+    return CoordinateSequences.extend(factory.getCoordinateSequenceFactory(), seq, 2);
+  }
+
+  private Polygon readPolygon(Cursor cursor) throws ParseException {
+    int numRings = readNumField(cursor, "numRings");
+    // empty polygon
+    if (numRings <= 0)
+      return factory.createPolygon();
+    
+    LinearRing shell = readLinearRing(cursor);
+    LinearRing[] holes = new LinearRing[numRings - 1];
+    for (int i = 0; i < numRings - 1; i++) {
+      holes[i] = readLinearRing(cursor);
+    }
+    return factory.createPolygon(shell, holes);
+  }
+  
+  private LinearRing readLinearRing(Cursor cursor) throws ParseException {
+    CoordinateSequence seq = readSequence(cursor, readNumField(cursor, "numCoords"));
+    if (! CoordinateSequences.isRing(seq)) {
+      CoordinateSequenceFactory csFactory = factory.getCoordinateSequenceFactory();
+      seq = CoordinateSequences.ensureValidRing(csFactory, seq);
+    }
+    return factory.createLinearRing(seq);
+  }
+  
+  private CoordinateSequence readSequence(Cursor cursor, int size) throws ParseException {
+    if (cursor.pos + (long) size * cursor.dimension * DOUBLE_SIZE > bufBE.limit())
+      throw new ParseException("Unexpected end of WKB");
+    int measures = cursor.hasM ? 1 : 0;
+    CoordinateSequence seq = new ByteBufferCoordinateSequence(cursor.getBuffer(), cursor.pos, 
+        size, cursor.dimension, measures);
+    cursor.pos += size * cursor.dimension * DOUBLE_SIZE;
+    return seq;
+  }
+  
+  /**
+   * Reads a geometry header and sets the cursor fields.
+   */
+  private void readHeader(Cursor cursor) {
+    byte byteOrderWKB = bufBE.get(cursor.pos);
+    // if not XDR or NDR, use the order of the parent geometry (as WKBReader does) 
+    if (byteOrderWKB == WKBConstants.wkbNDR) {
+      cursor.isLittleEndian = true;
+    }
+    else if (byteOrderWKB == WKBConstants.wkbXDR) {
+      cursor.isLittleEndian = false;
+    }
+    int typeInt = cursor.getBuffer().getInt(cursor.pos + 1);
+    cursor.pos += 1 + INT_SIZE;
+    
+    /**
+     * To get geometry type mask out EWKB flag bits, 
+     * and use only low 3 digits of type word.
+     * This supports both EWKB and ISO/OGC.
+     */
+    cursor.geometryType = (typeInt & 0xffff) % 1000;
+    int isoDim = (typeInt & 0xffff) / 1000;
+    cursor.hasZ = (typeInt & 0x80000000) != 0 || isoDim == 1 || isoDim == 3;
+    cursor.hasM = (typeInt & 0x40000000) != 0 || isoDim == 2 || isoDim == 3;
+    cursor.dimension = 2 + (cursor.hasZ ? 1 : 0) + (cursor.hasM ? 1 : 0);
+    
+    // determine if SRIDs are present (EWKB only)
+    cursor.hasSRID = (typeInt & 0x20000000) != 0;
+    if (cursor.hasSRID) {
+      cursor.srid = cursor.getBuffer().getInt(cursor.pos);
+      cursor.pos += INT_SIZE;
+    }
+  }
+  
+  private int readNumField(Cursor cursor, String fieldName) throws ParseException {
+    int num = cursor.getBuffer().getInt(cursor.pos);
+    cursor.pos += INT_SIZE;
+    // each element requires at least 4 bytes
+    if (num < 0 || num > (bufBE.limit() - cursor.pos) / INT_SIZE) {
+      throw new ParseException(fieldName + " value is too large");
+    }
+    return num;
+  }
+  
+  /**
+   * The current read position and the header values 
+   * of the geometry being read.
+   */
+  private class Cursor {
+    int pos;
+    boolean isLittleEndian = false;
+    int geometryType;
+    boolean hasZ;
+    boolean hasM;
+    int dimension;
+    boolean hasSRID;
+    int srid;
+    
+    Cursor(int pos) {
+      this.pos = pos;
+    }
+    
+    ByteBuffer getBuffer() {
+      return isLittleEndian ? bufLE : bufBE;
+    }
+  }
+}
@@ -178,7 +178,15 @@ public class WKBReader
     return read(is, Integer.MAX_VALUE);
   }
 
-  private Geometry read(InStream is, int maxCoordNum)
+  /**
+   * Reads a {@link Geometry} from an {@link InStream},
+   * with a known upper bound on the values of count fields.
+   * 
+   * @param is the stream to read from
+   * @param maxCoordNum the maximum allowed value of a count field
+   * @return the Geometry read
+   */
+  Geometry read(InStream is, int maxCoordNum)
   throws IOException, ParseException
   {
     /**
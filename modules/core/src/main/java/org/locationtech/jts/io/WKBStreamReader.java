@@ -0,0 +1,678 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+/**
+ * Reads a sequence of {@link Geometry}s in WKB format
+ * from an {@link InputStream}, a {@link ReadableByteChannel}
+ * (such as a {@link java.nio.channels.FileChannel}) or a {@link ByteBuffer}.
+ * The WKB records may be either concatenated directly,
+ * or each preceded by a 4-byte length prefix
+ * (see {@link #setLengthPrefixed(boolean)}).
+ * Concatenated records are delimited by scanning the WKB structure,
+ * which is much faster than parsing it.
+ * <p>
+ * Input is read through a single buffer which is reused for all records
+ * and grows only as needed to hold the largest record,
+ * so arbitrarily large inputs can be processed with bounded memory.
+ * The same {@link WKBReader} and its coordinate buffers
+ * are used to parse each record.
+ * <p>
+ * Geometries can be read one at a time with {@link #read()},
+ * or via an {@link Iterator} or {@link Spliterator}.
+ * The spliterator supports splitting,
+ * so that a parallel stream of geometries can be created with
+ * <pre>
+ *   StreamSupport.stream(reader.spliterator(), true)
+ * </pre>
+ * Splitting copies the bytes of a batch of records
+ * (or shares them, for a <tt>ByteBuffer</tt>),
+ * which are then parsed independently of this reader.
+ * The order of the records is preserved.
+ * <p>
+ * The WKB can be in the formats supported by {@link WKBReader}.
+ * Records read from a <tt>ByteBuffer</tt> are parsed in place.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see WKBReader
+ * @see WKBGeometryView
+ */
+public class WKBStreamReader
+  implements Closeable
+{
+  private static final int INT_SIZE = 4;
+  private static final int DOUBLE_SIZE = 8;
+
+  private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * The size of the first batch split off by the spliterator.
+   * Batches grow up to a maximum size,
+   * to give good parallelism for both small and large inputs.
+   */
+  private static final int BATCH_SIZE_INITIAL = 256 * 1024;
+  private static final int BATCH_SIZE_MAX = 32 * 1024 * 1024;
+  /**
+   * The size below which a buffer of records is not split.
+   */
+  private static final int SPLIT_SIZE_MIN = 16 * 1024;
+
+  private static final int NO_RECORD = -1;
+  private static final int INCOMPLETE = -1;
+
+  private GeometryFactory factory;
+  private WKBReader wkbReader;
+  private ReadableByteChannel channel;
+  private ByteBuffer buf;
+  private boolean isEndOfInput = false;
+  private BufferInStream inStream;
+
+  private boolean isLengthPrefixed = false;
+  private ByteOrder prefixOrder = ByteOrder.BIG_ENDIAN;
+  private long count = 0;
+
+  // scan state
+  private int scanPos;
+  private ByteOrder scanOrder;
+
+  /**
+   * Creates a reader for the WKB records in an {@link InputStream},
+   * using the given factory to create geometries.
+   *
+   * @param is the stream to read from
+   * @param factory the factory to create geometries with
+   */
+  public WKBStreamReader(InputStream is, GeometryFactory factory)
+  {
+    this(Channels.newChannel(is), factory);
+  }
+
+  /**
+   * Creates a reader for the WKB records in a {@link ReadableByteChannel},
+   * using the given factory to create geometries.
+   * The channel must be in blocking mode.
+   *
+   * @param channel the channel to read from
+   * @param factory the factory to create geometries with
+   * @throws IllegalArgumentException if the channel is in non-blocking mode
+   */
+  public WKBStreamReader(ReadableByteChannel channel, GeometryFactory factory)
+  {
+    if (isNonBlocking(channel))
+      throw new IllegalArgumentException("WKB input channel must be in blocking mode");
+    this.channel = channel;
+    this.factory = factory;
+    buf = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    // buffer starts empty
+    ((Buffer) buf).flip();
+    init();
+  }
+
+  /**
+   * Creates a reader for the WKB records
+   * between the position and the limit of a {@link ByteBuffer},
+   * using the given factory to create geometries.
+   * The position of the buffer is not changed.
+   *
+   * @param wkb the buffer to read from
+   * @param factory the factory to create geometries with
+   */
+  public WKBStreamReader(ByteBuffer wkb, GeometryFactory factory)
+  {
+    this.factory = factory;
+    buf = wkb.duplicate();
+    isEndOfInput = true;
+    init();
+  }
+
+  private void init() {
+    wkbReader = new WKBReader(factory);
+    inStream = new BufferInStream(buf);
+  }
+
+  /**
+   * Sets whether each WKB record is preceded by its length in bytes,
+   * as a 4-byte integer.
+   * The default is that records are concatenated with no prefix.
+   *
+   * @param isLengthPrefixed true if records have a length prefix
+   */
+  public void setLengthPrefixed(boolean isLengthPrefixed) {
+    this.isLengthPrefixed = isLengthPrefixed;
+  }
+
+  /**
+   * Sets the byte order of the record length prefixes,
+   * using the codes in {@link ByteOrderValues}.
+   * The default is {@link ByteOrderValues#BIG_ENDIAN}.
+   *
+   * @param byteOrder the byte order code of the length prefixes
+   */
+  public void setPrefixByteOrder(int byteOrder) {
+    this.prefixOrder = byteOrder == ByteOrderValues.LITTLE_ENDIAN
+        ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+  }
+
+  /**
+   * Gets the number of records read so far.
+   *
+   * @return the number of records read
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Reads the next geometry.
+   *
+   * @return the geometry read, or null if the end of the input has been reached
+   * @throws IOException if an I/O error occurred
+   * @throws ParseException if a record is not valid WKB
+   */
+  public Geometry read()
+      throws IOException, ParseException
+  {
+    int len = nextRecord();
+    if (len == NO_RECORD)
+      return null;
+    int start = buf.position();
+    inStream.setRange(start, start + len);
+    Geometry geom = wkbReader.read(inStream, len / DOUBLE_SIZE);
+    ((Buffer) buf).position(start + len);
+    return geom;
+  }
+
+  /**
+   * Reads the bytes of the next WKB record.
+   * The returned buffer shares the reader's internal buffer,
+   * so it is only valid until the next record is read.
+   * It can be used to create a {@link WKBGeometryView}.
+   *
+   * @return a buffer containing the bytes of the record,
+   *   or null if the end of the input has been reached
+   * @throws IOException if an I/O error occurred
+   * @throws ParseException if a record is not valid WKB
+   */
+  public ByteBuffer readRecord()
+      throws IOException, ParseException
+  {
+    int len = nextRecord();
+    if (len == NO_RECORD)
+      return null;
+    ByteBuffer rec = buf.slice();
+    ((Buffer) rec).limit(len);
+    ((Buffer) buf).position(buf.position() + len);
+    return rec.asReadOnlyBuffer();
+  }
+
+  /**
+   * Closes the underlying input, if any.
+   *
+   * @throws IOException if an I/O error occurred
+   */
+  public void close()
+      throws IOException
+  {
+    if (channel != null)
+      channel.close();
+  }
+
+  /**
+   * Gets an {@link Iterator} over the remaining geometries.
+   * Errors are reported by throwing an {@link UncheckedIOException}
+   * for I/O errors,
+   * and an {@link IllegalArgumentException} for invalid WKB records.
+   *
+   * @return an iterator over the geometries
+   */
+  public Iterator<Geometry> iterator() {
+    return new GeometryIterator();
+  }
+
+  /**
+   * Gets a {@link Spliterator} over the remaining geometries,
+   * which can be split to process the geometries in parallel.
+   * Errors are reported as for {@link #iterator()}.
+   *
+   * @return a spliterator over the geometries
+   */
+  public Spliterator<Geometry> spliterator() {
+    return new GeometrySpliterator(this);
+  }
+
+  private Geometry readUnchecked() {
+    try {
+      return read();
+    }
+    catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    catch (ParseException ex) {
+      throw new IllegalArgumentException(ex.getMessage(), ex);
+    }
+  }
+
+  /**
+   * Creates a reader for a prefix of the remaining records,
+   * and skips over them.
+   * Records from a <tt>ByteBuffer</tt> are shared,
+   * and about half of them are split off.
+   * Otherwise the bytes of the records are copied,
+   * up to a maximum size (but always including at least one record).
+   *
+   * @param maxSize the maximum number of bytes to copy
+   * @return a reader for the records, or null if the records cannot be split
+   */
+  private WKBStreamReader split(int maxSize)
+      throws IOException, ParseException
+  {
+    ByteBuffer batch = channel == null ? splitBuffer() : copyRecords(maxSize);
+    if (batch == null)
+      return null;
+    WKBStreamReader reader = new WKBStreamReader(batch, factory);
+    reader.isLengthPrefixed = isLengthPrefixed;
+    reader.prefixOrder = prefixOrder;
+    return reader;
+  }
+
+  private ByteBuffer splitBuffer()
+      throws IOException, ParseException
+  {
+    if (buf.remaining() < SPLIT_SIZE_MIN)
+      return null;
+    int start = buf.position();
+    long startCount = count;
+    int splitSize = buf.remaining() / 2;
+    while (buf.position() - start < splitSize) {
+      int len = nextRecord();
+      if (len == NO_RECORD)
+        break;
+      ((Buffer) buf).position(buf.position() + len);
+    }
+    // don't split if there is only one record
+    if (! buf.hasRemaining()) {
+      ((Buffer) buf).position(start);
+      count = startCount;
+      return null;
+    }
+    ByteBuffer batch = buf.duplicate();
+    ((Buffer) batch).limit(buf.position());
+    ((Buffer) batch).position(start);
+    return batch.slice();
+  }
+
+  private ByteBuffer copyRecords(int maxSize)
+      throws IOException, ParseException
+  {
+    ByteBuffer batch = null;
+    while (batch == null || batch.position() < maxSize) {
+      int len = nextRecord();
+      if (len == NO_RECORD)
+        break;
+      int recLen = len + (isLengthPrefixed ? INT_SIZE : 0);
+      if (batch == null) {
+        batch = ByteBuffer.allocate(Math.max(maxSize, recLen)).order(prefixOrder);
+      }
+      else if (batch.remaining() < recLen) {
+        ByteBuffer newBatch = ByteBuffer.allocate(batch.position() + recLen).order(prefixOrder);
+        ((Buffer) batch).flip();
+        newBatch.put(batch);
+        batch = newBatch;
+      }
+      // the prefix may no longer be in the buffer, so write it from the length
+      if (isLengthPrefixed)
+        batch.putInt(len);
+      ByteBuffer rec = buf.duplicate();
+      ((Buffer) rec).limit(buf.position() + len);
+      batch.put(rec);
+      ((Buffer) buf).position(buf.position() + len);
+    }
+    if (batch == null)
+      return null;
+    ((Buffer) batch).flip();
+    return batch;
+  }
+
+  /**
+   * Finds the length of the next record,
+   * ensuring that all its bytes are in the buffer
+   * starting at the buffer position.
+   *
+   * @return the length of the record, or NO_RECORD if at the end of input
+   */
+  private int nextRecord()
+      throws IOException, ParseException
+  {
+    if (! ensure(1))
+      return NO_RECORD;
+    int len;
+    if (isLengthPrefixed) {
+      if (! ensure(INT_SIZE))
+        throw new ParseException("Unexpected end of input reading record length");
+      len = buf.order(prefixOrder).getInt(buf.position());
+      if (len < 0)
+        throw new ParseException("Invalid record length " + Integer.toUnsignedString(len));
+      ((Buffer) buf).position(buf.position() + INT_SIZE);
+      if (! ensure(len))
+        throw new ParseException("Unexpected end of input in record " + count);
+    }
+    else {
+      len = scanRecord();
+    }
+    count++;
+    return len;
+  }
+
+  /**
+   * Scans the WKB structure of the next record to determine its length,
+   * reading more input if the record is not entirely in the buffer.
+   *
+   * @return the length of the record
+   */
+  private int scanRecord()
+      throws IOException, ParseException
+  {
+    while (true) {
+      scanPos = 0;
+      scanOrder = ByteOrder.BIG_ENDIAN;
+      if (scanGeometry())
+        return scanPos;
+      /**
+       * The record is incomplete, so load more input.
+       * The rescan is amortized, since the buffer is either filled
+       * or enlarged each time.
+       */
+      if (! ensure(buf.remaining() + 1))
+        throw new ParseException("Unexpected end of input in record " + count);
+    }
+  }
+
+  private boolean scanGeometry()
+      throws ParseException
+  {
+    if (! isAvailable(1 + INT_SIZE))
+      return false;
+    int start = buf.position();
+    byte byteOrderWKB = buf.get(start + scanPos);
+    // as in WKBReader, an invalid byte order uses the previous one
+    if (byteOrderWKB == WKBConstants.wkbNDR)
+      scanOrder = ByteOrder.LITTLE_ENDIAN;
+    else if (byteOrderWKB == WKBConstants.wkbXDR)
+      scanOrder = ByteOrder.BIG_ENDIAN;
+    int typeInt = buf.order(scanOrder).getInt(start + scanPos + 1);
+    scanPos += 1 + INT_SIZE;
+
+    int geometryType = (typeInt & 0xffff) % 1000;
+    boolean hasZ = ((typeInt & 0x80000000) != 0 || (typeInt & 0xffff)/1000 == 1 || (typeInt & 0xffff)/1000 == 3);
+    boolean hasM = ((typeInt & 0x40000000) != 0 || (typeInt & 0xffff)/1000 == 2 || (typeInt & 0xffff)/1000 == 3);
+    int dim = 2 + (hasZ ? 1 : 0) + (hasM ? 1 : 0);
+    boolean hasSRID = (typeInt & 0x20000000) != 0;
+    if (hasSRID) {
+      scanPos += INT_SIZE;
+    }
+
+    switch (geometryType) {
+    case WKBConstants.wkbPoint:
+      return skip((long) dim * DOUBLE_SIZE);
+    case WKBConstants.wkbLineString:
+      return scanSequence(dim);
+    case WKBConstants.wkbPolygon: {
+      int numRings = scanNumField();
+      if (numRings < 0)
+        return false;
+      for (int i = 0; i < numRings; i++) {
+        if (! scanSequence(dim))
+          return false;
+      }
+      return true;
+    }
+    case WKBConstants.wkbMultiPoint:
+    case WKBConstants.wkbMultiLineString:
+    case WKBConstants.wkbMultiPolygon:
+    case WKBConstants.wkbGeometryCollection: {
+      int numElems = scanNumField();
+      if (numElems < 0)
+        return false;
+      for (int i = 0; i < numElems; i++) {
+        if (! scanGeometry())
+          return false;
+      }
+      return true;
+    }
+    }
+    throw new ParseException("Unknown WKB type " + geometryType);
+  }
+
+  private boolean scanSequence(int dim)
+      throws ParseException
+  {
+    int size = scanNumField();
+    if (size < 0)
+      return false;
+    return skip((long) size * dim * DOUBLE_SIZE);
+  }
+
+  /**
+   * Reads a count field.
+   *
+   * @return the count value, or INCOMPLETE if the input is incomplete
+   */
+  private int scanNumField()
+      throws ParseException
+  {
+    if (! isAvailable(INT_SIZE))
+      return INCOMPLETE;
+    int num = buf.order(scanOrder).getInt(buf.position() + scanPos);
+    if (num < 0)
+      throw new ParseException("Count value is too large in record " + count);
+    scanPos += INT_SIZE;
+    return num;
+  }
+
+  private boolean skip(long len)
+      throws ParseException
+  {
+    if (scanPos + len > Integer.MAX_VALUE)
+      throw new ParseException("Record is too large in record " + count);
+    if (! isAvailable((int) len))
+      return false;
+    scanPos += len;
+    return true;
+  }
+
+  /**
+   * Tests whether bytes following the scan position are in the buffer.
+   *
+   * @param len the number of bytes required
+   * @return true if the bytes are available
+   */
+  private boolean isAvailable(int len) {
+    return buf.remaining() - scanPos >= len;
+  }
+
+  /**
+   * Ensures that a number of bytes following the buffer position
+   * are in the buffer, if possible.
+   * If more input is required the buffer is compacted and refilled,
+   * and is enlarged if it is too small.
+   *
+   * @param len the number of bytes required
+   * @return true if the bytes are available,
+   *   false if the end of input was reached first
+   */
+  private boolean ensure(int len)
+      throws IOException
+  {
+    while (buf.remaining() < len) {
+      if (isEndOfInput)
+        return false;
+      if (buf.position() == 0 && buf.limit() == buf.capacity()) {
+        // buffer is full, so enlarge it
+        long newCap = Math.max(2L * buf.capacity(), len);
+        ByteBuffer newBuf = ByteBuffer.allocate((int) Math.min(newCap, Integer.MAX_VALUE - 8));
+        newBuf.put(buf);
+        buf = newBuf;
+        inStream.setBuffer(buf);
+      }
+      else {
+        buf.compact();
+      }
+      fill();
+    }
+    return true;
+  }
+
+  /**
+   * Reads from the input until the buffer is full or the end of input is reached,
+   * leaving the buffer ready for reading.
+   */
+  private void fill()
+      throws IOException
+  {
+    while (buf.hasRemaining()) {
+      int n = channel.read(buf);
+      if (n < 0) {
+        isEndOfInput = true;
+        break;
+      }
+      // a channel switched to non-blocking mode would make this loop spin
+      if (n == 0 && isNonBlocking(channel))
+        throw new IOException("WKB input channel must be in blocking mode");
+    }
+    ((Buffer) buf).flip();
+  }
+
+  private static boolean isNonBlocking(ReadableByteChannel channel) {
+    return channel instanceof SelectableChannel
+        && ! ((SelectableChannel) channel).isBlocking();
+  }
+
+  /**
+   * An {@link InStream} over a range of a buffer,
+   * which is reused for each record.
+   */
+  private static class BufferInStream
+    implements InStream
+  {
+    private ByteBuffer buf;
+    private int pos;
+    private int end;
+
+    BufferInStream(ByteBuffer buf) {
+      this.buf = buf;
+    }
+
+    void setBuffer(ByteBuffer buf) {
+      this.buf = buf;
+    }
+
+    void setRange(int start, int end) {
+      this.pos = start;
+      this.end = end;
+    }
+
+    public int read(byte[] dest) {
+      int n = Math.min(dest.length, end - pos);
+      for (int i = 0; i < n; i++) {
+        dest[i] = buf.get(pos + i);
+      }
+      pos += n;
+      return n;
+    }
+  }
+
+  private class GeometryIterator
+    implements Iterator<Geometry>
+  {
+    private Geometry next = null;
+
+    public boolean hasNext() {
+      if (next == null)
+        next = readUnchecked();
+      return next != null;
+    }
+
+    public Geometry next() {
+      if (! hasNext())
+        throw new NoSuchElementException();
+      Geometry geom = next;
+      next = null;
+      return geom;
+    }
+  }
+
+  private static class GeometrySpliterator
+    implements Spliterator<Geometry>
+  {
+    private WKBStreamReader reader;
+    private int batchSize = BATCH_SIZE_INITIAL;
+
+    GeometrySpliterator(WKBStreamReader reader) {
+      this.reader = reader;
+    }
+
+    public boolean tryAdvance(Consumer<? super Geometry> action) {
+      Geometry geom = reader.readUnchecked();
+      if (geom == null)
+        return false;
+      action.accept(geom);
+      return true;
+    }
+
+    public Spliterator<Geometry> trySplit() {
+      WKBStreamReader batch;
+      try {
+        batch = reader.split(batchSize);
+      }
+      catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+      catch (ParseException ex) {
+        throw new IllegalArgumentException(ex.getMessage(), ex);
+      }
+      if (batch == null)
+        return null;
+      batchSize = Math.min(2 * batchSize, BATCH_SIZE_MAX);
+      return new GeometrySpliterator(batch);
+    }
+
+    public long estimateSize() {
+      // the size of a buffer is a proxy for the number of records
+      if (reader.channel == null)
+        return reader.buf.remaining();
+      return Long.MAX_VALUE;
+    }
+
+    public int characteristics() {
+      return ORDERED | NONNULL;
+    }
+  }
+}
@@ -11,8 +11,11 @@
  */
 package org.locationtech.jts.io;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
@@ -25,12 +28,18 @@ import org.locationtech.jts.geom.MultiPoint;
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 import org.locationtech.jts.util.Assert;
 
 /**
  * Writes a {@link Geometry} into Well-Known Binary format.
  * Supports use of an {@link OutStream}, which allows easy use
  * with arbitrary byte stream sinks.
+ * WKB can also be written directly into a {@link ByteBuffer}
+ * or a byte array at a given offset.
+ * The exact size of the WKB for a geometry
+ * is provided by {@link #getWKBLength(Geometry)}, 
+ * which allows output buffers to be allocated or reused as required.
  * <p>
  * The WKB format is specified in the 
  * OGC <A HREF="http://portal.opengeospatial.org/files/?artifact_id=829"><i>Simple Features for SQL
@@ -214,8 +223,6 @@ public class WKBWriter
   private int outputDimension = 2;
   private int byteOrder;
   private boolean includeSRID = false;
-  private ByteArrayOutputStream byteArrayOS = new ByteArrayOutputStream();
-  private OutStream byteArrayOutStream = new OutputStreamOutStream(byteArrayOS);
   // holds output data values
   private byte[] buf = new byte[8];
 
@@ -299,14 +306,214 @@ public class WKBWriter
    */
   public byte[] write(Geometry geom)
   {
+    byte[] bytes = new byte[getWKBLength(geom)];
+    writeBuffer(geom, ByteBuffer.wrap(bytes));
+    return bytes;
+  }
+
+  /**
+   * Computes the number of bytes in the WKB for a {@link Geometry}
+   * written with the settings of this writer.
+   * This is computed from the structure of the geometry,
+   * without accessing the coordinates.
+   *
+   * @param geom the geometry to be written
+   * @return the length of the WKB in bytes
+   * @throws IllegalArgumentException if the WKB length is too large to fit in an array
+   */
+  public int getWKBLength(Geometry geom)
+  {
+    long len = wkbLength(geom, includeSRID);
+    if (len > Integer.MAX_VALUE)
+      throw new IllegalArgumentException("WKB length is too large: " + len);
+    return (int) len;
+  }
+
+  private long wkbLength(Geometry geom, boolean isSRIDIncluded)
+  {
+    long len = 1 + 4 + (isSRIDIncluded ? 4 : 0);
+    if (geom instanceof Point) {
+      return len + 8 * outputDimension;
+    }
+    if (geom instanceof LineString) {
+      return len + sequenceLength(((LineString) geom).getCoordinateSequence());
+    }
+    if (geom instanceof Polygon) {
+      Polygon poly = (Polygon) geom;
+      len += 4;
+      if (poly.isEmpty())
+        return len;
+      len += sequenceLength(poly.getExteriorRing().getCoordinateSequence());
+      for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+        len += sequenceLength(poly.getInteriorRingN(i).getCoordinateSequence());
+      }
+      return len;
+    }
+    len += 4;
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      len += wkbLength(geom.getGeometryN(i), false);
+    }
+    return len;
+  }
+
+  private long sequenceLength(CoordinateSequence seq)
+  {
+    return 4 + 8L * outputDimension * seq.size();
+  }
+
+  /**
+   * Writes a {@link Geometry} into a byte array, starting at a given offset.
+   * The array must have at least {@link #getWKBLength(Geometry)} bytes 
+   * available after the offset.
+   *
+   * @param geom the geometry to write
+   * @param bytes the array to write into
+   * @param offset the offset in the array to start writing at
+   * @return the number of bytes written
+   * @throws BufferOverflowException if there is not enough space in the array
+   */
+  public int write(Geometry geom, byte[] bytes, int offset)
+  {
+    ByteBuffer buf = ByteBuffer.wrap(bytes);
+    ((Buffer) buf).position(offset);
+    write(geom, buf);
+    return buf.position() - offset;
+  }
+
+  /**
+   * Writes a {@link Geometry} into a {@link ByteBuffer}, 
+   * starting at the current position of the buffer.
+   * The position is advanced past the written WKB.
+   * The buffer may be a heap or a direct buffer.
+   * The byte order used is that of this writer; 
+   * the byte order setting of the buffer is not changed.
+   * <p>
+   * The geometry is written only if the buffer has enough space remaining.
+   *
+   * @param geom the geometry to write
+   * @param buf the buffer to write into
+   * @throws BufferOverflowException if there is not enough space remaining in the buffer
+   */
+  public void write(Geometry geom, ByteBuffer buf)
+  {
+    if (buf.remaining() < getWKBLength(geom))
+      throw new BufferOverflowException();
+    writeBuffer(geom, buf);
+  }
+
+  private void writeBuffer(Geometry geom, ByteBuffer buf)
+  {
+    ByteOrder bufOrder = buf.order();
+    buf.order(byteOrder == ByteOrderValues.LITTLE_ENDIAN 
+        ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
     try {
-      byteArrayOS.reset();
-      write(geom, byteArrayOutStream);
+      writeGeometry(geom, includeSRID, buf);
+    }
+    finally {
+      buf.order(bufOrder);
+    }
+  }
+
+  private void writeGeometry(Geometry geom, boolean isSRIDIncluded, ByteBuffer buf)
+  {
+    if (geom instanceof Point) {
+      writeHeader(WKBConstants.wkbPoint, geom, isSRIDIncluded, buf);
+      CoordinateSequence seq = ((Point) geom).getCoordinateSequence();
+      if (seq.size() == 0) {
+        // write empty point as NaNs (extension to OGC standard)
+        for (int i = 0; i < outputDimension; i++) {
+          buf.putDouble(Double.NaN);
+        }
+      }
+      else {
+        writeCoordinates(seq, buf);
+      }
+    }
+    // LinearRings will be written as LineStrings
+    else if (geom instanceof LineString) {
+      writeHeader(WKBConstants.wkbLineString, geom, isSRIDIncluded, buf);
+      writeCoordinateSequence(((LineString) geom).getCoordinateSequence(), buf);
+    }
+    else if (geom instanceof Polygon) {
+      Polygon poly = (Polygon) geom;
+      writeHeader(WKBConstants.wkbPolygon, geom, isSRIDIncluded, buf);
+      //--- write empty polygons with no rings (OCG extension)
+      if (poly.isEmpty()) {
+        buf.putInt(0);
+        return;
+      }
+      buf.putInt(poly.getNumInteriorRing() + 1);
+      writeCoordinateSequence(poly.getExteriorRing().getCoordinateSequence(), buf);
+      for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+        writeCoordinateSequence(poly.getInteriorRingN(i).getCoordinateSequence(), buf);
+      }
+    }
+    else if (geom instanceof GeometryCollection) {
+      writeHeader(collectionType(geom), geom, isSRIDIncluded, buf);
+      buf.putInt(geom.getNumGeometries());
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        writeGeometry(geom.getGeometryN(i), false, buf);
+      }
+    }
+    else {
+      Assert.shouldNeverReachHere("Unknown Geometry type");
+    }
+  }
+
+  private static int collectionType(Geometry geom)
+  {
+    if (geom instanceof MultiPoint)
+      return WKBConstants.wkbMultiPoint;
+    if (geom instanceof MultiLineString)
+      return WKBConstants.wkbMultiLineString;
+    if (geom instanceof MultiPolygon)
+      return WKBConstants.wkbMultiPolygon;
+    return WKBConstants.wkbGeometryCollection;
+  }
+
+  private void writeHeader(int geometryType, Geometry g, boolean isSRIDIncluded, ByteBuffer buf)
+  {
+    buf.put((byte) (byteOrder == ByteOrderValues.LITTLE_ENDIAN 
+        ? WKBConstants.wkbNDR : WKBConstants.wkbXDR));
+    int flag3D = (outputDimension == 3) ? 0x80000000 : 0;
+    int typeInt = geometryType | flag3D;
+    typeInt |= isSRIDIncluded ? 0x20000000 : 0;
+    buf.putInt(typeInt);
+    if (isSRIDIncluded) {
+      buf.putInt(g.getSRID());
+    }
+  }
+
+  private void writeCoordinateSequence(CoordinateSequence seq, ByteBuffer buf)
+  {
+    buf.putInt(seq.size());
+    writeCoordinates(seq, buf);
+  }
+
+  private void writeCoordinates(CoordinateSequence seq, ByteBuffer buf)
+  {
+    int size = seq.size();
+    /**
+     * Packed coordinates with the output dimension
+     * are already in WKB order, so can be copied in bulk
+     */
+    if (seq instanceof PackedCoordinateSequence.Double 
+        && seq.getDimension() == outputDimension) {
+      double[] coords = ((PackedCoordinateSequence.Double) seq).getRawCoordinates();
+      int numOrds = size * outputDimension;
+      buf.asDoubleBuffer().put(coords, 0, numOrds);
+      ((Buffer) buf).position(buf.position() + 8 * numOrds);
+      return;
     }
-    catch (IOException ex) {
-      throw new RuntimeException("Unexpected IO exception: " + ex.getMessage());
+    boolean hasZ = seq.getDimension() >= 3;
+    for (int i = 0; i < size; i++) {
+      buf.putDouble(seq.getX(i));
+      buf.putDouble(seq.getY(i));
+      // only write 3rd dim if caller has requested it for this writer
+      if (outputDimension >= 3) {
+        buf.putDouble(hasZ ? seq.getOrdinate(i, 2) : Coordinate.NULL_ORDINATE);
+      }
     }
-    return byteArrayOS.toByteArray();
   }
 
   /**
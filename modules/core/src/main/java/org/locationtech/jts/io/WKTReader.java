@@ -14,8 +14,6 @@ package org.locationtech.jts.io;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StreamTokenizer;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
@@ -39,8 +37,6 @@ import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
-import org.locationtech.jts.util.Assert;
-import org.locationtech.jts.util.AssertionFailedException;
 
 /**
  * Converts a geometry in Well-Known Text format to a {@link Geometry}.
@@ -77,8 +73,10 @@ import org.locationtech.jts.util.AssertionFailedException;
  * <ul>
  * <li>Keywords are case-insensitive.
  * <li>The reader supports non-standard "LINEARRING" tags.
- * <li>The reader uses <tt>Double.parseDouble</tt> to perform the conversion of ASCII
- * numbers to floating point.  This means it supports the Java
+ * <li>Numbers are converted to floating point with correct rounding.
+ * Decimal numbers in common formats are parsed directly from the input text.
+ * Other numbers are converted using <tt>Double.parseDouble</tt>.
+ * This means the reader supports the Java
  * syntax for floating point literals (including scientific notation).
  * </ul>
  * <h3>Syntax</h3>
@@ -147,7 +145,6 @@ public class WKTReader
   private static final String COMMA = ",";
   private static final String L_PAREN = "(";
   private static final String R_PAREN = ")";
-  private static final String NAN_SYMBOL = "NaN";
 
   private GeometryFactory geometryFactory;
   private CoordinateSequenceFactory csFactory;
@@ -234,12 +231,29 @@ public class WKTReader
    *             if a parsing problem occurs
    */
   public Geometry read(String wellKnownText) throws ParseException {
-    StringReader reader = new StringReader(wellKnownText);
+    return read((CharSequence) wellKnownText);
+  }
+
+  /**
+   * Reads a Well-Known Text representation of a {@link Geometry}
+   * from a {@link CharSequence}.
+   * A <tt>char</tt> array can be read by wrapping it 
+   * with {@link java.nio.CharBuffer#wrap(char[])}.
+   *
+   * @param wellKnownText
+   *            one or more &lt;Geometry Tagged Text&gt; strings (see the OpenGIS
+   *            Simple Features Specification) separated by whitespace
+   * @return a <code>Geometry</code> specified by <code>wellKnownText</code>
+   * @throws ParseException
+   *             if a parsing problem occurs
+   */
+  public Geometry read(CharSequence wellKnownText) throws ParseException {
+    WKTTokenizer tokenizer = new WKTTokenizer(wellKnownText);
     try {
-      return read(reader);
+      return readGeometryTaggedText(tokenizer);
     }
-    finally {
-      reader.close();
+    catch (IOException e) {
+      throw new ParseException(e.toString());
     }
   }
 
@@ -253,9 +267,12 @@ public class WKTReader
    *@throws  ParseException  if a parsing problem occurs
    */
   public Geometry read(Reader reader) throws ParseException {
-    StreamTokenizer tokenizer = createTokenizer(reader);
+    WKTTokenizer tokenizer = new WKTTokenizer(reader);
     try {
-      return readGeometryTaggedText(tokenizer);
+      Geometry geom = readGeometryTaggedText(tokenizer);
+      // leave the reader positioned after the geometry text
+      tokenizer.close();
+      return geom;
     }
     catch (IOException e) {
       throw new ParseException(e.toString());
@@ -263,43 +280,21 @@ public class WKTReader
   }
 
   /**
-   * Utility function to create the tokenizer
-   * @param reader a reader
+   * Reads the ordinates of a coordinate using the given tokenizer,
+   * and appends them to the ordinate buffer of the tokenizer.
+   * The ordinates are stored in the order X, Y, [Z], [M],
+   * with the number determined by {@link #toDimension(EnumSet)}.
+   * Z is NaN if it is allowed but not present.
    *
-   * @return a WKT Tokenizer.
-   */
-  private static StreamTokenizer createTokenizer(Reader reader) {
-    StreamTokenizer tokenizer = new StreamTokenizer(reader);
-    // set tokenizer to NOT parse numbers
-    tokenizer.resetSyntax();
-    tokenizer.wordChars('a', 'z');
-    tokenizer.wordChars('A', 'Z');
-    tokenizer.wordChars(128 + 32, 255);
-    tokenizer.wordChars('0', '9');
-    tokenizer.wordChars('-', '-');
-    tokenizer.wordChars('+', '+');
-    tokenizer.wordChars('.', '.');
-    tokenizer.whitespaceChars(0, ' ');
-    tokenizer.commentChar('#');
-
-    return tokenizer;
-  }
-
-  /**
-   * Reads a <code>Coordinate</Code> from a stream using the given {@link StreamTokenizer}.
-   * <p>
-   * All ordinate values are read, but -depending on the {@link CoordinateSequenceFactory} of the
-   * underlying {@link GeometryFactory}- not necessarily all can be handled. Those are silently dropped.
-   * </p>
    * @param tokenizer the tokenizer to use
    * @param ordinateFlags a bit-mask defining the ordinates to read.
    * @param tryParen a value indicating if a starting {@link #L_PAREN} should be probed.
-   * @return a {@link Coordinate} of appropriate dimension containing the read ordinate values
+   * @param size the number of coordinates already in the buffer
    *
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private Coordinate getCoordinate(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, boolean tryParen)
+  private void readCoordinate(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, boolean tryParen, int size)
       throws IOException, ParseException
   {
     boolean opened = false;
@@ -308,28 +303,26 @@ public class WKTReader
       opened = true;
     }
     
-    // create a sequence for one coordinate
-    int offsetM = ordinateFlags.contains(Ordinate.Z) ? 1 : 0;
-    Coordinate coord = createCoordinate(ordinateFlags);
-    coord.setOrdinate(CoordinateSequence.X, precisionModel.makePrecise(getNextNumber(tokenizer)));
-    coord.setOrdinate(CoordinateSequence.Y, precisionModel.makePrecise(getNextNumber(tokenizer)));
+    int dim = toDimension(ordinateFlags);
+    double[] ords = tokenizer.getOrdinateBuffer((size + 1) * dim);
+    int i = size * dim;
+    ords[i++] = precisionModel.makePrecise(getNextNumber(tokenizer));
+    ords[i++] = precisionModel.makePrecise(getNextNumber(tokenizer));
     
     // additionally read other vertices
     if (ordinateFlags.contains(Ordinate.Z))
-      coord.setOrdinate(CoordinateSequence.Z, getNextNumber(tokenizer));
+      ords[i++] = getNextNumber(tokenizer);
     if (ordinateFlags.contains(Ordinate.M))
-      coord.setOrdinate(CoordinateSequence.Z + offsetM, getNextNumber(tokenizer));
+      ords[i++] = getNextNumber(tokenizer);
     
-    if (ordinateFlags.size() == 2 && this.isAllowOldJtsCoordinateSyntax && isNumberNext(tokenizer)) {
-      coord.setOrdinate(CoordinateSequence.Z, getNextNumber(tokenizer));
+    if (ordinateFlags.size() == 2 && this.isAllowOldJtsCoordinateSyntax) {
+      ords[i++] = isNumberNext(tokenizer) ? getNextNumber(tokenizer) : Double.NaN;
     }
     
     // read close token if it was opened here
     if (opened) {
       getNextCloser(tokenizer);
     }
-    
-    return coord;
   }
   
   private Coordinate createCoordinate(EnumSet<Ordinate> ordinateFlags) {
@@ -345,65 +338,113 @@ public class WKTReader
   }
 
   /**
-   * Reads a <code>Coordinate</Code> from a stream using the given {@link StreamTokenizer}.
+   * Reads a <code>CoordinateSequence</Code> from a stream using the given {@link WKTTokenizer}.
    * <p>
    *   All ordinate values are read, but -depending on the {@link CoordinateSequenceFactory} of the
    *   underlying {@link GeometryFactory}- not necessarily all can be handled. Those are silently dropped.
    * </p>
-   * <p>
-   *
-   * </p>
    * @param tokenizer the tokenizer to use
    * @param ordinateFlags a bit-mask defining the ordinates to read.
-   * @return a {@link CoordinateSequence} of length 1 containing the read ordinate values
+   * @return a {@link CoordinateSequence} containing the read ordinate values
    *
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private CoordinateSequence getCoordinateSequence(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, int minSize, boolean isRing)
+  private CoordinateSequence getCoordinateSequence(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, int minSize, boolean isRing)
           throws IOException, ParseException {
     if (getNextEmptyOrOpener(tokenizer).equals(WKTConstants.EMPTY))
       return createCoordinateSequenceEmpty(ordinateFlags);
     
-    List<Coordinate> coordinates = new ArrayList<Coordinate>();
+    int size = 0;
     do {
-      coordinates.add(getCoordinate(tokenizer, ordinateFlags, false));
+      readCoordinate(tokenizer, ordinateFlags, false, size++);
     } while (getNextCloserOrComma(tokenizer).equals(COMMA));
 
     if (isFixStructure) {
-      fixStructure(coordinates, minSize, isRing);
+      size = fixStructure(tokenizer, toDimension(ordinateFlags), size, minSize, isRing);
     }
-    Coordinate[] coordArray = coordinates.toArray(new Coordinate[0]);
-    return csFactory.create(coordArray);
+    return createCoordinateSequence(tokenizer.getOrdinateBuffer(0), size, ordinateFlags);
   }
 
-  private static void fixStructure(List<Coordinate> coords, int minSize, boolean isRing) {
-    if (coords.size() == 0)
-      return;
-    if (isRing && ! isClosed(coords)) {
-        coords.add(coords.get(0).copy());
-      }
-    while (coords.size() < minSize) {
-      coords.add(coords.get(coords.size() - 1).copy());
+  /**
+   * Adds coordinates to the ordinate buffer if required
+   * to provide a valid structure.
+   *
+   * @return the new number of coordinates
+   */
+  private static int fixStructure(WKTTokenizer tokenizer, int dim, int size, int minSize, boolean isRing) {
+    if (size == 0)
+      return size;
+    if (isRing && ! isClosed(tokenizer.getOrdinateBuffer(0), dim, size)) {
+      copyCoordinate(tokenizer, dim, 0, size++);
+    }
+    while (size < minSize) {
+      copyCoordinate(tokenizer, dim, size - 1, size++);
     }
+    return size;
   }
 
-  private static boolean isClosed(List<Coordinate> coords) {
-    if (coords.size() == 0) return true;
-    if (coords.size() == 1 
-        || ! coords.get(0).equals2D(coords.get(coords.size() - 1))) {
+  private static void copyCoordinate(WKTTokenizer tokenizer, int dim, int from, int to) {
+    double[] ords = tokenizer.getOrdinateBuffer((to + 1) * dim);
+    System.arraycopy(ords, from * dim, ords, to * dim, dim);
+  }
+
+  private static boolean isClosed(double[] ords, int dim, int size) {
+    if (size == 0) return true;
+    int last = (size - 1) * dim;
+    if (size == 1 
+        || ords[0] != ords[last] || ords[1] != ords[last + 1]) {
       return false;
     } 
     return true;
   }
 
+  /**
+   * Creates a coordinate sequence from the coordinates in an ordinate buffer.
+   * The sequence is created with the dimension and measures of the ordinates 
+   * if the sequence factory supports them,
+   * otherwise it is created from {@link Coordinate}s.
+   */
+  private CoordinateSequence createCoordinateSequence(double[] ords, int size, EnumSet<Ordinate> ordinateFlags) {
+    int dim = toDimension(ordinateFlags);
+    int measures = ordinateFlags.contains(Ordinate.M) ? 1 : 0;
+    CoordinateSequence seq = null;
+    try {
+      seq = csFactory.create(size, dim, measures);
+    }
+    catch (Exception e) {
+      // fall through to create from coordinates
+    }
+    if (seq != null && seq.getDimension() == dim && seq.getMeasures() == measures) {
+      int i = 0;
+      for (int index = 0; index < size; index++) {
+        for (int j = 0; j < dim; j++) {
+          seq.setOrdinate(index, j, ords[i++]);
+        }
+      }
+      return seq;
+    }
+    Coordinate[] coords = new Coordinate[size];
+    int i = 0;
+    for (int index = 0; index < size; index++) {
+      Coordinate coord = createCoordinate(ordinateFlags);
+      coord.setX(ords[i++]);
+      coord.setY(ords[i++]);
+      for (int j = 2; j < dim; j++) {
+        coord.setOrdinate(j, ords[i++]);
+      }
+      coords[index] = coord;
+    }
+    return csFactory.create(coords);
+  }
+
   private CoordinateSequence createCoordinateSequenceEmpty(EnumSet<Ordinate> ordinateFlags)
       throws IOException, ParseException {
     return csFactory.create(0, toDimension(ordinateFlags), ordinateFlags.contains(Ordinate.M) ? 1 : 0);
   }
 
   /**
-   * Reads a <code>CoordinateSequence</Code> from a stream using the given {@link StreamTokenizer}
+   * Reads a <code>CoordinateSequence</Code> from a stream using the given {@link WKTTokenizer}
    * for an old-style JTS MultiPoint (Point coordinates not enclosed in parentheses).
    * <p>
    * All ordinate values are read, but -depending on the {@link CoordinateSequenceFactory} of the
@@ -411,23 +452,21 @@ public class WKTReader
    * </p>
    * @param tokenizer the tokenizer to use
    * @param ordinateFlags a bit-mask defining the ordinates to read.
-   * @param tryParen a value indicating if a starting {@link #L_PAREN} should be probed for each coordinate.
-   * @param isReadEmptyOrOpener indicates if an opening paren or EMPTY should be scanned for
-   * @return a {@link CoordinateSequence} of length 1 containing the read ordinate values
+   * @return a {@link CoordinateSequence} containing the read ordinate values
    *
    * @throws  IOException     if an I/O error occurs
    * @throws  ParseException  if an unexpected token was encountered
-S  */
-  private CoordinateSequence getCoordinateSequenceOldMultiPoint(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+   */
+  private CoordinateSequence getCoordinateSequenceOldMultiPoint(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
           throws IOException, ParseException {
 
-    List<Coordinate> coordinates = new ArrayList<Coordinate>();
+    int size = 0;
     do {
-      coordinates.add(getCoordinate(tokenizer, ordinateFlags, true));
+      readCoordinate(tokenizer, ordinateFlags, true, size++);
     } while (getNextCloserOrComma(tokenizer).equals(COMMA));
 
-    Coordinate[] coordArray = coordinates.toArray(new Coordinate[0]);
-    return csFactory.create(coordArray);  }
+    return createCoordinateSequence(tokenizer.getOrdinateBuffer(0), size, ordinateFlags);
+  }
 
   /**
    * Computes the required dimension based on the given ordinate values.
@@ -456,10 +495,10 @@ S  */
    * @return {@code true} if the next token is a number, otherwise {@code false}
    * @throws  IOException     if an I/O error occurs
    */
-  private static boolean isNumberNext(StreamTokenizer tokenizer) throws IOException {
+  private static boolean isNumberNext(WKTTokenizer tokenizer) throws IOException {
     int type = tokenizer.nextToken();
     tokenizer.pushBack();
-    return type == StreamTokenizer.TT_WORD;
+    return type == WKTTokenizer.TT_WORD;
   }
 
   /**
@@ -469,7 +508,7 @@ S  */
    * @return {@code true} if the next token is a {@link #L_PAREN}, otherwise {@code false}
    * @throws  IOException     if an I/O error occurs
    */
-  private static boolean isOpenerNext(StreamTokenizer tokenizer) throws IOException {
+  private static boolean isOpenerNext(WKTTokenizer tokenizer) throws IOException {
     int type = tokenizer.nextToken();
     tokenizer.pushBack();
     return type == '(';
@@ -486,24 +525,11 @@ S  */
    * @throws  ParseException  if the next token is not a valid number
    * @throws  IOException     if an I/O error occurs
    */
-  private double getNextNumber(StreamTokenizer tokenizer) throws IOException,
+  private double getNextNumber(WKTTokenizer tokenizer) throws IOException,
       ParseException {
     int type = tokenizer.nextToken();
-    switch (type) {
-      case StreamTokenizer.TT_WORD:
-      {
-        if (tokenizer.sval.equalsIgnoreCase(NAN_SYMBOL)) {
-          return Double.NaN;
-        }
-        else {
-          try {
-            return Double.parseDouble(tokenizer.sval);
-          }
-          catch (NumberFormatException ex) {
-            throw parseErrorWithLine(tokenizer, "Invalid number: " + tokenizer.sval);
-          }
-        }
-      }
+    if (type == WKTTokenizer.TT_WORD) {
+      return tokenizer.getNumber();
     }
     throw parseErrorExpected(tokenizer, "number");
   }
@@ -517,7 +543,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static String getNextEmptyOrOpener(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static String getNextEmptyOrOpener(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextWord = getNextWord(tokenizer);
     if (nextWord.equalsIgnoreCase(WKTConstants.Z)) {
       //z = true;
@@ -548,7 +574,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static EnumSet<Ordinate> getNextOrdinateFlags(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static EnumSet<Ordinate> getNextOrdinateFlags(WKTTokenizer tokenizer) throws IOException, ParseException {
 
     EnumSet<Ordinate> result = EnumSet.of(Ordinate.X, Ordinate.Y);
 
@@ -578,7 +604,7 @@ S  */
    *@throws  ParseException  if the next token is not a word
    *@throws  IOException     if an I/O error occurs
    */
-  private static String lookAheadWord(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static String lookAheadWord(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextWord = getNextWord(tokenizer);
     tokenizer.pushBack();
     return nextWord;
@@ -592,7 +618,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static String getNextCloserOrComma(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static String getNextCloserOrComma(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextWord = getNextWord(tokenizer);
     if (nextWord.equals(COMMA) || nextWord.equals(R_PAREN)) {
       return nextWord;
@@ -609,7 +635,7 @@ S  */
    *@throws  ParseException  if the next token is not R_PAREN
    *@throws  IOException     if an I/O error occurs
    */
-  private String getNextCloser(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private String getNextCloser(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextWord = getNextWord(tokenizer);
     if (nextWord.equals(R_PAREN)) {
       return nextWord;
@@ -625,15 +651,14 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static String getNextWord(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static String getNextWord(WKTTokenizer tokenizer) throws IOException, ParseException {
     int type = tokenizer.nextToken();
     switch (type) {
-    case StreamTokenizer.TT_WORD:
+    case WKTTokenizer.TT_WORD:
 
-      String word = tokenizer.sval;
-      if (word.equalsIgnoreCase(WKTConstants.EMPTY))
+      if (tokenizer.isWord(WKTConstants.EMPTY))
           return WKTConstants.EMPTY;
-      return word;
+      return tokenizer.getWord();
 
     case '(': return L_PAREN;
     case ')': return R_PAREN;
@@ -647,16 +672,9 @@ S  */
    * was unexpected.
    *
    * @param expected a description of what was expected
-   * @throws AssertionFailedException if an invalid token is encountered
    */
-  private static ParseException parseErrorExpected(StreamTokenizer tokenizer, String expected)
+  private static ParseException parseErrorExpected(WKTTokenizer tokenizer, String expected)
   {
-    // throws Asserts for tokens that should never be seen
-    if (tokenizer.ttype == StreamTokenizer.TT_NUMBER)
-      Assert.shouldNeverReachHere("Unexpected NUMBER token");
-    if (tokenizer.ttype == StreamTokenizer.TT_EOL)
-      Assert.shouldNeverReachHere("Unexpected EOL token");
-
     String tokenStr = tokenString(tokenizer);
     return parseErrorWithLine(tokenizer, "Expected " + expected + " but found " + tokenStr);
   }
@@ -666,9 +684,8 @@ S  */
    * was unexpected.
    *
    * @param msg a description of what was expected
-   * @throws AssertionFailedException if an invalid token is encountered
    */
-  private static ParseException parseErrorWithLine(StreamTokenizer tokenizer, String msg)
+  private static ParseException parseErrorWithLine(WKTTokenizer tokenizer, String msg)
   {
     return new ParseException(msg + " (line " + tokenizer.lineno() + ")");
   }
@@ -678,15 +695,11 @@ S  */
    * @param tokenizer the tokenizer
    * @return a description of the current token
    */
-  private static String tokenString(StreamTokenizer tokenizer)
+  private static String tokenString(WKTTokenizer tokenizer)
   {
     switch (tokenizer.ttype) {
-      case StreamTokenizer.TT_NUMBER:
-        return "<NUMBER>";
-      case StreamTokenizer.TT_EOL:
-        return "End-of-Line";
-      case StreamTokenizer.TT_EOF: return "End-of-Stream";
-      case StreamTokenizer.TT_WORD: return "'" + tokenizer.sval + "'";
+      case WKTTokenizer.TT_EOF: return "End-of-Stream";
+      case WKTTokenizer.TT_WORD: return "'" + tokenizer.getWord() + "'";
     }
     return "'" + (char) tokenizer.ttype + "'";
   }
@@ -702,7 +715,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private Geometry readGeometryTaggedText(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private Geometry readGeometryTaggedText(WKTTokenizer tokenizer) throws IOException, ParseException {
     String type;
 
     EnumSet<Ordinate> ordinateFlags = EnumSet.of(Ordinate.X, Ordinate.Y);
@@ -718,7 +731,7 @@ S  */
     return readGeometryTaggedText(tokenizer, type, ordinateFlags);
   }
 
-  private Geometry readGeometryTaggedText(StreamTokenizer tokenizer, String type, EnumSet<Ordinate> ordinateFlags)
+  private Geometry readGeometryTaggedText(WKTTokenizer tokenizer, String type, EnumSet<Ordinate> ordinateFlags)
           throws IOException, ParseException {
 
     if (ordinateFlags.size() == 2) {
@@ -765,7 +778,7 @@ S  */
     throw parseErrorWithLine(tokenizer, "Unknown geometry type: " + type);
   }
 
-  private boolean isTypeName(StreamTokenizer tokenizer, String type, String typeName) throws ParseException {
+  private boolean isTypeName(WKTTokenizer tokenizer, String type, String typeName) throws ParseException {
     if (! type.startsWith(typeName))
       return false;
     
@@ -792,7 +805,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private Point readPointText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private Point readPointText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     Point point = geometryFactory.createPoint(getCoordinateSequence(tokenizer, ordinateFlags, 1, false));
     return point;
   }
@@ -807,7 +820,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private LineString readLineStringText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private LineString readLineStringText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     return geometryFactory.createLineString(getCoordinateSequence(tokenizer, ordinateFlags, LineString.MINIMUM_VALID_SIZE, false));
   }
 
@@ -823,7 +836,7 @@ S  */
    *      do not form a closed linestring, or if an unexpected token was
    *      encountered
    */
-  private LinearRing readLinearRingText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+  private LinearRing readLinearRingText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
     throws IOException, ParseException
   {
     return geometryFactory.createLinearRing(getCoordinateSequence(tokenizer, ordinateFlags, LinearRing.MINIMUM_VALID_SIZE, true));
@@ -839,7 +852,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private MultiPoint readMultiPointText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException
+  private MultiPoint readMultiPointText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException
   {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
@@ -882,7 +895,7 @@ S  */
    *      token was encountered.
    *@throws  IOException     if an I/O error occurs
    */
-  private Polygon readPolygonText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private Polygon readPolygonText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
         return geometryFactory.createPolygon(createCoordinateSequenceEmpty(ordinateFlags));
@@ -909,7 +922,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private MultiLineString readMultiLineStringText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+  private MultiLineString readMultiLineStringText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
           throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
@@ -938,7 +951,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private MultiPolygon readMultiPolygonText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private MultiPolygon readMultiPolygonText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
       return geometryFactory.createMultiPolygon();
@@ -966,7 +979,7 @@ S  */
    *      token was encountered
    *@throws  IOException     if an I/O error occurs
    */
-  private GeometryCollection readGeometryCollectionText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private GeometryCollection readGeometryCollectionText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
       return geometryFactory.createGeometryCollection();
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits Well-Known Text into tokens.
+ * This replaces a {@link java.io.StreamTokenizer} configured for WKT,
+ * and produces the same tokens:
+ * <ul>
+ * <li>words, made up of letters, digits, and the characters <tt>+-.</tt>
+ * (which includes numbers)
+ * <li>single characters such as <tt>(),</tt>
+ * </ul>
+ * Whitespace is skipped, as are comments starting with <tt>#</tt>.
+ * <p>
+ * The characters of the current word are held in a reusable buffer,
+ * and numbers are parsed from the buffer without creating a <tt>String</tt>.
+ * Input is read in blocks.
+ * If the input reader supports {@link Reader#mark(int)}
+ * only the characters of the tokens read are consumed from it,
+ * so that a reader can be used to read a sequence of geometries.
+ */
+class WKTTokenizer
+{
+  /**
+   * Token type indicating the end of the input.
+   */
+  static final int TT_EOF = -1;
+
+  /**
+   * Token type indicating a word.
+   */
+  static final int TT_WORD = -3;
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final int NO_CHAR = -2;
+
+  private static final String NAN_SYMBOL = "NaN";
+
+  private Reader reader;
+  private CharSequence text;
+  private int textPos = 0;
+
+  private char[] buf;
+  private int bufPos = 0;
+  private int bufLen = 0;
+  private boolean isMarked = false;
+  /**
+   * The input position of the first character in the buffer
+   */
+  private long bufStart = 0;
+  /**
+   * The input position of the reader mark
+   */
+  private long markPos = 0;
+  /**
+   * The input position of the first character of the current token,
+   * or -1 if a token is not in progress
+   */
+  private long tokenPos = -1;
+
+  private char[] word = new char[32];
+  private int wordLen = 0;
+  private int peekChar = NO_CHAR;
+  private boolean isPushedBack = false;
+  private int lineno = 1;
+
+  /**
+   * The current token type.
+   */
+  int ttype = TT_EOF - 1;
+
+  private double[] ordinates = new double[64];
+
+  /**
+   * Creates a tokenizer for a sequence of characters.
+   *
+   * @param text the characters to read
+   */
+  WKTTokenizer(CharSequence text) {
+    this.text = text;
+    buf = new char[Math.min(BUFFER_SIZE, Math.max(1, text.length()))];
+  }
+
+  /**
+   * Creates a tokenizer for a {@link Reader}.
+   *
+   * @param reader the reader to read from
+   */
+  WKTTokenizer(Reader reader) {
+    this(reader, BUFFER_SIZE);
+  }
+
+  /**
+   * Creates a tokenizer for a {@link Reader},
+   * using a given buffer size.
+   *
+   * @param reader the reader to read from
+   * @param bufferSize the number of characters to read at a time
+   */
+  WKTTokenizer(Reader reader, int bufferSize) {
+    this.reader = reader;
+    buf = new char[bufferSize];
+  }
+
+  /**
+   * Gets the current line number.
+   *
+   * @return the line number
+   */
+  int lineno() {
+    return lineno;
+  }
+
+  /**
+   * Causes the next call to {@link #nextToken()} to return the current token.
+   */
+  void pushBack() {
+    if (ttype != TT_EOF - 1)
+      isPushedBack = true;
+  }
+
+  /**
+   * Gets the current word token as a string.
+   *
+   * @return the current word
+   */
+  String getWord() {
+    return new String(word, 0, wordLen);
+  }
+
+  /**
+   * Tests whether the current word token matches a string, ignoring case.
+   *
+   * @param str the string to test
+   * @return true if the word matches
+   */
+  boolean isWord(String str) {
+    if (wordLen != str.length())
+      return false;
+    for (int i = 0; i < wordLen; i++) {
+      if (Character.toUpperCase(word[i]) != Character.toUpperCase(str.charAt(i)))
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * Gets a buffer to hold ordinate values, of at least a given size.
+   * The buffer is reused, and its contents are retained when it grows.
+   *
+   * @param size the required size
+   * @return the ordinate buffer
+   */
+  double[] getOrdinateBuffer(int size) {
+    if (ordinates.length < size) {
+      double[] newOrds = new double[Math.max(size, 2 * ordinates.length)];
+      System.arraycopy(ordinates, 0, newOrds, 0, ordinates.length);
+      ordinates = newOrds;
+    }
+    return ordinates;
+  }
+
+  /**
+   * Reads the next token.
+   *
+   * @return the type of the token
+   * @throws IOException if an I/O error occurs
+   */
+  int nextToken() throws IOException {
+    if (isPushedBack) {
+      isPushedBack = false;
+      return ttype;
+    }
+    tokenPos = -1;
+    int c = peekChar == NO_CHAR ? read() : peekChar;
+    peekChar = NO_CHAR;
+
+    // skip whitespace and comments
+    while (c >= 0 && (c <= ' ' || c == '#')) {
+      if (c == '#') {
+        do {
+          c = read();
+        } while (c >= 0 && c != '\n' && c != '\r');
+      }
+      else if (c == '\r') {
+        lineno++;
+        c = read();
+        if (c == '\n')
+          c = read();
+      }
+      else {
+        if (c == '\n')
+          lineno++;
+        c = read();
+      }
+    }
+    if (c < 0) {
+      return ttype = TT_EOF;
+    }
+    // the first token character is always the last one read
+    tokenPos = bufStart + bufPos - 1;
+
+    if (! isWordChar(c)) {
+      return ttype = c;
+    }
+    wordLen = 0;
+    do {
+      if (wordLen == word.length) {
+        char[] newWord = new char[2 * word.length];
+        System.arraycopy(word, 0, newWord, 0, wordLen);
+        word = newWord;
+      }
+      word[wordLen++] = (char) c;
+      c = read();
+    } while (c >= 0 && isWordChar(c));
+    peekChar = c;
+    return ttype = TT_WORD;
+  }
+
+  private static boolean isWordChar(int c) {
+    return (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || c == '.' || c == '-' || c == '+'
+        || c >= 128 + 32;
+  }
+
+  /**
+   * Parses the current word token as a number.
+   * Numbers in common formats are parsed directly by {@link DoubleParser},
+   * using exact double arithmetic to ensure correct rounding.
+   * Other numbers are parsed by {@link Double#parseDouble(String)}.
+   * The symbol <tt>NaN</tt> is accepted in any case.
+   *
+   * @return the value of the number
+   * @throws ParseException if the word is not a valid number
+   */
+  double getNumber() throws ParseException {
+    double num = DoubleParser.parseExact(word, 0, wordLen, '.');
+    if (! Double.isNaN(num))
+      return num;
+
+    String str = getWord();
+    if (str.equalsIgnoreCase(NAN_SYMBOL)) {
+      return Double.NaN;
+    }
+    try {
+      return Double.parseDouble(str);
+    }
+    catch (NumberFormatException ex) {
+      throw new ParseException("Invalid number: " + str + " (line " + lineno + ")");
+    }
+  }
+
+  /**
+   * Consumes the characters read from a reader which supports marking,
+   * leaving it positioned after the last token read
+   * (or before a token which has been pushed back).
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  void close() throws IOException {
+    if (reader == null || ! isMarked)
+      return;
+    long endPos = bufStart + bufPos;
+    if (peekChar != NO_CHAR && peekChar >= 0)
+      endPos--;
+    if (isPushedBack && tokenPos >= 0)
+      endPos = tokenPos;
+    reader.reset();
+    skip(endPos - markPos);
+    isMarked = false;
+  }
+
+  private void skip(long n) throws IOException {
+    while (n > 0) {
+      long skipped = reader.skip(n);
+      if (skipped <= 0)
+        return;
+      n -= skipped;
+    }
+  }
+
+  private int read() throws IOException {
+    if (bufPos >= bufLen) {
+      if (! fill())
+        return -1;
+    }
+    return buf[bufPos++];
+  }
+
+  private boolean fill() throws IOException {
+    if (text != null) {
+      int n = Math.min(buf.length, text.length() - textPos);
+      if (n <= 0)
+        return false;
+      if (text instanceof String) {
+        ((String) text).getChars(textPos, textPos + n, buf, 0);
+      }
+      else {
+        for (int i = 0; i < n; i++) {
+          buf[i] = text.charAt(textPos + i);
+        }
+      }
+      textPos += n;
+      bufStart += bufLen;
+      bufPos = 0;
+      bufLen = n;
+      return true;
+    }
+    if (! reader.markSupported()) {
+      // read one character at a time, to avoid consuming input past the geometry
+      int c = reader.read();
+      if (c < 0)
+        return false;
+      buf[0] = (char) c;
+      bufStart += bufLen;
+      bufPos = 0;
+      bufLen = 1;
+      return true;
+    }
+    /*
+     * Mark the reader at the start of the token in progress (if any),
+     * so that close() can return to it if the token is pushed back.
+     * The token may start in the previous block.
+     */
+    long readPos = bufStart + bufLen;
+    long keepPos = readPos;
+    if (isMarked && tokenPos >= 0 && tokenPos < readPos) {
+      keepPos = tokenPos;
+      reader.reset();
+      skip(keepPos - markPos);
+    }
+    reader.mark((int) (readPos - keepPos) + buf.length);
+    markPos = keepPos;
+    isMarked = true;
+    skip(readPos - keepPos);
+    int n = reader.read(buf, 0, buf.length);
+    if (n <= 0)
+      return false;
+    bufStart = readPos;
+    bufPos = 0;
+    bufLen = n;
+    return true;
+  }
+}
@@ -13,7 +13,6 @@ package org.locationtech.jts.io;
 
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.util.EnumSet;
 
@@ -379,15 +378,9 @@ public class WKTWriter
    */
   public String write(Geometry geometry)
   {
-    Writer sw = new StringWriter();
-
-    try {
-      writeFormatted(geometry, false, sw);
-    }
-    catch (IOException ex) {
-      Assert.shouldNeverReachHere();
-    }
-    return sw.toString();
+    StringBuilder sb = new StringBuilder();
+    appendFormatted(geometry, false, sb);
+    return sb.toString();
   }
 
   /**
@@ -402,6 +395,42 @@ public class WKTWriter
     writeFormatted(geometry, isFormatted, writer);
   }
 
+  /**
+   *  Converts a <code>Geometry</code> to its Well-known Text representation,
+   *  appending it to an {@link Appendable}
+   *  (such as a {@link StringBuilder} or a {@link java.nio.CharBuffer}).
+   *  Ordinate values are written directly to the output,
+   *  so no intermediate strings are created.
+   *  <p>
+   *  If the output is a <code>CharBuffer</code> which does not have enough space,
+   *  a {@link java.nio.BufferOverflowException} is thrown.
+   *
+   *@param  geometry  a <code>Geometry</code> to process
+   *@param  out       the output to append to
+   *@throws IOException if an I/O error occurs
+   */
+  public void write(Geometry geometry, Appendable out)
+    throws IOException
+  {
+    writeFormatted(geometry, isFormatted, out);
+  }
+
+  /**
+   *  Converts a <code>Geometry</code> to its Well-known Text representation,
+   *  appending it to a {@link StringBuilder}.
+   *  Reusing a buffer allows writing many geometries
+   *  without creating any intermediate objects.
+   *
+   *@param  geometry  a <code>Geometry</code> to process
+   *@param  sb        the buffer to append to
+   *@return           the buffer
+   */
+  public StringBuilder append(Geometry geometry, StringBuilder sb)
+  {
+    appendFormatted(geometry, isFormatted, sb);
+    return sb;
+  }
+
   /**
    *  Same as <code>write</code>, but with newlines and spaces to make the
    *  well-known text more readable.
@@ -412,14 +441,9 @@ public class WKTWriter
    */
   public String writeFormatted(Geometry geometry)
   {
-    Writer sw = new StringWriter();
-    try {
-      writeFormatted(geometry, true, sw);
-    }
-    catch (IOException ex) {
-      Assert.shouldNeverReachHere();
-    }
-    return sw.toString();
+    StringBuilder sb = new StringBuilder();
+    appendFormatted(geometry, true, sb);
+    return sb.toString();
   }
   /**
    *  Same as <code>write</code>, but with newlines and spaces to make the
@@ -437,7 +461,17 @@ public class WKTWriter
    *
    *@param  geometry  a <code>Geometry</code> to process
    */
-  private void writeFormatted(Geometry geometry, boolean useFormatting, Writer writer)
+  private void appendFormatted(Geometry geometry, boolean useFormatting, StringBuilder sb)
+  {
+    try {
+      writeFormatted(geometry, useFormatting, sb);
+    }
+    catch (IOException ex) {
+      Assert.shouldNeverReachHere();
+    }
+  }
+
+  private void writeFormatted(Geometry geometry, boolean useFormatting, Appendable writer)
     throws IOException
   {
     OrdinateFormat formatter = getFormatter(geometry);
@@ -466,7 +500,7 @@ public class WKTWriter
    * @param  formatter       the <code>DecimalFormatter</code> to use to convert
    *      from a precise coordinate to an external coordinate
    */
-  private void appendGeometryTaggedText(Geometry geometry, boolean useFormatting, Writer writer,
+  private void appendGeometryTaggedText(Geometry geometry, boolean useFormatting, Appendable writer,
                                         OrdinateFormat formatter)
     throws IOException
   {
@@ -491,7 +525,7 @@ public class WKTWriter
    */
   private void appendGeometryTaggedText(
           Geometry geometry, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Appendable writer, OrdinateFormat formatter)
     throws IOException
 
   {
@@ -547,11 +581,11 @@ public class WKTWriter
    */
   private void appendPointTaggedText(
           Point point, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Appendable writer, OrdinateFormat formatter)
     throws IOException
   {
-    writer.write(WKTConstants.POINT);
-    writer.write(" ");
+    writer.append(WKTConstants.POINT);
+    writer.append(" ");
     appendOrdinateText(outputOrdinates, writer);
     appendSequenceText(point.getCoordinateSequence(), outputOrdinates, useFormatting,
             level, false, writer, formatter);
@@ -570,11 +604,11 @@ public class WKTWriter
    */
   private void appendLineStringTaggedText(
           LineString lineString, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Appendable writer, OrdinateFormat formatter)
     throws IOException
   {
-    writer.write(WKTConstants.LINESTRING);
-    writer.write(" ");
+    writer.append(WKTConstants.LINESTRING);
+    writer.append(" ");
     appendOrdinateText(outputOrdinates, writer);
     appendSequenceText(lineString.getCoordinateSequence(), outputOrdinates, useFormatting,
             level, false, writer, formatter);
@@ -593,11 +627,11 @@ public class WKTWriter
    */
   private void appendLinearRingTaggedText(
           LinearRing linearRing, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Appendable writer, OrdinateFormat formatter)
     throws IOException
   {
-    writer.write(WKTConstants.LINEARRING);
-    writer.write(" ");
+    writer.append(WKTConstants.LINEARRING);
+    writer.append(" ");
     appendOrdinateText(outputOrdinates, writer);
     appendSequenceText(linearRing.getCoordinateSequence(), outputOrdinates, useFormatting,
             level, false, writer, formatter);
@@ -616,11 +650,11 @@ public class WKTWriter
    */
   private void appendPolygonTaggedText(
           Polygon polygon, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Appendable writer, OrdinateFormat formatter)
     throws IOException
   {
-    writer.write(WKTConstants.POLYGON);
-    writer.write(" ");
+    writer.append(WKTConstants.POLYGON);
+    writer.append(" ");
     appendOrdinateText(outputOrdinates, writer);
     appendPolygonText(polygon, outputOrdinates, useFormatting,
             level, false, writer, formatter);
@@ -638,12 +672,12 @@ public class WKTWriter
    *      from a precise coordinate to an external coordinate
    */
   private void appendMultiPointTaggedText(MultiPoint multipoint, EnumSet<Ordinate> outputOrdinates,
-                                          boolean useFormatting, int level, Writer writer,
+                                          boolean useFormatting, int level, Appendable writer,
                                           OrdinateFormat formatter)
     throws IOException
   {
-    writer.write(WKTConstants.MULTIPOINT); 
-    writer.write(" ");
+    writer.append(WKTConstants.MULTIPOINT); 
+    writer.append(" ");
     appendOrdinateText(outputOrdinates, writer);
     appendMultiPointText(multipoint, outputOrdinates, useFormatting, level, writer, formatter);
   }
@@ -661,11 +695,11 @@ public class WKTWriter
    */
   private void appendMultiLineStringTaggedText(
           MultiLineString multiLineString, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Appendable writer, OrdinateFormat formatter)
     throws IOException
   {
-    writer.write(WKTConstants.MULTILINESTRING);
-    writer.write(" ");
+    writer.append(WKTConstants.MULTILINESTRING);
+    writer.append(" ");
     appendOrdinateText(outputOrdinates, writer);
     appendMultiLineStringText(multiLineString, outputOrdinates, useFormatting,
             level, /*false, */writer, formatter);
@@ -684,11 +718,11 @@ public class WKTWriter
    */
   private void appendMultiPolygonTaggedText(
           MultiPolygon multiPolygon, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Appendable writer, OrdinateFormat formatter)
     throws IOException
   {
-    writer.write(WKTConstants.MULTIPOLYGON);
-    writer.write(" ");
+    writer.append(WKTConstants.MULTIPOLYGON);
+    writer.append(" ");
     appendOrdinateText(outputOrdinates, writer);
     appendMultiPolygonText(multiPolygon, outputOrdinates, useFormatting,
             level, writer, formatter);
@@ -707,11 +741,11 @@ public class WKTWriter
    */
   private void appendGeometryCollectionTaggedText(
           GeometryCollection geometryCollection, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Appendable writer, OrdinateFormat formatter)
     throws IOException
   {
-    writer.write(WKTConstants.GEOMETRYCOLLECTION);
-    writer.write(" ");
+    writer.append(WKTConstants.GEOMETRYCOLLECTION);
+    writer.append(" ");
     appendOrdinateText(outputOrdinates, writer);
     appendGeometryCollectionText(geometryCollection, outputOrdinates,
             useFormatting, level, writer, formatter);
@@ -729,35 +763,24 @@ public class WKTWriter
    */
   private void appendCoordinate(
           CoordinateSequence seq, EnumSet<Ordinate> outputOrdinates, int i,
-          Writer writer, OrdinateFormat formatter)
+          Appendable writer, OrdinateFormat formatter)
       throws IOException
   {
-    writer.write(writeNumber(seq.getX(i), formatter) + " " +
-            writeNumber(seq.getY(i), formatter));
+    formatter.format(seq.getX(i), writer);
+    writer.append(' ');
+    formatter.format(seq.getY(i), writer);
 
     if (outputOrdinates.contains(Ordinate.Z)) {
-      writer.write(" ");
-      writer.write(writeNumber(seq.getZ(i), formatter));
+      writer.append(' ');
+      formatter.format(seq.getZ(i), writer);
     }
 
     if (outputOrdinates.contains(Ordinate.M)) {
-      writer.write(" ");
-      writer.write(writeNumber(seq.getM(i), formatter));
+      writer.append(' ');
+      formatter.format(seq.getM(i), writer);
     }
   }
 
-  /**
-   *  Converts a <code>double</code> to a <code>String</code>, not in scientific
-   *  notation.
-   *
-   *@param  d  the <code>double</code> to convert
-   *@return    the <code>double</code> as a <code>String</code>, not in
-   *      scientific notation
-   */
-  private static String writeNumber(double d, OrdinateFormat formatter) {
-    return formatter.format(d);
-  }
-
   /**
    * Appends additional ordinate information. This function may
    * <ul>
@@ -777,7 +800,7 @@ public class WKTWriter
    * @param writer         the output writer to append to.
    * @throws IOException   if an error occurs while using the writer.
    */
-  private void appendOrdinateText(EnumSet<Ordinate> outputOrdinates, Writer writer) throws IOException {
+  private void appendOrdinateText(EnumSet<Ordinate> outputOrdinates, Appendable writer) throws IOException {
 
     if (outputOrdinates.contains(Ordinate.Z))
       writer.append(WKTConstants.Z);
@@ -798,18 +821,18 @@ public class WKTWriter
    * @param  formatter       the formatter to use for writing ordinate values.
    */
   private void appendSequenceText(CoordinateSequence seq, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-                                  int level, boolean indentFirst, Writer writer, OrdinateFormat formatter)
+                                  int level, boolean indentFirst, Appendable writer, OrdinateFormat formatter)
     throws IOException
   {
     if (seq.size() == 0) {
-      writer.write(WKTConstants.EMPTY);
+      writer.append(WKTConstants.EMPTY);
     }
     else {
       if (indentFirst) indent(useFormatting, level, writer);
-      writer.write("(");
+      writer.append("(");
       for (int i = 0; i < seq.size(); i++) {
         if (i > 0) {
-          writer.write(", ");
+          writer.append(", ");
           if (coordsPerLine > 0
               && i % coordsPerLine == 0) {
             indent(useFormatting, level + 1, writer);
@@ -817,7 +840,7 @@ public class WKTWriter
         }
         appendCoordinate(seq, outputOrdinates, i, writer, formatter);
       }
-      writer.write(")");
+      writer.append(")");
     }
   }
 
@@ -835,23 +858,23 @@ public class WKTWriter
    */
   private void appendPolygonText(
           Polygon polygon, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, boolean indentFirst, Writer writer, OrdinateFormat formatter)
+          int level, boolean indentFirst, Appendable writer, OrdinateFormat formatter)
     throws IOException
   {
     if (polygon.isEmpty()) {
-      writer.write(WKTConstants.EMPTY);
+      writer.append(WKTConstants.EMPTY);
     }
     else {
       if (indentFirst) indent(useFormatting, level, writer);
-      writer.write("(");
+      writer.append("(");
       appendSequenceText(polygon.getExteriorRing().getCoordinateSequence(), outputOrdinates,
               useFormatting, level, false, writer, formatter);
       for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
-        writer.write(", ");
+        writer.append(", ");
         appendSequenceText(polygon.getInteriorRingN(i).getCoordinateSequence(), outputOrdinates,
               useFormatting,level + 1,true, writer, formatter);
       }
-      writer.write(")");
+      writer.append(")");
     }
   }
 
@@ -867,23 +890,23 @@ public class WKTWriter
    */
   private void appendMultiPointText(
           MultiPoint multiPoint, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Appendable writer, OrdinateFormat formatter)
     throws IOException
   {
     if (multiPoint.getNumGeometries() == 0) {
-      writer.write(WKTConstants.EMPTY);
+      writer.append(WKTConstants.EMPTY);
     }
     else {
-      writer.write("(");
+      writer.append("(");
       for (int i = 0; i < multiPoint.getNumGeometries(); i++) {
         if (i > 0) {
-          writer.write(", ");
+          writer.append(", ");
           indentCoords(useFormatting, i, level + 1, writer);
         }
         appendSequenceText(((Point) multiPoint.getGeometryN(i)).getCoordinateSequence(),
                 outputOrdinates, useFormatting, level, false, writer, formatter);
      }
-      writer.write(")");
+      writer.append(")");
     }
   }
 
@@ -900,26 +923,26 @@ public class WKTWriter
    * @param  formatter        the formatter to use for writing ordinate values.
    */
   private void appendMultiLineStringText(MultiLineString multiLineString, EnumSet<Ordinate> outputOrdinates,
-           boolean useFormatting, int level, /*boolean indentFirst, */Writer writer, OrdinateFormat formatter)
+           boolean useFormatting, int level, /*boolean indentFirst, */Appendable writer, OrdinateFormat formatter)
     throws IOException
   {
     if (multiLineString.getNumGeometries() == 0) {
-      writer.write(WKTConstants.EMPTY);
+      writer.append(WKTConstants.EMPTY);
     }
     else {
       int level2 = level;
       boolean doIndent = false;
-      writer.write("(");
+      writer.append("(");
       for (int i = 0; i < multiLineString.getNumGeometries(); i++) {
         if (i > 0) {
-          writer.write(", ");
+          writer.append(", ");
           level2 = level + 1;
           doIndent = true;
         }
         appendSequenceText(((LineString) multiLineString.getGeometryN(i)).getCoordinateSequence(),
                 outputOrdinates, useFormatting, level2, doIndent, writer, formatter);
       }
-      writer.write(")");
+      writer.append(")");
     }
   }
 
@@ -935,26 +958,26 @@ public class WKTWriter
    */
   private void appendMultiPolygonText(
           MultiPolygon multiPolygon, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Appendable writer, OrdinateFormat formatter)
     throws IOException
   {
     if (multiPolygon.getNumGeometries() == 0) {
-      writer.write(WKTConstants.EMPTY);
+      writer.append(WKTConstants.EMPTY);
     }
     else {
       int level2 = level;
       boolean doIndent = false;
-      writer.write("(");
+      writer.append("(");
       for (int i = 0; i < multiPolygon.getNumGeometries(); i++) {
         if (i > 0) {
-          writer.write(", ");
+          writer.append(", ");
           level2 = level + 1;
           doIndent = true;
         }
         appendPolygonText((Polygon) multiPolygon.getGeometryN(i), outputOrdinates,
                 useFormatting, level2, doIndent, writer, formatter);
       }
-      writer.write(")");
+      writer.append(")");
     }
   }
 
@@ -970,28 +993,28 @@ public class WKTWriter
    */
   private void appendGeometryCollectionText(
           GeometryCollection geometryCollection, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Appendable writer, OrdinateFormat formatter)
     throws IOException
   {
     if (geometryCollection.getNumGeometries() == 0) {
-      writer.write(WKTConstants.EMPTY);
+      writer.append(WKTConstants.EMPTY);
     }
     else {
       int level2 = level;
-      writer.write("(");
+      writer.append("(");
       for (int i = 0; i < geometryCollection.getNumGeometries(); i++) {
         if (i > 0) {
-          writer.write(", ");
+          writer.append(", ");
           level2 = level + 1;
         }
         appendGeometryTaggedText(geometryCollection.getGeometryN(i), outputOrdinates,
                 useFormatting, level2, writer, formatter);
       }
-      writer.write(")");
+      writer.append(")");
     }
   }
 
-  private void indentCoords(boolean useFormatting, int coordIndex,  int level, Writer writer)
+  private void indentCoords(boolean useFormatting, int coordIndex,  int level, Appendable writer)
     throws IOException
   {
     if (coordsPerLine <= 0
@@ -1000,14 +1023,14 @@ public class WKTWriter
     indent(useFormatting, level, writer);
   }
 
-  private void indent(boolean useFormatting, int level, Writer writer)
+  private void indent(boolean useFormatting, int level, Appendable writer)
     throws IOException
   {
     if (! useFormatting || level <= 0)
       return;
-    writer.write("\n");
+    writer.append("\n");
     for (int i = 0; i < level; i++) {
-      writer.write(indentTabStr);
+      writer.append(indentTabStr);
     }
   }
 }
@@ -50,4 +50,14 @@ final public class GMLConstants{
 	  public static final String GML_COORD_X = "X";
 	  public static final String GML_COORD_Y = "Y";
 	  public static final String GML_COORD_Z = "Z";
+
+	  // GML3 elements and attributes
+	  public static final String GML_POS = "pos";
+	  public static final String GML_POS_LIST = "posList";
+	  public static final String GML_EXTERIOR = "exterior";
+	  public static final String GML_INTERIOR = "interior";
+	  public static final String GML_MULTI_CURVE = "MultiCurve";
+	  public static final String GML_MULTI_SURFACE = "MultiSurface";
+	  public static final String GML_BOUNDED_BY = "boundedBy";
+	  public static final String GML_ATTR_SRSDIMENSION = "srsDimension";
 }
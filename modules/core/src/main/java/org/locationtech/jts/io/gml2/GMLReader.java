@@ -62,10 +62,13 @@ import org.xml.sax.helpers.DefaultHandler;
  * process must be run on the data to reduce its precision.
  * <p>
  * To parse and build geometry directly from a SAX stream, see {@link GMLHandler}.
+ * To read the geometries in a large document one at a time,
+ * see {@link GMLStreamReader}.
  *
  * @author David Zwiers, Vivid Solutions.
  * 
  * @see GMLHandler
+ * @see GMLStreamReader
  */
 public class GMLReader 
 {
@@ -0,0 +1,726 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.gml2;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.DoubleParser;
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * Reads the sequence of GML 2 or GML 3 geometries contained in an XML document,
+ * using a StAX {@link XMLStreamReader}.
+ * Geometries are returned one at a time by {@link #read()},
+ * so that very large documents
+ * (such as WFS responses containing many features)
+ * can be processed using memory proportional only to the largest geometry.
+ * <p>
+ * The reader returns each outermost geometry element in the document,
+ * in document order.
+ * All other content (such as feature properties) is skipped,
+ * as are the bounding boxes in <tt>boundedBy</tt> elements.
+ * The supported geometry elements are
+ * <tt>Point</tt>, <tt>LineString</tt>, <tt>LinearRing</tt>, <tt>Polygon</tt>,
+ * <tt>MultiPoint</tt>, <tt>MultiLineString</tt>, <tt>MultiPolygon</tt>,
+ * <tt>MultiCurve</tt>, <tt>MultiSurface</tt> and <tt>MultiGeometry</tt>,
+ * with coordinates given by
+ * GML 2 <tt>coordinates</tt> (including the <tt>decimal</tt>, <tt>cs</tt> and <tt>ts</tt> attributes)
+ * and <tt>coord</tt> elements,
+ * or GML 3 <tt>pos</tt> and <tt>posList</tt> elements
+ * (using the <tt>srsDimension</tt> attribute if present).
+ * Curves and surfaces composed of segments or patches are not supported.
+ * <p>
+ * Namespace prefixes are ignored, so fragments without namespace declarations
+ * can be read.
+ * The SRID of a geometry is taken from the <tt>srsName</tt> attribute
+ * of its element or the closest enclosing geometry element,
+ * as for {@link GMLReader}.
+ * <p>
+ * Coordinate text is parsed directly into a reusable array of ordinates,
+ * without splitting it into strings or creating intermediate coordinates.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see GMLReader
+ */
+public class GMLStreamReader
+  implements Closeable
+{
+  private static final int MAX_DIM = 3;
+
+  private final GeometryFactory factory;
+  private final XMLStreamReader xsr;
+  private final Closeable source;
+  private long count = 0;
+
+  // reusable text and ordinate buffers
+  private char[] text = new char[1024];
+  private int textLen = 0;
+  private double[] ords = new double[1024];
+  private int numOrds = 0;
+  private int coordDim = 0;
+  private final double[] tuple = new double[MAX_DIM];
+
+  /**
+   * Creates a reader for the GML in a {@link Reader},
+   * using the given factory to create geometries.
+   *
+   * @param reader the reader to read from
+   * @param factory the factory to create geometries with (when null, a default is used)
+   * @throws ParseException if the XML parser cannot be created
+   */
+  public GMLStreamReader(Reader reader, GeometryFactory factory) throws ParseException
+  {
+    this.factory = factory != null ? factory : new GeometryFactory();
+    this.source = reader;
+    try {
+      xsr = createInputFactory().createXMLStreamReader(reader);
+    }
+    catch (XMLStreamException ex) {
+      throw new ParseException(ex);
+    }
+  }
+
+  /**
+   * Creates a reader for the GML in an {@link InputStream},
+   * using the given factory to create geometries.
+   * The character encoding is determined from the XML document.
+   *
+   * @param is the stream to read from
+   * @param factory the factory to create geometries with (when null, a default is used)
+   * @throws ParseException if the XML parser cannot be created
+   */
+  public GMLStreamReader(InputStream is, GeometryFactory factory) throws ParseException
+  {
+    this.factory = factory != null ? factory : new GeometryFactory();
+    this.source = is;
+    try {
+      xsr = createInputFactory().createXMLStreamReader(is);
+    }
+    catch (XMLStreamException ex) {
+      throw new ParseException(ex);
+    }
+  }
+
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+    // allow fragments without namespace declarations
+    inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+    inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return inputFactory;
+  }
+
+  /**
+   * Gets the number of geometries read so far.
+   *
+   * @return the number of geometries read
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Reads the next geometry in the document.
+   *
+   * @return the next geometry, or null if there are no more geometries
+   * @throws ParseException if the XML or a geometry is invalid
+   */
+  public Geometry read()
+      throws ParseException
+  {
+    try {
+      while (xsr.hasNext()) {
+        if (xsr.next() != XMLStreamConstants.START_ELEMENT)
+          continue;
+        String name = localName(xsr.getLocalName());
+        if (name.equals(GMLConstants.GML_BOUNDED_BY)) {
+          skipElement();
+        }
+        else if (isGeometry(name)) {
+          Geometry geom = readGeometry(name, factory.getSRID(), 0);
+          count++;
+          return geom;
+        }
+      }
+      return null;
+    }
+    catch (XMLStreamException ex) {
+      throw new ParseException(ex);
+    }
+  }
+
+  /**
+   * Reads all the remaining geometries in the document.
+   *
+   * @return a list of the geometries read
+   * @throws ParseException if the XML or a geometry is invalid
+   */
+  public List<Geometry> readAll()
+      throws ParseException
+  {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    Geometry geom;
+    while ((geom = read()) != null) {
+      geoms.add(geom);
+    }
+    return geoms;
+  }
+
+  /**
+   * Closes the reader and its input.
+   */
+  public void close()
+      throws IOException
+  {
+    try {
+      xsr.close();
+    }
+    catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    }
+    finally {
+      source.close();
+    }
+  }
+
+  /**
+   * Gets an {@link Iterator} over the remaining geometries.
+   * Parse errors are thrown as {@link IllegalArgumentException}s.
+   *
+   * @return an iterator over the geometries
+   */
+  public Iterator<Geometry> iterator() {
+    return new GeometryIterator();
+  }
+
+  private Geometry readUnchecked() {
+    try {
+      return read();
+    }
+    catch (ParseException ex) {
+      throw new IllegalArgumentException(ex.getMessage(), ex);
+    }
+  }
+
+  private static boolean isGeometry(String name) {
+    switch (name) {
+    case GMLConstants.GML_POINT:
+    case GMLConstants.GML_LINESTRING:
+    case GMLConstants.GML_LINEARRING:
+    case GMLConstants.GML_POLYGON:
+    case GMLConstants.GML_MULTI_POINT:
+    case GMLConstants.GML_MULTI_LINESTRING:
+    case GMLConstants.GML_MULTI_POLYGON:
+    case GMLConstants.GML_MULTI_CURVE:
+    case GMLConstants.GML_MULTI_SURFACE:
+    case GMLConstants.GML_MULTI_GEOMETRY:
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Reads a geometry element.
+   * The stream is positioned at the start of the element,
+   * and is left positioned at its end.
+   *
+   * @param name the element name
+   * @param parentSrid the SRID of the enclosing element
+   * @param parentSrsDim the srsDimension of the enclosing element, or 0
+   */
+  private Geometry readGeometry(String name, int parentSrid, int parentSrsDim)
+      throws XMLStreamException, ParseException
+  {
+    int srid = GeometryStrategies.getSrid(getAttribute(GMLConstants.GML_ATTR_SRSNAME), parentSrid);
+    int srsDim = getSrsDimension(parentSrsDim);
+    Geometry geom;
+    try {
+      switch (name) {
+      case GMLConstants.GML_POINT:
+      case GMLConstants.GML_LINESTRING:
+      case GMLConstants.GML_LINEARRING:
+        geom = readPrimitive(name, srsDim);
+        break;
+      case GMLConstants.GML_POLYGON:
+        geom = readPolygon(srid, srsDim);
+        break;
+      default:
+        geom = readCollection(name, srid, srsDim);
+      }
+    }
+    catch (IllegalArgumentException ex) {
+      // invalid geometry structure, such as an unclosed ring
+      throw new ParseException("Invalid " + name + ": " + ex.getMessage());
+    }
+    if (geom.getSRID() != srid)
+      geom.setSRID(srid);
+    return geom;
+  }
+
+  private Geometry readPrimitive(String name, int srsDim)
+      throws XMLStreamException, ParseException
+  {
+    numOrds = 0;
+    coordDim = 0;
+    int depth = 0;
+    while (true) {
+      int event = xsr.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String child = localName(xsr.getLocalName());
+        if (child.equals(GMLConstants.GML_COORDINATES)) {
+          readCoordinates();
+        }
+        else if (child.equals(GMLConstants.GML_POS_LIST)) {
+          readPosList(getSrsDimension(srsDim), false);
+        }
+        else if (child.equals(GMLConstants.GML_POS)) {
+          readPosList(getSrsDimension(srsDim), true);
+        }
+        else if (child.equals(GMLConstants.GML_COORD)) {
+          readCoord();
+        }
+        else {
+          depth++;
+        }
+      }
+      else if (event == XMLStreamConstants.END_ELEMENT) {
+        if (depth == 0)
+          break;
+        depth--;
+      }
+    }
+    CoordinateSequence seq = createSequence();
+    switch (name) {
+    case GMLConstants.GML_POINT:
+      if (seq.size() > 1)
+        throw new ParseException("Point has more than one coordinate");
+      return factory.createPoint(seq);
+    case GMLConstants.GML_LINESTRING:
+      return factory.createLineString(seq);
+    default:
+      return factory.createLinearRing(seq);
+    }
+  }
+
+  private Polygon readPolygon(int srid, int srsDim)
+      throws XMLStreamException, ParseException
+  {
+    LinearRing shell = null;
+    List<LinearRing> holes = new ArrayList<LinearRing>();
+    int depth = 0;
+    while (true) {
+      int event = xsr.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String child = localName(xsr.getLocalName());
+        if (child.equals(GMLConstants.GML_LINEARRING)) {
+          LinearRing ring = (LinearRing) readGeometry(child, srid, srsDim);
+          // the exterior ring is always first
+          if (shell == null)
+            shell = ring;
+          else
+            holes.add(ring);
+        }
+        else {
+          depth++;
+        }
+      }
+      else if (event == XMLStreamConstants.END_ELEMENT) {
+        if (depth == 0)
+          break;
+        depth--;
+      }
+    }
+    if (shell == null)
+      return factory.createPolygon();
+    return factory.createPolygon(shell, holes.toArray(new LinearRing[holes.size()]));
+  }
+
+  private Geometry readCollection(String name, int srid, int srsDim)
+      throws XMLStreamException, ParseException
+  {
+    List<Geometry> members = new ArrayList<Geometry>();
+    int depth = 0;
+    while (true) {
+      int event = xsr.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String child = localName(xsr.getLocalName());
+        if (isGeometry(child)) {
+          members.add(readGeometry(child, srid, srsDim));
+        }
+        else {
+          depth++;
+        }
+      }
+      else if (event == XMLStreamConstants.END_ELEMENT) {
+        if (depth == 0)
+          break;
+        depth--;
+      }
+    }
+    switch (name) {
+    case GMLConstants.GML_MULTI_POINT:
+      return factory.createMultiPoint(toArray(members, Point.class, new Point[members.size()], name));
+    case GMLConstants.GML_MULTI_LINESTRING:
+    case GMLConstants.GML_MULTI_CURVE:
+      return factory.createMultiLineString(toArray(members, LineString.class, new LineString[members.size()], name));
+    case GMLConstants.GML_MULTI_POLYGON:
+    case GMLConstants.GML_MULTI_SURFACE:
+      return factory.createMultiPolygon(toArray(members, Polygon.class, new Polygon[members.size()], name));
+    default:
+      return factory.createGeometryCollection(members.toArray(new Geometry[members.size()]));
+    }
+  }
+
+  private static <T extends Geometry> T[] toArray(List<Geometry> members, Class<T> memberClass,
+      T[] arr, String name)
+      throws ParseException
+  {
+    for (int i = 0; i < arr.length; i++) {
+      Geometry member = members.get(i);
+      if (! memberClass.isInstance(member))
+        throw new ParseException("Invalid member of " + name + ": " + member.getGeometryType());
+      arr[i] = memberClass.cast(member);
+    }
+    return arr;
+  }
+
+  /**
+   * Reads a GML 2 <tt>coordinates</tt> element.
+   * Whitespace around the coordinate separator is ignored.
+   */
+  private void readCoordinates()
+      throws XMLStreamException, ParseException
+  {
+    char decimal = getSeparator("decimal", '.');
+    char cs = getSeparator("cs", ',');
+    char ts = getSeparator("ts", ' ');
+    readText();
+
+    char[] t = text;
+    int n = textLen;
+    int i = 0;
+    int tupleSize = 0;
+    while (true) {
+      while (i < n && isWhitespace(t[i]))
+        i++;
+      if (i >= n)
+        break;
+      int start = i;
+      while (i < n && t[i] != cs && t[i] != ts && ! isWhitespace(t[i]))
+        i++;
+      if (start == i)
+        throw new ParseException("Invalid coordinates: " + new String(t, 0, n).trim());
+      double val = parseNumber(t, start, i, decimal);
+      if (tupleSize < MAX_DIM)
+        tuple[tupleSize] = val;
+      tupleSize++;
+
+      // determine whether the tuple continues
+      while (i < n && isWhitespace(t[i]) && t[i] != cs)
+        i++;
+      if (i < n && t[i] == cs) {
+        i++;
+        continue;
+      }
+      if (i < n && t[i] == ts)
+        i++;
+      addTuple(tupleSize);
+      tupleSize = 0;
+    }
+    if (tupleSize > 0)
+      addTuple(tupleSize);
+  }
+
+  /**
+   * Reads a GML 3 <tt>pos</tt> or <tt>posList</tt> element.
+   *
+   * @param srsDim the dimension of the positions, or 0 if not known
+   * @param isPos true if the element contains a single position
+   */
+  private void readPosList(int srsDim, boolean isPos)
+      throws XMLStreamException, ParseException
+  {
+    readText();
+    // a position with no known dimension is read as a single tuple
+    boolean isTuple = isPos && srsDim == 0;
+    if (! isTuple) {
+      if (srsDim == 0)
+        srsDim = 2;
+      int dim = Math.min(srsDim, MAX_DIM);
+      if (coordDim == 0)
+        coordDim = dim;
+      else if (coordDim != dim)
+        throw new ParseException("Inconsistent coordinate dimension " + srsDim);
+    }
+    char[] t = text;
+    int n = textLen;
+    int i = 0;
+    int numVal = 0;
+    while (true) {
+      while (i < n && isWhitespace(t[i]))
+        i++;
+      if (i >= n)
+        break;
+      int start = i;
+      while (i < n && ! isWhitespace(t[i]))
+        i++;
+      double val = parseNumber(t, start, i, '.');
+      if (isTuple) {
+        if (numVal < MAX_DIM)
+          tuple[numVal] = val;
+      }
+      else if (numVal % srsDim < MAX_DIM) {
+        addOrdinate(val);
+      }
+      numVal++;
+    }
+    if (isTuple) {
+      if (numVal > 0)
+        addTuple(numVal);
+    }
+    else if (numVal % srsDim != 0) {
+      throw new ParseException("Number of ordinates " + numVal
+          + " is not a multiple of the dimension " + srsDim);
+    }
+  }
+
+  /**
+   * Reads a GML 2 <tt>coord</tt> element.
+   */
+  private void readCoord()
+      throws XMLStreamException, ParseException
+  {
+    int tupleSize = 0;
+    while (true) {
+      int event = xsr.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String child = localName(xsr.getLocalName());
+        int index;
+        if (child.equals(GMLConstants.GML_COORD_X))
+          index = 0;
+        else if (child.equals(GMLConstants.GML_COORD_Y))
+          index = 1;
+        else if (child.equals(GMLConstants.GML_COORD_Z))
+          index = 2;
+        else
+          throw new ParseException("Invalid element in coord: " + child);
+        readText();
+        int end = textLen;
+        while (end > 0 && isWhitespace(text[end - 1]))
+          end--;
+        int start = 0;
+        while (start < end && isWhitespace(text[start]))
+          start++;
+        tuple[index] = parseNumber(text, start, end, '.');
+        tupleSize = Math.max(tupleSize, index + 1);
+      }
+      else if (event == XMLStreamConstants.END_ELEMENT) {
+        break;
+      }
+    }
+    if (tupleSize > 0)
+      addTuple(tupleSize);
+  }
+
+  /**
+   * Adds the ordinates in the tuple buffer as a coordinate.
+   * The dimension of the first coordinate determines the dimension of the sequence.
+   * Missing ordinates are set to NaN, and extra ones are dropped.
+   */
+  private void addTuple(int tupleSize) {
+    if (coordDim == 0)
+      coordDim = Math.max(2, Math.min(tupleSize, MAX_DIM));
+    for (int i = 0; i < coordDim; i++) {
+      addOrdinate(i < tupleSize ? tuple[i] : Double.NaN);
+    }
+  }
+
+  private void addOrdinate(double val) {
+    if (numOrds == ords.length)
+      ords = Arrays.copyOf(ords, 2 * ords.length);
+    ords[numOrds++] = val;
+  }
+
+  private CoordinateSequence createSequence() {
+    int dim = coordDim == 0 ? 2 : coordDim;
+    int size = numOrds / dim;
+    CoordinateSequence seq = factory.getCoordinateSequenceFactory().create(size, dim);
+    int seqDim = Math.min(dim, seq.getDimension());
+    int k = 0;
+    for (int i = 0; i < size; i++) {
+      for (int d = 0; d < seqDim; d++) {
+        seq.setOrdinate(i, d, ords[k + d]);
+      }
+      k += dim;
+    }
+    return seq;
+  }
+
+  /**
+   * Reads the text content of the current element into the text buffer,
+   * leaving the stream positioned at the end of the element.
+   */
+  private void readText()
+      throws XMLStreamException, ParseException
+  {
+    textLen = 0;
+    while (true) {
+      int event = xsr.next();
+      switch (event) {
+      case XMLStreamConstants.CHARACTERS:
+      case XMLStreamConstants.CDATA:
+      case XMLStreamConstants.SPACE:
+        int len = xsr.getTextLength();
+        if (textLen + len > text.length)
+          text = Arrays.copyOf(text, Math.max(textLen + len, 2 * text.length));
+        System.arraycopy(xsr.getTextCharacters(), xsr.getTextStart(), text, textLen, len);
+        textLen += len;
+        break;
+      case XMLStreamConstants.END_ELEMENT:
+        return;
+      case XMLStreamConstants.START_ELEMENT:
+        throw new ParseException("Unexpected element in text: " + xsr.getLocalName());
+      default:
+        // ignore comments and processing instructions
+      }
+    }
+  }
+
+  private void skipElement()
+      throws XMLStreamException
+  {
+    int depth = 0;
+    while (true) {
+      int event = xsr.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      }
+      else if (event == XMLStreamConstants.END_ELEMENT) {
+        if (depth == 0)
+          return;
+        depth--;
+      }
+    }
+  }
+
+  /**
+   * Gets the value of an attribute of the current element,
+   * ignoring any namespace prefix.
+   *
+   * @return the attribute value, or null if not present
+   */
+  private String getAttribute(String name) {
+    int n = xsr.getAttributeCount();
+    for (int i = 0; i < n; i++) {
+      String attrName = xsr.getAttributeLocalName(i);
+      int prefixLen = attrName.length() - name.length();
+      if (attrName.endsWith(name)
+          && (prefixLen == 0 || attrName.charAt(prefixLen - 1) == ':'))
+        return xsr.getAttributeValue(i);
+    }
+    return null;
+  }
+
+  private int getSrsDimension(int defaultDim)
+      throws ParseException
+  {
+    String val = getAttribute(GMLConstants.GML_ATTR_SRSDIMENSION);
+    if (val == null)
+      return defaultDim;
+    try {
+      int dim = Integer.parseInt(val.trim());
+      if (dim < 1)
+        throw new ParseException("Invalid srsDimension: " + val);
+      return dim;
+    }
+    catch (NumberFormatException ex) {
+      throw new ParseException("Invalid srsDimension: " + val);
+    }
+  }
+
+  private char getSeparator(String name, char defaultValue)
+      throws ParseException
+  {
+    String val = getAttribute(name);
+    if (val == null || val.isEmpty())
+      return defaultValue;
+    if (val.length() > 1)
+      throw new ParseException("Unsupported " + name + " separator: " + val);
+    return val.charAt(0);
+  }
+
+  private static String localName(String name) {
+    int i = name.indexOf(':');
+    return i < 0 ? name : name.substring(i + 1);
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+  }
+
+  /**
+   * Parses a number from a range of characters.
+   *
+   * @see DoubleParser
+   */
+  private static double parseNumber(char[] t, int start, int end, char decimal)
+      throws ParseException
+  {
+    try {
+      return DoubleParser.parse(t, start, end, decimal);
+    }
+    catch (NumberFormatException ex) {
+      throw new ParseException("Invalid number: " + new String(t, start, end - start));
+    }
+  }
+
+  private class GeometryIterator
+    implements Iterator<Geometry>
+  {
+    private Geometry next = null;
+
+    public boolean hasNext() {
+      if (next == null)
+        next = readUnchecked();
+      return next != null;
+    }
+
+    public Geometry next() {
+      if (! hasNext())
+        throw new NoSuchElementException();
+      Geometry geom = next;
+      next = null;
+      return geom;
+    }
+  }
+}
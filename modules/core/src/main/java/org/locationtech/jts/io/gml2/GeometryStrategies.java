@@ -499,6 +499,18 @@ public class GeometryStrategies{
 		else if(attrs.getIndex(GMLConstants.GML_NAMESPACE,GMLConstants.GML_ATTR_SRSNAME)>=0)
 			srs = attrs.getValue(GMLConstants.GML_NAMESPACE,GMLConstants.GML_ATTR_SRSNAME);
 		
+		return getSrid(srs, defaultValue);
+	}
+	
+	/**
+	 * Extracts an SRID from the value of an <tt>srsName</tt> attribute,
+	 * which may be either an integer or end with one (e.g. <tt>EPSG:4326</tt>).
+	 *
+	 * @param srs the attribute value, or null
+	 * @param defaultValue the SRID to use if none can be extracted
+	 * @return the SRID
+	 */
+	static int getSrid(String srs, int defaultValue){
 		if(srs != null){
 			srs = srs.trim();
 			if(srs != null && !"".equals(srs)){
@@ -12,17 +12,24 @@
 package org.locationtech.jts.noding;
 
 import org.locationtech.jts.algorithm.LineIntersector;
+import org.locationtech.jts.algorithm.RobustLineIntersector;
 import org.locationtech.jts.geom.Coordinate;
 
 /**
  * Computes the possible intersections between two line segments in {@link NodedSegmentString}s
  * and adds them to each string 
  * using {@link NodedSegmentString#addIntersection(LineIntersector, int, int, int)}.
+ * <p>
+ * Intersections can be computed in parallel
+ * if the line intersector is a {@link RobustLineIntersector}
+ * (but not by subclasses).
+ * Workers record the intersection nodes they find,
+ * and these are added to the segment strings when the workers are merged.
  *
  * @version 1.7
  */
 public class IntersectionAdder
-    implements SegmentIntersector
+    implements ParallelSegmentIntersector
 {
   public static boolean isAdjacentSegments(int i1, int i2)
   {
@@ -50,6 +57,11 @@ public class IntersectionAdder
 
   // testing only
   public int numTests = 0;
+  
+  /**
+   * The nodes found by a worker, or null if nodes are added directly
+   */
+  private SegmentNodeBuffer nodes = null;
 
   public IntersectionAdder(LineIntersector li)
   {
@@ -142,8 +154,8 @@ public class IntersectionAdder
       // only intersection.
       if (! isTrivialIntersection(e0, segIndex0, e1, segIndex1)) {
         hasIntersection = true;
-        ((NodedSegmentString) e0).addIntersections(li, segIndex0, 0);
-        ((NodedSegmentString) e1).addIntersections(li, segIndex1, 1);
+        addIntersections(e0, segIndex0, 0);
+        addIntersections(e1, segIndex1, 1);
         if (li.isProper()) {
           numProperIntersections++;
 //Debug.println(li.toString());  Debug.println(li.getIntersection(0));
@@ -155,10 +167,58 @@ public class IntersectionAdder
     }
   }
   
+  private void addIntersections(SegmentString e, int segIndex, int geomIndex) {
+    if (nodes == null) {
+      ((NodedSegmentString) e).addIntersections(li, segIndex, geomIndex);
+      return;
+    }
+    nodes.addIntersections((NodedSegmentString) e, li, segIndex);
+  }
+  
   /**
    * Always process all intersections
    * 
    * @return false always
    */
   public boolean isDone() { return false; }
+  
+  /**
+   * Creates a worker which uses a copy of the line intersector.
+   * This is only supported for a {@link RobustLineIntersector},
+   * and not for subclasses of this class,
+   * since a worker would not have their behaviour.
+   * 
+   * @return a new worker, or null if this intersector can not be copied
+   */
+  public SegmentIntersector createWorker() {
+    if (getClass() != IntersectionAdder.class)
+      return null;
+    if (li.getClass() != RobustLineIntersector.class)
+      return null;
+    LineIntersector workerLi = new RobustLineIntersector();
+    workerLi.setPrecisionModel(li.getPrecisionModel());
+    IntersectionAdder worker = new IntersectionAdder(workerLi);
+    worker.nodes = new SegmentNodeBuffer();
+    return worker;
+  }
+  
+  /**
+   * Adds the nodes found by a worker to their segment strings,
+   * in the order they were found,
+   * and accumulates the worker statistics.
+   * 
+   * @param worker a worker created by {@link #createWorker()}
+   */
+  public void merge(SegmentIntersector worker) {
+    IntersectionAdder adder = (IntersectionAdder) worker;
+    adder.nodes.addTo();
+    hasIntersection |= adder.hasIntersection;
+    hasProper |= adder.hasProper;
+    hasProperInterior |= adder.hasProperInterior;
+    hasInterior |= adder.hasInterior;
+    numIntersections += adder.numIntersections;
+    numInteriorIntersections += adder.numInteriorIntersections;
+    numProperIntersections += adder.numProperIntersections;
+    numTests += adder.numTests;
+  }
 }
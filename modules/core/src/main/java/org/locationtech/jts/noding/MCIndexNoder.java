@@ -15,6 +15,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.index.SpatialIndex;
@@ -33,6 +35,17 @@ import org.locationtech.jts.index.strtree.STRtree;
  * The noder supports using an overlap tolerance distance .
  * This allows determining segment intersection using a buffer for uses
  * involving snapping with a distance tolerance.
+ * <p>
+ * The chain overlaps can optionally be computed in parallel,
+ * by providing a {@link ForkJoinPool} via {@link #setForkJoinPool(ForkJoinPool)}.
+ * The monotone chains are divided into contiguous work units,
+ * which query the shared index concurrently.
+ * This requires the {@link SegmentIntersector} to be a {@link ParallelSegmentIntersector}
+ * (such as {@link IntersectionAdder}).
+ * Each work unit uses its own worker intersector,
+ * and the workers are merged in the order of the chains.
+ * So nodes are added to the segment strings in the same order as in sequential mode,
+ * and the noded result is identical.
  *
  * @version 1.7
  */
@@ -46,6 +59,16 @@ public class MCIndexNoder
   // statistics
   private int nOverlaps = 0;
   private double overlapTolerance = 0;
+  private ForkJoinPool pool = null;
+  
+  /**
+   * The minimum number of chains in a parallel work unit.
+   */
+  private static final int MIN_UNIT_CHAINS = 64;
+  /**
+   * The number of work units per thread, to balance uneven query costs.
+   */
+  private static final int UNITS_PER_THREAD = 4;
 
   public MCIndexNoder()
   {
@@ -69,6 +92,19 @@ public class MCIndexNoder
     this.overlapTolerance = overlapTolerance;
   }
 
+  /**
+   * Sets a {@link ForkJoinPool} to use to compute chain overlaps in parallel.
+   * If the pool is null (the default),
+   * or the segment intersector is not a {@link ParallelSegmentIntersector},
+   * overlaps are computed in the calling thread.
+   * 
+   * @param pool the pool to run overlap tasks in, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool)
+  {
+    this.pool = pool;
+  }
+
   public List getMonotoneChains() { return monoChains; }
 
   public SpatialIndex getIndex() { return index; }
@@ -90,10 +126,25 @@ public class MCIndexNoder
 
   private void intersectChains()
   {
-    MonotoneChainOverlapAction overlapAction = new SegmentOverlapAction(segInt);
+    if (pool != null && segInt instanceof ParallelSegmentIntersector) {
+      if (intersectChainsParallel((ParallelSegmentIntersector) segInt))
+        return;
+    }
+    nOverlaps += intersectChains(0, monoChains.size(), segInt);
+  }
 
-    for (Iterator i = monoChains.iterator(); i.hasNext(); ) {
-      MonotoneChain queryChain = (MonotoneChain) i.next();
+  /**
+   * Computes the overlaps of a range of query chains
+   * with the chains in the index.
+   * 
+   * @return the number of chain overlaps tested
+   */
+  private int intersectChains(int start, int end, SegmentIntersector si)
+  {
+    MonotoneChainOverlapAction overlapAction = new SegmentOverlapAction(si);
+    int numOverlaps = 0;
+    for (int i = start; i < end; i++) {
+      MonotoneChain queryChain = (MonotoneChain) monoChains.get(i);
       Envelope queryEnv = queryChain.getEnvelope(overlapTolerance);
       List overlapChains = index.query(queryEnv);
       for (Iterator j = overlapChains.iterator(); j.hasNext(); ) {
@@ -104,13 +155,48 @@ public class MCIndexNoder
          */
         if (testChain.getId() > queryChain.getId()) {
           queryChain.computeOverlaps(testChain, overlapTolerance, overlapAction);
-          nOverlaps++;
+          numOverlaps++;
         }
         // short-circuit if possible
-        if (segInt.isDone())
-        	return;
+        if (si.isDone())
+        	return numOverlaps;
       }
     }
+    return numOverlaps;
+  }
+
+  /**
+   * Computes the chain overlaps in parallel work units,
+   * and merges the results of the units in order.
+   * 
+   * @return false if the work could not be split
+   */
+  private boolean intersectChainsParallel(ParallelSegmentIntersector psi)
+  {
+    int numChains = monoChains.size();
+    int maxUnits = UNITS_PER_THREAD * pool.getParallelism();
+    int unitSize = Math.max(MIN_UNIT_CHAINS, (numChains + maxUnits - 1) / maxUnits);
+    int numUnits = (numChains + unitSize - 1) / unitSize;
+    if (numUnits <= 1)
+      return false;
+    
+    SegmentIntersector[] workers = new SegmentIntersector[numUnits];
+    for (int i = 0; i < numUnits; i++) {
+      workers[i] = psi.createWorker();
+      if (workers[i] == null)
+        return false;
+    }
+    // build the index before querying it concurrently
+    if (index instanceof STRtree)
+      ((STRtree) index).build();
+    
+    int[] numOverlaps = new int[numUnits];
+    pool.invoke(new IntersectChainsTask(workers, numOverlaps, unitSize, 0, numUnits));
+    for (int i = 0; i < numUnits; i++) {
+      psi.merge(workers[i]);
+      nOverlaps += numOverlaps[i];
+    }
+    return true;
   }
 
   private void add(SegmentString segStr)
@@ -125,6 +211,42 @@ public class MCIndexNoder
     }
   }
 
+  /**
+   * Computes the overlaps for a range of work units,
+   * by splitting it until a single unit remains.
+   */
+  private class IntersectChainsTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+    
+    private final SegmentIntersector[] workers;
+    private final int[] numOverlaps;
+    private final int unitSize;
+    private final int start;
+    private final int end;
+
+    IntersectChainsTask(SegmentIntersector[] workers, int[] numOverlaps, int unitSize, int start, int end)
+    {
+      this.workers = workers;
+      this.numOverlaps = numOverlaps;
+      this.unitSize = unitSize;
+      this.start = start;
+      this.end = end;
+    }
+
+    protected void compute() {
+      if (end - start == 1) {
+        int chainStart = start * unitSize;
+        int chainEnd = Math.min(chainStart + unitSize, monoChains.size());
+        numOverlaps[start] = intersectChains(chainStart, chainEnd, workers[start]);
+        return;
+      }
+      int mid = (start + end) / 2;
+      invokeAll(new IntersectChainsTask(workers, numOverlaps, unitSize, start, mid),
+          new IntersectChainsTask(workers, numOverlaps, unitSize, mid, end));
+    }
+  }
+
   public static class SegmentOverlapAction
       extends MonotoneChainOverlapAction
   {
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.noding;
+
+/**
+ * A {@link SegmentIntersector} which allows a {@link Noder}
+ * to process intersections in parallel.
+ * The noder divides the segment pairs to test into a sequence of work units,
+ * each processed in its own thread by a worker intersector
+ * obtained from {@link #createWorker()}.
+ * Workers must not modify the segment strings or any other shared state.
+ * Instead they record their results,
+ * which are then added to this intersector by {@link #merge(SegmentIntersector)}.
+ * Workers are merged in the order of the work units,
+ * on the thread which called the noder,
+ * so the result is the same as processing all segment pairs sequentially.
+ */
+public interface ParallelSegmentIntersector
+  extends SegmentIntersector
+{
+  /**
+   * Creates an intersector to process a unit of work in parallel
+   * with other workers.
+   * 
+   * @return a new worker intersector, or null if parallel processing is not supported
+   */
+  SegmentIntersector createWorker();
+  
+  /**
+   * Adds the results recorded by a worker to this intersector.
+   * 
+   * @param worker a worker created by this intersector
+   */
+  void merge(SegmentIntersector worker);
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.noding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.algorithm.LineIntersector;
+import org.locationtech.jts.geom.Coordinate;
+
+/**
+ * Records nodes for {@link NodedSegmentString}s,
+ * to be added to them later.
+ * This allows the workers of a {@link ParallelSegmentIntersector}
+ * to find nodes without modifying the shared segment strings.
+ * The nodes are added in the order they were recorded,
+ * so the result is the same as adding them directly.
+ */
+public class SegmentNodeBuffer
+{
+  private List<NodeRecord> nodes = new ArrayList<NodeRecord>();
+
+  /**
+   * Records a node to add to a segment string.
+   *
+   * @param segStr the segment string to add the node to
+   * @param pt the node point
+   * @param segIndex the index of the segment containing the node
+   */
+  public void add(NodedSegmentString segStr, Coordinate pt, int segIndex) {
+    nodes.add(new NodeRecord(segStr, pt, segIndex));
+  }
+
+  /**
+   * Records the intersections computed by a line intersector
+   * as nodes to add to a segment string.
+   * The intersection points are copied,
+   * since the line intersector is reused.
+   *
+   * @param segStr the segment string to add the nodes to
+   * @param li the line intersector holding the intersections
+   * @param segIndex the index of the segment containing the intersections
+   */
+  public void addIntersections(NodedSegmentString segStr, LineIntersector li, int segIndex) {
+    for (int i = 0; i < li.getIntersectionNum(); i++) {
+      add(segStr, li.getIntersection(i).copy(), segIndex);
+    }
+  }
+
+  /**
+   * Adds the recorded nodes to their segment strings,
+   * in the order they were recorded,
+   * and clears the buffer.
+   */
+  public void addTo() {
+    for (NodeRecord node : nodes) {
+      node.segStr.addIntersection(node.pt, node.segIndex);
+    }
+    nodes.clear();
+  }
+
+  private static class NodeRecord {
+    final NodedSegmentString segStr;
+    final Coordinate pt;
+    final int segIndex;
+
+    NodeRecord(NodedSegmentString segStr, Coordinate pt, int segIndex) {
+      this.segStr = segStr;
+      this.pt = pt;
+      this.segIndex = segIndex;
+    }
+  }
+}
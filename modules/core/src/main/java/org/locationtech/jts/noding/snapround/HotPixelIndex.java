@@ -172,6 +172,8 @@ class HotPixelIndex {
    * Visits all the hot pixels which may intersect a segment (p0-p1).
    * The visitor must determine whether each hot pixel actually intersects
    * the segment.
+   * Once all hot pixels have been added the index is not modified by queries,
+   * so it can be queried by multiple threads concurrently.
    *
    * @param p0 the segment start point
    * @param p1 the segment end point
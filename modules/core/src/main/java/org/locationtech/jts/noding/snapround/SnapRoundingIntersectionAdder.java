@@ -20,7 +20,9 @@ import org.locationtech.jts.algorithm.RobustLineIntersector;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.locationtech.jts.noding.NodedSegmentString;
+import org.locationtech.jts.noding.ParallelSegmentIntersector;
 import org.locationtech.jts.noding.SegmentIntersector;
+import org.locationtech.jts.noding.SegmentNodeBuffer;
 import org.locationtech.jts.noding.SegmentString;
 
 /**
@@ -38,15 +40,24 @@ import org.locationtech.jts.noding.SegmentString;
  * of the interior of a segment.
  * The tolerance distance is chosen to be significantly below the snap-rounding grid size.
  * This has empirically proven to eliminate noding failures.
+ * <p>
+ * Intersections can be found in parallel (but not by subclasses).
+ * Workers record the intersection points and nodes they find,
+ * and these are added when the workers are merged.
  *
  * @version 1.17
  */
 public class SnapRoundingIntersectionAdder
-    implements SegmentIntersector
+    implements ParallelSegmentIntersector
 { 
   private final LineIntersector li;
   private final List<Coordinate> intersections;
   private final double nearnessTol;
+  
+  /**
+   * The nodes found by a worker, or null if nodes are added directly
+   */
+  private SegmentNodeBuffer nodes = null;
 
 
   /**
@@ -104,8 +115,8 @@ public class SnapRoundingIntersectionAdder
         for (int intIndex = 0; intIndex < li.getIntersectionNum(); intIndex++) {
           intersections.add(li.getIntersection(intIndex));
         }
-        ((NodedSegmentString) e0).addIntersections(li, segIndex0, 0);
-        ((NodedSegmentString) e1).addIntersections(li, segIndex1, 1);
+        addIntersections(e0, segIndex0, 0);
+        addIntersections(e1, segIndex1, 1);
         return;
       }
     }
@@ -154,8 +165,24 @@ public class SnapRoundingIntersectionAdder
     double distSeg = Distance.pointToSegment(p, p0, p1);
     if (distSeg < nearnessTol) {
       intersections.add(p);
-      ((NodedSegmentString) edge).addIntersection(p, segIndex);
+      addIntersection(edge, p, segIndex);
+    }
+  }
+  
+  private void addIntersections(SegmentString e, int segIndex, int geomIndex) {
+    if (nodes == null) {
+      ((NodedSegmentString) e).addIntersections(li, segIndex, geomIndex);
+      return;
+    }
+    nodes.addIntersections((NodedSegmentString) e, li, segIndex);
+  }
+  
+  private void addIntersection(SegmentString e, Coordinate p, int segIndex) {
+    if (nodes == null) {
+      ((NodedSegmentString) e).addIntersection(p, segIndex);
+      return;
     }
+    nodes.add((NodedSegmentString) e, p, segIndex);
   }
 
   /**
@@ -165,4 +192,32 @@ public class SnapRoundingIntersectionAdder
    */
   public boolean isDone() { return false; }
 
+  /**
+   * Creates a worker with its own line intersector and intersection list.
+   * This is not supported for subclasses of this class,
+   * since a worker would not have their behaviour.
+   * 
+   * @return a new worker, or null if this intersector can not be copied
+   */
+  public SegmentIntersector createWorker() {
+    if (getClass() != SnapRoundingIntersectionAdder.class)
+      return null;
+    SnapRoundingIntersectionAdder worker = new SnapRoundingIntersectionAdder(nearnessTol);
+    worker.nodes = new SegmentNodeBuffer();
+    return worker;
+  }
+
+  /**
+   * Adds the intersection points found by a worker to the intersection list,
+   * and the nodes to their segment strings,
+   * in the order they were found.
+   * 
+   * @param worker a worker created by {@link #createWorker()}
+   */
+  public void merge(SegmentIntersector worker) {
+    SnapRoundingIntersectionAdder adder = (SnapRoundingIntersectionAdder) worker;
+    intersections.addAll(adder.intersections);
+    adder.intersections.clear();
+    adder.nodes.addTo();
+  }
 }
\ No newline at end of file
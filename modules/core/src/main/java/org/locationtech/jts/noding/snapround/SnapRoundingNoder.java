@@ -13,7 +13,11 @@ package org.locationtech.jts.noding.snapround;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateList;
@@ -51,6 +55,13 @@ import org.locationtech.jts.noding.SegmentString;
  * This still provides fully-noded output.
  * This is the same behaviour provided by other noders,
  * such as {@link MCIndexNoder} and {@link org.locationtech.jts.noding.snap.SnappingNoder}.
+ * <p>
+ * If a {@link ForkJoinPool} is provided, intersections are found 
+ * and segment strings are snapped in parallel.
+ * The hot pixel index is read-only while snapping, 
+ * and hot pixels are marked as nodes after all segment strings are snapped,
+ * in the order a sequential run would mark them.
+ * The noded output is identical to that computed sequentially.
  * 
  * @version 1.7
  */
@@ -63,8 +74,14 @@ public class SnapRoundingNoder
    */
   private static final int NEARNESS_FACTOR = 100;
   
+  /**
+   * The minimum number of segment strings snapped by a parallel task
+   */
+  private static final int MIN_TASK_SIZE = 16;
+  
   private final PrecisionModel pm;
   private final HotPixelIndex pixelIndex;
+  private ForkJoinPool pool = null;
   
   private List<NodedSegmentString> snappedResult;
 
@@ -73,6 +90,16 @@ public class SnapRoundingNoder
     pixelIndex = new HotPixelIndex(pm);
   }
 
+  /**
+   * Sets the pool used to snap-round in parallel.
+   * If the pool is null (the default) snap-rounding is sequential.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
   /**
 	 * @return a Collection of NodedSegmentStrings representing the substrings
 	 * 
@@ -125,6 +152,7 @@ public class SnapRoundingNoder
     
     SnapRoundingIntersectionAdder intAdder = new SnapRoundingIntersectionAdder(nearnessTol);
     MCIndexNoder noder = new MCIndexNoder(intAdder, nearnessTol);
+    noder.setForkJoinPool(pool);
     noder.computeNodes(segStrings);
     List<Coordinate> intPts = intAdder.getIntersections();
     pixelIndex.addNodes(intPts);
@@ -177,9 +205,12 @@ public class SnapRoundingNoder
    */
   private List<NodedSegmentString> computeSnaps(Collection<NodedSegmentString> segStrings)
   {
+    if (pool != null)
+      return computeSnapsParallel(segStrings);
+    
     List<NodedSegmentString> snapped = new ArrayList<NodedSegmentString>();
     for (NodedSegmentString ss : segStrings ) {
-      NodedSegmentString snappedSS = computeSegmentSnaps(ss);
+      NodedSegmentString snappedSS = computeSegmentSnaps(ss, null, 0);
       if (snappedSS != null)
         snapped.add(snappedSS);
     }
@@ -193,15 +224,76 @@ public class SnapRoundingNoder
     return snapped;
   }
 
+  /**
+   * Computes the snapped segment strings in parallel.
+   * <p>
+   * While snapping, hot pixels are not marked as nodes. 
+   * Instead the segments which mark them are recorded,
+   * along with the snaps to hot pixels containing a segment vertex,
+   * which a sequential run adds only if the hot pixel 
+   * has already been marked as a node by an earlier segment.
+   * These are resolved in segment order once all segment strings are snapped.
+   * 
+   * @param segStrings segments to snap
+   * @return the snapped segment strings
+   */
+  private List<NodedSegmentString> computeSnapsParallel(Collection<NodedSegmentString> segStrings)
+  {
+    NodedSegmentString[] inputSS = segStrings.toArray(new NodedSegmentString[0]);
+    SnapRecord[] records = new SnapRecord[inputSS.length];
+    int taskSize = taskSize(inputSS.length);
+    pool.invoke(new SnapTask(inputSS, records, 0, inputSS.length, taskSize, false));
+    
+    /**
+     * Find the first segment which marks each hot pixel as a node
+     */
+    Map<HotPixel, Long> nodeOrder = new IdentityHashMap<HotPixel, Long>();
+    for (SnapRecord rec : records) {
+      for (PixelSnap snap : rec.nodeSnaps) {
+        if (! nodeOrder.containsKey(snap.hp))
+          nodeOrder.put(snap.hp, snap.order);
+      }
+    }
+    List<NodedSegmentString> snapped = new ArrayList<NodedSegmentString>();
+    for (SnapRecord rec : records) {
+      for (PixelSnap snap : rec.vertexSnaps) {
+        Long order = nodeOrder.get(snap.hp);
+        if (order != null && order < snap.order) {
+          rec.snapSS.addIntersection(snap.hp.getCoordinate(), snap.segIndex);
+        }
+      }
+      if (rec.snapSS != null)
+        snapped.add(rec.snapSS);
+    }
+    for (HotPixel hp : nodeOrder.keySet()) {
+      hp.setToNode();
+    }
+    
+    NodedSegmentString[] snappedSS = snapped.toArray(new NodedSegmentString[0]);
+    pool.invoke(new SnapTask(snappedSS, null, 0, snappedSS.length, taskSize, true));
+    return snapped;
+  }
+  
+  private int taskSize(int numSegStrings) {
+    int numTasks = 4 * pool.getParallelism();
+    int size = (numSegStrings + numTasks - 1) / numTasks;
+    return Math.max(size, MIN_TASK_SIZE);
+  }
+
   /**
    * Add snapped vertices to a segment string.
    * If the segment string collapses completely due to rounding,
    * null is returned.
+   * <p>
+   * If a snap record is provided, hot pixels are not marked as nodes,
+   * but the snaps which depend on them being nodes are recorded.
    * 
    * @param ss the segment string to snap
+   * @param rec the snap record, or null if snapping sequentially
+   * @param ssIndex the index of the segment string
    * @return the snapped segment string, or null if it collapses completely
    */
-  private NodedSegmentString computeSegmentSnaps(NodedSegmentString ss)
+  private NodedSegmentString computeSegmentSnaps(NodedSegmentString ss, SnapRecord rec, int ssIndex)
   {
     //Coordinate[] pts = ss.getCoordinates();
     /**
@@ -238,7 +330,8 @@ public class SnapRoundingNoder
        * (It is important to check original segment because rounding can
        * move it enough to intersect other hot pixels not intersecting original segment)
        */
-      snapSegment( p0, p1, snapSS, snapSSindex);      
+      long order = ((long) ssIndex << 32) | i;
+      snapSegment( p0, p1, snapSS, snapSSindex, rec, order);      
       snapSSindex++;
     }
     return snapSS;
@@ -252,8 +345,11 @@ public class SnapRoundingNoder
    * @param p1 the segment end coordinate
    * @param ss the segment string to add intersections to
    * @param segIndex the index of the segment
+   * @param rec the snap record, or null if snapping sequentially
+   * @param order the position of the segment in the sequential snapping order
    */
-  private void snapSegment(Coordinate p0, Coordinate p1, NodedSegmentString ss, int segIndex) {
+  private void snapSegment(Coordinate p0, Coordinate p1, NodedSegmentString ss, int segIndex,
+      SnapRecord rec, long order) {
     pixelIndex.query(p0, p1, new KdNodeVisitor() {
 
       @Override
@@ -268,8 +364,15 @@ public class SnapRoundingNoder
          * in which case the intersection will be added during the final vertex noding phase.
          */
         if (! hp.isNode()) {
-          if (hp.intersects(p0) || hp.intersects(p1))
+          if (hp.intersects(p0) || hp.intersects(p1)) {
+            /**
+             * The hot pixel may be marked as a node by an earlier segment
+             * while snapping in parallel, so record the snap 
+             */
+            if (rec != null)
+              rec.vertexSnaps.add(new PixelSnap(hp, segIndex, order));
             return;
+          }
         }
         /**
          * Add a node if the segment intersects the pixel.
@@ -279,7 +382,10 @@ public class SnapRoundingNoder
         if (hp.intersects(p0, p1)) {
           //System.out.println("Added intersection: " + hp.getCoordinate());
           ss.addIntersection( hp.getCoordinate(), segIndex );
-          hp.setToNode();
+          if (rec == null)
+            hp.setToNode();
+          else if (! hp.isNode())
+            rec.nodeSnaps.add(new PixelSnap(hp, segIndex, order));
         }
       }
     });
@@ -317,4 +423,71 @@ public class SnapRoundingNoder
     });
   }
 
+  /**
+   * The snaps found for a segment string which depend on 
+   * when hot pixels are marked as nodes.
+   */
+  private static class SnapRecord {
+    NodedSegmentString snapSS;
+    final List<PixelSnap> nodeSnaps = new ArrayList<PixelSnap>();
+    final List<PixelSnap> vertexSnaps = new ArrayList<PixelSnap>();
+  }
+  
+  private static class PixelSnap {
+    final HotPixel hp;
+    final int segIndex;
+    final long order;
+    
+    PixelSnap(HotPixel hp, int segIndex, long order) {
+      this.hp = hp;
+      this.segIndex = segIndex;
+      this.order = order;
+    }
+  }
+  
+  /**
+   * Snaps a range of segment strings, 
+   * or adds the vertex node snaps to them.
+   * Each segment string is written only by the task which processes it.
+   */
+  private class SnapTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final NodedSegmentString[] segStrings;
+    private final SnapRecord[] records;
+    private final int start;
+    private final int end;
+    private final int taskSize;
+    private final boolean isVertexSnap;
+
+    SnapTask(NodedSegmentString[] segStrings, SnapRecord[] records, 
+        int start, int end, int taskSize, boolean isVertexSnap) {
+      this.segStrings = segStrings;
+      this.records = records;
+      this.start = start;
+      this.end = end;
+      this.taskSize = taskSize;
+      this.isVertexSnap = isVertexSnap;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start > taskSize) {
+        int mid = (start + end) >>> 1;
+        invokeAll(new SnapTask(segStrings, records, start, mid, taskSize, isVertexSnap),
+            new SnapTask(segStrings, records, mid, end, taskSize, isVertexSnap));
+        return;
+      }
+      for (int i = start; i < end; i++) {
+        if (isVertexSnap) {
+          addVertexNodeSnaps(segStrings[i]);
+        }
+        else {
+          SnapRecord rec = new SnapRecord();
+          rec.snapSS = computeSegmentSnaps(segStrings[i], rec, i);
+          records[i] = rec;
+        }
+      }
+    }
+  }
 }
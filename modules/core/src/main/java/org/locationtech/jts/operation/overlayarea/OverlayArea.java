@@ -0,0 +1,613 @@
+/*
+ * Copyright (c) 2020 Martin Davis
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.overlayarea;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.algorithm.Area;
+import org.locationtech.jts.algorithm.Intersection;
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.algorithm.RayCrossingCounter;
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFilter;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.index.chain.MonotoneChain;
+import org.locationtech.jts.index.chain.MonotoneChainBuilder;
+import org.locationtech.jts.index.chain.MonotoneChainOverlapAction;
+import org.locationtech.jts.index.hprtree.HPRtree;
+
+/**
+ * Computes the area of the overlay of two polygons without forming
+ * the actual topology of the overlay.
+ * Since the topology is not needed, the computation is
+ * is insensitive to the fine details of the overlay topology,
+ * and hence is fully robust.
+ * It also allows for a simpler implementation with more aggressive
+ * performance optimization.
+ * <p>
+ * The algorithm uses mathematics derived from the work of William R. Franklin.
+ * The area of a polygon can be computed as a sum of the partial areas
+ * computed for each {@link EdgeVector} of the polygon.
+ * This allows the area of the intersection of two polygons to be computed
+ * by summing the partial areas for the edge vectors of the intersection resultant.
+ * To determine the edge vectors all that is required
+ * is to compute the vertices of the intersection resultant,
+ * along with the direction (not the length) of the edges they belong to.
+ * The resultant vertices are the vertices where the edges of the inputs intersect,
+ * along with the vertices of each input which lie in the interior of the other input.
+ * The direction of the edge vectors is the same as the parent edges from which they derive.
+ * Determining the vertices of intersection is simpler and more robust
+ * than determining the values of the actual edge line segments in the overlay result.
+ * <p>
+ * Degenerate intersections (such as touching vertices and collinear edges)
+ * are handled by treating the other geometry as if it were translated
+ * by an infinitesimal amount
+ * (a form of Simulation of Simplicity).
+ * In this situation all edge intersections are proper crossings, 
+ * and no vertex lies on the boundary of the other geometry.
+ * Since area is continuous under translation, the computed area is exact.
+ * <p>
+ * An instance is prepared for a polygonal target geometry
+ * (which may contain holes and multiple polygons).
+ * The target edges are indexed as {@link MonotoneChain}s,
+ * and the target is indexed for point-in-polygon tests.
+ * This makes it efficient to compute the intersection area of the target
+ * with many other geometries,
+ * which is supported in batch by {@link #intersectionAreas(Collection)}.
+ * A batch can be computed in parallel by providing a {@link ForkJoinPool}.
+ * <p>
+ * Instances of this class are thread-safe.
+ *
+ * @author Martin Davis
+ *
+ */
+public class OverlayArea {
+
+  /**
+   * Computes the area of intersection of two polygonal geometries.
+   *
+   * @param geom0 a polygonal geometry
+   * @param geom1 a geometry
+   * @return the area of the intersection of the geometries
+   */
+  public static double intersectionArea(Geometry geom0, Geometry geom1) {
+    if (! interacts(geom0, geom1))
+      return 0;
+    OverlayArea area = new OverlayArea(geom0);
+    return area.intersectionArea(geom1);
+  }
+
+  private static boolean interacts(Geometry geom0, Geometry geom1) {
+    return geom0.getEnvelopeInternal().intersects(geom1.getEnvelopeInternal());
+  }
+
+  /**
+   * The maximum number of ring vertices
+   * for which points are located in the ring without an index.
+   */
+  private static final int MAX_SIMPLE_RING_SIZE = 32;
+
+  private static final int MIN_TASK_SIZE = 16;
+
+  private Geometry geom0;
+  private Envelope geomEnv0;
+  private IndexedPointInAreaLocator locator0;
+  private HPRtree chainIndex = new HPRtree();
+  private ForkJoinPool pool = null;
+
+  /**
+   * Creates a new overlay area computation for a polygonal target geometry.
+   *
+   * @param geom the polygonal target geometry
+   * @throws IllegalArgumentException if the geometry is not polygonal
+   */
+  public OverlayArea(Geometry geom) {
+    if (! (geom instanceof Polygonal))
+      throw new IllegalArgumentException("Overlay area geometry must be polygonal");
+    this.geom0 = geom;
+    geomEnv0 = geom.getEnvelopeInternal();
+    locator0 = new IndexedPointInAreaLocator(geom);
+    if (! geom.isEmpty()) {
+      //-- build the locator index now, so it is shared by all threads
+      locator0.locate(geomEnv0.centre());
+      buildChainIndex(geom);
+    }
+    chainIndex.build();
+  }
+
+  /**
+   * Sets a {@link ForkJoinPool} to use to compute batches of
+   * intersection areas in parallel.
+   * If the pool is null (the default) batches are computed sequentially.
+   *
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  private boolean interacts(Geometry geom) {
+    return geomEnv0.intersects(geom.getEnvelopeInternal());
+  }
+
+  /**
+   * Computes the area of intersection of the target geometry with a geometry.
+   * Only the polygonal components of the geometry contribute to the area.
+   *
+   * @param geom a geometry
+   * @return the area of the intersection
+   */
+  public double intersectionArea(Geometry geom) {
+    //-- intersection area is 0 if geom does not interact with geom0
+    if (! interacts(geom)) return 0;
+
+    PolygonAreaFilter filter = new PolygonAreaFilter();
+    geom.apply(filter);
+    return filter.area;
+  }
+
+  /**
+   * Computes the areas of intersection of the target geometry
+   * with each geometry in a collection.
+   * If a {@link ForkJoinPool} is set the areas are computed in parallel.
+   *
+   * @param geoms a collection of geometries
+   * @return the intersection areas, in the order of the collection
+   */
+  public double[] intersectionAreas(Collection<? extends Geometry> geoms) {
+    Geometry[] geomArr = geoms.toArray(new Geometry[0]);
+    double[] areas = new double[geomArr.length];
+    if (pool == null) {
+      for (int i = 0; i < geomArr.length; i++) {
+        areas[i] = intersectionArea(geomArr[i]);
+      }
+    }
+    else {
+      pool.invoke(new AreaTask(geomArr, areas, 0, geomArr.length));
+    }
+    return areas;
+  }
+
+  private class AreaTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private Geometry[] geoms;
+    private double[] areas;
+    private int start;
+    private int end;
+
+    AreaTask(Geometry[] geoms, double[] areas, int start, int end) {
+      this.geoms = geoms;
+      this.areas = areas;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= MIN_TASK_SIZE) {
+        for (int i = start; i < end; i++) {
+          areas[i] = intersectionArea(geoms[i]);
+        }
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new AreaTask(geoms, areas, start, mid),
+          new AreaTask(geoms, areas, mid, end));
+    }
+  }
+
+  private class PolygonAreaFilter implements GeometryFilter {
+    double area = 0;
+    @Override
+    public void filter(Geometry geom) {
+      if (geom instanceof Polygon) {
+        area += intersectionAreaPolygon((Polygon) geom);
+      }
+    }
+  }
+
+  private double intersectionAreaPolygon(Polygon geom) {
+    //-- optimization - intersection area is 0 if geom does not interact with geom0
+    if (! interacts(geom)) return 0;
+
+    double area = 0;
+    area += intersectionArea(geom.getExteriorRing());
+    for (int i = 0; i < geom.getNumInteriorRing(); i++) {
+      LinearRing hole = geom.getInteriorRingN(i);
+      // skip holes which do not interact
+      if (interacts(hole)) {
+        area -= intersectionArea(hole);
+      }
+    }
+    return area;
+  }
+
+  /**
+   * Computes the area of the intersection of the target
+   * with the area enclosed by a ring.
+   *
+   * @param ring a ring
+   * @return the intersection area
+   */
+  private double intersectionArea(LinearRing ring) {
+    Coordinate[] pts = CoordinateArrays.removeRepeatedPoints(ring.getCoordinates());
+    if (pts.length < 4) return 0;
+    Envelope env = ring.getEnvelopeInternal();
+    //-- orient ring edges so the ring interior is to the right
+    boolean isInteriorRight = ! Orientation.isCCW(pts);
+
+    IntersectionAction intAction = new IntersectionAction(pts, isInteriorRight);
+    @SuppressWarnings("unchecked")
+    List<MonotoneChain> chains = MonotoneChainBuilder.getChains(pts);
+    for (MonotoneChain mc : chains) {
+      @SuppressWarnings("unchecked")
+      List<MonotoneChain> chains0 = chainIndex.query(mc.getEnvelope());
+      for (MonotoneChain mc0 : chains0) {
+        mc0.computeOverlaps(mc, intAction);
+      }
+    }
+
+    RingLocator ringLocator = new RingLocator(ring, pts);
+
+    /**
+     * If there are no segment intersections then the ring is either
+     * disjoint from or inside the target,
+     * and each target ring is either inside or outside the ring.
+     * This allows computing the area efficiently
+     * using a simple inside/outside test for each ring.
+     */
+    if (! intAction.hasIntersection()) {
+      return areaContainedOrDisjoint(pts, env, ringLocator);
+    }
+
+    /**
+     * The geometries intersect, so add areas for interior vertices
+     */
+    double areaVert = areaForInteriorVertices(pts, isInteriorRight);
+    double areaVert0 = areaForInteriorVertices0(env, ringLocator);
+
+    return (intAction.getArea() + areaVert + areaVert0) / 2;
+  }
+
+  /**
+   * Computes the area for the situation where the rings of the geometries
+   * are known to be either disjoint, or have one contained in the other.
+   *
+   * @param pts the ring coordinates
+   * @param env the ring envelope
+   * @param ringLocator a locator for the ring
+   * @return the intersection area
+   */
+  private double areaContainedOrDisjoint(Coordinate[] pts, Envelope env, RingLocator ringLocator) {
+    double area2 = 0;
+    if (isInteriorInTarget(pts[0])) {
+      area2 += 2 * Area.ofRing(pts);
+    }
+    //-- add (or subtract, for holes) target rings contained in the ring
+    Set<TargetRing> rings = new HashSet<TargetRing>();
+    @SuppressWarnings("unchecked")
+    List<MonotoneChain> chains0 = chainIndex.query(env);
+    for (MonotoneChain mc0 : chains0) {
+      TargetRing ring0 = (TargetRing) mc0.getContext();
+      if (! rings.add(ring0)) continue;
+      if (! env.covers(ring0.env)) continue;
+      if (ringLocator.isInterior(ring0.pts[0])) {
+        area2 += ring0.area2;
+      }
+    }
+    return area2 / 2;
+  }
+
+  private static class IntersectionAction extends MonotoneChainOverlapAction {
+    private Coordinate[] pts;
+    private boolean isInteriorRight;
+    private double area = 0.0;
+    private boolean hasIntersection = false;
+
+    IntersectionAction(Coordinate[] pts, boolean isInteriorRight) {
+      this.pts = pts;
+      this.isInteriorRight = isInteriorRight;
+    }
+
+    double getArea() {
+      return area;
+    }
+
+    boolean hasIntersection() {
+      return hasIntersection;
+    }
+
+    @Override
+    public void overlap(MonotoneChain mc0, int start0, MonotoneChain mc1, int start1) {
+      TargetRing ring0 = (TargetRing) mc0.getContext();
+      Coordinate a0 = ring0.pts[start0];
+      Coordinate a1 = ring0.pts[start0 + 1];
+      if (! ring0.isInteriorRight) {
+        // flip segment orientation
+        Coordinate temp = a0; a0 = a1; a1 = temp;
+      }
+      Coordinate b0 = pts[start1];
+      Coordinate b1 = pts[start1 + 1];
+      if (! isInteriorRight) {
+        // flip segment orientation
+        Coordinate temp = b0; b0 = b1; b1 = temp;
+      }
+      area += areaForIntersection(a0, a1, b0, b1);
+    }
+
+    private double areaForIntersection(Coordinate a0, Coordinate a1, Coordinate b0, Coordinate b1) {
+      //-- the segments cross iff each has endpoints on opposite sides of the other
+      int orientB0 = perturbedIndex(a0, a1, b0, 1);
+      int orientB1 = perturbedIndex(a0, a1, b1, 1);
+      if (orientB0 == orientB1) return 0.0;
+      int orientA0 = perturbedIndex(b0, b1, a0, -1);
+      int orientA1 = perturbedIndex(b0, b1, a1, -1);
+      if (orientA0 == orientA1) return 0.0;
+      hasIntersection = true;
+
+      /**
+       * An intersection creates two edge vectors which contribute to the area.
+       *
+       * With both rings oriented CW (effectively)
+       * There are two situations for segment intersection:
+       *
+       * 1) A entering B, B exiting A => rays are IP->A1:R, IP->B0:L
+       * 2) A exiting B, B entering A => rays are IP->A0:L, IP->B1:R
+       * (where IP is the intersection point,
+       * and  :L/R indicates result polygon interior is to the Left or Right).
+       *
+       * For accuracy the full edge is used to provide the direction vector.
+       */
+      Coordinate intPt = intersection(a0, a1, b0, b1);
+      boolean isAenteringB = Orientation.COUNTERCLOCKWISE == orientB1;
+
+      if ( isAenteringB ) {
+        return EdgeVector.area2Term(intPt, a0, a1, true)
+          + EdgeVector.area2Term(intPt, b1, b0, false);
+      }
+      else {
+        return EdgeVector.area2Term(intPt, a1, a0, false)
+         + EdgeVector.area2Term(intPt, b0, b1, true);
+      }
+    }
+  }
+
+  /**
+   * Computes the intersection point of two crossing segments.
+   * If an endpoint lies on the other segment it is the intersection point.
+   */
+  private static Coordinate intersection(Coordinate a0, Coordinate a1, Coordinate b0, Coordinate b1) {
+    if (Orientation.index(a0, a1, b0) == 0) return b0;
+    if (Orientation.index(a0, a1, b1) == 0) return b1;
+    if (Orientation.index(b0, b1, a0) == 0) return a0;
+    if (Orientation.index(b0, b1, a1) == 0) return a1;
+    return Intersection.intersection(a0, a1, b0, b1);
+  }
+
+  /**
+   * Computes the orientation of a point relative to a segment,
+   * with the point perturbed by an infinitesimal translation
+   * in the direction <code>dir * (1, &eta;)</code>,
+   * where &eta; is infinitesimal relative to 1.
+   * The result is never collinear, for a non-zero-length segment.
+   *
+   * @param p0 the segment start point
+   * @param p1 the segment end point
+   * @param q the point to test
+   * @param dir the perturbation direction (1 or -1)
+   * @return the orientation index of the perturbed point
+   */
+  private static int perturbedIndex(Coordinate p0, Coordinate p1, Coordinate q, int dir) {
+    int index = Orientation.index(p0, p1, q);
+    if (index != Orientation.COLLINEAR)
+      return index;
+    double dy = p1.y - p0.y;
+    if (dy != 0)
+      return dy > 0 ? -dir : dir;
+    return p1.x > p0.x ? dir : -dir;
+  }
+
+  /**
+   * Tests whether a point perturbed by an infinitesimal translation
+   * (see {@link #perturbedIndex(Coordinate, Coordinate, Coordinate, int)})
+   * is crossed by the rightward ray from the point.
+   */
+  private static boolean isPerturbedRayCrossing(Coordinate p, int dir, Coordinate e0, Coordinate e1) {
+    boolean isAbove0 = isPerturbedAbove(e0, p, dir);
+    boolean isAbove1 = isPerturbedAbove(e1, p, dir);
+    if (isAbove0 == isAbove1) return false;
+    int orient = perturbedIndex(e0, e1, p, dir);
+    //-- an upward segment is crossed if the point is to its left
+    return isAbove1 ? orient == Orientation.COUNTERCLOCKWISE
+        : orient == Orientation.CLOCKWISE;
+  }
+
+  private static boolean isPerturbedAbove(Coordinate e, Coordinate p, int dir) {
+    return dir > 0 ? e.y > p.y : e.y >= p.y;
+  }
+
+  /**
+   * Tests whether a vertex of the other geometry lies in the interior
+   * of the target.
+   * Vertices on the target boundary are located
+   * using the perturbation of the other geometry.
+   */
+  private boolean isInteriorInTarget(Coordinate p) {
+    // quick bounds check
+    if (! geomEnv0.covers(p)) return false;
+    int loc = locator0.locate(p);
+    if (loc != Location.BOUNDARY)
+      return loc == Location.INTERIOR;
+
+    int count = 0;
+    Envelope rayEnv = new Envelope(p.x, Math.max(p.x, geomEnv0.getMaxX()), p.y, p.y);
+    @SuppressWarnings("unchecked")
+    List<MonotoneChain> chains0 = chainIndex.query(rayEnv);
+    for (MonotoneChain mc0 : chains0) {
+      Coordinate[] pts = ((TargetRing) mc0.getContext()).pts;
+      for (int i = mc0.getStartIndex(); i < mc0.getEndIndex(); i++) {
+        if (isPerturbedRayCrossing(p, 1, pts[i], pts[i + 1]))
+          count++;
+      }
+    }
+    return count % 2 == 1;
+  }
+
+  /**
+   * Computes the area terms for the ring vertices
+   * which lie in the interior of the target.
+   */
+  private double areaForInteriorVertices(Coordinate[] pts, boolean isInteriorRight) {
+    double area = 0.0;
+    for (int i = 0; i < pts.length - 1; i++) {
+      Coordinate v = pts[i];
+      // is this vertex in interior of intersection result?
+      if (isInteriorInTarget(v)) {
+        Coordinate vPrev = i == 0 ? pts[pts.length - 2] : pts[i - 1];
+        Coordinate vNext = pts[i + 1];
+        area += EdgeVector.area2Term(v, vPrev, ! isInteriorRight)
+            + EdgeVector.area2Term(v, vNext, isInteriorRight);
+      }
+    }
+    return area;
+  }
+
+  /**
+   * Computes the area terms for the target vertices
+   * which lie in the interior of a ring.
+   * Each target vertex is scanned by the chain which starts at it
+   * (or contains it in its interior).
+   */
+  private double areaForInteriorVertices0(Envelope env, RingLocator ringLocator) {
+    double area = 0.0;
+    @SuppressWarnings("unchecked")
+    List<MonotoneChain> chains0 = chainIndex.query(env);
+    for (MonotoneChain mc0 : chains0) {
+      TargetRing ring0 = (TargetRing) mc0.getContext();
+      Coordinate[] pts = ring0.pts;
+      for (int i = mc0.getStartIndex(); i < mc0.getEndIndex(); i++) {
+        Coordinate v = pts[i];
+        // is this vertex in interior of intersection result?
+        if (ringLocator.isInterior(v)) {
+          Coordinate vPrev = i == 0 ? pts[pts.length - 2] : pts[i - 1];
+          Coordinate vNext = pts[i + 1];
+          area += EdgeVector.area2Term(v, vPrev, ! ring0.isInteriorRight)
+              + EdgeVector.area2Term(v, vNext, ring0.isInteriorRight);
+        }
+      }
+    }
+    return area;
+  }
+
+  private void buildChainIndex(Geometry geom) {
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      Polygon poly = (Polygon) geom.getGeometryN(i);
+      if (poly.isEmpty()) continue;
+      addRing(poly.getExteriorRing(), false);
+      for (int j = 0; j < poly.getNumInteriorRing(); j++) {
+        addRing(poly.getInteriorRingN(j), true);
+      }
+    }
+  }
+
+  private void addRing(LinearRing ring, boolean isHole) {
+    Coordinate[] pts = CoordinateArrays.removeRepeatedPoints(ring.getCoordinates());
+    if (pts.length < 4) return;
+    TargetRing targetRing = new TargetRing(pts, ring.getEnvelopeInternal(), isHole);
+    @SuppressWarnings("unchecked")
+    List<MonotoneChain> chains = MonotoneChainBuilder.getChains(pts, targetRing);
+    for (MonotoneChain mc : chains) {
+      chainIndex.insert(mc.getEnvelope(), mc);
+    }
+  }
+
+  /**
+   * A ring of the target geometry.
+   * The ring edges are oriented with the target interior to the right
+   * (i.e. shells are CW and holes are CCW).
+   */
+  private static class TargetRing {
+    Coordinate[] pts;
+    Envelope env;
+    boolean isInteriorRight;
+    /**
+     * The ring area term (doubled), which is negative for holes
+     */
+    double area2;
+
+    TargetRing(Coordinate[] pts, Envelope env, boolean isHole) {
+      this.pts = pts;
+      this.env = env;
+      boolean isCW = ! Orientation.isCCW(pts);
+      isInteriorRight = isHole ? ! isCW : isCW;
+      double area = Area.ofRing(pts);
+      area2 = isHole ? -2 * area : 2 * area;
+    }
+  }
+
+  /**
+   * Locates target vertices in a ring of the other geometry.
+   * Small rings are not indexed,
+   * and the index for larger rings is built only if it is needed.
+   * Vertices on the ring are located
+   * using the perturbation of the other geometry.
+   */
+  private static class RingLocator {
+    private LinearRing ring;
+    private Coordinate[] pts;
+    private Envelope env;
+    private PointOnGeometryLocator locator = null;
+
+    RingLocator(LinearRing ring, Coordinate[] pts) {
+      this.ring = ring;
+      this.pts = pts;
+      env = ring.getEnvelopeInternal();
+    }
+
+    boolean isInterior(Coordinate p) {
+      if (! env.covers(p)) return false;
+      int loc = locate(p);
+      if (loc != Location.BOUNDARY)
+        return loc == Location.INTERIOR;
+      //-- the point is perturbed oppositely to the ring
+      int count = 0;
+      for (int i = 0; i < pts.length - 1; i++) {
+        if (isPerturbedRayCrossing(p, -1, pts[i], pts[i + 1]))
+          count++;
+      }
+      return count % 2 == 1;
+    }
+
+    private int locate(Coordinate p) {
+      if (pts.length <= MAX_SIMPLE_RING_SIZE)
+        return RayCrossingCounter.locatePointInRing(p, pts);
+      if (locator == null) {
+        locator = new IndexedPointInAreaLocator(ring);
+      }
+      return locator.locate(p);
+    }
+  }
+}
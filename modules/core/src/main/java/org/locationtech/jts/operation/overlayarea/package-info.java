@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016 Vivid Solutions.
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -10,15 +10,8 @@
  * http://www.eclipse.org/org/documents/edl-v10.php.
  */
 
-package org.locationtech.jtstest.testbuilder.io.shapefile;
-
 /**
- * Thrown when an attempt is made to load a shapefile
- * which contains a shape type that is not supported
- * by the loader
+ * Classes to compute the area of polygon overlays 
+ * without computing the overlay geometry.
  */
-public class ShapeTypeNotSupportedException extends ShapefileException{
-    public ShapeTypeNotSupportedException(String s){
-        super(s);
-    }
-}
+package org.locationtech.jts.operation.overlayarea;
@@ -14,6 +14,7 @@ package org.locationtech.jts.operation.overlayng;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.algorithm.LineIntersector;
 import org.locationtech.jts.algorithm.Orientation;
@@ -67,17 +68,19 @@ class EdgeNodingBuilder {
    */
   private static final boolean IS_NODING_VALIDATED = true;
   
-  private static Noder createFixedPrecisionNoder(PrecisionModel pm) {
+  private static Noder createFixedPrecisionNoder(PrecisionModel pm, ForkJoinPool pool) {
     //Noder noder = new MCIndexSnapRounder(pm);
     //Noder noder = new SimpleSnapRounder(pm);
-    Noder noder = new SnapRoundingNoder(pm);
+    SnapRoundingNoder noder = new SnapRoundingNoder(pm);
+    noder.setForkJoinPool(pool);
     return noder;
   }
   
-  private static Noder createFloatingPrecisionNoder(boolean doValidation) {
+  private static Noder createFloatingPrecisionNoder(boolean doValidation, ForkJoinPool pool) {
     MCIndexNoder mcNoder = new MCIndexNoder();
     LineIntersector li = new RobustLineIntersector();
     mcNoder.setSegmentIntersector(new IntersectionAdder(li));
+    mcNoder.setForkJoinPool(pool);
     
     Noder noder = mcNoder;
     if (doValidation) {
@@ -89,10 +92,12 @@ class EdgeNodingBuilder {
   private PrecisionModel pm;
   private List<NodedSegmentString> inputEdges = new ArrayList<NodedSegmentString>();
   private Noder customNoder;
+  private ForkJoinPool pool = null;
   
   private Envelope clipEnv = null;
   private RingClipper clipper;
   private LineLimiter limiter;
+  private boolean isInputOriented = false;
 
   private boolean[] hasEdges = new boolean[2];
 
@@ -124,8 +129,19 @@ class EdgeNodingBuilder {
   private Noder getNoder() {
     if (customNoder != null) return customNoder;
     if (OverlayUtil.isFloating(pm))
-      return createFloatingPrecisionNoder(IS_NODING_VALIDATED);
-    return createFixedPrecisionNoder(pm);
+      return createFloatingPrecisionNoder(IS_NODING_VALIDATED, pool);
+    return createFixedPrecisionNoder(pm, pool);
+  }
+  
+  /**
+   * Sets a {@link ForkJoinPool} to use to node edges in parallel,
+   * if the noder is chosen based on the precision model.
+   * The noded result is the same as when noding sequentially.
+   * 
+   * @param pool the pool to run noding tasks in, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.pool = pool;
   }
   
   public void setClipEnvelope(Envelope clipEnv) {
@@ -134,6 +150,31 @@ class EdgeNodingBuilder {
     limiter = new LineLimiter(clipEnv);
   }
   
+  /**
+   * Sets a tile envelope to clip area edges to.
+   * Points on the tile sides are kept exactly,
+   * so adjacent tiles share the same points on their common side.
+   * Lines are not limited.
+   * 
+   * @param tileEnv the tile envelope
+   */
+  void setTileEnvelope(Envelope tileEnv) {
+    this.clipEnv = tileEnv;
+    clipper = new RingClipper(tileEnv, true);
+    limiter = null;
+  }
+  
+  /**
+   * Sets whether the polygon rings are known to be
+   * in canonical orientation (shells CW, holes CCW),
+   * so that their orientation does not need to be computed.
+   * 
+   * @param isInputOriented true if the input rings have canonical orientation
+   */
+  void setInputOriented(boolean isInputOriented) {
+    this.isInputOriented = isInputOriented;
+  }
+  
   /**
    * Reports whether there are noded edges
    * for the given input geometry.
@@ -172,6 +213,29 @@ class EdgeNodingBuilder {
     return mergedEdges;
   }
   
+  /**
+   * Creates a set of labelled {Edge}s
+   * representing the fully noded edges of a geometry
+   * and of the boundary sections of a prepared area geometry
+   * which lie near it.
+   * Boundary sections which cannot interact with the first geometry 
+   * are not included, so clipping is not used.
+   * 
+   * @param geom0 the first geometry
+   * @param prepGeom1 the prepared second geometry
+   * @return the noded, merged, labelled edges
+   */
+  List<Edge> build(Geometry geom0, PreparedOverlay prepGeom1) {
+    add(geom0, 0);
+    if (! geom0.isEmpty()) {
+      Envelope env = OverlayUtil.safeEnv(geom0.getEnvelopeInternal(), pm);
+      inputEdges.addAll(prepGeom1.getBoundarySections(env));
+    }
+    List<Edge> nodedEdges = node(inputEdges);
+    List<Edge> mergedEdges = EdgeMerger.merge(nodedEdges);
+    return mergedEdges;
+  }
+  
   /**
    * Nodes a set of segment strings and creates {@link Edge}s from the result.
    * The input segment strings each carry a {@link EdgeSourceInfo} object,
@@ -282,7 +346,7 @@ class EdgeNodingBuilder {
     
     //if (pts.length < ring.getNumPoints()) System.out.println("Ring clipped: " + ring.getNumPoints() + " => " + pts.length);
     
-    int depthDelta = computeDepthDelta(ring, isHole);
+    int depthDelta = isInputOriented ? 1 : computeDepthDelta(ring, isHole);
     EdgeSourceInfo info = new EdgeSourceInfo(index, depthDelta, isHole);
     addEdge(pts, info);
   }
@@ -340,7 +404,7 @@ class EdgeNodingBuilder {
     return CoordinateArrays.removeRepeatedPoints(pts);
   }
   
-  private static int computeDepthDelta(LinearRing ring, boolean isHole) {
+  static int computeDepthDelta(LinearRing ring, boolean isHole) {
     /**
      * Compute the orientation of the ring, to
      * allow assigning side interior/exterior labels correctly.
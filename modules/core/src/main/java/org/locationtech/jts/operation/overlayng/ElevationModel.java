@@ -59,6 +59,19 @@ class ElevationModel {
     if (geom2 != null) {
       extent.expandToInclude(geom2.getEnvelopeInternal());
     }
+    return create(extent, geom1, geom2);
+  }
+  
+  /**
+   * Creates an elevation model covering a given extent 
+   * from two geometries (which may be null).
+   * 
+   * @param extent the XY extent to cover
+   * @param geom1 an input geometry, or null
+   * @param geom2 an input geometry, or null
+   * @return the elevation model computed from the geometries
+   */
+  static ElevationModel create(Envelope extent, Geometry geom1, Geometry geom2) {
     ElevationModel model = new ElevationModel(extent, DEFAULT_CELL_NUM, DEFAULT_CELL_NUM);
     if (geom1 != null) model.add(geom1);
     if (geom2 != null) model.add(geom2);
@@ -146,6 +146,20 @@ class InputGeometry {
     } 
   }
 
+  /**
+   * Sets the locator to use for an area geometry,
+   * to allow an already-built index to be reused.
+   * 
+   * @param geomIndex the index of the geometry
+   * @param locator the locator for the geometry
+   */
+  public void setLocator(int geomIndex, PointOnGeometryLocator locator) {
+    if (geomIndex == 0) 
+      ptLocatorA = locator;
+    else
+      ptLocatorB = locator;
+  }
+
   public void setCollapsed(int geomIndex, boolean isGeomCollapsed) {
     isCollapsed[geomIndex] = isGeomCollapsed;
   }
@@ -13,7 +13,9 @@ package org.locationtech.jts.operation.overlayng;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
+import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -213,6 +215,28 @@ public class OverlayNG
     return geomOv;
   }
 
+  /**
+   * Computes an overlay operation for 
+   * the given geometry operands, with the
+   * noding strategy determined by the precision model,
+   * noding the input edges in parallel.
+   * 
+   * @param geom0 the first geometry argument
+   * @param geom1 the second geometry argument
+   * @param opCode the code for the desired overlay operation
+   * @param pm the precision model to use
+   * @param pool the pool to run noding tasks in
+   * @return the result of the overlay operation
+   */
+  public static Geometry overlay(Geometry geom0, Geometry geom1, 
+      int opCode, PrecisionModel pm, ForkJoinPool pool)
+  {
+    OverlayNG ov = new OverlayNG(geom0, geom1, pm, opCode);
+    ov.setForkJoinPool(pool);
+    Geometry geomOv = ov.getResult();
+    return geomOv;
+  }
+
   /**
    * Computes an overlay operation on the given geometry operands, 
    * using a supplied {@link Noder}.
@@ -331,6 +355,10 @@ public class OverlayNG
   private GeometryFactory geomFact;
   private PrecisionModel pm;
   private Noder noder;
+  private ForkJoinPool pool = null;
+  private PreparedOverlay prepared = null;
+  private Envelope tileEnv = null;
+  private boolean isInputOriented = false;
   private boolean isStrictMode = STRICT_MODE_DEFAULT;
   private boolean isOptimized = true;
   private boolean isAreaResultOnly = false;
@@ -451,6 +479,66 @@ public class OverlayNG
     this.noder = noder;
   }
   
+  /**
+   * Sets a {@link ForkJoinPool} to use to node the input edges in parallel.
+   * This is used only if a custom noder is not supplied.
+   * The overlay result is the same as when computed sequentially.
+   * If the pool is null (the default) noding is done in the calling thread.
+   * 
+   * @param pool the pool to run noding tasks in, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+  
+  /**
+   * Sets a prepared form of the B operand geometry.
+   * Only the boundary sections of B which lie near the A operand are noded,
+   * and points are located in B using the prepared index.
+   * 
+   * @param prepared the prepared B operand
+   */
+  void setPrepared(PreparedOverlay prepared) {
+    this.prepared = prepared;
+    inputGeom.setLocator(1, prepared.getLocator());
+  }
+  
+  /**
+   * Sets a tile envelope to clip the input area edges to.
+   * The result is the overlay of the inputs within the tile.
+   * The elevation model and the result area check are not computed,
+   * since they apply to the complete overlay result.
+   * 
+   * @param tileEnv the tile envelope
+   */
+  void setTileEnvelope(Envelope tileEnv) {
+    this.tileEnv = tileEnv;
+  }
+  
+  /**
+   * Sets whether the input polygon rings are known to be
+   * in canonical orientation (shells CW, holes CCW).
+   * This is needed when the inputs are pieces clipped from larger polygons,
+   * since the orientation of a clipped ring may not be computable
+   * if it has collapsed.
+   * 
+   * @param isInputOriented true if the input rings have canonical orientation
+   */
+  void setInputOriented(boolean isInputOriented) {
+    this.isInputOriented = isInputOriented;
+  }
+  
+  /**
+   * Sets the locator to use for an area input geometry,
+   * to allow an index to be shared by many overlays.
+   * 
+   * @param geomIndex the index of the input geometry
+   * @param locator the locator for the geometry
+   */
+  void setAreaLocator(int geomIndex, PointOnGeometryLocator locator) {
+    inputGeom.setLocator(geomIndex, locator);
+  }
+  
   /**
    * Gets the result of the overlay operation.
    * 
@@ -471,7 +559,7 @@ public class OverlayNG
     /**
      * The elevation model is only computed if the input geometries have Z values.
      */
-    ElevationModel elevModel = ElevationModel.create(inputGeom.getGeometry(0), inputGeom.getGeometry(1));
+    ElevationModel elevModel = tileEnv == null ? createElevationModel() : null;
     Geometry result;
     if (inputGeom.isAllPoints()) {
       // handle Point-Point inputs
@@ -488,7 +576,8 @@ public class OverlayNG
     /**
      * This is a no-op if the elevation model was not computed due to Z not present
      */
-    elevModel.populateZ(result);
+    if (elevModel != null)
+      elevModel.populateZ(result);
     return result;
   }
   
@@ -517,43 +606,84 @@ public class OverlayNG
      * Catches cases where noding causes vertex to move
      * and make topology graph area "invert".
      */
-    if (OverlayUtil.isFloating(pm)) {
-      boolean isAreaConsistent = OverlayUtil.isResultAreaConsistent(inputGeom.getGeometry(0), inputGeom.getGeometry(1), opCode, result);
+    if (OverlayUtil.isFloating(pm) && tileEnv == null) {
+      boolean isAreaConsistent = isResultAreaConsistent(result);
       if (! isAreaConsistent)
         throw new TopologyException("Result area inconsistent with overlay operation");    
     }
     return result;
   }
 
+  private ElevationModel createElevationModel() {
+    Geometry geom0 = inputGeom.getGeometry(0);
+    Geometry geom1 = inputGeom.getGeometry(1);
+    if (prepared == null)
+      return ElevationModel.create(geom0, geom1);
+    /**
+     * Avoid scanning a prepared geometry which has no Z values
+     */
+    Envelope extent = geom0.getEnvelopeInternal().copy();
+    extent.expandToInclude(geom1.getEnvelopeInternal());
+    return ElevationModel.create(extent, geom0, prepared.hasZ() ? geom1 : null);
+  }
+  
+  private boolean isResultAreaConsistent(Geometry result) {
+    if (prepared == null)
+      return OverlayUtil.isResultAreaConsistent(inputGeom.getGeometry(0), inputGeom.getGeometry(1), opCode, result);
+    return OverlayUtil.isResultAreaConsistent(inputGeom.getGeometry(0).getArea(), prepared.getArea(), opCode, result);
+  }
+
   private List<Edge> nodeEdges() {
     /**
      * Node the edges, using whatever noder is being used
      */
     EdgeNodingBuilder nodingBuilder = new EdgeNodingBuilder(pm, noder);
+    nodingBuilder.setForkJoinPool(pool);
+    
+    List<Edge> mergedEdges;
+    if (prepared != null) {
+      /**
+       * Only the sections of the prepared geometry 
+       * near the A geometry are used, so clipping is not needed.
+       */
+      mergedEdges = nodingBuilder.build(inputGeom.getGeometry(0), prepared);
+    }
+    else {
+      mergedEdges = buildEdges(nodingBuilder);
+    }
     
+    /**
+     * Record if an input geometry has collapsed.
+     * This is used to avoid trying to locate disconnected edges
+     * against a geometry which has collapsed completely.
+     * A prepared geometry is not checked, 
+     * since only part of it is noded.
+     */
+    inputGeom.setCollapsed(0, ! nodingBuilder.hasEdgesFor(0) );
+    if (prepared == null)
+      inputGeom.setCollapsed(1, ! nodingBuilder.hasEdgesFor(1) );
+    
+    return mergedEdges;
+  }
+  
+  private List<Edge> buildEdges(EdgeNodingBuilder nodingBuilder) {
+    if (tileEnv != null) {
+      nodingBuilder.setTileEnvelope(tileEnv);
+      nodingBuilder.setInputOriented(isInputOriented);
+    }
     /**
      * Optimize Intersection and Difference by clipping to the 
      * result extent, if enabled.
      */
-    if ( isOptimized ) {
+    else if ( isOptimized ) {
       Envelope clipEnv = OverlayUtil.clippingEnvelope(opCode, inputGeom, pm);
       if (clipEnv != null)
         nodingBuilder.setClipEnvelope( clipEnv );
     }
     
-    List<Edge> mergedEdges = nodingBuilder.build(
+    return nodingBuilder.build(
         inputGeom.getGeometry(0), 
         inputGeom.getGeometry(1));
-    
-    /**
-     * Record if an input geometry has collapsed.
-     * This is used to avoid trying to locate disconnected edges
-     * against a geometry which has collapsed completely.
-     */
-    inputGeom.setCollapsed(0, ! nodingBuilder.hasEdgesFor(0) );
-    inputGeom.setCollapsed(1, ! nodingBuilder.hasEdgesFor(1) );
-    
-    return mergedEdges;
   }
 
   private OverlayGraph buildGraph(Collection<Edge> edges) {
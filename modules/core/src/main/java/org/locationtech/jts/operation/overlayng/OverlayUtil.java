@@ -119,7 +119,7 @@ class OverlayUtil {
    * @param pm the precision model
    * @return a safe envelope to use for clipping
    */
-  private static Envelope safeEnv(Envelope env, PrecisionModel pm) {
+  static Envelope safeEnv(Envelope env, PrecisionModel pm) {
     double envExpandDist = safeExpandDistance(env, pm);
     Envelope safeEnv = env.copy();
     safeEnv.expandBy(envExpandDist);
@@ -394,9 +394,24 @@ class OverlayUtil {
     
     if (result.getDimension() < 2) return true;
     
+    return isResultAreaConsistent(geom0.getArea(), geom1.getArea(), opCode, result);
+  }
+  
+  /**
+   * Tests if the area of a result is consistent with the overlay operation
+   * for input geometries with the given areas.
+   * This allows the area of a geometry used in many overlays to be computed once.
+   * 
+   * @param areaA the area of the A input
+   * @param areaB the area of the B input
+   * @param opCode the overlay operation
+   * @param result the result of the overlay
+   * @return true if the result area is consistent
+   */
+  static boolean isResultAreaConsistent(double areaA, double areaB, int opCode, Geometry result) {
+    if (result.getDimension() < 2) return true;
+    
     double areaResult = result.getArea();
-    double areaA = geom0.getArea();
-    double areaB = geom1.getArea();
     
     boolean isConsistent = true;
     switch (opCode) {
@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.overlayng;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.index.chain.MonotoneChain;
+import org.locationtech.jts.index.chain.MonotoneChainBuilder;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.noding.NodedSegmentString;
+
+/**
+ * An areal geometry prepared for computing many overlays against it.
+ * This provides efficient intersection and difference of
+ * many geometries with the same mask geometry (e.g. clipping
+ * features to administrative boundaries).
+ * <p>
+ * The mask boundary is indexed as monotone chains,
+ * and an {@link IndexedPointInAreaLocator} is created for it.
+ * These are built once, when the prepared geometry is created.
+ * For each overlay:
+ * <ul>
+ * <li>If the mask boundary does not lie near the input geometry,
+ * the input lies either entirely inside or outside the mask.
+ * The result is determined by locating a single input point,
+ * without computing a full overlay.
+ * <li>Otherwise a full {@link OverlayNG} overlay is computed,
+ * but only the sections of the mask boundary
+ * which lie near the input geometry are noded.
+ * The cost of this is proportional to the size of the input,
+ * rather than the size of the mask.
+ * </ul>
+ * Point inputs are located directly in the mask,
+ * if the precision model is floating.
+ * <p>
+ * If an input lies entirely inside or outside the mask,
+ * the result is a copy of the input (reduced to the precision model, if it is fixed),
+ * rather than the noded form computed by {@link OverlayNG}.
+ * If a full overlay with floating precision fails
+ * with a {@link TopologyException},
+ * the overlay is recomputed using {@link OverlayNGRobust}.
+ * <p>
+ * Instances of this class are thread-safe,
+ * so a prepared mask can be used by multiple threads concurrently.
+ */
+public class PreparedOverlay {
+
+  private final Geometry mask;
+  private final PrecisionModel pm;
+  private final Envelope maskEnv;
+  private final double maskArea;
+  private final boolean isMaskZ;
+  private final PointOnGeometryLocator locator;
+  private final HPRtree chainIndex = new HPRtree();
+
+  /**
+   * Creates a prepared overlay for a polygonal mask geometry,
+   * using the precision model of the mask.
+   *
+   * @param mask the polygonal mask geometry
+   * @throws IllegalArgumentException if the mask is not polygonal
+   */
+  public PreparedOverlay(Geometry mask) {
+    this(mask, mask.getFactory().getPrecisionModel());
+  }
+
+  /**
+   * Creates a prepared overlay for a polygonal mask geometry,
+   * using a given precision model.
+   *
+   * @param mask the polygonal mask geometry
+   * @param pm the precision model to use
+   * @throws IllegalArgumentException if the mask is not polygonal
+   */
+  public PreparedOverlay(Geometry mask, PrecisionModel pm) {
+    if (! (mask instanceof Polygonal))
+      throw new IllegalArgumentException("Prepared overlay mask must be polygonal");
+    this.mask = mask;
+    this.pm = pm;
+    maskEnv = mask.getEnvelopeInternal();
+    maskArea = mask.getArea();
+    isMaskZ = hasZ(mask);
+    locator = new IndexedPointInAreaLocator(mask);
+    if (! mask.isEmpty()) {
+      //-- build the locator index now, so it is shared by all threads
+      locator.locate(maskEnv.centre());
+      buildChainIndex();
+    }
+    chainIndex.build();
+  }
+
+  /**
+   * Gets the mask geometry.
+   *
+   * @return the mask geometry
+   */
+  public Geometry getGeometry() {
+    return mask;
+  }
+
+  /**
+   * Computes the intersection of a geometry with the mask.
+   *
+   * @param geom the geometry to intersect with the mask
+   * @return the intersection of the geometry and the mask
+   */
+  public Geometry intersection(Geometry geom) {
+    return overlay(geom, OverlayNG.INTERSECTION);
+  }
+
+  /**
+   * Computes the difference of a geometry and the mask
+   * (the part of the geometry which does not lie in the mask).
+   *
+   * @param geom the geometry to subtract the mask from
+   * @return the difference of the geometry and the mask
+   */
+  public Geometry difference(Geometry geom) {
+    return overlay(geom, OverlayNG.DIFFERENCE);
+  }
+
+  PointOnGeometryLocator getLocator() {
+    return locator;
+  }
+
+  double getArea() {
+    return maskArea;
+  }
+
+  boolean hasZ() {
+    return isMaskZ;
+  }
+
+  /**
+   * Gets the sections of the mask boundary
+   * which may interact with a given extent.
+   * Each section is a contiguous run of monotone chains
+   * which intersect the extent,
+   * labelled with the topology of its parent ring.
+   * The ends of a section lie outside the extent,
+   * unless the section is a complete ring.
+   * The section coordinates are copies,
+   * since the overlay may use them in the result and populate their Z.
+   *
+   * @param env the extent to find boundary sections for
+   * @return a list of segment strings for the boundary sections
+   */
+  List<NodedSegmentString> getBoundarySections(Envelope env) {
+    List<NodedSegmentString> sections = new ArrayList<NodedSegmentString>();
+    if (mask.isEmpty())
+      return sections;
+
+    @SuppressWarnings("unchecked")
+    List<MonotoneChain> chains = chainIndex.query(env);
+    Collections.sort(chains, CHAIN_ORDER);
+    int i = 0;
+    while (i < chains.size()) {
+      MaskRing ring = (MaskRing) chains.get(i).getContext();
+      int ringEnd = i + 1;
+      while (ringEnd < chains.size() && chains.get(ringEnd).getContext() == ring) {
+        ringEnd++;
+      }
+      addSections(ring, chains.subList(i, ringEnd), sections);
+      i = ringEnd;
+    }
+    return sections;
+  }
+
+  private static void addSections(MaskRing ring, List<MonotoneChain> chains, List<NodedSegmentString> sections) {
+    //-- find runs of adjacent chains, as start and end point indices
+    List<int[]> runs = new ArrayList<int[]>();
+    int[] run = null;
+    int prevId = -1;
+    for (MonotoneChain mc : chains) {
+      if (run != null && mc.getId() == prevId + 1) {
+        run[1] = mc.getEndIndex();
+      }
+      else {
+        run = new int[] { mc.getStartIndex(), mc.getEndIndex() };
+        runs.add(run);
+      }
+      prevId = mc.getId();
+    }
+
+    Coordinate[] pts = ring.pts;
+    int lastIndex = pts.length - 1;
+    int[] firstRun = runs.get(0);
+    int[] lastRun = runs.get(runs.size() - 1);
+    int runStart = 0;
+    int runEnd = runs.size();
+    if (runs.size() > 1 && firstRun[0] == 0 && lastRun[1] == lastIndex) {
+      //-- join the runs which meet at the ring start point
+      int lastLen = lastIndex - lastRun[0] + 1;
+      Coordinate[] sectionPts = new Coordinate[lastLen + firstRun[1]];
+      CoordinateArrays.copyDeep(pts, lastRun[0], sectionPts, 0, lastLen);
+      CoordinateArrays.copyDeep(pts, 1, sectionPts, lastLen, firstRun[1]);
+      sections.add(new NodedSegmentString(sectionPts, ring.info));
+      runStart = 1;
+      runEnd = runs.size() - 1;
+    }
+    for (int i = runStart; i < runEnd; i++) {
+      int[] r = runs.get(i);
+      Coordinate[] sectionPts = new Coordinate[r[1] - r[0] + 1];
+      CoordinateArrays.copyDeep(pts, r[0], sectionPts, 0, sectionPts.length);
+      sections.add(new NodedSegmentString(sectionPts, ring.info));
+    }
+  }
+
+  private Geometry overlay(Geometry geom, int opCode) {
+    if (geom.isEmpty())
+      return createEmptyResult(geom, opCode);
+    if (mask.isEmpty())
+      return OverlayNG.overlay(geom, mask, opCode, pm);
+
+    Envelope env = OverlayUtil.safeEnv(geom.getEnvelopeInternal(), pm);
+    if (! maskEnv.intersects(env))
+      return resultForLocation(geom, opCode, false);
+    /**
+     * If no mask boundary is near the geometry
+     * it lies entirely in the interior or exterior of the mask.
+     */
+    if (chainIndex.query(env).isEmpty()) {
+      int loc = locator.locate(geom.getCoordinate());
+      return resultForLocation(geom, opCode, loc != Location.EXTERIOR);
+    }
+
+    if (geom.getDimension() == 0 && OverlayUtil.isFloating(pm))
+      return overlayPoints(geom, opCode);
+
+    OverlayNG ov = new OverlayNG(geom, mask, pm, opCode);
+    ov.setPrepared(this);
+    if (! OverlayUtil.isFloating(pm))
+      return ov.getResult();
+    try {
+      return ov.getResult();
+    }
+    catch (TopologyException ex) {
+      return OverlayNGRobust.overlay(geom, mask, opCode);
+    }
+  }
+
+  /**
+   * Computes the result for a geometry which lies
+   * entirely inside or outside the mask.
+   *
+   * @param geom the input geometry
+   * @param opCode the overlay operation
+   * @param isInside whether the geometry lies inside the mask
+   * @return the overlay result
+   */
+  private Geometry resultForLocation(Geometry geom, int opCode, boolean isInside) {
+    boolean isResultGeom = opCode == OverlayNG.INTERSECTION ? isInside : ! isInside;
+    if (! isResultGeom)
+      return createEmptyResult(geom, opCode);
+    if (OverlayUtil.isFloating(pm))
+      return geom.copy();
+    return PrecisionReducer.reducePrecision(geom, pm);
+  }
+
+  private Geometry createEmptyResult(Geometry geom, int opCode) {
+    int dim = OverlayUtil.resultDimension(opCode, geom.getDimension(), mask.getDimension());
+    return OverlayUtil.createEmptyResult(dim, geom.getFactory());
+  }
+
+  /**
+   * Computes the overlay of a point geometry
+   * by locating the points in the mask.
+   * This follows the semantics of {@link OverlayMixedPoints}.
+   *
+   * @param geom a point geometry
+   * @param opCode the overlay operation
+   * @return the overlay result
+   */
+  private Geometry overlayPoints(Geometry geom, int opCode) {
+    boolean isCovered = opCode == OverlayNG.INTERSECTION;
+    Set<Coordinate> resultCoords = new HashSet<Coordinate>();
+    for (Coordinate coord : geom.getCoordinates()) {
+      boolean isExterior = Location.EXTERIOR == locator.locate(coord);
+      if (isCovered != isExterior) {
+        resultCoords.add(coord.copy());
+      }
+    }
+    GeometryFactory geomFact = geom.getFactory();
+    if (resultCoords.size() == 0) {
+      return geomFact.createEmpty(0);
+    }
+    List<Point> points = new ArrayList<Point>();
+    for (Coordinate coord : resultCoords) {
+      points.add(geomFact.createPoint(coord));
+    }
+    if (points.size() == 1) {
+      return points.get(0);
+    }
+    return geomFact.createMultiPoint(GeometryFactory.toPointArray(points));
+  }
+
+  private void buildChainIndex() {
+    int chainId = 0;
+    for (int i = 0; i < mask.getNumGeometries(); i++) {
+      Polygon poly = (Polygon) mask.getGeometryN(i);
+      chainId = addRing(poly.getExteriorRing(), false, chainId);
+      for (int j = 0; j < poly.getNumInteriorRing(); j++) {
+        chainId = addRing(poly.getInteriorRingN(j), true, chainId);
+      }
+    }
+  }
+
+  /**
+   * Adds the monotone chains of a ring to the index.
+   * The chains are given consecutive ids,
+   * so that adjacent chains can be joined into sections.
+   *
+   * @param ring the ring to add
+   * @param isHole whether the ring is a hole
+   * @param chainId the next chain id
+   * @return the next chain id after the ring chains
+   */
+  private int addRing(LinearRing ring, boolean isHole, int chainId) {
+    if (ring.isEmpty()) return chainId;
+
+    Coordinate[] pts = CoordinateArrays.removeRepeatedPoints(ring.getCoordinates());
+    if (pts.length < 2) return chainId;
+
+    int depthDelta = EdgeNodingBuilder.computeDepthDelta(ring, isHole);
+    MaskRing maskRing = new MaskRing(pts, new EdgeSourceInfo(1, depthDelta, isHole));
+    @SuppressWarnings("unchecked")
+    List<MonotoneChain> chains = MonotoneChainBuilder.getChains(pts, maskRing);
+    for (MonotoneChain mc : chains) {
+      mc.setId(chainId++);
+      chainIndex.insert(mc.getEnvelope(), mc);
+    }
+    return chainId;
+  }
+
+  private static boolean hasZ(Geometry geom) {
+    for (Coordinate p : geom.getCoordinates()) {
+      if (! Double.isNaN(p.getZ()))
+        return true;
+    }
+    return false;
+  }
+
+  private static final Comparator<MonotoneChain> CHAIN_ORDER = new Comparator<MonotoneChain>() {
+    @Override
+    public int compare(MonotoneChain mc1, MonotoneChain mc2) {
+      return Integer.compare(mc1.getId(), mc2.getId());
+    }
+  };
+
+  /**
+   * A ring of the mask, with the topology information for its edges.
+   */
+  private static class MaskRing {
+    final Coordinate[] pts;
+    final EdgeSourceInfo info;
+
+    MaskRing(Coordinate[] pts, EdgeSourceInfo info) {
+      this.pts = pts;
+      this.info = info;
+    }
+  }
+}
@@ -55,6 +55,7 @@ public class RingClipper {
   private double clipEnvMaxY;
   private double clipEnvMinX;
   private double clipEnvMaxX;
+  private boolean isClosed = false;
 
   /**
    * Creates a new clipper for the given envelope.
@@ -62,7 +63,24 @@ public class RingClipper {
    * @param clipEnv the clipping envelope
    */
   public RingClipper(Envelope clipEnv) {
+    this(clipEnv, false);
+  }
+  
+  /**
+   * Creates a new clipper for the given envelope,
+   * which may include points on its sides.
+   * If the box is closed, points on a box side are kept unchanged,
+   * and a segment with an endpoint on a side is clipped at that endpoint.
+   * This allows rings which have vertices at all their crossings 
+   * of the box sides to be clipped exactly,
+   * with the same points on the sides shared by adjacent boxes.
+   * 
+   * @param clipEnv the clipping envelope
+   * @param isClosed whether points on the box sides are inside the box
+   */
+  RingClipper(Envelope clipEnv, boolean isClosed) {
     this.clipEnv = clipEnv;
+    this.isClosed = isClosed;
     clipEnvMinY = clipEnv.getMinY();
     clipEnvMaxY = clipEnv.getMaxY();
     clipEnvMinX = clipEnv.getMinX();
@@ -137,6 +155,10 @@ public class RingClipper {
    * @return the intersection point with the box edge
    */
   private Coordinate intersection(Coordinate a, Coordinate b, int edgeIndex) {
+    if (isClosed) {
+      if (isOnEdge(a, edgeIndex)) return a.copy();
+      if (isOnEdge(b, edgeIndex)) return b.copy();
+    }
     Coordinate intPt;
     switch (edgeIndex) {
     case BOX_BOTTOM:
@@ -167,7 +189,19 @@ public class RingClipper {
     return a.y + intercept;
   }
 
+  private boolean isOnEdge(Coordinate p, int edgeIndex) {
+    switch (edgeIndex) {
+    case BOX_BOTTOM: return p.y == clipEnvMinY;
+    case BOX_RIGHT: return p.x == clipEnvMaxX;
+    case BOX_TOP: return p.y == clipEnvMaxY;
+    case BOX_LEFT:
+    default: return p.x == clipEnvMinX;
+    }
+  }
+
   private boolean isInsideEdge(Coordinate p, int edgeIndex) {
+    if (isClosed && isOnEdge(p, edgeIndex)) 
+      return true;
     boolean isInside = false;
     switch (edgeIndex) {
     case BOX_BOTTOM: // bottom
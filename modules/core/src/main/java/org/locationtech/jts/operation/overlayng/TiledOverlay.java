@@ -0,0 +1,780 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.overlayng;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
+import org.locationtech.jts.algorithm.locate.SimplePointInAreaLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.geom.util.GeometryEditor;
+import org.locationtech.jts.geom.util.PolygonExtracter;
+import org.locationtech.jts.operation.valid.IsValidOp;
+
+/**
+ * Computes the overlay of two large polygonal geometries
+ * by partitioning their common extent into a grid of tiles.
+ * The inputs are clipped to each tile and overlaid independently,
+ * optionally in parallel using a {@link ForkJoinPool}.
+ * The grid is split recursively in halves, clipping the inputs at each split,
+ * so each input vertex is clipped a logarithmic number of times
+ * rather than once for every tile.
+ * The tile results are then merged with a {@link CoverageUnion}
+ * to remove the tile seams.
+ * <p>
+ * To allow the tile results to form a valid coverage,
+ * a vertex is added to the inputs at every crossing of a tile line.
+ * These vertices are shared by the tiles on each side of the line,
+ * and so may appear in the overlay result.
+ * For a fixed precision model these vertices are rounded to the precision grid,
+ * so the result may differ very slightly from the untiled overlay.
+ * For floating precision a vertex added to an edge may not lie exactly on it,
+ * so where the other input touches the edge at a point
+ * the result may have rings which pass very close to each other
+ * rather than touching.
+ * <p>
+ * Only polygonal inputs are tiled.
+ * For polygonal inputs the result contains only the area components
+ * of the result of {@link OverlayNG}
+ * (up to the additional vertices on tile lines).
+ * Lines and points where the inputs touch are not included,
+ * whether or not the overlay is tiled.
+ * Other inputs are overlaid using {@link OverlayNG} directly.
+ * If the overlay fails for floating precision
+ * it is recomputed by {@link OverlayNGRobust}.
+ * <p>
+ * Tiling pays off when the overlay is dominated by snap-rounding,
+ * so by default only overlays with a fixed precision model are tiled.
+ * A floating-precision overlay is usually faster untiled,
+ * since tiling adds the cost of clipping the inputs and merging the tile results,
+ * but it can be tiled by setting a grid size.
+ *
+ * @see OverlayNG
+ * @see CoverageUnion
+ */
+public class TiledOverlay {
+
+  /**
+   * Computes an overlay of two geometries using tiles,
+   * using the precision model of the first geometry.
+   * The overlay is tiled only if the precision model is fixed.
+   *
+   * @param geom0 the A operand geometry
+   * @param geom1 the B operand geometry
+   * @param opCode the overlay opcode
+   * @param pool the pool to use to overlay the tiles, or null
+   * @return the result of the overlay operation
+   */
+  public static Geometry overlay(Geometry geom0, Geometry geom1, int opCode, ForkJoinPool pool) {
+    TiledOverlay ov = new TiledOverlay(geom0, geom1, opCode);
+    ov.setForkJoinPool(pool);
+    return ov.getResult();
+  }
+
+  /**
+   * The approximate number of input vertices in a tile
+   * used to determine the default grid size.
+   */
+  private static final int TILE_NUM_PTS = 100000;
+
+  private static final int MAX_GRID_SIZE = 32;
+
+  private Geometry geom0;
+  private Geometry geom1;
+  private PrecisionModel pm;
+  private int opCode;
+  private GeometryFactory geomFact;
+  private int gridSize = -1;
+  private ForkJoinPool pool = null;
+
+  private Geometry gridGeom0;
+  private Geometry gridGeom1;
+  private IndexedPointInAreaLocator locator0;
+  private IndexedPointInAreaLocator locator1;
+  private double[] gridX;
+  private double[] gridY;
+
+  /**
+   * Creates a tiled overlay operation on the given geometries,
+   * with a defined precision model.
+   *
+   * @param geom0 the A operand geometry
+   * @param geom1 the B operand geometry
+   * @param pm the precision model to use
+   * @param opCode the overlay opcode
+   */
+  public TiledOverlay(Geometry geom0, Geometry geom1, PrecisionModel pm, int opCode) {
+    this.geom0 = geom0;
+    this.geom1 = geom1;
+    this.pm = pm;
+    this.opCode = opCode;
+    geomFact = geom0.getFactory();
+  }
+
+  /**
+   * Creates a tiled overlay operation on the given geometries
+   * using the precision model of the geometries.
+   *
+   * @param geom0 the A operand geometry
+   * @param geom1 the B operand geometry
+   * @param opCode the overlay opcode
+   */
+  public TiledOverlay(Geometry geom0, Geometry geom1, int opCode) {
+    this(geom0, geom1, geom0.getFactory().getPrecisionModel(), opCode);
+  }
+
+  /**
+   * Sets the number of tiles along each side of the overlay extent.
+   * If not set, a size is determined from the number of input vertices
+   * for a fixed precision model,
+   * and a floating-precision overlay is not tiled.
+   * A grid size of 1 computes the overlay directly.
+   *
+   * @param gridSize the number of tiles along each side of the extent
+   */
+  public void setGridSize(int gridSize) {
+    if (gridSize < 1)
+      throw new IllegalArgumentException("Grid size must be positive");
+    this.gridSize = gridSize;
+  }
+
+  /**
+   * Sets a {@link ForkJoinPool} to use to overlay the tiles in parallel.
+   * If the pool is null (the default) the tiles are overlaid sequentially.
+   *
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Gets the result of the overlay operation.
+   *
+   * @return the result of the overlay operation.
+   *
+   * @throws IllegalArgumentException if the input is not supported (e.g. a mixed-dimension geometry)
+   * @throws TopologyException if a robustness error occurs
+   */
+  public Geometry getResult() {
+    if (! (geom0 instanceof Polygonal) || ! (geom1 instanceof Polygonal)) {
+      return OverlayNG.overlay(geom0, geom1, opCode, pm, pool);
+    }
+    Envelope extent = overlayExtent();
+    int size = gridSize(extent);
+    if (size <= 1) {
+      OverlayNG ov = new OverlayNG(geom0, geom1, pm, opCode);
+      ov.setAreaResultOnly(true);
+      ov.setForkJoinPool(pool);
+      return ov.getResult();
+    }
+    if (OverlayUtil.isFloating(pm)) {
+      try {
+        Geometry result = computeTiled(extent, size);
+        if (OverlayUtil.isResultAreaConsistent(geom0, geom1, opCode, result))
+          return result;
+      }
+      catch (TopologyException ex) {
+        //-- fall through to recompute robustly
+      }
+      return areaResult(OverlayNGRobust.overlay(geom0, geom1, opCode));
+    }
+    return computeTiled(extent, size);
+  }
+
+  /**
+   * Extracts the area components of an overlay result.
+   */
+  private Geometry areaResult(Geometry result) {
+    if (result instanceof Polygonal)
+      return result;
+    List<Polygon> polys = new ArrayList<Polygon>();
+    PolygonExtracter.getPolygons(result, polys);
+    if (polys.isEmpty())
+      return OverlayUtil.createEmptyResult(2, geomFact);
+    return geomFact.buildGeometry(polys);
+  }
+
+  /**
+   * Computes the extent containing the overlay result
+   * of polygonal inputs, or null if the overlay is not tiled.
+   *
+   * @return the overlay extent, or null
+   */
+  private Envelope overlayExtent() {
+    if (geom0.isEmpty() || geom1.isEmpty())
+      return null;
+    Envelope env0 = geom0.getEnvelopeInternal();
+    Envelope env1 = geom1.getEnvelopeInternal();
+    Envelope extent;
+    switch (opCode) {
+    case OverlayNG.INTERSECTION:
+      if (! env0.intersects(env1))
+        return null;
+      extent = env0.intersection(env1);
+      break;
+    case OverlayNG.DIFFERENCE:
+      extent = env0.copy();
+      break;
+    default:
+      extent = env0.copy();
+      extent.expandToInclude(env1);
+    }
+    if (extent.getWidth() <= 0 || extent.getHeight() <= 0)
+      return null;
+    return OverlayUtil.safeEnv(extent, pm);
+  }
+
+  private int gridSize(Envelope extent) {
+    if (extent == null)
+      return 1;
+    if (gridSize > 0)
+      return gridSize;
+    //-- a floating-precision overlay is faster untiled
+    if (OverlayUtil.isFloating(pm))
+      return 1;
+    int numPts = geom0.getNumPoints() + geom1.getNumPoints();
+    int size = (int) Math.ceil(Math.sqrt(numPts / (double) TILE_NUM_PTS));
+    return Math.min(size, MAX_GRID_SIZE);
+  }
+
+  private Geometry computeTiled(Envelope extent, int size) {
+    gridX = gridLines(extent.getMinX(), extent.getMaxX(), size);
+    gridY = gridLines(extent.getMinY(), extent.getMaxY(), size);
+    gridGeom0 = addGridVertices(geom0);
+    gridGeom1 = addGridVertices(geom1);
+    //-- the locator indexes are built lazily by the first tile which needs them
+    locator0 = new IndexedPointInAreaLocator(gridGeom0);
+    locator1 = new IndexedPointInAreaLocator(gridGeom1);
+
+    Geometry[] tileResult = new Geometry[size * size];
+    TileTask task = new TileTask(tileResult, size, 0, size, 0, size,
+        clip(orientedPolygons(gridGeom0), extent, true),
+        clip(orientedPolygons(gridGeom1), extent, true));
+    if (pool == null) {
+      task.compute();
+    }
+    else {
+      pool.invoke(task);
+    }
+
+    Geometry result = merge(tileResult);
+    ElevationModel elevModel = ElevationModel.create(geom0, geom1);
+    elevModel.populateZ(result);
+    return result;
+  }
+
+  /**
+   * Computes the ordinates of the grid lines.
+   * The first and last lines are the extent sides.
+   * For a fixed precision model the lines are made precise,
+   * so they are not moved by snap-rounding.
+   */
+  private double[] gridLines(double min, double max, int size) {
+    double[] lines = new double[size + 1];
+    double width = (max - min) / size;
+    lines[0] = min;
+    for (int i = 1; i < size; i++) {
+      lines[i] = pm.makePrecise(min + i * width);
+    }
+    lines[size] = max;
+    return lines;
+  }
+
+  private Geometry overlayTile(int ix, int iy, List<Polygon> pieces0, List<Polygon> pieces1) {
+    Envelope tileEnv = new Envelope(gridX[ix], gridX[ix + 1], gridY[iy], gridY[iy + 1]);
+    Geometry tileGeom0 = toGeometry(pieces0);
+    Geometry tileGeom1 = toGeometry(pieces1);
+    OverlayNG ov = new OverlayNG(tileGeom0, tileGeom1, pm, opCode);
+    ov.setTileEnvelope(tileEnv);
+    ov.setInputOriented(true);
+    ov.setAreaResultOnly(true);
+    ov.setAreaLocator(0, new TileLocator(locator0, tileGeom0));
+    ov.setAreaLocator(1, new TileLocator(locator1, tileGeom1));
+    return ov.getResult();
+  }
+
+  /**
+   * Locates points in a tile using the locator of the whole input.
+   * A point on the boundary of the whole input may not be
+   * on the boundary of the input pieces in the tile
+   * (e.g. where an input ring touches the tile at a single point,
+   * and so is clipped away),
+   * so such points are located in the tile pieces instead.
+   * Elsewhere in the tile the pieces have the same locations as the whole input.
+   */
+  private static class TileLocator implements PointOnGeometryLocator {
+    private PointOnGeometryLocator locator;
+    private Geometry tileGeom;
+
+    TileLocator(PointOnGeometryLocator locator, Geometry tileGeom) {
+      this.locator = locator;
+      this.tileGeom = tileGeom;
+    }
+
+    public int locate(Coordinate p) {
+      int loc = locator.locate(p);
+      if (loc != Location.BOUNDARY)
+        return loc;
+      return SimplePointInAreaLocator.locate(p, tileGeom);
+    }
+  }
+
+  /**
+   * Merges the tile results into a single polygonal geometry.
+   * For floating precision the tile results form a polygonal coverage
+   * which can be merged by {@link CoverageUnion}.
+   * The coverage union does not node the merged boundary
+   * where it touches itself at a vertex
+   * (e.g. a hole touching its shell at a seam),
+   * and the tiles may not share a vertex which an input has on a seam,
+   * so if the result is invalid the tile results are merged by a full union,
+   * which builds the rings in the same way as {@link OverlayNG}.
+   * Snap-rounding may round the tile results differently along a tile side,
+   * so for fixed precision they are merged by a full union.
+   * Since the tile results interact only along the tile sides,
+   * this is computed by a single overlay rather than a cascaded union,
+   * which would snap-round the result vertices once for each level of the cascade.
+   * The union is noded in parallel if a pool is set.
+   */
+  private Geometry merge(Geometry[] tileResult) {
+    List<Polygon> polys = new ArrayList<Polygon>();
+    for (Geometry tile : tileResult) {
+      PolygonExtracter.getPolygons(tile, polys);
+    }
+    if (polys.isEmpty())
+      return OverlayUtil.createEmptyResult(2, geomFact);
+
+    if (! OverlayUtil.isFloating(pm)) {
+      return union(toGeometry(polys));
+    }
+    Geometry coverage = toGeometry(polys);
+    try {
+      Geometry result = CoverageUnion.union(coverage);
+      if (IsValidOp.isValid(result))
+        return result;
+    }
+    catch (TopologyException ex) {
+      //-- fall through to merge by a full union
+    }
+    return union(coverage);
+  }
+
+  private Geometry union(Geometry geom) {
+    OverlayNG ov = new OverlayNG(geom, pm);
+    ov.setForkJoinPool(pool);
+    return ov.getResult();
+  }
+
+  private Geometry toGeometry(List<Polygon> polys) {
+    return geomFact.createMultiPolygon(GeometryFactory.toPolygonArray(polys));
+  }
+
+  //------------------------------------------------------
+
+  /**
+   * Extracts the polygons of a geometry,
+   * with their rings in canonical orientation (shells CW, holes CCW).
+   * The orientation must be determined before the rings are clipped,
+   * since a clipped ring may collapse.
+   */
+  private List<Polygon> orientedPolygons(Geometry geom) {
+    List<Polygon> inputPolys = new ArrayList<Polygon>();
+    PolygonExtracter.getPolygons(geom, inputPolys);
+    List<Polygon> polys = new ArrayList<Polygon>();
+    for (Polygon poly : inputPolys) {
+      if (poly.isEmpty())
+        continue;
+      LinearRing shell = orient(poly.getExteriorRing(), false);
+      LinearRing[] holes = new LinearRing[poly.getNumInteriorRing()];
+      for (int i = 0; i < holes.length; i++) {
+        holes[i] = orient(poly.getInteriorRingN(i), true);
+      }
+      polys.add(geomFact.createPolygon(shell, holes));
+    }
+    return polys;
+  }
+
+  private LinearRing orient(LinearRing ring, boolean isHole) {
+    boolean isCCW = Orientation.isCCW(ring.getCoordinateSequence());
+    if (isCCW == isHole)
+      return ring;
+    //-- the coordinates may be shared with the input, so are copied before reversing
+    Coordinate[] pts = ring.getCoordinates().clone();
+    CoordinateArrays.reverse(pts);
+    return geomFact.createLinearRing(pts);
+  }
+
+  /**
+   * Clips polygons to a box.
+   * The first clip is to the overlay extent,
+   * after which vertices are added where the new ring sections
+   * along the extent sides cross grid lines.
+   * <p>
+   * After this the rings have a vertex at every crossing of a grid line,
+   * and the polygons are only clipped to boxes which lie within
+   * the previous box and differ from it in a single side,
+   * which is a grid line.
+   * Since no segment crosses that side,
+   * the clipped ring is the ring vertices which lie in the box,
+   * with vertices added where the ring sections along the side cross grid lines.
+   * This is the same result as {@link RingClipper} with a closed box,
+   * without computing intersections or copying coordinates.
+   * <p>
+   * Rings which are clipped to a single point are dropped.
+   * Rings which collapse to a line are kept (padded to a valid ring),
+   * since as in {@link EdgeNodingBuilder} their edges are still noded.
+   *
+   * @param polys the polygons to clip
+   * @param box the box to clip to
+   * @param isExtent true if the box is the overlay extent
+   * @return the clipped polygons
+   */
+  private List<Polygon> clip(List<Polygon> polys, Envelope box, boolean isExtent) {
+    RingClipper clipper = isExtent ? new RingClipper(box, true) : null;
+    List<Polygon> clipped = new ArrayList<Polygon>();
+    for (Polygon poly : polys) {
+      Envelope env = poly.getEnvelopeInternal();
+      if (box.disjoint(env))
+        continue;
+      if (box.covers(env)) {
+        clipped.add(poly);
+        continue;
+      }
+      LinearRing shell = clip(poly.getExteriorRing(), box, clipper);
+      if (shell == null)
+        continue;
+      List<LinearRing> holes = new ArrayList<LinearRing>();
+      for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+        LinearRing hole = clip(poly.getInteriorRingN(i), box, clipper);
+        if (hole != null)
+          holes.add(hole);
+      }
+      clipped.add(geomFact.createPolygon(shell, GeometryFactory.toLinearRingArray(holes)));
+    }
+    return clipped;
+  }
+
+  private LinearRing clip(LinearRing ring, Envelope box, RingClipper clipper) {
+    Envelope env = ring.getEnvelopeInternal();
+    if (box.disjoint(env))
+      return null;
+    if (box.covers(env))
+      return ring;
+    Coordinate[] pts;
+    if (clipper != null) {
+      pts = addGridVertices(clipper.clip(ring.getCoordinates()));
+    }
+    else {
+      pts = selectInBox(ring.getCoordinates(), box);
+    }
+    if (pts.length < 2)
+      return null;
+    if (pts.length < 4) {
+      int n = pts.length;
+      pts = Arrays.copyOf(pts, 4);
+      for (int i = n; i < pts.length; i++) {
+        pts[i] = pts[n - 1].copy();
+      }
+    }
+    return geomFact.createLinearRing(pts);
+  }
+
+  private Coordinate[] selectInBox(Coordinate[] pts, Envelope box) {
+    CoordinateList ptList = new CoordinateList();
+    boolean isSkipped = false;
+    for (Coordinate p : pts) {
+      if (! box.covers(p.x, p.y)) {
+        isSkipped = true;
+        continue;
+      }
+      if (isSkipped && ptList.size() > 0) {
+        addSideVertices(ptList.getCoordinate(ptList.size() - 1), p, ptList);
+      }
+      ptList.add(p, false);
+      isSkipped = false;
+    }
+    if (isSkipped && ptList.size() > 0) {
+      addSideVertices(ptList.getCoordinate(ptList.size() - 1), ptList.getCoordinate(0), ptList);
+    }
+    ptList.closeRing();
+    return ptList.toCoordinateArray();
+  }
+
+  /**
+   * Adds vertices where a section of the box side
+   * between two points crosses grid lines.
+   * The section is axis-parallel, so the vertices are exact.
+   */
+  private void addSideVertices(Coordinate p0, Coordinate p1, CoordinateList ptList) {
+    boolean isVertical = p0.x == p1.x;
+    double[] lines = isVertical ? gridY : gridX;
+    double v0 = isVertical ? p0.y : p0.x;
+    double v1 = isVertical ? p1.y : p1.x;
+    if (v0 < v1) {
+      for (int i = 1; i < lines.length - 1; i++) {
+        if (lines[i] > v0 && lines[i] < v1)
+          ptList.add(sideVertex(p0, lines[i], isVertical), false);
+      }
+    }
+    else {
+      for (int i = lines.length - 2; i > 0; i--) {
+        if (lines[i] < v0 && lines[i] > v1)
+          ptList.add(sideVertex(p0, lines[i], isVertical), false);
+      }
+    }
+  }
+
+  private static Coordinate sideVertex(Coordinate p, double v, boolean isVertical) {
+    if (isVertical)
+      return new Coordinate(p.x, v);
+    return new Coordinate(v, p.y);
+  }
+
+  /**
+   * Copies a geometry, adding a vertex at every point
+   * where a segment crosses the interior of a grid line.
+   * The input coordinates are shared with the copy,
+   * since they are not modified by the overlay.
+   */
+  private Geometry addGridVertices(Geometry geom) {
+    GeometryEditor editor = new GeometryEditor(geomFact);
+    editor.setCopyUserData(true);
+    return editor.edit(geom, new GeometryEditor.CoordinateOperation() {
+      public Coordinate[] edit(Coordinate[] coords, Geometry geom) {
+        return addGridVertices(coords);
+      }
+    });
+  }
+
+  private Coordinate[] addGridVertices(Coordinate[] pts) {
+    if (! crossesGrid(pts))
+      return pts;
+    CoordinateList ptList = new CoordinateList();
+    List<GridCrossing> crossings = new ArrayList<GridCrossing>();
+    for (int i = 0; i < pts.length - 1; i++) {
+      Coordinate p0 = pts[i];
+      Coordinate p1 = pts[i + 1];
+      ptList.add(p0, true);
+      crossings.clear();
+      addCrossings(p0, p1, true, crossings);
+      addCrossings(p0, p1, false, crossings);
+      if (crossings.isEmpty())
+        continue;
+      Collections.sort(crossings, GRID_CROSSING_ORDER);
+      for (int j = 0; j < crossings.size(); j++) {
+        Coordinate pt = crossings.get(j).pt;
+        clampBetweenCrossings(crossings, j, p0, p1);
+        ptList.add(pt, false);
+      }
+    }
+    if (pts.length > 0)
+      ptList.add(pts[pts.length - 1], true);
+    return ptList.toCoordinateArray();
+  }
+
+  private boolean crossesGrid(Coordinate[] pts) {
+    double minX = gridX[1];
+    double maxX = gridX[gridX.length - 2];
+    double minY = gridY[1];
+    double maxY = gridY[gridY.length - 2];
+    for (int i = 0; i < pts.length - 1; i++) {
+      Coordinate p0 = pts[i];
+      Coordinate p1 = pts[i + 1];
+      if (crossesLines(p0.x, p1.x, minX, maxX, gridX))
+        return true;
+      if (crossesLines(p0.y, p1.y, minY, maxY, gridY))
+        return true;
+    }
+    return false;
+  }
+
+  private static boolean crossesLines(double v0, double v1, double minLine, double maxLine, double[] lines) {
+    double min = Math.min(v0, v1);
+    double max = Math.max(v0, v1);
+    if (max <= minLine || min >= maxLine)
+      return false;
+    for (int i = 1; i < lines.length - 1; i++) {
+      if (lines[i] > min && lines[i] < max)
+        return true;
+    }
+    return false;
+  }
+
+  private void addCrossings(Coordinate p0, Coordinate p1, boolean isX, List<GridCrossing> crossings) {
+    double[] lines = isX ? gridX : gridY;
+    double v0 = isX ? p0.x : p0.y;
+    double v1 = isX ? p1.x : p1.y;
+    double min = Math.min(v0, v1);
+    double max = Math.max(v0, v1);
+    //-- only interior grid lines can be crossed
+    for (int i = 1; i < lines.length - 1; i++) {
+      double v = lines[i];
+      if (v <= min) continue;
+      if (v >= max) break;
+      double t = (v - v0) / (v1 - v0);
+      Coordinate pt;
+      if (isX) {
+        pt = new Coordinate(v, p0.y + t * (p1.y - p0.y), p0.getZ() + t * (p1.getZ() - p0.getZ()));
+      }
+      else {
+        pt = new Coordinate(p0.x + t * (p1.x - p0.x), v, p0.getZ() + t * (p1.getZ() - p0.getZ()));
+      }
+      crossings.add(new GridCrossing(t, pt, isX));
+    }
+  }
+
+  /**
+   * Ensures that the computed ordinate of a crossing lies
+   * between the adjacent crossings of grid lines in the same ordinate
+   * (or the segment endpoints).
+   * Otherwise round-off might cause a segment between crossings
+   * to cross a grid line, which would make the tile results inconsistent.
+   */
+  private static void clampBetweenCrossings(List<GridCrossing> crossings, int index, Coordinate p0, Coordinate p1) {
+    GridCrossing crossing = crossings.get(index);
+    boolean isOtherX = ! crossing.isX;
+    double before = ordinate(p0, isOtherX);
+    for (int i = index - 1; i >= 0; i--) {
+      if (crossings.get(i).isX == isOtherX) {
+        before = ordinate(crossings.get(i).pt, isOtherX);
+        break;
+      }
+    }
+    double after = ordinate(p1, isOtherX);
+    for (int i = index + 1; i < crossings.size(); i++) {
+      if (crossings.get(i).isX == isOtherX) {
+        after = ordinate(crossings.get(i).pt, isOtherX);
+        break;
+      }
+    }
+    double lo = Math.min(before, after);
+    double hi = Math.max(before, after);
+    Coordinate pt = crossing.pt;
+    if (isOtherX) {
+      pt.x = Math.max(lo, Math.min(hi, pt.x));
+    }
+    else {
+      pt.y = Math.max(lo, Math.min(hi, pt.y));
+    }
+  }
+
+  private static double ordinate(Coordinate p, boolean isX) {
+    return isX ? p.x : p.y;
+  }
+
+  private static class GridCrossing {
+    double t;
+    Coordinate pt;
+    boolean isX;
+
+    GridCrossing(double t, Coordinate pt, boolean isX) {
+      this.t = t;
+      this.pt = pt;
+      this.isX = isX;
+    }
+  }
+
+  private static final Comparator<GridCrossing> GRID_CROSSING_ORDER = new Comparator<GridCrossing>() {
+    public int compare(GridCrossing c1, GridCrossing c2) {
+      return Double.compare(c1.t, c2.t);
+    }
+  };
+
+  /**
+   * Overlays a range of tiles.
+   * The range is split in half along its longer side
+   * and the input pieces are clipped to each half,
+   * until a single tile remains.
+   * This clips each input vertex once for each level of splitting,
+   * rather than once for every tile.
+   */
+  private class TileTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private Geometry[] tileResult;
+    private int size;
+    private int minX;
+    private int maxX;
+    private int minY;
+    private int maxY;
+    private List<Polygon> pieces0;
+    private List<Polygon> pieces1;
+
+    TileTask(Geometry[] tileResult, int size, int minX, int maxX, int minY, int maxY,
+        List<Polygon> pieces0, List<Polygon> pieces1) {
+      this.tileResult = tileResult;
+      this.size = size;
+      this.minX = minX;
+      this.maxX = maxX;
+      this.minY = minY;
+      this.maxY = maxY;
+      this.pieces0 = pieces0;
+      this.pieces1 = pieces1;
+    }
+
+    @Override
+    protected void compute() {
+      if (maxX - minX == 1 && maxY - minY == 1) {
+        tileResult[minY * size + minX] = overlayTile(minX, minY, pieces0, pieces1);
+        return;
+      }
+      TileTask lo;
+      TileTask hi;
+      if (maxX - minX >= maxY - minY) {
+        int mid = (minX + maxX) >>> 1;
+        lo = createTask(minX, mid, minY, maxY);
+        hi = createTask(mid, maxX, minY, maxY);
+      }
+      else {
+        int mid = (minY + maxY) >>> 1;
+        lo = createTask(minX, maxX, minY, mid);
+        hi = createTask(minX, maxX, mid, maxY);
+      }
+      //-- release the pieces for this range, since they are no longer needed
+      pieces0 = null;
+      pieces1 = null;
+      if (pool == null) {
+        lo.compute();
+        hi.compute();
+      }
+      else {
+        invokeAll(lo, hi);
+      }
+    }
+
+    private TileTask createTask(int minX, int maxX, int minY, int maxY) {
+      Envelope box = new Envelope(gridX[minX], gridX[maxX], gridY[minY], gridY[maxY]);
+      return new TileTask(tileResult, size, minX, maxX, minY, maxY,
+          clip(pieces0, box, false), clip(pieces1, box, false));
+    }
+  }
+}
@@ -14,6 +14,7 @@ package org.locationtech.jts.operation.overlayng;
 import static org.locationtech.jts.operation.overlayng.OverlayNG.UNION;
 
 import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -47,7 +48,7 @@ public class UnaryUnionNG {
    */
   public static Geometry union(Geometry geom, PrecisionModel pm) {
     UnaryUnionOp op = new UnaryUnionOp(geom);
-    op.setUnionFunction( createUnionStrategy(pm) );
+    op.setUnionFunction( createUnionStrategy(pm, null) );
     return op.union();
   }
   
@@ -61,7 +62,7 @@ public class UnaryUnionNG {
    */
   public static Geometry union(Collection<Geometry> geoms, PrecisionModel pm) {
     UnaryUnionOp op = new UnaryUnionOp(geoms);
-    op.setUnionFunction( createUnionStrategy(pm) );
+    op.setUnionFunction( createUnionStrategy(pm, null) );
     return op.union();
   }
   
@@ -76,15 +77,51 @@ public class UnaryUnionNG {
    */
   public static Geometry union(Collection<Geometry> geoms, GeometryFactory geomFact, PrecisionModel pm) {
     UnaryUnionOp op = new UnaryUnionOp(geoms, geomFact);
-    op.setUnionFunction( createUnionStrategy(pm) );
+    op.setUnionFunction( createUnionStrategy(pm, null) );
     return op.union();
   }
   
-  private static UnionStrategy createUnionStrategy(PrecisionModel pm) {
+  /**
+   * Unions a geometry (which is often a collection)
+   * using a given precision model,
+   * computing the union of polygons and the noding of each overlay in parallel.
+   * 
+   * @param geom the geometry to union
+   * @param pm the precision model to use
+   * @param pool the pool to run union tasks in
+   * @return the union of the geometry
+   */
+  public static Geometry union(Geometry geom, PrecisionModel pm, ForkJoinPool pool) {
+    UnaryUnionOp op = new UnaryUnionOp(geom);
+    op.setUnionFunction( createUnionStrategy(pm, pool) );
+    op.setForkJoinPool(pool);
+    return op.union();
+  }
+  
+  /**
+   * Unions a collection of geometries
+   * using a given precision model,
+   * computing the union of polygons and the noding of each overlay in parallel.
+   * 
+   * @param geoms the collection of geometries to union
+   * @param pm the precision model to use
+   * @param pool the pool to run union tasks in
+   * @return the union of the geometries
+   */
+  public static Geometry union(Collection<Geometry> geoms, PrecisionModel pm, ForkJoinPool pool) {
+    UnaryUnionOp op = new UnaryUnionOp(geoms);
+    op.setUnionFunction( createUnionStrategy(pm, pool) );
+    op.setForkJoinPool(pool);
+    return op.union();
+  }
+  
+  private static UnionStrategy createUnionStrategy(PrecisionModel pm, ForkJoinPool pool) {
     UnionStrategy unionSRFun = new UnionStrategy() {
 
       public Geometry union(Geometry g0, Geometry g1) {
-        return OverlayNG.overlay(g0, g1, UNION, pm);
+        OverlayNG ov = new OverlayNG(g0, g1, pm, UNION);
+        ov.setForkJoinPool(pool);
+        return ov.getResult();
       }
 
       @Override
@@ -15,6 +15,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -43,6 +47,14 @@ import org.locationtech.jts.util.Debug;
  * This algorithm is faster and more robust than
  * the simple iterated approach of
  * repeatedly unioning each polygon to a result geometry.
+ * <p>
+ * The union can optionally be computed in parallel,
+ * by providing a {@link ForkJoinPool} via {@link #setForkJoinPool(ForkJoinPool)}.
+ * In this mode the unions of independent subtrees of the index
+ * are computed concurrently.
+ * The same pairs of geometries are unioned in the same order
+ * as in sequential mode, so the result is identical
+ * (provided the {@link UnionStrategy} is deterministic).
  *
  * @author Martin Davis
  *
@@ -94,11 +106,28 @@ public class CascadedPolygonUnion
     return op.union();
   }
 
+  /**
+   * Computes the union of
+   * a collection of {@link Polygonal} {@link Geometry}s,
+   * using a {@link ForkJoinPool} to compute the union in parallel.
+   *
+   * @param polys a collection of {@link Polygonal} {@link Geometry}s
+   * @param unionFun the union strategy to use (which must be thread-safe)
+   * @param pool the pool to run the union tasks in, or null to use the calling thread
+   */
+  public static Geometry union(Collection polys, UnionStrategy unionFun, ForkJoinPool pool)
+  {
+    CascadedPolygonUnion op = new CascadedPolygonUnion(polys, unionFun);
+    op.setForkJoinPool(pool);
+    return op.union();
+  }
+
 	private Collection inputPolys;
 	private GeometryFactory geomFactory = null;
   private UnionStrategy unionFun;
+  private ForkJoinPool pool = null;
 
-  private int countRemainder = 0;
+  private AtomicInteger countRemainder = new AtomicInteger();
   private int countInput = 0;
 
   /**
@@ -126,7 +155,21 @@ public class CascadedPolygonUnion
     if (inputPolys == null)
       inputPolys = new ArrayList();
     this.countInput = inputPolys.size();
-    this.countRemainder = countInput;
+    this.countRemainder.set(countInput);
+  }
+  
+  /**
+   * Sets a {@link ForkJoinPool} to use to compute the union in parallel.
+   * If the pool is null (the default) the union is computed
+   * in the calling thread.
+   * <p>
+   * When a pool is used the {@link UnionStrategy} must be thread-safe.
+   * 
+   * @param pool the pool to run union tasks in, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool)
+  {
+    this.pool = pool;
   }
   /**
    * The effectiveness of the index is somewhat sensitive
@@ -176,6 +219,9 @@ public class CascadedPolygonUnion
 
     List itemTree = index.itemsTree();
 //    printItemEnvelopes(itemTree);
+    if (pool != null) {
+      return pool.invoke(new UnionTreeTask(itemTree));
+    }
     Geometry unionAll = unionTree(itemTree);
     return unionAll;
 	}
@@ -248,6 +294,12 @@ public class CascadedPolygonUnion
   	else {
   		// recurse on both halves of the list
   		int mid = (end + start) / 2;
+  		if (pool != null) {
+  		  BinaryUnionTask task0 = new BinaryUnionTask(geoms, start, mid);
+  		  BinaryUnionTask task1 = new BinaryUnionTask(geoms, mid, end);
+  		  ForkJoinTask.invokeAll(task0, task1);
+  		  return unionSafe(task0.join(), task1.join());
+  		}
   		Geometry g0 = binaryUnion(geoms, start, mid);
   		Geometry g1 = binaryUnion(geoms, mid, end);
   		return unionSafe(g0, g1);
@@ -278,6 +330,9 @@ public class CascadedPolygonUnion
    */
   private List reduceToGeometries(List geomTree)
   {
+    if (pool != null)
+      return reduceToGeometriesParallel(geomTree);
+    
     List geoms = new ArrayList();
     for (Iterator i = geomTree.iterator(); i.hasNext(); ) {
       Object o = i.next();
@@ -293,6 +348,41 @@ public class CascadedPolygonUnion
     return geoms;
   }
 
+  /**
+   * Reduces a tree of geometries to a list of geometries
+   * by unioning the subtrees in the list concurrently.
+   * Must be called from a task running in the pool.
+   *
+   * @param geomTree a tree-structured list of geometries
+   * @return a list of Geometrys
+   */
+  private List<Geometry> reduceToGeometriesParallel(List geomTree)
+  {
+    List<UnionTreeTask> tasks = new ArrayList<UnionTreeTask>();
+    for (Iterator i = geomTree.iterator(); i.hasNext(); ) {
+      Object o = i.next();
+      if (o instanceof List) {
+        tasks.add(new UnionTreeTask((List) o));
+      }
+    }
+    ForkJoinTask.invokeAll(tasks);
+    
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    int taskIndex = 0;
+    for (Iterator i = geomTree.iterator(); i.hasNext(); ) {
+      Object o = i.next();
+      Geometry geom = null;
+      if (o instanceof List) {
+        geom = tasks.get(taskIndex++).join();
+      }
+      else if (o instanceof Geometry) {
+        geom = (Geometry) o;
+      }
+      geoms.add(geom);
+    }
+    return geoms;
+  }
+
   /**
    * Computes the union of two geometries,
    * either or both of which may be null.
@@ -312,9 +402,9 @@ public class CascadedPolygonUnion
   	if (g1 == null)
   		return g0.copy();
 
-  	countRemainder--;
+  	int remainder = countRemainder.decrementAndGet();
   	if (Debug.isDebugging()) {
-  	  Debug.println("Remainder: " + countRemainder + " out of " + countInput);
+  	  Debug.println("Remainder: " + remainder + " out of " + countInput);
       Debug.print("Union: A: " + g0.getNumPoints() + " / B: " + g1.getNumPoints() + "  ---  "  );
   	}
 
@@ -363,4 +453,50 @@ public class CascadedPolygonUnion
       return (Polygon) polygons.get(0);
     return g.getFactory().createMultiPolygon(GeometryFactory.toPolygonArray(polygons));
   }
+
+  /**
+   * Unions a subtree of the index tree.
+   */
+  private class UnionTreeTask extends RecursiveTask<Geometry>
+  {
+    private static final long serialVersionUID = 1L;
+    
+    private final List geomTree;
+
+    UnionTreeTask(List geomTree)
+    {
+      this.geomTree = geomTree;
+    }
+
+    @Override
+    protected Geometry compute()
+    {
+      return unionTree(geomTree);
+    }
+  }
+  
+  /**
+   * Unions a section of a list of geometries.
+   */
+  private class BinaryUnionTask extends RecursiveTask<Geometry>
+  {
+    private static final long serialVersionUID = 1L;
+    
+    private final List geoms;
+    private final int start;
+    private final int end;
+
+    BinaryUnionTask(List geoms, int start, int end)
+    {
+      this.geoms = geoms;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected Geometry compute()
+    {
+      return binaryUnion(geoms, start, end);
+    }
+  }
 }
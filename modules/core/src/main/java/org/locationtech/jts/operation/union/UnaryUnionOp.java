@@ -14,6 +14,7 @@ package org.locationtech.jts.operation.union;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -111,6 +112,7 @@ public class UnaryUnionOp
 
   private InputExtracter extracter;
   private UnionStrategy unionFunction = CascadedPolygonUnion.CLASSIC_UNION;
+  private ForkJoinPool pool = null;
 
 	/**
 	 * Constructs a unary union operation for a {@link Collection} 
@@ -151,6 +153,19 @@ public class UnaryUnionOp
 	  this.unionFunction = unionFun;
 	}
 	
+	/**
+	 * Sets a {@link ForkJoinPool} to use to union polygons in parallel.
+	 * If the pool is null (the default) the union is computed
+	 * in the calling thread.
+	 * 
+	 * @param pool the pool to run union tasks in, or null
+	 * 
+	 * @see CascadedPolygonUnion#setForkJoinPool(ForkJoinPool)
+	 */
+	public void setForkJoinPool(ForkJoinPool pool) {
+	  this.pool = pool;
+	}
+	
 	private void extract(Collection geoms)
 	{
 	  extracter = InputExtracter.extract(geoms);
@@ -216,7 +231,7 @@ public class UnaryUnionOp
 		
 		Geometry unionPolygons = null;
 		if (polygons.size() > 0) {
-			unionPolygons = CascadedPolygonUnion.union(polygons, unionFunction);
+			unionPolygons = CascadedPolygonUnion.union(polygons, unionFunction, pool);
 		}
 		
     /**
@@ -17,11 +17,18 @@ import org.locationtech.jts.geom.CoordinateList;
 import org.locationtech.jts.geom.Triangle;
 
 /**
- * Simplifies a linestring (sequence of points) using the 
+ * Simplifies a linestring (sequence of points) using the
  * Visvalingam-Whyatt algorithm.
- * The Visvalingam-Whyatt algorithm simplifies geometry 
+ * The Visvalingam-Whyatt algorithm simplifies geometry
  * by removing vertices while trying to minimize the area changed.
- * 
+ * <p>
+ * The vertex with the smallest effective area is found using
+ * an indexed min-heap, which is updated in place as the areas
+ * of the neighbours of removed vertices change.
+ * This gives O(n log n) performance.
+ * If several vertices have the same smallest area
+ * the one occurring first in the line is removed.
+ *
  * @version 1.7
  */
 class VWLineSimplifier
@@ -32,8 +39,16 @@ class VWLineSimplifier
     return simp.simplify();
   }
 
+  private static final int NO_INDEX = -1;
+
+  private static final double MAX_AREA = Double.MAX_VALUE;
+
   private Coordinate[] pts;
   private double tolerance;
+  private int[] prev;
+  private int[] next;
+  private double[] area;
+  private VertexHeap heap;
 
   public VWLineSimplifier(Coordinate[] pts, double distanceTolerance)
   {
@@ -43,12 +58,15 @@ class VWLineSimplifier
 
   public Coordinate[] simplify()
   {
-    VWLineSimplifier.VWVertex vwLine = VWVertex.buildLine(pts);
-    double minArea = tolerance;
-    do {
-      minArea = simplifyVertex(vwLine);
-    } while (minArea < tolerance);
-    Coordinate[] simp = vwLine.getCoordinates();
+    buildLine();
+    while (! heap.isEmpty()) {
+      int minIndex = heap.peek();
+      if (area[minIndex] >= tolerance)
+        break;
+      heap.poll();
+      remove(minIndex);
+    }
+    Coordinate[] simp = getCoordinates();
     // ensure computed value is a valid line
     if (simp.length < 2) {
       return new Coordinate[] { simp[0], new Coordinate(simp[0]) };
@@ -56,119 +74,186 @@ class VWLineSimplifier
     return simp;
   }
 
-  private double simplifyVertex(VWLineSimplifier.VWVertex vwLine)
+  private void buildLine()
   {
-    /**
-     * Scan vertices in line and remove the one with smallest effective area.
-     */
-    // TODO: use an appropriate data structure to optimize finding the smallest area vertex
-    VWLineSimplifier.VWVertex curr = vwLine;
-    double minArea = curr.getArea();
-    VWLineSimplifier.VWVertex minVertex = null;
-    while (curr != null) {
-      double area = curr.getArea();
-      if (area < minArea) {
-        minArea = area;
-        minVertex = curr;
-      }
-      curr = curr.next;
+    int n = pts.length;
+    prev = new int[n];
+    next = new int[n];
+    area = new double[n];
+    for (int i = 0; i < n; i++) {
+      prev[i] = i - 1;
+      next[i] = i + 1;
+    }
+    if (n > 0)
+      next[n - 1] = NO_INDEX;
+    for (int i = 0; i < n; i++) {
+      updateArea(i);
     }
-    if (minVertex != null && minArea < tolerance) {
-      minVertex.remove();
+    heap = new VertexHeap(area);
+    heap.build(n);
+  }
+
+  private void updateArea(int i)
+  {
+    if (prev[i] == NO_INDEX || next[i] == NO_INDEX) {
+      area[i] = MAX_AREA;
+      return;
     }
-    if (! vwLine.isLive()) return -1;
-    return minArea;
+    area[i] = Math.abs(Triangle.area(pts[prev[i]], pts[i], pts[next[i]]));
+  }
+
+  /**
+   * Removes an interior vertex from the line,
+   * and updates the areas of its neighbours.
+   *
+   * @param i the index of the vertex to remove
+   */
+  private void remove(int i)
+  {
+    int iprev = prev[i];
+    int inext = next[i];
+    next[iprev] = inext;
+    prev[inext] = iprev;
+    prev[i] = NO_INDEX;
+    next[i] = NO_INDEX;
+
+    updateNeighbour(iprev);
+    updateNeighbour(inext);
   }
 
+  private void updateNeighbour(int i)
+  {
+    // endpoints are never removed, so are not in the heap
+    if (prev[i] == NO_INDEX || next[i] == NO_INDEX)
+      return;
+    updateArea(i);
+    heap.update(i);
+  }
 
-  static class VWVertex
+  private Coordinate[] getCoordinates()
   {
-    public static VWLineSimplifier.VWVertex buildLine(Coordinate[] pts)
+    CoordinateList coords = new CoordinateList();
+    int i = 0;
+    while (i != NO_INDEX) {
+      coords.add(pts[i], false);
+      i = next[i];
+    }
+    return coords.toCoordinateArray();
+  }
+
+  /**
+   * An indexed binary min-heap of the interior vertices of a line,
+   * ordered by area and then by vertex index.
+   * The position of each vertex in the heap is recorded,
+   * so that the heap can be updated in place
+   * when the area of a vertex changes.
+   */
+  private static class VertexHeap
+  {
+    private double[] area;
+    private int[] heap;
+    private int[] heapPos;
+    private int size = 0;
+
+    VertexHeap(double[] area)
     {
-      VWLineSimplifier.VWVertex first = null;
-      VWLineSimplifier.VWVertex prev = null;
-      for (int i = 0; i < pts.length; i++) {
-        VWLineSimplifier.VWVertex v = new VWVertex(pts[i]);
-        if (first == null)
-          first = v;
-        v.setPrev(prev);
-        if (prev != null) {
-          prev.setNext(v);
-          prev.updateArea();
-        }
-        prev = v;
-      }
-      return first;
-    }
-    
-    public static double MAX_AREA = Double.MAX_VALUE;
-    
-    private Coordinate pt;
-    private VWLineSimplifier.VWVertex prev;
-    private VWLineSimplifier.VWVertex next;
-    private double area = MAX_AREA;
-    private boolean isLive = true;
-
-    public VWVertex(Coordinate pt)
+      this.area = area;
+    }
+
+    /**
+     * Builds the heap from the interior vertices of a line.
+     *
+     * @param nPts the number of vertices in the line
+     */
+    void build(int nPts)
     {
-      this.pt = pt;
+      heap = new int[Math.max(0, nPts - 2)];
+      heapPos = new int[nPts];
+      for (int i = 1; i < nPts - 1; i++) {
+        heap[size] = i;
+        heapPos[i] = size;
+        size++;
+      }
+      for (int k = size / 2 - 1; k >= 0; k--) {
+        siftDown(k);
+      }
     }
 
-    public void setPrev(VWLineSimplifier.VWVertex prev)
+    boolean isEmpty()
     {
-      this.prev = prev;
+      return size == 0;
     }
 
-    public void setNext(VWLineSimplifier.VWVertex next)
+    int peek()
     {
-      this.next = next;
+      return heap[0];
     }
 
-    public void updateArea()
+    int poll()
     {
-      if (prev == null || next == null) {
-        area = MAX_AREA;
-        return;
+      int min = heap[0];
+      size--;
+      if (size > 0) {
+        place(heap[size], 0);
+        siftDown(0);
       }
-      area = Math.abs(Triangle.area(prev.pt, pt, next.pt));
+      heapPos[min] = NO_INDEX;
+      return min;
     }
 
-    public double getArea()
+    /**
+     * Restores the heap order after the area
+     * of a vertex in the heap has changed.
+     *
+     * @param i the index of the vertex
+     */
+    void update(int i)
     {
-      return area;
+      int k = heapPos[i];
+      siftUp(k);
+      siftDown(heapPos[i]);
     }
-    public boolean isLive()
+
+    private boolean isLess(int i, int j)
     {
-      return isLive;
+      return area[i] < area[j]
+          || (area[i] == area[j] && i < j);
     }
-    public VWLineSimplifier.VWVertex remove()
+
+    private void place(int i, int k)
     {
-      VWLineSimplifier.VWVertex tmpPrev = prev;
-      VWLineSimplifier.VWVertex tmpNext = next;
-      VWLineSimplifier.VWVertex result = null;
-      if (prev != null) {
-        prev.setNext(tmpNext);
-        prev.updateArea();
-        result = prev;
-      }
-      if (next != null) {
-        next.setPrev(tmpPrev);
-        next.updateArea();
-        if (result == null)
-          result = next;
+      heap[k] = i;
+      heapPos[i] = k;
+    }
+
+    private void siftUp(int k)
+    {
+      int i = heap[k];
+      while (k > 0) {
+        int parent = (k - 1) / 2;
+        if (! isLess(i, heap[parent]))
+          break;
+        place(heap[parent], k);
+        k = parent;
       }
-      isLive = false;
-      return result;
+      place(i, k);
     }
-    public Coordinate[] getCoordinates()
+
+    private void siftDown(int k)
     {
-      CoordinateList coords = new CoordinateList();
-      VWLineSimplifier.VWVertex curr = this;
-      do {
-        coords.add(curr.pt, false);
-        curr = curr.next;
-      } while (curr != null);
-      return coords.toCoordinateArray();
+      int i = heap[k];
+      int half = size / 2;
+      while (k < half) {
+        int child = 2 * k + 1;
+        int right = child + 1;
+        if (right < size && isLess(heap[right], heap[child]))
+          child = right;
+        if (! isLess(heap[child], i))
+          break;
+        place(heap[child], k);
+        k = child;
+      }
+      place(i, k);
     }
   }
 }
@@ -11,10 +11,15 @@
  */
 package org.locationtech.jts.algorithm.locate;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
 import org.locationtech.jts.algorithm.AbstractPointInRingTest;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
 import org.locationtech.jts.io.WKTReader;
 
 import junit.textui.TestRunner;
@@ -42,6 +47,10 @@ public class IndexedPointInAreaLocatorTest extends AbstractPointInRingTest {
     IndexedPointInAreaLocator loc = new IndexedPointInAreaLocator(geom);
     int result = loc.locate(pt);
     assertEquals(expectedLoc, result);
+    
+    int[] batchResult = new int[1];
+    loc.locate(new double[] { pt.x }, new double[] { pt.y }, batchResult);
+    assertEquals(expectedLoc, batchResult[0]);
   }
 
    /**
@@ -53,4 +62,68 @@ public class IndexedPointInAreaLocatorTest extends AbstractPointInRingTest {
    public void testEmpty() throws Exception {
      runPtInRing(Location.EXTERIOR, new Coordinate(0,0), "POLYGON EMPTY");
   }
+   
+  public void testBatch() throws Exception {
+    checkBatch("POLYGON ((1 9, 9 9, 9 1, 1 1, 1 9), (3 7, 7 7, 5 3, 3 7))");
+  }
+   
+  public void testBatchMultiPolygon() throws Exception {
+    checkBatch("MULTIPOLYGON (((1 1, 1 4, 4 4, 4 1, 1 1)), ((5 5, 5 9, 9 9, 9 5, 5 5), (6 6, 6 8, 8 8, 6 6)))");
+  }
+  
+  /**
+   * Checks that all batch modes give the same locations 
+   * as locating points individually,
+   * for a grid of points which includes boundary points.
+   */
+  private void checkBatch(String wkt) throws Exception {
+    Geometry geom = reader.read(wkt);
+    IndexedPointInAreaLocator loc = new IndexedPointInAreaLocator(geom);
+    
+    int side = 101;
+    int n = side * side;
+    double[] xs = new double[n];
+    double[] ys = new double[n];
+    int[] expected = new int[n];
+    // visit grid in a scrambled order to exercise sorting
+    for (int i = 0; i < n; i++) {
+      int cell = (int) ((i * 7919L) % n);
+      xs[i] = (cell % side) / 10.0;
+      ys[i] = (cell / side) / 10.0;
+      expected[i] = loc.locate(new Coordinate(xs[i], ys[i]));
+    }
+    
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      checkBatch(loc, xs, ys, expected, false, null);
+      checkBatch(loc, xs, ys, expected, true, null);
+      checkBatch(loc, xs, ys, expected, false, pool);
+      checkBatch(loc, xs, ys, expected, true, pool);
+    
+      CoordinateSequence seq = CoordinateArraySequenceFactory.instance().create(n, 2);
+      for (int i = 0; i < n; i++) {
+        seq.setOrdinate(i, CoordinateSequence.X, xs[i]);
+        seq.setOrdinate(i, CoordinateSequence.Y, ys[i]);
+      }
+      checkBatch(loc, seq, expected, false, null);
+      checkBatch(loc, seq, expected, true, pool);
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  private void checkBatch(IndexedPointInAreaLocator loc, double[] xs, double[] ys, int[] expected,
+      boolean isSorted, ForkJoinPool pool) {
+    int[] result = new int[xs.length];
+    loc.locate(xs, ys, result, isSorted, pool);
+    assertTrue(Arrays.equals(expected, result));
+  }
+
+  private void checkBatch(IndexedPointInAreaLocator loc, CoordinateSequence seq, int[] expected,
+      boolean isSorted, ForkJoinPool pool) {
+    int[] result = new int[seq.size()];
+    loc.locate(seq, result, isSorted, pool);
+    assertTrue(Arrays.equals(expected, result));
+  }
 }
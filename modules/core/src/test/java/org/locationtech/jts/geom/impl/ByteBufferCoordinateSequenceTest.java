@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateXYM;
+import org.locationtech.jts.geom.Envelope;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests {@link ByteBufferCoordinateSequence}.
+ */
+public class ByteBufferCoordinateSequenceTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(ByteBufferCoordinateSequenceTest.class);
+  }
+
+  public ByteBufferCoordinateSequenceTest(String name) {
+    super(name);
+  }
+
+  public void testRead() {
+    CoordinateSequence seq = create(ByteOrder.LITTLE_ENDIAN, 4, 3, 0, 1, 2, 3, 4, 5, 6);
+    assertEquals(2, seq.size());
+    assertEquals(3.0, seq.getZ(0));
+    assertEquals(new Coordinate(4, 5, 6), seq.getCoordinate(1));
+    assertEquals(new Envelope(1, 4, 2, 5), seq.expandEnvelope(new Envelope()));
+  }
+
+  public void testReadBigEndianXYM() {
+    CoordinateSequence seq = create(ByteOrder.BIG_ENDIAN, 0, 3, 1, 1, 2, 3);
+    assertTrue(seq.hasM());
+    assertFalse(seq.hasZ());
+    assertEquals(3.0, seq.getM(0));
+    assertTrue(seq.getCoordinate(0) instanceof CoordinateXYM);
+  }
+
+  public void testSetCopiesBuffer() {
+    ByteBuffer buf = ByteBuffer.allocate(24).order(ByteOrder.LITTLE_ENDIAN);
+    buf.putDouble(8, 1).putDouble(16, 2);
+    CoordinateSequence seq = new ByteBufferCoordinateSequence(buf, 8, 1, 2, 0);
+    assertEquals(1.0, seq.getCoordinate(0).x);
+    seq.setOrdinate(0, CoordinateSequence.X, 10);
+    // cached coordinates are cleared 
+    assertEquals(10.0, seq.getCoordinate(0).x);
+    assertEquals(2.0, seq.getY(0));
+    // the source buffer is not modified
+    assertEquals(1.0, buf.getDouble(8));
+    seq.setOrdinate(0, CoordinateSequence.Y, 20);
+    assertEquals(10.0, seq.getX(0));
+    assertEquals(2.0, buf.getDouble(16));
+    
+    CoordinateSequence copy = seq.copy();
+    copy.setOrdinate(0, CoordinateSequence.X, 20);
+    assertEquals(10.0, seq.getX(0));
+  }
+  
+  public void testOutOfBounds() {
+    try {
+      new ByteBufferCoordinateSequence(ByteBuffer.allocate(32), 8, 2, 2, 0);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+  
+  public void testSerializable() throws IOException, ClassNotFoundException {
+    CoordinateSequence seq = create(ByteOrder.BIG_ENDIAN, 4, 2, 0, 1, 2, 3, 4);
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    ObjectOutputStream oos = new ObjectOutputStream(bos);
+    oos.writeObject(seq);
+    oos.close();
+    ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()));
+    CoordinateSequence seq2 = (CoordinateSequence) ois.readObject();
+    assertEquals(2, seq2.size());
+    assertEquals(new Coordinate(3, 4), seq2.getCoordinate(1));
+  }
+
+  private static CoordinateSequence create(ByteOrder order, int offset, int dimension, int measures, double... ords) {
+    ByteBuffer buf = ByteBuffer.allocate(offset + 8 * ords.length).order(order);
+    for (int i = 0; i < ords.length; i++) {
+      buf.putDouble(offset + 8 * i, ords[i]);
+    }
+    return new ByteBufferCoordinateSequence(buf, offset, ords.length / dimension, dimension, measures);
+  }
+}
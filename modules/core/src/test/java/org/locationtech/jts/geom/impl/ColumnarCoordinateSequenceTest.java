@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import org.locationtech.jts.algorithm.Area;
+import org.locationtech.jts.algorithm.Length;
+import org.locationtech.jts.algorithm.RayCrossingCounter;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.CoordinateXYM;
+import org.locationtech.jts.geom.CoordinateXYZM;
+import org.locationtech.jts.geom.Envelope;
+
+import junit.textui.TestRunner;
+
+/**
+ * Test {@link ColumnarCoordinateSequence}
+ * using the {@link CoordinateSequenceTestBase}
+ */
+public class ColumnarCoordinateSequenceTest
+    extends CoordinateSequenceTestBase
+{
+  public static void main(String args[]) {
+    TestRunner.run(ColumnarCoordinateSequenceTest.class);
+  }
+
+  public ColumnarCoordinateSequenceTest(String name)
+  {
+    super(name);
+  }
+
+  @Override
+  CoordinateSequenceFactory getCSFactory() {
+    return ColumnarCoordinateSequenceFactory.instance();
+  }
+
+  public void testXYM() {
+    CoordinateSequence cs = getCSFactory().create(
+        new Coordinate[] { new CoordinateXYM(1, 2, 3) });
+    assertEquals(3, cs.getDimension());
+    assertEquals(1, cs.getMeasures());
+    assertEquals(3.0, cs.getM(0));
+    assertTrue(Double.isNaN(cs.getZ(0)));
+  }
+
+  public void testXYZM() {
+    CoordinateSequence cs = getCSFactory().create(
+        new Coordinate[] { new CoordinateXYZM(1, 2, 3, 4) });
+    assertEquals(3.0, cs.getZ(0));
+    assertEquals(4.0, cs.getM(0));
+    assertTrue(cs.getCoordinate(0) instanceof CoordinateXYZM);
+  }
+
+  public void testOrdinateArrays() {
+    double[] x = new double[] { 0, 1, 2 };
+    double[] y = new double[] { 5, 6, 7 };
+    ColumnarCoordinateSequence cs = new ColumnarCoordinateSequence(x, y);
+    assertSame(x, cs.getXArray());
+    assertSame(y, cs.getYArray());
+    assertEquals(2, cs.getDimension());
+    assertEquals(new Coordinate(1, 6), cs.getCoordinate(1));
+    
+    // setters clear the cached coordinates
+    cs.setOrdinate(1, CoordinateSequence.Y, 10);
+    assertEquals(10.0, y[1]);
+    assertEquals(10.0, cs.getCoordinate(1).y);
+  }
+  
+  public void testMismatchedArrays() {
+    try {
+      new ColumnarCoordinateSequence(new double[2], new double[3]);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+  
+  public void testCopyFromOtherSequence() {
+    Coordinate[] coords = createArray(SIZE);
+    CoordinateSequence packed = PackedCoordinateSequenceFactory.DOUBLE_FACTORY.create(coords);
+    CoordinateSequence seq = getCSFactory().create(packed);
+    assertTrue(isEqual(seq, coords));
+  }
+
+  public void testExpandEnvelope() {
+    CoordinateSequence ring = createRing(100);
+    CoordinateSequence arrayRing = CoordinateArraySequenceFactory.instance().create(ring);
+    assertEquals(arrayRing.expandEnvelope(new Envelope()), ring.expandEnvelope(new Envelope()));
+    
+    Envelope env = new Envelope(-100, -99, -100, -99);
+    Envelope arrayEnv = new Envelope(env);
+    assertEquals(arrayRing.expandEnvelope(arrayEnv), ring.expandEnvelope(env));
+  }
+  
+  public void testArea() {
+    CoordinateSequence ring = createRing(100);
+    CoordinateSequence arrayRing = CoordinateArraySequenceFactory.instance().create(ring);
+    assertEquals(Area.ofRingSigned(arrayRing), Area.ofRingSigned(ring), 0.0);
+  }
+  
+  public void testLength() {
+    CoordinateSequence ring = createRing(100);
+    CoordinateSequence arrayRing = CoordinateArraySequenceFactory.instance().create(ring);
+    assertEquals(Length.ofLine(arrayRing), Length.ofLine(ring), 0.0);
+  }
+  
+  public void testLocatePointInRing() {
+    CoordinateSequence ring = createRing(100);
+    CoordinateSequence arrayRing = CoordinateArraySequenceFactory.instance().create(ring);
+    for (double x = -12; x <= 12; x += 0.5) {
+      for (double y = -12; y <= 12; y += 0.5) {
+        Coordinate p = new Coordinate(x, y);
+        assertEquals(RayCrossingCounter.locatePointInRing(p, arrayRing), 
+            RayCrossingCounter.locatePointInRing(p, ring));
+      }
+    }
+    // vertex is on boundary
+    assertEquals(RayCrossingCounter.locatePointInRing(ring.getCoordinate(3), arrayRing), 
+        RayCrossingCounter.locatePointInRing(ring.getCoordinate(3), ring));
+  }
+  
+  /**
+   * Creates a star-shaped ring centred at the origin.
+   */
+  private static CoordinateSequence createRing(int nPts) {
+    double[] x = new double[nPts + 1];
+    double[] y = new double[nPts + 1];
+    for (int i = 0; i < nPts; i++) {
+      double ang = 2 * Math.PI * i / nPts;
+      double r = i % 2 == 0 ? 10 : 5;
+      x[i] = r * Math.cos(ang);
+      y[i] = r * Math.sin(ang);
+    }
+    x[nPts] = x[0];
+    y[nPts] = y[0];
+    return new ColumnarCoordinateSequence(x, y);
+  }
+}
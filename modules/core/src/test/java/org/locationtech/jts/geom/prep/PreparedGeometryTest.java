@@ -1,6 +1,11 @@
 package org.locationtech.jts.geom.prep;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.util.SineStarFactory;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -22,4 +27,49 @@ public class PreparedGeometryTest extends GeometryTestCase {
     assertTrue( prepA.contains(geomB));
     assertTrue( prepA.intersects(geomB));
   }
+  
+  /**
+   * Checks that the lazily-created indexes are safely 
+   * shared between threads making their first use concurrently.
+   */
+  public void testConcurrentFirstUse() throws InterruptedException {
+    Geometry poly = SineStarFactory.create(new Coordinate(0, 0), 100, 1000, 10, 0.3);
+    Geometry line = poly.getBoundary();
+    Geometry testPoly = SineStarFactory.create(new Coordinate(10, 10), 50, 100, 5, 0.3);
+    Geometry testPt = read("POINT (1 1)");
+    
+    final PreparedGeometry prepPoly = PreparedGeometryFactory.prepare(poly);
+    final PreparedGeometry prepLine = PreparedGeometryFactory.prepare(line);
+    final boolean expectedPolyInt = poly.intersects(testPoly);
+    final boolean expectedPolyContains = poly.contains(testPt);
+    final boolean expectedLineInt = line.intersects(testPoly);
+    
+    int nThreads = 8;
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicInteger errorCount = new AtomicInteger();
+    Thread[] threads = new Thread[nThreads];
+    for (int i = 0; i < nThreads; i++) {
+      threads[i] = new Thread(new Runnable() {
+        public void run() {
+          try {
+            start.await();
+            if (prepPoly.intersects(testPoly) != expectedPolyInt
+                || prepPoly.contains(testPt) != expectedPolyContains
+                || prepLine.intersects(testPoly) != expectedLineInt) {
+              errorCount.incrementAndGet();
+            }
+          }
+          catch (Exception ex) {
+            errorCount.incrementAndGet();
+          }
+        }
+      });
+      threads[i].start();
+    }
+    start.countDown();
+    for (Thread t : threads) {
+      t.join();
+    }
+    assertEquals(0, errorCount.get());
+  }
 }
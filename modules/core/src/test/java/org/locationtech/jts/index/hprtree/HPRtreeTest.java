@@ -12,8 +12,10 @@
  */
 package org.locationtech.jts.index.hprtree;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
@@ -21,6 +23,8 @@ import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.index.ItemVisitor;
 import org.locationtech.jts.index.SpatialIndexTester;
+import org.locationtech.jts.index.strtree.GeometryItemDistance;
+import org.locationtech.jts.index.strtree.ItemDistance;
 
 import junit.framework.TestCase;
 
@@ -154,5 +158,107 @@ public class HPRtreeTest extends TestCase {
     assertEquals(11, t.query(new Envelope(0, 10, 0, 10)).size());
   }
 
+  public void testNearestNeighbourEmpty() {
+    HPRtree t = new HPRtree();
+    Geometry pt = factory.createPoint(new Coordinate(1, 1));
+    assertNull(t.nearestNeighbour(pt.getEnvelopeInternal(), pt, new GeometryItemDistance()));
+    assertEquals(0, t.nearestNeighbour(pt.getEnvelopeInternal(), pt, new GeometryItemDistance(), 3).length);
+    assertTrue(t.queryWithinDistance(pt.getEnvelopeInternal(), pt, new GeometryItemDistance(), 10).isEmpty());
+  }
+
+  public void testNearestNeighbour() {
+    HPRtree t = new HPRtree();
+    for (int i = 0; i < 100; i++ ) {
+      Geometry pt = factory.createPoint(new Coordinate(i, i));
+      t.insert(pt.getEnvelopeInternal(), pt);
+    }
+    Geometry q = factory.createPoint(new Coordinate(10.1, 9.8));
+    Geometry nn = (Geometry) t.nearestNeighbour(q.getEnvelopeInternal(), q, new GeometryItemDistance());
+    assertTrue(nn.equalsExact(factory.createPoint(new Coordinate(10, 10))));
+  }
+
+  public void testNearestNeighbourK() {
+    checkNearestNeighbourK(10, 16, 3);
+    checkNearestNeighbourK(10, 16, 20);
+    checkNearestNeighbourK(1000, 16, 1);
+    checkNearestNeighbourK(1000, 16, 10);
+    checkNearestNeighbourK(1000, 4, 50);
+    checkNearestNeighbourK(1000, 2, 1000);
+  }
+
+  public void testQueryWithinDistance() {
+    checkQueryWithinDistance(10, 16, 20);
+    checkQueryWithinDistance(1000, 16, 0);
+    checkQueryWithinDistance(1000, 16, 5);
+    checkQueryWithinDistance(1000, 4, 30);
+    checkQueryWithinDistance(1000, 2, 200);
+  }
+
+  private void checkNearestNeighbourK(int nItems, int nodeCapacity, int k) {
+    List<Geometry> geoms = randomLines(nItems);
+    HPRtree t = createTree(geoms, nodeCapacity);
+    ItemDistance itemDist = new GeometryItemDistance();
+    Random rnd = new Random(13);
+    for (int n = 0; n < 20; n++) {
+      Geometry q = factory.createPoint(new Coordinate(100 * rnd.nextDouble(), 100 * rnd.nextDouble()));
+      Object[] result = t.nearestNeighbour(q.getEnvelopeInternal(), q, itemDist, k);
+      
+      double[] expected = sortedDistances(geoms, q);
+      assertEquals(Math.min(k, nItems), result.length);
+      for (int i = 0; i < result.length; i++) {
+        assertEquals(expected[i], ((Geometry) result[i]).distance(q), 0.0);
+      }
+    }
+  }
+
+  private void checkQueryWithinDistance(int nItems, int nodeCapacity, double maxDistance) {
+    List<Geometry> geoms = randomLines(nItems);
+    HPRtree t = createTree(geoms, nodeCapacity);
+    ItemDistance itemDist = new GeometryItemDistance();
+    Random rnd = new Random(13);
+    for (int n = 0; n < 20; n++) {
+      Geometry q = factory.createPoint(new Coordinate(100 * rnd.nextDouble(), 100 * rnd.nextDouble()));
+      List result = t.queryWithinDistance(q.getEnvelopeInternal(), q, itemDist, maxDistance);
+      
+      int expectedCount = 0;
+      for (Geometry g : geoms) {
+        if (g.distance(q) <= maxDistance) expectedCount++;
+      }
+      assertEquals(expectedCount, result.size());
+      for (Object item : result) {
+        assertTrue(((Geometry) item).distance(q) <= maxDistance);
+      }
+    }
+  }
+
+  private HPRtree createTree(List<Geometry> geoms, int nodeCapacity) {
+    HPRtree t = new HPRtree(nodeCapacity);
+    for (Geometry g : geoms) {
+      t.insert(g.getEnvelopeInternal(), g);
+    }
+    return t;
+  }
+  
+  private double[] sortedDistances(List<Geometry> geoms, Geometry q) {
+    double[] dist = new double[geoms.size()];
+    for (int i = 0; i < dist.length; i++) {
+      dist[i] = geoms.get(i).distance(q);
+    }
+    Arrays.sort(dist);
+    return dist;
+  }
+  
+  private List<Geometry> randomLines(int nItems) {
+    Random rnd = new Random(42);
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < nItems; i++) {
+      double x = 100 * rnd.nextDouble();
+      double y = 100 * rnd.nextDouble();
+      geoms.add(factory.createLineString(new Coordinate[] {
+          new Coordinate(x, y), 
+          new Coordinate(x + 5 * rnd.nextDouble(), y + 5 * rnd.nextDouble()) }));
+    }
+    return geoms;
+  }
 
 }
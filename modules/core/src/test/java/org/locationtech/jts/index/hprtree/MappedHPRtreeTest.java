@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.util.IntArrayList;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+public class MappedHPRtreeTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(MappedHPRtreeTest.class);
+  }
+
+  public MappedHPRtreeTest(String name) {
+    super(name);
+  }
+
+  public void testEmpty() throws IOException {
+    MappedHPRtree mapped = new MappedHPRtree(toBuffer(new HPRtree()));
+    assertEquals(0, mapped.size());
+    assertTrue(mapped.getExtent().isNull());
+    assertTrue(mapped.query(new Envelope(0, 10, 0, 10)).isEmpty());
+  }
+  
+  public void testSmall() throws IOException {
+    checkQueries(createTree(10, 16));
+  }
+  
+  public void testQueries() throws IOException {
+    checkQueries(createTree(1000, 16));
+    checkQueries(createTree(1000, 4));
+    checkQueries(createTree(1000, 2));
+  }
+
+  public void testSegments() throws IOException {
+    HPRtree tree = createTree(1000, 8);
+    ByteBuffer buf = toBuffer(tree);
+    // split into segments of 256 bytes
+    int shift = 8;
+    int numSegments = (buf.limit() + 255) >> shift;
+    ByteBuffer[] segments = new ByteBuffer[numSegments];
+    for (int i = 0; i < numSegments; i++) {
+      ByteBuffer seg = buf.duplicate();
+      seg.position(i << shift);
+      seg.limit(Math.min(buf.limit(), (i + 1) << shift));
+      segments[i] = seg.slice();
+    }
+    checkQueries(tree, new MappedHPRtree(segments, shift));
+  }
+  
+  public void testFile() throws IOException {
+    HPRtree tree = createTree(1000, 16);
+    File file = File.createTempFile("hprtree", ".bin");
+    try {
+      MappedHPRtree.write(tree, file);
+      checkQueries(tree, MappedHPRtree.open(file));
+    }
+    finally {
+      file.delete();
+    }
+  }
+  
+  public void testNonIntegerItems() throws IOException {
+    HPRtree tree = new HPRtree();
+    tree.insert(new Envelope(0, 1, 0, 1), "a");
+    try {
+      toBuffer(tree);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  public void testNonIntegerItemsWriteNothing() throws IOException {
+    HPRtree tree = createTree(100000, 16);
+    tree.insert(new Envelope(0, 1, 0, 1), "a");
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    try {
+      MappedHPRtree.write(tree, Channels.newChannel(os));
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      // expected
+    }
+    assertEquals(0, os.size());
+  }
+
+  public void testInvalidBuffer() {
+    try {
+      new MappedHPRtree(ByteBuffer.allocate(64));
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  private void checkQueries(HPRtree tree) throws IOException {
+    checkQueries(tree, new MappedHPRtree(toBuffer(tree)));
+  }
+  
+  private void checkQueries(HPRtree tree, MappedHPRtree mapped) {
+    assertEquals(tree.size(), mapped.size());
+    Random rnd = new Random(17);
+    for (int i = 0; i < 100; i++) {
+      double x = 100 * rnd.nextDouble();
+      double y = 100 * rnd.nextDouble();
+      double size = 20 * rnd.nextDouble();
+      Envelope env = new Envelope(x, x + size, y, y + size);
+      
+      List<Integer> expected = new ArrayList<Integer>();
+      for (Object item : tree.query(env)) {
+        expected.add((Integer) item);
+      }
+      List<Integer> actual = mapped.query(env);
+      Collections.sort(expected);
+      Collections.sort(actual);
+      assertEquals(expected, actual);
+      
+      IntArrayList ids = new IntArrayList();
+      mapped.query(env, ids);
+      assertEquals(expected.size(), ids.size());
+    }
+  }
+  
+  private static HPRtree createTree(int nItems, int nodeCapacity) {
+    HPRtree tree = new HPRtree(nodeCapacity);
+    Random rnd = new Random(42);
+    for (int i = 0; i < nItems; i++) {
+      double x = 100 * rnd.nextDouble();
+      double y = 100 * rnd.nextDouble();
+      tree.insert(new Envelope(x, x + rnd.nextDouble(), y, y + rnd.nextDouble()), i);
+    }
+    return tree;
+  }
+  
+  private static ByteBuffer toBuffer(HPRtree tree) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    MappedHPRtree.write(tree, Channels.newChannel(os));
+    return ByteBuffer.wrap(os.toByteArray());
+  }
+}
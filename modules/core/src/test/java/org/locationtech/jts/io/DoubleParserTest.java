@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests {@link DoubleParser}.
+ */
+public class DoubleParserTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(DoubleParserTest.class);
+  }
+
+  public DoubleParserTest(String name) {
+    super(name);
+  }
+
+  public void testExact() {
+    checkExact("0", 0.0);
+    checkExact("-0", -0.0);
+    checkExact("+12.5", 12.5);
+    checkExact(".5", 0.5);
+    checkExact("5.", 5.0);
+    checkExact("-1.25e-2", -0.0125);
+    checkExact("1e22", 1e22);
+  }
+
+  public void testNotExact() {
+    checkNotExact("1e23");
+    checkNotExact("123456789012345678901234567890");
+    checkNotExact("0x1p3");
+    checkNotExact("1e");
+    checkNotExact(".");
+  }
+
+  public void testFallback() {
+    assertEquals(1e23, parse("1e23", '.'));
+    assertEquals(Double.POSITIVE_INFINITY, parse("Infinity", '.'));
+    try {
+      parse("1x", '.');
+      fail();
+    }
+    catch (NumberFormatException ex) {
+      // expected
+    }
+  }
+
+  public void testDecimalSeparator() {
+    assertEquals(1.5, parse("1,5", ','));
+    assertEquals(1.5e-30, parse("1,5e-30", ','));
+  }
+
+  public void testRange() {
+    char[] t = "POINT(12.25 3)".toCharArray();
+    assertEquals(12.25, DoubleParser.parseExact(t, 6, 11, '.'));
+    assertEquals(3.0, DoubleParser.parseExact(t, 12, 13, '.'));
+  }
+
+  private static double parse(String num, char decimal) {
+    return DoubleParser.parse(num.toCharArray(), 0, num.length(), decimal);
+  }
+
+  private void checkExact(String num, double expected) {
+    double actual = DoubleParser.parseExact(num.toCharArray(), 0, num.length(), '.');
+    assertEquals(num, Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(actual));
+  }
+
+  private void checkNotExact(String num) {
+    assertTrue(num, Double.isNaN(DoubleParser.parseExact(num.toCharArray(), 0, num.length(), '.')));
+  }
+}
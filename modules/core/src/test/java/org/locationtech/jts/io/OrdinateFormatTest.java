@@ -1,6 +1,11 @@
 package org.locationtech.jts.io;
 
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
 import java.util.Locale;
+import java.util.Random;
 
 import junit.framework.TestCase;
 import junit.textui.TestRunner;
@@ -62,6 +67,88 @@ public class OrdinateFormatTest extends TestCase {
     checkFormat(Double.NEGATIVE_INFINITY, "-Inf");
   }
 
+  public void testZero() {
+    checkFormat(0.0, "0");
+    checkFormat(-0.0, "-0");
+    checkFormat(-0.0001, 2, "-0");
+  }
+
+  public void testRoundHalfEven() {
+    checkFormat(0.5, 0, "0");
+    checkFormat(1.5, 0, "2");
+    checkFormat(2.5, 0, "2");
+    checkFormat(0.125, 2, "0.12");
+    checkFormat(0.375, 2, "0.38");
+    // exact value of 1.005 is less than the tie
+    checkFormat(1.005, 2, "1");
+    checkFormat(9.9999, 3, "10");
+  }
+
+  public void testExtremeValues() {
+    checkRoundTrip(Double.MAX_VALUE);
+    checkRoundTrip(Double.MIN_VALUE);
+    checkRoundTrip(Double.MIN_NORMAL);
+    checkRoundTrip(1e-300);
+    checkFormat(1e22, "10000000000000000000000");
+  }
+
+  public void testShortestRoundTrip() {
+    Random rnd = new Random(1234);
+    for (int i = 0; i < 100000; i++) {
+      double d = Double.longBitsToDouble(rnd.nextLong());
+      if (Double.isNaN(d) || Double.isInfinite(d))
+        continue;
+      String actual = checkRoundTrip(d);
+      // same digits as Double.toString, which is shortest for these values
+      double mag = Math.abs(d);
+      if (mag >= 1e-3 && mag < 1e7) {
+        assertEquals(Double.toString(d).replaceAll("\\.0$", ""), actual);
+      }
+    }
+  }
+
+  /**
+   * Checks output is the same as {@link DecimalFormat}.
+   * Values are chosen to avoid the cases where the JDK
+   * does not produce the shortest number of digits (JDK-4511638).
+   */
+  public void testMatchesDecimalFormat() {
+    Random rnd = new Random(1234);
+    int[] fractionDigits = { 0, 2, 6, 9, 16, OrdinateFormat.MAX_FRACTION_DIGITS };
+    for (int fd : fractionDigits) {
+      DecimalFormat decFormat = (DecimalFormat) NumberFormat.getInstance(Locale.US);
+      decFormat.applyPattern("0");
+      decFormat.setMaximumFractionDigits(fd);
+      OrdinateFormat format = OrdinateFormat.create(fd);
+      for (int i = 0; i < 20000; i++) {
+        double d = (rnd.nextDouble() - 0.5) * Math.pow(10, rnd.nextInt(20) - 10);
+        if (i % 2 == 0)
+          d = Math.round(d * 1e4) / 1e4;
+        assertEquals(decFormat.format(d), format.format(d));
+      }
+    }
+  }
+
+  public void testAppend() throws IOException {
+    StringBuilder sb = new StringBuilder("x=");
+    assertSame(sb, OrdinateFormat.DEFAULT.format(1.25, sb));
+    assertEquals("x=1.25", sb.toString());
+
+    CharBuffer buf = CharBuffer.allocate(32);
+    OrdinateFormat.DEFAULT.format(-12.5, buf);
+    buf.append(' ');
+    OrdinateFormat.DEFAULT.format(Double.NaN, buf);
+    buf.flip();
+    assertEquals("-12.5 NaN", buf.toString());
+  }
+
+  private String checkRoundTrip(double d) {
+    String actual = OrdinateFormat.DEFAULT.format(d);
+    assertTrue(actual.indexOf('E') < 0);
+    assertEquals(actual, d, Double.parseDouble(actual));
+    return actual;
+  }
+
   private void checkFormat(double d, String expected) {
     String actual = OrdinateFormat.DEFAULT.format(d);
     assertEquals(expected, actual);
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests for {@link ParallelWKTFileReader} and {@link ParallelWKBHexFileReader}.
+ */
+public class ParallelFileReaderTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(ParallelFileReaderTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private WKTReader rdr = new WKTReader(geomFact);
+  private ForkJoinPool pool = new ForkJoinPool(4);
+
+  private static final String[] WKT = new String[] {
+      "POINT (1 2)",
+      "LINESTRING Z (1 2 3, 10 20 30)",
+      "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (1 1, 2 1, 2 2, 1 1))",
+      "MULTIPOINT ((1 1), (2 2))",
+      "POINT EMPTY",
+      "MULTILINESTRING ((1 1, 2 2), (3 3, 4 4, 5 5))",
+      "MULTIPOLYGON (((0 0, 10 0, 10 10, 0 0)), ((20 20, 30 20, 30 30, 20 20)))",
+      "GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (1 1, 2 2), POLYGON EMPTY)",
+      "GEOMETRYCOLLECTION EMPTY",
+      "LINESTRING EMPTY"
+  };
+
+  public ParallelFileReaderTest(String name) {
+    super(name);
+  }
+
+  protected void tearDown() {
+    pool.shutdown();
+  }
+
+  public void testWKT() throws Exception {
+    String text = wktText(WKT, 20, "\n");
+    for (int chunkSize = 1; chunkSize < 300; chunkSize += 37) {
+      checkWKT(text, chunkSize);
+    }
+    checkWKT(text, ParallelFileReader.DEFAULT_CHUNK_SIZE);
+  }
+
+  public void testWKTMultiline() throws Exception {
+    String text = "POINT\n(1 2)\n\nPOLYGON ((0 0, 10 0,\n 10 10, 0 0))\r\n  POINT\n EMPTY\tLINESTRING(1 1,\n2 2)";
+    for (int chunkSize = 1; chunkSize < 20; chunkSize++) {
+      checkWKT(text, chunkSize);
+    }
+  }
+
+  public void testWKTEmptyWords() throws Exception {
+    // words similar to EMPTY must not be taken as the end of a record
+    String text = "POINT EMPTY POINT EMPTY\nPOINT (1 1) GEOMETRYCOLLECTION (POINT EMPTY, POINT (2 2))";
+    for (int chunkSize = 1; chunkSize < 20; chunkSize++) {
+      checkWKT(text, chunkSize);
+    }
+  }
+
+  public void testWKTUnordered() throws Exception {
+    String text = wktText(WKT, 50, " ");
+    ParallelWKTFileReader reader = wktReader(text, 64);
+    reader.setOrdered(false);
+    checkEqualUnordered(readWKT(text), reader.readAll());
+  }
+
+  public void testWKTLimitOffset() throws Exception {
+    String text = wktText(WKT, 10, "\n");
+    List<Geometry> expected = readWKT(text);
+    ParallelWKTFileReader reader = wktReader(text, 50);
+    reader.setOffset(7);
+    reader.setLimit(40);
+    checkEqual(expected.subList(7, 47), reader.readAll());
+    assertEquals(40, reader.getCount());
+    assertNull(reader.read());
+  }
+
+  public void testWKTParseError() throws Exception {
+    String text = wktText(WKT, 10, "\n") + "\nPOINT (1 X)\n" + wktText(WKT, 10, "\n");
+    ParallelWKTFileReader reader = wktReader(text, 100);
+    try {
+      reader.readAll();
+      fail();
+    }
+    catch (ParseException expected) {
+    }
+    reader.close();
+  }
+
+  public void testWKTParseErrorThrowable() throws Exception {
+    checkParseErrorThrowable(true);
+    checkParseErrorThrowable(false);
+  }
+
+  private void checkParseErrorThrowable(boolean isOrdered) throws Exception {
+    String text = wktText(WKT, 10, "\n") + "\nPOINT (1 X)\n" + wktText(WKT, 10, "\n");
+    // simulates an error such as StackOverflowError on deeply nested WKT
+    ParallelWKTFileReader reader = new ParallelWKTFileReader(
+        new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), geomFact, pool) {
+      List<Geometry> parse(byte[] chunk, GeometryFactory factory) throws ParseException {
+        if (new String(chunk, StandardCharsets.UTF_8).contains("X"))
+          throw new StackOverflowError();
+        return super.parse(chunk, factory);
+      }
+    };
+    reader.setChunkSize(100);
+    reader.setOrdered(isOrdered);
+    try {
+      reader.readAll();
+      fail();
+    }
+    catch (StackOverflowError expected) {
+    }
+    reader.close();
+  }
+
+  public void testWKTFile() throws Exception {
+    String text = wktText(WKT, 100, "\n");
+    File file = writeTempFile(text);
+    try {
+      ParallelWKTFileReader reader = new ParallelWKTFileReader(file, geomFact, pool);
+      reader.setChunkSize(256);
+      List<Geometry> actual = reader.readAll();
+      reader.close();
+      checkEqual(geometries(new WKTFileReader(file, rdr).read()), actual);
+    }
+    finally {
+      file.delete();
+    }
+  }
+
+  public void testWKTIterator() throws Exception {
+    String text = wktText(WKT, 3, "\n");
+    Iterator<Geometry> it = wktReader(text, 10).iterator();
+    List<Geometry> actual = new ArrayList<Geometry>();
+    while (it.hasNext()) {
+      actual.add(it.next());
+    }
+    checkEqual(readWKT(text), actual);
+  }
+
+  public void testWKTBackpressure() throws Exception {
+    String text = wktText(WKT, 200, "\n");
+    ParallelWKTFileReader reader = wktReader(text, 10);
+    reader.setMaxChunksInFlight(1);
+    checkEqual(readWKT(text), reader.readAll());
+  }
+
+  public void testWKBHex() throws Exception {
+    String text = hexText(WKT, 20);
+    List<Geometry> expected = readWKBHex(text);
+    for (int chunkSize = 1; chunkSize < 1000; chunkSize += 97) {
+      ParallelWKBHexFileReader reader = hexReader(text, chunkSize);
+      checkEqual(expected, reader.readAll());
+      reader.close();
+    }
+  }
+
+  public void testWKBHexBlankLines() throws Exception {
+    String text = "\n  0101000000000000000000F03F0000000000000040  \r\n\n\n"
+        + "0101000000000000000000084000000000000010C0";
+    List<Geometry> actual = hexReader(text, 1).readAll();
+    assertEquals(2, actual.size());
+    checkEqual(readWKBHex(text), actual);
+  }
+
+  public void testWKBHexUnordered() throws Exception {
+    String text = hexText(WKT, 50);
+    ParallelWKBHexFileReader reader = hexReader(text, 100);
+    reader.setOrdered(false);
+    checkEqualUnordered(readWKBHex(text), reader.readAll());
+  }
+
+  public void testWKBHexLimitOffset() throws Exception {
+    String text = hexText(WKT, 10);
+    ParallelWKBHexFileReader reader = hexReader(text, 100);
+    reader.setOffset(95);
+    reader.setLimit(10);
+    checkEqual(readWKBHex(text).subList(95, 100), reader.readAll());
+    assertEquals(5, reader.getCount());
+  }
+
+  public void testWKBHexParseError() throws Exception {
+    String text = hexText(WKT, 10) + "01010000G0\n" + hexText(WKT, 10);
+    ParallelWKBHexFileReader reader = hexReader(text, 100);
+    try {
+      reader.readAll();
+      fail();
+    }
+    catch (ParseException expected) {
+    }
+    reader.close();
+  }
+
+  private void checkWKT(String text, int chunkSize) throws Exception {
+    ParallelWKTFileReader reader = wktReader(text, chunkSize);
+    checkEqual(readWKT(text), reader.readAll());
+    reader.close();
+  }
+
+  private ParallelWKTFileReader wktReader(String text, int chunkSize) {
+    ParallelWKTFileReader reader = new ParallelWKTFileReader(
+        new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), geomFact, pool);
+    reader.setChunkSize(chunkSize);
+    return reader;
+  }
+
+  private ParallelWKBHexFileReader hexReader(String text, int chunkSize) {
+    ParallelWKBHexFileReader reader = new ParallelWKBHexFileReader(
+        new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), geomFact, pool);
+    reader.setChunkSize(chunkSize);
+    return reader;
+  }
+
+  private List<Geometry> readWKT(String text) throws IOException, ParseException {
+    return geometries(new WKTFileReader(new StringReader(text), rdr).read());
+  }
+
+  private List<Geometry> readWKBHex(String text) throws IOException, ParseException {
+    return geometries(new WKBHexFileReader(new StringReader(text), new WKBReader(geomFact)).read());
+  }
+
+  private static List<Geometry> geometries(List<?> items) {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (Object item : items) {
+      geoms.add((Geometry) item);
+    }
+    return geoms;
+  }
+
+  private static String wktText(String[] wkt, int repeat, String separator) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < repeat; i++) {
+      for (String w : wkt) {
+        sb.append(w).append(separator);
+      }
+    }
+    return sb.toString();
+  }
+
+  private String hexText(String[] wkt, int repeat) throws ParseException {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < repeat; i++) {
+      for (String w : wkt) {
+        Geometry geom = rdr.read(w);
+        int dim = geom.getCoordinate() != null && ! Double.isNaN(geom.getCoordinate().getZ()) ? 3 : 2;
+        sb.append(WKBWriter.toHex(new WKBWriter(dim).write(geom))).append("\n");
+      }
+    }
+    return sb.toString();
+  }
+
+  private static File writeTempFile(String text) throws IOException {
+    File file = File.createTempFile("jts-parallel", ".wkt");
+    OutputStream os = new FileOutputStream(file);
+    try {
+      os.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+    finally {
+      os.close();
+    }
+    return file;
+  }
+
+  private static void checkEqual(List<Geometry> expected, List<Geometry> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertTrue("geometry " + i, expected.get(i).equalsExact(actual.get(i)));
+    }
+  }
+
+  private static void checkEqualUnordered(List<Geometry> expected, List<Geometry> actual) {
+    Comparator<Geometry> cmp = new Comparator<Geometry>() {
+      public int compare(Geometry g1, Geometry g2) {
+        return g1.toText().compareTo(g2.toText());
+      }
+    };
+    List<Geometry> sortedExpected = new ArrayList<Geometry>(expected);
+    List<Geometry> sortedActual = new ArrayList<Geometry>(actual);
+    Collections.sort(sortedExpected, cmp);
+    Collections.sort(sortedActual, cmp);
+    checkEqual(sortedExpected, sortedActual);
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceComparator;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.ByteBufferCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests for {@link WKBGeometryView}.
+ * 
+ */
+public class WKBGeometryViewTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(WKBGeometryViewTest.class);
+  }
+
+  private WKTReader rdr = new WKTReader(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+
+  public WKBGeometryViewTest(String name) {
+    super(name);
+  }
+
+  public void testPoint() throws ParseException {
+    checkView("POINT (1 2)");
+    checkView("POINT Z (1 2 3)");
+    checkView("POINT EMPTY");
+  }
+
+  public void testLineString() throws ParseException {
+    checkView("LINESTRING (1 2, 10 20, 5 -3)");
+    checkView("LINESTRING Z (1 2 3, 10 20 30)");
+    checkView("LINESTRING EMPTY");
+  }
+
+  public void testPolygon() throws ParseException {
+    checkView("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (1 1, 2 1, 2 2, 1 1))");
+    checkView("POLYGON Z ((0 0 1, 10 0 1, 10 10 1, 0 0 1))");
+    checkView("POLYGON EMPTY");
+  }
+
+  public void testMulti() throws ParseException {
+    checkView("MULTIPOINT ((1 1), (-2 5))");
+    checkView("MULTILINESTRING ((1 1, 2 2), (3 3, 4 4, 5 0))");
+    checkView("MULTIPOLYGON (((0 0, 10 0, 10 10, 0 0)), ((20 20, 30 20, 30 30, 20 20)))");
+    checkView("GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (2 2, 3 3), POLYGON EMPTY, POINT EMPTY)");
+    checkView("GEOMETRYCOLLECTION EMPTY");
+  }
+
+  public void testSRID() throws ParseException {
+    Geometry g = rdr.read("MULTIPOINT ((1 1), (-2 5))");
+    g.setSRID(4326);
+    byte[] wkb = new WKBWriter(2, true).write(g);
+    WKBGeometryView view = new WKBGeometryView(wkb);
+    assertEquals(4326, view.getSRID());
+    assertEquals(4326, view.getGeometry().getSRID());
+    assertEquals(4326, view.getGeometry().getGeometryN(1).getSRID());
+  }
+
+  public void testSpatialiteMultiGeometry() throws ParseException {
+    checkViewHex("0104000000020000006901000000000000000000F03F000000000000F03F690100000000000000000000400000000000000040",
+        "MULTIPOINT ((1 1), (2 2))");
+  }
+
+  public void testRepairShortGeometries() throws ParseException {
+    checkRepair("0000000003000000010000000140590000000000004069000000000000", 
+        "POLYGON ((100 200, 100 200, 100 200, 100 200))");
+    checkRepair("00000000020000000140590000000000004069000000000000", 
+        "LINESTRING (100 200, 100 200)");
+  }
+  
+  public void testISOTypeCodes() throws ParseException {
+    // LineString Z in ISO format
+    checkViewHex("01EA0300000200000000000000000000000000000000000000000000000000004000000000000008400000000000001040000000000000F03F", 
+        "LINESTRING Z (0 0 2, 3 4 1)");
+    // Point M and Point ZM in ISO format
+    checkViewHex("01D1070000000000000000F03F00000000000000400000000000000840", 
+        "POINT M (1 2 3)");
+    checkViewHex("01B90B0000000000000000F03F000000000000004000000000000008400000000000001040", 
+        "POINT ZM (1 2 3 4)");
+  }
+  
+  public void testNonFloatingPrecision() throws ParseException {
+    byte[] wkb = new WKBWriter().write(rdr.read("LINESTRING (1.1 2.6, 3.3 4.4)"));
+    GeometryFactory fixedFactory = new GeometryFactory(new PrecisionModel(1));
+    WKBGeometryView view = new WKBGeometryView(ByteBuffer.wrap(wkb), fixedFactory);
+    assertTrue(view.getGeometry().equalsExact(rdr.read("LINESTRING (1 3, 3 4)")));
+  }
+  
+  public void testOffsetInBuffer() throws ParseException {
+    byte[] wkb = new WKBWriter().write(rdr.read("LINESTRING (1 2, 3 4)"));
+    ByteBuffer buf = ByteBuffer.allocate(wkb.length + 10);
+    buf.position(7);
+    buf.put(wkb);
+    buf.position(7);
+    WKBGeometryView view = new WKBGeometryView(buf);
+    assertEquals(7, buf.position());
+    assertEquals(wkb.length, view.getWKBLength());
+    assertTrue(view.getGeometry().equalsExact(rdr.read("LINESTRING (1 2, 3 4)")));
+  }
+  
+  public void testZeroCopy() throws ParseException {
+    byte[] wkb = new WKBWriter().write(rdr.read("LINESTRING (1 2, 3 4)"));
+    WKBGeometryView view = new WKBGeometryView(wkb);
+    LineString line = (LineString) view.getGeometry();
+    assertTrue(line.getCoordinateSequence() instanceof ByteBufferCoordinateSequence);
+    // a copy is independent of the WKB
+    Geometry copy = line.copy();
+    copy.getCoordinates()[0].x = 100;
+    line.getCoordinateSequence().setOrdinate(0, 0, 10);
+    assertEquals(10.0, line.getCoordinateN(0).x);
+    assertEquals(1.0, ((LineString) copy).getCoordinateSequence().getX(0));
+  }
+  
+  public void testMutateViewGeometry() throws ParseException {
+    Geometry g = rdr.read("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (1 1, 2 1, 2 2, 1 1))");
+    byte[] wkb = new WKBWriter().write(g);
+    byte[] original = wkb.clone();
+    Geometry view = new WKBGeometryView(wkb).getGeometry();
+    view.apply(new CoordinateSequenceFilter() {
+      public void filter(CoordinateSequence seq, int i) {
+        seq.setOrdinate(i, CoordinateSequence.X, seq.getX(i) + 100);
+      }
+      public boolean isDone() { return false; }
+      public boolean isGeometryChanged() { return true; }
+    });
+    assertEquals(100.0, view.getEnvelopeInternal().getMinX());
+    assertTrue(Arrays.equals(original, wkb));
+    assertTrue(new WKBGeometryView(wkb).getGeometry().equalsExact(g));
+  }
+  
+  public void testTruncated() throws ParseException {
+    byte[] wkb = new WKBWriter().write(rdr.read("LINESTRING (1 2, 3 4)"));
+    byte[] truncated = new byte[wkb.length - 4];
+    System.arraycopy(wkb, 0, truncated, 0, truncated.length);
+    WKBGeometryView view = new WKBGeometryView(truncated);
+    assertEquals(Geometry.TYPENAME_LINESTRING, view.getGeometryType());
+    try {
+      view.getEnvelopeInternal();
+      fail();
+    }
+    catch (ParseException e) {
+      // expected
+    }
+    try {
+      view.getGeometry();
+      fail();
+    }
+    catch (ParseException e) {
+      // expected
+    }
+  }
+  
+  public void testInvalidType() {
+    try {
+      new WKBGeometryView(WKBReader.hexToBytes("000000000900000000"));
+      fail();
+    }
+    catch (ParseException e) {
+      // expected
+    }
+  }
+
+  private void checkView(String wkt) throws ParseException {
+    Geometry g = rdr.read(wkt);
+    int dim = 2 + (wkt.contains(" Z") ? 1 : 0) + (wkt.contains("M ") ? 1 : 0);
+    checkView(new WKBWriter(dim, ByteOrderValues.BIG_ENDIAN).write(g), g, dim);
+    checkView(new WKBWriter(dim, ByteOrderValues.LITTLE_ENDIAN).write(g), g, dim);
+  }
+
+  private void checkViewHex(String wkbHex, String expectedWKT) throws ParseException {
+    byte[] wkb = WKBReader.hexToBytes(wkbHex);
+    int dim = 2 + (expectedWKT.contains(" Z") ? 1 : 0) + (expectedWKT.contains("M ") ? 1 : 0);
+    checkView(wkb, rdr.read(expectedWKT), dim);
+  }
+  
+  private void checkRepair(String wkbHex, String expectedWKT) throws ParseException {
+    WKBGeometryView view = new WKBGeometryView(WKBReader.hexToBytes(wkbHex));
+    // the number of points in the WKB
+    assertEquals(1, view.getNumPoints());
+    assertTrue(view.getGeometry().equalsExact(rdr.read(expectedWKT)));
+  }
+  
+  private void checkView(byte[] wkb, Geometry expected, int dim) throws ParseException {
+    WKBGeometryView view = new WKBGeometryView(wkb);
+    assertEquals(expected.getGeometryType(), view.getGeometryType());
+    assertEquals(expected.getNumPoints(), view.getNumPoints());
+    assertEquals(expected.isEmpty(), view.isEmpty());
+    assertEquals(expected.getEnvelopeInternal(), view.getEnvelopeInternal());
+    assertEquals(wkb.length, view.getWKBLength());
+    
+    Geometry g = view.getGeometry();
+    assertEquals(0, expected.compareTo(g, new CoordinateSequenceComparator(dim)));
+    assertEquals(new WKBReader().read(wkb).getSRID(), g.getSRID());
+  }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests for {@link WKBStreamReader}.
+ */
+public class WKBStreamReaderTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(WKBStreamReaderTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private WKTReader rdr = new WKTReader(geomFact);
+
+  private static final String[] WKT = new String[] {
+      "POINT (1 2)",
+      "LINESTRING Z (1 2 3, 10 20 30)",
+      "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (1 1, 2 1, 2 2, 1 1))",
+      "MULTIPOINT ((1 1), (2 2))",
+      "MULTILINESTRING ((1 1, 2 2), (3 3, 4 4, 5 5))",
+      "MULTIPOLYGON (((0 0, 10 0, 10 10, 0 0)), ((20 20, 30 20, 30 30, 20 20)))",
+      "GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (1 1, 2 2), POLYGON EMPTY)",
+      "POINT EMPTY",
+      "LINESTRING EMPTY"
+  };
+
+  public WKBStreamReaderTest(String name) {
+    super(name);
+  }
+
+  public void testConcatenatedInputStream() throws Exception {
+    List<Geometry> geoms = readWKT(WKT);
+    byte[] bytes = concat(geoms, false, ByteOrderValues.BIG_ENDIAN);
+    WKBStreamReader reader = new WKBStreamReader(new ByteArrayInputStream(bytes), geomFact);
+    checkEqual(geoms, readAll(reader));
+    assertEquals(geoms.size(), reader.getCount());
+  }
+
+  public void testConcatenatedByteBuffer() throws Exception {
+    List<Geometry> geoms = readWKT(WKT);
+    byte[] bytes = concat(geoms, false, ByteOrderValues.BIG_ENDIAN);
+    ByteBuffer buf = ByteBuffer.wrap(bytes);
+    checkEqual(geoms, readAll(new WKBStreamReader(buf, geomFact)));
+    assertEquals(0, buf.position());
+  }
+
+  public void testLengthPrefixed() throws Exception {
+    List<Geometry> geoms = readWKT(WKT);
+    byte[] bytes = concat(geoms, true, ByteOrderValues.LITTLE_ENDIAN);
+    WKBStreamReader reader = new WKBStreamReader(new ByteArrayInputStream(bytes), geomFact);
+    reader.setLengthPrefixed(true);
+    reader.setPrefixByteOrder(ByteOrderValues.LITTLE_ENDIAN);
+    checkEqual(geoms, readAll(reader));
+  }
+
+  public void testMixedFormats() throws Exception {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    // little-endian EWKB with SRID
+    os.write(WKBReader.hexToBytes("0101000020E6100000000000000000F03F0000000000000040"));
+    // ISO WKB point ZM
+    os.write(WKBReader.hexToBytes("0000000BB93FF0000000000000400000000000000040080000000000004010000000000000"));
+    // big-endian EWKB line with Z
+    os.write(WKBReader.hexToBytes("008000000200000002000000000000000000000000000000000000000000000000400000000000000040000000000000004000000000000000"));
+    List<Geometry> geoms = readAll(new WKBStreamReader(new ByteArrayInputStream(os.toByteArray()), geomFact));
+    assertEquals(3, geoms.size());
+    assertEquals(4326, geoms.get(0).getSRID());
+    assertTrue(geoms.get(0).equalsExact(rdr.read("POINT (1 2)")));
+    assertEquals(3.0, geoms.get(1).getCoordinate().getZ());
+    assertEquals(2.0, geoms.get(2).getCoordinates()[1].getZ());
+  }
+
+  public void testSmallChunks() throws Exception {
+    List<Geometry> geoms = readWKT(WKT);
+    byte[] bytes = concat(geoms, false, ByteOrderValues.LITTLE_ENDIAN);
+    WKBStreamReader reader = new WKBStreamReader(new ChunkedChannel(bytes, 3), geomFact);
+    checkEqual(geoms, readAll(reader));
+  }
+
+  public void testLargeRecord() throws Exception {
+    // larger than the initial buffer size
+    Coordinate[] pts = new Coordinate[20000];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(i, i % 7);
+    }
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    geoms.add(rdr.read("POINT (1 1)"));
+    geoms.add(geomFact.createLineString(pts));
+    geoms.add(rdr.read("POINT (2 2)"));
+    byte[] bytes = concat(geoms, false, ByteOrderValues.BIG_ENDIAN);
+    checkEqual(geoms, readAll(new WKBStreamReader(new ChunkedChannel(bytes, 1000), geomFact)));
+  }
+
+  public void testIterator() throws Exception {
+    List<Geometry> geoms = readWKT(WKT);
+    byte[] bytes = concat(geoms, false, ByteOrderValues.BIG_ENDIAN);
+    Iterator<Geometry> it = new WKBStreamReader(ByteBuffer.wrap(bytes), geomFact).iterator();
+    List<Geometry> result = new ArrayList<Geometry>();
+    while (it.hasNext()) {
+      result.add(it.next());
+    }
+    assertFalse(it.hasNext());
+    checkEqual(geoms, result);
+  }
+
+  public void testParallelStream() throws Exception {
+    checkParallel(true, false);
+    checkParallel(false, false);
+    checkParallel(true, true);
+    checkParallel(false, true);
+  }
+
+  public void testReadRecordView() throws Exception {
+    List<Geometry> geoms = readWKT(WKT);
+    byte[] bytes = concat(geoms, false, ByteOrderValues.BIG_ENDIAN);
+    WKBStreamReader reader = new WKBStreamReader(new ByteArrayInputStream(bytes), geomFact);
+    for (Geometry geom : geoms) {
+      ByteBuffer rec = reader.readRecord();
+      WKBGeometryView view = new WKBGeometryView(rec);
+      assertEquals(geom.getGeometryType(), view.getGeometryType());
+      assertEquals(geom.getEnvelopeInternal(), view.getEnvelopeInternal());
+      assertEquals(rec.remaining(), view.getWKBLength());
+    }
+    assertNull(reader.readRecord());
+  }
+
+  public void testTruncated() throws Exception {
+    List<Geometry> geoms = readWKT(WKT);
+    byte[] bytes = concat(geoms, false, ByteOrderValues.BIG_ENDIAN);
+    byte[] trunc = new byte[bytes.length - 5];
+    System.arraycopy(bytes, 0, trunc, 0, trunc.length);
+    checkParseError(new WKBStreamReader(new ByteArrayInputStream(trunc), geomFact));
+    checkParseError(new WKBStreamReader(ByteBuffer.wrap(trunc), geomFact));
+  }
+
+  public void testInvalidType() throws Exception {
+    byte[] bytes = WKBReader.hexToBytes("0109000000000000000000F03F0000000000000040");
+    checkParseError(new WKBStreamReader(ByteBuffer.wrap(bytes), geomFact));
+  }
+
+  public void testNonBlockingChannel() throws Exception {
+    Pipe pipe = Pipe.open();
+    try {
+      pipe.source().configureBlocking(false);
+      new WKBStreamReader(pipe.source(), geomFact);
+      fail();
+    }
+    catch (IllegalArgumentException expected) {
+    }
+    finally {
+      pipe.source().close();
+      pipe.sink().close();
+    }
+  }
+
+  public void testChannelSwitchedToNonBlocking() throws Exception {
+    Pipe pipe = Pipe.open();
+    try {
+      WKBStreamReader reader = new WKBStreamReader(pipe.source(), geomFact);
+      pipe.source().configureBlocking(false);
+      reader.read();
+      fail();
+    }
+    catch (IOException expected) {
+    }
+    finally {
+      pipe.source().close();
+      pipe.sink().close();
+    }
+  }
+
+  private void checkParallel(boolean isStream, boolean isLengthPrefixed) throws Exception {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < 30000; i++) {
+      geoms.add(geomFact.createPoint(new Coordinate(i, -i)));
+      if (i % 100 == 0)
+        geoms.add(rdr.read("LINESTRING (0 0, 1 1, 2 " + i + ")"));
+    }
+    byte[] bytes = concat(geoms, isLengthPrefixed, ByteOrderValues.BIG_ENDIAN);
+    WKBStreamReader reader = isStream
+        ? new WKBStreamReader(new ByteArrayInputStream(bytes), geomFact)
+        : new WKBStreamReader(ByteBuffer.wrap(bytes), geomFact);
+    reader.setLengthPrefixed(isLengthPrefixed);
+    List<Geometry> result = StreamSupport.stream(reader.spliterator(), true)
+        .collect(Collectors.toList());
+    checkEqual(geoms, result);
+  }
+
+  private void checkParseError(WKBStreamReader reader) throws IOException {
+    try {
+      while (reader.read() != null) {
+      }
+      fail("expected ParseException");
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
+  private List<Geometry> readWKT(String[] wkt) throws ParseException {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (String w : wkt) {
+      geoms.add(rdr.read(w));
+    }
+    return geoms;
+  }
+
+  private static byte[] concat(List<Geometry> geoms, boolean isLengthPrefixed, int byteOrder) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    for (Geometry geom : geoms) {
+      int dim = geom.getCoordinate() != null && ! Double.isNaN(geom.getCoordinate().getZ()) ? 3 : 2;
+      byte[] wkb = new WKBWriter(dim, byteOrder).write(geom);
+      if (isLengthPrefixed) {
+        byte[] prefix = new byte[4];
+        ByteOrderValues.putInt(wkb.length, prefix, byteOrder);
+        os.write(prefix);
+      }
+      os.write(wkb);
+    }
+    return os.toByteArray();
+  }
+
+  private static List<Geometry> readAll(WKBStreamReader reader) throws IOException, ParseException {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    Geometry geom;
+    while ((geom = reader.read()) != null) {
+      geoms.add(geom);
+    }
+    reader.close();
+    return geoms;
+  }
+
+  private static void checkEqual(List<Geometry> expected, List<Geometry> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertTrue("geometry " + i, expected.get(i).equalsExact(actual.get(i)));
+    }
+  }
+
+  /**
+   * A channel which returns a limited number of bytes on each read.
+   */
+  private static class ChunkedChannel implements ReadableByteChannel {
+    private byte[] bytes;
+    private int chunkSize;
+    private int pos = 0;
+
+    ChunkedChannel(byte[] bytes, int chunkSize) {
+      this.bytes = bytes;
+      this.chunkSize = chunkSize;
+    }
+
+    public int read(ByteBuffer dst) {
+      if (pos >= bytes.length)
+        return -1;
+      int n = Math.min(Math.min(chunkSize, dst.remaining()), bytes.length - pos);
+      dst.put(bytes, pos, n);
+      pos += n;
+      return n;
+    }
+
+    public boolean isOpen() {
+      return true;
+    }
+
+    public void close() {
+    }
+  }
+}
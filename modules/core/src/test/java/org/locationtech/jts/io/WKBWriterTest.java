@@ -11,10 +11,17 @@
  */
 package org.locationtech.jts.io;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -126,6 +133,87 @@ public class WKBWriterTest extends GeometryTestCase {
         "0107000020E61000000900000001010000000000000000000000000000000000F03F01010000000000000000000000000000000000F03F01010000000000000000000040000000000000084001020000000200000000000000000000400000000000000840000000000000104000000000000014400102000000020000000000000000000000000000000000F03F000000000000004000000000000008400102000000020000000000000000001040000000000000144000000000000018400000000000001C4001030000000200000005000000000000000000000000000000000000000000000000000000000000000000244000000000000024400000000000002440000000000000244000000000000000000000000000000000000000000000000005000000000000000000F03F000000000000F03F000000000000F03F0000000000002240000000000000224000000000000022400000000000002240000000000000F03F000000000000F03F000000000000F03F01030000000200000005000000000000000000000000000000000000000000000000000000000000000000244000000000000024400000000000002440000000000000244000000000000000000000000000000000000000000000000005000000000000000000F03F000000000000F03F000000000000F03F0000000000002240000000000000224000000000000022400000000000002240000000000000F03F000000000000F03F000000000000F03F0103000000010000000500000000000000000022C0000000000000000000000000000022C00000000000002440000000000000F0BF0000000000002440000000000000F0BF000000000000000000000000000022C00000000000000000");
   }
 
+  public void testWriteArrayOffset() {
+    Geometry geom = read("LINESTRING (1 2, 3 4)");
+    WKBWriter writer = new WKBWriter();
+    byte[] expected = writer.write(geom);
+    int len = writer.getWKBLength(geom);
+    assertEquals(expected.length, len);
+
+    byte[] bytes = new byte[len + 10];
+    assertEquals(len, writer.write(geom, bytes, 5));
+    for (int i = 0; i < len; i++) {
+      assertEquals(expected[i], bytes[5 + i]);
+    }
+    assertEquals(0, bytes[4]);
+    assertEquals(0, bytes[5 + len]);
+  }
+
+  public void testWriteDirectBuffer() {
+    Geometry geom = read("MULTIPOINT ((1 2), (3 4))");
+    WKBWriter writer = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN);
+    byte[] expected = writer.write(geom);
+
+    ByteBuffer buf = ByteBuffer.allocateDirect(2 * expected.length);
+    writer.write(geom, buf);
+    writer.write(geom, buf);
+    assertEquals(2 * expected.length, buf.position());
+    // buffer byte order is unchanged
+    assertEquals(ByteOrder.BIG_ENDIAN, buf.order());
+    buf.flip();
+    for (int i = 0; i < 2 * expected.length; i++) {
+      assertEquals(expected[i % expected.length], buf.get());
+    }
+  }
+
+  public void testWriteBufferOverflow() {
+    Geometry geom = read("LINESTRING (1 2, 3 4)");
+    WKBWriter writer = new WKBWriter();
+    ByteBuffer buf = ByteBuffer.allocate(writer.getWKBLength(geom) - 1);
+    try {
+      writer.write(geom, buf);
+      fail("expected BufferOverflowException");
+    }
+    catch (BufferOverflowException ex) {
+      // expected
+    }
+    // nothing is written
+    assertEquals(0, buf.position());
+  }
+
+  public void testWritePackedSequence() throws Exception {
+    String wkt2 = "MULTIPOLYGON(((0 0,0 10,10 10,10 0,0 0)),((-9 0,-9 10,-1 10,-9 0)))";
+    String wkt3 = "MULTIPOLYGON Z(((0 0 1,0 10 2,10 10 3,10 0 4,0 0 1)),((-9 0 1,-9 10 2,-1 10 3,-9 0 1)))";
+    checkPacked(wkt2, 2, ByteOrderValues.BIG_ENDIAN);
+    checkPacked(wkt2, 2, ByteOrderValues.LITTLE_ENDIAN);
+    checkPacked(wkt3, 3, ByteOrderValues.BIG_ENDIAN);
+    checkPacked(wkt3, 3, ByteOrderValues.LITTLE_ENDIAN);
+    // dimension differs from output dimension
+    checkPacked(wkt3, 2, ByteOrderValues.LITTLE_ENDIAN);
+    checkPacked(wkt2, 3, ByteOrderValues.LITTLE_ENDIAN);
+  }
+
+  private void checkPacked(String wkt, int dim, int byteOrder) throws Exception {
+    Geometry geom = read(wkt);
+    Geometry packed = new WKTReader(new GeometryFactory(
+        PackedCoordinateSequenceFactory.DOUBLE_FACTORY)).read(wkt);
+    WKBWriter writer = new WKBWriter(dim, byteOrder);
+    String expected = WKBWriter.toHex(writeOutStream(writer, geom));
+    assertEquals(expected, WKBWriter.toHex(writer.write(packed)));
+    ByteBuffer buf = ByteBuffer.allocateDirect(writer.getWKBLength(packed));
+    writer.write(packed, buf);
+    buf.flip();
+    byte[] bytes = new byte[buf.remaining()];
+    buf.get(bytes);
+    assertEquals(expected, WKBWriter.toHex(bytes));
+  }
+
+  private static byte[] writeOutStream(WKBWriter writer, Geometry geom) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    writer.write(geom, new OutputStreamOutStream(os));
+    return os.toByteArray();
+  }
+
   void checkWKB(String wkt, int dimension, String expectedWKBHex) {
     checkWKB(wkt, dimension, ByteOrderValues.LITTLE_ENDIAN, -1, expectedWKBHex);
   }
@@ -145,5 +233,12 @@ public class WKBWriterTest extends GeometryTestCase {
     String wkbHex = WKBWriter.toHex(wkb);
     
     assertEquals(expectedWKBHex, wkbHex);
+    assertEquals(wkb.length, wkbWriter.getWKBLength(geom));
+    try {
+      assertEquals(expectedWKBHex, WKBWriter.toHex(writeOutStream(wkbWriter, geom)));
+    }
+    catch (IOException ex) {
+      fail(ex.getMessage());
+    }
   }
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.locationtech.jts.geom.Geometry;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests for {@link WKTTokenizer},
+ * and its use by {@link WKTReader}.
+ */
+public class WKTTokenizerTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(WKTTokenizerTest.class);
+  }
+
+  private WKTReader rdr = new WKTReader();
+
+  public WKTTokenizerTest(String name) {
+    super(name);
+  }
+
+  public void testTokens() throws IOException {
+    WKTTokenizer tok = new WKTTokenizer("POINT(1.5 -2e3)");
+    assertEquals(WKTTokenizer.TT_WORD, tok.nextToken());
+    assertEquals("POINT", tok.getWord());
+    assertEquals('(', tok.nextToken());
+    assertEquals(WKTTokenizer.TT_WORD, tok.nextToken());
+    assertEquals("1.5", tok.getWord());
+    tok.pushBack();
+    assertEquals(WKTTokenizer.TT_WORD, tok.nextToken());
+    assertEquals("1.5", tok.getWord());
+    assertEquals(WKTTokenizer.TT_WORD, tok.nextToken());
+    assertEquals("-2e3", tok.getWord());
+    assertEquals(')', tok.nextToken());
+    assertEquals(WKTTokenizer.TT_EOF, tok.nextToken());
+  }
+
+  public void testCommentsAndLines() throws IOException {
+    WKTTokenizer tok = new WKTTokenizer("# comment (\r\nPOINT\r(\n\n  EMPTY #x\n)");
+    assertEquals(WKTTokenizer.TT_WORD, tok.nextToken());
+    assertEquals(2, tok.lineno());
+    assertEquals('(', tok.nextToken());
+    assertEquals(3, tok.lineno());
+    assertEquals(WKTTokenizer.TT_WORD, tok.nextToken());
+    assertTrue(tok.isWord("empty"));
+    assertEquals(5, tok.lineno());
+    assertEquals(')', tok.nextToken());
+    assertEquals(6, tok.lineno());
+  }
+
+  public void testNumbers() throws Exception {
+    checkNumber("0");
+    checkNumber("-0");
+    checkNumber("-0.0");
+    checkNumber("123");
+    checkNumber("+123.25");
+    checkNumber(".5");
+    checkNumber("5.");
+    checkNumber("-.5e-3");
+    checkNumber("0.1");
+    checkNumber("0.000000000000000000000000000001");
+    checkNumber("1.2345678901234567890123");
+    checkNumber("9007199254740993");
+    checkNumber("123456789012345678901234567890");
+    checkNumber("1e22");
+    checkNumber("1e23");
+    checkNumber("1E-22");
+    checkNumber("1e-400");
+    checkNumber("1e400");
+    checkNumber("2.2250738585072014E-308");
+    checkNumber("4.9e-324");
+    checkNumber("1.7976931348623157e308");
+    checkNumber("1d");
+    checkNumber("0x1p3");
+    checkNumber("Infinity");
+    checkNumber("-Infinity");
+    assertTrue(Double.isNaN(readNumber("nan")));
+    assertTrue(Double.isNaN(readNumber("NaN")));
+  }
+
+  public void testRandomNumbers() throws Exception {
+    Random rnd = new Random(1234);
+    for (int i = 0; i < 20000; i++) {
+      double d = (rnd.nextDouble() - 0.5) * Math.pow(10, rnd.nextInt(30) - 15);
+      checkNumber(Double.toString(d));
+      checkNumber(String.format(Locale.ROOT, "%." + rnd.nextInt(17) + "f", d));
+      checkNumber(Long.toString(rnd.nextLong() >> rnd.nextInt(60)) + "." + Integer.toString(rnd.nextInt(100000)));
+    }
+  }
+
+  public void testInvalidNumbers() throws Exception {
+    checkInvalidNumber("1e");
+    checkInvalidNumber("1e+");
+    checkInvalidNumber("--1");
+    checkInvalidNumber("1.2.3");
+    checkInvalidNumber(".");
+    checkInvalidNumber("-");
+    checkInvalidNumber("1x");
+  }
+
+  public void testCharSequence() throws Exception {
+    String wkt = "LINESTRING (1 2, 3 4)";
+    Geometry expected = rdr.read(wkt);
+    assertTrue(expected.equalsExact(rdr.read(CharBuffer.wrap(wkt.toCharArray()))));
+    assertTrue(expected.equalsExact(rdr.read(new StringBuilder(wkt))));
+  }
+
+  public void testLargeInput() throws Exception {
+    // larger than the tokenizer buffer
+    StringBuilder sb = new StringBuilder("LINESTRING (");
+    for (int i = 0; i < 10000; i++) {
+      if (i > 0) sb.append(", ");
+      sb.append(i).append(".125 ").append(-i);
+    }
+    sb.append(")");
+    String wkt = sb.toString();
+    Geometry geom = rdr.read(wkt);
+    assertEquals(10000, geom.getNumPoints());
+    assertEquals(9999.125, geom.getCoordinates()[9999].x);
+    assertTrue(geom.equalsExact(rdr.read(new BufferedReader(new StringReader(wkt)))));
+    assertTrue(geom.equalsExact(rdr.read(new UnmarkableReader(new StringReader(wkt)))));
+  }
+
+  public void testReaderSequence() throws Exception {
+    String wkt = "POINT (1 2)POINT EMPTY\nLINESTRING (1 1, 2 2)\n  POLYGON EMPTY";
+    checkReaderSequence(new StringReader(wkt));
+    checkReaderSequence(new BufferedReader(new StringReader(wkt), 16));
+    checkReaderSequence(new UnmarkableReader(new StringReader(wkt)));
+  }
+
+  public void testPushBackAcrossBufferRefill() throws Exception {
+    // with a buffer of 8 the word BBBBBB spans the first refill
+    checkClose("AAAA BBBBBB CC", 8, 2, true, "BBBBBB CC");
+    checkClose("AAAA BBBBBB CC", 8, 2, false, " CC");
+    // the character after BBBB is read by a refill
+    checkClose("AAA BBBB CC", 8, 2, true, "BBBB CC");
+    checkClose("AAA BBBB CC", 8, 2, false, " CC");
+    // a word longer than the buffer
+    checkClose("A BBBBBBBBBBBBBBBBBBBB C", 4, 2, true, "BBBBBBBBBBBBBBBBBBBB C");
+  }
+
+  public void testCloseAllBufferSizes() throws Exception {
+    String text = "POINT (1.5 -22)POINT EMPTY  LINESTRING(10 200,3 4)";
+    Matcher m = Pattern.compile("[A-Za-z0-9.+-]+|\\S").matcher(text);
+    List<int[]> tokens = new ArrayList<int[]>();
+    while (m.find()) {
+      tokens.add(new int[] { m.start(), m.end() });
+    }
+    for (int bufSize = 1; bufSize <= text.length() + 1; bufSize++) {
+      for (int k = 1; k <= tokens.size(); k++) {
+        int[] tok = tokens.get(k - 1);
+        checkClose(text, bufSize, k, false, text.substring(tok[1]));
+        checkClose(text, bufSize, k, true, text.substring(tok[0]));
+      }
+    }
+  }
+
+  public void testFileReader() throws Exception {
+    String wkt = "POINT (1 2)\n\nPOINT EMPTY\nLINESTRING (1 1, 2 2)\n  POLYGON EMPTY\n";
+    List geoms = new WKTFileReader(new StringReader(wkt), rdr).read();
+    assertEquals(4, geoms.size());
+    assertEquals("Polygon", ((Geometry) geoms.get(3)).getGeometryType());
+  }
+
+  private void checkReaderSequence(Reader reader) throws Exception {
+    assertTrue(rdr.read(reader).equalsExact(rdr.read("POINT (1 2)")));
+    assertTrue(rdr.read(reader).isEmpty());
+    assertTrue(rdr.read(reader).equalsExact(rdr.read("LINESTRING (1 1, 2 2)")));
+    assertEquals("Polygon", rdr.read(reader).getGeometryType());
+  }
+
+  /**
+   * Checks the text remaining in a reader
+   * after reading some tokens and closing the tokenizer.
+   */
+  private void checkClose(String text, int bufSize, int numTokens, boolean isPushedBack,
+      String expectedRemaining) throws IOException {
+    Reader reader = new StringReader(text);
+    WKTTokenizer tok = new WKTTokenizer(reader, bufSize);
+    for (int i = 0; i < numTokens; i++) {
+      tok.nextToken();
+    }
+    if (isPushedBack)
+      tok.pushBack();
+    tok.close();
+    StringBuilder remaining = new StringBuilder();
+    int c;
+    while ((c = reader.read()) >= 0) {
+      remaining.append((char) c);
+    }
+    assertEquals("buffer size " + bufSize + ", token " + numTokens, 
+        expectedRemaining, remaining.toString());
+  }
+
+  private void checkNumber(String num) throws Exception {
+    double expected = Double.parseDouble(num);
+    double actual = readNumber(num);
+    assertEquals(num, Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(actual));
+  }
+
+  private static double readNumber(String num) throws Exception {
+    WKTTokenizer tok = new WKTTokenizer(num);
+    assertEquals(WKTTokenizer.TT_WORD, tok.nextToken());
+    return tok.getNumber();
+  }
+
+  private void checkInvalidNumber(String num) throws Exception {
+    try {
+      readNumber(num);
+      fail("Expected ParseException for " + num);
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
+  /**
+   * A reader which does not support marking.
+   */
+  private static class UnmarkableReader extends Reader {
+    private Reader reader;
+
+    UnmarkableReader(Reader reader) {
+      this.reader = reader;
+    }
+
+    public int read(char[] cbuf, int off, int len) throws IOException {
+      return reader.read(cbuf, off, len);
+    }
+
+    public void close() throws IOException {
+      reader.close();
+    }
+  }
+}
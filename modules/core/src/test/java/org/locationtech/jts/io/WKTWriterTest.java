@@ -12,6 +12,8 @@
 
 package org.locationtech.jts.io;
 
+import java.nio.CharBuffer;
+
 import org.locationtech.jts.geom.*;
 
 import junit.framework.Test;
@@ -181,4 +183,22 @@ public class WKTWriterTest extends TestCase {
     assertEquals("LINESTRING (1 1, 2 2)", wkt);
   }
 
+  public void testWriteAppendable() throws Exception {
+    Coordinate[] coordinates = { new Coordinate(10.5, 10),
+                                 new Coordinate(20, -20.5) };
+    LineString lineString = geometryFactory.createLineString(coordinates);
+    String expected = "LINESTRING (10.5 10, 20 -20.5)";
+
+    StringBuilder sb = new StringBuilder();
+    writer.append(lineString, sb);
+    sb.append(';');
+    writer.append(lineString, sb);
+    assertEquals(expected + ";" + expected, sb.toString());
+
+    CharBuffer buf = CharBuffer.allocate(64);
+    writer.write(lineString, buf);
+    buf.flip();
+    assertEquals(expected, buf.toString());
+  }
+
 }
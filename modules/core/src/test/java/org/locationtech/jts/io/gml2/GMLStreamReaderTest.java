@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.gml2;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.ParseException;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class GMLStreamReaderTest extends GeometryTestCase {
+  private static final int DEFAULT_SRID = 9876;
+  private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), DEFAULT_SRID);
+
+  public static void main(String args[]) {
+    TestRunner.run(GMLStreamReaderTest.class);
+  }
+
+  public GMLStreamReaderTest(String name) { super(name); }
+
+  public void testPoint() {
+    checkRead("<gml:Point><gml:coordinates>45.67,88.56</gml:coordinates></gml:Point>",
+        "POINT (45.67 88.56)");
+  }
+
+  public void testPointNoNamespace() {
+    checkRead("<Point><coordinates>45.67,88.56</coordinates></Point>",
+        "POINT (45.67 88.56)");
+  }
+
+  public void testPointCoordSepSpaces() {
+    checkRead("<gml:Point><gml:coordinates> 45.67   ,   88.56 </gml:coordinates></gml:Point>",
+        "POINT (45.67 88.56)");
+  }
+
+  public void testPointCoord() {
+    checkRead("<gml:Point><gml:coord><gml:X>1.5</gml:X><gml:Y> 2 </gml:Y></gml:coord></gml:Point>",
+        "POINT (1.5 2)");
+  }
+
+  public void testPointSRID() {
+    checkRead("<gml:Point srsName='urn:ogc:def:crs:EPSG::4326'>"
+        + "<gml:coordinates>45.67,88.56</gml:coordinates></gml:Point>",
+        "POINT (45.67 88.56)", 4326);
+  }
+
+  public void testLineStringSeparators() {
+    checkRead("<gml:LineString><gml:coordinates>45.67,   88.56    55.56,89.44</gml:coordinates></gml:LineString>",
+        "LINESTRING (45.67 88.56, 55.56 89.44)");
+    checkRead("<gml:LineString><gml:coordinates decimal=',' cs=' ' ts=';'>1,5 2;3 4,25</gml:coordinates></gml:LineString>",
+        "LINESTRING (1.5 2, 3 4.25)");
+  }
+
+  public void testLineStringZ() {
+    checkReadXYZ("<gml:LineString><gml:coordinates>1,2,3 4,5,6</gml:coordinates></gml:LineString>",
+        "LINESTRING Z (1 2 3, 4 5 6)");
+  }
+
+  public void testPolygonGML2() {
+    checkRead("<gml:Polygon srsName='EPSG:4326'>"
+        + "<gml:outerBoundaryIs><gml:LinearRing><gml:coordinates>0,0 10,0 10,10 0,10 0,0</gml:coordinates></gml:LinearRing></gml:outerBoundaryIs>"
+        + "<gml:innerBoundaryIs><gml:LinearRing><gml:coordinates>1,1 2,1 2,2 1,1</gml:coordinates></gml:LinearRing></gml:innerBoundaryIs>"
+        + "</gml:Polygon>",
+        "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (1 1, 2 1, 2 2, 1 1))", 4326);
+  }
+
+  public void testPointPos() {
+    checkRead("<gml:Point><gml:pos>1 2</gml:pos></gml:Point>",
+        "POINT (1 2)");
+    checkReadXYZ("<gml:Point><gml:pos>1 2 3</gml:pos></gml:Point>",
+        "POINT Z (1 2 3)");
+  }
+
+  public void testLineStringPos() {
+    checkRead("<gml:LineString><gml:pos>1 2</gml:pos><gml:pos>3 4</gml:pos></gml:LineString>",
+        "LINESTRING (1 2, 3 4)");
+  }
+
+  public void testLineStringPosList() {
+    checkRead("<gml:LineString><gml:posList>1 2\n 3 4 \t5 6</gml:posList></gml:LineString>",
+        "LINESTRING (1 2, 3 4, 5 6)");
+  }
+
+  public void testLineStringPosListSrsDimension() {
+    checkReadXYZ("<gml:LineString srsDimension='3'><gml:posList>1 2 3 4 5 6</gml:posList></gml:LineString>",
+        "LINESTRING Z (1 2 3, 4 5 6)");
+    checkReadXYZ("<gml:LineString><gml:posList srsDimension='3'>1 2 3 4 5 6</gml:posList></gml:LineString>",
+        "LINESTRING Z (1 2 3, 4 5 6)");
+  }
+
+  public void testPolygonGML3() {
+    checkRead("<gml:Polygon>"
+        + "<gml:exterior><gml:LinearRing><gml:posList>0 0 10 0 10 10 0 10 0 0</gml:posList></gml:LinearRing></gml:exterior>"
+        + "<gml:interior><gml:LinearRing><gml:posList>1 1 2 1 2 2 1 1</gml:posList></gml:LinearRing></gml:interior>"
+        + "</gml:Polygon>",
+        "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (1 1, 2 1, 2 2, 1 1))");
+  }
+
+  public void testMultiCurve() {
+    checkRead("<gml:MultiCurve>"
+        + "<gml:curveMember><gml:LineString><gml:posList>0 0 1 1</gml:posList></gml:LineString></gml:curveMember>"
+        + "<gml:curveMember><gml:LineString><gml:posList>2 2 3 3</gml:posList></gml:LineString></gml:curveMember>"
+        + "</gml:MultiCurve>",
+        "MULTILINESTRING ((0 0, 1 1), (2 2, 3 3))");
+  }
+
+  public void testMultiSurface() {
+    checkRead("<gml:MultiSurface><gml:surfaceMembers>"
+        + "<gml:Polygon><gml:exterior><gml:LinearRing><gml:posList>0 0 1 0 1 1 0 0</gml:posList></gml:LinearRing></gml:exterior></gml:Polygon>"
+        + "<gml:Polygon><gml:exterior><gml:LinearRing><gml:posList>5 5 6 5 6 6 5 5</gml:posList></gml:LinearRing></gml:exterior></gml:Polygon>"
+        + "</gml:surfaceMembers></gml:MultiSurface>",
+        "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5)))");
+  }
+
+  public void testMultiGeometry() {
+    checkRead("<gml:MultiGeometry srsName='1234'>"
+        + "<gml:geometryMember><gml:Point><gml:coordinates>1,1</gml:coordinates></gml:Point></gml:geometryMember>"
+        + "<gml:geometryMember><gml:LineString><gml:coordinates>0,0 1,1</gml:coordinates></gml:LineString></gml:geometryMember>"
+        + "</gml:MultiGeometry>",
+        "GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 1 1))", 1234);
+  }
+
+  public void testSRIDInherited() throws ParseException {
+    Geometry g = readOne("<gml:MultiPoint srsName='EPSG:4326'>"
+        + "<gml:pointMember><gml:Point><gml:pos>1 1</gml:pos></gml:Point></gml:pointMember>"
+        + "</gml:MultiPoint>");
+    assertEquals(4326, g.getGeometryN(0).getSRID());
+  }
+
+  public void testFeatureCollection() throws Exception {
+    String gml = "<?xml version='1.0' encoding='UTF-8'?>"
+        + "<wfs:FeatureCollection xmlns:wfs='http://www.opengis.net/wfs' xmlns:gml='http://www.opengis.net/gml' xmlns:app='http://example.com/app'>"
+        + "<gml:boundedBy><gml:Envelope><gml:lowerCorner>0 0</gml:lowerCorner><gml:upperCorner>9 9</gml:upperCorner></gml:Envelope></gml:boundedBy>"
+        + "<gml:featureMember><app:Road>"
+        + "<gml:boundedBy><gml:Box><gml:coordinates>0,0 1,1</gml:coordinates></gml:Box></gml:boundedBy>"
+        + "<app:name>Main <![CDATA[Street]]></app:name>"
+        + "<app:geom><gml:LineString><gml:posList>0 0 1 1</gml:posList></gml:LineString></app:geom>"
+        + "</app:Road></gml:featureMember>"
+        + "<gml:featureMember><app:Site><app:geom><gml:Point><gml:pos>5 5</gml:pos></gml:Point></app:geom>"
+        + "<app:area>12</app:area></app:Site></gml:featureMember>"
+        + "</wfs:FeatureCollection>";
+    GMLStreamReader reader = new GMLStreamReader(
+        new ByteArrayInputStream(gml.getBytes(StandardCharsets.UTF_8)), geometryFactory);
+    Iterator<Geometry> it = reader.iterator();
+    checkEqual(read("LINESTRING (0 0, 1 1)"), it.next());
+    checkEqual(read("POINT (5 5)"), it.next());
+    assertFalse(it.hasNext());
+    assertEquals(2, reader.getCount());
+    reader.close();
+  }
+
+  public void testLargeCoordinates() throws ParseException {
+    StringBuilder sb = new StringBuilder("<gml:LineString><gml:posList>");
+    int n = 100000;
+    for (int i = 0; i < n; i++) {
+      sb.append(i * 0.001).append(' ').append(-i * 1.5e-7).append(' ');
+    }
+    sb.append("</gml:posList></gml:LineString>");
+    Geometry g = readOne(sb.toString());
+    assertEquals(n, g.getNumPoints());
+    assertEquals(-(n - 1) * 1.5e-7, g.getCoordinates()[n - 1].y);
+    assertEquals((n - 1) * 0.001, g.getCoordinates()[n - 1].x);
+  }
+
+  public void testRoundTripGMLReader() throws Exception {
+    checkRoundTrip("MULTIPOLYGON (((0 0, 10 0, 10 10, 0 10, 0 0), (1 1, 2 1, 2 2, 1 1)), ((20 20, 21.123456789 20, 21 21, 20 20)))");
+    checkRoundTrip("MULTILINESTRING ((-1e-10 2.5e12, 3.3333333333333335 4), (5 6, 7 8))");
+    checkRoundTrip("MULTIPOINT ((0.1 0.2), (1.7976931348623157E308 4.9E-324))");
+  }
+
+  public void testEmptyDocument() throws ParseException {
+    GMLStreamReader reader = new GMLStreamReader(new StringReader("<root><a>1</a></root>"), geometryFactory);
+    assertNull(reader.read());
+    assertEquals(0, reader.getCount());
+  }
+
+  public void testInvalidRing() {
+    checkInvalid("<gml:Polygon><gml:exterior><gml:LinearRing><gml:posList>0 0 1 0 1 1 0 1</gml:posList></gml:LinearRing></gml:exterior></gml:Polygon>");
+  }
+
+  public void testInvalidPosList() {
+    checkInvalid("<gml:LineString><gml:posList>0 0 1</gml:posList></gml:LineString>");
+  }
+
+  public void testInvalidNumber() {
+    checkInvalid("<gml:Point><gml:coordinates>1,x</gml:coordinates></gml:Point>");
+  }
+
+  public void testInvalidMember() {
+    checkInvalid("<gml:MultiPoint><gml:pointMember><gml:LineString><gml:posList>0 0 1 1</gml:posList></gml:LineString></gml:pointMember></gml:MultiPoint>");
+  }
+
+  public void testInvalidXML() {
+    checkInvalid("<gml:Point><gml:pos>1 2</gml:pos>");
+  }
+
+  private void checkRoundTrip(String wkt) throws Exception {
+    Geometry geom = read(wkt);
+    StringWriter sw = new StringWriter();
+    GMLWriter writer = new GMLWriter();
+    writer.setSrsName("EPSG:4326");
+    writer.write(geom, sw);
+    String gml = sw.toString();
+
+    Geometry expected = new GMLReader().read(gml, geometryFactory);
+    Geometry actual = readOne(gml);
+    assertTrue(expected.equalsExact(actual));
+    assertEquals(expected.getSRID(), actual.getSRID());
+  }
+
+  private void checkRead(String gml, String wktExpected) {
+    checkRead(gml, wktExpected, DEFAULT_SRID);
+  }
+
+  private void checkRead(String gml, String wktExpected, int srid) {
+    Geometry g = null;
+    try {
+      g = readOne(gml);
+    } catch (ParseException e) {
+      fail(e.getMessage());
+    }
+    checkEqual(read(wktExpected), g);
+    assertEquals("SRID incorrect - ", srid, g.getSRID());
+  }
+
+  private void checkReadXYZ(String gml, String wktExpected) {
+    try {
+      checkEqualXYZ(read(wktExpected), readOne(gml));
+    } catch (ParseException e) {
+      fail(e.getMessage());
+    }
+  }
+
+  private void checkInvalid(String gml) {
+    try {
+      readOne(gml);
+      fail("Expected ParseException");
+    } catch (ParseException expected) {
+    }
+  }
+
+  private Geometry readOne(String gml) throws ParseException {
+    GMLStreamReader reader = new GMLStreamReader(new StringReader(gml), geometryFactory);
+    List<Geometry> geoms = reader.readAll();
+    assertEquals(1, geoms.size());
+    return geoms.get(0);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.noding;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.util.SineStarFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests {@link MCIndexNoder}, in particular that parallel noding
+ * gives the same result as sequential noding.
+ * 
+ */
+public class MCIndexNoderTest extends GeometryTestCase {
+  public static void main(String args[]) {
+    TestRunner.run(MCIndexNoderTest.class);
+  }
+
+  private ForkJoinPool pool = new ForkJoinPool(4);
+  
+  public MCIndexNoderTest(String name) { super(name); }
+
+  protected void tearDown() {
+    pool.shutdown();
+  }
+  
+  public void testSimple() {
+    checkNoding("MULTILINESTRING ((0 0, 10 10), (0 10, 10 0), (5 0, 5 10))",
+        "MULTILINESTRING ((0 0, 5 5), (5 5, 10 10), (0 10, 5 5), (5 5, 10 0), (5 0, 5 5), (5 5, 5 10))");
+  }
+  
+  public void testParallelRandomLines() {
+    checkParallel(NodingTestUtil.randomLines(200, 50, 1, 1, getGeometryFactory()));
+  }
+  
+  public void testParallelSineStars() {
+    List<LineString> lines = new ArrayList<LineString>();
+    for (int i = 0; i < 10; i++) {
+      Geometry star = SineStarFactory.create(new Coordinate(i * 10, i * 7), 100, 2000, 5 + i, 0.3);
+      lines.addAll(NodingTestUtil.getLines(star));
+    }
+    checkParallel(lines);
+  }
+  
+  public void testParallelSelfIntersecting() {
+    // a single line with many self-intersections
+    checkParallel(NodingTestUtil.randomLines(1, 5000, 2, 2, getGeometryFactory()));
+  }
+  
+  public void testParallelSubclassFallsBack() {
+    List<NodedSegmentString> segStrings = NodingTestUtil.toSegmentStrings(
+        NodingTestUtil.randomLines(200, 50, 1, 1, getGeometryFactory()));
+    final int[] numCalls = new int[1];
+    IntersectionAdder adder = new IntersectionAdder(new RobustLineIntersector()) {
+      public void processIntersections(SegmentString e0, int segIndex0, SegmentString e1, int segIndex1) {
+        numCalls[0]++;
+        super.processIntersections(e0, segIndex0, e1, segIndex1);
+      }
+    };
+    assertNull(adder.createWorker());
+    MCIndexNoder noder = new MCIndexNoder(adder);
+    noder.setForkJoinPool(pool);
+    noder.computeNodes(segStrings);
+    // the override is called for every test, since the noding is sequential
+    assertEquals(adder.numTests, numCalls[0]);
+    assertTrue(adder.numIntersections > 0);
+  }
+
+  private void checkNoding(String wkt, String wktExpected) {
+    List<LineString> lines = NodingTestUtil.getLines(read(wkt));
+    List<NodedSegmentString> segStrings = NodingTestUtil.toSegmentStrings(lines);
+    MCIndexNoder noder = new MCIndexNoder(new IntersectionAdder(new RobustLineIntersector()));
+    noder.setForkJoinPool(pool);
+    noder.computeNodes(segStrings);
+    Geometry result = NodingTestUtil.toLines(noder, getGeometryFactory());
+    checkEqual(read(wktExpected), result);
+  }
+
+  private void checkParallel(List<LineString> lines) {
+    List<NodedSegmentString> serial = NodingTestUtil.toSegmentStrings(lines);
+    IntersectionAdder serialAdder = new IntersectionAdder(new RobustLineIntersector());
+    MCIndexNoder serialNoder = new MCIndexNoder(serialAdder);
+    serialNoder.computeNodes(serial);
+    
+    List<NodedSegmentString> parallel = NodingTestUtil.toSegmentStrings(lines);
+    IntersectionAdder parallelAdder = new IntersectionAdder(new RobustLineIntersector());
+    MCIndexNoder parallelNoder = new MCIndexNoder(parallelAdder);
+    parallelNoder.setForkJoinPool(pool);
+    parallelNoder.computeNodes(parallel);
+    
+    for (int i = 0; i < serial.size(); i++) {
+      checkEqualNodes(serial.get(i).getNodeList(), parallel.get(i).getNodeList());
+    }
+    assertTrue(serialAdder.numIntersections > 0);
+    assertEquals(serialAdder.numIntersections, parallelAdder.numIntersections);
+    assertEquals(serialAdder.numTests, parallelAdder.numTests);
+    
+    Geometry serialResult = NodingTestUtil.toLines(serialNoder, getGeometryFactory());
+    Geometry parallelResult = NodingTestUtil.toLines(parallelNoder, getGeometryFactory());
+    assertTrue(serialResult.equalsExact(parallelResult));
+  }
+
+  private static void checkEqualNodes(SegmentNodeList expected, SegmentNodeList actual) {
+    assertEquals(expected.size(), actual.size());
+    Iterator it = actual.iterator();
+    for (Iterator ie = expected.iterator(); ie.hasNext(); ) {
+      SegmentNode nodeExpected = (SegmentNode) ie.next();
+      SegmentNode nodeActual = (SegmentNode) it.next();
+      assertEquals(nodeExpected.segmentIndex, nodeActual.segmentIndex);
+      assertTrue(nodeExpected.coord.equals3D(nodeActual.coord));
+    }
+  }
+}
@@ -14,6 +14,7 @@ package org.locationtech.jts.noding;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Random;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
@@ -21,6 +22,7 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.MultiLineString;
 import org.locationtech.jts.geom.util.LineStringExtracter;
+import org.locationtech.jts.geom.util.LinearComponentExtracter;
 
 public class NodingTestUtil {
   
@@ -37,6 +39,64 @@ public class NodingTestUtil {
     return geomFact.createMultiLineString(lines);
   }
 
+  /**
+   * Converts the noded substrings computed by a noder to lines.
+   * 
+   * @param noder a noder which has computed nodes
+   * @param geomFact the factory for the result
+   * @return the noded linework
+   */
+  public static Geometry toLines(Noder noder, GeometryFactory geomFact) {
+    List<NodedSegmentString> nodedList = new ArrayList<NodedSegmentString>();
+    for (Object ss : noder.getNodedSubstrings()) {
+      nodedList.add((NodedSegmentString) ss);
+    }
+    return toLines(nodedList, geomFact);
+  }
+
+  /**
+   * Extracts the linear components of a geometry.
+   * 
+   * @param geom a geometry
+   * @return the lines in the geometry
+   */
+  public static List<LineString> getLines(Geometry geom) {
+    List<LineString> lines = new ArrayList<LineString>();
+    for (Object line : LinearComponentExtracter.getLines(geom)) {
+      lines.add((LineString) line);
+    }
+    return lines;
+  }
+
+  /**
+   * Creates lines which are random walks with a given step size,
+   * starting at random points in a square of size 100.
+   * 
+   * @param numLines the number of lines
+   * @param numPts the number of points in each line
+   * @param step the maximum step in X and Y between points
+   * @param seed the random seed
+   * @param geomFact the factory for the lines
+   * @return the list of lines
+   */
+  public static List<LineString> randomLines(int numLines, int numPts, double step, long seed,
+      GeometryFactory geomFact) {
+    Random random = new Random(seed);
+    List<LineString> lines = new ArrayList<LineString>();
+    for (int i = 0; i < numLines; i++) {
+      Coordinate[] pts = new Coordinate[numPts];
+      double x = 100 * random.nextDouble();
+      double y = 100 * random.nextDouble();
+      for (int j = 0; j < numPts; j++) {
+        x += step * (random.nextDouble() - 0.5);
+        y += step * (random.nextDouble() - 0.5);
+        pts[j] = new Coordinate(x, y);
+      }
+      lines.add(geomFact.createLineString(pts));
+    }
+    return lines;
+  }
+
   public static List<NodedSegmentString> toSegmentStrings(List<LineString> lines) {
     List<NodedSegmentString> nssList = new ArrayList<NodedSegmentString>();
     for (LineString line : lines) {
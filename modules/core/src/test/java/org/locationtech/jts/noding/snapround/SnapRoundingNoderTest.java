@@ -12,10 +12,20 @@
 
 package org.locationtech.jts.noding.snapround;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.noding.MCIndexNoder;
+import org.locationtech.jts.noding.NodedSegmentString;
 import org.locationtech.jts.noding.Noder;
 import org.locationtech.jts.noding.NodingTestUtil;
+import org.locationtech.jts.noding.SegmentString;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -36,8 +46,14 @@ public class SnapRoundingNoderTest  extends GeometryTestCase {
     TestRunner.run(SnapRoundingNoderTest.class);
   }
 
+  private ForkJoinPool pool = new ForkJoinPool(4);
+  
   public SnapRoundingNoderTest(String name) { super(name); }
 
+  protected void tearDown() {
+    pool.shutdown();
+  }
+
   public void testSimple() {
     String wkt =      "MULTILINESTRING ((1 1, 9 2), (3 3, 3 0))";
     String expected = "MULTILINESTRING ((1 1, 3 1), (3 1, 9 2), (3 3, 3 1), (3 1, 3 0))";
@@ -209,6 +225,50 @@ public class SnapRoundingNoderTest  extends GeometryTestCase {
     checkRounding(wkt, 0.0016339869, expected);
   }
   
+  public void testParallelRandomLines() {
+    checkParallel(NodingTestUtil.randomLines(200, 50, 1, 1, getGeometryFactory()), 1);
+  }
+  
+  public void testParallelRandomLinesFineGrid() {
+    checkParallel(NodingTestUtil.randomLines(200, 50, 1, 2, getGeometryFactory()), 100);
+  }
+  
+  public void testParallelSineStars() {
+    List<LineString> lines = new ArrayList<LineString>();
+    for (int i = 0; i < 40; i++) {
+      Geometry star = SineStarFactory.create(new Coordinate(i * 3, i * 2), 50, 500, 5 + i % 7, 0.3);
+      lines.addAll(NodingTestUtil.getLines(star));
+    }
+    checkParallel(lines, 2);
+  }
+  
+  public void testParallelNarrowSpikes() {
+    checkParallel("MULTILINESTRING ((1 3.3, 1.3 1.4, 3.1 1.4, 3.1 0.9, 1.3 0.9, 1 -0.2, 0.8 1.3, 1 3.3), (1 2.9, 2.9 2.9, 2.9 1.3, 1.7 1, 1.3 0.9, 1 0.4, 1 2.9))", 1);
+  }
+  
+  public void testParallelSlantAndHorizontalLineWithMiddleNode() {
+    checkParallel("MULTILINESTRING ((0.1565552 49.5277405, 0.1579285 49.5277405, 0.1593018 49.5277405), (0.1568985 49.5280838, 0.1589584 49.5273972))", 1_000_000.0);
+  }
+  
+  public void testParallelSubclassFallsBack() {
+    List<NodedSegmentString> segStrings = NodingTestUtil.toSegmentStrings(
+        NodingTestUtil.randomLines(200, 50, 1, 1, getGeometryFactory()));
+    final int[] numCalls = new int[1];
+    SnapRoundingIntersectionAdder adder = new SnapRoundingIntersectionAdder(0.01) {
+      public void processIntersections(SegmentString e0, int segIndex0, SegmentString e1, int segIndex1) {
+        numCalls[0]++;
+        super.processIntersections(e0, segIndex0, e1, segIndex1);
+      }
+    };
+    assertNull(adder.createWorker());
+    MCIndexNoder noder = new MCIndexNoder(adder);
+    noder.setForkJoinPool(pool);
+    noder.computeNodes(segStrings);
+    // the override is called, since the noding is sequential
+    assertTrue(numCalls[0] > 0);
+    assertFalse(adder.getIntersections().isEmpty());
+  }
+
   void checkRounding(String wkt, double scale, String expectedWKT)
   {
     Geometry geom = read(wkt);
@@ -221,5 +281,24 @@ public class SnapRoundingNoderTest  extends GeometryTestCase {
     Geometry expected = read(expectedWKT);
     checkEqual(expected, result);
   }
+  
+  private void checkParallel(String wkt, double scale) {
+    checkParallel(NodingTestUtil.getLines(read(wkt)), scale);
+  }
+  
+  private void checkParallel(List<LineString> lines, double scale) {
+    PrecisionModel pm = new PrecisionModel(scale);
+    SnapRoundingNoder serialNoder = new SnapRoundingNoder(pm);
+    serialNoder.computeNodes(NodingTestUtil.toSegmentStrings(lines));
+    Geometry serialResult = NodingTestUtil.toLines(serialNoder, getGeometryFactory());
+    
+    SnapRoundingNoder parallelNoder = new SnapRoundingNoder(pm);
+    parallelNoder.setForkJoinPool(pool);
+    parallelNoder.computeNodes(NodingTestUtil.toSegmentStrings(lines));
+    Geometry parallelResult = NodingTestUtil.toLines(parallelNoder, getGeometryFactory());
+    
+    assertTrue(serialResult.getNumGeometries() > lines.size());
+    assertTrue(serialResult.equalsExact(parallelResult));
+  }
 
 }
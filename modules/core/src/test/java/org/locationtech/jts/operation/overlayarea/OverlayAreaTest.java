@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2020 Martin Davis
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.overlayarea;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class OverlayAreaTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(OverlayAreaTest.class);
+  }
+  
+  public OverlayAreaTest(String name) {
+    super(name);
+  }
+
+  public void testDisjoint() {
+    checkIntersectionArea(
+        "POLYGON ((10 90, 40 90, 40 60, 10 60, 10 90))",
+        "POLYGON ((90 10, 50 10, 50 50, 90 50, 90 10))");
+  }
+  
+  public void testTouching() {
+    checkIntersectionArea(
+        "POLYGON ((10 90, 50 90, 50 50, 10 50, 10 90))",
+        "POLYGON ((90 10, 50 10, 50 50, 90 50, 90 10))");
+  }
+  
+  public void testRectangleAContainsB() {
+    checkIntersectionArea(
+        "POLYGON ((100 300, 300 300, 300 100, 100 100, 100 300))",
+        "POLYGON ((150 250, 250 250, 250 150, 150 150, 150 250))");
+  }
+
+  public void testTriangleAContainsB() {
+    checkIntersectionArea(
+        "POLYGON ((60 170, 270 370, 380 60, 60 170))",
+        "POLYGON ((200 250, 245 155, 291 195, 200 250))");
+  }
+
+  public void testRectangleOverlap() {
+    checkIntersectionArea(
+        "POLYGON ((100 200, 200 200, 200 100, 100 100, 100 200))",
+        "POLYGON ((250 250, 250 150, 150 150, 150 250, 250 250))");
+  }
+
+  public void testRectangleTriangleOverlap() {
+    checkIntersectionArea(
+        "POLYGON ((100 200, 200 200, 200 100, 100 100, 100 200))",
+        "POLYGON ((300 200, 150 150, 300 100, 300 200))");
+  }
+
+  public void testSawOverlap() {
+    checkIntersectionArea(
+        "POLYGON ((100 300, 305 299, 150 200, 300 150, 150 100, 300 50, 100 50, 100 300))",
+        "POLYGON ((400 350, 150 250, 350 200, 200 150, 350 100, 180 50, 400 50, 400 350))");
+  }
+
+  public void testAOverlapBWithHole() {
+    checkIntersectionArea(
+        "POLYGON ((100 300, 305 299, 150 200, 300 150, 150 100, 300 50, 100 50, 100 300))",
+        "POLYGON ((185 206, 350 206, 350 100, 185 100, 185 206), (230 190, 310 190, 310 120, 230 120, 230 190))");
+  }
+
+  public void testAOverlapBMulti() {
+    checkIntersectionArea(
+        "POLYGON ((50 250, 250 250, 250 50, 50 50, 50 250))",
+        "MULTIPOLYGON (((100 200, 100 100, 0 100, 0 200, 100 200)), ((200 200, 300 200, 300 100, 200 100, 200 200)))");
+  }
+
+  public void testAOverlapBMultiHole() {
+    checkIntersectionArea(
+        "POLYGON ((60 200, 250 280, 111 135, 320 120, 50 40, 30 120, 60 200))",
+        "MULTIPOLYGON (((55 266, 150 150, 170 290, 55 266)), ((100 0, 70 130, 260 160, 291 45, 100 0), (150 40, 125 98, 220 110, 150 40)))");
+  }
+
+  public void testAWithHoleContainsB() {
+    checkIntersectionArea(
+        "POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (30 30, 70 30, 70 70, 30 70, 30 30))",
+        "POLYGON ((10 10, 10 20, 20 20, 20 10, 10 10))");
+  }
+
+  public void testAHoleInsideB() {
+    checkIntersectionArea(
+        "POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (30 30, 70 30, 70 70, 30 70, 30 30))",
+        "POLYGON ((20 20, 20 80, 80 80, 80 20, 20 20))");
+  }
+
+  public void testBInsideAHole() {
+    checkIntersectionArea(
+        "POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (30 30, 70 30, 70 70, 30 70, 30 30))",
+        "POLYGON ((40 40, 40 50, 50 50, 50 40, 40 40))");
+  }
+
+  public void testBOverlapAHole() {
+    checkIntersectionArea(
+        "POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (30 30, 70 30, 70 70, 30 70, 30 30))",
+        "POLYGON ((20 40, 20 60, 120 60, 120 40, 20 40))");
+  }
+
+  public void testAInsideB() {
+    checkIntersectionArea(
+        "MULTIPOLYGON (((10 10, 10 20, 20 20, 20 10, 10 10)), ((30 10, 30 20, 40 20, 40 10, 30 10), (32 12, 38 12, 38 18, 32 18, 32 12)))",
+        "POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0))");
+  }
+
+  public void testAMultiOverlapB() {
+    checkIntersectionArea(
+        "MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((20 0, 20 10, 30 10, 30 0, 20 0), (22 2, 28 2, 28 8, 22 8, 22 2)))",
+        "POLYGON ((5 2, 5 8, 25 8, 25 2, 5 2))");
+  }
+
+  public void testIdentical() {
+    checkIntersectionArea(
+        "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))",
+        "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))");
+  }
+
+  public void testSharedEdge() {
+    checkIntersectionArea(
+        "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))",
+        "POLYGON ((10 0, 10 8, 25 8, 25 0, 10 0))");
+  }
+
+  public void testCollinearEdges() {
+    checkIntersectionArea(
+        "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))",
+        "POLYGON ((5 5, 5 10, 10 10, 10 5, 5 5))");
+  }
+
+  public void testVertexOnEdge() {
+    checkIntersectionArea(
+        "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))",
+        "POLYGON ((5 5, 10 10, 15 5, 10 0, 5 5))");
+  }
+
+  public void testCollinearHoleEdges() {
+    checkIntersectionArea(
+        "POLYGON ((20 0, 20 10, 30 10, 30 0, 20 0), (22 2, 28 2, 28 8, 22 8, 22 2))",
+        "POLYGON ((5 2, 5 8, 25 8, 25 2, 5 2))");
+  }
+
+  public void testGridCoverage() {
+    // grid cells share vertices and edges with the target
+    Geometry target = read("POLYGON ((10 10, 10 60, 30 80, 70 70, 70 30, 50 30, 50 10, 10 10), (20 20, 20 40, 40 40, 40 20, 20 20))");
+    OverlayArea ova = new OverlayArea(target);
+    double sum = 0;
+    for (int x = 0; x < 80; x += 10) {
+      for (int y = 0; y < 80; y += 10) {
+        Geometry cell = getGeometryFactory().toGeometry(new Envelope(x, x + 10, y, y + 10));
+        double area = ova.intersectionArea(cell);
+        assertEquals(target.intersection(cell).getArea(), area, 0.0001);
+        sum += area;
+      }
+    }
+    assertEquals(target.getArea(), sum, 0.0001);
+  }
+
+  public void testALargeB() {
+    // B has enough vertices to be indexed
+    Geometry a = SineStarFactory.create(new Coordinate(50, 50), 100, 500, 7, 0.4);
+    Geometry b = SineStarFactory.create(new Coordinate(60, 40), 60, 300, 5, 0.3);
+    checkIntersectionArea(a, b);
+  }
+
+  public void testEmpty() {
+    checkIntersectionArea("POLYGON EMPTY", "POLYGON ((5 2, 5 8, 25 8, 25 2, 5 2))");
+    checkIntersectionArea("POLYGON ((5 2, 5 8, 25 8, 25 2, 5 2))", "POLYGON EMPTY");
+  }
+
+  public void testNonPolygonal() {
+    try {
+      new OverlayArea(read("LINESTRING (0 0, 10 10)"));
+      fail();
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testBatch() {
+    checkBatch(null);
+  }
+
+  public void testBatchParallel() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      checkBatch(pool);
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  private void checkBatch(ForkJoinPool pool) {
+    Geometry target = read("MULTIPOLYGON (((0 0, 0 100, 100 100, 100 0, 0 0), (30 30, 70 30, 70 70, 30 70, 30 30)), ((110 0, 110 100, 150 100, 150 0, 110 0)))");
+    List<Geometry> geoms = randomStars(500, 3);
+    OverlayArea ova = new OverlayArea(target);
+    ova.setForkJoinPool(pool);
+    double[] areas = ova.intersectionAreas(geoms);
+    assertEquals(geoms.size(), areas.length);
+    for (int i = 0; i < areas.length; i++) {
+      double expected = OverlayNG.overlay(target, geoms.get(i), OverlayNG.INTERSECTION).getArea();
+      assertEquals(expected, areas[i], 0.0001);
+    }
+  }
+
+  private List<Geometry> randomStars(int num, long seed) {
+    Random random = new Random(seed);
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < num; i++) {
+      double x = -20 + 190 * random.nextDouble();
+      double y = -20 + 140 * random.nextDouble();
+      geoms.add(SineStarFactory.create(new Coordinate(x, y), 20, 40, 5, 0.3));
+    }
+    return geoms;
+  }
+
+  private void checkIntersectionArea(String wktA, String wktB) {
+    checkIntersectionArea(read(wktA), read(wktB));
+  }
+
+  private void checkIntersectionArea(Geometry a, Geometry b) {
+    OverlayArea ova = new OverlayArea(a);
+    double ovIntArea = ova.intersectionArea(b);
+    
+    double intAreaFull = a.intersection(b).getArea();
+    
+    assertEquals(intAreaFull, ovIntArea, 0.0001);
+  }
+}
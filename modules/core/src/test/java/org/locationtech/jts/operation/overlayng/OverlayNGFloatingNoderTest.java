@@ -1,9 +1,14 @@
 package org.locationtech.jts.operation.overlayng;
 
 import static org.locationtech.jts.operation.overlayng.OverlayNG.INTERSECTION;
+import static org.locationtech.jts.operation.overlayng.OverlayNG.UNION;
 
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.geom.util.SineStarFactory;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -111,6 +116,25 @@ public class OverlayNGFloatingNoderTest extends GeometryTestCase {
     assertTrue("Area of intersection result area is too large", isCorrect);
   }
   
+  /**
+   * Tests that parallel noding gives the same result as sequential noding.
+   */
+  public void testParallelNoding() {
+    Geometry a = SineStarFactory.create(new Coordinate(0, 0), 100, 5000, 11, 0.4);
+    Geometry b = SineStarFactory.create(new Coordinate(20, 10), 100, 5000, 7, 0.5);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int opCode : new int[] { INTERSECTION, UNION }) {
+        Geometry expected = OverlayNG.overlay(a, b, opCode, a.getPrecisionModel());
+        Geometry actual = OverlayNG.overlay(a, b, opCode, a.getPrecisionModel(), pool);
+        checkEqualExact(expected, actual);
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+  
   public void xtestPolygonsWithClippingPerturbation2Intersection() {
     Geometry a = read("POLYGON ((4379891.12 5470577.74, 4379875.16 5470581.54, 4379841.77 5470592.88, 4379787.53 5470612.89, 4379822.96 5470762.6, 4379873.52 5470976.3, 4379982.93 5470965.71, 4379936.91 5470771.25, 4379891.12 5470577.74))");
     Geometry b = read("POLYGON ((4379894.528437099 5470592.144163859, 4379968.579210246 5470576.004727546, 4379965.600743549 5470563.403176092, 4379965.350009631 5470562.383524827, 4379917.641365346 5470571.523966022, 4379891.224959933 5470578.183564024, 4379894.528437099 5470592.144163859))");
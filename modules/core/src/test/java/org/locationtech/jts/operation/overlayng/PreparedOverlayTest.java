@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.overlayng;
+
+import static org.locationtech.jts.operation.overlayng.OverlayNG.DIFFERENCE;
+import static org.locationtech.jts.operation.overlayng.OverlayNG.INTERSECTION;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.util.SineStarFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests {@link PreparedOverlay}.
+ */
+public class PreparedOverlayTest extends GeometryTestCase {
+  public static void main(String args[]) {
+    TestRunner.run(PreparedOverlayTest.class);
+  }
+
+  public PreparedOverlayTest(String name) { super(name); }
+
+  private static final String MASK_DONUT = "POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (30 30, 70 30, 70 70, 30 70, 30 30))";
+
+  public void testInside() {
+    checkOverlay(MASK_DONUT, "POLYGON ((10 10, 10 20, 20 20, 20 10, 10 10))");
+  }
+
+  public void testInsideHole() {
+    checkOverlay(MASK_DONUT, "POLYGON ((40 40, 40 50, 50 50, 50 40, 40 40))");
+  }
+
+  public void testOutside() {
+    checkOverlay(MASK_DONUT, "POLYGON ((110 10, 110 20, 120 20, 120 10, 110 10))");
+  }
+
+  public void testCrossingShell() {
+    checkOverlay(MASK_DONUT, "POLYGON ((90 10, 90 20, 120 20, 120 10, 90 10))");
+  }
+
+  public void testCrossingHole() {
+    checkOverlay(MASK_DONUT, "POLYGON ((20 40, 20 50, 50 50, 50 40, 20 40))");
+  }
+
+  public void testCoveringHole() {
+    checkOverlay(MASK_DONUT, "POLYGON ((20 20, 20 80, 80 80, 80 20, 20 20))");
+  }
+
+  public void testCoveringMask() {
+    checkOverlay(MASK_DONUT, "POLYGON ((-10 -10, -10 110, 110 110, 110 -10, -10 -10))");
+  }
+
+  public void testCrossingStartPoint() {
+    checkOverlay("POLYGON ((50 0, 0 0, 0 100, 100 100, 100 0, 50 0))",
+        "POLYGON ((40 -10, 40 10, 60 10, 60 -10, 40 -10))");
+  }
+
+  public void testMultiPolygonMask() {
+    checkOverlay("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((20 0, 20 10, 30 10, 30 0, 20 0)))",
+        "POLYGON ((5 2, 5 8, 25 8, 25 2, 5 2))");
+  }
+
+  public void testTouchingBoundary() {
+    checkOverlay(MASK_DONUT, "POLYGON ((100 10, 100 20, 110 20, 110 10, 100 10))");
+  }
+
+  public void testLine() {
+    checkOverlay(MASK_DONUT, "LINESTRING (-10 50, 50 50, 50 110)");
+  }
+
+  public void testLineInside() {
+    checkOverlay(MASK_DONUT, "LINESTRING (10 10, 20 20)");
+  }
+
+  public void testPoints() {
+    checkOverlay(MASK_DONUT, "MULTIPOINT ((10 10), (50 50), (100 50), (30 50), (110 50))");
+  }
+
+  public void testEmpty() {
+    checkOverlay(MASK_DONUT, "POLYGON EMPTY");
+    checkOverlay(MASK_DONUT, "LINESTRING EMPTY");
+    checkOverlay("POLYGON EMPTY", "POLYGON ((10 10, 10 20, 20 20, 20 10, 10 10))");
+  }
+
+  public void testFixedPrecision() {
+    Geometry mask = read(MASK_DONUT);
+    PrecisionModel pm = new PrecisionModel(1);
+    PreparedOverlay prep = new PreparedOverlay(mask, pm);
+    String[] wkts = new String[] {
+        "POLYGON ((90.3 10.2, 90.3 20.6, 120.4 20.6, 120.4 10.2, 90.3 10.2))",
+        "POLYGON ((10.3 10.2, 10.3 20.6, 20.4 20.6, 20.4 10.2, 10.3 10.2))",
+        "POLYGON ((20.4 40.1, 20.4 50.6, 50.3 50.6, 50.3 40.1, 20.4 40.1))",
+    };
+    for (String wkt : wkts) {
+      Geometry geom = read(wkt);
+      checkEqual(OverlayNG.overlay(geom, mask, INTERSECTION, pm), prep.intersection(geom));
+      checkEqual(OverlayNG.overlay(geom, mask, DIFFERENCE, pm), prep.difference(geom));
+    }
+  }
+
+  public void testReuseWithZ() {
+    Geometry mask = read("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))");
+    PreparedOverlay prep = new PreparedOverlay(mask);
+    Geometry resultZ = prep.intersection(read("POLYGON Z ((5 5 7, 15 5 7, 15 15 7, 5 15 7, 5 5 7))"));
+    assertEquals(7.0, resultZ.getCoordinates()[1].getZ());
+    // the Z of the previous result must not be written into the mask
+    Geometry result = prep.intersection(read("POLYGON ((8 8, 12 8, 12 12, 8 12, 8 8))"));
+    checkEqual(read("POLYGON ((8 8, 8 10, 10 10, 10 8, 8 8))"), result);
+    for (Coordinate p : result.getCoordinates()) {
+      assertTrue(Double.isNaN(p.getZ()));
+    }
+    for (Coordinate p : mask.getCoordinates()) {
+      assertTrue(Double.isNaN(p.getZ()));
+    }
+  }
+
+  public void testNonPolygonalMask() {
+    try {
+      new PreparedOverlay(read("LINESTRING (0 0, 10 10)"));
+      fail();
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testRandomBoxesSineStar() {
+    Geometry mask = SineStarFactory.create(new Coordinate(50, 50), 100, 2000, 9, 0.4);
+    PreparedOverlay prep = new PreparedOverlay(mask);
+    for (Geometry box : randomBoxes(200, 8, 1)) {
+      checkOverlay(prep, box);
+    }
+  }
+
+  public void testConcurrent() {
+    Geometry mask = SineStarFactory.create(new Coordinate(50, 50), 100, 2000, 9, 0.4);
+    final PreparedOverlay prep = new PreparedOverlay(mask);
+    final List<Geometry> boxes = randomBoxes(400, 8, 2);
+    final Geometry[] result = new Geometry[boxes.size()];
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+      for (int i = 0; i < boxes.size(); i++) {
+        final int index = i;
+        tasks.add(pool.submit(new Runnable() {
+          public void run() {
+            result[index] = prep.intersection(boxes.get(index));
+          }
+        }));
+      }
+      for (ForkJoinTask<?> task : tasks) {
+        task.join();
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+    for (int i = 0; i < boxes.size(); i++) {
+      checkEqual(OverlayNG.overlay(boxes.get(i), mask, INTERSECTION), result[i]);
+    }
+  }
+
+  private void checkOverlay(String wktMask, String wkt) {
+    PreparedOverlay prep = new PreparedOverlay(read(wktMask));
+    checkOverlay(prep, read(wkt));
+  }
+
+  private void checkOverlay(PreparedOverlay prep, Geometry geom) {
+    Geometry mask = prep.getGeometry();
+    checkEqual(OverlayNG.overlay(geom, mask, INTERSECTION), prep.intersection(geom));
+    checkEqual(OverlayNG.overlay(geom, mask, DIFFERENCE), prep.difference(geom));
+  }
+
+  private List<Geometry> randomBoxes(int num, double size, long seed) {
+    Random random = new Random(seed);
+    List<Geometry> boxes = new ArrayList<Geometry>();
+    for (int i = 0; i < num; i++) {
+      double x = -10 + 120 * random.nextDouble();
+      double y = -10 + 120 * random.nextDouble();
+      Geometry box = SineStarFactory.create(new Coordinate(x, y), size, 20, 3, 0.2);
+      boxes.add(box);
+    }
+    return boxes;
+  }
+}
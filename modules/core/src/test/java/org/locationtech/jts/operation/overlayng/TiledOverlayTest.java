@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.overlayng;
+
+import static org.locationtech.jts.operation.overlayng.OverlayNG.DIFFERENCE;
+import static org.locationtech.jts.operation.overlayng.OverlayNG.INTERSECTION;
+import static org.locationtech.jts.operation.overlayng.OverlayNG.SYMDIFFERENCE;
+import static org.locationtech.jts.operation.overlayng.OverlayNG.UNION;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.operation.valid.IsValidOp;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests {@link TiledOverlay}.
+ */
+public class TiledOverlayTest extends GeometryTestCase {
+  public static void main(String args[]) {
+    TestRunner.run(TiledOverlayTest.class);
+  }
+
+  private static final int[] OPS = new int[] { INTERSECTION, UNION, DIFFERENCE, SYMDIFFERENCE };
+
+  private ForkJoinPool pool = new ForkJoinPool(4);
+
+  public TiledOverlayTest(String name) { super(name); }
+
+  protected void tearDown() {
+    pool.shutdown();
+  }
+
+  public void testBoxes() {
+    checkOverlay("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))",
+        "POLYGON ((5 5, 5 15, 15 15, 15 5, 5 5))", 3);
+  }
+
+  public void testDonut() {
+    checkOverlay("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (30 30, 70 30, 70 70, 30 70, 30 30))",
+        "POLYGON ((20 40, 20 60, 120 60, 120 40, 20 40))", 4);
+  }
+
+  public void testDonutReversed() {
+    checkOverlay("POLYGON ((0 0, 100 0, 100 100, 0 100, 0 0), (30 30, 30 70, 70 70, 70 30, 30 30))",
+        "POLYGON ((20 40, 120 40, 120 60, 20 60, 20 40))", 4);
+  }
+
+  public void testMultiPolygon() {
+    checkOverlay("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((20 0, 20 10, 30 10, 30 0, 20 0)))",
+        "POLYGON ((5 2, 5 8, 25 8, 25 2, 5 2))", 5);
+  }
+
+  public void testVerticesOnGridLines() {
+    // grid lines are at 10 and 20
+    checkOverlay("POLYGON ((0 0, 0 30, 30 30, 30 0, 20 10, 10 0, 0 0))",
+        "POLYGON ((10 10, 10 20, 20 20, 20 10, 10 10))", 3);
+  }
+
+  public void testDisjoint() {
+    checkOverlay("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))",
+        "POLYGON ((20 20, 20 30, 30 30, 30 20, 20 20))", 4);
+  }
+
+  public void testHoleTouchingShellAtSeam() {
+    // the hole touches the shell at 80 60, on the grid line y = 60
+    checkOverlay("MULTIPOLYGON (((5 25, 5 30, 10 30, 10 25, 5 25)), ((55 50, 55 70, 80 70, 80 60, 90 60, 90 45, 85 45, 85 40, 70 40, 70 45, 65 45, 65 50, 55 50)), ((10 95, 10 110, 30 110, 30 95, 10 95)), ((95 90, 95 105, 115 105, 115 90, 95 90)))",
+        "MULTIPOLYGON (((20 5, 20 30, 5 30, 5 55, 30 55, 30 30, 35 30, 35 5, 20 5)), ((30 65, 30 80, 50 80, 50 65, 30 65)), ((40 15, 40 30, 65 30, 65 15, 40 15)), ((75 50, 75 60, 80 60, 80 50, 75 50)), ((80 65, 80 80, 105 80, 105 65, 80 65)))",
+        3);
+  }
+
+  public void testHoleTouchingShellOnGridLine() {
+    // grid line is at x = 10
+    checkOverlay("POLYGON ((0 0, 0 20, 20 20, 20 0, 0 0))",
+        "POLYGON ((5 5, 5 15, 10 20, 15 15, 15 5, 5 5))", 2);
+  }
+
+  public void testComponentsTouchingAtGridVertex() {
+    // grid lines are at 10
+    checkOverlay("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((10 10, 10 20, 20 20, 20 10, 10 10)))",
+        "POLYGON ((5 2, 5 18, 15 18, 15 2, 5 2))", 2);
+  }
+
+  public void testVertexOnGridLine() {
+    // grid lines are at 10, 20 and 30;
+    // the triangle vertex 20 20 is present only in the tiles below y = 20
+    checkOverlay("POLYGON ((0 0, 0 40, 40 40, 40 0, 0 0))",
+        "POLYGON ((5 5, 35 5, 20 20, 5 5))", 4);
+  }
+
+  public void testRingTouchingTileAtPoint() {
+    // for union the grid lines are at x = 55 and y = 65;
+    // the triangle touches the tile above y = 65 and right of x = 55 only at 55 85
+    checkOverlay("MULTIPOLYGON (((45 65, 45 70, 50 70, 50 85, 65 85, 65 65, 50 65, 45 65)), ((80 95, 80 105, 105 105, 105 95, 80 95)))",
+        "MULTIPOLYGON (((35 25, 35 40, 50 25, 35 25)), ((0 35, 0 40, 15 35, 0 35)), ((35 85, 35 90, 55 85, 35 85)), ((45 50, 45 70, 60 50, 45 50)), ((85 50, 85 75, 95 75, 95 50, 85 50)), ((90 90, 90 95, 110 90, 90 90)))",
+        2);
+  }
+
+  public void testTouchingAreaResultOnly() {
+    Geometry a = read("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((20 0, 20 10, 30 10, 30 0, 20 0)))");
+    Geometry b = read("POLYGON ((5 0, 5 10, 20 10, 20 0, 5 0))");
+    for (int gridSize = 1; gridSize <= 4; gridSize++) {
+      TiledOverlay ov = new TiledOverlay(a, b, INTERSECTION);
+      ov.setGridSize(gridSize);
+      Geometry actual = ov.getResult();
+      // the line 20 0, 20 10 where the inputs touch is not included
+      assertTrue(actual instanceof Polygonal);
+      assertEquals(50.0, actual.getArea());
+    }
+  }
+
+  public void testFloatingNotTiledByDefault() {
+    Geometry a = read("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))");
+    Geometry b = read("POLYGON ((5 5, 5 15, 15 15, 15 5, 5 5))");
+    // an untiled result has no vertices added on tile lines
+    checkEqual(OverlayNG.overlay(a, b, UNION), TiledOverlay.overlay(a, b, UNION, pool));
+  }
+
+  public void testLineFallback() {
+    Geometry a = read("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))");
+    Geometry b = read("LINESTRING (-5 5, 15 5)");
+    for (int op : OPS) {
+      TiledOverlay ov = new TiledOverlay(a, b, op);
+      ov.setGridSize(4);
+      checkEqual(OverlayNG.overlay(a, b, op), ov.getResult());
+    }
+  }
+
+  public void testSineStars() {
+    Geometry a = SineStarFactory.create(new Coordinate(50, 50), 100, 2000, 9, 0.4);
+    Geometry b = SineStarFactory.create(new Coordinate(60, 45), 90, 2000, 13, 0.3);
+    for (int op : OPS) {
+      checkOverlay(a, b, op, 7);
+    }
+  }
+
+  public void testSineStarsFixedPrecision() {
+    PrecisionModel pm = new PrecisionModel(100);
+    Geometry a = SineStarFactory.create(new Coordinate(50, 50), 100, 1000, 9, 0.4);
+    Geometry b = SineStarFactory.create(new Coordinate(60, 45), 90, 1000, 13, 0.3);
+    for (int op : OPS) {
+      Geometry expected = OverlayNG.overlay(a, b, op, pm);
+      TiledOverlay ov = new TiledOverlay(a, b, pm, op);
+      ov.setGridSize(5);
+      ov.setForkJoinPool(pool);
+      Geometry actual = ov.getResult();
+      assertTrue(actual.isValid());
+      // vertices added on the tile lines are rounded to the precision grid
+      double tol = 1e-4 * expected.getArea();
+      assertEquals(expected.getArea(), actual.getArea(), tol);
+      assertEquals(0.0, OverlayNG.overlay(expected, actual, SYMDIFFERENCE).getArea(), tol);
+    }
+  }
+
+  private void checkOverlay(String wkt0, String wkt1, int gridSize) {
+    Geometry a = read(wkt0);
+    Geometry b = read(wkt1);
+    for (int op : OPS) {
+      checkOverlay(a, b, op, gridSize);
+    }
+  }
+
+  private void checkOverlay(Geometry a, Geometry b, int opCode, int gridSize) {
+    OverlayNG ov = new OverlayNG(a, b, opCode);
+    ov.setAreaResultOnly(true);
+    Geometry expected = ov.getResult();
+    checkOverlay(expected, a, b, opCode, gridSize, null);
+    checkOverlay(expected, a, b, opCode, gridSize, pool);
+  }
+
+  private void checkOverlay(Geometry expected, Geometry a, Geometry b, int opCode, int gridSize, ForkJoinPool pool) {
+    TiledOverlay ov = new TiledOverlay(a, b, opCode);
+    ov.setGridSize(gridSize);
+    ov.setForkJoinPool(pool);
+    Geometry actual = ov.getResult();
+    assertTrue(new IsValidOp(actual).isValid());
+    assertEquals(expected.getArea(), actual.getArea(), 1e-9 * Math.max(1, expected.getArea()));
+    // the tiled result may contain extra vertices on the tile lines
+    Geometry diff = OverlayNG.overlay(expected, actual, SYMDIFFERENCE);
+    assertEquals(0.0, diff.getArea(), 1e-9 * Math.max(1, expected.getArea()));
+    assertEquals(expected.getNumGeometries(), actual.getNumGeometries());
+  }
+}
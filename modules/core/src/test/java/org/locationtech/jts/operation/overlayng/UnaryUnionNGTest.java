@@ -11,7 +11,9 @@
  */
 package org.locationtech.jts.operation.overlayng;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.PrecisionModel;
@@ -70,10 +72,16 @@ public class UnaryUnionNGTest extends GeometryTestCase
     PrecisionModel pm = new PrecisionModel(scaleFactor);
     Geometry result = UnaryUnionNG.union(geom, pm);
     checkEqual(expected, result);
+    
+    Geometry resultPar = UnaryUnionNG.union(geom, pm, ForkJoinPool.commonPool());
+    checkEqual(expected, resultPar);
   }
   
   private void checkUnaryUnion(String[] wkt, double scaleFactor, String wktExpected) {
-    List geoms = readList(wkt);
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (String w : wkt) {
+      geoms.add(read(w));
+    }
     Geometry expected = read(wktExpected);
     PrecisionModel pm = new PrecisionModel(scaleFactor);
     Geometry result;
@@ -82,6 +90,7 @@ public class UnaryUnionNGTest extends GeometryTestCase
     }
     else {
       result = UnaryUnionNG.union(geoms, pm);      
+      checkEqual(expected, UnaryUnionNG.union(geoms, pm, ForkJoinPool.commonPool()));
     }
     checkEqual(expected, result);
   }
@@ -12,7 +12,10 @@
 
 package org.locationtech.jts.simplify;
 
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
 
@@ -67,7 +70,32 @@ public class VWSimplifierTest
         .test();
   }
 
- 
+  public void testLineEqualAreasRemovedInOrder() throws Exception {
+    new GeometryOperationValidator(
+        VWSimplifierResult.getResult(
+      "LINESTRING (0 0, 1 1, 2 0, 3 1, 4 0)",
+        Math.sqrt(1.5)))
+        .setExpectedResult("LINESTRING (0 0, 3 1, 4 0)")
+        .test();
+  }
+
+  /**
+   * Checks that long lines are simplified in reasonable time.
+   */
+  public void testLongLine() {
+    int nPts = 200000;
+    Coordinate[] pts = new Coordinate[nPts];
+    for (int i = 0; i < nPts; i++) {
+      pts[i] = new Coordinate(i, 100 * Math.sin(i / 100.0) + (i % 7) / 10.0);
+    }
+    LineString line = new GeometryFactory().createLineString(pts);
+    Geometry simp = VWSimplifier.simplify(line, 1.0);
+    
+    assertTrue(simp.getNumPoints() < nPts / 2);
+    assertTrue(simp.getNumPoints() > 2);
+    assertTrue(simp.getCoordinates()[0].equals2D(pts[0]));
+    assertTrue(simp.getCoordinates()[simp.getNumPoints() - 1].equals2D(pts[nPts - 1]));
+  }
 }
 
 class VWSimplifierResult
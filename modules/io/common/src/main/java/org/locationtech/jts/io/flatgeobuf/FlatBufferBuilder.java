@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.flatgeobuf;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds a buffer in the FlatBuffers binary format.
+ * This supports only the subset of the format
+ * used by FlatGeobuf (tables, vectors of scalars, strings and tables).
+ * <p>
+ * As in the FlatBuffers library, the buffer is built from back to front,
+ * so that objects are created before the objects which refer to them.
+ * Objects are identified by their offset from the end of the buffer.
+ * The builder can be reused by calling {@link #clear()}.
+ */
+class FlatBufferBuilder
+{
+  private static final int INITIAL_SIZE = 1024;
+
+  private byte[] buf = new byte[INITIAL_SIZE];
+  private int space = buf.length;
+  private int minAlign = 1;
+
+  private int[] vtable = new int[16];
+  private int vtableSize = 0;
+  private int objectStart;
+
+  /**
+   * Clears the builder so that it can be used to build another buffer.
+   */
+  void clear() {
+    space = buf.length;
+    minAlign = 1;
+  }
+
+  /**
+   * Gets the offset of the last object written,
+   * relative to the end of the buffer.
+   *
+   * @return the current offset
+   */
+  int offset() {
+    return buf.length - space;
+  }
+
+  /**
+   * Finishes the buffer by writing the offset of the root table,
+   * preceded by the size of the buffer.
+   *
+   * @param root the offset of the root table
+   * @return the bytes of the finished buffer, including the size prefix
+   */
+  byte[] finishSizePrefixed(int root) {
+    prep(minAlign, 2 * 4);
+    addOffset(root);
+    putInt(offset());
+    byte[] result = new byte[offset()];
+    System.arraycopy(buf, space, result, 0, result.length);
+    return result;
+  }
+
+  /**
+   * Creates a string.
+   *
+   * @param s the string value
+   * @return the offset of the string
+   */
+  int createString(String s) {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    prep(4, bytes.length + 1);
+    // null terminator
+    putByte((byte) 0);
+    space -= bytes.length;
+    System.arraycopy(bytes, 0, buf, space, bytes.length);
+    putInt(bytes.length);
+    return offset();
+  }
+
+  /**
+   * Creates a vector of bytes.
+   *
+   * @param values the vector values
+   * @param len the number of values to use
+   * @return the offset of the vector
+   */
+  int createByteVector(byte[] values, int len) {
+    prep(4, len);
+    space -= len;
+    System.arraycopy(values, 0, buf, space, len);
+    putInt(len);
+    return offset();
+  }
+
+  /**
+   * Creates a vector of doubles.
+   *
+   * @param values the vector values
+   * @param len the number of values to use
+   * @return the offset of the vector
+   */
+  int createDoubleVector(double[] values, int len) {
+    prep(4, 8 * len);
+    prep(8, 8 * len);
+    for (int i = len - 1; i >= 0; i--) {
+      putLong(Double.doubleToRawLongBits(values[i]));
+    }
+    putInt(len);
+    return offset();
+  }
+
+  /**
+   * Creates a vector of unsigned integers.
+   *
+   * @param values the vector values
+   * @param len the number of values to use
+   * @return the offset of the vector
+   */
+  int createIntVector(int[] values, int len) {
+    prep(4, 4 * len);
+    for (int i = len - 1; i >= 0; i--) {
+      putInt(values[i]);
+    }
+    putInt(len);
+    return offset();
+  }
+
+  /**
+   * Creates a vector of tables.
+   *
+   * @param offsets the offsets of the tables
+   * @param len the number of tables
+   * @return the offset of the vector
+   */
+  int createOffsetVector(int[] offsets, int len) {
+    prep(4, 4 * len);
+    for (int i = len - 1; i >= 0; i--) {
+      addOffset(offsets[i]);
+    }
+    putInt(len);
+    return offset();
+  }
+
+  /**
+   * Starts a table.
+   * The fields of the table are added with the <tt>add</tt> methods,
+   * and the table is completed with {@link #endTable()}.
+   * Fields which are objects must be created before the table is started.
+   *
+   * @param numFields the number of fields in the table schema
+   */
+  void startTable(int numFields) {
+    if (vtable.length < numFields)
+      vtable = new int[numFields];
+    for (int i = 0; i < numFields; i++) {
+      vtable[i] = 0;
+    }
+    vtableSize = numFields;
+    objectStart = offset();
+  }
+
+  void addByte(int field, int value) {
+    prep(1, 0);
+    putByte((byte) value);
+    vtable[field] = offset();
+  }
+
+  void addBoolean(int field, boolean value) {
+    addByte(field, value ? 1 : 0);
+  }
+
+  void addShort(int field, int value) {
+    prep(2, 0);
+    putShort((short) value);
+    vtable[field] = offset();
+  }
+
+  void addInt(int field, int value) {
+    prep(4, 0);
+    putInt(value);
+    vtable[field] = offset();
+  }
+
+  void addLong(int field, long value) {
+    prep(8, 0);
+    putLong(value);
+    vtable[field] = offset();
+  }
+
+  void addOffset(int field, int off) {
+    addOffset(off);
+    vtable[field] = offset();
+  }
+
+  /**
+   * Completes a table by writing its vtable.
+   *
+   * @return the offset of the table
+   */
+  int endTable() {
+    // placeholder for the offset to the vtable
+    prep(4, 0);
+    putInt(0);
+    int tableOffset = offset();
+    int n = vtableSize;
+    while (n > 0 && vtable[n - 1] == 0) {
+      n--;
+    }
+    for (int i = n - 1; i >= 0; i--) {
+      putShort((short) (vtable[i] != 0 ? tableOffset - vtable[i] : 0));
+    }
+    putShort((short) (tableOffset - objectStart));
+    putShort((short) ((n + 2) * 2));
+    setInt(buf.length - tableOffset, offset() - tableOffset);
+    return tableOffset;
+  }
+
+  private void addOffset(int off) {
+    prep(4, 0);
+    putInt(offset() - off + 4);
+  }
+
+  /**
+   * Prepares to write an element of a given size,
+   * after some number of additional bytes,
+   * by padding so that the element is aligned.
+   * The buffer is enlarged if required.
+   */
+  private void prep(int size, int additionalBytes) {
+    if (size > minAlign)
+      minAlign = size;
+    int alignSize = (~(buf.length - space + additionalBytes) + 1) & (size - 1);
+    int required = alignSize + size + additionalBytes;
+    if (space < required) {
+      grow(required);
+    }
+    for (int i = 0; i < alignSize; i++) {
+      buf[--space] = 0;
+    }
+  }
+
+  private void grow(int required) {
+    int used = buf.length - space;
+    int newSize = Math.max(2 * buf.length, used + required);
+    byte[] newBuf = new byte[newSize];
+    System.arraycopy(buf, space, newBuf, newSize - used, used);
+    buf = newBuf;
+    space = newSize - used;
+  }
+
+  private void putByte(byte value) {
+    buf[--space] = value;
+  }
+
+  private void putShort(short value) {
+    if (space < 2) grow(2);
+    buf[--space] = (byte) (value >> 8);
+    buf[--space] = (byte) value;
+  }
+
+  private void putInt(int value) {
+    if (space < 4) grow(4);
+    space -= 4;
+    setInt(space, value);
+  }
+
+  private void putLong(long value) {
+    space -= 8;
+    for (int i = 0; i < 8; i++) {
+      buf[space + i] = (byte) (value >> (8 * i));
+    }
+  }
+
+  private void setInt(int pos, int value) {
+    buf[pos] = (byte) value;
+    buf[pos + 1] = (byte) (value >> 8);
+    buf[pos + 2] = (byte) (value >> 16);
+    buf[pos + 3] = (byte) (value >> 24);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.flatgeobuf;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Functions for reading values from a buffer in the FlatBuffers binary format.
+ * Tables, vectors and strings are identified by their position in the buffer.
+ * The buffer must have little-endian byte order.
+ */
+class FlatBuffers
+{
+  /**
+   * Gets the position of the root table of a buffer.
+   *
+   * @param bb the buffer
+   * @param pos the position of the start of the buffer
+   * @return the position of the root table
+   */
+  static int root(ByteBuffer bb, int pos) {
+    return pos + bb.getInt(pos);
+  }
+
+  /**
+   * Gets the position of a field in a table.
+   *
+   * @param bb the buffer
+   * @param table the position of the table
+   * @param field the index of the field in the table schema
+   * @return the position of the field, or 0 if the field is not present
+   */
+  static int field(ByteBuffer bb, int table, int field) {
+    int vtable = table - bb.getInt(table);
+    int vtableSize = bb.getShort(vtable) & 0xFFFF;
+    int entry = 4 + 2 * field;
+    if (entry >= vtableSize)
+      return 0;
+    int off = bb.getShort(vtable + entry) & 0xFFFF;
+    if (off == 0)
+      return 0;
+    return table + off;
+  }
+
+  /**
+   * Gets the position of an object referenced by a field.
+   *
+   * @param bb the buffer
+   * @param table the position of the table
+   * @param field the index of the field in the table schema
+   * @return the position of the object, or 0 if the field is not present
+   */
+  static int object(ByteBuffer bb, int table, int field) {
+    int pos = field(bb, table, field);
+    if (pos == 0)
+      return 0;
+    return pos + bb.getInt(pos);
+  }
+
+  /**
+   * Gets the length of a vector.
+   *
+   * @param bb the buffer
+   * @param vector the position of the vector, or 0
+   * @return the number of elements in the vector (0 if the vector is not present)
+   */
+  static int vectorLength(ByteBuffer bb, int vector) {
+    if (vector == 0)
+      return 0;
+    return bb.getInt(vector);
+  }
+
+  /**
+   * Gets the position of an element of a vector.
+   *
+   * @param vector the position of the vector
+   * @param index the index of the element
+   * @param elementSize the size of an element in bytes
+   * @return the position of the element
+   */
+  static int element(int vector, int index, int elementSize) {
+    return vector + 4 + index * elementSize;
+  }
+
+  /**
+   * Gets the position of a table in a vector of tables.
+   *
+   * @param bb the buffer
+   * @param vector the position of the vector
+   * @param index the index of the table
+   * @return the position of the table
+   */
+  static int tableElement(ByteBuffer bb, int vector, int index) {
+    int pos = element(vector, index, 4);
+    return pos + bb.getInt(pos);
+  }
+
+  /**
+   * Gets the value of a string field.
+   *
+   * @param bb the buffer
+   * @param table the position of the table
+   * @param field the index of the field in the table schema
+   * @return the string value, or null if the field is not present
+   */
+  static String string(ByteBuffer bb, int table, int field) {
+    int pos = object(bb, table, field);
+    if (pos == 0)
+      return null;
+    return decodeString(bb, pos + 4, bb.getInt(pos));
+  }
+
+  /**
+   * Decodes a UTF-8 string from a buffer.
+   *
+   * @param bb the buffer
+   * @param pos the position of the string bytes
+   * @param len the number of bytes
+   * @return the string value
+   */
+  static String decodeString(ByteBuffer bb, int pos, int len) {
+    byte[] bytes = new byte[len];
+    for (int i = 0; i < len; i++) {
+      bytes[i] = bb.get(pos + i);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  static int byteField(ByteBuffer bb, int table, int field, int defaultValue) {
+    int pos = field(bb, table, field);
+    return pos == 0 ? defaultValue : bb.get(pos) & 0xFF;
+  }
+
+  static int shortField(ByteBuffer bb, int table, int field, int defaultValue) {
+    int pos = field(bb, table, field);
+    return pos == 0 ? defaultValue : bb.getShort(pos) & 0xFFFF;
+  }
+
+  static int intField(ByteBuffer bb, int table, int field, int defaultValue) {
+    int pos = field(bb, table, field);
+    return pos == 0 ? defaultValue : bb.getInt(pos);
+  }
+
+  static long longField(ByteBuffer bb, int table, int field, long defaultValue) {
+    int pos = field(bb, table, field);
+    return pos == 0 ? defaultValue : bb.getLong(pos);
+  }
+}
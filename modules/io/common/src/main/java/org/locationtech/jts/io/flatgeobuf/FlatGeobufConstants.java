@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.flatgeobuf;
+
+/**
+ * Constants for the FlatGeobuf format,
+ * including the codes for geometry types and column types.
+ */
+public class FlatGeobufConstants {
+
+  public static final int GEOMETRY_UNKNOWN = 0;
+  public static final int GEOMETRY_POINT = 1;
+  public static final int GEOMETRY_LINESTRING = 2;
+  public static final int GEOMETRY_POLYGON = 3;
+  public static final int GEOMETRY_MULTIPOINT = 4;
+  public static final int GEOMETRY_MULTILINESTRING = 5;
+  public static final int GEOMETRY_MULTIPOLYGON = 6;
+  public static final int GEOMETRY_GEOMETRYCOLLECTION = 7;
+
+  public static final int COLUMN_BYTE = 0;
+  public static final int COLUMN_UBYTE = 1;
+  public static final int COLUMN_BOOL = 2;
+  public static final int COLUMN_SHORT = 3;
+  public static final int COLUMN_USHORT = 4;
+  public static final int COLUMN_INT = 5;
+  public static final int COLUMN_UINT = 6;
+  public static final int COLUMN_LONG = 7;
+  public static final int COLUMN_ULONG = 8;
+  public static final int COLUMN_FLOAT = 9;
+  public static final int COLUMN_DOUBLE = 10;
+  public static final int COLUMN_STRING = 11;
+  public static final int COLUMN_JSON = 12;
+  public static final int COLUMN_DATETIME = 13;
+  public static final int COLUMN_BINARY = 14;
+
+  /**
+   * The default number of children of each index node.
+   */
+  public static final int DEFAULT_NODE_SIZE = 16;
+
+  /**
+   * The bytes at the start of a FlatGeobuf file.
+   * The fourth byte is the major version of the format.
+   */
+  static final byte[] MAGIC = { 0x66, 0x67, 0x62, 0x03, 0x66, 0x67, 0x62, 0x01 };
+
+  /**
+   * The size in bytes of an index node
+   * (the four bounds ordinates and the offset).
+   */
+  static final int NODE_ITEM_SIZE = 40;
+
+  /*
+   * Field indexes of the FlatBuffers tables in the format schema.
+   */
+
+  static final int HEADER_NAME = 0;
+  static final int HEADER_ENVELOPE = 1;
+  static final int HEADER_GEOMETRY_TYPE = 2;
+  static final int HEADER_HAS_Z = 3;
+  static final int HEADER_HAS_M = 4;
+  static final int HEADER_COLUMNS = 7;
+  static final int HEADER_FEATURES_COUNT = 8;
+  static final int HEADER_INDEX_NODE_SIZE = 9;
+  static final int HEADER_CRS = 10;
+  static final int HEADER_NUM_FIELDS = 14;
+
+  static final int COLUMN_NAME = 0;
+  static final int COLUMN_TYPE = 1;
+  static final int COLUMN_NUM_FIELDS = 11;
+
+  static final int CRS_ORG = 0;
+  static final int CRS_CODE = 1;
+  static final int CRS_NUM_FIELDS = 6;
+
+  static final int GEOMETRY_ENDS = 0;
+  static final int GEOMETRY_XY = 1;
+  static final int GEOMETRY_Z = 2;
+  static final int GEOMETRY_M = 3;
+  static final int GEOMETRY_TYPE = 6;
+  static final int GEOMETRY_PARTS = 7;
+  static final int GEOMETRY_NUM_FIELDS = 8;
+
+  static final int FEATURE_GEOMETRY = 0;
+  static final int FEATURE_PROPERTIES = 1;
+  static final int FEATURE_NUM_FIELDS = 3;
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.flatgeobuf;
+
+import java.util.Map;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A FlatGeobuf feature,
+ * consisting of a {@link Geometry} and a map of property values.
+ * The geometry and the properties may be <tt>null</tt>.
+ * <p>
+ * Property values have the Java type corresponding to the column type
+ * (e.g. <tt>Integer</tt> for an <tt>Int</tt> column,
+ * <tt>String</tt> for <tt>String</tt>, <tt>Json</tt> and <tt>DateTime</tt> columns,
+ * and <tt>byte[]</tt> for <tt>Binary</tt> columns).
+ * Unsigned values are returned in the next larger type,
+ * except for <tt>ULong</tt> values which are returned as a <tt>Long</tt>
+ * containing the same bits.
+ *
+ * @see FlatGeobufReader
+ * @see FlatGeobufWriter
+ */
+public class FlatGeobufFeature {
+
+  private Geometry geometry;
+  private Map<String, Object> properties;
+
+  /**
+   * Creates a feature with a geometry and no properties.
+   *
+   * @param geometry the feature geometry (may be null)
+   */
+  public FlatGeobufFeature(Geometry geometry) {
+    this(geometry, null);
+  }
+
+  /**
+   * Creates a feature with a geometry and properties.
+   *
+   * @param geometry the feature geometry (may be null)
+   * @param properties the feature properties (may be null)
+   */
+  public FlatGeobufFeature(Geometry geometry, Map<String, Object> properties) {
+    this.geometry = geometry;
+    this.properties = properties;
+  }
+
+  /**
+   * Gets the feature geometry.
+   *
+   * @return the geometry, or null if the feature has no geometry
+   */
+  public Geometry getGeometry() {
+    return geometry;
+  }
+
+  /**
+   * Gets the feature properties.
+   *
+   * @return the properties, or null if the feature has no properties
+   */
+  public Map<String, Object> getProperties() {
+    return properties;
+  }
+
+  /**
+   * Gets the value of a feature property.
+   *
+   * @param name the property name
+   * @return the property value, or null if the property is not present
+   */
+  public Object getProperty(String name) {
+    if (properties == null)
+      return null;
+    return properties.get(name);
+  }
+}
@@ -0,0 +1,814 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.flatgeobuf;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * Reads features from a FlatGeobuf file.
+ * Features can be read sequentially using {@link #read()},
+ * or by bounding box using {@link #query(Envelope)}.
+ * A query uses the spatial index in the file (if present)
+ * to find the features whose envelope intersects the query envelope,
+ * and reads and decodes only those features.
+ * This allows features to be read from very large files efficiently.
+ * <p>
+ * The file data is read from a {@link SeekableByteChannel},
+ * which is positioned to read only the parts of the file required,
+ * or from a {@link ByteBuffer}, which may be a memory-mapped file.
+ * A file can be opened using either method via {@link #open(File)}
+ * or {@link #openMapped(File)}.
+ * <p>
+ * Geometries are created with the geometry factory provided,
+ * or if none is provided with a factory having the SRID of the file CRS.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see FlatGeobufWriter
+ */
+public class FlatGeobufReader
+  implements Closeable
+{
+  private static final int WINDOW_SIZE = 1 << 16;
+  private static final int MAGIC_SIZE = 8;
+  private static final int INT_SIZE = 4;
+  private static final int DOUBLE_SIZE = 8;
+
+  /**
+   * Opens a FlatGeobuf file for reading via a {@link FileChannel}.
+   * The file is closed when the reader is closed.
+   *
+   * @param file the file to read
+   * @return a reader for the file
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the file is not a FlatGeobuf file
+   */
+  public static FlatGeobufReader open(File file) throws IOException, ParseException {
+    FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      return new FlatGeobufReader(channel);
+    }
+    catch (IOException | ParseException ex) {
+      channel.close();
+      throw ex;
+    }
+  }
+
+  /**
+   * Opens a FlatGeobuf file for reading by memory-mapping it.
+   * The file must be smaller than 2 GB.
+   *
+   * @param file the file to read
+   * @return a reader for the file
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the file is not a FlatGeobuf file
+   */
+  public static FlatGeobufReader openMapped(File file) throws IOException, ParseException {
+    FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      if (channel.size() > Integer.MAX_VALUE)
+        throw new IOException("File is too large to map: " + file);
+      // mappings remain valid after the channel is closed
+      return new FlatGeobufReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+    finally {
+      channel.close();
+    }
+  }
+
+  private SeekableByteChannel channel;
+  private long dataSize;
+  private ByteBuffer window;
+  private long windowStart = 0;
+
+  private GeometryFactory geomFactory;
+  private CoordinateSequenceFactory csFactory;
+
+  private String name;
+  private Envelope envelope;
+  private int geometryType;
+  private String[] columnNames;
+  private int[] columnTypes;
+  private long featureCount;
+  private int nodeSize;
+  private int srid = 0;
+  private PackedRTree tree;
+  private long indexStart;
+  private long featuresStart;
+
+  private long nextFeaturePos;
+  private long count = 0;
+  /**
+   * The size of the last feature read, including the size prefix.
+   */
+  private int lastFeatureSize;
+
+  /**
+   * Creates a reader for a FlatGeobuf file read from a channel.
+   * The channel is closed when the reader is closed.
+   *
+   * @param channel the channel to read from
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the data is not in FlatGeobuf format
+   */
+  public FlatGeobufReader(SeekableByteChannel channel) throws IOException, ParseException {
+    this(channel, null);
+  }
+
+  /**
+   * Creates a reader for a FlatGeobuf file read from a channel,
+   * creating geometries with a given factory.
+   * The channel is closed when the reader is closed.
+   *
+   * @param channel the channel to read from
+   * @param geomFactory the factory to use, or null to use the SRID of the file
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the data is not in FlatGeobuf format
+   */
+  public FlatGeobufReader(SeekableByteChannel channel, GeometryFactory geomFactory)
+      throws IOException, ParseException
+  {
+    this.channel = channel;
+    this.dataSize = channel.size();
+    this.window = ByteBuffer.allocate(WINDOW_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    ((Buffer) window).limit(0);
+    init(geomFactory);
+  }
+
+  /**
+   * Creates a reader for a FlatGeobuf file contained in a buffer.
+   * The contents of the buffer from position 0 are used,
+   * and the buffer position is not modified.
+   *
+   * @param buf the buffer containing the file
+   * @throws ParseException if the data is not in FlatGeobuf format
+   */
+  public FlatGeobufReader(ByteBuffer buf) throws ParseException {
+    this(buf, null);
+  }
+
+  /**
+   * Creates a reader for a FlatGeobuf file contained in a buffer,
+   * creating geometries with a given factory.
+   * The contents of the buffer from position 0 are used,
+   * and the buffer position is not modified.
+   *
+   * @param buf the buffer containing the file
+   * @param geomFactory the factory to use, or null to use the SRID of the file
+   * @throws ParseException if the data is not in FlatGeobuf format
+   */
+  public FlatGeobufReader(ByteBuffer buf, GeometryFactory geomFactory) throws ParseException {
+    this.window = buf.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    ((Buffer) window).clear();
+    this.dataSize = window.capacity();
+    try {
+      init(geomFactory);
+    }
+    catch (IOException ex) {
+      // can not happen for a buffer
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private void init(GeometryFactory geomFactory) throws IOException, ParseException {
+    readHeader();
+    if (geomFactory == null) {
+      geomFactory = new GeometryFactory(new PrecisionModel(), srid);
+    }
+    this.geomFactory = geomFactory;
+    this.csFactory = geomFactory.getCoordinateSequenceFactory();
+    nextFeaturePos = featuresStart;
+  }
+
+  private void readHeader() throws IOException, ParseException {
+    if (dataSize < MAGIC_SIZE + INT_SIZE)
+      throw new ParseException("Data is not in FlatGeobuf format");
+    int p = load(0, MAGIC_SIZE + INT_SIZE);
+    for (int i = 0; i < MAGIC_SIZE; i++) {
+      // the patch version is not checked
+      if (i != MAGIC_SIZE - 1 && window.get(p + i) != FlatGeobufConstants.MAGIC[i])
+        throw new ParseException("Data is not in FlatGeobuf format");
+    }
+    int headerSize = window.getInt(p + MAGIC_SIZE);
+    if (headerSize < 0 || MAGIC_SIZE + INT_SIZE + (long) headerSize > dataSize)
+      throw new ParseException("Invalid FlatGeobuf header size: " + headerSize);
+    p = load(MAGIC_SIZE + INT_SIZE, headerSize);
+    try {
+      parseHeader(window, FlatBuffers.root(window, p));
+    }
+    catch (IndexOutOfBoundsException ex) {
+      throw new ParseException("Invalid FlatGeobuf header");
+    }
+    indexStart = MAGIC_SIZE + INT_SIZE + headerSize;
+    long indexSize = 0;
+    if (nodeSize > 0 && featureCount > 0) {
+      tree = new PackedRTree(featureCount, nodeSize);
+      indexSize = tree.getSize();
+    }
+    featuresStart = indexStart + indexSize;
+  }
+
+  private void parseHeader(ByteBuffer bb, int header) throws ParseException {
+    name = FlatBuffers.string(bb, header, FlatGeobufConstants.HEADER_NAME);
+    int env = FlatBuffers.object(bb, header, FlatGeobufConstants.HEADER_ENVELOPE);
+    if (FlatBuffers.vectorLength(bb, env) >= 4) {
+      envelope = new Envelope(
+          bb.getDouble(FlatBuffers.element(env, 0, DOUBLE_SIZE)),
+          bb.getDouble(FlatBuffers.element(env, 2, DOUBLE_SIZE)),
+          bb.getDouble(FlatBuffers.element(env, 1, DOUBLE_SIZE)),
+          bb.getDouble(FlatBuffers.element(env, 3, DOUBLE_SIZE)));
+    }
+    geometryType = FlatBuffers.byteField(bb, header, FlatGeobufConstants.HEADER_GEOMETRY_TYPE,
+        FlatGeobufConstants.GEOMETRY_UNKNOWN);
+    featureCount = FlatBuffers.longField(bb, header, FlatGeobufConstants.HEADER_FEATURES_COUNT, 0);
+    if (featureCount < 0)
+      throw new ParseException("Invalid feature count: " + featureCount);
+    nodeSize = FlatBuffers.shortField(bb, header, FlatGeobufConstants.HEADER_INDEX_NODE_SIZE,
+        FlatGeobufConstants.DEFAULT_NODE_SIZE);
+    if (nodeSize == 1)
+      throw new ParseException("Invalid index node size: " + nodeSize);
+
+    int columns = FlatBuffers.object(bb, header, FlatGeobufConstants.HEADER_COLUMNS);
+    int numColumns = FlatBuffers.vectorLength(bb, columns);
+    columnNames = new String[numColumns];
+    columnTypes = new int[numColumns];
+    for (int i = 0; i < numColumns; i++) {
+      int column = FlatBuffers.tableElement(bb, columns, i);
+      columnNames[i] = FlatBuffers.string(bb, column, FlatGeobufConstants.COLUMN_NAME);
+      columnTypes[i] = FlatBuffers.byteField(bb, column, FlatGeobufConstants.COLUMN_TYPE, 0);
+    }
+
+    int crs = FlatBuffers.object(bb, header, FlatGeobufConstants.HEADER_CRS);
+    if (crs != 0) {
+      String org = FlatBuffers.string(bb, crs, FlatGeobufConstants.CRS_ORG);
+      if (org == null || org.equalsIgnoreCase("EPSG"))
+        srid = FlatBuffers.intField(bb, crs, FlatGeobufConstants.CRS_CODE, 0);
+    }
+  }
+
+  /**
+   * Gets the dataset name recorded in the file header.
+   *
+   * @return the dataset name, or null if none
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the number of features in the file.
+   * This may be 0 if the number of features is unknown.
+   *
+   * @return the number of features
+   */
+  public long getFeatureCount() {
+    return featureCount;
+  }
+
+  /**
+   * Gets the envelope of the features recorded in the file header.
+   *
+   * @return the envelope of the features, or null if none is recorded
+   */
+  public Envelope getEnvelope() {
+    return envelope == null ? null : new Envelope(envelope);
+  }
+
+  /**
+   * Gets the type of the geometries in the file,
+   * as a code in {@link FlatGeobufConstants}.
+   *
+   * @return the geometry type code
+   */
+  public int getGeometryType() {
+    return geometryType;
+  }
+
+  /**
+   * Gets the SRID given by the EPSG code of the file CRS.
+   *
+   * @return the SRID, or 0 if the CRS is not specified
+   */
+  public int getSRID() {
+    return srid;
+  }
+
+  /**
+   * Tests whether the file has a spatial index.
+   *
+   * @return true if the file has a spatial index
+   */
+  public boolean hasIndex() {
+    return tree != null;
+  }
+
+  /**
+   * Gets the number of property columns.
+   *
+   * @return the number of columns
+   */
+  public int getColumnCount() {
+    return columnNames.length;
+  }
+
+  /**
+   * Gets the name of a column.
+   *
+   * @param i the column index
+   * @return the column name
+   */
+  public String getColumnName(int i) {
+    return columnNames[i];
+  }
+
+  /**
+   * Gets the type of a column,
+   * as a code in {@link FlatGeobufConstants}.
+   *
+   * @param i the column index
+   * @return the column type code
+   */
+  public int getColumnType(int i) {
+    return columnTypes[i];
+  }
+
+  /**
+   * Gets the number of features read by {@link #read()} so far.
+   *
+   * @return the number of features read
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Reads the next feature in the file.
+   *
+   * @return the next feature, or null if all features have been read
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the feature data is invalid
+   */
+  public FlatGeobufFeature read() throws IOException, ParseException {
+    if (featureCount > 0 ? count >= featureCount : nextFeaturePos >= dataSize)
+      return null;
+    FlatGeobufFeature feature = readFeature(nextFeaturePos);
+    nextFeaturePos += lastFeatureSize;
+    count++;
+    return feature;
+  }
+
+  /**
+   * Gets an {@link Iterator} over the remaining features in the file.
+   * Errors are reported by throwing an {@link UncheckedIOException}
+   * for I/O errors,
+   * and an {@link IllegalArgumentException} for invalid feature data.
+   *
+   * @return an iterator over the features
+   */
+  public Iterator<FlatGeobufFeature> iterator() {
+    return new FeatureIterator();
+  }
+
+  /**
+   * Reads the features whose envelopes intersect a query envelope.
+   * If the file has an index only the matching features are read,
+   * otherwise all features are read and tested.
+   * Features are returned in the order they occur in the file.
+   * This does not affect the position of sequential reading.
+   *
+   * @param queryEnv the envelope to query
+   * @return a list of the features found
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the file data is invalid
+   */
+  public List<FlatGeobufFeature> query(Envelope queryEnv) throws IOException, ParseException {
+    final List<FlatGeobufFeature> result = new ArrayList<FlatGeobufFeature>();
+    query(queryEnv, new ItemVisitor() {
+      public void visitItem(Object item) {
+        result.add((FlatGeobufFeature) item);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Reads the features whose envelopes intersect a query envelope,
+   * and passes them to a visitor.
+   *
+   * @param queryEnv the envelope to query
+   * @param visitor the visitor to pass the {@link FlatGeobufFeature}s found to
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the file data is invalid
+   */
+  public void query(Envelope queryEnv, ItemVisitor visitor) throws IOException, ParseException {
+    if (tree == null) {
+      scan(queryEnv, visitor);
+      return;
+    }
+    if (envelope != null && ! envelope.intersects(queryEnv))
+      return;
+    long[] offsets = searchIndex(queryEnv);
+    for (int i = 0; i < offsets.length; i++) {
+      visitor.visitItem(readFeature(featuresStart + offsets[i]));
+    }
+  }
+
+  private void scan(Envelope queryEnv, ItemVisitor visitor) throws IOException, ParseException {
+    long pos = featuresStart;
+    for (long i = 0; featureCount > 0 ? i < featureCount : pos < dataSize; i++) {
+      FlatGeobufFeature feature = readFeature(pos);
+      pos += lastFeatureSize;
+      Geometry geom = feature.getGeometry();
+      if (geom != null && geom.getEnvelopeInternal().intersects(queryEnv))
+        visitor.visitItem(feature);
+    }
+  }
+
+  /**
+   * Searches the index for the features whose bounds
+   * intersect an envelope.
+   *
+   * @param queryEnv the envelope to search for
+   * @return the offsets of the features found, in increasing order
+   */
+  private long[] searchIndex(Envelope queryEnv) throws IOException, ParseException {
+    long[] result = new long[16];
+    int numResults = 0;
+    // stack of node index and level
+    long[] stack = new long[64];
+    int stackSize = 0;
+    stack[stackSize++] = 0;
+    stack[stackSize++] = tree.getNumLevels() - 1;
+    long leafStart = tree.getLeafStart();
+    while (stackSize > 0) {
+      int level = (int) stack[--stackSize];
+      long nodeIndex = stack[--stackSize];
+      boolean isLeaf = nodeIndex >= leafStart;
+      long end = Math.min(nodeIndex + nodeSize, tree.getLevelEnd(level));
+      if (nodeIndex < 0 || end > tree.getNumNodes() || end <= nodeIndex)
+        throw new ParseException("Invalid index node: " + nodeIndex);
+      int numNodes = (int) (end - nodeIndex);
+      int p = load(indexStart + nodeIndex * FlatGeobufConstants.NODE_ITEM_SIZE,
+          numNodes * FlatGeobufConstants.NODE_ITEM_SIZE);
+      for (int i = 0; i < numNodes; i++) {
+        int node = p + i * FlatGeobufConstants.NODE_ITEM_SIZE;
+        if (queryEnv.getMaxX() < window.getDouble(node)
+            || queryEnv.getMaxY() < window.getDouble(node + DOUBLE_SIZE)
+            || queryEnv.getMinX() > window.getDouble(node + 2 * DOUBLE_SIZE)
+            || queryEnv.getMinY() > window.getDouble(node + 3 * DOUBLE_SIZE))
+          continue;
+        long offset = window.getLong(node + 4 * DOUBLE_SIZE);
+        if (isLeaf) {
+          if (numResults == result.length)
+            result = Arrays.copyOf(result, 2 * result.length);
+          result[numResults++] = offset;
+        }
+        else {
+          if (stackSize + 2 > stack.length)
+            stack = Arrays.copyOf(stack, 2 * stack.length);
+          stack[stackSize++] = offset;
+          stack[stackSize++] = level - 1;
+        }
+      }
+    }
+    long[] offsets = Arrays.copyOf(result, numResults);
+    Arrays.sort(offsets);
+    return offsets;
+  }
+
+  private FlatGeobufFeature readFeature(long pos) throws IOException, ParseException {
+    if (pos + INT_SIZE > dataSize)
+      throw new ParseException("Unexpected end of data reading feature at " + pos);
+    int p = load(pos, INT_SIZE);
+    int size = window.getInt(p);
+    if (size < 0 || pos + INT_SIZE + (long) size > dataSize)
+      throw new ParseException("Invalid feature size at " + pos);
+    p = load(pos, INT_SIZE + size);
+    lastFeatureSize = INT_SIZE + size;
+    try {
+      return decodeFeature(window, FlatBuffers.root(window, p + INT_SIZE));
+    }
+    catch (IndexOutOfBoundsException | IllegalArgumentException ex) {
+      throw new ParseException("Invalid feature data at " + pos + ": " + ex.getMessage());
+    }
+  }
+
+  /**
+   * Ensures that a range of the data is in the window buffer.
+   *
+   * @param pos the position of the data
+   * @param len the length of the data
+   * @return the position of the data in the window
+   */
+  private int load(long pos, int len) throws IOException, ParseException {
+    if (channel == null)
+      return (int) pos;
+    if (pos >= windowStart && pos + len <= windowStart + window.limit())
+      return (int) (pos - windowStart);
+    if (window.capacity() < len) {
+      window = ByteBuffer.allocate(len).order(ByteOrder.LITTLE_ENDIAN);
+    }
+    ((Buffer) window).clear();
+    ((Buffer) window).limit((int) Math.min(window.capacity(), dataSize - pos));
+    channel.position(pos);
+    while (window.hasRemaining()) {
+      if (channel.read(window) < 0)
+        break;
+    }
+    ((Buffer) window).flip();
+    windowStart = pos;
+    if (window.limit() < len)
+      throw new ParseException("Unexpected end of data at " + pos);
+    return 0;
+  }
+
+  /**
+   * Closes the underlying channel, if any.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  public void close() throws IOException {
+    if (channel != null)
+      channel.close();
+  }
+
+  //-------------------------------------------------------
+  //  Feature decoding
+  //-------------------------------------------------------
+
+  private FlatGeobufFeature decodeFeature(ByteBuffer bb, int feature) throws ParseException {
+    Geometry geom = null;
+    int geomTable = FlatBuffers.object(bb, feature, FlatGeobufConstants.FEATURE_GEOMETRY);
+    if (geomTable != 0) {
+      geom = decodeGeometry(bb, geomTable, geometryType);
+    }
+    Map<String, Object> properties = null;
+    int props = FlatBuffers.object(bb, feature, FlatGeobufConstants.FEATURE_PROPERTIES);
+    if (props != 0) {
+      properties = decodeProperties(bb, props + INT_SIZE, FlatBuffers.vectorLength(bb, props));
+    }
+    return new FlatGeobufFeature(geom, properties);
+  }
+
+  private Geometry decodeGeometry(ByteBuffer bb, int table, int defaultType) throws ParseException {
+    int type = FlatBuffers.byteField(bb, table, FlatGeobufConstants.GEOMETRY_TYPE,
+        FlatGeobufConstants.GEOMETRY_UNKNOWN);
+    if (type == FlatGeobufConstants.GEOMETRY_UNKNOWN)
+      type = defaultType;
+
+    if (type == FlatGeobufConstants.GEOMETRY_MULTIPOLYGON
+        || type == FlatGeobufConstants.GEOMETRY_GEOMETRYCOLLECTION) {
+      int parts = FlatBuffers.object(bb, table, FlatGeobufConstants.GEOMETRY_PARTS);
+      int numParts = FlatBuffers.vectorLength(bb, parts);
+      int partType = type == FlatGeobufConstants.GEOMETRY_MULTIPOLYGON
+          ? FlatGeobufConstants.GEOMETRY_POLYGON : FlatGeobufConstants.GEOMETRY_UNKNOWN;
+      if (type == FlatGeobufConstants.GEOMETRY_MULTIPOLYGON) {
+        Polygon[] polys = new Polygon[numParts];
+        for (int i = 0; i < numParts; i++) {
+          polys[i] = (Polygon) decodeGeometry(bb, FlatBuffers.tableElement(bb, parts, i), partType);
+        }
+        return geomFactory.createMultiPolygon(polys);
+      }
+      Geometry[] geoms = new Geometry[numParts];
+      for (int i = 0; i < numParts; i++) {
+        geoms[i] = decodeGeometry(bb, FlatBuffers.tableElement(bb, parts, i), partType);
+      }
+      return geomFactory.createGeometryCollection(geoms);
+    }
+
+    int xy = FlatBuffers.object(bb, table, FlatGeobufConstants.GEOMETRY_XY);
+    int z = FlatBuffers.object(bb, table, FlatGeobufConstants.GEOMETRY_Z);
+    int m = FlatBuffers.object(bb, table, FlatGeobufConstants.GEOMETRY_M);
+    int ends = FlatBuffers.object(bb, table, FlatGeobufConstants.GEOMETRY_ENDS);
+    int numCoords = FlatBuffers.vectorLength(bb, xy) / 2;
+    if (z != 0 && FlatBuffers.vectorLength(bb, z) < numCoords)
+      z = 0;
+    if (m != 0 && FlatBuffers.vectorLength(bb, m) < numCoords)
+      m = 0;
+    int numEnds = FlatBuffers.vectorLength(bb, ends);
+
+    switch (type) {
+    case FlatGeobufConstants.GEOMETRY_POINT:
+      if (numCoords == 0)
+        return geomFactory.createPoint();
+      return geomFactory.createPoint(sequence(bb, xy, z, m, 0, 1));
+    case FlatGeobufConstants.GEOMETRY_LINESTRING:
+      return geomFactory.createLineString(sequence(bb, xy, z, m, 0, numCoords));
+    case FlatGeobufConstants.GEOMETRY_MULTIPOINT: {
+      Point[] points = new Point[numCoords];
+      for (int i = 0; i < numCoords; i++) {
+        points[i] = geomFactory.createPoint(sequence(bb, xy, z, m, i, i + 1));
+      }
+      return geomFactory.createMultiPoint(points);
+    }
+    case FlatGeobufConstants.GEOMETRY_POLYGON: {
+      if (numCoords == 0)
+        return geomFactory.createPolygon();
+      int numRings = Math.max(1, numEnds);
+      LinearRing[] rings = new LinearRing[numRings];
+      int start = 0;
+      for (int i = 0; i < numRings; i++) {
+        int end = numEnds == 0 ? numCoords : partEnd(bb, ends, i, start, numCoords);
+        rings[i] = geomFactory.createLinearRing(sequence(bb, xy, z, m, start, end));
+        start = end;
+      }
+      return geomFactory.createPolygon(rings[0], Arrays.copyOfRange(rings, 1, numRings));
+    }
+    case FlatGeobufConstants.GEOMETRY_MULTILINESTRING: {
+      if (numCoords == 0)
+        return geomFactory.createMultiLineString();
+      int numLines = Math.max(1, numEnds);
+      LineString[] lines = new LineString[numLines];
+      int start = 0;
+      for (int i = 0; i < numLines; i++) {
+        int end = numEnds == 0 ? numCoords : partEnd(bb, ends, i, start, numCoords);
+        lines[i] = geomFactory.createLineString(sequence(bb, xy, z, m, start, end));
+        start = end;
+      }
+      return geomFactory.createMultiLineString(lines);
+    }
+    }
+    throw new ParseException("Unsupported geometry type: " + type);
+  }
+
+  private static int partEnd(ByteBuffer bb, int ends, int i, int start, int numCoords)
+      throws ParseException
+  {
+    int end = bb.getInt(FlatBuffers.element(ends, i, INT_SIZE));
+    if (end < start || end > numCoords)
+      throw new ParseException("Invalid part end: " + end);
+    return end;
+  }
+
+  private CoordinateSequence sequence(ByteBuffer bb, int xy, int z, int m, int start, int end) {
+    int n = end - start;
+    int measures = m != 0 ? 1 : 0;
+    int dim = 2 + (z != 0 ? 1 : 0) + measures;
+    CoordinateSequence seq = csFactory.create(n, dim, measures);
+    int mIndex = z != 0 ? 3 : 2;
+    for (int i = 0; i < n; i++) {
+      int xyPos = FlatBuffers.element(xy, 2 * (start + i), DOUBLE_SIZE);
+      seq.setOrdinate(i, CoordinateSequence.X, bb.getDouble(xyPos));
+      seq.setOrdinate(i, CoordinateSequence.Y, bb.getDouble(xyPos + DOUBLE_SIZE));
+      if (z != 0)
+        seq.setOrdinate(i, CoordinateSequence.Z, bb.getDouble(FlatBuffers.element(z, start + i, DOUBLE_SIZE)));
+      if (m != 0)
+        seq.setOrdinate(i, mIndex, bb.getDouble(FlatBuffers.element(m, start + i, DOUBLE_SIZE)));
+    }
+    return seq;
+  }
+
+  /**
+   * Decodes property values,
+   * which are a sequence of column indexes and values in little-endian order.
+   */
+  private Map<String, Object> decodeProperties(ByteBuffer bb, int start, int len)
+      throws ParseException
+  {
+    Map<String, Object> properties = new LinkedHashMap<String, Object>();
+    int p = start;
+    int end = start + len;
+    while (p < end) {
+      int col = bb.getShort(p) & 0xFFFF;
+      p += 2;
+      if (col >= columnTypes.length)
+        throw new ParseException("Invalid column index: " + col);
+      Object value;
+      switch (columnTypes[col]) {
+      case FlatGeobufConstants.COLUMN_BOOL:
+        value = bb.get(p) != 0;
+        p += 1;
+        break;
+      case FlatGeobufConstants.COLUMN_BYTE:
+        value = bb.get(p);
+        p += 1;
+        break;
+      case FlatGeobufConstants.COLUMN_UBYTE:
+        value = (short) (bb.get(p) & 0xFF);
+        p += 1;
+        break;
+      case FlatGeobufConstants.COLUMN_SHORT:
+        value = bb.getShort(p);
+        p += 2;
+        break;
+      case FlatGeobufConstants.COLUMN_USHORT:
+        value = bb.getShort(p) & 0xFFFF;
+        p += 2;
+        break;
+      case FlatGeobufConstants.COLUMN_INT:
+        value = bb.getInt(p);
+        p += 4;
+        break;
+      case FlatGeobufConstants.COLUMN_UINT:
+        value = bb.getInt(p) & 0xFFFFFFFFL;
+        p += 4;
+        break;
+      case FlatGeobufConstants.COLUMN_LONG:
+      case FlatGeobufConstants.COLUMN_ULONG:
+        value = bb.getLong(p);
+        p += 8;
+        break;
+      case FlatGeobufConstants.COLUMN_FLOAT:
+        value = bb.getFloat(p);
+        p += 4;
+        break;
+      case FlatGeobufConstants.COLUMN_DOUBLE:
+        value = bb.getDouble(p);
+        p += 8;
+        break;
+      case FlatGeobufConstants.COLUMN_STRING:
+      case FlatGeobufConstants.COLUMN_JSON:
+      case FlatGeobufConstants.COLUMN_DATETIME: {
+        int strLen = bb.getInt(p);
+        value = FlatBuffers.decodeString(bb, p + 4, strLen);
+        p += 4 + strLen;
+        break;
+      }
+      case FlatGeobufConstants.COLUMN_BINARY: {
+        int binLen = bb.getInt(p);
+        byte[] bytes = new byte[binLen];
+        for (int i = 0; i < binLen; i++) {
+          bytes[i] = bb.get(p + 4 + i);
+        }
+        value = bytes;
+        p += 4 + binLen;
+        break;
+      }
+      default:
+        throw new ParseException("Unsupported column type: " + columnTypes[col]);
+      }
+      properties.put(columnNames[col], value);
+    }
+    return properties;
+  }
+
+  private FlatGeobufFeature readUnchecked() {
+    try {
+      return read();
+    }
+    catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    catch (ParseException ex) {
+      throw new IllegalArgumentException(ex.getMessage(), ex);
+    }
+  }
+
+  private class FeatureIterator
+    implements Iterator<FlatGeobufFeature>
+  {
+    private FlatGeobufFeature next = null;
+
+    public boolean hasNext() {
+      if (next == null)
+        next = readUnchecked();
+      return next != null;
+    }
+
+    public FlatGeobufFeature next() {
+      if (! hasNext())
+        throw new NoSuchElementException();
+      FlatGeobufFeature feature = next;
+      next = null;
+      return feature;
+    }
+  }
+}
@@ -0,0 +1,796 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.flatgeobuf;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.index.hprtree.HilbertEncoder;
+import org.locationtech.jts.shape.fractal.HilbertCode;
+
+/**
+ * Writes features to a FlatGeobuf file.
+ * FlatGeobuf is a binary format for features,
+ * which contains a packed Hilbert R-tree spatial index
+ * allowing features to be read by bounding box
+ * without reading the entire file
+ * (see {@link FlatGeobufReader}).
+ * <p>
+ * The index has the same structure as an
+ * {@link org.locationtech.jts.index.hprtree.HPRtree}:
+ * features are sorted by the Hilbert code of the midpoint of their envelope,
+ * and are stored in the file in that order.
+ * Because the index precedes the features in the file,
+ * the file is written when the writer is closed.
+ * Until then the encoded features are held in memory,
+ * up to a limit set by {@link #setMemoryLimit(int)}.
+ * Features beyond the limit are written to a temporary file,
+ * which is deleted when the writer is closed.
+ * The feature bounds (32 bytes per feature) are always held in memory.
+ * The index can be omitted by setting the node size to 0,
+ * in which case features are written in the order they are added.
+ * <p>
+ * Feature properties are written as the columns of the file.
+ * The columns are determined by the property names, in the order they are first seen.
+ * The type of a column can be specified by {@link #addColumn(String, int)},
+ * or is otherwise determined by the first value in the column:
+ * <ul>
+ * <li><tt>Boolean</tt> values are written as <tt>Bool</tt>
+ * <li>Integer values (<tt>Byte</tt>, <tt>Short</tt>, <tt>Integer</tt>, <tt>Long</tt>)
+ * are written as <tt>Long</tt>
+ * <li>Other numbers are written as <tt>Double</tt>
+ * <li><tt>CharSequence</tt> values are written as <tt>String</tt>
+ * <li><tt>byte[]</tt> values are written as <tt>Binary</tt>
+ * </ul>
+ * Null property values are not written.
+ * <p>
+ * The header of the file records the common geometry type of the features
+ * (or <tt>Unknown</tt> if they have different types),
+ * and the SRID of the first geometry with a non-zero SRID
+ * as an EPSG code.
+ * Z and M ordinates are written if present.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see FlatGeobufReader
+ */
+public class FlatGeobufWriter
+  implements Closeable
+{
+  private static final int HILBERT_LEVEL = HilbertCode.MAX_LEVEL;
+  private static final int WRITE_BUFFER_SIZE = 1 << 16;
+  private static final String CRS_ORG_EPSG = "EPSG";
+  private static final int DEFAULT_MEMORY_LIMIT = 1 << 26;
+
+  private WritableByteChannel channel;
+  private String name;
+  private int nodeSize = FlatGeobufConstants.DEFAULT_NODE_SIZE;
+
+  private List<String> columnNames = new ArrayList<String>();
+  private int[] columnTypes = new int[8];
+  private Map<String, Integer> columnIndex = new HashMap<String, Integer>();
+
+  private int memoryLimit = DEFAULT_MEMORY_LIMIT;
+  private byte[] data = new byte[1024];
+  private long dataSize = 0;
+  private long[] featureStarts = new long[17];
+  private File spillFile;
+  private FileChannel spillChannel;
+  private ByteBuffer spillBuffer;
+  private double[] bounds = new double[64];
+  private Envelope extent = new Envelope();
+  private int geometryType = -1;
+  private boolean hasZ = false;
+  private boolean hasM = false;
+  private int srid = 0;
+  private int count = 0;
+  private boolean isClosed = false;
+
+  private FlatBufferBuilder builder = new FlatBufferBuilder();
+  private double[] xy = new double[64];
+  private double[] z = new double[32];
+  private double[] m = new double[32];
+  private int[] ends = new int[8];
+  private int numCoords;
+  private int numEnds;
+  private boolean isZPresent;
+  private boolean isMPresent;
+  private byte[] props = new byte[256];
+  private int propsLen;
+
+  /**
+   * Creates a writer which writes to a file.
+   *
+   * @param file the file to write
+   * @throws IOException if the file cannot be opened
+   */
+  public FlatGeobufWriter(File file) throws IOException {
+    this(new FileOutputStream(file).getChannel());
+  }
+
+  /**
+   * Creates a writer which writes to an {@link OutputStream}.
+   *
+   * @param os the stream to write to
+   */
+  public FlatGeobufWriter(OutputStream os) {
+    this(Channels.newChannel(os));
+  }
+
+  /**
+   * Creates a writer which writes to a channel.
+   *
+   * @param channel the channel to write to
+   */
+  public FlatGeobufWriter(WritableByteChannel channel) {
+    this.channel = channel;
+  }
+
+  /**
+   * Sets the name of the dataset written in the header.
+   *
+   * @param name the dataset name
+   */
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Sets the maximum number of children of each index node.
+   * A value of 0 indicates that no index is written.
+   * The default is {@link FlatGeobufConstants#DEFAULT_NODE_SIZE}.
+   *
+   * @param nodeSize the index node size
+   * @throws IllegalArgumentException if the node size is 1, negative or too large
+   */
+  public void setNodeSize(int nodeSize) {
+    if (nodeSize < 0 || nodeSize == 1 || nodeSize > 0xFFFF)
+      throw new IllegalArgumentException("Invalid index node size: " + nodeSize);
+    this.nodeSize = nodeSize;
+  }
+
+  /**
+   * Sets the maximum number of bytes of encoded features
+   * which are held in memory until the file is written.
+   * Features beyond this are written to a temporary file.
+   * The default is 64 MB.
+   *
+   * @param memoryLimit the memory limit in bytes
+   * @throws IllegalArgumentException if the limit is negative
+   * @throws IllegalStateException if features have been written
+   */
+  public void setMemoryLimit(int memoryLimit) {
+    if (memoryLimit < 0)
+      throw new IllegalArgumentException("Invalid memory limit: " + memoryLimit);
+    if (count > 0)
+      throw new IllegalStateException("Memory limit must be set before features are written");
+    this.memoryLimit = memoryLimit;
+  }
+
+  /**
+   * Adds a column with a specified type.
+   * This must be called before any features are written.
+   * Property values are converted to the column type
+   * (e.g. numeric values are narrowed for an <tt>Int</tt> column).
+   *
+   * @param name the column name
+   * @param type the column type, as a code in {@link FlatGeobufConstants}
+   * @throws IllegalArgumentException if the column already exists or the type is invalid
+   * @throws IllegalStateException if features have been written
+   */
+  public void addColumn(String name, int type) {
+    if (count > 0)
+      throw new IllegalStateException("Columns must be added before features are written");
+    if (columnIndex.containsKey(name))
+      throw new IllegalArgumentException("Column already exists: " + name);
+    if (type < FlatGeobufConstants.COLUMN_BYTE || type > FlatGeobufConstants.COLUMN_BINARY)
+      throw new IllegalArgumentException("Invalid column type: " + type);
+    createColumn(name, type);
+  }
+
+  /**
+   * Gets the number of features written so far.
+   *
+   * @return the number of features written
+   */
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * Writes a feature with a geometry and no properties.
+   *
+   * @param geometry the geometry to write (may be null)
+   */
+  public void write(Geometry geometry) {
+    write(geometry, null);
+  }
+
+  /**
+   * Writes a feature.
+   *
+   * @param feature the feature to write
+   */
+  public void write(FlatGeobufFeature feature) {
+    write(feature.getGeometry(), feature.getProperties());
+  }
+
+  /**
+   * Writes a feature with a geometry and properties.
+   *
+   * @param geometry the feature geometry (may be null)
+   * @param properties the feature properties (may be null)
+   * @throws IllegalArgumentException if a property value is not supported
+   * @throws UncheckedIOException if the features cannot be written to a temporary file
+   */
+  public void write(Geometry geometry, Map<String, ?> properties) {
+    if (isClosed)
+      throw new IllegalStateException("Writer is closed");
+    builder.clear();
+    int geomOffset = 0;
+    if (geometry != null) {
+      geomOffset = encodeGeometry(geometry);
+      updateHeaderInfo(geometry);
+    }
+    int propsOffset = 0;
+    if (properties != null) {
+      encodeProperties(properties);
+      propsOffset = builder.createByteVector(props, propsLen);
+    }
+    builder.startTable(FlatGeobufConstants.FEATURE_NUM_FIELDS);
+    if (geomOffset != 0)
+      builder.addOffset(FlatGeobufConstants.FEATURE_GEOMETRY, geomOffset);
+    if (propsOffset != 0)
+      builder.addOffset(FlatGeobufConstants.FEATURE_PROPERTIES, propsOffset);
+    int feature = builder.endTable();
+    addFeature(builder.finishSizePrefixed(feature));
+    count++;
+    addBounds(geometry);
+  }
+
+  private void addFeature(byte[] feature) {
+    if (count + 2 > featureStarts.length)
+      featureStarts = Arrays.copyOf(featureStarts, 2 * featureStarts.length);
+    try {
+      if (spillChannel == null && dataSize + feature.length > memoryLimit)
+        startSpill();
+      if (spillChannel == null) {
+        if (dataSize + feature.length > data.length)
+          data = Arrays.copyOf(data, (int) Math.min(memoryLimit,
+              Math.max(2L * data.length, dataSize + feature.length)));
+        System.arraycopy(feature, 0, data, (int) dataSize, feature.length);
+      }
+      else {
+        if (spillBuffer.remaining() < feature.length)
+          PackedRTree.flush(spillBuffer, spillChannel);
+        if (feature.length > spillBuffer.capacity())
+          writeFully(spillChannel, ByteBuffer.wrap(feature));
+        else
+          spillBuffer.put(feature);
+      }
+    }
+    catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    dataSize += feature.length;
+    featureStarts[count + 1] = dataSize;
+  }
+
+  /**
+   * Moves the features held in memory to a temporary file,
+   * to which subsequent features are appended.
+   */
+  private void startSpill() throws IOException {
+    spillFile = File.createTempFile("jts", ".fgb.tmp");
+    spillChannel = FileChannel.open(spillFile.toPath(),
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    writeFully(spillChannel, ByteBuffer.wrap(data, 0, (int) dataSize));
+    data = null;
+    spillBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+  }
+
+  private void readFeature(int i, ByteBuffer buf) throws IOException {
+    long start = featureStarts[i];
+    int len = (int) (featureStarts[i + 1] - start);
+    if (spillChannel == null) {
+      buf.put(data, (int) start, len);
+      return;
+    }
+    int limit = buf.limit();
+    ((Buffer) buf).limit(buf.position() + len);
+    while (buf.hasRemaining()) {
+      int n = spillChannel.read(buf, start + len - buf.remaining());
+      if (n < 0)
+        throw new IOException("Unexpected end of temporary file");
+    }
+    ((Buffer) buf).limit(limit);
+  }
+
+  private int featureLength(int i) {
+    return (int) (featureStarts[i + 1] - featureStarts[i]);
+  }
+
+  private void updateHeaderInfo(Geometry geometry) {
+    int type = geometryType(geometry);
+    if (geometryType < 0)
+      geometryType = type;
+    else if (geometryType != type)
+      geometryType = FlatGeobufConstants.GEOMETRY_UNKNOWN;
+    if (srid == 0)
+      srid = geometry.getSRID();
+  }
+
+  private void addBounds(Geometry geometry) {
+    int i = 4 * (count - 1);
+    if (i + 4 > bounds.length)
+      bounds = Arrays.copyOf(bounds, 2 * bounds.length);
+    if (geometry == null || geometry.isEmpty()) {
+      // bounds which do not intersect anything
+      bounds[i] = Double.MAX_VALUE;
+      bounds[i + 1] = Double.MAX_VALUE;
+      bounds[i + 2] = -Double.MAX_VALUE;
+      bounds[i + 3] = -Double.MAX_VALUE;
+      return;
+    }
+    Envelope env = geometry.getEnvelopeInternal();
+    extent.expandToInclude(env);
+    bounds[i] = env.getMinX();
+    bounds[i + 1] = env.getMinY();
+    bounds[i + 2] = env.getMaxX();
+    bounds[i + 3] = env.getMaxY();
+  }
+
+  /**
+   * Writes the file and closes the underlying channel.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  public void close() throws IOException {
+    if (isClosed)
+      return;
+    isClosed = true;
+    try {
+      writeFile();
+    }
+    finally {
+      try {
+        channel.close();
+      }
+      finally {
+        deleteSpill();
+      }
+    }
+  }
+
+  private void writeFile() throws IOException {
+    int n = count;
+    if (spillChannel != null)
+      PackedRTree.flush(spillBuffer, spillChannel);
+    boolean hasIndex = nodeSize > 0 && n > 0;
+    int[] order = hasIndex ? sortFeatures() : null;
+
+    writeFully(FlatGeobufConstants.MAGIC);
+    writeFully(encodeHeader());
+
+    if (hasIndex) {
+      double[] itemBounds = new double[4 * n];
+      long[] itemOffsets = new long[n];
+      long offset = 0;
+      for (int i = 0; i < n; i++) {
+        System.arraycopy(bounds, 4 * order[i], itemBounds, 4 * i, 4);
+        itemOffsets[i] = offset;
+        offset += featureLength(order[i]);
+      }
+      new PackedRTree(n, nodeSize).write(itemBounds, itemOffsets, channel);
+    }
+
+    ByteBuffer out = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+    for (int i = 0; i < n; i++) {
+      int index = hasIndex ? order[i] : i;
+      int len = featureLength(index);
+      if (out.remaining() < len) {
+        PackedRTree.flush(out, channel);
+        if (len > out.capacity()) {
+          ByteBuffer buf = ByteBuffer.allocate(len);
+          readFeature(index, buf);
+          ((Buffer) buf).flip();
+          writeFully(channel, buf);
+          continue;
+        }
+      }
+      readFeature(index, out);
+    }
+    PackedRTree.flush(out, channel);
+    // release the feature data
+    data = null;
+  }
+
+  private void deleteSpill() throws IOException {
+    if (spillChannel == null)
+      return;
+    try {
+      spillChannel.close();
+    }
+    finally {
+      spillFile.delete();
+      spillChannel = null;
+    }
+  }
+
+  private void writeFully(byte[] bytes) throws IOException {
+    writeFully(channel, ByteBuffer.wrap(bytes));
+  }
+
+  private static void writeFully(WritableByteChannel channel, ByteBuffer buf) throws IOException {
+    while (buf.hasRemaining()) {
+      channel.write(buf);
+    }
+  }
+
+  /**
+   * Sorts the features by the Hilbert code of the midpoint of their envelope.
+   *
+   * @return the indexes of the features in sorted order
+   */
+  private int[] sortFeatures() {
+    int n = count;
+    HilbertEncoder encoder = new HilbertEncoder(HILBERT_LEVEL, extent);
+    Envelope env = new Envelope();
+    long[] keys = new long[n];
+    for (int i = 0; i < n; i++) {
+      long code = 0;
+      if (bounds[4 * i] <= bounds[4 * i + 2]) {
+        env.init(bounds[4 * i], bounds[4 * i + 2], bounds[4 * i + 1], bounds[4 * i + 3]);
+        code = encoder.encode(env) & 0xFFFFFFFFL;
+      }
+      // the codes have at most 32 bits, so the key is positive
+      keys[i] = (code << 31) | i;
+    }
+    Arrays.sort(keys);
+    int[] order = new int[n];
+    for (int i = 0; i < n; i++) {
+      order[i] = (int) (keys[i] & Integer.MAX_VALUE);
+    }
+    return order;
+  }
+
+  private byte[] encodeHeader() {
+    builder.clear();
+    int nameOffset = name == null ? 0 : builder.createString(name);
+    int envOffset = 0;
+    if (! extent.isNull()) {
+      double[] env = new double[] {
+          extent.getMinX(), extent.getMinY(), extent.getMaxX(), extent.getMaxY() };
+      envOffset = builder.createDoubleVector(env, 4);
+    }
+    int columnsOffset = 0;
+    if (columnNames.size() > 0) {
+      int[] columns = new int[columnNames.size()];
+      for (int i = 0; i < columns.length; i++) {
+        int colName = builder.createString(columnNames.get(i));
+        builder.startTable(FlatGeobufConstants.COLUMN_NUM_FIELDS);
+        builder.addOffset(FlatGeobufConstants.COLUMN_NAME, colName);
+        builder.addByte(FlatGeobufConstants.COLUMN_TYPE, columnTypes[i]);
+        columns[i] = builder.endTable();
+      }
+      columnsOffset = builder.createOffsetVector(columns, columns.length);
+    }
+    int crsOffset = 0;
+    if (srid > 0) {
+      int org = builder.createString(CRS_ORG_EPSG);
+      builder.startTable(FlatGeobufConstants.CRS_NUM_FIELDS);
+      builder.addOffset(FlatGeobufConstants.CRS_ORG, org);
+      builder.addInt(FlatGeobufConstants.CRS_CODE, srid);
+      crsOffset = builder.endTable();
+    }
+
+    builder.startTable(FlatGeobufConstants.HEADER_NUM_FIELDS);
+    builder.addLong(FlatGeobufConstants.HEADER_FEATURES_COUNT, count);
+    if (nameOffset != 0)
+      builder.addOffset(FlatGeobufConstants.HEADER_NAME, nameOffset);
+    if (envOffset != 0)
+      builder.addOffset(FlatGeobufConstants.HEADER_ENVELOPE, envOffset);
+    if (columnsOffset != 0)
+      builder.addOffset(FlatGeobufConstants.HEADER_COLUMNS, columnsOffset);
+    if (crsOffset != 0)
+      builder.addOffset(FlatGeobufConstants.HEADER_CRS, crsOffset);
+    builder.addShort(FlatGeobufConstants.HEADER_INDEX_NODE_SIZE, nodeSize);
+    if (geometryType > 0)
+      builder.addByte(FlatGeobufConstants.HEADER_GEOMETRY_TYPE, geometryType);
+    if (hasZ)
+      builder.addBoolean(FlatGeobufConstants.HEADER_HAS_Z, true);
+    if (hasM)
+      builder.addBoolean(FlatGeobufConstants.HEADER_HAS_M, true);
+    int header = builder.endTable();
+    return builder.finishSizePrefixed(header);
+  }
+
+  //-------------------------------------------------------
+  //  Geometry encoding
+  //-------------------------------------------------------
+
+  private static int geometryType(Geometry geom) {
+    if (geom instanceof Point) return FlatGeobufConstants.GEOMETRY_POINT;
+    if (geom instanceof LineString) return FlatGeobufConstants.GEOMETRY_LINESTRING;
+    if (geom instanceof Polygon) return FlatGeobufConstants.GEOMETRY_POLYGON;
+    if (geom instanceof MultiPoint) return FlatGeobufConstants.GEOMETRY_MULTIPOINT;
+    if (geom instanceof MultiLineString) return FlatGeobufConstants.GEOMETRY_MULTILINESTRING;
+    if (geom instanceof MultiPolygon) return FlatGeobufConstants.GEOMETRY_MULTIPOLYGON;
+    if (geom instanceof GeometryCollection) return FlatGeobufConstants.GEOMETRY_GEOMETRYCOLLECTION;
+    throw new IllegalArgumentException("Unsupported geometry type: " + geom.getGeometryType());
+  }
+
+  /**
+   * Encodes a geometry as a FlatGeobuf Geometry table.
+   * Coordinates are written as separate vectors of XY, Z and M ordinates.
+   * Polygons and MultiLineStrings record the ends of each ring or line.
+   * MultiPolygons and GeometryCollections are written as a vector of parts.
+   */
+  private int encodeGeometry(Geometry geom) {
+    int type = geometryType(geom);
+    if (type == FlatGeobufConstants.GEOMETRY_MULTIPOLYGON
+        || type == FlatGeobufConstants.GEOMETRY_GEOMETRYCOLLECTION) {
+      int[] parts = new int[geom.getNumGeometries()];
+      for (int i = 0; i < parts.length; i++) {
+        parts[i] = encodeGeometry(geom.getGeometryN(i));
+      }
+      int partsOffset = builder.createOffsetVector(parts, parts.length);
+      builder.startTable(FlatGeobufConstants.GEOMETRY_NUM_FIELDS);
+      builder.addOffset(FlatGeobufConstants.GEOMETRY_PARTS, partsOffset);
+      builder.addByte(FlatGeobufConstants.GEOMETRY_TYPE, type);
+      return builder.endTable();
+    }
+
+    numCoords = 0;
+    numEnds = 0;
+    isZPresent = false;
+    isMPresent = false;
+    switch (type) {
+    case FlatGeobufConstants.GEOMETRY_POINT:
+    case FlatGeobufConstants.GEOMETRY_LINESTRING:
+      addSequence(geom.isEmpty() ? null : sequence(geom));
+      break;
+    case FlatGeobufConstants.GEOMETRY_POLYGON: {
+      Polygon poly = (Polygon) geom;
+      if (! poly.isEmpty()) {
+        addPart(poly.getExteriorRing().getCoordinateSequence());
+        for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+          addPart(poly.getInteriorRingN(i).getCoordinateSequence());
+        }
+      }
+      break;
+    }
+    case FlatGeobufConstants.GEOMETRY_MULTIPOINT:
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        Point pt = (Point) geom.getGeometryN(i);
+        if (! pt.isEmpty())
+          addSequence(pt.getCoordinateSequence());
+      }
+      break;
+    case FlatGeobufConstants.GEOMETRY_MULTILINESTRING:
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        addPart(((LineString) geom.getGeometryN(i)).getCoordinateSequence());
+      }
+      break;
+    }
+
+    int endsOffset = numEnds > 1 ? builder.createIntVector(ends, numEnds) : 0;
+    int xyOffset = numCoords > 0 ? builder.createDoubleVector(xy, 2 * numCoords) : 0;
+    int zOffset = isZPresent ? builder.createDoubleVector(z, numCoords) : 0;
+    int mOffset = isMPresent ? builder.createDoubleVector(m, numCoords) : 0;
+    builder.startTable(FlatGeobufConstants.GEOMETRY_NUM_FIELDS);
+    if (endsOffset != 0)
+      builder.addOffset(FlatGeobufConstants.GEOMETRY_ENDS, endsOffset);
+    if (xyOffset != 0)
+      builder.addOffset(FlatGeobufConstants.GEOMETRY_XY, xyOffset);
+    if (zOffset != 0)
+      builder.addOffset(FlatGeobufConstants.GEOMETRY_Z, zOffset);
+    if (mOffset != 0)
+      builder.addOffset(FlatGeobufConstants.GEOMETRY_M, mOffset);
+    builder.addByte(FlatGeobufConstants.GEOMETRY_TYPE, type);
+    hasZ |= isZPresent;
+    hasM |= isMPresent;
+    return builder.endTable();
+  }
+
+  private static CoordinateSequence sequence(Geometry geom) {
+    if (geom instanceof Point)
+      return ((Point) geom).getCoordinateSequence();
+    return ((LineString) geom).getCoordinateSequence();
+  }
+
+  private void addPart(CoordinateSequence seq) {
+    addSequence(seq);
+    if (numEnds == ends.length)
+      ends = Arrays.copyOf(ends, 2 * ends.length);
+    ends[numEnds++] = numCoords;
+  }
+
+  private void addSequence(CoordinateSequence seq) {
+    if (seq == null)
+      return;
+    int n = seq.size();
+    ensureCoordinateCapacity(numCoords + n);
+    boolean seqHasZ = seq.hasZ();
+    boolean seqHasM = seq.hasM();
+    for (int i = 0; i < n; i++) {
+      xy[2 * (numCoords + i)] = seq.getX(i);
+      xy[2 * (numCoords + i) + 1] = seq.getY(i);
+      double zVal = seqHasZ ? seq.getZ(i) : Double.NaN;
+      double mVal = seqHasM ? seq.getM(i) : Double.NaN;
+      z[numCoords + i] = zVal;
+      m[numCoords + i] = mVal;
+      if (! Double.isNaN(zVal)) isZPresent = true;
+      if (! Double.isNaN(mVal)) isMPresent = true;
+    }
+    numCoords += n;
+  }
+
+  private void ensureCoordinateCapacity(int n) {
+    if (n <= z.length)
+      return;
+    int size = Math.max(n, 2 * z.length);
+    xy = Arrays.copyOf(xy, 2 * size);
+    z = Arrays.copyOf(z, size);
+    m = Arrays.copyOf(m, size);
+  }
+
+  //-------------------------------------------------------
+  //  Property encoding
+  //-------------------------------------------------------
+
+  private void createColumn(String name, int type) {
+    int index = columnNames.size();
+    if (index > 0xFFFF)
+      throw new IllegalArgumentException("Too many columns");
+    if (index == columnTypes.length)
+      columnTypes = Arrays.copyOf(columnTypes, 2 * columnTypes.length);
+    columnNames.add(name);
+    columnTypes[index] = type;
+    columnIndex.put(name, index);
+  }
+
+  private static int columnType(Object value) {
+    if (value instanceof Boolean)
+      return FlatGeobufConstants.COLUMN_BOOL;
+    if (value instanceof Byte || value instanceof Short
+        || value instanceof Integer || value instanceof Long)
+      return FlatGeobufConstants.COLUMN_LONG;
+    if (value instanceof Number)
+      return FlatGeobufConstants.COLUMN_DOUBLE;
+    if (value instanceof CharSequence)
+      return FlatGeobufConstants.COLUMN_STRING;
+    if (value instanceof byte[])
+      return FlatGeobufConstants.COLUMN_BINARY;
+    throw new IllegalArgumentException("Unsupported property type: " + value.getClass().getName());
+  }
+
+  /**
+   * Encodes property values as a sequence of
+   * column indexes and values, in little-endian order.
+   */
+  private void encodeProperties(Map<String, ?> properties) {
+    propsLen = 0;
+    for (Map.Entry<String, ?> entry : properties.entrySet()) {
+      Object value = entry.getValue();
+      if (value == null)
+        continue;
+      Integer index = columnIndex.get(entry.getKey());
+      if (index == null) {
+        createColumn(entry.getKey(), columnType(value));
+        index = columnNames.size() - 1;
+      }
+      putProperty(index, columnTypes[index], entry.getKey(), value);
+    }
+  }
+
+  private void putProperty(int index, int type, String name, Object value) {
+    putBytes(index, 2);
+    switch (type) {
+    case FlatGeobufConstants.COLUMN_BOOL:
+      if (! (value instanceof Boolean))
+        throw invalidValue(name, value);
+      putBytes(((Boolean) value) ? 1 : 0, 1);
+      return;
+    case FlatGeobufConstants.COLUMN_BYTE:
+    case FlatGeobufConstants.COLUMN_UBYTE:
+      putBytes(number(name, value).byteValue(), 1);
+      return;
+    case FlatGeobufConstants.COLUMN_SHORT:
+    case FlatGeobufConstants.COLUMN_USHORT:
+      putBytes(number(name, value).shortValue(), 2);
+      return;
+    case FlatGeobufConstants.COLUMN_INT:
+    case FlatGeobufConstants.COLUMN_UINT:
+      putBytes(number(name, value).intValue(), 4);
+      return;
+    case FlatGeobufConstants.COLUMN_LONG:
+    case FlatGeobufConstants.COLUMN_ULONG:
+      putBytes(number(name, value).longValue(), 8);
+      return;
+    case FlatGeobufConstants.COLUMN_FLOAT:
+      putBytes(Float.floatToRawIntBits(number(name, value).floatValue()), 4);
+      return;
+    case FlatGeobufConstants.COLUMN_DOUBLE:
+      putBytes(Double.doubleToRawLongBits(number(name, value).doubleValue()), 8);
+      return;
+    case FlatGeobufConstants.COLUMN_STRING:
+    case FlatGeobufConstants.COLUMN_JSON:
+    case FlatGeobufConstants.COLUMN_DATETIME:
+      if (! (value instanceof CharSequence))
+        throw invalidValue(name, value);
+      putByteArray(value.toString().getBytes(StandardCharsets.UTF_8));
+      return;
+    case FlatGeobufConstants.COLUMN_BINARY:
+      if (! (value instanceof byte[]))
+        throw invalidValue(name, value);
+      putByteArray((byte[]) value);
+      return;
+    }
+  }
+
+  private static Number number(String name, Object value) {
+    if (! (value instanceof Number))
+      throw invalidValue(name, value);
+    return (Number) value;
+  }
+
+  private static IllegalArgumentException invalidValue(String name, Object value) {
+    return new IllegalArgumentException("Invalid value for property " + name
+        + ": " + value.getClass().getName());
+  }
+
+  private void putByteArray(byte[] bytes) {
+    putBytes(bytes.length, 4);
+    ensurePropsCapacity(bytes.length);
+    System.arraycopy(bytes, 0, props, propsLen, bytes.length);
+    propsLen += bytes.length;
+  }
+
+  private void putBytes(long value, int size) {
+    ensurePropsCapacity(size);
+    for (int i = 0; i < size; i++) {
+      props[propsLen++] = (byte) (value >> (8 * i));
+    }
+  }
+
+  private void ensurePropsCapacity(int size) {
+    if (propsLen + size > props.length)
+      props = Arrays.copyOf(props, Math.max(2 * props.length, propsLen + size));
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.flatgeobuf;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The structure of the packed R-tree index of a FlatGeobuf file.
+ * <p>
+ * The tree has the same structure as an
+ * {@link org.locationtech.jts.index.hprtree.HPRtree}.
+ * The items are sorted by the Hilbert code of the midpoint of their envelope,
+ * and each level of the tree is formed by packing
+ * consecutive runs of nodes of the level below into parent nodes.
+ * Unlike in an HPRtree, the items themselves form the lowest (leaf) level,
+ * and the tree always has a single root node.
+ * <p>
+ * The nodes are stored with the root node first
+ * and the leaf nodes last.
+ * Each node contains its bounds (minX, minY, maxX, maxY),
+ * and an offset.
+ * For a leaf node the offset is the position of the item feature
+ * relative to the start of the feature data.
+ * For other nodes it is the index of the first child node.
+ */
+class PackedRTree
+{
+  private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+  private long numItems;
+  private int nodeSize;
+  private long numNodes;
+  private long[] levelStart;
+  private long[] levelEnd;
+
+  /**
+   * Creates the structure of a tree.
+   *
+   * @param numItems the number of items in the tree (must be positive)
+   * @param nodeSize the maximum number of children of a node (at least 2)
+   */
+  PackedRTree(long numItems, int nodeSize) {
+    this.numItems = numItems;
+    this.nodeSize = nodeSize;
+    computeLevels();
+  }
+
+  private void computeLevels() {
+    long[] levelSize = new long[64];
+    int numLevels = 0;
+    long n = numItems;
+    long total = n;
+    levelSize[numLevels++] = n;
+    do {
+      n = (n + nodeSize - 1) / nodeSize;
+      total += n;
+      levelSize[numLevels++] = n;
+    } while (n != 1);
+    numNodes = total;
+    levelStart = new long[numLevels];
+    levelEnd = new long[numLevels];
+    // levels are stored from the root down
+    long end = numNodes;
+    for (int i = 0; i < numLevels; i++) {
+      levelStart[i] = end - levelSize[i];
+      levelEnd[i] = end;
+      end -= levelSize[i];
+    }
+  }
+
+  int getNodeSize() {
+    return nodeSize;
+  }
+
+  long getNumNodes() {
+    return numNodes;
+  }
+
+  /**
+   * Gets the size of the tree in bytes.
+   *
+   * @return the tree size
+   */
+  long getSize() {
+    return numNodes * FlatGeobufConstants.NODE_ITEM_SIZE;
+  }
+
+  /**
+   * Gets the number of levels in the tree.
+   * Level 0 contains the leaf nodes,
+   * and the highest level contains only the root node.
+   *
+   * @return the number of levels
+   */
+  int getNumLevels() {
+    return levelStart.length;
+  }
+
+  long getLevelEnd(int level) {
+    return levelEnd[level];
+  }
+
+  /**
+   * Gets the index of the first leaf node.
+   *
+   * @return the index of the first leaf node
+   */
+  long getLeafStart() {
+    return levelStart[0];
+  }
+
+  /**
+   * Computes the nodes of the tree and writes them to a channel.
+   * The item bounds must be in the order of the tree.
+   * Empty items have bounds which do not intersect anything
+   * (i.e. the minimums are greater than the maximums).
+   *
+   * @param itemBounds the item bounds (minX, minY, maxX, maxY for each item)
+   * @param itemOffsets the item offsets
+   * @param channel the channel to write to
+   * @throws IOException if an I/O error occurs
+   */
+  void write(double[] itemBounds, long[] itemOffsets, WritableByteChannel channel)
+      throws IOException
+  {
+    int n = (int) numNodes;
+    double[] bounds = new double[4 * n];
+    long[] offsets = new long[n];
+    int leafStart = (int) levelStart[0];
+    System.arraycopy(itemBounds, 0, bounds, 4 * leafStart, 4 * (int) numItems);
+    System.arraycopy(itemOffsets, 0, offsets, leafStart, (int) numItems);
+    for (int level = 1; level < levelStart.length; level++) {
+      int childStart = (int) levelStart[level - 1];
+      int childEnd = (int) levelEnd[level - 1];
+      for (int node = (int) levelStart[level]; node < levelEnd[level]; node++) {
+        int child = childStart + (node - (int) levelStart[level]) * nodeSize;
+        int end = Math.min(child + nodeSize, childEnd);
+        computeNodeBounds(bounds, node, child, end);
+        offsets[node] = child;
+      }
+    }
+
+    ByteBuffer buf = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    for (int i = 0; i < n; i++) {
+      if (buf.remaining() < FlatGeobufConstants.NODE_ITEM_SIZE) {
+        flush(buf, channel);
+      }
+      buf.putDouble(bounds[4 * i]);
+      buf.putDouble(bounds[4 * i + 1]);
+      buf.putDouble(bounds[4 * i + 2]);
+      buf.putDouble(bounds[4 * i + 3]);
+      buf.putLong(offsets[i]);
+    }
+    flush(buf, channel);
+  }
+
+  private static void computeNodeBounds(double[] bounds, int node, int childStart, int childEnd) {
+    double minX = Double.MAX_VALUE;
+    double minY = Double.MAX_VALUE;
+    double maxX = -Double.MAX_VALUE;
+    double maxY = -Double.MAX_VALUE;
+    for (int i = childStart; i < childEnd; i++) {
+      if (bounds[4 * i] < minX) minX = bounds[4 * i];
+      if (bounds[4 * i + 1] < minY) minY = bounds[4 * i + 1];
+      if (bounds[4 * i + 2] > maxX) maxX = bounds[4 * i + 2];
+      if (bounds[4 * i + 3] > maxY) maxY = bounds[4 * i + 3];
+    }
+    bounds[4 * node] = minX;
+    bounds[4 * node + 1] = minY;
+    bounds[4 * node + 2] = maxX;
+    bounds[4 * node + 3] = maxY;
+  }
+
+  static void flush(ByteBuffer buf, WritableByteChannel channel) throws IOException {
+    ((Buffer) buf).flip();
+    while (buf.hasRemaining()) {
+      channel.write(buf);
+    }
+    ((Buffer) buf).clear();
+  }
+}
@@ -25,6 +25,7 @@ public class GeoJsonConstants {
   public static final String NAME_CRS = "crs";
   public static final String NAME_PROPERTIES = "properties";
   public static final String NAME_NAME = "name";
+  public static final String NAME_ID = "id";
   public static final String NAME_TYPE = "type";
   public static final String NAME_POINT = "Point";
   public static final String NAME_LINESTRING = "LineString";
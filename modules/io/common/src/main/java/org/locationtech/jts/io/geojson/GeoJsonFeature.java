@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.util.Map;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A GeoJSON Feature,
+ * consisting of a {@link Geometry}, a map of properties,
+ * and an optional identifier.
+ * The geometry and the properties may be <tt>null</tt>.
+ * <p>
+ * Property values are represented using the same types as
+ * the <tt>json-simple</tt> library:
+ * <tt>String</tt>, <tt>Long</tt>, <tt>Double</tt>, <tt>Boolean</tt>,
+ * <tt>null</tt>, {@link java.util.List} and {@link Map}.
+ *
+ * @see GeoJsonStreamReader
+ * @see GeoJsonStreamWriter
+ */
+public class GeoJsonFeature {
+
+  private Object id;
+  private Geometry geometry;
+  private Map<String, Object> properties;
+
+  /**
+   * Creates a feature with a geometry and no properties.
+   *
+   * @param geometry the feature geometry (may be null)
+   */
+  public GeoJsonFeature(Geometry geometry) {
+    this(null, geometry, null);
+  }
+
+  /**
+   * Creates a feature with a geometry and properties.
+   *
+   * @param geometry the feature geometry (may be null)
+   * @param properties the feature properties (may be null)
+   */
+  public GeoJsonFeature(Geometry geometry, Map<String, Object> properties) {
+    this(null, geometry, properties);
+  }
+
+  /**
+   * Creates a feature with an identifier, a geometry and properties.
+   *
+   * @param id the feature identifier (a String or Number, or null)
+   * @param geometry the feature geometry (may be null)
+   * @param properties the feature properties (may be null)
+   */
+  public GeoJsonFeature(Object id, Geometry geometry, Map<String, Object> properties) {
+    this.id = id;
+    this.geometry = geometry;
+    this.properties = properties;
+  }
+
+  /**
+   * Gets the feature identifier.
+   *
+   * @return the identifier (a String or Number), or null if the feature has no identifier
+   */
+  public Object getId() {
+    return id;
+  }
+
+  /**
+   * Gets the feature geometry.
+   *
+   * @return the geometry, or null if the feature has no geometry
+   */
+  public Geometry getGeometry() {
+    return geometry;
+  }
+
+  /**
+   * Gets the feature properties.
+   *
+   * @return the properties, or null if the feature has no properties
+   */
+  public Map<String, Object> getProperties() {
+    return properties;
+  }
+
+  /**
+   * Gets the value of a feature property.
+   *
+   * @param name the property name
+   * @return the property value, or null if the property is not present
+   */
+  public Object getProperty(String name) {
+    if (properties == null)
+      return null;
+    return properties.get(name);
+  }
+}
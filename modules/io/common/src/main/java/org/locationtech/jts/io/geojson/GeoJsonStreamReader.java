@@ -0,0 +1,691 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * Reads GeoJSON features one at a time from a {@link Reader}.
+ * This allows reading FeatureCollections which are too large
+ * to be held in memory.
+ * <p>
+ * The input is parsed incrementally, without building a tree of JSON objects.
+ * Coordinates are parsed directly from the character stream
+ * into {@link CoordinateSequence}s created by the geometry factory,
+ * and are never held as boxed values.
+ * <p>
+ * The input may contain:
+ * <ul>
+ * <li>a <tt>FeatureCollection</tt>, whose features are returned in order
+ * <li>a single <tt>Feature</tt>
+ * <li>a single geometry object, which is returned as a feature with no properties
+ * <li>a sequence of any of the above, separated by whitespace
+ * (such as newline-delimited GeoJSON, or GeoJSON text sequences as in RFC 8142)
+ * </ul>
+ * Feature properties are read as objects of the same types
+ * as the <tt>json-simple</tt> library produces.
+ * Foreign members and <tt>bbox</tt> members are skipped.
+ * <p>
+ * If a <tt>GeometryFactory</tt> is not supplied,
+ * geometries have the SRID given by a <tt>crs</tt> member,
+ * or 4326 if none is present (as for {@link GeoJsonReader}).
+ * The <tt>crs</tt> of a FeatureCollection applies to its features
+ * only if it occurs before the <tt>features</tt> member.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see GeoJsonReader
+ * @see GeoJsonStreamWriter
+ */
+public class GeoJsonStreamReader
+  implements Closeable
+{
+  private static final int DEFAULT_SRID = 4326;
+
+  private static final int STATE_START = 0;
+  private static final int STATE_FEATURES = 1;
+
+  /**
+   * Placeholder for a parsed position.
+   * The ordinates are held in the ordinate buffer.
+   */
+  private static final Object POSITION = new Object();
+
+  private Reader reader;
+  private JsonTokenizer tok;
+  private GeometryFactory geomFactory;
+  private CoordinateSequenceFactory csFactory;
+  private Map<Integer, GeometryFactory> sridFactories = new HashMap<Integer, GeometryFactory>();
+
+  private int state = STATE_START;
+  private boolean isFirstFeature;
+  private int count = 0;
+  private int collectionSRID;
+
+  /**
+   * Buffer of positions, holding X, Y, and Z (or NaN) for each position
+   */
+  private double[] ords = new double[3 * 64];
+  private int numPositions = 0;
+  private boolean hasZ = false;
+
+  /**
+   * Creates a reader which creates geometries using the SRID
+   * specified in the GeoJSON.
+   *
+   * @param reader the reader to read from
+   */
+  public GeoJsonStreamReader(Reader reader) {
+    this(reader, null);
+  }
+
+  /**
+   * Creates a reader which creates geometries using a given factory,
+   * which overrides any <tt>crs</tt> in the GeoJSON.
+   *
+   * @param reader the reader to read from
+   * @param geometryFactory the factory to use, or null to use the GeoJSON CRS
+   */
+  public GeoJsonStreamReader(Reader reader, GeometryFactory geometryFactory) {
+    this.reader = reader;
+    this.tok = new JsonTokenizer(reader);
+    this.geomFactory = geometryFactory;
+    csFactory = geometryFactory != null 
+        ? geometryFactory.getCoordinateSequenceFactory()
+        : CoordinateArraySequenceFactory.instance();
+  }
+
+  /**
+   * Gets the number of features read so far.
+   *
+   * @return the number of features read
+   */
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * Reads the next feature.
+   *
+   * @return the next feature, or null if the end of the input has been reached
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the input is not valid GeoJSON
+   */
+  public GeoJsonFeature read() throws IOException, ParseException {
+    JsonObject obj = null;
+    // a collection with no features member is skipped
+    while (obj == null || GeoJsonConstants.NAME_FEATURECOLLECTION.equals(obj.type)) {
+      if (state == STATE_FEATURES) {
+        GeoJsonFeature feature = readCollectionFeature();
+        if (feature != null) {
+          count++;
+          return feature;
+        }
+        continue;
+      }
+      if (tok.nextToken() == JsonTokenizer.TT_EOF)
+        return null;
+      tok.pushBack();
+      tok.expect('{');
+      obj = readObject(true);
+      if (obj == null) {
+        // features array of a collection was entered
+        state = STATE_FEATURES;
+        isFirstFeature = true;
+      }
+    }
+    count++;
+    if (GeoJsonConstants.NAME_FEATURE.equals(obj.type)) {
+      return toFeature(obj);
+    }
+    return new GeoJsonFeature(toGeometry(obj, DEFAULT_SRID));
+  }
+
+  /**
+   * Reads the next feature in the features array of a collection.
+   * If the end of the array is reached,
+   * the remainder of the collection is skipped.
+   *
+   * @return the next feature, or null if the end of the collection was reached
+   */
+  private GeoJsonFeature readCollectionFeature() throws IOException, ParseException {
+    int t = tok.nextToken();
+    if (! isFirstFeature && t != ']') {
+      if (t != ',')
+        throw tok.error("Expected ',' or ']' in features");
+      t = tok.nextToken();
+    }
+    isFirstFeature = false;
+    if (t == ']') {
+      // skip any remaining members of the collection
+      while (tok.nextToken() == ',') {
+        tok.expect(JsonTokenizer.TT_STRING);
+        tok.expect(':');
+        skipValue();
+      }
+      tok.pushBack();
+      tok.expect('}');
+      state = STATE_START;
+      return null;
+    }
+    tok.pushBack();
+    tok.expect('{');
+    JsonObject obj = readObject(false);
+    if (! GeoJsonConstants.NAME_FEATURE.equals(obj.type))
+      throw tok.error("Expected a Feature but found " + obj.type);
+    return toFeature(obj);
+  }
+
+  /**
+   * Gets an {@link Iterator} over the remaining features.
+   * I/O errors are thrown as {@link UncheckedIOException}s,
+   * and parse errors as {@link IllegalArgumentException}s.
+   *
+   * @return an iterator over the features
+   */
+  public Iterator<GeoJsonFeature> iterator() {
+    return new FeatureIterator();
+  }
+
+  /**
+   * Closes the underlying reader.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  /**
+   * The members of a GeoJSON object which are relevant to creating features.
+   */
+  private static class JsonObject {
+    String type;
+    Object coordinates;
+    boolean isPosition = false;
+    List<JsonObject> geometries;
+    JsonObject geometry;
+    Map<String, Object> properties;
+    Object id;
+    int srid = -1;
+  }
+
+  /**
+   * Reads the members of an object, after the opening brace.
+   * If the object is at the top level and has a <tt>features</tt> member,
+   * reading stops at the start of the features array.
+   *
+   * @param isTopLevel whether the object is at the top level of the input
+   * @return the object members, or null if a features array was entered
+   */
+  private JsonObject readObject(boolean isTopLevel) throws IOException, ParseException {
+    JsonObject obj = new JsonObject();
+    if (tok.nextToken() == '}')
+      return obj;
+    tok.pushBack();
+    while (true) {
+      tok.expect(JsonTokenizer.TT_STRING);
+      if (tok.isString(GeoJsonConstants.NAME_TYPE)) {
+        tok.expect(':');
+        tok.expect(JsonTokenizer.TT_STRING);
+        obj.type = tok.getString();
+      }
+      else if (tok.isString(GeoJsonConstants.NAME_COORDINATES)) {
+        tok.expect(':');
+        obj.coordinates = readCoordinates();
+        if (obj.coordinates == POSITION) {
+          obj.coordinates = createSequence();
+          obj.isPosition = true;
+        }
+      }
+      else if (tok.isString(GeoJsonConstants.NAME_GEOMETRIES)) {
+        tok.expect(':');
+        obj.geometries = readGeometryArray();
+      }
+      else if (tok.isString(GeoJsonConstants.NAME_GEOMETRY)) {
+        tok.expect(':');
+        obj.geometry = readGeometryObject();
+      }
+      else if (tok.isString(GeoJsonConstants.NAME_PROPERTIES)) {
+        tok.expect(':');
+        Object props = readValue();
+        if (props != null && ! (props instanceof Map))
+          throw tok.error("Feature properties must be an object");
+        obj.properties = toMap(props);
+      }
+      else if (tok.isString(GeoJsonConstants.NAME_ID)) {
+        tok.expect(':');
+        obj.id = readValue();
+      }
+      else if (tok.isString(GeoJsonConstants.NAME_CRS)) {
+        tok.expect(':');
+        obj.srid = parseSRID(readValue());
+      }
+      else if (isTopLevel && tok.isString(GeoJsonConstants.NAME_FEATURES)) {
+        tok.expect(':');
+        tok.expect('[');
+        collectionSRID = obj.srid >= 0 ? obj.srid : DEFAULT_SRID;
+        return null;
+      }
+      else {
+        tok.expect(':');
+        skipValue();
+      }
+      int t = tok.nextToken();
+      if (t == '}')
+        return obj;
+      if (t != ',')
+        throw tok.error("Expected ',' or '}' in object");
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> toMap(Object obj) {
+    return (Map<String, Object>) obj;
+  }
+
+  private JsonObject readGeometryObject() throws IOException, ParseException {
+    int t = tok.nextToken();
+    if (t == JsonTokenizer.TT_NULL)
+      return null;
+    if (t != '{')
+      throw tok.error("Expected a geometry object");
+    return readObject(false);
+  }
+
+  private List<JsonObject> readGeometryArray() throws IOException, ParseException {
+    List<JsonObject> geoms = new ArrayList<JsonObject>();
+    int t = tok.nextToken();
+    if (t == JsonTokenizer.TT_NULL)
+      return geoms;
+    if (t != '[')
+      throw tok.error("Expected an array of geometries");
+    if (tok.nextToken() == ']')
+      return geoms;
+    tok.pushBack();
+    while (true) {
+      tok.expect('{');
+      geoms.add(readObject(false));
+      t = tok.nextToken();
+      if (t == ']')
+        return geoms;
+      if (t != ',')
+        throw tok.error("Expected ',' or ']' in array");
+    }
+  }
+
+  /**
+   * Reads a coordinates value.
+   * Arrays of positions are read directly into {@link CoordinateSequence}s.
+   * The result is {@link #POSITION} for a single position
+   * (whose ordinates are left in the ordinate buffer),
+   * a <tt>CoordinateSequence</tt> for an array of positions,
+   * or a <tt>List</tt> of nested values for deeper arrays
+   * (which is empty for an empty array).
+   */
+  private Object readCoordinates() throws IOException, ParseException {
+    int t = tok.nextToken();
+    if (t == JsonTokenizer.TT_NULL)
+      return new ArrayList<Object>();
+    if (t != '[')
+      throw tok.error("Expected an array of coordinates");
+    t = tok.nextToken();
+    if (t == ']')
+      return new ArrayList<Object>();
+    if (t == JsonTokenizer.TT_NUMBER) {
+      tok.pushBack();
+      numPositions = 0;
+      hasZ = false;
+      readPosition();
+      return POSITION;
+    }
+    tok.pushBack();
+    Object first = readCoordinates();
+    if (first == POSITION) {
+      // an array of positions
+      while (true) {
+        t = tok.nextToken();
+        if (t == ']')
+          break;
+        if (t != ',')
+          throw tok.error("Expected ',' or ']' in coordinates");
+        tok.expect('[');
+        readPosition();
+      }
+      return createSequence();
+    }
+    List<Object> list = new ArrayList<Object>();
+    list.add(first);
+    while (true) {
+      t = tok.nextToken();
+      if (t == ']')
+        return list;
+      if (t != ',')
+        throw tok.error("Expected ',' or ']' in coordinates");
+      Object item = readCoordinates();
+      if (item == POSITION)
+        throw tok.error("Invalid nesting of coordinates");
+      list.add(item);
+    }
+  }
+
+  /**
+   * Reads the ordinates of a position, after the opening bracket.
+   * Ordinates after the third are ignored.
+   */
+  private void readPosition() throws IOException, ParseException {
+    int i = 3 * numPositions;
+    if (i + 3 > ords.length) {
+      double[] newOrds = new double[2 * ords.length];
+      System.arraycopy(ords, 0, newOrds, 0, i);
+      ords = newOrds;
+    }
+    int dim = 0;
+    while (true) {
+      int t = tok.nextToken();
+      if (t != JsonTokenizer.TT_NUMBER)
+        throw tok.error("Expected a number in position");
+      double val = tok.getNumber();
+      if (dim < 3)
+        ords[i + dim] = val;
+      dim++;
+      t = tok.nextToken();
+      if (t == ']')
+        break;
+      if (t != ',')
+        throw tok.error("Expected ',' or ']' in position");
+    }
+    if (dim < 2)
+      throw tok.error("Position must have at least 2 ordinates");
+    if (dim < 3) {
+      ords[i + 2] = Double.NaN;
+    }
+    else {
+      hasZ = true;
+    }
+    numPositions++;
+  }
+
+  private CoordinateSequence createSequence() {
+    int dim = hasZ ? 3 : 2;
+    CoordinateSequence seq = csFactory.create(numPositions, dim);
+    for (int i = 0; i < numPositions; i++) {
+      seq.setOrdinate(i, 0, ords[3 * i]);
+      seq.setOrdinate(i, 1, ords[3 * i + 1]);
+      if (hasZ)
+        seq.setOrdinate(i, 2, ords[3 * i + 2]);
+    }
+    numPositions = 0;
+    hasZ = false;
+    return seq;
+  }
+
+  /**
+   * Reads any JSON value, as an object of the types used by <tt>json-simple</tt>.
+   */
+  private Object readValue() throws IOException, ParseException {
+    int t = tok.nextToken();
+    switch (t) {
+    case JsonTokenizer.TT_STRING:
+      return tok.getString();
+    case JsonTokenizer.TT_NUMBER:
+      return readNumberValue();
+    case JsonTokenizer.TT_TRUE:
+      return Boolean.TRUE;
+    case JsonTokenizer.TT_FALSE:
+      return Boolean.FALSE;
+    case JsonTokenizer.TT_NULL:
+      return null;
+    case '[': {
+      List<Object> list = new ArrayList<Object>();
+      if (tok.nextToken() == ']')
+        return list;
+      tok.pushBack();
+      while (true) {
+        list.add(readValue());
+        t = tok.nextToken();
+        if (t == ']')
+          return list;
+        if (t != ',')
+          throw tok.error("Expected ',' or ']' in array");
+      }
+    }
+    case '{': {
+      Map<String, Object> map = new LinkedHashMap<String, Object>();
+      if (tok.nextToken() == '}')
+        return map;
+      tok.pushBack();
+      while (true) {
+        tok.expect(JsonTokenizer.TT_STRING);
+        String key = tok.getString();
+        tok.expect(':');
+        map.put(key, readValue());
+        t = tok.nextToken();
+        if (t == '}')
+          return map;
+        if (t != ',')
+          throw tok.error("Expected ',' or '}' in object");
+      }
+    }
+    }
+    throw tok.error("Expected a value");
+  }
+
+  private Object readNumberValue() {
+    if (tok.isInteger()) {
+      try {
+        return Long.valueOf(tok.getString());
+      }
+      catch (NumberFormatException ex) {
+        // too large for a long
+      }
+    }
+    return Double.valueOf(tok.getNumber());
+  }
+
+  /**
+   * Skips a JSON value of any kind, without creating objects for it.
+   */
+  private void skipValue() throws IOException, ParseException {
+    int depth = 0;
+    do {
+      int t = tok.nextToken();
+      switch (t) {
+      case '{':
+      case '[':
+        depth++;
+        break;
+      case '}':
+      case ']':
+        depth--;
+        break;
+      case JsonTokenizer.TT_EOF:
+        throw tok.error("Unexpected end of input");
+      }
+    } while (depth > 0);
+  }
+
+  private int parseSRID(Object crs) throws ParseException {
+    if (crs == null)
+      return -1;
+    try {
+      Map<String, Object> crsMap = toMap(crs);
+      Map<String, Object> props = toMap(crsMap.get(GeoJsonConstants.NAME_PROPERTIES));
+      String name = (String) props.get(GeoJsonConstants.NAME_NAME);
+      String[] split = name.split(":");
+      return Integer.parseInt(split[1]);
+    }
+    catch (RuntimeException e) {
+      throw new ParseException("Could not parse SRID from Geojson 'crs' object.", e);
+    }
+  }
+
+  private GeometryFactory getFactory(int srid) {
+    if (geomFactory != null)
+      return geomFactory;
+    GeometryFactory factory = sridFactories.get(srid);
+    if (factory == null) {
+      factory = new GeometryFactory(new PrecisionModel(), srid);
+      sridFactories.put(srid, factory);
+    }
+    return factory;
+  }
+
+  private GeoJsonFeature toFeature(JsonObject obj) throws ParseException {
+    int srid = obj.srid >= 0 ? obj.srid
+        : (state == STATE_FEATURES ? collectionSRID : DEFAULT_SRID);
+    Geometry geom = null;
+    if (obj.geometry != null)
+      geom = toGeometry(obj.geometry, srid);
+    return new GeoJsonFeature(obj.id, geom, obj.properties);
+  }
+
+  private Geometry toGeometry(JsonObject obj, int parentSRID) throws ParseException {
+    int srid = obj.srid >= 0 ? obj.srid : parentSRID;
+    GeometryFactory factory = getFactory(srid);
+    String type = obj.type;
+    if (type == null)
+      throw new ParseException("Could not parse Geometry from Json string.  No 'type' property found.");
+    try {
+      if (GeoJsonConstants.NAME_POINT.equals(type)) {
+        if (isEmpty(obj.coordinates))
+          return factory.createPoint();
+        if (! obj.isPosition)
+          throw new ParseException("Invalid nesting of coordinates");
+        return factory.createPoint((CoordinateSequence) obj.coordinates);
+      }
+      if (GeoJsonConstants.NAME_LINESTRING.equals(type)) {
+        return factory.createLineString(toSequence(obj.coordinates));
+      }
+      if (GeoJsonConstants.NAME_POLYGON.equals(type)) {
+        return toPolygon(obj.coordinates, factory);
+      }
+      if (GeoJsonConstants.NAME_MULTIPOINT.equals(type)) {
+        return factory.createMultiPoint(toSequence(obj.coordinates));
+      }
+      if (GeoJsonConstants.NAME_MULTILINESTRING.equals(type)) {
+        List<Object> lines = toList(obj.coordinates);
+        LineString[] lineStrings = new LineString[lines.size()];
+        for (int i = 0; i < lineStrings.length; i++) {
+          lineStrings[i] = factory.createLineString(toSequence(lines.get(i)));
+        }
+        return factory.createMultiLineString(lineStrings);
+      }
+      if (GeoJsonConstants.NAME_MULTIPOLYGON.equals(type)) {
+        List<Object> polys = toList(obj.coordinates);
+        Polygon[] polygons = new Polygon[polys.size()];
+        for (int i = 0; i < polygons.length; i++) {
+          polygons[i] = toPolygon(polys.get(i), factory);
+        }
+        return factory.createMultiPolygon(polygons);
+      }
+      if (GeoJsonConstants.NAME_GEOMETRYCOLLECTION.equals(type)) {
+        List<JsonObject> members = obj.geometries;
+        Geometry[] geoms = new Geometry[members == null ? 0 : members.size()];
+        for (int i = 0; i < geoms.length; i++) {
+          geoms[i] = toGeometry(members.get(i), srid);
+        }
+        return factory.createGeometryCollection(geoms);
+      }
+    }
+    catch (RuntimeException e) {
+      throw new ParseException("Could not parse " + type + " from GeoJson string.", e);
+    }
+    throw new ParseException("Could not parse Geometry from GeoJson string.  Unsupported 'type':" + type);
+  }
+
+  private Polygon toPolygon(Object coords, GeometryFactory factory) throws ParseException {
+    List<Object> rings = toList(coords);
+    if (rings.isEmpty())
+      return factory.createPolygon();
+    LinearRing shell = factory.createLinearRing(toSequence(rings.get(0)));
+    LinearRing[] holes = new LinearRing[rings.size() - 1];
+    for (int i = 1; i < rings.size(); i++) {
+      holes[i - 1] = factory.createLinearRing(toSequence(rings.get(i)));
+    }
+    return factory.createPolygon(shell, holes);
+  }
+
+  private static boolean isEmpty(Object coords) {
+    return coords == null || (coords instanceof List && ((List<?>) coords).isEmpty());
+  }
+
+  private CoordinateSequence toSequence(Object coords) throws ParseException {
+    if (isEmpty(coords))
+      return csFactory.create(0, 2);
+    if (! (coords instanceof CoordinateSequence))
+      throw new ParseException("Invalid nesting of coordinates");
+    return (CoordinateSequence) coords;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Object> toList(Object coords) throws ParseException {
+    if (coords == null)
+      return new ArrayList<Object>();
+    if (! (coords instanceof List))
+      throw new ParseException("Invalid nesting of coordinates");
+    return (List<Object>) coords;
+  }
+
+  private GeoJsonFeature readUnchecked() {
+    try {
+      return read();
+    }
+    catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    catch (ParseException ex) {
+      throw new IllegalArgumentException(ex.getMessage(), ex);
+    }
+  }
+
+  private class FeatureIterator
+    implements Iterator<GeoJsonFeature>
+  {
+    private GeoJsonFeature next = null;
+
+    public boolean hasNext() {
+      if (next == null)
+        next = readUnchecked();
+      return next != null;
+    }
+
+    public GeoJsonFeature next() {
+      if (! hasNext())
+        throw new NoSuchElementException();
+      GeoJsonFeature feature = next;
+      next = null;
+      return feature;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+import org.json.simple.JSONValue;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Writes a GeoJSON FeatureCollection incrementally to a {@link Writer},
+ * one feature at a time.
+ * This allows writing collections which are too large to be held in memory.
+ * The collection is completed by calling {@link #close()}.
+ * <p>
+ * Geometries are written using a {@link GeoJsonWriter},
+ * which determines the number of decimals and the polygon orientation.
+ * The <tt>crs</tt> property is not written for features.
+ * Feature properties may have values of any type supported by
+ * the <tt>json-simple</tt> library.
+ * <p>
+ * The writer is not flushed after each feature,
+ * so a buffered writer should be used for best performance.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see GeoJsonStreamReader
+ */
+public class GeoJsonStreamWriter
+  implements Closeable
+{
+  private Writer writer;
+  private GeoJsonWriter geometryWriter;
+  private int count = 0;
+  private boolean isClosed = false;
+
+  /**
+   * Creates a writer which writes geometries using
+   * the default {@link GeoJsonWriter} settings.
+   *
+   * @param writer the writer to write to
+   */
+  public GeoJsonStreamWriter(Writer writer) {
+    this(writer, new GeoJsonWriter());
+  }
+
+  /**
+   * Creates a writer which writes geometries using
+   * the settings of a {@link GeoJsonWriter}.
+   *
+   * @param writer the writer to write to
+   * @param geometryWriter the writer to use for geometries
+   */
+  public GeoJsonStreamWriter(Writer writer, GeoJsonWriter geometryWriter) {
+    this.writer = writer;
+    this.geometryWriter = geometryWriter;
+  }
+
+  /**
+   * Gets the number of features written so far.
+   *
+   * @return the number of features written
+   */
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * Writes a feature with a geometry and no properties.
+   *
+   * @param geometry the geometry to write (may be null)
+   * @throws IOException if an I/O error occurs
+   */
+  public void write(Geometry geometry) throws IOException {
+    write(null, geometry, null);
+  }
+
+  /**
+   * Writes a feature.
+   *
+   * @param feature the feature to write
+   * @throws IOException if an I/O error occurs
+   */
+  public void write(GeoJsonFeature feature) throws IOException {
+    write(feature.getId(), feature.getGeometry(), feature.getProperties());
+  }
+
+  /**
+   * Writes a feature with an identifier, a geometry and properties.
+   *
+   * @param id the feature identifier (a String or Number), or null
+   * @param geometry the feature geometry, or null
+   * @param properties the feature properties, or null
+   * @throws IOException if an I/O error occurs
+   */
+  public void write(Object id, Geometry geometry, Map<String, ?> properties) throws IOException {
+    if (isClosed)
+      throw new IllegalStateException("Writer is closed");
+    if (count == 0) {
+      writeCollectionStart();
+    }
+    else {
+      writer.write(",");
+    }
+    writer.write("{\"" + GeoJsonConstants.NAME_TYPE + "\":\""
+        + GeoJsonConstants.NAME_FEATURE + "\",");
+    if (id != null) {
+      writer.write("\"" + GeoJsonConstants.NAME_ID + "\":");
+      JSONValue.writeJSONString(id, writer);
+      writer.write(",");
+    }
+    writer.write("\"" + GeoJsonConstants.NAME_GEOMETRY + "\":");
+    if (geometry == null) {
+      writer.write("null");
+    }
+    else {
+      geometryWriter.write(geometry, false, writer);
+    }
+    writer.write(",\"" + GeoJsonConstants.NAME_PROPERTIES + "\":");
+    JSONValue.writeJSONString(properties, writer);
+    writer.write("}");
+    count++;
+  }
+
+  private void writeCollectionStart() throws IOException {
+    writer.write("{\"" + GeoJsonConstants.NAME_TYPE + "\":\""
+        + GeoJsonConstants.NAME_FEATURECOLLECTION + "\",\""
+        + GeoJsonConstants.NAME_FEATURES + "\":[");
+  }
+
+  /**
+   * Completes the FeatureCollection and closes the underlying writer.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  public void close() throws IOException {
+    if (isClosed)
+      return;
+    if (count == 0) {
+      writeCollectionStart();
+    }
+    writer.write("]}");
+    isClosed = true;
+    writer.close();
+  }
+}
@@ -11,8 +11,6 @@
  */
 package org.locationtech.jts.io.geojson;
 
-import org.json.simple.JSONAware;
-import org.json.simple.JSONObject;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -27,10 +25,6 @@ import org.locationtech.jts.util.Assert;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 
 
 /**
@@ -44,6 +38,9 @@ import java.util.Map;
  * <p>
  * The GeoJSON specification does not state how to represent empty geometries of specific type.
  * The writer emits empty typed geometries using an empty array for the <code>coordinates</code> property.
+ * <p>
+ * The JSON is written directly to the output, without creating intermediate objects.
+ * To write a FeatureCollection incrementally use a {@link GeoJsonStreamWriter}.
  * 
  * @author Martin Davis
  * @author Paul Howells, Vivid Solutions
@@ -128,43 +125,35 @@ public class GeoJsonWriter {
    *           throws an IOException when unable to write the JSON string
    */
   public void write(Geometry geometry, Writer writer) throws IOException {
-    Map<String, Object> map = create(geometry, isEncodeCRS);
-    JSONObject.writeJSONString(map, writer);
+    write(geometry, isEncodeCRS, writer);
     writer.flush();
   }
 
-  private Map<String, Object> create(Geometry geometry, boolean encodeCRS) {
-
-    Map<String, Object> result = new LinkedHashMap<String, Object>();
-    result.put(GeoJsonConstants.NAME_TYPE, geometry.getGeometryType());
+  /**
+   * Writes a geometry object directly to a writer,
+   * without creating intermediate JSON objects.
+   * 
+   * @param geometry the geometry to write
+   * @param encodeCRS true if the crs property should be written
+   * @param writer the writer to write to
+   * @throws IOException if an I/O error occurs
+   */
+  void write(Geometry geometry, boolean encodeCRS, Writer writer) throws IOException {
+    writer.write("{\"");
+    writer.write(GeoJsonConstants.NAME_TYPE);
+    writer.write("\":\"");
+    writer.write(geometry.getGeometryType());
+    writer.write("\",\"");
 
     if (geometry instanceof Point) {
       Point point = (Point) geometry;
-
-      CoordinateSequence coordinateSequence = point.getCoordinateSequence();
-      final String jsonString = coordinateSequence.size() == 0
-          ? JSON_ARRAY_EMPTY : getJsonString(coordinateSequence);
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, new JSONAware() {
-
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
+      writeCoordinatesName(writer);
+      writeSequenceOrEmpty(point.getCoordinateSequence(), writer);
 
     } else if (geometry instanceof LineString) {
       LineString lineString = (LineString) geometry;
-
-      CoordinateSequence coordinateSequence = lineString.getCoordinateSequence();
-      final String jsonString = coordinateSequence.size() == 0
-          ? JSON_ARRAY_EMPTY : getJsonString(coordinateSequence);
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, new JSONAware() {
-
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
+      writeCoordinatesName(writer);
+      writeSequenceOrEmpty(lineString.getCoordinateSequence(), writer);
 
     } else if (geometry instanceof Polygon) {
       Polygon polygon = (Polygon) geometry;
@@ -172,18 +161,13 @@ public class GeoJsonWriter {
       if (isForceCCW) {
         polygon = (Polygon) OrientationTransformer.transformCCW(polygon);
       }
+      writeCoordinatesName(writer);
+      writePolygon(polygon, writer);
 
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(polygon));
-
-    } else if (geometry instanceof MultiPoint) {
-      MultiPoint multiPoint = (MultiPoint) geometry;
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(multiPoint));
-
-    } else if (geometry instanceof MultiLineString) {
-      MultiLineString multiLineString = (MultiLineString) geometry;
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(multiLineString));
+    } else if (geometry instanceof MultiPoint
+        || geometry instanceof MultiLineString) {
+      writeCoordinatesName(writer);
+      writeCollection((GeometryCollection) geometry, writer);
 
     } else if (geometry instanceof MultiPolygon) {
       MultiPolygon multiPolygon = (MultiPolygon) geometry;
@@ -191,141 +175,132 @@ public class GeoJsonWriter {
       if (isForceCCW) {
         multiPolygon = (MultiPolygon) OrientationTransformer.transformCCW(multiPolygon);
       }
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(multiPolygon));
+      writeCoordinatesName(writer);
+      writeCollection(multiPolygon, writer);
 
     } else if (geometry instanceof GeometryCollection) {
       GeometryCollection geometryCollection = (GeometryCollection) geometry;
 
-      ArrayList<Map<String, Object>> geometries = new ArrayList<Map<String, Object>>(
-          geometryCollection.getNumGeometries());
-
+      writer.write(GeoJsonConstants.NAME_GEOMETRIES);
+      writer.write("\":[");
       for (int i = 0; i < geometryCollection.getNumGeometries(); i++) {
-        geometries.add(create(geometryCollection.getGeometryN(i), false));
+        if (i > 0) {
+          writer.write(",");
+        }
+        write(geometryCollection.getGeometryN(i), false, writer);
       }
-
-      result.put(GeoJsonConstants.NAME_GEOMETRIES, geometries);
+      writer.write("]");
 
     } else {
       throw new IllegalArgumentException("Unable to encode geometry " + geometry.getGeometryType() );
     }
 
     if (encodeCRS) {
-      result.put(GeoJsonConstants.NAME_CRS, createCRS(geometry.getSRID()));
+      writeCRS(geometry.getSRID(), writer);
     }
-
-    return result;
+    writer.write("}");
   }
 
-  private Map<String, Object> createCRS(int srid) {
-
-    Map<String, Object> result = new LinkedHashMap<String, Object>();
-    result.put(GeoJsonConstants.NAME_TYPE, GeoJsonConstants.NAME_NAME);
-
-    Map<String, Object> props = new LinkedHashMap<String, Object>();
-    props.put(GeoJsonConstants.NAME_NAME, EPSG_PREFIX + srid);
-
-    result.put(GeoJsonConstants.NAME_PROPERTIES, props);
-
-    return result;
+  private static void writeCoordinatesName(Writer writer) throws IOException {
+    writer.write(GeoJsonConstants.NAME_COORDINATES);
+    writer.write("\":");
   }
 
-  private List<JSONAware> makeJsonAware(Polygon poly) {
-    ArrayList<JSONAware> result = new ArrayList<JSONAware>();
-
-    {
-      final String jsonString = getJsonString(poly.getExteriorRing()
-          .getCoordinateSequence());
-      result.add(new JSONAware() {
+  private static void writeCRS(int srid, Writer writer) throws IOException {
+    writer.write(",\"");
+    writer.write(GeoJsonConstants.NAME_CRS);
+    writer.write("\":{\"");
+    writer.write(GeoJsonConstants.NAME_TYPE);
+    writer.write("\":\"");
+    writer.write(GeoJsonConstants.NAME_NAME);
+    writer.write("\",\"");
+    writer.write(GeoJsonConstants.NAME_PROPERTIES);
+    writer.write("\":{\"");
+    writer.write(GeoJsonConstants.NAME_NAME);
+    writer.write("\":\"");
+    writer.write(EPSG_PREFIX);
+    writer.write(Integer.toString(srid));
+    writer.write("\"}}");
+  }
 
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
-    }
+  private void writePolygon(Polygon poly, Writer writer) throws IOException {
+    writer.write("[");
+    writeSequence(poly.getExteriorRing().getCoordinateSequence(), writer);
     for (int i = 0; i < poly.getNumInteriorRing(); i++) {
-      final String jsonString = getJsonString(poly.getInteriorRingN(i)
-          .getCoordinateSequence());
-      result.add(new JSONAware() {
-
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
+      writer.write(",");
+      writeSequence(poly.getInteriorRingN(i).getCoordinateSequence(), writer);
     }
-
-    return result;
+    writer.write("]");
   }
 
-  private List<Object> makeJsonAware(GeometryCollection geometryCollection) {
-
-    ArrayList<Object> list = new ArrayList<Object>(
-        geometryCollection.getNumGeometries());
+  private void writeCollection(GeometryCollection geometryCollection, Writer writer) 
+      throws IOException {
+    writer.write("[");
+    boolean isFirst = true;
     for (int i = 0; i < geometryCollection.getNumGeometries(); i++) {
       Geometry geometry = geometryCollection.getGeometryN(i);
+      if (! (geometry instanceof Polygon 
+          || geometry instanceof LineString 
+          || geometry instanceof Point)) {
+        continue;
+      }
+      if (! isFirst) {
+        writer.write(",");
+      }
+      isFirst = false;
       
       if (geometry instanceof Polygon) {
-        Polygon polygon = (Polygon) geometry;
-        list.add(makeJsonAware(polygon));
+        writePolygon((Polygon) geometry, writer);
       } 
       else if (geometry instanceof LineString) {
-        LineString lineString = (LineString) geometry;
-        final String jsonString = getJsonString(lineString
-            .getCoordinateSequence());
-        list.add(new JSONAware() {
-
-          public String toJSONString() {
-            return jsonString;
-          }
-        });
+        writeSequence(((LineString) geometry).getCoordinateSequence(), writer);
       } 
-      else if (geometry instanceof Point) {
-        Point point = (Point) geometry;
-        final String jsonString = getJsonString(point.getCoordinateSequence());
-        list.add(new JSONAware() {
-
-          public String toJSONString() {
-            return jsonString;
-          }
-        });
+      else {
+        writeSequence(((Point) geometry).getCoordinateSequence(), writer);
       }
     }
-
-    return list;
+    writer.write("]");
   }
 
-  private String getJsonString(CoordinateSequence coordinateSequence) {
-    StringBuffer result = new StringBuffer();
+  private void writeSequenceOrEmpty(CoordinateSequence coordinateSequence, Writer writer) 
+      throws IOException {
+    if (coordinateSequence.size() == 0) {
+      writer.write(JSON_ARRAY_EMPTY);
+    }
+    else {
+      writeSequence(coordinateSequence, writer);
+    }
+  }
 
+  private void writeSequence(CoordinateSequence coordinateSequence, Writer writer) 
+      throws IOException {
     if (coordinateSequence.size() > 1) {
-      result.append("[");
+      writer.write("[");
     }
+    boolean hasZ = coordinateSequence.getDimension() > 2;
     for (int i = 0; i < coordinateSequence.size(); i++) {
       if (i > 0) {
-        result.append(",");
+        writer.write(",");
       }
-      result.append("[");
-      result.append(formatOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.X))); 
-      result.append(",");
-      result.append(formatOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.Y)));
+      writer.write("[");
+      writer.write(formatOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.X))); 
+      writer.write(",");
+      writer.write(formatOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.Y)));
 
-      if (coordinateSequence.getDimension() > 2 ) {
+      if (hasZ) {
         double z = coordinateSequence.getOrdinate(i, CoordinateSequence.Z);
         if (!  Double.isNaN(z)) {
-          result.append(",");
-          result.append(formatOrdinate(z));
+          writer.write(",");
+          writer.write(formatOrdinate(z));
         }
       }
 
-      result.append("]");
-
+      writer.write("]");
     }
 
     if (coordinateSequence.size() > 1) {
-      result.append("]");
+      writer.write("]");
     }
-
-    return result.toString();
   }
 
   private String formatOrdinate(double x) {
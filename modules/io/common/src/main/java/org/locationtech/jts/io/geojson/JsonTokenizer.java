@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import org.locationtech.jts.io.DoubleParser;
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * Splits JSON text into tokens, reading from a {@link Reader}.
+ * Tokens are either the structural characters <tt>{}[],:</tt>
+ * or one of the token types for values.
+ * <p>
+ * String and number values are held in a reusable buffer,
+ * so that numbers can be parsed without creating any objects.
+ * Whitespace is skipped, including the record separator
+ * character used by GeoJSON text sequences (RFC 8142).
+ */
+class JsonTokenizer
+{
+  static final int TT_EOF = -1;
+  static final int TT_STRING = -2;
+  static final int TT_NUMBER = -3;
+  static final int TT_TRUE = -4;
+  static final int TT_FALSE = -5;
+  static final int TT_NULL = -6;
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final char RECORD_SEPARATOR = 0x1E;
+
+  private Reader reader;
+  private char[] buf = new char[BUFFER_SIZE];
+  private int bufPos = 0;
+  private int bufLen = 0;
+  private int lineno = 1;
+
+  private char[] text = new char[64];
+  private int textLen = 0;
+  private boolean isInteger;
+
+  private int ttype = TT_EOF;
+  private boolean isPushedBack = false;
+
+  /**
+   * Creates a tokenizer for a {@link Reader}.
+   *
+   * @param reader the reader to read from
+   */
+  JsonTokenizer(Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * Gets the current line number.
+   *
+   * @return the line number
+   */
+  int lineno() {
+    return lineno;
+  }
+
+  /**
+   * Causes the next call to {@link #nextToken()} to return the current token.
+   */
+  void pushBack() {
+    isPushedBack = true;
+  }
+
+  /**
+   * Reads the next token.
+   *
+   * @return the type of the token
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the input is not valid JSON
+   */
+  int nextToken() throws IOException, ParseException {
+    if (isPushedBack) {
+      isPushedBack = false;
+      return ttype;
+    }
+    int c = read();
+    while (c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == RECORD_SEPARATOR) {
+      if (c == '\n')
+        lineno++;
+      c = read();
+    }
+    switch (c) {
+    case -1:
+      return ttype = TT_EOF;
+    case '{':
+    case '}':
+    case '[':
+    case ']':
+    case ',':
+    case ':':
+      return ttype = c;
+    case '"':
+      readString();
+      return ttype = TT_STRING;
+    case 't':
+      readLiteral("rue");
+      return ttype = TT_TRUE;
+    case 'f':
+      readLiteral("alse");
+      return ttype = TT_FALSE;
+    case 'n':
+      readLiteral("ull");
+      return ttype = TT_NULL;
+    }
+    if (c == '-' || (c >= '0' && c <= '9')) {
+      readNumber(c);
+      return ttype = TT_NUMBER;
+    }
+    throw error("Unexpected character '" + (char) c + "'");
+  }
+
+  /**
+   * Reads the next token, which must be of the given type.
+   *
+   * @param expected the expected token type
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the token is not of the expected type
+   */
+  void expect(int expected) throws IOException, ParseException {
+    int tok = nextToken();
+    if (tok != expected)
+      throw error("Expected " + tokenName(expected) + " but found " + tokenName(tok));
+  }
+
+  /**
+   * Gets the value of the current string token.
+   *
+   * @return the string value
+   */
+  String getString() {
+    return new String(text, 0, textLen);
+  }
+
+  /**
+   * Tests whether the current string token has a given value.
+   *
+   * @param str the value to test
+   * @return true if the string token has the value
+   */
+  boolean isString(String str) {
+    if (textLen != str.length())
+      return false;
+    for (int i = 0; i < textLen; i++) {
+      if (text[i] != str.charAt(i))
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * Tests whether the current number token is an integer
+   * (i.e. has no fraction or exponent).
+   *
+   * @return true if the number is an integer
+   */
+  boolean isInteger() {
+    return isInteger;
+  }
+
+  /**
+   * Gets the value of the current number token.
+   *
+   * @return the number value
+   */
+  double getNumber() {
+    // the JSON number syntax is a subset of the Java syntax
+    return DoubleParser.parse(text, 0, textLen, '.');
+  }
+
+  private void readNumber(int c) throws IOException, ParseException {
+    textLen = 0;
+    isInteger = true;
+    if (c == '-') {
+      append(c);
+      c = read();
+    }
+    c = readDigits(c);
+    if (c == '.') {
+      isInteger = false;
+      append(c);
+      c = readDigits(read());
+    }
+    if (c == 'e' || c == 'E') {
+      isInteger = false;
+      append(c);
+      c = read();
+      if (c == '-' || c == '+') {
+        append(c);
+        c = read();
+      }
+      c = readDigits(c);
+    }
+    unread(c);
+  }
+
+  private int readDigits(int c) throws IOException, ParseException {
+    if (c < '0' || c > '9')
+      throw error("Invalid number: " + getString() + (c < 0 ? "" : String.valueOf((char) c)));
+    do {
+      append(c);
+      c = read();
+    } while (c >= '0' && c <= '9');
+    return c;
+  }
+
+  private void readString() throws IOException, ParseException {
+    textLen = 0;
+    while (true) {
+      int c = read();
+      if (c == '"')
+        return;
+      if (c < 0)
+        throw error("Unterminated string");
+      if (c == '\\') {
+        c = read();
+        switch (c) {
+        case '"':
+        case '\\':
+        case '/':
+          break;
+        case 'b': c = '\b'; break;
+        case 'f': c = '\f'; break;
+        case 'n': c = '\n'; break;
+        case 'r': c = '\r'; break;
+        case 't': c = '\t'; break;
+        case 'u':
+          c = readHex();
+          break;
+        default:
+          throw error("Invalid escape character in string");
+        }
+      }
+      append(c);
+    }
+  }
+
+  private int readHex() throws IOException, ParseException {
+    int val = 0;
+    for (int i = 0; i < 4; i++) {
+      int d = Character.digit(read(), 16);
+      if (d < 0)
+        throw error("Invalid unicode escape in string");
+      val = 16 * val + d;
+    }
+    return val;
+  }
+
+  private void readLiteral(String rest) throws IOException, ParseException {
+    for (int i = 0; i < rest.length(); i++) {
+      if (read() != rest.charAt(i))
+        throw error("Invalid literal");
+    }
+  }
+
+  private void append(int c) {
+    if (textLen == text.length) {
+      char[] newText = new char[2 * text.length];
+      System.arraycopy(text, 0, newText, 0, textLen);
+      text = newText;
+    }
+    text[textLen++] = (char) c;
+  }
+
+  private int read() throws IOException {
+    if (bufPos >= bufLen) {
+      bufLen = reader.read(buf, 0, buf.length);
+      bufPos = 0;
+      if (bufLen <= 0) {
+        bufLen = 0;
+        return -1;
+      }
+    }
+    return buf[bufPos++];
+  }
+
+  private void unread(int c) {
+    if (c >= 0)
+      bufPos--;
+  }
+
+  /**
+   * Creates an exception for an error at the current position.
+   *
+   * @param msg the error message
+   * @return the exception
+   */
+  ParseException error(String msg) {
+    return new ParseException(msg + " (line " + lineno + ")");
+  }
+
+  private static String tokenName(int tok) {
+    switch (tok) {
+    case TT_EOF: return "end of input";
+    case TT_STRING: return "string";
+    case TT_NUMBER: return "number";
+    case TT_TRUE: return "true";
+    case TT_FALSE: return "false";
+    case TT_NULL: return "null";
+    }
+    return "'" + (char) tok + "'";
+  }
+}
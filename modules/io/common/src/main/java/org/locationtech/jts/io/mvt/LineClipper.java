@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.mvt;
+
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Clips lines to a rectangle, producing the sections of
+ * the line which lie inside the rectangle.
+ * Segments are clipped using the Liang-Barsky algorithm.
+ *
+ * @see org.locationtech.jts.operation.overlayng.RingClipper
+ */
+class LineClipper
+{
+  private double minX;
+  private double minY;
+  private double maxX;
+  private double maxY;
+
+  private CoordinateList section = null;
+  // the parameter range of the clipped segment
+  private double t0;
+  private double t1;
+
+  LineClipper(Envelope clipEnv) {
+    minX = clipEnv.getMinX();
+    minY = clipEnv.getMinY();
+    maxX = clipEnv.getMaxX();
+    maxY = clipEnv.getMaxY();
+  }
+
+  /**
+   * Clips a line to the rectangle,
+   * adding the sections inside the rectangle to a list.
+   *
+   * @param pts the points of the line
+   * @param sections the list to add the clipped sections to
+   */
+  void clip(Coordinate[] pts, List<Coordinate[]> sections) {
+    section = null;
+    for (int i = 0; i < pts.length - 1; i++) {
+      clipSegment(pts[i], pts[i + 1], sections);
+    }
+    finishSection(sections);
+  }
+
+  private void clipSegment(Coordinate p0, Coordinate p1, List<Coordinate[]> sections) {
+    double dx = p1.x - p0.x;
+    double dy = p1.y - p0.y;
+    t0 = 0.0;
+    t1 = 1.0;
+    if (! clipEdge(-dx, p0.x - minX)
+        || ! clipEdge(dx, maxX - p0.x)
+        || ! clipEdge(-dy, p0.y - minY)
+        || ! clipEdge(dy, maxY - p0.y)) {
+      finishSection(sections);
+      return;
+    }
+    Coordinate start = t0 == 0.0 ? p0 : new Coordinate(p0.x + t0 * dx, p0.y + t0 * dy);
+    Coordinate end = t1 == 1.0 ? p1 : new Coordinate(p0.x + t1 * dx, p0.y + t1 * dy);
+    if (section == null) {
+      section = new CoordinateList();
+    }
+    section.add(start, false);
+    section.add(end, false);
+    // segment leaves the rectangle
+    if (t1 < 1.0)
+      finishSection(sections);
+  }
+
+  /**
+   * Clips the parameter range of a segment against one edge.
+   *
+   * @return false if the segment is outside the edge
+   */
+  private boolean clipEdge(double p, double q) {
+    if (p == 0)
+      return q >= 0;
+    double r = q / p;
+    if (p < 0) {
+      if (r > t1)
+        return false;
+      if (r > t0)
+        t0 = r;
+    }
+    else {
+      if (r < t0)
+        return false;
+      if (r < t1)
+        t1 = r;
+    }
+    return true;
+  }
+
+  private void finishSection(List<Coordinate[]> sections) {
+    if (section != null && section.size() >= 2)
+      sections.add(section.toCoordinateArray());
+    section = null;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.mvt;
+
+/**
+ * Constants for the Mapbox Vector Tile format (version 2),
+ * including the codes for geometry types and geometry commands.
+ */
+public class MVTConstants {
+
+  public static final int GEOMETRY_UNKNOWN = 0;
+  public static final int GEOMETRY_POINT = 1;
+  public static final int GEOMETRY_LINESTRING = 2;
+  public static final int GEOMETRY_POLYGON = 3;
+
+  public static final int COMMAND_MOVE_TO = 1;
+  public static final int COMMAND_LINE_TO = 2;
+  public static final int COMMAND_CLOSE_PATH = 7;
+
+  /**
+   * The default size of the tile coordinate grid.
+   */
+  public static final int DEFAULT_EXTENT = 4096;
+
+  /**
+   * The version of the format written.
+   */
+  public static final int VERSION = 2;
+
+  // Protocol Buffers field numbers of the tile messages
+  static final int TILE_LAYERS = 3;
+
+  static final int LAYER_NAME = 1;
+  static final int LAYER_FEATURES = 2;
+  static final int LAYER_KEYS = 3;
+  static final int LAYER_VALUES = 4;
+  static final int LAYER_EXTENT = 5;
+  static final int LAYER_VERSION = 15;
+
+  static final int FEATURE_ID = 1;
+  static final int FEATURE_TAGS = 2;
+  static final int FEATURE_TYPE = 3;
+  static final int FEATURE_GEOMETRY = 4;
+
+  static final int VALUE_STRING = 1;
+  static final int VALUE_FLOAT = 2;
+  static final int VALUE_DOUBLE = 3;
+  static final int VALUE_INT = 4;
+  static final int VALUE_UINT = 5;
+  static final int VALUE_SINT = 6;
+  static final int VALUE_BOOL = 7;
+
+  /**
+   * Creates a command integer.
+   *
+   * @param command the command id
+   * @param count the number of times the command is repeated
+   * @return the command integer
+   */
+  static int command(int command, int count) {
+    return (command & 0x7) | (count << 3);
+  }
+
+  /**
+   * Encodes a signed parameter value using zig-zag encoding.
+   *
+   * @param value the value to encode
+   * @return the encoded value
+   */
+  static int zigZagEncode(int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  /**
+   * Decodes a zig-zag encoded parameter value.
+   *
+   * @param value the encoded value
+   * @return the decoded value
+   */
+  static int zigZagDecode(int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.mvt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * Decodes Mapbox Vector Tile geometry commands into geometries.
+ * The geometries have tile coordinates
+ * (with the Y axis pointing down).
+ * <p>
+ * Polygon rings are grouped into polygons using their orientation:
+ * a ring with positive area starts a new polygon,
+ * and rings with negative area are holes in the preceding polygon.
+ *
+ * @see MVTGeometryEncoder
+ */
+public class MVTGeometryDecoder
+{
+  /**
+   * Decodes geometry commands into a geometry.
+   *
+   * @param geometryType the MVT geometry type
+   * @param commands the geometry commands
+   * @param geomFactory the factory to use to create the geometry
+   * @return the decoded geometry
+   * @throws ParseException if the commands are invalid
+   */
+  public static Geometry decode(int geometryType, int[] commands, GeometryFactory geomFactory)
+      throws ParseException
+  {
+    MVTGeometryDecoder decoder = new MVTGeometryDecoder(commands, geomFactory);
+    switch (geometryType) {
+    case MVTConstants.GEOMETRY_POINT:
+      return decoder.decodePoints();
+    case MVTConstants.GEOMETRY_LINESTRING:
+      return decoder.decodeLines();
+    case MVTConstants.GEOMETRY_POLYGON:
+      return decoder.decodePolygons();
+    }
+    throw new ParseException("Unsupported geometry type: " + geometryType);
+  }
+
+  private int[] commands;
+  private GeometryFactory geomFactory;
+  private int pos = 0;
+  private int cursorX = 0;
+  private int cursorY = 0;
+
+  private MVTGeometryDecoder(int[] commands, GeometryFactory geomFactory) {
+    this.commands = commands;
+    this.geomFactory = geomFactory;
+  }
+
+  private Geometry decodePoints() throws ParseException {
+    List<Point> points = new ArrayList<Point>();
+    while (pos < commands.length) {
+      int count = readCommand(MVTConstants.COMMAND_MOVE_TO);
+      for (int i = 0; i < count; i++) {
+        points.add(geomFactory.createPoint(readPoint()));
+      }
+    }
+    if (points.size() == 1)
+      return points.get(0);
+    return geomFactory.createMultiPoint(GeometryFactory.toPointArray(points));
+  }
+
+  private Geometry decodeLines() throws ParseException {
+    List<LineString> lines = new ArrayList<LineString>();
+    while (pos < commands.length) {
+      lines.add(geomFactory.createLineString(readPath(false)));
+    }
+    if (lines.size() == 1)
+      return lines.get(0);
+    return geomFactory.createMultiLineString(GeometryFactory.toLineStringArray(lines));
+  }
+
+  private Geometry decodePolygons() throws ParseException {
+    List<Polygon> polys = new ArrayList<Polygon>();
+    LinearRing shell = null;
+    List<LinearRing> holes = new ArrayList<LinearRing>();
+    while (pos < commands.length) {
+      Coordinate[] pts = readPath(true);
+      LinearRing ring = geomFactory.createLinearRing(pts);
+      if (signedArea(pts) > 0) {
+        if (shell != null)
+          polys.add(geomFactory.createPolygon(shell, GeometryFactory.toLinearRingArray(holes)));
+        shell = ring;
+        holes.clear();
+      }
+      else {
+        if (shell == null)
+          throw new ParseException("Polygon interior ring before exterior ring");
+        holes.add(ring);
+      }
+    }
+    if (shell != null)
+      polys.add(geomFactory.createPolygon(shell, GeometryFactory.toLinearRingArray(holes)));
+    if (polys.size() == 1)
+      return polys.get(0);
+    return geomFactory.createMultiPolygon(GeometryFactory.toPolygonArray(polys));
+  }
+
+  /**
+   * Computes the signed area of a ring using the surveyor's formula.
+   */
+  private static double signedArea(Coordinate[] pts) {
+    double area2 = 0;
+    for (int i = 0; i < pts.length - 1; i++) {
+      area2 += pts[i].x * pts[i + 1].y - pts[i + 1].x * pts[i].y;
+    }
+    return area2 / 2;
+  }
+
+  private Coordinate[] readPath(boolean isRing) throws ParseException {
+    CoordinateList pts = new CoordinateList();
+    int count = readCommand(MVTConstants.COMMAND_MOVE_TO);
+    if (count != 1)
+      throw new ParseException("Invalid MoveTo count for path: " + count);
+    pts.add(readPoint(), true);
+    count = readCommand(MVTConstants.COMMAND_LINE_TO);
+    for (int i = 0; i < count; i++) {
+      pts.add(readPoint(), true);
+    }
+    if (isRing) {
+      readCommand(MVTConstants.COMMAND_CLOSE_PATH);
+      pts.closeRing();
+    }
+    return pts.toCoordinateArray();
+  }
+
+  private int readCommand(int expectedCommand) throws ParseException {
+    int cmd = readInt();
+    if ((cmd & 0x7) != expectedCommand)
+      throw new ParseException("Expected command " + expectedCommand
+          + " but found " + (cmd & 0x7) + " at " + (pos - 1));
+    return cmd >>> 3;
+  }
+
+  private Coordinate readPoint() throws ParseException {
+    cursorX += MVTConstants.zigZagDecode(readInt());
+    cursorY += MVTConstants.zigZagDecode(readInt());
+    return new Coordinate(cursorX, cursorY);
+  }
+
+  private int readInt() throws ParseException {
+    if (pos >= commands.length)
+      throw new ParseException("Unexpected end of geometry commands");
+    return commands[pos++];
+  }
+}
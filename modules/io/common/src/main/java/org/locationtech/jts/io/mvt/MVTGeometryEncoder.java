@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.mvt;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Lineal;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.Puntal;
+
+/**
+ * Encodes geometries as Mapbox Vector Tile geometry commands.
+ * The geometry must be in tile coordinates
+ * (with the Y axis pointing down).
+ * Coordinates are quantized by rounding them to the nearest integer.
+ * <p>
+ * Components which collapse under quantization are not encoded
+ * (lines with fewer than 2 distinct points, and rings with zero area).
+ * Repeated points are removed.
+ * Polygon rings are oriented as required by the format:
+ * exterior rings have positive area and interior rings have negative area
+ * (i.e. exterior rings are clockwise when viewed in tile coordinates).
+ * If the exterior ring of a polygon collapses its holes are not encoded.
+ * <p>
+ * An encoder can be reused for many geometries,
+ * to avoid allocating working storage for each one.
+ * This class is not thread-safe.
+ *
+ * @see MVTGeometryDecoder
+ */
+public class MVTGeometryEncoder
+{
+  /**
+   * Determines the MVT geometry type for a geometry.
+   *
+   * @param geom a geometry
+   * @return the MVT geometry type code
+   * @throws IllegalArgumentException if the geometry is a heterogeneous collection
+   */
+  public static int geometryType(Geometry geom) {
+    if (geom instanceof Puntal)
+      return MVTConstants.GEOMETRY_POINT;
+    if (geom instanceof Lineal)
+      return MVTConstants.GEOMETRY_LINESTRING;
+    if (geom instanceof Polygonal)
+      return MVTConstants.GEOMETRY_POLYGON;
+    throw new IllegalArgumentException("Unsupported geometry type: " + geom.getGeometryType());
+  }
+
+  private int[] commands = new int[64];
+  private int size = 0;
+  private int cursorX;
+  private int cursorY;
+
+  // quantized points of the current component
+  private int[] xs = new int[16];
+  private int[] ys = new int[16];
+
+  /**
+   * The index of the command for the points being encoded.
+   */
+  private int pointsCommand = -1;
+  private int numPoints;
+
+  /**
+   * Creates a new encoder.
+   */
+  public MVTGeometryEncoder() {
+  }
+
+  /**
+   * Encodes a geometry as MVT geometry commands.
+   * The geometry must be puntal, lineal or polygonal.
+   *
+   * @param geom the geometry to encode, in tile coordinates
+   * @return the geometry commands (empty if all components collapse)
+   * @throws IllegalArgumentException if the geometry is a heterogeneous collection
+   */
+  public int[] encode(Geometry geom) {
+    int type = geometryType(geom);
+    reset();
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      Geometry part = geom.getGeometryN(i);
+      if (part.isEmpty())
+        continue;
+      switch (type) {
+      case MVTConstants.GEOMETRY_POINT:
+        addPoint(((Point) part).getX(), ((Point) part).getY(), 0, 0);
+        break;
+      case MVTConstants.GEOMETRY_LINESTRING:
+        addLine(((LineString) part).getCoordinateSequence(), 0, 0);
+        break;
+      case MVTConstants.GEOMETRY_POLYGON:
+        addPolygon((Polygon) part);
+        break;
+      }
+    }
+    return toArray();
+  }
+
+  private void addPolygon(Polygon poly) {
+    if (! addRing(poly.getExteriorRing().getCoordinateSequence(), 0, 0, true))
+      return;
+    for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+      addRing(poly.getInteriorRingN(i).getCoordinateSequence(), 0, 0, false);
+    }
+  }
+
+  /**
+   * Starts encoding a new geometry.
+   */
+  void reset() {
+    size = 0;
+    cursorX = 0;
+    cursorY = 0;
+    pointsCommand = -1;
+  }
+
+  /**
+   * Gets the number of command integers encoded so far.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Gets the encoded commands for the current geometry.
+   */
+  int[] toArray() {
+    return Arrays.copyOf(commands, size);
+  }
+
+  /**
+   * Adds a point to the geometry.
+   * All the points of a geometry are encoded in a single MoveTo command.
+   *
+   * @param x the X ordinate
+   * @param y the Y ordinate
+   * @param offsetX the offset to subtract from X ordinates
+   * @param offsetY the offset to subtract from Y ordinates
+   */
+  void addPoint(double x, double y, double offsetX, double offsetY) {
+    if (pointsCommand < 0) {
+      pointsCommand = size;
+      numPoints = 0;
+      append(0);
+    }
+    numPoints++;
+    commands[pointsCommand] = MVTConstants.command(MVTConstants.COMMAND_MOVE_TO, numPoints);
+    appendPoint(quantize(x - offsetX), quantize(y - offsetY));
+  }
+
+  /**
+   * Adds a line to the geometry.
+   *
+   * @param seq the points of the line
+   * @param offsetX the offset to subtract from X ordinates
+   * @param offsetY the offset to subtract from Y ordinates
+   * @return true if the line was encoded, false if it collapsed
+   */
+  boolean addLine(CoordinateSequence seq, double offsetX, double offsetY) {
+    int n = seq.size();
+    ensureCapacity(n);
+    for (int i = 0; i < n; i++) {
+      xs[i] = quantize(seq.getX(i) - offsetX);
+      ys[i] = quantize(seq.getY(i) - offsetY);
+    }
+    return encodeLine(n);
+  }
+
+  /**
+   * Adds a line to the geometry.
+   *
+   * @param pts the points of the line
+   * @param offsetX the offset to subtract from X ordinates
+   * @param offsetY the offset to subtract from Y ordinates
+   * @return true if the line was encoded, false if it collapsed
+   */
+  boolean addLine(Coordinate[] pts, double offsetX, double offsetY) {
+    int n = pts.length;
+    ensureCapacity(n);
+    for (int i = 0; i < n; i++) {
+      xs[i] = quantize(pts[i].x - offsetX);
+      ys[i] = quantize(pts[i].y - offsetY);
+    }
+    return encodeLine(n);
+  }
+
+  /**
+   * Adds a polygon ring to the geometry.
+   *
+   * @param seq the points of the ring
+   * @param offsetX the offset to subtract from X ordinates
+   * @param offsetY the offset to subtract from Y ordinates
+   * @param isExterior true if the ring is an exterior ring
+   * @return true if the ring was encoded, false if it collapsed
+   */
+  boolean addRing(CoordinateSequence seq, double offsetX, double offsetY, boolean isExterior) {
+    int n = seq.size();
+    ensureCapacity(n);
+    for (int i = 0; i < n; i++) {
+      xs[i] = quantize(seq.getX(i) - offsetX);
+      ys[i] = quantize(seq.getY(i) - offsetY);
+    }
+    return encodeRing(n, isExterior);
+  }
+
+  /**
+   * Adds a polygon ring to the geometry.
+   *
+   * @param pts the points of the ring
+   * @param offsetX the offset to subtract from X ordinates
+   * @param offsetY the offset to subtract from Y ordinates
+   * @param isExterior true if the ring is an exterior ring
+   * @return true if the ring was encoded, false if it collapsed
+   */
+  boolean addRing(Coordinate[] pts, double offsetX, double offsetY, boolean isExterior) {
+    int n = pts.length;
+    ensureCapacity(n);
+    for (int i = 0; i < n; i++) {
+      xs[i] = quantize(pts[i].x - offsetX);
+      ys[i] = quantize(pts[i].y - offsetY);
+    }
+    return encodeRing(n, isExterior);
+  }
+
+  private static int quantize(double ord) {
+    return (int) Math.round(ord);
+  }
+
+  private void ensureCapacity(int n) {
+    if (xs.length < n) {
+      int len = Math.max(n, 2 * xs.length);
+      xs = new int[len];
+      ys = new int[len];
+    }
+  }
+
+  /**
+   * Removes repeated points from the quantized points.
+   *
+   * @return the number of points remaining
+   */
+  private int removeRepeated(int n) {
+    if (n == 0)
+      return 0;
+    int count = 1;
+    for (int i = 1; i < n; i++) {
+      if (xs[i] != xs[count - 1] || ys[i] != ys[count - 1]) {
+        xs[count] = xs[i];
+        ys[count] = ys[i];
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private boolean encodeLine(int n) {
+    n = removeRepeated(n);
+    if (n < 2)
+      return false;
+    append(MVTConstants.command(MVTConstants.COMMAND_MOVE_TO, 1));
+    appendPoint(xs[0], ys[0]);
+    append(MVTConstants.command(MVTConstants.COMMAND_LINE_TO, n - 1));
+    for (int i = 1; i < n; i++) {
+      appendPoint(xs[i], ys[i]);
+    }
+    return true;
+  }
+
+  private boolean encodeRing(int n, boolean isExterior) {
+    n = removeRepeated(n);
+    // the closing point is implied by ClosePath
+    if (n > 1 && xs[0] == xs[n - 1] && ys[0] == ys[n - 1])
+      n--;
+    if (n < 3)
+      return false;
+    long area2 = 0;
+    for (int i = 0; i < n; i++) {
+      int j = i + 1 < n ? i + 1 : 0;
+      area2 += (long) xs[i] * ys[j] - (long) xs[j] * ys[i];
+    }
+    if (area2 == 0)
+      return false;
+    boolean isReversed = isExterior ? area2 < 0 : area2 > 0;
+
+    append(MVTConstants.command(MVTConstants.COMMAND_MOVE_TO, 1));
+    appendPoint(xs[0], ys[0]);
+    append(MVTConstants.command(MVTConstants.COMMAND_LINE_TO, n - 1));
+    for (int i = 1; i < n; i++) {
+      int k = isReversed ? n - i : i;
+      appendPoint(xs[k], ys[k]);
+    }
+    append(MVTConstants.command(MVTConstants.COMMAND_CLOSE_PATH, 1));
+    return true;
+  }
+
+  private void appendPoint(int x, int y) {
+    append(MVTConstants.zigZagEncode(x - cursorX));
+    append(MVTConstants.zigZagEncode(y - cursorY));
+    cursorX = x;
+    cursorY = y;
+  }
+
+  private void append(int value) {
+    if (size == commands.length)
+      commands = Arrays.copyOf(commands, 2 * size);
+    commands[size++] = value;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.mvt;
+
+/**
+ * The encoded geometry of a source geometry in a single tile,
+ * as computed by {@link MVTTiler}.
+ */
+public class MVTTileGeometry
+{
+  private int zoom;
+  private int x;
+  private int y;
+  private int geometryType;
+  private int[] commands;
+
+  /**
+   * Creates a tile geometry.
+   *
+   * @param zoom the zoom level of the tile
+   * @param x the column of the tile
+   * @param y the row of the tile
+   * @param geometryType the MVT geometry type
+   * @param commands the geometry commands
+   */
+  public MVTTileGeometry(int zoom, int x, int y, int geometryType, int[] commands) {
+    this.zoom = zoom;
+    this.x = x;
+    this.y = y;
+    this.geometryType = geometryType;
+    this.commands = commands;
+  }
+
+  /**
+   * Gets the zoom level of the tile.
+   *
+   * @return the zoom level
+   */
+  public int getZoom() {
+    return zoom;
+  }
+
+  /**
+   * Gets the column of the tile.
+   *
+   * @return the tile column
+   */
+  public int getX() {
+    return x;
+  }
+
+  /**
+   * Gets the row of the tile.
+   * Rows are numbered from the top of the tile grid.
+   *
+   * @return the tile row
+   */
+  public int getY() {
+    return y;
+  }
+
+  /**
+   * Gets the MVT geometry type.
+   *
+   * @return the geometry type code
+   * @see MVTConstants
+   */
+  public int getGeometryType() {
+    return geometryType;
+  }
+
+  /**
+   * Gets the encoded geometry commands.
+   *
+   * @return the geometry commands
+   */
+  public int[] getCommands() {
+    return commands;
+  }
+}
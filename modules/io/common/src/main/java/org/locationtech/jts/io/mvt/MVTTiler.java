@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.mvt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.algorithm.Area;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.Puntal;
+import org.locationtech.jts.geom.util.AffineTransformation;
+import org.locationtech.jts.operation.overlayng.RingClipper;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+
+/**
+ * Computes the Mapbox Vector Tile geometries of a source geometry
+ * in all the tiles it covers at a given zoom level.
+ * The tile grid divides a world extent into <code>2<sup>zoom</sup></code>
+ * columns and rows, with rows numbered from the top.
+ * Each tile has a coordinate grid of size <i>extent</i>
+ * (default {@link MVTConstants#DEFAULT_EXTENT}),
+ * and geometry is clipped to the tile expanded by a buffer
+ * (in tile coordinate units).
+ * <p>
+ * The work common to all tiles is done once per source geometry:
+ * <ol>
+ * <li>the geometry is transformed to the pixel coordinates of the zoom level
+ * <li>it is simplified using Douglas-Peucker simplification
+ * with a tolerance in pixels
+ * <li>it is quantized to the integer pixel grid,
+ * and repeated points are removed
+ * </ol>
+ * The geometry is then clipped to each column of tiles it covers,
+ * and each column section is clipped to the tiles in the column.
+ * Polygon rings are clipped using a {@link RingClipper},
+ * and lines using Liang-Barsky clipping.
+ * The clipped geometry for each tile is encoded
+ * using an {@link MVTGeometryEncoder}.
+ * Tiles in which the geometry collapses to empty are omitted.
+ * <p>
+ * Simplification does not ensure polygon validity,
+ * since clipped polygons are generally not valid in any case.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see MVTWriter
+ */
+public class MVTTiler
+{
+  /**
+   * The default size of the tile buffer, in tile coordinate units.
+   */
+  public static final int DEFAULT_BUFFER = 64;
+
+  /**
+   * The default simplification tolerance, in tile coordinate units.
+   */
+  public static final double DEFAULT_SIMPLIFY_TOLERANCE = 1.0;
+
+  private static final double WEB_MERCATOR_MAX = 20037508.342789244;
+
+  /**
+   * Creates a tiler for the Web Mercator (EPSG:3857) tile grid.
+   *
+   * @param zoom the zoom level
+   * @return a tiler for the zoom level
+   */
+  public static MVTTiler webMercator(int zoom) {
+    return new MVTTiler(new Envelope(-WEB_MERCATOR_MAX, WEB_MERCATOR_MAX,
+        -WEB_MERCATOR_MAX, WEB_MERCATOR_MAX), zoom);
+  }
+
+  private Envelope worldEnv;
+  private int zoom;
+  private int numTiles;
+  private int extent = MVTConstants.DEFAULT_EXTENT;
+  private int buffer = DEFAULT_BUFFER;
+  private double simplifyTolerance = DEFAULT_SIMPLIFY_TOLERANCE;
+
+  private MVTGeometryEncoder encoder = new MVTGeometryEncoder();
+
+  /**
+   * Creates a tiler for a tile grid covering a world extent.
+   *
+   * @param worldEnv the extent of the tile grid
+   * @param zoom the zoom level
+   */
+  public MVTTiler(Envelope worldEnv, int zoom) {
+    if (zoom < 0 || zoom > 30)
+      throw new IllegalArgumentException("Invalid zoom level: " + zoom);
+    this.worldEnv = worldEnv;
+    this.zoom = zoom;
+    this.numTiles = 1 << zoom;
+  }
+
+  /**
+   * Sets the size of the tile coordinate grid.
+   *
+   * @param extent the tile extent
+   */
+  public void setExtent(int extent) {
+    this.extent = extent;
+  }
+
+  /**
+   * Sets the size of the buffer around each tile,
+   * in tile coordinate units.
+   *
+   * @param buffer the buffer size
+   */
+  public void setBuffer(int buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * Sets the distance tolerance for simplification,
+   * in tile coordinate units.
+   * A tolerance of 0 disables simplification.
+   *
+   * @param tolerance the simplification tolerance
+   */
+  public void setSimplifyTolerance(double tolerance) {
+    this.simplifyTolerance = tolerance;
+  }
+
+  /**
+   * Gets the envelope of a tile in world coordinates.
+   *
+   * @param x the tile column
+   * @param y the tile row
+   * @return the envelope of the tile
+   */
+  public Envelope getTileEnvelope(int x, int y) {
+    double w = worldEnv.getWidth() / numTiles;
+    double h = worldEnv.getHeight() / numTiles;
+    double minX = worldEnv.getMinX() + x * w;
+    double maxY = worldEnv.getMaxY() - y * h;
+    return new Envelope(minX, minX + w, maxY - h, maxY);
+  }
+
+  /**
+   * Computes the encoded geometries of a source geometry
+   * for all the tiles it covers.
+   *
+   * @param geom the geometry to tile, in world coordinates
+   * @return the list of tile geometries
+   * @throws IllegalArgumentException if the geometry is a heterogeneous collection
+   */
+  public List<MVTTileGeometry> tile(Geometry geom) {
+    List<MVTTileGeometry> result = new ArrayList<MVTTileGeometry>();
+    if (geom.isEmpty())
+      return result;
+    int type = MVTGeometryEncoder.geometryType(geom);
+
+    Geometry pixelGeom = toPixels(geom);
+    Parts parts = new Parts(type);
+    parts.add(pixelGeom);
+    if (parts.isEmpty())
+      return result;
+
+    Envelope env = parts.envelope();
+    int col0 = tileIndex(env.getMinX() - buffer);
+    int col1 = tileIndex(env.getMaxX() + buffer);
+    int row0 = tileIndex(env.getMinY() - buffer);
+    int row1 = tileIndex(env.getMaxY() + buffer);
+
+    for (int col = col0; col <= col1; col++) {
+      Parts colParts = parts;
+      if (col0 < col1) {
+        Envelope colEnv = new Envelope(
+            (double) col * extent - buffer, (double) (col + 1) * extent + buffer,
+            (double) row0 * extent - buffer, (double) (row1 + 1) * extent + buffer);
+        colParts = parts.clip(colEnv);
+        if (colParts.isEmpty())
+          continue;
+      }
+      for (int row = row0; row <= row1; row++) {
+        Envelope tileEnv = new Envelope(
+            (double) col * extent - buffer, (double) (col + 1) * extent + buffer,
+            (double) row * extent - buffer, (double) (row + 1) * extent + buffer);
+        Parts tileParts = colParts.clip(tileEnv);
+        if (tileParts.isEmpty())
+          continue;
+        int[] commands = tileParts.encode(encoder, (double) col * extent, (double) row * extent);
+        if (commands.length > 0)
+          result.add(new MVTTileGeometry(zoom, col, row, type, commands));
+      }
+    }
+    return result;
+  }
+
+  private int tileIndex(double pixel) {
+    int index = (int) Math.floor(pixel / extent);
+    return Math.max(0, Math.min(numTiles - 1, index));
+  }
+
+  /**
+   * Transforms a geometry to pixel coordinates, and simplifies it.
+   */
+  private Geometry toPixels(Geometry geom) {
+    double scaleX = (double) numTiles * extent / worldEnv.getWidth();
+    double scaleY = (double) numTiles * extent / worldEnv.getHeight();
+    AffineTransformation trans = new AffineTransformation(
+        scaleX, 0, -worldEnv.getMinX() * scaleX,
+        0, -scaleY, worldEnv.getMaxY() * scaleY);
+    Geometry pixelGeom = trans.transform(geom);
+    if (simplifyTolerance > 0 && ! (pixelGeom instanceof Puntal)) {
+      DouglasPeuckerSimplifier simp = new DouglasPeuckerSimplifier(pixelGeom);
+      simp.setDistanceTolerance(simplifyTolerance);
+      simp.setEnsureValid(false);
+      pixelGeom = simp.getResultGeometry();
+    }
+    return pixelGeom;
+  }
+
+  /**
+   * The quantized components of a geometry in pixel coordinates.
+   * Polygons are stored as arrays of rings, with the shell first.
+   */
+  private static class Parts {
+    private int type;
+    private List<Coordinate> points = new ArrayList<Coordinate>();
+    private List<Coordinate[]> lines = new ArrayList<Coordinate[]>();
+    private List<Coordinate[][]> polygons = new ArrayList<Coordinate[][]>();
+
+    Parts(int type) {
+      this.type = type;
+    }
+
+    boolean isEmpty() {
+      return points.isEmpty() && lines.isEmpty() && polygons.isEmpty();
+    }
+
+    void add(Geometry geom) {
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        Geometry part = geom.getGeometryN(i);
+        if (part.isEmpty())
+          continue;
+        if (part instanceof Point) {
+          Coordinate p = ((Point) part).getCoordinate();
+          points.add(new Coordinate(Math.round(p.x), Math.round(p.y)));
+        }
+        else if (part instanceof LineString) {
+          Coordinate[] pts = quantize(((LineString) part).getCoordinateSequence());
+          if (pts.length >= 2)
+            lines.add(pts);
+        }
+        else if (part instanceof Polygon) {
+          addPolygon((Polygon) part);
+        }
+      }
+    }
+
+    private void addPolygon(Polygon poly) {
+      Coordinate[] shell = quantize(poly.getExteriorRing().getCoordinateSequence());
+      if (shell.length < 4)
+        return;
+      List<Coordinate[]> rings = new ArrayList<Coordinate[]>();
+      rings.add(shell);
+      for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+        Coordinate[] hole = quantize(poly.getInteriorRingN(i).getCoordinateSequence());
+        if (hole.length >= 4)
+          rings.add(hole);
+      }
+      polygons.add(rings.toArray(new Coordinate[rings.size()][]));
+    }
+
+    /**
+     * Rounds the points of a sequence to integers,
+     * removing repeated points.
+     */
+    private static Coordinate[] quantize(CoordinateSequence seq) {
+      Coordinate[] pts = new Coordinate[seq.size()];
+      int n = 0;
+      for (int i = 0; i < seq.size(); i++) {
+        double x = Math.round(seq.getX(i));
+        double y = Math.round(seq.getY(i));
+        if (n > 0 && pts[n - 1].x == x && pts[n - 1].y == y)
+          continue;
+        pts[n++] = new Coordinate(x, y);
+      }
+      if (n == pts.length)
+        return pts;
+      Coordinate[] result = new Coordinate[n];
+      System.arraycopy(pts, 0, result, 0, n);
+      return result;
+    }
+
+    Envelope envelope() {
+      Envelope env = new Envelope();
+      for (Coordinate p : points) {
+        env.expandToInclude(p);
+      }
+      for (Coordinate[] line : lines) {
+        expand(env, line);
+      }
+      for (Coordinate[][] poly : polygons) {
+        expand(env, poly[0]);
+      }
+      return env;
+    }
+
+    private static Envelope expand(Envelope env, Coordinate[] pts) {
+      for (Coordinate p : pts) {
+        env.expandToInclude(p);
+      }
+      return env;
+    }
+
+    /**
+     * Clips the parts to a rectangle.
+     * Parts which lie wholly inside the rectangle are not copied.
+     */
+    Parts clip(Envelope clipEnv) {
+      Parts result = new Parts(type);
+      for (Coordinate p : points) {
+        if (clipEnv.contains(p))
+          result.points.add(p);
+      }
+      if (! lines.isEmpty()) {
+        LineClipper clipper = new LineClipper(clipEnv);
+        for (Coordinate[] line : lines) {
+          Envelope env = expand(new Envelope(), line);
+          if (clipEnv.covers(env))
+            result.lines.add(line);
+          else if (clipEnv.intersects(env))
+            clipper.clip(line, result.lines);
+        }
+      }
+      if (! polygons.isEmpty()) {
+        RingClipper clipper = new RingClipper(clipEnv);
+        for (Coordinate[][] poly : polygons) {
+          Coordinate[][] clipped = clipPolygon(poly, clipEnv, clipper);
+          if (clipped != null)
+            result.polygons.add(clipped);
+        }
+      }
+      return result;
+    }
+
+    private static Coordinate[][] clipPolygon(Coordinate[][] poly, Envelope clipEnv,
+        RingClipper clipper)
+    {
+      Envelope shellEnv = expand(new Envelope(), poly[0]);
+      if (clipEnv.covers(shellEnv))
+        return poly;
+      if (! clipEnv.intersects(shellEnv))
+        return null;
+      Coordinate[] shell = clipper.clip(poly[0]);
+      if (shell.length < 4)
+        return null;
+      List<Coordinate[]> rings = new ArrayList<Coordinate[]>();
+      rings.add(shell);
+      double shellArea = -1;
+      for (int i = 1; i < poly.length; i++) {
+        Coordinate[] hole = poly[i];
+        Envelope holeEnv = expand(new Envelope(), hole);
+        if (! clipEnv.covers(holeEnv)) {
+          if (! clipEnv.intersects(holeEnv))
+            continue;
+          hole = clipper.clip(hole);
+          if (hole.length < 4)
+            continue;
+          // a clipped hole with the area of the clipped shell covers it,
+          // so the polygon is empty inside the clip rectangle
+          if (shellArea < 0)
+            shellArea = Math.abs(Area.ofRing(shell));
+          if (Math.abs(Area.ofRing(hole)) >= shellArea)
+            return null;
+        }
+        if (hole.length >= 4)
+          rings.add(hole);
+      }
+      return rings.toArray(new Coordinate[rings.size()][]);
+    }
+
+    /**
+     * Encodes the parts relative to a tile origin.
+     */
+    int[] encode(MVTGeometryEncoder encoder, double originX, double originY) {
+      encoder.reset();
+      for (Coordinate p : points) {
+        encoder.addPoint(p.x, p.y, originX, originY);
+      }
+      for (Coordinate[] line : lines) {
+        encoder.addLine(line, originX, originY);
+      }
+      for (Coordinate[][] poly : polygons) {
+        if (! encoder.addRing(poly[0], originX, originY, true))
+          continue;
+        for (int i = 1; i < poly.length; i++) {
+          encoder.addRing(poly[i], originX, originY, false);
+        }
+      }
+      return encoder.toArray();
+    }
+  }
+}
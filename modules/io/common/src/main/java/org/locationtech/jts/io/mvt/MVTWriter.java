@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.mvt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Writes a Mapbox Vector Tile in the Protocol Buffers format.
+ * A tile contains one or more named layers,
+ * each containing features with a geometry
+ * and optionally an id and properties.
+ * <p>
+ * Features are added to the current layer,
+ * which is started with {@link #startLayer(String)}.
+ * Feature geometries can be provided as geometries in tile coordinates,
+ * which are encoded with an {@link MVTGeometryEncoder},
+ * or as already encoded {@link MVTTileGeometry}s
+ * computed by an {@link MVTTiler}.
+ * Features whose geometry collapses to empty are not written.
+ * <p>
+ * Property values may be strings, numbers or booleans.
+ * Null values are omitted.
+ * Property keys and values are stored once per layer.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see MVTTiler
+ */
+public class MVTWriter
+{
+  private MVTGeometryEncoder encoder = new MVTGeometryEncoder();
+  private ProtobufBuffer tile = new ProtobufBuffer();
+  private ProtobufBuffer layer = new ProtobufBuffer();
+  private ProtobufBuffer feature = new ProtobufBuffer();
+  private ProtobufBuffer value = new ProtobufBuffer(16);
+
+  private String layerName = null;
+  private int layerExtent;
+  private List<String> keys = new ArrayList<String>();
+  private Map<String, Integer> keyIndex = new HashMap<String, Integer>();
+  private List<byte[]> values = new ArrayList<byte[]>();
+  private Map<Object, Integer> valueIndex = new HashMap<Object, Integer>();
+  private int[] tags = new int[16];
+  private int numFeatures = 0;
+
+  /**
+   * Creates a writer for a new tile.
+   */
+  public MVTWriter() {
+  }
+
+  /**
+   * Starts a new layer with the default extent.
+   * Any current layer is completed.
+   *
+   * @param name the layer name
+   */
+  public void startLayer(String name) {
+    startLayer(name, MVTConstants.DEFAULT_EXTENT);
+  }
+
+  /**
+   * Starts a new layer.
+   * Any current layer is completed.
+   *
+   * @param name the layer name
+   * @param extent the size of the tile coordinate grid
+   */
+  public void startLayer(String name, int extent) {
+    finishLayer();
+    layerName = name;
+    layerExtent = extent;
+  }
+
+  /**
+   * Gets the number of features written to the current layer.
+   *
+   * @return the number of features written
+   */
+  public int getNumFeatures() {
+    return numFeatures;
+  }
+
+  /**
+   * Adds a feature to the current layer.
+   *
+   * @param geom the feature geometry, in tile coordinates
+   * @param properties the feature properties, or null
+   * @return true if the feature was written, false if the geometry collapsed
+   */
+  public boolean addFeature(Geometry geom, Map<String, ?> properties) {
+    return addFeature(false, 0, geom, properties);
+  }
+
+  /**
+   * Adds a feature with an id to the current layer.
+   *
+   * @param id the feature id
+   * @param geom the feature geometry, in tile coordinates
+   * @param properties the feature properties, or null
+   * @return true if the feature was written, false if the geometry collapsed
+   */
+  public boolean addFeature(long id, Geometry geom, Map<String, ?> properties) {
+    return addFeature(true, id, geom, properties);
+  }
+
+  /**
+   * Adds a feature with a tile geometry computed by an {@link MVTTiler}
+   * to the current layer.
+   *
+   * @param geom the encoded feature geometry
+   * @param properties the feature properties, or null
+   * @return true if the feature was written, false if the geometry is empty
+   */
+  public boolean addFeature(MVTTileGeometry geom, Map<String, ?> properties) {
+    return addFeature(false, 0, geom.getGeometryType(), geom.getCommands(), properties);
+  }
+
+  /**
+   * Adds a feature with an id and a tile geometry computed by an {@link MVTTiler}
+   * to the current layer.
+   *
+   * @param id the feature id
+   * @param geom the encoded feature geometry
+   * @param properties the feature properties, or null
+   * @return true if the feature was written, false if the geometry is empty
+   */
+  public boolean addFeature(long id, MVTTileGeometry geom, Map<String, ?> properties) {
+    return addFeature(true, id, geom.getGeometryType(), geom.getCommands(), properties);
+  }
+
+  private boolean addFeature(boolean hasId, long id, Geometry geom, Map<String, ?> properties) {
+    int[] commands = encoder.encode(geom);
+    return addFeature(hasId, id, MVTGeometryEncoder.geometryType(geom), commands, properties);
+  }
+
+  private boolean addFeature(boolean hasId, long id, int geometryType, int[] commands,
+      Map<String, ?> properties)
+  {
+    if (layerName == null)
+      throw new IllegalStateException("No layer has been started");
+    if (commands.length == 0)
+      return false;
+    feature.clear();
+    if (hasId)
+      feature.writeVarintField(MVTConstants.FEATURE_ID, id);
+    if (properties != null)
+      writeTags(properties);
+    feature.writeVarintField(MVTConstants.FEATURE_TYPE, geometryType);
+    feature.writePackedField(MVTConstants.FEATURE_GEOMETRY, commands, commands.length);
+    layer.writeMessageField(MVTConstants.LAYER_FEATURES, feature);
+    numFeatures++;
+    return true;
+  }
+
+  private void writeTags(Map<String, ?> properties) {
+    int n = 0;
+    for (Map.Entry<String, ?> entry : properties.entrySet()) {
+      if (entry.getValue() == null)
+        continue;
+      if (n + 2 > tags.length)
+        tags = Arrays.copyOf(tags, 2 * tags.length);
+      tags[n++] = keyIndex(entry.getKey());
+      tags[n++] = valueIndex(entry.getValue());
+    }
+    feature.writePackedField(MVTConstants.FEATURE_TAGS, tags, n);
+  }
+
+  private int keyIndex(String key) {
+    Integer index = keyIndex.get(key);
+    if (index == null) {
+      index = keys.size();
+      keys.add(key);
+      keyIndex.put(key, index);
+    }
+    return index;
+  }
+
+  private int valueIndex(Object val) {
+    Integer index = valueIndex.get(val);
+    if (index == null) {
+      index = values.size();
+      values.add(encodeValue(val));
+      valueIndex.put(val, index);
+    }
+    return index;
+  }
+
+  private byte[] encodeValue(Object val) {
+    value.clear();
+    if (val instanceof CharSequence) {
+      value.writeStringField(MVTConstants.VALUE_STRING, val.toString());
+    }
+    else if (val instanceof Boolean) {
+      value.writeVarintField(MVTConstants.VALUE_BOOL, ((Boolean) val) ? 1 : 0);
+    }
+    else if (val instanceof Float) {
+      value.writeFloatField(MVTConstants.VALUE_FLOAT, (Float) val);
+    }
+    else if (val instanceof Double) {
+      value.writeDoubleField(MVTConstants.VALUE_DOUBLE, (Double) val);
+    }
+    else if (val instanceof Long || val instanceof Integer
+        || val instanceof Short || val instanceof Byte) {
+      long n = ((Number) val).longValue();
+      if (n >= 0)
+        value.writeVarintField(MVTConstants.VALUE_UINT, n);
+      else
+        value.writeVarintField(MVTConstants.VALUE_SINT, (n << 1) ^ (n >> 63));
+    }
+    else if (val instanceof Number) {
+      value.writeDoubleField(MVTConstants.VALUE_DOUBLE, ((Number) val).doubleValue());
+    }
+    else {
+      throw new IllegalArgumentException("Unsupported property value type: "
+          + val.getClass().getName());
+    }
+    return value.toByteArray();
+  }
+
+  private void finishLayer() {
+    if (layerName == null)
+      return;
+    ProtobufBuffer msg = new ProtobufBuffer(layer.size() + 64);
+    msg.writeVarintField(MVTConstants.LAYER_VERSION, MVTConstants.VERSION);
+    msg.writeStringField(MVTConstants.LAYER_NAME, layerName);
+    // the features are already encoded as fields
+    msg.writeRaw(layer);
+    for (String key : keys) {
+      msg.writeStringField(MVTConstants.LAYER_KEYS, key);
+    }
+    for (byte[] val : values) {
+      msg.writeBytesField(MVTConstants.LAYER_VALUES, val, 0, val.length);
+    }
+    msg.writeVarintField(MVTConstants.LAYER_EXTENT, layerExtent);
+    tile.writeMessageField(MVTConstants.TILE_LAYERS, msg);
+
+    layerName = null;
+    layer.clear();
+    keys.clear();
+    keyIndex.clear();
+    values.clear();
+    valueIndex.clear();
+    numFeatures = 0;
+  }
+
+  /**
+   * Completes the tile and gets its encoded bytes.
+   * Further layers can be added after this is called.
+   *
+   * @return the encoded tile
+   */
+  public byte[] toByteArray() {
+    finishLayer();
+    return tile.toByteArray();
+  }
+
+  /**
+   * Completes the tile and writes its encoded bytes to a stream.
+   *
+   * @param out the stream to write to
+   * @throws IOException if an I/O error occurs
+   */
+  public void write(OutputStream out) throws IOException {
+    finishLayer();
+    tile.writeTo(out);
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.mvt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable buffer for writing messages in the Protocol Buffers binary format.
+ * Nested messages are written by encoding them into a separate buffer
+ * and then adding that as a length-delimited field.
+ */
+class ProtobufBuffer
+{
+  static final int WIRE_VARINT = 0;
+  static final int WIRE_FIXED64 = 1;
+  static final int WIRE_LENGTH_DELIMITED = 2;
+  static final int WIRE_FIXED32 = 5;
+
+  private byte[] buf;
+  private int size = 0;
+
+  ProtobufBuffer() {
+    this(256);
+  }
+
+  ProtobufBuffer(int capacity) {
+    buf = new byte[capacity];
+  }
+
+  void clear() {
+    size = 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(buf, size);
+  }
+
+  void writeTo(OutputStream out) throws IOException {
+    out.write(buf, 0, size);
+  }
+
+  void writeTag(int field, int wireType) {
+    writeVarint((field << 3) | wireType);
+  }
+
+  void writeVarint(long value) {
+    ensureCapacity(10);
+    while ((value & ~0x7FL) != 0) {
+      buf[size++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buf[size++] = (byte) value;
+  }
+
+  void writeVarintField(int field, long value) {
+    writeTag(field, WIRE_VARINT);
+    writeVarint(value);
+  }
+
+  void writeDoubleField(int field, double value) {
+    writeTag(field, WIRE_FIXED64);
+    long bits = Double.doubleToLongBits(value);
+    ensureCapacity(8);
+    for (int i = 0; i < 8; i++) {
+      buf[size++] = (byte) (bits >>> (8 * i));
+    }
+  }
+
+  void writeFloatField(int field, float value) {
+    writeTag(field, WIRE_FIXED32);
+    int bits = Float.floatToIntBits(value);
+    ensureCapacity(4);
+    for (int i = 0; i < 4; i++) {
+      buf[size++] = (byte) (bits >>> (8 * i));
+    }
+  }
+
+  void writeStringField(int field, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeBytesField(field, bytes, 0, bytes.length);
+  }
+
+  void writeBytesField(int field, byte[] bytes, int off, int len) {
+    writeTag(field, WIRE_LENGTH_DELIMITED);
+    writeVarint(len);
+    ensureCapacity(len);
+    System.arraycopy(bytes, off, buf, size, len);
+    size += len;
+  }
+
+  /**
+   * Writes a nested message as a field.
+   *
+   * @param field the field number
+   * @param message the buffer containing the encoded message
+   */
+  void writeMessageField(int field, ProtobufBuffer message) {
+    writeBytesField(field, message.buf, 0, message.size);
+  }
+
+  /**
+   * Appends the contents of another buffer.
+   *
+   * @param other the buffer containing encoded fields
+   */
+  void writeRaw(ProtobufBuffer other) {
+    ensureCapacity(other.size);
+    System.arraycopy(other.buf, 0, buf, size, other.size);
+    size += other.size;
+  }
+
+  /**
+   * Writes a packed repeated field of unsigned integers.
+   *
+   * @param field the field number
+   * @param values the array of values
+   * @param len the number of values to write
+   */
+  void writePackedField(int field, int[] values, int len) {
+    if (len == 0)
+      return;
+    int packedSize = 0;
+    for (int i = 0; i < len; i++) {
+      packedSize += varintSize(values[i] & 0xFFFFFFFFL);
+    }
+    writeTag(field, WIRE_LENGTH_DELIMITED);
+    writeVarint(packedSize);
+    for (int i = 0; i < len; i++) {
+      writeVarint(values[i] & 0xFFFFFFFFL);
+    }
+  }
+
+  private static int varintSize(long value) {
+    int n = 1;
+    while ((value & ~0x7FL) != 0) {
+      n++;
+      value >>>= 7;
+    }
+    return n;
+  }
+
+  private void ensureCapacity(int n) {
+    if (size + n > buf.length)
+      buf = Arrays.copyOf(buf, Math.max(size + n, 2 * buf.length));
+  }
+}
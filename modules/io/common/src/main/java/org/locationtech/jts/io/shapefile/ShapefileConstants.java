@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.shapefile;
+
+/**
+ * Constants for the ESRI Shapefile format,
+ * including the codes for shape types.
+ */
+public class ShapefileConstants {
+
+  public static final int SHAPE_NULL = 0;
+  public static final int SHAPE_POINT = 1;
+  public static final int SHAPE_POLYLINE = 3;
+  public static final int SHAPE_POLYGON = 5;
+  public static final int SHAPE_MULTIPOINT = 8;
+  public static final int SHAPE_POINTZ = 11;
+  public static final int SHAPE_POLYLINEZ = 13;
+  public static final int SHAPE_POLYGONZ = 15;
+  public static final int SHAPE_MULTIPOINTZ = 18;
+  public static final int SHAPE_POINTM = 21;
+  public static final int SHAPE_POLYLINEM = 23;
+  public static final int SHAPE_POLYGONM = 25;
+  public static final int SHAPE_MULTIPOINTM = 28;
+  public static final int SHAPE_MULTIPATCH = 31;
+
+  /**
+   * The file code in the header of a shapefile.
+   */
+  static final int FILE_CODE = 9994;
+
+  /**
+   * The version in the header of a shapefile.
+   */
+  static final int VERSION = 1000;
+
+  /**
+   * The size in bytes of the main file header
+   * (which is also used for the index file).
+   */
+  static final int HEADER_SIZE = 100;
+
+  /**
+   * The size in bytes of a record header
+   * (the record number and content length).
+   */
+  static final int RECORD_HEADER_SIZE = 8;
+
+  /**
+   * The size in bytes of an index file record
+   * (the record offset and content length).
+   */
+  static final int INDEX_RECORD_SIZE = 8;
+
+  /**
+   * Measure values less than this are "no data".
+   */
+  static final double NO_DATA = -1e38;
+
+  /**
+   * Tests whether a shape type has Z ordinates.
+   *
+   * @param shapeType a shape type code
+   * @return true if the shape type has Z ordinates
+   */
+  public static boolean hasZ(int shapeType) {
+    return shapeType > 10 && shapeType < 20 || shapeType == SHAPE_MULTIPATCH;
+  }
+
+  /**
+   * Tests whether a shape type may have M ordinates.
+   * Z shape types may optionally have M ordinates.
+   *
+   * @param shapeType a shape type code
+   * @return true if the shape type may have M ordinates
+   */
+  public static boolean hasM(int shapeType) {
+    return shapeType > 10;
+  }
+
+  /**
+   * Gets the base shape type of a shape type,
+   * with the Z or M ordinates removed.
+   *
+   * @param shapeType a shape type code
+   * @return the base shape type
+   */
+  public static int baseType(int shapeType) {
+    if (shapeType == SHAPE_MULTIPATCH)
+      return shapeType;
+    return shapeType % 10;
+  }
+}
@@ -0,0 +1,745 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.shapefile;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.algorithm.RayCrossingCounter;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * Reads geometries from an ESRI Shapefile.
+ * The shape file (<tt>.shp</tt>) and the index file (<tt>.shx</tt>), if present,
+ * are memory-mapped, and records are decoded directly from the mapped buffers.
+ * <p>
+ * Records can be read sequentially using {@link #read()},
+ * or by record index using {@link #read(int)}.
+ * Random access uses the record offsets in the index file.
+ * If there is no index file the record offsets
+ * are found by scanning the record headers of the shape file
+ * the first time they are needed.
+ * All records can be read using {@link #readAll()},
+ * or decoded in parallel using {@link #readAll(ForkJoinPool)}.
+ * <p>
+ * Coordinates are decoded directly into {@link PackedCoordinateSequence}s,
+ * which are used as the sequences of the geometries created.
+ * The geometry factory provided is used to create the geometries,
+ * and determines their precision model and SRID.
+ * <p>
+ * Shapes are converted to geometries as follows:
+ * <ul>
+ * <li>Point shapes are read as {@link Point}s
+ * <li>MultiPoint shapes are read as {@link org.locationtech.jts.geom.MultiPoint}s
+ * <li>PolyLine shapes are read as {@link LineString}s if they have a single part,
+ * otherwise as {@link org.locationtech.jts.geom.MultiLineString}s
+ * <li>Polygon shapes are read as {@link Polygon}s if they have a single shell,
+ * otherwise as {@link org.locationtech.jts.geom.MultiPolygon}s.
+ * Rings with counter-clockwise orientation are holes,
+ * and are assigned to the smallest shell containing them.
+ * <li>Null shapes are read as empty geometries of the file shape type
+ * </ul>
+ * Z ordinates are read for the Z shape types,
+ * and measures are read for the M shape types and
+ * for Z shape types which contain them.
+ * MultiPatch shapes are not supported.
+ * <p>
+ * Reading records by index and decoding records in parallel
+ * do not affect the position of sequential reading.
+ * Except for {@link #readAll(ForkJoinPool)}, this class is not thread-safe.
+ */
+public class ShapefileReader
+  implements Closeable
+{
+  /**
+   * The number of records decoded sequentially by a parallel decoding task.
+   */
+  private static final int PARALLEL_CHUNK_SIZE = 256;
+
+  private static final int INT_SIZE = 4;
+  private static final int DOUBLE_SIZE = 8;
+  private static final int XY_SIZE = 16;
+
+  /**
+   * Opens a shapefile for reading by memory-mapping it.
+   * The index file with the same name and extension <tt>.shx</tt>
+   * is mapped as well, if it exists.
+   *
+   * @param shpFile the shape file to read
+   * @return a reader for the file
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the file is not a shapefile
+   */
+  public static ShapefileReader open(File shpFile) throws IOException, ParseException {
+    return open(shpFile, null);
+  }
+
+  /**
+   * Opens a shapefile for reading by memory-mapping it,
+   * creating geometries with a given factory.
+   * The index file with the same name and extension <tt>.shx</tt>
+   * is mapped as well, if it exists.
+   *
+   * @param shpFile the shape file to read
+   * @param geomFactory the factory to use, or null to use a default factory
+   * @return a reader for the file
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the file is not a shapefile
+   */
+  public static ShapefileReader open(File shpFile, GeometryFactory geomFactory)
+      throws IOException, ParseException
+  {
+    ByteBuffer shp = map(shpFile);
+    File shxFile = indexFile(shpFile);
+    ByteBuffer shx = shxFile == null ? null : map(shxFile);
+    return new ShapefileReader(shp, shx, geomFactory);
+  }
+
+  private static File indexFile(File shpFile) {
+    String name = shpFile.getName();
+    int dot = name.lastIndexOf('.');
+    String base = dot < 0 ? name : name.substring(0, dot);
+    File shx = new File(shpFile.getParentFile(), base + ".shx");
+    if (shx.isFile())
+      return shx;
+    shx = new File(shpFile.getParentFile(), base + ".SHX");
+    if (shx.isFile())
+      return shx;
+    return null;
+  }
+
+  private static ByteBuffer map(File file) throws IOException {
+    FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      if (channel.size() > Integer.MAX_VALUE)
+        throw new IOException("File is too large to map: " + file);
+      // mappings remain valid after the channel is closed
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    finally {
+      channel.close();
+    }
+  }
+
+  private ByteBuffer shp;
+  private ByteBuffer shx;
+  private int shpEnd;
+  private int numRecords = -1;
+  /**
+   * The positions of the records in the shape file,
+   * if they were found by scanning it.
+   */
+  private int[] recordPos = null;
+
+  private GeometryFactory geomFactory;
+  private int shapeType;
+  private Envelope envelope;
+
+  private int nextRecordPos = ShapefileConstants.HEADER_SIZE;
+  private int count = 0;
+
+  /**
+   * Creates a reader for a shapefile contained in buffers.
+   * The contents of the buffers from position 0 are used,
+   * and the buffer positions are not modified.
+   *
+   * @param shp the buffer containing the shape file
+   * @param shx the buffer containing the index file, or null
+   * @throws ParseException if the data is not in shapefile format
+   */
+  public ShapefileReader(ByteBuffer shp, ByteBuffer shx) throws ParseException {
+    this(shp, shx, null);
+  }
+
+  /**
+   * Creates a reader for a shapefile contained in buffers,
+   * creating geometries with a given factory.
+   * The contents of the buffers from position 0 are used,
+   * and the buffer positions are not modified.
+   *
+   * @param shp the buffer containing the shape file
+   * @param shx the buffer containing the index file, or null
+   * @param geomFactory the factory to use, or null to use a default factory
+   * @throws ParseException if the data is not in shapefile format
+   */
+  public ShapefileReader(ByteBuffer shp, ByteBuffer shx, GeometryFactory geomFactory)
+      throws ParseException
+  {
+    this.shp = shp.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    this.geomFactory = geomFactory != null ? geomFactory
+        : new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+    shpEnd = readHeader(this.shp);
+    shapeType = this.shp.getInt(32);
+    envelope = new Envelope(this.shp.getDouble(36), this.shp.getDouble(52),
+        this.shp.getDouble(44), this.shp.getDouble(60));
+    if (shx != null) {
+      this.shx = shx.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+      int shxEnd = readHeader(this.shx);
+      numRecords = (shxEnd - ShapefileConstants.HEADER_SIZE) / ShapefileConstants.INDEX_RECORD_SIZE;
+    }
+  }
+
+  /**
+   * Checks the header of a shape or index file.
+   *
+   * @return the end of the file data
+   */
+  private static int readHeader(ByteBuffer buf) throws ParseException {
+    if (buf.limit() < ShapefileConstants.HEADER_SIZE
+        || intBE(buf, 0) != ShapefileConstants.FILE_CODE)
+      throw new ParseException("Data is not in shapefile format");
+    if (buf.getInt(28) != ShapefileConstants.VERSION)
+      throw new ParseException("Unsupported shapefile version: " + buf.getInt(28));
+    long fileLen = 2L * intBE(buf, 24);
+    if (fileLen < ShapefileConstants.HEADER_SIZE)
+      throw new ParseException("Invalid shapefile length: " + fileLen);
+    return (int) Math.min(fileLen, buf.limit());
+  }
+
+  private static int intBE(ByteBuffer buf, int pos) {
+    return Integer.reverseBytes(buf.getInt(pos));
+  }
+
+  /**
+   * Gets the shape type of the file.
+   * All non-null shapes in the file have this type.
+   *
+   * @return the shape type code
+   * @see ShapefileConstants
+   */
+  public int getShapeType() {
+    return shapeType;
+  }
+
+  /**
+   * Gets the bounding box of the shapes in the file.
+   *
+   * @return the envelope of the file
+   */
+  public Envelope getEnvelope() {
+    return new Envelope(envelope);
+  }
+
+  /**
+   * Tests whether the reader has an index file.
+   * If not, the shape file is scanned to find the record offsets
+   * the first time random access is used.
+   *
+   * @return true if an index file is present
+   */
+  public boolean hasIndex() {
+    return shx != null;
+  }
+
+  /**
+   * Gets the number of records in the file.
+   *
+   * @return the number of records
+   * @throws ParseException if the file data is invalid
+   */
+  public int getNumRecords() throws ParseException {
+    if (numRecords < 0)
+      scanRecords();
+    return numRecords;
+  }
+
+  /**
+   * Gets the number of records read sequentially so far.
+   *
+   * @return the number of records read
+   */
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * Reads the next record in the file.
+   *
+   * @return the geometry of the record, or null if there are no more records
+   * @throws ParseException if the file data is invalid
+   */
+  public Geometry read() throws ParseException {
+    if (nextRecordPos + ShapefileConstants.RECORD_HEADER_SIZE > shpEnd)
+      return null;
+    Geometry geom = decodeRecord(nextRecordPos);
+    nextRecordPos += ShapefileConstants.RECORD_HEADER_SIZE + contentLength(nextRecordPos);
+    count++;
+    return geom;
+  }
+
+  /**
+   * Reads the record with a given index.
+   * The first record in the file has index 0
+   * (and record number 1).
+   *
+   * @param index the index of the record
+   * @return the geometry of the record
+   * @throws ParseException if the file data is invalid
+   * @throws IllegalArgumentException if the index is out of range
+   */
+  public Geometry read(int index) throws ParseException {
+    if (index < 0 || index >= getNumRecords())
+      throw new IllegalArgumentException("Record index out of range: " + index);
+    return decodeRecord(recordPosition(index));
+  }
+
+  /**
+   * Reads the geometries of all records in the file.
+   *
+   * @return a list of the geometries in the file
+   * @throws ParseException if the file data is invalid
+   */
+  public List<Geometry> readAll() throws ParseException {
+    int n = getNumRecords();
+    List<Geometry> geoms = new ArrayList<Geometry>(n);
+    for (int i = 0; i < n; i++) {
+      geoms.add(decodeRecord(recordPosition(i)));
+    }
+    return geoms;
+  }
+
+  /**
+   * Reads the geometries of all records in the file,
+   * decoding the records in parallel using a {@link ForkJoinPool}.
+   * The geometries are returned in the order of the records in the file.
+   *
+   * @param pool the pool to run the decoding tasks in
+   * @return a list of the geometries in the file
+   * @throws ParseException if the file data is invalid
+   */
+  public List<Geometry> readAll(ForkJoinPool pool) throws ParseException {
+    int n = getNumRecords();
+    Geometry[] geoms = new Geometry[n];
+    AtomicReference<ParseException> failure = new AtomicReference<ParseException>();
+    pool.invoke(new DecodeTask(geoms, 0, n, failure));
+    if (failure.get() != null)
+      throw failure.get();
+    return Arrays.asList(geoms);
+  }
+
+  /**
+   * Gets an iterator over the remaining records in the file.
+   * The iterator shares the position of sequential reading.
+   * If a parse error occurs, the iterator throws an {@link IllegalArgumentException}.
+   *
+   * @return an iterator over the geometries of the remaining records
+   */
+  public Iterator<Geometry> iterator() {
+    return new GeometryIterator();
+  }
+
+  /**
+   * Releases the buffers used by the reader.
+   * The reader cannot be used after it is closed.
+   */
+  public void close() {
+    shp = null;
+    shx = null;
+  }
+
+  //-------------------------------------------------------
+  //  Record access
+  //-------------------------------------------------------
+
+  private int recordPosition(int index) throws ParseException {
+    int pos;
+    if (recordPos != null) {
+      pos = recordPos[index];
+    }
+    else {
+      pos = 2 * intBE(shx, ShapefileConstants.HEADER_SIZE
+          + index * ShapefileConstants.INDEX_RECORD_SIZE);
+    }
+    if (pos < ShapefileConstants.HEADER_SIZE
+        || pos + ShapefileConstants.RECORD_HEADER_SIZE > shpEnd)
+      throw new ParseException("Invalid offset for record " + (index + 1) + ": " + pos);
+    return pos;
+  }
+
+  private int contentLength(int recPos) {
+    return 2 * intBE(shp, recPos + INT_SIZE);
+  }
+
+  /**
+   * Finds the record positions by scanning the record headers of the shape file.
+   */
+  private void scanRecords() throws ParseException {
+    int[] pos = new int[16];
+    int n = 0;
+    int p = ShapefileConstants.HEADER_SIZE;
+    while (p + ShapefileConstants.RECORD_HEADER_SIZE <= shpEnd) {
+      if (n == pos.length)
+        pos = Arrays.copyOf(pos, 2 * n);
+      pos[n++] = p;
+      int len = contentLength(p);
+      if (len < 0)
+        throw new ParseException("Invalid record length at " + p);
+      p += ShapefileConstants.RECORD_HEADER_SIZE + len;
+    }
+    recordPos = Arrays.copyOf(pos, n);
+    numRecords = n;
+  }
+
+  //-------------------------------------------------------
+  //  Shape decoding
+  //-------------------------------------------------------
+
+  /*
+   * Decoding uses only absolute reads of the shape buffer
+   * and no other mutable state,
+   * so records may be decoded concurrently.
+   */
+
+  private Geometry decodeRecord(int recPos) throws ParseException {
+    int len = contentLength(recPos);
+    int pos = recPos + ShapefileConstants.RECORD_HEADER_SIZE;
+    if (len < INT_SIZE || pos + len > shpEnd)
+      throw new ParseException("Invalid record length at " + recPos);
+    try {
+      return decodeShape(pos, pos + len);
+    }
+    catch (IllegalArgumentException ex) {
+      throw new ParseException("Invalid shape at " + recPos + ": " + ex.getMessage());
+    }
+  }
+
+  private Geometry decodeShape(int pos, int end) throws ParseException {
+    int type = shp.getInt(pos);
+    switch (ShapefileConstants.baseType(type)) {
+    case ShapefileConstants.SHAPE_NULL:
+      return createEmpty();
+    case ShapefileConstants.SHAPE_POINT:
+      return decodePoint(type, pos, end);
+    case ShapefileConstants.SHAPE_MULTIPOINT:
+      return decodeMultiPoint(type, pos, end);
+    case ShapefileConstants.SHAPE_POLYLINE:
+    case ShapefileConstants.SHAPE_POLYGON:
+      return decodeParts(type, pos, end);
+    }
+    throw new ParseException("Unsupported shape type: " + type);
+  }
+
+  private Geometry createEmpty() {
+    switch (ShapefileConstants.baseType(shapeType)) {
+    case ShapefileConstants.SHAPE_POINT:
+      return geomFactory.createPoint();
+    case ShapefileConstants.SHAPE_MULTIPOINT:
+      return geomFactory.createMultiPoint();
+    case ShapefileConstants.SHAPE_POLYLINE:
+      return geomFactory.createMultiLineString();
+    case ShapefileConstants.SHAPE_POLYGON:
+      return geomFactory.createMultiPolygon();
+    }
+    return geomFactory.createGeometryCollection();
+  }
+
+  private Geometry decodePoint(int type, int pos, int end) throws ParseException {
+    int xy = pos + INT_SIZE;
+    int z = -1;
+    int m = -1;
+    int next = xy + XY_SIZE;
+    if (ShapefileConstants.hasZ(type)) {
+      z = next;
+      next += DOUBLE_SIZE;
+    }
+    if (ShapefileConstants.hasM(type) && next + DOUBLE_SIZE <= end) {
+      m = next;
+      next += DOUBLE_SIZE;
+    }
+    checkSize(next, end);
+    return geomFactory.createPoint(readSequence(xy, z, m, 0, 1));
+  }
+
+  private Geometry decodeMultiPoint(int type, int pos, int end) throws ParseException {
+    // skip shape type and bounding box
+    int numPoints = readCount(pos + 36, end);
+    int[] layout = layout(type, pos + 40, numPoints, end);
+    Point[] points = new Point[numPoints];
+    for (int i = 0; i < numPoints; i++) {
+      points[i] = geomFactory.createPoint(readSequence(layout[0], layout[1], layout[2], i, 1));
+    }
+    return geomFactory.createMultiPoint(points);
+  }
+
+  private Geometry decodeParts(int type, int pos, int end) throws ParseException {
+    // skip shape type and bounding box
+    int numParts = readCount(pos + 36, end);
+    int numPoints = readCount(pos + 40, end);
+    int partsPos = pos + 44;
+    checkSize(partsPos + numParts * INT_SIZE, end);
+    int[] layout = layout(type, partsPos + numParts * INT_SIZE, numPoints, end);
+
+    CoordinateSequence[] parts = new CoordinateSequence[numParts];
+    for (int i = 0; i < numParts; i++) {
+      int start = shp.getInt(partsPos + i * INT_SIZE);
+      int partEnd = i < numParts - 1 ? shp.getInt(partsPos + (i + 1) * INT_SIZE) : numPoints;
+      if (start < 0 || start > partEnd || partEnd > numPoints)
+        throw new ParseException("Invalid part index at " + (partsPos + i * INT_SIZE));
+      parts[i] = readSequence(layout[0], layout[1], layout[2], start, partEnd - start);
+    }
+
+    if (ShapefileConstants.baseType(type) == ShapefileConstants.SHAPE_POLYLINE)
+      return buildLines(parts);
+    return buildPolygon(parts);
+  }
+
+  private int readCount(int pos, int end) throws ParseException {
+    checkSize(pos + INT_SIZE, end);
+    int n = shp.getInt(pos);
+    if (n < 0)
+      throw new ParseException("Invalid count at " + pos + ": " + n);
+    return n;
+  }
+
+  private static void checkSize(long required, int end) throws ParseException {
+    if (required > end)
+      throw new ParseException("Record content is too short at " + end);
+  }
+
+  /**
+   * Computes the positions of the ordinate arrays of a multi-point shape.
+   * The Z and M arrays are each preceded by their range.
+   *
+   * @return the positions of the XY, Z and M arrays (-1 if not present)
+   */
+  private static int[] layout(int type, int xy, int numPoints, int end) throws ParseException {
+    long next = xy + (long) numPoints * XY_SIZE;
+    long z = -1;
+    long m = -1;
+    if (ShapefileConstants.hasZ(type)) {
+      z = next + 2 * DOUBLE_SIZE;
+      next = z + (long) numPoints * DOUBLE_SIZE;
+    }
+    // M values are optional
+    if (ShapefileConstants.hasM(type)
+        && next + 2 * DOUBLE_SIZE + (long) numPoints * DOUBLE_SIZE <= end) {
+      m = next + 2 * DOUBLE_SIZE;
+      next = m + (long) numPoints * DOUBLE_SIZE;
+    }
+    checkSize(next, end);
+    return new int[] { xy, (int) z, (int) m };
+  }
+
+  /**
+   * Reads a range of points into a packed coordinate sequence.
+   *
+   * @param xy the position of the XY array
+   * @param z the position of the Z array, or -1
+   * @param m the position of the M array, or -1
+   * @param start the index of the first point to read
+   * @param n the number of points to read
+   * @return a coordinate sequence containing the points
+   */
+  private CoordinateSequence readSequence(int xy, int z, int m, int start, int n) {
+    int measures = m >= 0 ? 1 : 0;
+    int dim = 2 + (z >= 0 ? 1 : 0) + measures;
+    double[] coords = new double[n * dim];
+    int xyPos = xy + start * XY_SIZE;
+    if (dim == 2) {
+      // XY pairs are already in packed order
+      ByteBuffer buf = shp.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+      ((Buffer) buf).position(xyPos);
+      buf.asDoubleBuffer().get(coords);
+    }
+    else {
+      for (int i = 0; i < n; i++) {
+        int c = i * dim;
+        coords[c] = shp.getDouble(xyPos + i * XY_SIZE);
+        coords[c + 1] = shp.getDouble(xyPos + i * XY_SIZE + DOUBLE_SIZE);
+        int k = c + 2;
+        if (z >= 0)
+          coords[k++] = shp.getDouble(z + (start + i) * DOUBLE_SIZE);
+        if (m >= 0) {
+          double mVal = shp.getDouble(m + (start + i) * DOUBLE_SIZE);
+          coords[k] = mVal < ShapefileConstants.NO_DATA ? Double.NaN : mVal;
+        }
+      }
+    }
+    return new PackedCoordinateSequence.Double(coords, dim, measures);
+  }
+
+  private Geometry buildLines(CoordinateSequence[] parts) {
+    if (parts.length == 1)
+      return geomFactory.createLineString(parts[0]);
+    LineString[] lines = new LineString[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      lines[i] = geomFactory.createLineString(parts[i]);
+    }
+    return geomFactory.createMultiLineString(lines);
+  }
+
+  private Geometry buildPolygon(CoordinateSequence[] parts) {
+    List<LinearRing> shells = new ArrayList<LinearRing>();
+    List<LinearRing> holes = new ArrayList<LinearRing>();
+    for (CoordinateSequence seq : parts) {
+      LinearRing ring = geomFactory.createLinearRing(seq);
+      if (seq.size() >= 4 && Orientation.isCCW(seq))
+        holes.add(ring);
+      else
+        shells.add(ring);
+    }
+    // if all rings are CCW the orientation is incorrect, so treat them as shells
+    if (shells.isEmpty()) {
+      shells = holes;
+      holes = new ArrayList<LinearRing>();
+    }
+    if (shells.size() == 1) {
+      return geomFactory.createPolygon(shells.get(0), GeometryFactory.toLinearRingArray(holes));
+    }
+
+    List<List<LinearRing>> shellHoles = new ArrayList<List<LinearRing>>();
+    for (int i = 0; i < shells.size(); i++) {
+      shellHoles.add(new ArrayList<LinearRing>());
+    }
+    for (LinearRing hole : holes) {
+      int shellIndex = findShell(shells, hole);
+      if (shellIndex < 0) {
+        // a hole not in any shell is treated as a shell
+        shells.add(hole);
+        shellHoles.add(new ArrayList<LinearRing>());
+      }
+      else {
+        shellHoles.get(shellIndex).add(hole);
+      }
+    }
+    Polygon[] polys = new Polygon[shells.size()];
+    for (int i = 0; i < polys.length; i++) {
+      polys[i] = geomFactory.createPolygon(shells.get(i),
+          GeometryFactory.toLinearRingArray(shellHoles.get(i)));
+    }
+    if (polys.length == 1)
+      return polys[0];
+    return geomFactory.createMultiPolygon(polys);
+  }
+
+  /**
+   * Finds the smallest shell containing a hole.
+   *
+   * @return the index of the shell, or -1 if no shell contains the hole
+   */
+  private static int findShell(List<LinearRing> shells, LinearRing hole) {
+    Envelope holeEnv = hole.getEnvelopeInternal();
+    int minShell = -1;
+    Envelope minEnv = null;
+    for (int i = 0; i < shells.size(); i++) {
+      LinearRing shell = shells.get(i);
+      Envelope shellEnv = shell.getEnvelopeInternal();
+      if (! shellEnv.covers(holeEnv))
+        continue;
+      if (minEnv != null && ! minEnv.covers(shellEnv))
+        continue;
+      if (RayCrossingCounter.locatePointInRing(hole.getCoordinateN(0),
+          shell.getCoordinateSequence()) == Location.EXTERIOR)
+        continue;
+      minShell = i;
+      minEnv = shellEnv;
+    }
+    return minShell;
+  }
+
+  //-------------------------------------------------------
+  //  Parallel decoding
+  //-------------------------------------------------------
+
+  /**
+   * Decodes a range of records into an array,
+   * splitting large ranges into tasks which run in parallel.
+   */
+  private class DecodeTask extends RecursiveAction {
+
+    private final Geometry[] geoms;
+    private final int start;
+    private final int end;
+    private final AtomicReference<ParseException> failure;
+
+    DecodeTask(Geometry[] geoms, int start, int end, AtomicReference<ParseException> failure) {
+      this.geoms = geoms;
+      this.start = start;
+      this.end = end;
+      this.failure = failure;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start > PARALLEL_CHUNK_SIZE) {
+        int mid = (start + end) >>> 1;
+        ForkJoinTask.invokeAll(new DecodeTask(geoms, start, mid, failure),
+            new DecodeTask(geoms, mid, end, failure));
+        return;
+      }
+      try {
+        for (int i = start; i < end && failure.get() == null; i++) {
+          geoms[i] = decodeRecord(recordPosition(i));
+        }
+      }
+      catch (ParseException ex) {
+        failure.compareAndSet(null, ex);
+      }
+    }
+  }
+
+  private Geometry readUnchecked() {
+    try {
+      return read();
+    }
+    catch (ParseException ex) {
+      throw new IllegalArgumentException(ex.getMessage(), ex);
+    }
+  }
+
+  private class GeometryIterator
+    implements Iterator<Geometry>
+  {
+    private Geometry next = null;
+
+    public boolean hasNext() {
+      if (next == null)
+        next = readUnchecked();
+      return next != null;
+    }
+
+    public Geometry next() {
+      if (! hasNext())
+        throw new NoSuchElementException();
+      Geometry geom = next;
+      next = null;
+      return geom;
+    }
+  }
+}
@@ -0,0 +1,506 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.twkb;
+
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.twkb.TWKBHeader.GeometryType;
+
+/**
+ * Reads TWKB (Tiny Well-known Binary) records directly from a {@link ByteBuffer}.
+ * <p>
+ * Records are decoded starting at the current position of the buffer,
+ * which is left positioned at the start of the next record.
+ * This allows a sequence of concatenated records
+ * (for instance a memory-mapped file or a network frame)
+ * to be decoded without copying it into a stream.
+ * The header, delta and scale state is held by the reader
+ * and reused for each record,
+ * so decoding a long sequence of records does not create per-record garbage
+ * beyond the geometries themselves.
+ * <p>
+ * For filtering, {@link #readEnvelope(ByteBuffer)} decodes only the bounding box
+ * of a record and skips its body.
+ * This is cheapest when records are written with both a bounding box and a size
+ * (see {@link TWKBWriter#setIncludeBbox(boolean)} and {@link TWKBWriter#setIncludeSize(boolean)}),
+ * since then no coordinates need to be touched.
+ * <p>
+ * The id lists of multi-geometries and geometry collections are decoded in bulk
+ * and are available from {@link #getIds()} after a record is read.
+ * <p>
+ * The decoded geometries are identical to those produced by {@link TWKBReader}.
+ * This class is not thread-safe.
+ */
+public class TWKBBufferReader {
+
+    private static final GeometryFactory DEFAULT_FACTORY = new GeometryFactory(
+        PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+    private static final int MAX_DIMENSIONS = 4;
+
+    private GeometryFactory geometryFactory;
+
+    // scratch state reused across records
+    private final TWKBHeader header = new TWKBHeader();
+    private final long[] prev = new long[MAX_DIMENSIONS];
+    private final double[] scale = new double[MAX_DIMENSIONS];
+    private long[] ids = new long[16];
+    private int numIds = 0;
+    private int depth = 0;
+
+    public TWKBBufferReader() {
+        this(DEFAULT_FACTORY);
+    }
+
+    public TWKBBufferReader(GeometryFactory geometryFactory) {
+        this.geometryFactory = Objects.requireNonNull(geometryFactory, "GeometryFactory is null");
+    }
+
+    public TWKBBufferReader setGeometryFactory(GeometryFactory geometryFactory) {
+        this.geometryFactory = Objects.requireNonNull(geometryFactory, "GeometryFactory is null");
+        return this;
+    }
+
+    /**
+     * Reads the geometry record at the current position of a buffer.
+     *
+     * @param buf the buffer to read
+     * @return the geometry read
+     * @throws ParseException if the record is truncated
+     */
+    public Geometry read(ByteBuffer buf) throws ParseException {
+        Objects.requireNonNull(buf, "ByteBuffer is null");
+        numIds = 0;
+        depth = 0;
+        try {
+            return readGeometry(buf);
+        } catch (BufferUnderflowException ex) {
+            throw new ParseException("Unexpected end of TWKB data at position " + buf.position());
+        }
+    }
+
+    /**
+     * Reads the geometry record at the current position of a buffer
+     * if its bounding box intersects a filter envelope.
+     * Otherwise the record is skipped, and {@code null} is returned.
+     * <p>
+     * Records without a bounding box have their extent computed from their coordinates
+     * before they are decoded.
+     *
+     * @param buf the buffer to read
+     * @param filter the envelope a record must intersect to be read
+     * @return the geometry read, or null if the record does not intersect the filter
+     * @throws ParseException if the record is truncated
+     */
+    public Geometry read(ByteBuffer buf, Envelope filter) throws ParseException {
+        int start = buf.position();
+        Envelope env = readEnvelope(buf);
+        if (! filter.intersects(env)) {
+            return null;
+        }
+        ((Buffer) buf).position(start);
+        return read(buf);
+    }
+
+    /**
+     * Reads all geometry records from the current position to the limit of a buffer.
+     *
+     * @param buf the buffer to read
+     * @return the list of geometries read
+     * @throws ParseException if a record is truncated
+     */
+    public List<Geometry> readAll(ByteBuffer buf) throws ParseException {
+        List<Geometry> geoms = new ArrayList<>();
+        while (buf.hasRemaining()) {
+            geoms.add(read(buf));
+        }
+        return geoms;
+    }
+
+    /**
+     * Reads the XY extent of the geometry record at the current position of a buffer,
+     * and advances the buffer to the start of the next record.
+     * If the record has a bounding box only the header and the box are decoded.
+     * Otherwise the extent is computed from the record coordinates,
+     * without creating a geometry.
+     *
+     * @param buf the buffer to read
+     * @return the extent of the record geometry (which is empty for an empty geometry)
+     * @throws ParseException if the record is truncated
+     */
+    public Envelope readEnvelope(ByteBuffer buf) throws ParseException {
+        Objects.requireNonNull(buf, "ByteBuffer is null");
+        numIds = 0;
+        try {
+            readHeader(buf);
+            Envelope env = new Envelope();
+            if (header.isEmpty()) {
+                return env;
+            }
+            final int bodyStart = buf.position();
+            if (header.hasBBOX()) {
+                readBbox(buf, env);
+                skipBody(buf, bodyStart);
+            } else {
+                scanBody(buf, env);
+            }
+            return env;
+        } catch (BufferUnderflowException ex) {
+            throw new ParseException("Unexpected end of TWKB data at position " + buf.position());
+        }
+    }
+
+    /**
+     * Advances a buffer past the geometry record at its current position.
+     *
+     * @param buf the buffer to advance
+     * @throws ParseException if the record is truncated
+     */
+    public void skip(ByteBuffer buf) throws ParseException {
+        Objects.requireNonNull(buf, "ByteBuffer is null");
+        numIds = 0;
+        try {
+            readHeader(buf);
+            if (! header.isEmpty()) {
+                skipBody(buf, buf.position());
+            }
+        } catch (BufferUnderflowException ex) {
+            throw new ParseException("Unexpected end of TWKB data at position " + buf.position());
+        }
+    }
+
+    /**
+     * Gets the number of ids in the id list of the last record read.
+     *
+     * @return the number of ids, or 0 if the record has no id list
+     */
+    public int getNumIds() {
+        return numIds;
+    }
+
+    /**
+     * Gets an id from the id list of the last record read.
+     *
+     * @param i the index of the collection element
+     * @return the id of the element
+     */
+    public long getId(int i) {
+        if (i < 0 || i >= numIds) {
+            throw new IndexOutOfBoundsException("Id index out of range: " + i);
+        }
+        return ids[i];
+    }
+
+    /**
+     * Gets the id list of the last record read.
+     * The ids are in the same order as the elements of the collection.
+     *
+     * @return an array of the ids (which is empty if the record has no id list)
+     */
+    public long[] getIds() {
+        return Arrays.copyOf(ids, numIds);
+    }
+
+    private void readHeader(ByteBuffer buf) {
+        final int typeAndPrecisionHeader = buf.get() & 0xFF;
+        final GeometryType geometryType = GeometryType.valueOf(typeAndPrecisionHeader & 0b00001111);
+        final int precision = Varint.zigzagDecode((typeAndPrecisionHeader & 0b11110000) >> 4);
+        final int metadataHeader = buf.get() & 0xFF;
+        final boolean hasSize = (metadataHeader & 0b00000010) > 0;
+
+        boolean hasZ = false;
+        boolean hasM = false;
+        int zprecision = 0;
+        int mprecision = 0;
+        if ((metadataHeader & 0b00001000) > 0) {
+            final int extendedDimsHeader = buf.get() & 0xFF;
+            hasZ = (extendedDimsHeader & 0b00000001) > 0;
+            hasM = (extendedDimsHeader & 0b00000010) > 0;
+            zprecision = (extendedDimsHeader & 0b00011100) >> 2;
+            mprecision = (extendedDimsHeader & 0b11100000) >> 5;
+        }
+        header.setGeometryType(geometryType)
+            .setXyPrecision(precision)
+            .setHasZ(hasZ)
+            .setZPrecision(zprecision)
+            .setHasM(hasM)
+            .setMPrecision(mprecision)
+            .setHasIdList((metadataHeader & 0b00000100) > 0)
+            .setEmpty((metadataHeader & 0b00010000) > 0)
+            .setHasSize(hasSize)
+            .setHasBBOX((metadataHeader & 0b00000001) > 0)
+            .setGeometryBodySize(hasSize ? Varint.readUnsignedVarInt(buf) : -1);
+
+        final int dimensions = header.getDimensions();
+        for (int d = 0; d < dimensions; d++) {
+            prev[d] = 0;
+            scale[d] = Math.pow(10, header.getPrecision(d));
+        }
+    }
+
+    private Geometry readGeometry(ByteBuffer buf) {
+        readHeader(buf);
+        final GeometryType geometryType = header.geometryType();
+        if (header.isEmpty()) {
+            return geometryType.createEmpty(geometryFactory);
+        }
+        final int dimensions = header.getDimensions();
+        final int measures = header.hasM() ? 1 : 0;
+        if (header.hasBBOX()) {
+            Varint.skipVarints(buf, 2 * dimensions);
+        }
+        switch (geometryType) {
+            case POINT:
+                return geometryFactory.createPoint(
+                    readCoordinateSequence(buf, 1, dimensions, measures));
+            case LINESTRING:
+                return readLineString(buf, dimensions, measures);
+            case POLYGON:
+                return readPolygon(buf, dimensions, measures);
+            case MULTIPOINT: {
+                final int nmembers = readMembers(buf);
+                return geometryFactory.createMultiPoint(
+                    readCoordinateSequence(buf, nmembers, dimensions, measures));
+            }
+            case MULTILINESTRING: {
+                LineString[] lineStrings = new LineString[readMembers(buf)];
+                for (int i = 0; i < lineStrings.length; i++) {
+                    lineStrings[i] = readLineString(buf, dimensions, measures);
+                }
+                return geometryFactory.createMultiLineString(lineStrings);
+            }
+            case MULTIPOLYGON: {
+                Polygon[] polygons = new Polygon[readMembers(buf)];
+                for (int i = 0; i < polygons.length; i++) {
+                    polygons[i] = readPolygon(buf, dimensions, measures);
+                }
+                return geometryFactory.createMultiPolygon(polygons);
+            }
+            case GEOMETRYCOLLECTION: {
+                Geometry[] geometries = new Geometry[readMembers(buf)];
+                depth++;
+                for (int i = 0; i < geometries.length; i++) {
+                    geometries[i] = readGeometry(buf);
+                }
+                depth--;
+                return geometryFactory.createGeometryCollection(geometries);
+            }
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Reads the number of members of a collection, and its id list if present.
+     * Only the id list of the outermost collection is retained.
+     */
+    private int readMembers(ByteBuffer buf) {
+        final int nmembers = Varint.readUnsignedVarInt(buf);
+        if (header.hasIdList()) {
+            if (depth > 0) {
+                Varint.skipVarints(buf, nmembers);
+            } else {
+                if (ids.length < nmembers) {
+                    ids = new long[Math.max(nmembers, 2 * ids.length)];
+                }
+                for (int i = 0; i < nmembers; i++) {
+                    ids[i] = Varint.readSignedVarLong(buf);
+                }
+                numIds = nmembers;
+            }
+        }
+        return nmembers;
+    }
+
+    private LineString readLineString(ByteBuffer buf, int dimensions, int measures) {
+        final int size = Varint.readUnsignedVarInt(buf);
+        return geometryFactory.createLineString(
+            readCoordinateSequence(buf, size, dimensions, measures));
+    }
+
+    private Polygon readPolygon(ByteBuffer buf, int dimensions, int measures) {
+        final int nrings = Varint.readUnsignedVarInt(buf);
+        if (nrings == 0) {
+            return geometryFactory.createPolygon();
+        }
+        LinearRing shell = readLinearRing(buf, dimensions, measures);
+        LinearRing[] holes = new LinearRing[nrings - 1];
+        for (int h = 0; h < holes.length; h++) {
+            holes[h] = readLinearRing(buf, dimensions, measures);
+        }
+        return geometryFactory.createPolygon(shell, holes);
+    }
+
+    private LinearRing readLinearRing(ByteBuffer buf, int dimensions, int measures) {
+        final int size = Varint.readUnsignedVarInt(buf);
+        CoordinateSequence seq = readCoordinateSequence(buf, size, dimensions, measures);
+        if (!CoordinateSequences.isRing(seq)) {
+            seq = CoordinateSequences.ensureValidRing(
+                geometryFactory.getCoordinateSequenceFactory(), seq);
+        }
+        return geometryFactory.createLinearRing(seq);
+    }
+
+    private CoordinateSequence readCoordinateSequence(ByteBuffer buf, int size, int dimensions,
+        int measures) {
+        CoordinateSequenceFactory csFactory = geometryFactory.getCoordinateSequenceFactory();
+        if (csFactory instanceof PackedCoordinateSequenceFactory) {
+            // decode straight into the packed ordinate array
+            double[] packed = new double[size * dimensions];
+            int i = 0;
+            for (int coordIndex = 0; coordIndex < size; coordIndex++) {
+                for (int d = 0; d < dimensions; d++) {
+                    prev[d] += Varint.readSignedVarLong(buf);
+                    packed[i++] = prev[d] / scale[d];
+                }
+            }
+            return ((PackedCoordinateSequenceFactory) csFactory).create(packed, dimensions,
+                measures);
+        }
+        CoordinateSequence seq = csFactory.create(size, dimensions, measures);
+        if (seq.getDimension() != dimensions || seq.getMeasures() != measures) {
+            throw new IllegalStateException(
+                "Provided CoordinateSequenceFactory does not support the required dimension. Requested "
+                    + header + ", returned " + seq.getDimension());
+        }
+        for (int coordIndex = 0; coordIndex < size; coordIndex++) {
+            for (int d = 0; d < dimensions; d++) {
+                prev[d] += Varint.readSignedVarLong(buf);
+                seq.setOrdinate(coordIndex, d, prev[d] / scale[d]);
+            }
+        }
+        return seq;
+    }
+
+    private void readBbox(ByteBuffer buf, Envelope env) {
+        long minX = Varint.readSignedVarLong(buf);
+        long maxX = minX + Varint.readSignedVarLong(buf);
+        long minY = Varint.readSignedVarLong(buf);
+        long maxY = minY + Varint.readSignedVarLong(buf);
+        env.init(minX / scale[0], maxX / scale[0], minY / scale[1], maxY / scale[1]);
+        Varint.skipVarints(buf, 2 * (header.getDimensions() - 2));
+    }
+
+    /**
+     * Advances the buffer to the end of the current record body.
+     * If the record has a size this does not need to decode the body.
+     */
+    private void skipBody(ByteBuffer buf, int bodyStart) {
+        if (header.hasSize()) {
+            final int bodyEnd = bodyStart + header.geometryBodySize();
+            if (bodyEnd > buf.limit()) {
+                throw new BufferUnderflowException();
+            }
+            ((Buffer) buf).position(bodyEnd);
+            return;
+        }
+        ((Buffer) buf).position(bodyStart);
+        scanBody(buf, null);
+    }
+
+    /**
+     * Scans the body of the current record,
+     * optionally expanding an envelope by the XY ordinates.
+     *
+     * @param env the envelope to expand, or null to skip the coordinates
+     */
+    private void scanBody(ByteBuffer buf, Envelope env) {
+        final int dimensions = header.getDimensions();
+        if (header.hasBBOX()) {
+            Varint.skipVarints(buf, 2 * dimensions);
+        }
+        switch (header.geometryType()) {
+            case POINT:
+                scanCoordinates(buf, 1, dimensions, env);
+                return;
+            case LINESTRING:
+                scanCoordinates(buf, Varint.readUnsignedVarInt(buf), dimensions, env);
+                return;
+            case POLYGON:
+                scanPolygon(buf, dimensions, env);
+                return;
+            default:
+                break;
+        }
+        final int nmembers = Varint.readUnsignedVarInt(buf);
+        if (header.hasIdList()) {
+            Varint.skipVarints(buf, nmembers);
+        }
+        switch (header.geometryType()) {
+            case MULTIPOINT:
+                scanCoordinates(buf, nmembers, dimensions, env);
+                return;
+            case MULTILINESTRING:
+                for (int i = 0; i < nmembers; i++) {
+                    scanCoordinates(buf, Varint.readUnsignedVarInt(buf), dimensions, env);
+                }
+                return;
+            case MULTIPOLYGON:
+                for (int i = 0; i < nmembers; i++) {
+                    scanPolygon(buf, dimensions, env);
+                }
+                return;
+            case GEOMETRYCOLLECTION:
+                for (int i = 0; i < nmembers; i++) {
+                    readHeader(buf);
+                    if (header.isEmpty()) {
+                        continue;
+                    }
+                    if (env == null) {
+                        skipBody(buf, buf.position());
+                    } else {
+                        scanBody(buf, env);
+                    }
+                }
+                return;
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
+    private void scanPolygon(ByteBuffer buf, int dimensions, Envelope env) {
+        final int nrings = Varint.readUnsignedVarInt(buf);
+        for (int r = 0; r < nrings; r++) {
+            scanCoordinates(buf, Varint.readUnsignedVarInt(buf), dimensions, env);
+        }
+    }
+
+    private void scanCoordinates(ByteBuffer buf, int size, int dimensions, Envelope env) {
+        if (env == null) {
+            Varint.skipVarints(buf, size * dimensions);
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            prev[0] += Varint.readSignedVarLong(buf);
+            prev[1] += Varint.readSignedVarLong(buf);
+            env.expandToInclude(prev[0] / scale[0], prev[1] / scale[1]);
+            Varint.skipVarints(buf, dimensions - 2);
+        }
+    }
+}
@@ -258,7 +258,7 @@ public class TWKBReader {
     private static void readIdList(int nmembers, /* Nullable */long[] target, DataInput in)
         throws IOException {
         for (int i = 0; i < nmembers; i++) {
-            long id = Varint.readUnsignedVarLong(in);
+            long id = Varint.readSignedVarLong(in);
             if (target != null) {
                 target[i] = id;
             }
@@ -140,27 +140,69 @@ public class TWKBWriter {
 
     public void write(Geometry geom, DataOutput out) throws IOException {
         Objects.requireNonNull(geom, "geometry is null");
-        write(geom, out, paramsHeader, false);
+        write(geom, out, paramsHeader, false, null);
+    }
+
+    /**
+     * Writes a multi-geometry or geometry collection with an id list,
+     * giving an identifier for each of its elements.
+     * Repeated points of a {@link MultiPoint} are retained,
+     * so that each point keeps its id.
+     *
+     * @param geom the collection to write
+     * @param ids the ids of the collection elements
+     * @return the TWKB encoding of the collection
+     * @throws IllegalArgumentException if the geometry is not a collection,
+     *         or the number of ids does not match the number of elements
+     */
+    public byte[] write(Geometry geom, long[] ids) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            write(geom, ids, (DataOutput) new DataOutputStream(out));
+        } catch (IOException ex) {
+            throw new RuntimeException("Unexpected IOException caught: " + ex.getMessage(), ex);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes a multi-geometry or geometry collection with an id list.
+     *
+     * @see #write(Geometry, long[])
+     */
+    public void write(Geometry geom, long[] ids, DataOutput out) throws IOException {
+        Objects.requireNonNull(geom, "geometry is null");
+        Objects.requireNonNull(ids, "ids is null");
+        if (!(geom instanceof GeometryCollection)) {
+            throw new IllegalArgumentException(
+                "Id lists can only be written for collections: " + geom.getGeometryType());
+        }
+        if (ids.length != geom.getNumGeometries()) {
+            throw new IllegalArgumentException("Number of ids " + ids.length
+                + " does not match number of elements " + geom.getNumGeometries());
+        }
+        write(geom, out, paramsHeader, false, ids);
     }
 
     private TWKBHeader write(Geometry geometry, DataOutput out, TWKBHeader params,
-        boolean forcePreserveHeaderDimensions) throws IOException {
+        boolean forcePreserveHeaderDimensions, long[] ids) throws IOException {
         Objects.requireNonNull(geometry, "Geometry is null");
         Objects.requireNonNull(out, "DataOutput is null");
         Objects.requireNonNull(params, "TWKBHeader is null");
 
         TWKBHeader header = prepareHeader(geometry, new TWKBHeader(params), forcePreserveHeaderDimensions);
+        header.setHasIdList(ids != null && !header.isEmpty());
 
         if (header.hasSize()) {
             BufferedDataOutput bufferedBody = new BufferedDataOutput();
-            writeGeometryBody(geometry, bufferedBody, header);
+            writeGeometryBody(geometry, bufferedBody, header, ids);
             int bodySize = bufferedBody.size();
             header = header.setGeometryBodySize(bodySize);
             writeHeaderTo(header, out);
             out.write(bufferedBody.content());
         } else {
             writeHeaderTo(header, out);
-            writeGeometryBody(geometry, out, header);
+            writeGeometryBody(geometry, out, header, ids);
         }
         return header;
     }
@@ -209,7 +251,7 @@ public class TWKBWriter {
         return header;
     }
 
-    private void writeGeometryBody(Geometry geom, DataOutput out, TWKBHeader header)
+    private void writeGeometryBody(Geometry geom, DataOutput out, TWKBHeader header, long[] ids)
         throws IOException {
         if (header.isEmpty()) {
             return;
@@ -229,16 +271,16 @@ public class TWKBWriter {
                 writePolygon((Polygon) geom, out, header, new long[header.getDimensions()]);
                 return;
             case MULTIPOINT:
-                writeMultiPoint((MultiPoint) geom, out, header);
+                writeMultiPoint((MultiPoint) geom, out, header, ids);
                 return;
             case MULTILINESTRING:
-                writeMultiLineString((MultiLineString) geom, out, header);
+                writeMultiLineString((MultiLineString) geom, out, header, ids);
                 return;
             case MULTIPOLYGON:
-                writeMultiPolygon((MultiPolygon) geom, out, header);
+                writeMultiPolygon((MultiPolygon) geom, out, header, ids);
                 return;
             case GEOMETRYCOLLECTION:
-                writeGeometryCollection((GeometryCollection) geom, out, header);
+                writeGeometryCollection((GeometryCollection) geom, out, header, ids);
                 return;
             default:
                 break;
@@ -257,6 +299,12 @@ public class TWKBWriter {
 
     private void writeCoordinateSequence(CoordinateSequence coordinateSequence,
         DataOutput out, TWKBHeader header, long[] prev, int minNPoints) throws IOException {
+        writeCoordinateSequence(coordinateSequence, out, header, prev, minNPoints, null);
+    }
+
+    private void writeCoordinateSequence(CoordinateSequence coordinateSequence,
+        DataOutput out, TWKBHeader header, long[] prev, int minNPoints, long[] ids)
+        throws IOException {
 
         final int dimensions = header.getDimensions();
         long[] delta = new long[dimensions];
@@ -288,6 +336,7 @@ public class TWKBWriter {
         }
 
         writeUnsignedVarInt(nPoints, out);
+        writeIdList(ids, out);
         out.write(bufferedOut.content());
     }
 
@@ -331,47 +380,62 @@ public class TWKBWriter {
         writeCoordinateSequence(geom.getCoordinateSequence(), out, header, prev, 3);
     }
 
-    private void writeMultiPoint(MultiPoint geom, DataOutput out, TWKBHeader header)
+    private void writeMultiPoint(MultiPoint geom, DataOutput out, TWKBHeader header, long[] ids)
         throws IOException {
         assert !geom.isEmpty();
 
         CoordinateSequence seq = geom.getFactory().getCoordinateSequenceFactory()
             .create(geom.getCoordinates());
-        writeCoordinateSequence(seq, out, header, new long[header.getDimensions()], 2);
+        // points with ids must all be kept
+        int minNPoints = ids == null ? 2 : Integer.MAX_VALUE;
+        writeCoordinateSequence(seq, out, header, new long[header.getDimensions()], minNPoints, ids);
     }
 
-    private void writeMultiLineString(MultiLineString geom, DataOutput out, TWKBHeader header) throws IOException {
-        final int size = writeNumGeometries(geom, out);
+    private void writeMultiLineString(MultiLineString geom, DataOutput out, TWKBHeader header,
+        long[] ids) throws IOException {
+        final int size = writeNumGeometries(geom, out, ids);
         long[] prev = new long[header.getDimensions()];
         for (int i = 0; i < size; i++) {
             writeLineString((LineString) geom.getGeometryN(i), out, header, prev);
         }
     }
 
-    private void writeMultiPolygon(MultiPolygon geom, DataOutput out, TWKBHeader header) throws IOException {
-        final int size = writeNumGeometries(geom, out);
+    private void writeMultiPolygon(MultiPolygon geom, DataOutput out, TWKBHeader header,
+        long[] ids) throws IOException {
+        final int size = writeNumGeometries(geom, out, ids);
         long[] prev = new long[header.getDimensions()];
         for (int i = 0; i < size; i++) {
             writePolygon((Polygon) geom.getGeometryN(i), out, header, prev);
         }
     }
 
-    private void writeGeometryCollection(GeometryCollection geom, DataOutput out, TWKBHeader header) throws IOException {
-        final int size = writeNumGeometries(geom, out);
+    private void writeGeometryCollection(GeometryCollection geom, DataOutput out, TWKBHeader header,
+        long[] ids) throws IOException {
+        final int size = writeNumGeometries(geom, out, ids);
         for (int i = 0; i < size; i++) {
             Geometry geometryN = geom.getGeometryN(i);
             boolean forcePreserveDimensions = geometryN.isEmpty();
-            write(geometryN, out, header, forcePreserveDimensions);
+            write(geometryN, out, header, forcePreserveDimensions, null);
         }
     }
 
-    private int writeNumGeometries(GeometryCollection geom, DataOutput out)
+    private int writeNumGeometries(GeometryCollection geom, DataOutput out, long[] ids)
         throws IOException {
         int size = geom.getNumGeometries();
         writeUnsignedVarInt(size, out);
+        writeIdList(ids, out);
         return size;
     }
 
+    private static void writeIdList(/* Nullable */long[] ids, DataOutput out) throws IOException {
+        if (ids == null) {
+            return;
+        }
+        for (long id : ids) {
+            writeSignedVarLong(id, out);
+        }
+    }
+
     private void writeBbox(Geometry geom, DataOutput out, TWKBHeader header)
         throws IOException {
         final int dimensions = header.getDimensions();
@@ -22,6 +22,7 @@ package org.locationtech.jts.io.twkb;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * <p>
@@ -210,4 +211,82 @@ final class Varint {
         }
         return value | (b << i);
     }
+
+    /**
+     * Reads a zig-zag encoded signed value from the current position of a buffer.
+     *
+     * @param buf to read bytes from
+     * @return decode value
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the value terminates
+     * @throws IllegalArgumentException if variable-length value does not terminate after 9 bytes
+     *         have been read
+     * @see #readSignedVarLong(DataInput)
+     */
+    public static long readSignedVarLong(ByteBuffer buf) {
+        long raw = readUnsignedVarLong(buf);
+        long temp = (((raw << 63) >> 63) ^ raw) >> 1;
+        return temp ^ (raw & (1L << 63));
+    }
+
+    /**
+     * Reads an unsigned value from the current position of a buffer.
+     *
+     * @param buf to read bytes from
+     * @return decode value
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the value terminates
+     * @throws IllegalArgumentException if variable-length value does not terminate after 9 bytes
+     *         have been read
+     * @see #readUnsignedVarLong(DataInput)
+     */
+    public static long readUnsignedVarLong(ByteBuffer buf) {
+        long value = 0L;
+        int i = 0;
+        long b;
+        while (((b = buf.get()) & 0x80L) != 0) {
+            value |= (b & 0x7F) << i;
+            i += 7;
+            if (i > 63) {
+                throw new IllegalArgumentException(
+                        "Variable length quantity is too long (must be <= 63)");
+            }
+        }
+        return value | (b << i);
+    }
+
+    /**
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the value terminates
+     * @throws IllegalArgumentException if variable-length value does not terminate after 5 bytes
+     *         have been read
+     * @see #readUnsignedVarInt(DataInput)
+     */
+    public static int readUnsignedVarInt(ByteBuffer buf) {
+        int value = 0;
+        int i = 0;
+        int b;
+        while (((b = buf.get()) & 0x80) != 0) {
+            value |= (b & 0x7F) << i;
+            i += 7;
+            if (i > 35) {
+                throw new IllegalArgumentException(
+                        "Variable length quantity is too long (must be <= 35)");
+            }
+        }
+        return value | (b << i);
+    }
+
+    /**
+     * Advances a buffer past a number of variable-length values without decoding them.
+     *
+     * @param buf the buffer to advance
+     * @param count the number of values to skip
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the last value
+     *         terminates
+     */
+    public static void skipVarints(ByteBuffer buf, int count) {
+        for (int n = 0; n < count; n++) {
+            while ((buf.get() & 0x80) != 0) {
+                // continuation byte
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.io.flatgeobuf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.ParseException;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class FlatGeobufTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(FlatGeobufTest.class);
+  }
+
+  public FlatGeobufTest(String name) {
+    super(name);
+  }
+
+  public void testGeometryTypes() throws Exception {
+    checkRoundTrip("POINT (1 2)");
+    checkRoundTrip("LINESTRING (1 2, 3 4, 5 6)");
+    checkRoundTrip("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))");
+    checkRoundTrip("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (1 1, 2 1, 2 2, 1 1), (5 5, 6 5, 6 6, 5 5))");
+    checkRoundTrip("MULTIPOINT ((1 2), (3 4))");
+    checkRoundTrip("MULTILINESTRING ((1 2, 3 4))");
+    checkRoundTrip("MULTILINESTRING ((1 2, 3 4), (5 6, 7 8, 9 9))");
+    checkRoundTrip("MULTIPOLYGON (((0 0, 10 0, 10 10, 0 0)), ((20 20, 30 20, 30 30, 20 20), (21 21, 22 21, 22 22, 21 21)))");
+    checkRoundTrip("GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (1 2, 3 4), MULTIPOLYGON (((0 0, 10 0, 10 10, 0 0))), GEOMETRYCOLLECTION (POINT (5 5)))");
+  }
+
+  public void testEmpty() throws Exception {
+    checkRoundTrip("POINT EMPTY");
+    checkRoundTrip("LINESTRING EMPTY");
+    checkRoundTrip("POLYGON EMPTY");
+    checkRoundTrip("MULTIPOLYGON EMPTY");
+    checkRoundTrip("GEOMETRYCOLLECTION EMPTY");
+  }
+
+  public void testZM() throws Exception {
+    Geometry geom = read("LINESTRING ZM (1 2 3 4, 5 6 7 8)");
+    FlatGeobufReader rdr = new FlatGeobufReader(ByteBuffer.wrap(write(geom)));
+    Geometry result = rdr.read().getGeometry();
+    checkEqualXYZ(geom, result);
+    assertEquals(8.0, ((LineString) result).getCoordinateSequence().getM(1));
+  }
+
+  public void testMixedTypes() throws Exception {
+    FlatGeobufReader rdr = new FlatGeobufReader(ByteBuffer.wrap(write(
+        read("POINT (1 2)"), read("LINESTRING (1 2, 3 4)"))));
+    assertEquals(FlatGeobufConstants.GEOMETRY_UNKNOWN, rdr.getGeometryType());
+    assertEquals(2, readAll(rdr).size());
+  }
+
+  public void testHeader() throws Exception {
+    GeometryFactory fact = new GeometryFactory(new PrecisionModel(), 3857);
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    FlatGeobufWriter writer = new FlatGeobufWriter(os);
+    writer.setName("layer");
+    writer.write(fact.createPoint(new Coordinate(1, 2)));
+    writer.write(fact.createPoint(new Coordinate(5, 7)));
+    writer.close();
+    byte[] data = os.toByteArray();
+    assertEquals(0x66, data[0]);
+    assertEquals(3, data[3]);
+
+    FlatGeobufReader rdr = new FlatGeobufReader(ByteBuffer.wrap(data));
+    assertEquals("layer", rdr.getName());
+    assertEquals(2, rdr.getFeatureCount());
+    assertEquals(new Envelope(1, 5, 2, 7), rdr.getEnvelope());
+    assertEquals(FlatGeobufConstants.GEOMETRY_POINT, rdr.getGeometryType());
+    assertEquals(3857, rdr.getSRID());
+    assertTrue(rdr.hasIndex());
+    assertEquals(3857, rdr.read().getGeometry().getSRID());
+  }
+
+  public void testProperties() throws Exception {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    FlatGeobufWriter writer = new FlatGeobufWriter(os);
+    writer.addColumn("code", FlatGeobufConstants.COLUMN_INT);
+    Map<String, Object> props = new LinkedHashMap<String, Object>();
+    props.put("code", 42);
+    props.put("name", "café");
+    props.put("count", 123456789012L);
+    props.put("value", 1.5);
+    props.put("flag", true);
+    props.put("data", new byte[] { 1, 2, 3 });
+    writer.write(read("POINT (1 1)"), props);
+    Map<String, Object> props2 = new HashMap<String, Object>();
+    props2.put("name", "b");
+    props2.put("value", 2);
+    props2.put("flag", null);
+    writer.write(read("POINT (2 2)"), props2);
+    writer.close();
+
+    FlatGeobufReader rdr = new FlatGeobufReader(ByteBuffer.wrap(os.toByteArray()));
+    assertEquals(6, rdr.getColumnCount());
+    assertEquals("code", rdr.getColumnName(0));
+    assertEquals(FlatGeobufConstants.COLUMN_INT, rdr.getColumnType(0));
+    assertEquals(FlatGeobufConstants.COLUMN_LONG, rdr.getColumnType(2));
+
+    FlatGeobufFeature f1 = rdr.read();
+    assertEquals(42, f1.getProperty("code"));
+    assertEquals("café", f1.getProperty("name"));
+    assertEquals(123456789012L, f1.getProperty("count"));
+    assertEquals(1.5, f1.getProperty("value"));
+    assertEquals(Boolean.TRUE, f1.getProperty("flag"));
+    assertTrue(Arrays.equals(new byte[] { 1, 2, 3 }, (byte[]) f1.getProperty("data")));
+
+    FlatGeobufFeature f2 = rdr.read();
+    assertEquals("b", f2.getProperty("name"));
+    assertEquals(2.0, f2.getProperty("value"));
+    assertFalse(f2.getProperties().containsKey("flag"));
+    assertNull(rdr.read());
+  }
+
+  public void testInvalidProperty() throws Exception {
+    FlatGeobufWriter writer = new FlatGeobufWriter(new ByteArrayOutputStream());
+    Map<String, Object> props = new HashMap<String, Object>();
+    props.put("a", 1);
+    writer.write(read("POINT (1 1)"), props);
+    props.put("a", "text");
+    try {
+      writer.write(read("POINT (1 1)"), props);
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  public void testNullGeometry() throws Exception {
+    FlatGeobufReader rdr = new FlatGeobufReader(ByteBuffer.wrap(
+        write(read("POINT (1 2)"), null, read("POINT (3 4)"))));
+    List<FlatGeobufFeature> features = readAll(rdr);
+    assertEquals(3, features.size());
+    assertNull(features.get(1).getGeometry());
+    assertEquals(2, rdr.query(new Envelope(0, 10, 0, 10)).size());
+  }
+
+  public void testQuery() throws Exception {
+    checkQuery(1000, FlatGeobufConstants.DEFAULT_NODE_SIZE);
+  }
+
+  public void testQuerySmallNodes() throws Exception {
+    checkQuery(500, 2);
+  }
+
+  public void testQuerySingleFeature() throws Exception {
+    checkQuery(1, FlatGeobufConstants.DEFAULT_NODE_SIZE);
+  }
+
+  public void testQueryNoIndex() throws Exception {
+    checkQuery(200, 0);
+  }
+
+  public void testQueryFile() throws Exception {
+    List<Geometry> geoms = grid(50);
+    File file = File.createTempFile("jts", ".fgb");
+    try {
+      FlatGeobufWriter writer = new FlatGeobufWriter(file);
+      for (Geometry g : geoms) {
+        writer.write(g);
+      }
+      writer.close();
+
+      Envelope queryEnv = new Envelope(10.5, 20.5, 30.5, 32.5);
+      List<Geometry> expected = bruteForceQuery(geoms, queryEnv);
+
+      FlatGeobufReader rdr = FlatGeobufReader.open(file);
+      checkEqual(expected, geometries(rdr.query(queryEnv)));
+      assertEquals(2500, readAll(rdr).size());
+      rdr.close();
+
+      rdr = FlatGeobufReader.openMapped(file);
+      checkEqual(expected, geometries(rdr.query(queryEnv)));
+      rdr.close();
+    }
+    finally {
+      file.delete();
+    }
+  }
+
+  public void testEmptyFile() throws Exception {
+    FlatGeobufReader rdr = new FlatGeobufReader(ByteBuffer.wrap(write()));
+    assertEquals(0, rdr.getFeatureCount());
+    assertNull(rdr.read());
+    assertEquals(0, rdr.query(new Envelope(0, 1, 0, 1)).size());
+  }
+
+  public void testInvalidData() throws Exception {
+    try {
+      new FlatGeobufReader(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 }));
+      fail();
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+    byte[] data = write(read("POINT (1 2)"));
+    byte[] truncated = Arrays.copyOf(data, data.length - 4);
+    FlatGeobufReader rdr = new FlatGeobufReader(ByteBuffer.wrap(truncated));
+    try {
+      rdr.read();
+      fail();
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
+  /**
+   * Reads testdata/flatgeobuf/fixture.fgb, a small file with an index
+   * (node size 2), CRS EPSG:4326, columns name (String), pop (Long) and area (Double),
+   * and the four features checked below.
+   * <p>
+   * The file was not written by {@link FlatGeobufWriter},
+   * but also not by a reference FlatGeobuf implementation,
+   * so it does not prove that files from other writers can be read.
+   * It should be replaced by the same features written with
+   * GDAL <tt>ogr2ogr -f FlatGeobuf</tt>, recording the GDAL version here.
+   */
+  public void testFixture() throws Exception {
+    FlatGeobufReader rdr = new FlatGeobufReader(ByteBuffer.wrap(readResource("/testdata/flatgeobuf/fixture.fgb")));
+    assertEquals("fixture", rdr.getName());
+    assertEquals(4, rdr.getFeatureCount());
+    assertEquals(new Envelope(0, 54, 0, 30), rdr.getEnvelope());
+    assertEquals(FlatGeobufConstants.GEOMETRY_UNKNOWN, rdr.getGeometryType());
+    assertEquals(4326, rdr.getSRID());
+    assertTrue(rdr.hasIndex());
+    assertEquals(3, rdr.getColumnCount());
+    assertEquals("name", rdr.getColumnName(0));
+    assertEquals(FlatGeobufConstants.COLUMN_STRING, rdr.getColumnType(0));
+    assertEquals("pop", rdr.getColumnName(1));
+    assertEquals(FlatGeobufConstants.COLUMN_LONG, rdr.getColumnType(1));
+    assertEquals("area", rdr.getColumnName(2));
+    assertEquals(FlatGeobufConstants.COLUMN_DOUBLE, rdr.getColumnType(2));
+
+    List<FlatGeobufFeature> features = readAll(rdr);
+    assertEquals(4, features.size());
+    checkEqual(read("POINT (1 2)"), features.get(0).getGeometry());
+    assertEquals("a", features.get(0).getProperty("name"));
+    assertEquals(10L, features.get(0).getProperty("pop"));
+    assertNull(features.get(0).getProperty("area"));
+    checkEqual(read("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 2 4, 4 4, 4 2, 2 2))"),
+        features.get(1).getGeometry());
+    assertEquals("b", features.get(1).getProperty("name"));
+    assertEquals(84.0, features.get(1).getProperty("area"));
+    checkEqual(read("MULTILINESTRING ((20 20, 30 30), (25 20, 25 30))"), features.get(2).getGeometry());
+    assertEquals("ü", features.get(2).getProperty("name"));
+    assertEquals(-5L, features.get(2).getProperty("pop"));
+    checkEqual(read("MULTIPOLYGON (((40 0, 44 0, 44 4, 40 0)), ((50 0, 54 0, 54 4, 50 0)))"),
+        features.get(3).getGeometry());
+    assertNull(features.get(3).getProperty("name"));
+    assertEquals(4326, features.get(3).getGeometry().getSRID());
+
+    List<FlatGeobufFeature> result = rdr.query(new Envelope(19, 26, 1, 21));
+    assertEquals(1, result.size());
+    assertEquals("ü", result.get(0).getProperty("name"));
+    assertEquals(2, rdr.query(new Envelope(0, 5, 0, 5)).size());
+    assertEquals(4, rdr.query(new Envelope(-1, 60, -1, 40)).size());
+    assertEquals(0, rdr.query(new Envelope(31, 39, 10, 20)).size());
+  }
+
+  public void testSpill() throws Exception {
+    List<Geometry> geoms = grid(40);
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    FlatGeobufWriter writer = new FlatGeobufWriter(os);
+    writer.setMemoryLimit(1000);
+    Map<String, Object> props = new HashMap<String, Object>();
+    for (int i = 0; i < geoms.size(); i++) {
+      props.put("id", i);
+      writer.write(geoms.get(i), props);
+    }
+    writer.close();
+    byte[] spilled = os.toByteArray();
+
+    os = new ByteArrayOutputStream();
+    writer = new FlatGeobufWriter(os);
+    for (int i = 0; i < geoms.size(); i++) {
+      props.put("id", i);
+      writer.write(geoms.get(i), props);
+    }
+    writer.close();
+    assertTrue(Arrays.equals(os.toByteArray(), spilled));
+
+    FlatGeobufReader rdr = new FlatGeobufReader(ByteBuffer.wrap(spilled));
+    List<FlatGeobufFeature> features = readAll(rdr);
+    assertEquals(geoms.size(), features.size());
+    for (FlatGeobufFeature f : features) {
+      int id = ((Long) f.getProperty("id")).intValue();
+      checkEqual(geoms.get(id), f.getGeometry());
+    }
+    Envelope queryEnv = new Envelope(10.5, 20.5, 30.5, 32.5);
+    checkEqual(bruteForceQuery(geoms, queryEnv), geometries(rdr.query(queryEnv)));
+  }
+
+  private byte[] readResource(String resource) throws IOException {
+    InputStream in = getClass().getResourceAsStream(resource);
+    assertNotNull("resource not found: " + resource, in);
+    try {
+      ByteArrayOutputStream os = new ByteArrayOutputStream();
+      byte[] buf = new byte[4096];
+      int n;
+      while ((n = in.read(buf)) > 0) {
+        os.write(buf, 0, n);
+      }
+      return os.toByteArray();
+    }
+    finally {
+      in.close();
+    }
+  }
+
+  private void checkQuery(int size, int nodeSize) throws IOException, ParseException {
+    List<Geometry> geoms = grid((int) Math.ceil(Math.sqrt(size)));
+    geoms = geoms.subList(0, size);
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    FlatGeobufWriter writer = new FlatGeobufWriter(os);
+    writer.setNodeSize(nodeSize);
+    for (Geometry g : geoms) {
+      writer.write(g);
+    }
+    writer.close();
+    FlatGeobufReader rdr = new FlatGeobufReader(ByteBuffer.wrap(os.toByteArray()));
+    assertEquals(nodeSize > 0, rdr.hasIndex());
+
+    Envelope[] queries = new Envelope[] {
+        new Envelope(-10, -5, -10, -5),
+        new Envelope(0, 0, 0, 0),
+        new Envelope(3.2, 7.7, 1.1, 4.9),
+        new Envelope(10.5, 20.5, 5.5, 6.5),
+        new Envelope(-100, 100, -100, 100)
+    };
+    for (Envelope queryEnv : queries) {
+      checkEqual(bruteForceQuery(geoms, queryEnv), geometries(rdr.query(queryEnv)));
+    }
+  }
+
+  private List<Geometry> grid(int n) {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        geoms.add(read("LINESTRING (" + i + " " + j + ", " + (i + 0.5) + " " + (j + 0.5) + ")"));
+      }
+    }
+    return geoms;
+  }
+
+  private static List<Geometry> bruteForceQuery(List<Geometry> geoms, Envelope queryEnv) {
+    List<Geometry> result = new ArrayList<Geometry>();
+    for (Geometry g : geoms) {
+      if (g.getEnvelopeInternal().intersects(queryEnv))
+        result.add(g);
+    }
+    return result;
+  }
+
+  private void checkEqual(List<Geometry> expected, List<Geometry> actual) {
+    assertEquals(expected.size(), actual.size());
+    List<String> expectedWKT = new ArrayList<String>();
+    for (Geometry g : expected) {
+      expectedWKT.add(g.toText());
+    }
+    for (Geometry g : actual) {
+      assertTrue(expectedWKT.remove(g.toText()));
+    }
+  }
+
+  private static List<Geometry> geometries(List<FlatGeobufFeature> features) {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (FlatGeobufFeature f : features) {
+      geoms.add(f.getGeometry());
+    }
+    return geoms;
+  }
+
+  private void checkRoundTrip(String wkt) throws IOException, ParseException {
+    Geometry geom = read(wkt);
+    FlatGeobufReader rdr = new FlatGeobufReader(ByteBuffer.wrap(write(geom)));
+    checkEqual(geom, rdr.read().getGeometry());
+    assertNull(rdr.read());
+  }
+
+  private static byte[] write(Geometry... geoms) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    FlatGeobufWriter writer = new FlatGeobufWriter(os);
+    for (Geometry g : geoms) {
+      writer.write(g);
+    }
+    writer.close();
+    return os.toByteArray();
+  }
+
+  private static List<FlatGeobufFeature> readAll(FlatGeobufReader rdr) throws IOException, ParseException {
+    List<FlatGeobufFeature> features = new ArrayList<FlatGeobufFeature>();
+    FlatGeobufFeature f;
+    while ((f = rdr.read()) != null) {
+      features.add(f);
+    }
+    return features;
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class GeoJsonStreamReaderTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(GeoJsonStreamReaderTest.class);
+  }
+
+  public GeoJsonStreamReaderTest(String name) {
+    super(name);
+  }
+
+  public void testFeatureCollection() throws Exception {
+    List<GeoJsonFeature> features = readAll(
+        "{\"type\":\"FeatureCollection\",\"features\":["
+        + "{\"type\":\"Feature\",\"id\":1,\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]},"
+        + "\"properties\":{\"name\":\"a\",\"size\":2.5,\"flag\":true,\"tags\":[1,\"x\"],\"none\":null}},"
+        + "{\"type\":\"Feature\",\"id\":\"f2\",\"geometry\":{\"type\":\"LineString\",\"coordinates\":[[1,2],[3,4]]},"
+        + "\"properties\":null}"
+        + "]}");
+    assertEquals(2, features.size());
+
+    GeoJsonFeature f1 = features.get(0);
+    assertEquals(1L, f1.getId());
+    checkEqual(read("POINT (1 2)"), f1.getGeometry());
+    assertEquals(4326, f1.getGeometry().getSRID());
+    assertEquals("a", f1.getProperty("name"));
+    assertEquals(2.5, f1.getProperty("size"));
+    assertEquals(Boolean.TRUE, f1.getProperty("flag"));
+    List<Object> tags = new ArrayList<Object>();
+    tags.add(1L);
+    tags.add("x");
+    assertEquals(tags, f1.getProperty("tags"));
+    assertTrue(f1.getProperties().containsKey("none"));
+
+    GeoJsonFeature f2 = features.get(1);
+    assertEquals("f2", f2.getId());
+    checkEqual(read("LINESTRING (1 2, 3 4)"), f2.getGeometry());
+    assertNull(f2.getProperties());
+  }
+
+  public void testFeatureCollectionMembersAfterFeatures() throws Exception {
+    List<GeoJsonFeature> features = readAll(
+        "{\"type\":\"FeatureCollection\",\"features\":["
+        + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]},\"properties\":{}}"
+        + "],\"bbox\":[1,2,1,2],\"foo\":{\"bar\":[1,2,3]}}");
+    assertEquals(1, features.size());
+  }
+
+  public void testFeatureCollectionCRS() throws Exception {
+    List<GeoJsonFeature> features = readAll(
+        "{\"type\":\"FeatureCollection\",\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:3857\"}},"
+        + "\"features\":["
+        + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]},\"properties\":{}}"
+        + "]}");
+    assertEquals(3857, features.get(0).getGeometry().getSRID());
+  }
+
+  public void testEmptyFeatureCollection() throws Exception {
+    assertEquals(0, readAll("{\"type\":\"FeatureCollection\",\"features\":[]}").size());
+  }
+
+  public void testFeatureCollectionWithoutFeatures() throws Exception {
+    List<GeoJsonFeature> features = readAll("{\"type\":\"FeatureCollection\"}\n"
+        + "{\"type\":\"Point\",\"coordinates\":[1,2]}");
+    assertEquals(1, features.size());
+    checkEqual(read("POINT (1 2)"), features.get(0).getGeometry());
+  }
+
+  public void testFeatureMembersInAnyOrder() throws Exception {
+    List<GeoJsonFeature> features = readAll(
+        "{\"properties\":{\"a\":1},\"geometry\":{\"coordinates\":[[0,0],[1,1]],\"type\":\"LineString\"},"
+        + "\"type\":\"Feature\"}");
+    assertEquals(1, features.size());
+    checkEqual(read("LINESTRING (0 0, 1 1)"), features.get(0).getGeometry());
+    assertEquals(1L, features.get(0).getProperty("a"));
+  }
+
+  public void testNullGeometry() throws Exception {
+    List<GeoJsonFeature> features = readAll(
+        "{\"type\":\"Feature\",\"geometry\":null,\"properties\":{\"a\":1}}");
+    assertNull(features.get(0).getGeometry());
+  }
+
+  public void testBareGeometry() throws Exception {
+    List<GeoJsonFeature> features = readAll(
+        "{\"type\":\"Polygon\",\"coordinates\":[[[0,0],[10,0],[10,10],[0,0]],[[1,1],[2,1],[2,2],[1,1]]]}");
+    assertEquals(1, features.size());
+    checkEqual(read("POLYGON ((0 0, 10 0, 10 10, 0 0), (1 1, 2 1, 2 2, 1 1))"),
+        features.get(0).getGeometry());
+    assertNull(features.get(0).getProperties());
+  }
+
+  public void testGeometryTypes() throws Exception {
+    checkGeometry("{\"type\":\"MultiPoint\",\"coordinates\":[[1,2],[3,4]]}",
+        "MULTIPOINT ((1 2), (3 4))");
+    checkGeometry("{\"type\":\"MultiLineString\",\"coordinates\":[[[1,2],[3,4]],[[5,6],[7,8]]]}",
+        "MULTILINESTRING ((1 2, 3 4), (5 6, 7 8))");
+    checkGeometry("{\"type\":\"MultiPolygon\",\"coordinates\":[[[[0,0],[1,0],[1,1],[0,0]]],[[[5,5],[6,5],[6,6],[5,5]]]]}",
+        "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5)))");
+    checkGeometry("{\"type\":\"GeometryCollection\",\"geometries\":["
+        + "{\"type\":\"Point\",\"coordinates\":[1,2]},{\"type\":\"Point\",\"coordinates\":[3,4]},"
+        + "{\"type\":\"LineString\",\"coordinates\":[[5,6],[7,8]]}]}",
+        "GEOMETRYCOLLECTION (POINT (1 2), POINT (3 4), LINESTRING (5 6, 7 8))");
+  }
+
+  public void testEmptyCoordinates() throws Exception {
+    checkGeometry("{\"type\":\"Point\",\"coordinates\":[]}", "POINT EMPTY");
+    checkGeometry("{\"type\":\"Point\",\"coordinates\":null}", "POINT EMPTY");
+    checkGeometry("{\"type\":\"LineString\",\"coordinates\":[]}", "LINESTRING EMPTY");
+    checkGeometry("{\"type\":\"Polygon\",\"coordinates\":[]}", "POLYGON EMPTY");
+    checkGeometry("{\"type\":\"MultiPolygon\",\"coordinates\":null}", "MULTIPOLYGON EMPTY");
+    checkGeometry("{\"type\":\"GeometryCollection\",\"geometries\":[]}", "GEOMETRYCOLLECTION EMPTY");
+  }
+
+  public void testZ() throws Exception {
+    Geometry geom = readAll("{\"type\":\"LineString\",\"coordinates\":[[1,2,3],[4,5,6]]}")
+        .get(0).getGeometry();
+    checkEqualXYZ(read("LINESTRING Z (1 2 3, 4 5 6)"), geom);
+  }
+
+  public void testNumbers() throws Exception {
+    Geometry geom = readAll(
+        "{\"type\":\"MultiPoint\",\"coordinates\":[[-0.1,1e2],[1.5E-3,-12345678.123456789],"
+        + "[0.30000000000000004,123456789012345678901234567890]]}")
+        .get(0).getGeometry();
+    double[] expected = { -0.1, 1e2, 1.5E-3, -12345678.123456789,
+        0.30000000000000004, 123456789012345678901234567890.0 };
+    for (int i = 0; i < 3; i++) {
+      assertEquals(expected[2 * i], geom.getGeometryN(i).getCoordinate().getX(), 0.0);
+      assertEquals(expected[2 * i + 1], geom.getGeometryN(i).getCoordinate().getY(), 0.0);
+    }
+  }
+
+  public void testStringEscapes() throws Exception {
+    GeoJsonFeature f = readAll(
+        "{\"type\":\"Feature\",\"geometry\":null,\"properties\":{\"s\":\"a\\\"b\\\\c\\/d\\n\\u00e9\"}}")
+        .get(0);
+    assertEquals("a\"b\\c/d\né", f.getProperty("s"));
+  }
+
+  public void testFeatureSequence() throws Exception {
+    List<GeoJsonFeature> features = readAll(
+        "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]},\"properties\":{}}\n"
+        + "\u001E{\"type\":\"Point\",\"coordinates\":[3,4]}\n"
+        + "{\"type\":\"FeatureCollection\",\"features\":["
+        + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[5,6]},\"properties\":{}}]}\n");
+    assertEquals(3, features.size());
+    checkEqual(read("POINT (5 6)"), features.get(2).getGeometry());
+  }
+
+  public void testIterator() throws Exception {
+    GeoJsonStreamReader rdr = new GeoJsonStreamReader(new StringReader(
+        "{\"type\":\"Point\",\"coordinates\":[1,2]} {\"type\":\"Point\",\"coordinates\":[3,4]}"));
+    Iterator<GeoJsonFeature> it = rdr.iterator();
+    assertTrue(it.hasNext());
+    checkEqual(read("POINT (1 2)"), it.next().getGeometry());
+    checkEqual(read("POINT (3 4)"), it.next().getGeometry());
+    assertFalse(it.hasNext());
+    assertEquals(2, rdr.getCount());
+  }
+
+  public void testRoundTrip() throws Exception {
+    StringWriter out = new StringWriter();
+    GeoJsonStreamWriter writer = new GeoJsonStreamWriter(out);
+    Map<String, Object> props = new LinkedHashMap<String, Object>();
+    props.put("name", "a \"quoted\" name");
+    props.put("count", 3L);
+    writer.write(7L, read("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))"), props);
+    writer.write(read("MULTILINESTRING ((1 2, 3 4), (5 6, 7 8))"));
+    writer.write(new GeoJsonFeature("x", null, null));
+    writer.close();
+    assertEquals(3, writer.getCount());
+
+    List<GeoJsonFeature> features = readAll(out.toString());
+    assertEquals(3, features.size());
+    assertEquals(7L, features.get(0).getId());
+    checkEqual(read("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))"), features.get(0).getGeometry());
+    assertEquals(props, features.get(0).getProperties());
+    checkEqual(read("MULTILINESTRING ((1 2, 3 4), (5 6, 7 8))"), features.get(1).getGeometry());
+    assertEquals("x", features.get(2).getId());
+    assertNull(features.get(2).getGeometry());
+  }
+
+  public void testWriteEmptyCollection() throws Exception {
+    StringWriter out = new StringWriter();
+    GeoJsonStreamWriter writer = new GeoJsonStreamWriter(out);
+    writer.close();
+    assertEquals("{\"type\":\"FeatureCollection\",\"features\":[]}", out.toString());
+    assertEquals(0, readAll(out.toString()).size());
+  }
+
+  public void testParseErrors() throws Exception {
+    checkParseError("[]");
+    checkParseError("{\"type\":\"Point\",\"coordinates\":[1,2]");
+    checkParseError("{\"type\":\"Point\",\"coordinates\":[1,2,]}");
+    checkParseError("{\"type\":\"Unknown\",\"coordinates\":[1,2]}");
+    checkParseError("{\"type\":\"Point\",\"coordinates\":[1,-]}");
+    checkParseError("{\"type\":\"Point\",\"coordinates\":[1,2]} x");
+    checkParseError("{\"type\":\"FeatureCollection\",\"features\":["
+        + "{\"type\":\"Feature\",\"geometry\":null,\"properties\":{}}"
+        + "{\"type\":\"Feature\",\"geometry\":null,\"properties\":{}}]}");
+  }
+
+  private void checkGeometry(String geojson, String expectedWKT) throws IOException, ParseException {
+    List<GeoJsonFeature> features = readAll(geojson);
+    assertEquals(1, features.size());
+    checkEqual(read(expectedWKT), features.get(0).getGeometry());
+  }
+
+  private void checkParseError(String geojson) throws IOException {
+    try {
+      readAll(geojson);
+      fail("Expected parse error for: " + geojson);
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
+  private static List<GeoJsonFeature> readAll(String geojson) throws IOException, ParseException {
+    GeoJsonStreamReader rdr = new GeoJsonStreamReader(new StringReader(geojson));
+    List<GeoJsonFeature> features = new ArrayList<GeoJsonFeature>();
+    GeoJsonFeature f;
+    while ((f = rdr.read()) != null) {
+      features.add(f);
+    }
+    rdr.close();
+    return features;
+  }
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.io.mvt;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.ParseException;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class MVTTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(MVTTest.class);
+  }
+
+  public MVTTest(String name) {
+    super(name);
+  }
+
+  private GeometryFactory geomFactory = new GeometryFactory();
+
+  // examples from the MVT 2.1 specification
+
+  public void testEncodePoint() {
+    checkEncode("POINT (25 17)", 9, 50, 34);
+  }
+
+  public void testEncodeMultiPoint() {
+    checkEncode("MULTIPOINT ((5 7), (3 2))", 17, 10, 14, 3, 9);
+  }
+
+  public void testEncodeLine() {
+    checkEncode("LINESTRING (2 2, 2 10, 10 10)", 9, 4, 4, 18, 0, 16, 16, 0);
+  }
+
+  public void testEncodeMultiLine() {
+    checkEncode("MULTILINESTRING ((2 2, 2 10, 10 10), (1 1, 3 5))",
+        9, 4, 4, 18, 0, 16, 16, 0, 9, 17, 17, 10, 4, 8);
+  }
+
+  public void testEncodePolygon() {
+    checkEncode("POLYGON ((3 6, 8 12, 20 34, 3 6))", 9, 6, 12, 18, 10, 12, 24, 44, 15);
+  }
+
+  public void testEncodeMultiPolygon() {
+    checkEncode("MULTIPOLYGON (((0 0, 10 0, 10 10, 0 10, 0 0)), ((11 11, 20 11, 20 20, 11 20, 11 11), (13 13, 13 17, 17 17, 17 13, 13 13)))",
+        9, 0, 0, 26, 20, 0, 0, 20, 19, 0, 15,
+        9, 22, 2, 26, 18, 0, 0, 18, 17, 0, 15,
+        9, 4, 13, 26, 0, 8, 8, 0, 0, 7, 15);
+  }
+
+  public void testEncodeRingOrientation() {
+    // exterior ring with negative area is reversed
+    checkEncode("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))", 9, 0, 0, 26, 20, 0, 0, 20, 19, 0, 15);
+  }
+
+  public void testEncodeQuantize() {
+    checkEncode("LINESTRING (0.4 0.4, 0.2 0.6, 2.6 3.4)", 9, 0, 0, 18, 0, 2, 6, 4);
+  }
+
+  public void testEncodeCollapse() {
+    checkEncode("LINESTRING (0.1 0.1, 0.2 0.2)");
+    checkEncode("POLYGON ((0 0, 10 0, 20 0, 0 0))");
+    // holes of a collapsed shell are not encoded
+    checkEncode("POLYGON ((0 0, 10 0, 20 0, 0 0), (1 1, 2 1, 2 2, 1 1))");
+  }
+
+  public void testEncodeMixedCollection() {
+    try {
+      new MVTGeometryEncoder().encode(read("GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 1 1))"));
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  public void testRoundTrip() throws ParseException {
+    checkRoundTrip("POINT (25 17)");
+    checkRoundTrip("MULTIPOINT ((5 7), (3 2))");
+    checkRoundTrip("LINESTRING (2 2, 2 10, 10 10)");
+    checkRoundTrip("MULTILINESTRING ((2 2, 2 10, 10 10), (1 1, 3 5))");
+    checkRoundTrip("POLYGON ((3 6, 8 12, 20 34, 3 6))");
+    checkRoundTrip("MULTIPOLYGON (((0 0, 10 0, 10 10, 0 10, 0 0)), ((11 11, 20 11, 20 20, 11 20, 11 11), (13 13, 13 17, 17 17, 17 13, 13 13)))");
+  }
+
+  public void testDecodeInvalid() {
+    try {
+      MVTGeometryDecoder.decode(MVTConstants.GEOMETRY_LINESTRING, new int[] { 9, 4 }, geomFactory);
+      fail();
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
+  public void testTilePolygonSingleTile() throws ParseException {
+    MVTTiler tiler = tiler(1);
+    tiler.setBuffer(0);
+    List<MVTTileGeometry> tiles = tiler.tile(read("POLYGON ((10 60, 40 60, 40 90, 10 90, 10 60))"));
+    assertEquals(1, tiles.size());
+    checkTile(tiles.get(0), 0, 0, "POLYGON ((40 40, 160 40, 160 160, 40 160, 40 40))");
+  }
+
+  public void testTilePolygonAcrossTiles() throws ParseException {
+    MVTTiler tiler = tiler(1);
+    tiler.setBuffer(0);
+    List<MVTTileGeometry> tiles = tiler.tile(read("POLYGON ((25 25, 75 25, 75 75, 25 75, 25 25))"));
+    assertEquals(4, tiles.size());
+    double area = 0;
+    for (MVTTileGeometry tile : tiles) {
+      area += decode(tile).getArea();
+    }
+    assertEquals(4 * 100 * 100.0, area);
+    checkTile(find(tiles, 0, 0), 0, 0, "POLYGON ((100 100, 200 100, 200 200, 100 200, 100 100))");
+  }
+
+  public void testTilePolygonCoversTile() throws ParseException {
+    MVTTiler tiler = tiler(2);
+    tiler.setBuffer(10);
+    List<MVTTileGeometry> tiles = tiler.tile(read("POLYGON ((1 1, 99 1, 99 99, 1 99, 1 1))"));
+    assertEquals(16, tiles.size());
+    // an interior tile is covered by the buffered tile square
+    checkTile(find(tiles, 1, 1), 1, 1, "POLYGON ((-10 210, 210 210, 210 -10, -10 -10, -10 210))");
+  }
+
+  public void testTilePolygonWithHole() throws ParseException {
+    MVTTiler tiler = tiler(1);
+    tiler.setBuffer(0);
+    List<MVTTileGeometry> tiles = tiler.tile(read("POLYGON ((10 10, 40 10, 40 40, 10 40, 10 10), (20 20, 30 20, 30 30, 20 30, 20 20))"));
+    assertEquals(1, tiles.size());
+    Geometry geom = decode(tiles.get(0));
+    assertEquals(1, ((Polygon) geom).getNumInteriorRing());
+    assertEquals(120 * 120 - 40 * 40.0, geom.getArea());
+  }
+
+  public void testTilePolygonHoleCoversTile() throws ParseException {
+    MVTTiler tiler = tiler(2);
+    tiler.setBuffer(0);
+    List<MVTTileGeometry> tiles = tiler.tile(read("POLYGON ((0 0, 100 0, 100 100, 0 100, 0 0), (10 10, 90 10, 90 90, 10 90, 10 10))"));
+    // the tiles inside the hole are empty
+    assertEquals(12, tiles.size());
+    assertNull(find(tiles, 1, 1));
+    assertNull(find(tiles, 1, 2));
+    assertNull(find(tiles, 2, 1));
+    assertNull(find(tiles, 2, 2));
+    double area = 0;
+    for (MVTTileGeometry tile : tiles) {
+      area += decode(tile).getArea();
+    }
+    assertEquals(800 * 800 - 640 * 640.0, area);
+  }
+
+  public void testTileLine() throws ParseException {
+    MVTTiler tiler = tiler(1);
+    tiler.setBuffer(0);
+    List<MVTTileGeometry> tiles = tiler.tile(read("LINESTRING (10 90, 90 90, 90 10)"));
+    assertEquals(3, tiles.size());
+    checkTile(find(tiles, 0, 0), 0, 0, "LINESTRING (40 40, 200 40)");
+    checkTile(find(tiles, 1, 0), 1, 0, "LINESTRING (0 40, 160 40, 160 200)");
+    checkTile(find(tiles, 1, 1), 1, 1, "LINESTRING (160 0, 160 160)");
+  }
+
+  public void testTileLineReentering() throws ParseException {
+    MVTTiler tiler = tiler(1);
+    tiler.setBuffer(0);
+    List<MVTTileGeometry> tiles = tiler.tile(read("LINESTRING (10 90, 90 90, 90 80, 10 80)"));
+    checkTile(find(tiles, 0, 0), 0, 0, "MULTILINESTRING ((40 40, 200 40), (200 80, 40 80))");
+  }
+
+  public void testTilePoints() throws ParseException {
+    MVTTiler tiler = tiler(1);
+    tiler.setBuffer(8);
+    List<MVTTileGeometry> tiles = tiler.tile(read("MULTIPOINT ((10 90), (49 90), (90 10))"));
+    assertEquals(3, tiles.size());
+    checkTile(find(tiles, 0, 0), 0, 0, "MULTIPOINT ((40 40), (196 40))");
+    // point in the buffer of the adjacent tile
+    checkTile(find(tiles, 1, 0), 1, 0, "POINT (-4 40)");
+    checkTile(find(tiles, 1, 1), 1, 1, "POINT (160 160)");
+  }
+
+  public void testTileSimplify() throws ParseException {
+    MVTTiler tiler = tiler(0);
+    tiler.setSimplifyTolerance(4);
+    List<MVTTileGeometry> tiles = tiler.tile(read("LINESTRING (0 50, 25 50.5, 50 50, 75 49.5, 100 50)"));
+    checkTile(tiles.get(0), 0, 0, "LINESTRING (0 100, 200 100)");
+  }
+
+  public void testTileEnvelope() {
+    MVTTiler tiler = tiler(1);
+    assertEquals(new Envelope(50, 100, 50, 100), tiler.getTileEnvelope(1, 0));
+    assertEquals(new Envelope(0, 50, 0, 50), tiler.getTileEnvelope(0, 1));
+  }
+
+  public void testWriter() {
+    MVTWriter writer = new MVTWriter();
+    writer.startLayer("a");
+    writer.addFeature(read("POINT (25 17)"), null);
+    byte[] expected = bytes(
+        0x1A, 17,
+        0x78, 2,
+        0x0A, 1, 'a',
+        0x12, 7, 0x18, 1, 0x22, 3, 9, 50, 34,
+        0x28, 0x80, 0x20);
+    assertTrue(Arrays.equals(expected, writer.toByteArray()));
+  }
+
+  public void testWriterProperties() {
+    MVTWriter writer = new MVTWriter();
+    writer.startLayer("a");
+    Map<String, Object> props = new HashMap<String, Object>();
+    props.put("name", "x");
+    writer.addFeature(1, read("POINT (1 1)"), props);
+    writer.addFeature(2, read("POINT (2 2)"), props);
+    assertEquals(2, writer.getNumFeatures());
+    // collapsed geometry is not written
+    assertFalse(writer.addFeature(read("LINESTRING (0 0, 0.1 0.1)"), props));
+    byte[] tile = writer.toByteArray();
+    byte[] layer = field(tile, 0, MVTConstants.TILE_LAYERS);
+    // keys and values are stored once
+    assertEquals(1, countFields(layer, MVTConstants.LAYER_KEYS));
+    assertEquals(1, countFields(layer, MVTConstants.LAYER_VALUES));
+    assertEquals(2, countFields(layer, MVTConstants.LAYER_FEATURES));
+  }
+
+  public void testWriterTileGeometry() {
+    MVTTiler tiler = tiler(1);
+    MVTWriter writer = new MVTWriter();
+    writer.startLayer("a", 256);
+    List<MVTTileGeometry> tiles = tiler.tile(read("POINT (10 90)"));
+    assertTrue(writer.addFeature(tiles.get(0), null));
+    assertEquals(1, writer.getNumFeatures());
+  }
+
+  public void testWriterNoLayer() {
+    try {
+      new MVTWriter().addFeature(read("POINT (1 1)"), null);
+      fail();
+    }
+    catch (IllegalStateException ex) {
+      // expected
+    }
+  }
+
+  //-------------------------------------------------------
+
+  private void checkEncode(String wkt, int... expected) {
+    int[] actual = new MVTGeometryEncoder().encode(read(wkt));
+    assertEquals(Arrays.toString(expected), Arrays.toString(actual));
+  }
+
+  private void checkRoundTrip(String wkt) throws ParseException {
+    Geometry geom = read(wkt);
+    int[] commands = new MVTGeometryEncoder().encode(geom);
+    Geometry result = MVTGeometryDecoder.decode(MVTGeometryEncoder.geometryType(geom), commands, geomFactory);
+    checkEqual(geom.norm(), result.norm());
+  }
+
+  /**
+   * Creates a tiler for a 100 x 100 world with a tile extent of 200.
+   */
+  private MVTTiler tiler(int zoom) {
+    MVTTiler tiler = new MVTTiler(new Envelope(0, 100, 0, 100), zoom);
+    tiler.setExtent(200);
+    tiler.setSimplifyTolerance(0);
+    return tiler;
+  }
+
+  private Geometry decode(MVTTileGeometry tile) throws ParseException {
+    return MVTGeometryDecoder.decode(tile.getGeometryType(), tile.getCommands(), geomFactory);
+  }
+
+  private void checkTile(MVTTileGeometry tile, int x, int y, String wkt) throws ParseException {
+    assertNotNull(tile);
+    assertEquals(x, tile.getX());
+    assertEquals(y, tile.getY());
+    checkEqual(read(wkt).norm(), decode(tile).norm());
+  }
+
+  private static MVTTileGeometry find(List<MVTTileGeometry> tiles, int x, int y) {
+    for (MVTTileGeometry tile : tiles) {
+      if (tile.getX() == x && tile.getY() == y)
+        return tile;
+    }
+    return null;
+  }
+
+  private static byte[] bytes(int... values) {
+    byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return bytes;
+  }
+
+  private static int countFields(byte[] msg, int field) {
+    int count = 0;
+    int[] pos = { 0 };
+    while (pos[0] < msg.length) {
+      int tag = (int) readVarint(msg, pos);
+      if ((tag >>> 3) == field)
+        count++;
+      skipValue(msg, pos, tag & 0x7);
+    }
+    return count;
+  }
+
+  /**
+   * Gets the contents of the n'th occurrence of a length-delimited field.
+   */
+  private static byte[] field(byte[] msg, int n, int field) {
+    int[] pos = { 0 };
+    while (pos[0] < msg.length) {
+      int tag = (int) readVarint(msg, pos);
+      if ((tag >>> 3) == field && n-- == 0) {
+        int len = (int) readVarint(msg, pos);
+        return Arrays.copyOfRange(msg, pos[0], pos[0] + len);
+      }
+      skipValue(msg, pos, tag & 0x7);
+    }
+    return null;
+  }
+
+  private static void skipValue(byte[] msg, int[] pos, int wireType) {
+    switch (wireType) {
+    case ProtobufBuffer.WIRE_VARINT:
+      readVarint(msg, pos);
+      break;
+    case ProtobufBuffer.WIRE_FIXED64:
+      pos[0] += 8;
+      break;
+    case ProtobufBuffer.WIRE_FIXED32:
+      pos[0] += 4;
+      break;
+    default:
+      int len = (int) readVarint(msg, pos);
+      pos[0] += len;
+    }
+  }
+
+  private static long readVarint(byte[] msg, int[] pos) {
+    long value = 0;
+    int shift = 0;
+    int b;
+    do {
+      b = msg[pos[0]++];
+      value |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+}
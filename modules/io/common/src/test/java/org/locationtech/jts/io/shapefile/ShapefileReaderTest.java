@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.io.shapefile;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.io.ParseException;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class ShapefileReaderTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(ShapefileReaderTest.class);
+  }
+
+  public ShapefileReaderTest(String name) {
+    super(name);
+  }
+
+  public void testPoints() throws Exception {
+    ShapefileReader rdr = reader(ShapefileConstants.SHAPE_POINT,
+        "POINT (1 2)", "POINT (3 4)", "POINT (-5 6)");
+    assertEquals(ShapefileConstants.SHAPE_POINT, rdr.getShapeType());
+    assertEquals(new Envelope(-5, 3, 2, 6), rdr.getEnvelope());
+    checkEqual(read("POINT (1 2)"), rdr.read());
+    checkEqual(read("POINT (3 4)"), rdr.read());
+    checkEqual(read("POINT (-5 6)"), rdr.read());
+    assertNull(rdr.read());
+    assertEquals(3, rdr.getCount());
+  }
+
+  public void testMultiPoint() throws Exception {
+    checkRead(ShapefileConstants.SHAPE_MULTIPOINT,
+        "MULTIPOINT ((1 2), (3 4), (5 6))");
+  }
+
+  public void testPolyline() throws Exception {
+    checkRead(ShapefileConstants.SHAPE_POLYLINE,
+        "LINESTRING (1 2, 3 4, 5 6)",
+        "MULTILINESTRING ((1 2, 3 4), (5 6, 7 8, 9 9))");
+  }
+
+  public void testPolygon() throws Exception {
+    checkRead(ShapefileConstants.SHAPE_POLYGON,
+        "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))",
+        "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (1 1, 2 1, 2 2, 1 1), (5 5, 6 5, 6 6, 5 5))");
+  }
+
+  public void testMultiPolygon() throws Exception {
+    checkRead(ShapefileConstants.SHAPE_POLYGON,
+        "MULTIPOLYGON (((0 0, 10 0, 10 10, 0 10, 0 0), (1 1, 2 1, 2 2, 1 1)), ((20 20, 30 20, 30 30, 20 30, 20 20), (21 21, 22 21, 22 22, 21 21)))");
+  }
+
+  public void testNestedShells() throws Exception {
+    // the hole of the inner shell is also inside the outer shell
+    ShapefileReader rdr = reader(ShapefileConstants.SHAPE_POLYGON,
+        "MULTIPOLYGON (((0 0, 100 0, 100 100, 0 100, 0 0), (10 10, 90 10, 90 90, 10 90, 10 10)), ((20 20, 80 20, 80 80, 20 80, 20 20), (40 40, 60 40, 60 60, 40 60, 40 40)))");
+    checkEqual(read("MULTIPOLYGON (((0 0, 100 0, 100 100, 0 100, 0 0), (10 10, 90 10, 90 90, 10 90, 10 10)), ((20 20, 80 20, 80 80, 20 80, 20 20), (40 40, 60 40, 60 60, 40 60, 40 40)))").norm(),
+        rdr.read().norm());
+  }
+
+  public void testZ() throws Exception {
+    ShapefileReader rdr = reader(ShapefileConstants.SHAPE_POLYLINEZ,
+        "LINESTRING Z (1 2 3, 4 5 6)");
+    LineString line = (LineString) rdr.read();
+    CoordinateSequence seq = line.getCoordinateSequence();
+    assertEquals(3, seq.getDimension());
+    assertFalse(seq.hasM());
+    assertEquals(6.0, seq.getZ(1));
+  }
+
+  public void testZM() throws Exception {
+    ShapefileReader rdr = reader(ShapefileConstants.SHAPE_POINTZ,
+        "POINT ZM (1 2 3 4)");
+    CoordinateSequence seq = ((Point) rdr.read()).getCoordinateSequence();
+    assertEquals(4, seq.getDimension());
+    assertEquals(3.0, seq.getZ(0));
+    assertEquals(4.0, seq.getM(0));
+  }
+
+  public void testM() throws Exception {
+    ShapefileReader rdr = reader(ShapefileConstants.SHAPE_MULTIPOINTM,
+        "MULTIPOINT M ((1 2 3), (4 5 -1e39))");
+    Geometry geom = rdr.read();
+    CoordinateSequence seq0 = ((Point) geom.getGeometryN(0)).getCoordinateSequence();
+    CoordinateSequence seq1 = ((Point) geom.getGeometryN(1)).getCoordinateSequence();
+    assertTrue(seq0.hasM());
+    assertFalse(seq0.hasZ());
+    assertEquals(3.0, seq0.getM(0));
+    // no data values are read as NaN
+    assertTrue(Double.isNaN(seq1.getM(0)));
+  }
+
+  public void testNullShape() throws Exception {
+    ShapefileBuilder builder = new ShapefileBuilder(ShapefileConstants.SHAPE_POLYGON);
+    builder.add(read("POLYGON ((0 0, 10 0, 10 10, 0 0))"));
+    builder.addNull();
+    ShapefileReader rdr = builder.reader(true);
+    rdr.read();
+    Geometry geom = rdr.read();
+    assertTrue(geom.isEmpty());
+    assertEquals(Geometry.TYPENAME_MULTIPOLYGON, geom.getGeometryType());
+    assertNull(rdr.read());
+  }
+
+  public void testPackedSequence() throws Exception {
+    ShapefileReader rdr = reader(ShapefileConstants.SHAPE_POLYGON,
+        "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))");
+    Polygon poly = (Polygon) rdr.read();
+    assertTrue(poly.getExteriorRing().getCoordinateSequence() instanceof PackedCoordinateSequence);
+  }
+
+  public void testRandomAccess() throws Exception {
+    checkRandomAccess(true);
+  }
+
+  public void testRandomAccessNoIndex() throws Exception {
+    checkRandomAccess(false);
+  }
+
+  public void testReadAllParallel() throws Exception {
+    ShapefileBuilder builder = new ShapefileBuilder(ShapefileConstants.SHAPE_POLYLINE);
+    for (int i = 0; i < 1000; i++) {
+      builder.add(read("LINESTRING (" + i + " 0, " + i + " 10, " + (i + 1) + " 5)"));
+    }
+    ShapefileReader rdr = builder.reader(true);
+    List<Geometry> expected = rdr.readAll();
+    List<Geometry> actual = rdr.readAll(new ForkJoinPool(4));
+    assertEquals(1000, actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      checkEqual(expected.get(i), actual.get(i));
+    }
+    // sequential position is unaffected
+    assertEquals(0, rdr.getCount());
+    checkEqual(expected.get(0), rdr.read());
+  }
+
+  public void testOpenFile() throws Exception {
+    ShapefileBuilder builder = new ShapefileBuilder(ShapefileConstants.SHAPE_POINT);
+    builder.add(read("POINT (1 2)"));
+    builder.add(read("POINT (3 4)"));
+    File shp = File.createTempFile("jts", ".shp");
+    String path = shp.getPath();
+    File shx = new File(path.substring(0, path.length() - 4) + ".shx");
+    try {
+      write(shp, builder.shp());
+      ShapefileReader rdr = ShapefileReader.open(shp);
+      assertFalse(rdr.hasIndex());
+      assertEquals(2, rdr.getNumRecords());
+      rdr.close();
+
+      write(shx, builder.shx());
+      rdr = ShapefileReader.open(shp);
+      assertTrue(rdr.hasIndex());
+      assertEquals(2, rdr.getNumRecords());
+      checkEqual(read("POINT (3 4)"), rdr.read(1));
+      rdr.close();
+    }
+    finally {
+      shp.delete();
+      shx.delete();
+    }
+  }
+
+  public void testIterator() throws Exception {
+    ShapefileReader rdr = reader(ShapefileConstants.SHAPE_POINT,
+        "POINT (1 2)", "POINT (3 4)");
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (Iterator<Geometry> it = rdr.iterator(); it.hasNext(); ) {
+      geoms.add(it.next());
+    }
+    assertEquals(2, geoms.size());
+  }
+
+  public void testNotShapefile() {
+    try {
+      new ShapefileReader(ByteBuffer.wrap(new byte[200]), null);
+      fail();
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
+  public void testTruncatedRecord() throws Exception {
+    ShapefileBuilder builder = new ShapefileBuilder(ShapefileConstants.SHAPE_POLYLINE);
+    builder.add(read("LINESTRING (1 2, 3 4, 5 6)"));
+    ByteBuffer shp = builder.shp();
+    // reduce the content length of the record
+    shp.order(ByteOrder.BIG_ENDIAN).putInt(104, 10);
+    ShapefileReader rdr = new ShapefileReader(shp, null);
+    try {
+      rdr.read();
+      fail();
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
+  public void testOutOfRange() throws Exception {
+    ShapefileReader rdr = reader(ShapefileConstants.SHAPE_POINT, "POINT (1 2)");
+    try {
+      rdr.read(1);
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  //-------------------------------------------------------
+
+  private void checkRead(int shapeType, String... wkts) throws Exception {
+    ShapefileReader rdr = reader(shapeType, wkts);
+    for (String wkt : wkts) {
+      checkEqual(read(wkt), rdr.read());
+    }
+    assertNull(rdr.read());
+  }
+
+  private void checkRandomAccess(boolean hasIndex) throws Exception {
+    ShapefileBuilder builder = new ShapefileBuilder(ShapefileConstants.SHAPE_POLYLINE);
+    for (int i = 0; i < 10; i++) {
+      builder.add(read("LINESTRING (" + i + " 0, " + i + " 10)"));
+    }
+    ShapefileReader rdr = builder.reader(hasIndex);
+    assertEquals(hasIndex, rdr.hasIndex());
+    assertEquals(10, rdr.getNumRecords());
+    checkEqual(read("LINESTRING (7 0, 7 10)"), rdr.read(7));
+    checkEqual(read("LINESTRING (2 0, 2 10)"), rdr.read(2));
+    checkEqual(read("LINESTRING (0 0, 0 10)"), rdr.read());
+  }
+
+  private ShapefileReader reader(int shapeType, String... wkts) throws Exception {
+    ShapefileBuilder builder = new ShapefileBuilder(shapeType);
+    for (String wkt : wkts) {
+      builder.add(read(wkt));
+    }
+    return builder.reader(true);
+  }
+
+  private static void write(File file, ByteBuffer buf) throws IOException {
+    FileOutputStream out = new FileOutputStream(file);
+    try {
+      out.getChannel().write(buf);
+    }
+    finally {
+      out.close();
+    }
+  }
+
+  /**
+   * Builds shape and index file data for test geometries.
+   */
+  private static class ShapefileBuilder {
+    private int shapeType;
+    private List<ByteBuffer> records = new ArrayList<ByteBuffer>();
+    private Envelope env = new Envelope();
+
+    ShapefileBuilder(int shapeType) {
+      this.shapeType = shapeType;
+    }
+
+    void addNull() {
+      ByteBuffer buf = allocate(4);
+      buf.putInt(ShapefileConstants.SHAPE_NULL);
+      records.add(buf);
+    }
+
+    void add(Geometry geom) {
+      env.expandToInclude(geom.getEnvelopeInternal());
+      List<CoordinateSequence> parts = new ArrayList<CoordinateSequence>();
+      addParts(geom, parts);
+      if (ShapefileConstants.baseType(shapeType) == ShapefileConstants.SHAPE_POINT)
+        addPoint(parts.get(0));
+      else
+        addParts(parts);
+    }
+
+    private void addPoint(CoordinateSequence seq) {
+      boolean hasZ = ShapefileConstants.hasZ(shapeType);
+      boolean hasM = ShapefileConstants.hasM(shapeType) && seq.hasM();
+      ByteBuffer buf = allocate(20 + (hasZ ? 8 : 0) + (hasM ? 8 : 0));
+      buf.putInt(shapeType);
+      buf.putDouble(seq.getX(0));
+      buf.putDouble(seq.getY(0));
+      if (hasZ)
+        buf.putDouble(seq.getZ(0));
+      if (hasM)
+        buf.putDouble(seq.getM(0));
+      records.add(buf);
+    }
+
+    private void addParts(List<CoordinateSequence> parts) {
+      boolean isMultiPoint = ShapefileConstants.baseType(shapeType) == ShapefileConstants.SHAPE_MULTIPOINT;
+      int numParts = isMultiPoint ? 0 : parts.size();
+      int numPoints = 0;
+      for (CoordinateSequence seq : parts) {
+        numPoints += seq.size();
+      }
+      boolean hasZ = ShapefileConstants.hasZ(shapeType);
+      boolean hasM = ShapefileConstants.hasM(shapeType) && parts.get(0).hasM();
+      int size = 40 + (isMultiPoint ? 0 : 4 + 4 * numParts) + 16 * numPoints
+          + (hasZ ? 16 + 8 * numPoints : 0) + (hasM ? 16 + 8 * numPoints : 0);
+      ByteBuffer buf = allocate(size);
+      buf.putInt(shapeType);
+      buf.putDouble(0).putDouble(0).putDouble(0).putDouble(0);
+      if (! isMultiPoint)
+        buf.putInt(numParts);
+      buf.putInt(numPoints);
+      int start = 0;
+      for (int i = 0; i < numParts; i++) {
+        buf.putInt(start);
+        start += parts.get(i).size();
+      }
+      for (CoordinateSequence seq : parts) {
+        for (int i = 0; i < seq.size(); i++) {
+          buf.putDouble(seq.getX(i));
+          buf.putDouble(seq.getY(i));
+        }
+      }
+      if (hasZ) {
+        buf.putDouble(0).putDouble(0);
+        for (CoordinateSequence seq : parts) {
+          for (int i = 0; i < seq.size(); i++) {
+            buf.putDouble(seq.getZ(i));
+          }
+        }
+      }
+      if (hasM) {
+        buf.putDouble(0).putDouble(0);
+        for (CoordinateSequence seq : parts) {
+          for (int i = 0; i < seq.size(); i++) {
+            buf.putDouble(seq.getM(i));
+          }
+        }
+      }
+      records.add(buf);
+    }
+
+    private static void addParts(Geometry geom, List<CoordinateSequence> parts) {
+      if (geom instanceof Polygon) {
+        Polygon poly = (Polygon) geom;
+        parts.add(orient(poly.getExteriorRing().getCoordinateSequence(), false));
+        for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+          parts.add(orient(poly.getInteriorRingN(i).getCoordinateSequence(), true));
+        }
+      }
+      else if (geom instanceof LineString) {
+        parts.add(((LineString) geom).getCoordinateSequence());
+      }
+      else if (geom instanceof Point) {
+        parts.add(((Point) geom).getCoordinateSequence());
+      }
+      else {
+        for (int i = 0; i < geom.getNumGeometries(); i++) {
+          addParts(geom.getGeometryN(i), parts);
+        }
+      }
+    }
+
+    private static CoordinateSequence orient(CoordinateSequence seq, boolean isCCW) {
+      if (Orientation.isCCW(seq) == isCCW)
+        return seq;
+      CoordinateSequence rev = seq.copy();
+      CoordinateSequences.reverse(rev);
+      return rev;
+    }
+
+    ByteBuffer shp() {
+      int len = 100;
+      for (ByteBuffer rec : records) {
+        len += 8 + rec.capacity();
+      }
+      ByteBuffer buf = header(len);
+      int recNum = 1;
+      for (ByteBuffer rec : records) {
+        buf.order(ByteOrder.BIG_ENDIAN);
+        buf.putInt(recNum++);
+        buf.putInt(rec.capacity() / 2);
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        buf.put(rec.array());
+      }
+      buf.flip();
+      return buf;
+    }
+
+    ByteBuffer shx() {
+      ByteBuffer buf = header(100 + 8 * records.size());
+      buf.order(ByteOrder.BIG_ENDIAN);
+      int offset = 100;
+      for (ByteBuffer rec : records) {
+        buf.putInt(offset / 2);
+        buf.putInt(rec.capacity() / 2);
+        offset += 8 + rec.capacity();
+      }
+      buf.flip();
+      return buf;
+    }
+
+    ShapefileReader reader(boolean hasIndex) throws ParseException {
+      return new ShapefileReader(shp(), hasIndex ? shx() : null);
+    }
+
+    private ByteBuffer header(int len) {
+      ByteBuffer buf = ByteBuffer.allocate(len);
+      buf.order(ByteOrder.BIG_ENDIAN);
+      buf.putInt(ShapefileConstants.FILE_CODE);
+      buf.position(24);
+      buf.putInt(len / 2);
+      buf.order(ByteOrder.LITTLE_ENDIAN);
+      buf.putInt(ShapefileConstants.VERSION);
+      buf.putInt(shapeType);
+      buf.putDouble(env.getMinX());
+      buf.putDouble(env.getMinY());
+      buf.putDouble(env.getMaxX());
+      buf.putDouble(env.getMaxY());
+      buf.position(100);
+      return buf;
+    }
+
+    private static ByteBuffer allocate(int size) {
+      return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+  }
+}
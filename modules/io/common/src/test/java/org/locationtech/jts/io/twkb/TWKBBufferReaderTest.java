@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.twkb;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.twkb.TWKBTestSupport.TWKBTestData;
+
+/**
+ * Tests for reading TWKB from a ByteBuffer.
+ */
+public class TWKBBufferReaderTest {
+
+    public @Rule TWKBTestSupport testSupport = new TWKBTestSupport();
+
+    private TWKBBufferReader bufferReader = new TWKBBufferReader();
+
+    private TWKBReader reader = new TWKBReader();
+
+    private TWKBWriter writer = new TWKBWriter();
+
+    public @Test void testPoints() throws ParseException {
+        checkReadAll(testSupport.getPoints());
+    }
+
+    public @Test void testMultiPoints() throws ParseException {
+        checkReadAll(testSupport.getMultiPoints());
+    }
+
+    public @Test void testLineStrings() throws ParseException {
+        checkReadAll(testSupport.getLineStrings());
+    }
+
+    public @Test void testMultiLineStrings() throws ParseException {
+        checkReadAll(testSupport.getMultiLineStrings());
+    }
+
+    public @Test void testPolygons() throws ParseException {
+        checkReadAll(testSupport.getPolygons());
+    }
+
+    public @Test void testMultiPolygons() throws ParseException {
+        checkReadAll(testSupport.getMultiPolygons());
+    }
+
+    public @Test void testGeometryCollections() throws ParseException {
+        checkReadAll(testSupport.getGeometryCollections());
+    }
+
+    public @Test void testProvidedGeometryFactory() throws ParseException {
+        bufferReader.setGeometryFactory(new GeometryFactory());
+        reader.setGeometryFactory(new GeometryFactory());
+        checkReadAll(testSupport.getPolygons());
+        checkReadAll(testSupport.getGeometryCollections());
+    }
+
+    public @Test void testReadEnvelopeWithBbox() throws ParseException {
+        writer.setIncludeBbox(true).setIncludeSize(true);
+        checkReadEnvelope();
+        writer.setIncludeSize(false);
+        checkReadEnvelope();
+    }
+
+    public @Test void testReadEnvelopeWithoutBbox() throws ParseException {
+        writer.setIncludeBbox(false).setIncludeSize(true);
+        checkReadEnvelope();
+        writer.setIncludeSize(false);
+        checkReadEnvelope();
+    }
+
+    public @Test void testReadEnvelopeZM() throws ParseException {
+        writer.setEncodeZ(true).setEncodeM(true).setZPrecision(2).setMPrecision(3)
+            .setIncludeBbox(true);
+        checkReadEnvelope("POINT ZM (1 2 3 4)", "LINESTRING ZM (0 0 1 2, 10 5 3 4)",
+            "MULTILINESTRING ZM ((0 0 1 1, 1 1 1 1), (5 5 1 1, 6 7 1 1))");
+        writer.setIncludeBbox(false);
+        checkReadEnvelope("POINT ZM (1 2 3 4)", "LINESTRING ZM (0 0 1 2, 10 5 3 4)",
+            "MULTILINESTRING ZM ((0 0 1 1, 1 1 1 1), (5 5 1 1, 6 7 1 1))");
+    }
+
+    public @Test void testSkip() throws ParseException {
+        writer.setIncludeSize(false);
+        ByteBuffer buf = encode("POLYGON ((0 0, 10 0, 10 10, 0 0))",
+            "GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 1 1))",
+            "POINT (3 4)");
+        bufferReader.skip(buf);
+        bufferReader.skip(buf);
+        assertTrue(geom("POINT (3 4)").equalsExact(bufferReader.read(buf)));
+        assertFalse(buf.hasRemaining());
+    }
+
+    public @Test void testReadFilter() throws ParseException {
+        writer.setIncludeBbox(true).setIncludeSize(true);
+        ByteBuffer buf = encode("LINESTRING (0 0, 1 1)", "LINESTRING (10 10, 11 11)",
+            "POINT EMPTY", "POINT (0.5 0.5)");
+        Envelope filter = new Envelope(0, 2, 0, 2);
+        List<Geometry> found = new ArrayList<>();
+        while (buf.hasRemaining()) {
+            Geometry g = bufferReader.read(buf, filter);
+            if (g != null) {
+                found.add(g);
+            }
+        }
+        assertEquals(2, found.size());
+        assertTrue(geom("LINESTRING (0 0, 1 1)").equalsExact(found.get(0)));
+        assertTrue(geom("POINT (0.5 0.5)").equalsExact(found.get(1)));
+    }
+
+    public @Test void testIdsSpecEncoding() throws ParseException {
+        // the id list is a list of signed (zigzag) varints, as written by PostGIS:
+        // ST_AsTWKB(array_agg(geom), array_agg(gid)) for POINT (0 0) and POINT (1 1) with gid 1, 2
+        byte[] expected = WKBReader.hexToBytes("040402020400000202");
+        Geometry mp = geom("MULTIPOINT ((0 0), (1 1))");
+        long[] ids = new long[] { 1, 2 };
+        TWKBWriter specWriter = new TWKBWriter().setXYPrecision(0);
+        assertArrayEquals(expected, specWriter.write(mp, ids));
+
+        Geometry parsed = bufferReader.read(ByteBuffer.wrap(expected));
+        assertTrue(mp.equalsExact(parsed));
+        assertArrayEquals(ids, bufferReader.getIds());
+        assertTrue(mp.equalsExact(reader.read(expected)));
+    }
+
+    public @Test void testIdsNegative() throws ParseException {
+        checkIds("MULTIPOINT ((0 0), (1 1), (2 2))", -1, 0, Long.MIN_VALUE);
+    }
+
+    public @Test void testIdsMultiPoint() throws ParseException {
+        // the repeated point must be kept to keep the ids aligned
+        Geometry mp = geom("MULTIPOINT ((1 1), (1 1), (2 3))");
+        long[] ids = new long[] { 10, 20, Long.MAX_VALUE };
+        byte[] twkb = writer.write(mp, ids);
+
+        Geometry parsed = bufferReader.read(ByteBuffer.wrap(twkb));
+        assertTrue(mp.equalsExact(parsed));
+        assertArrayEquals(ids, bufferReader.getIds());
+        assertEquals(3, bufferReader.getNumIds());
+        assertEquals(20, bufferReader.getId(1));
+
+        assertTrue(mp.equalsExact(reader.read(twkb)));
+    }
+
+    public @Test void testIdsCollections() throws ParseException {
+        checkIds("MULTILINESTRING ((0 0, 1 1), (2 2, 3 3), (4 4, 5 6))", 7, 8, 9);
+        checkIds("MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5)))", 1000000, 1);
+        checkIds("GEOMETRYCOLLECTION (POINT (1 1), MULTIPOINT ((1 2), (3 4)), POINT EMPTY)", 1, 2,
+            3);
+        writer.setIncludeBbox(true).setIncludeSize(true);
+        checkIds("MULTILINESTRING ((0 0, 1 1), (2 2, 3 3))", 5, 6);
+    }
+
+    public @Test void testIdsReset() throws ParseException {
+        ByteBuffer buf = ByteBuffer.wrap(concat(
+            writer.write(geom("MULTIPOINT ((1 1), (2 2))"), new long[] { 1, 2 }),
+            writer.write(geom("MULTIPOINT ((1 1), (2 2))"))));
+        bufferReader.read(buf);
+        assertEquals(2, bufferReader.getNumIds());
+        bufferReader.read(buf);
+        assertEquals(0, bufferReader.getNumIds());
+        assertEquals(0, bufferReader.getIds().length);
+    }
+
+    public @Test void testIdsInvalid() throws ParseException {
+        try {
+            writer.write(geom("MULTIPOINT ((1 1), (2 2))"), new long[] { 1 });
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            writer.write(geom("POINT (1 1)"), new long[] { 1 });
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public @Test void testTruncated() throws ParseException {
+        byte[] twkb = writer.setIncludeSize(true).write(geom("LINESTRING (0 0, 10 10, 20 0)"));
+        ByteBuffer buf = ByteBuffer.wrap(twkb, 0, twkb.length - 1);
+        try {
+            bufferReader.read(buf);
+            fail();
+        } catch (ParseException expected) {
+        }
+        buf.position(0);
+        try {
+            bufferReader.skip(buf);
+            fail();
+        } catch (ParseException expected) {
+        }
+    }
+
+    public @Test void testDirectBuffer() throws ParseException {
+        byte[] twkb = writer.write(geom("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (1 1, 2 1, 2 2, 1 1))"));
+        ByteBuffer buf = ByteBuffer.allocateDirect(twkb.length + 3);
+        buf.put(new byte[] { 9, 9, 9 }).put(twkb).flip().position(3);
+        assertTrue(reader.read(twkb).equalsExact(bufferReader.read(buf)));
+        assertFalse(buf.hasRemaining());
+    }
+
+    private void checkReadAll(List<TWKBTestData> testData) throws ParseException {
+        List<byte[]> records = new ArrayList<>();
+        for (TWKBTestData d : testData) {
+            records.add(d.getExpectedTWKB());
+        }
+        ByteBuffer buf = ByteBuffer.wrap(concat(records.toArray(new byte[0][])));
+        List<Geometry> parsed = bufferReader.readAll(buf);
+        assertEquals(testData.size(), parsed.size());
+        for (int i = 0; i < parsed.size(); i++) {
+            Geometry expected = reader.read(records.get(i));
+            Geometry actual = parsed.get(i);
+            assertTrue(String.format("Expected %s, got %s", expected, actual),
+                expected.equalsExact(actual));
+            assertEquals(expected.getClass(), actual.getClass());
+        }
+    }
+
+    private void checkReadEnvelope() throws ParseException {
+        List<String> wkts = new ArrayList<>();
+        for (TWKBTestData d : testSupport.getMultiPolygons()) {
+            wkts.add(d.getInputWKT());
+        }
+        for (TWKBTestData d : testSupport.getGeometryCollections()) {
+            wkts.add(d.getInputWKT());
+        }
+        for (TWKBTestData d : testSupport.getLineStrings()) {
+            wkts.add(d.getInputWKT());
+        }
+        checkReadEnvelope(wkts.toArray(new String[0]));
+    }
+
+    private void checkReadEnvelope(String... wkts) throws ParseException {
+        ByteBuffer buf = encode(wkts);
+        ByteBuffer check = buf.duplicate();
+        while (buf.hasRemaining()) {
+            Envelope env = bufferReader.readEnvelope(buf);
+            Geometry expected = reader.read(readRecord(check, buf.position()));
+            assertEquals(expected.getEnvelopeInternal(), env);
+        }
+    }
+
+    private void checkIds(String wkt, long... ids) throws ParseException {
+        Geometry geom = geom(wkt);
+        byte[] twkb = writer.write(geom, ids);
+        ByteBuffer buf = ByteBuffer.wrap(concat(twkb, twkb));
+        Geometry parsed = bufferReader.read(buf);
+        assertTrue(geom.equalsExact(parsed));
+        assertArrayEquals(ids, bufferReader.getIds());
+        assertEquals(geom.getEnvelopeInternal(), bufferReader.readEnvelope(buf));
+        assertFalse(buf.hasRemaining());
+        assertTrue(geom.equalsExact(reader.read(twkb)));
+    }
+
+    private ByteBuffer encode(String... wkts) {
+        byte[][] records = new byte[wkts.length][];
+        for (int i = 0; i < wkts.length; i++) {
+            records[i] = writer.write(geom(wkts[i]));
+        }
+        return ByteBuffer.wrap(concat(records));
+    }
+
+    private static byte[] concat(byte[]... records) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] r : records) {
+            out.write(r, 0, r.length);
+        }
+        return out.toByteArray();
+    }
+
+    private Geometry geom(String wkt) {
+        return testSupport.parseWKT(wkt);
+    }
+
+    private static byte[] readRecord(ByteBuffer buf, int end) {
+        byte[] record = new byte[end - buf.position()];
+        buf.get(record);
+        return record;
+    }
+}